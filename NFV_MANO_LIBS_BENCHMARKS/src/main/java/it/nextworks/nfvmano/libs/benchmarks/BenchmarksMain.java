@@ -0,0 +1,48 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. It accepts the standard JMH 
+ * command line options; when no result format is given, the results 
+ * are written in JSON format to {@value #DEFAULT_RESULT_FILE}, so that
+ * they can be compared across runs.
+ * 
+ * @author nextworks
+ *
+ */
+public class BenchmarksMain {
+
+	public static final String DEFAULT_RESULT_FILE = "nfv-libs-benchmarks.json";
+	
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions cmdOptions = new CommandLineOptions(args);
+		OptionsBuilder builder = new OptionsBuilder();
+		if (!cmdOptions.getResultFormat().hasValue()) {
+			builder.resultFormat(ResultFormatType.JSON);
+			if (!cmdOptions.getResult().hasValue()) builder.result(DEFAULT_RESULT_FILE);
+		}
+		Options options = builder.parent(cmdOptions).build();
+		new Runner(options).run();
+	}
+	
+}
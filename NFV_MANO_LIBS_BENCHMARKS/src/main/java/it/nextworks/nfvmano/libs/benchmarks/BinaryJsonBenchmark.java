@@ -0,0 +1,126 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import it.nextworks.nfvmano.libs.codecs.Codec;
+import it.nextworks.nfvmano.libs.codecs.CodecRegistry;
+import it.nextworks.nfvmano.libs.codecs.generators.DescriptorGenerator;
+import it.nextworks.nfvmano.libs.codecs.generators.MessageGenerator;
+import it.nextworks.nfvmano.libs.common.enums.SerializerType;
+import it.nextworks.nfvmano.libs.osmanfvo.nslcm.interfaces.messages.QueryNsResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.QueryComputeResponse;
+
+/**
+ * Benchmarks of the encoding and decoding of large IFA05 and IFA13 query
+ * responses in JSON and in the binary JSON formats. The size of the 
+ * encoded payload is reported as the encodedBytes secondary result 
+ * of each benchmark.
+ * 
+ * @author nextworks
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryJsonBenchmark {
+
+	@Param({"JSON", "SMILE", "CBOR"})
+	public SerializerType format;
+	
+	@Param({"100", "1000"})
+	public int computes;
+	
+	@Param({"10", "100"})
+	public int nsInstances;
+	
+	private Codec codec;
+	
+	private QueryComputeResponse queryComputeResponse;
+	private QueryNsResponse queryNsResponse;
+	
+	private ByteBuffer queryComputeResponseEncoded;
+	private ByteBuffer queryNsResponseEncoded;
+	
+	@Setup
+	public void setup() throws Exception {
+		ObjectMapper mapper = new ObjectMapper();
+		codec = new CodecRegistry(mapper).getCodec(format);
+		MessageGenerator generator = new MessageGenerator(mapper, new DescriptorGenerator(mapper, 20, 3, 3));
+		queryComputeResponse = generator.queryComputeResponse(computes);
+		queryNsResponse = generator.queryNsResponse(nsInstances, 3);
+		queryComputeResponseEncoded = codec.encode(queryComputeResponse);
+		queryNsResponseEncoded = codec.encode(queryNsResponse);
+	}
+	
+	@Benchmark
+	public ByteBuffer encodeQueryComputeResponse(PayloadSize size) throws Exception {
+		ByteBuffer encoded = codec.encode(queryComputeResponse);
+		size.encodedBytes = encoded.remaining();
+		return encoded;
+	}
+	
+	@Benchmark
+	public QueryComputeResponse decodeQueryComputeResponse(PayloadSize size) throws Exception {
+		size.encodedBytes = queryComputeResponseEncoded.remaining();
+		return codec.decode(queryComputeResponseEncoded.duplicate(), QueryComputeResponse.class);
+	}
+	
+	@Benchmark
+	public ByteBuffer encodeQueryNsResponse(PayloadSize size) throws Exception {
+		ByteBuffer encoded = codec.encode(queryNsResponse);
+		size.encodedBytes = encoded.remaining();
+		return encoded;
+	}
+	
+	@Benchmark
+	public QueryNsResponse decodeQueryNsResponse(PayloadSize size) throws Exception {
+		size.encodedBytes = queryNsResponseEncoded.remaining();
+		return codec.decode(queryNsResponseEncoded.duplicate(), QueryNsResponse.class);
+	}
+	
+	/**
+	 * Size of the encoded payload, reported by JMH as a secondary result
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class PayloadSize {
+		
+		public long encodedBytes;
+		
+	}
+	
+}
@@ -0,0 +1,145 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import it.nextworks.nfvmano.libs.codecs.generators.DescriptorGenerator;
+import it.nextworks.nfvmano.libs.descriptors.appd.Appd;
+import it.nextworks.nfvmano.libs.descriptors.nsd.Nsd;
+import it.nextworks.nfvmano.libs.descriptors.vnfd.Vnfd;
+import it.nextworks.nfvmano.libs.orvnfm.grant.interfaces.messages.GrantVnfLifecycleOperationRequest;
+import it.nextworks.nfvmano.libs.records.nsinfo.NsInfo;
+
+/**
+ * Benchmarks of the JSON serialization and deserialization of descriptors, 
+ * records and interface messages, for payloads of increasing size.
+ * 
+ * @author nextworks
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+	@Param({"5", "50", "500"})
+	public int vnfs;
+	
+	@Param({"3", "30"})
+	public int vls;
+	
+	@Param({"3"})
+	public int levels;
+	
+	private ObjectMapper mapper;
+	
+	private Nsd nsd;
+	private Vnfd vnfd;
+	private Appd appd;
+	private NsInfo nsInfo;
+	private GrantVnfLifecycleOperationRequest grantRequest;
+	
+	private byte[] nsdJson;
+	private byte[] vnfdJson;
+	private byte[] appdJson;
+	private byte[] nsInfoJson;
+	private byte[] grantRequestJson;
+	
+	@Setup
+	public void setup() throws Exception {
+		mapper = new ObjectMapper();
+		DescriptorGenerator generator = new DescriptorGenerator(mapper, vnfs, vls, levels);
+		nsd = generator.nsd();
+		vnfd = generator.vnfd();
+		appd = generator.appd();
+		nsInfo = generator.nsInfo(levels);
+		grantRequest = generator.grantRequest();
+		nsdJson = mapper.writeValueAsBytes(nsd);
+		vnfdJson = mapper.writeValueAsBytes(vnfd);
+		appdJson = mapper.writeValueAsBytes(appd);
+		nsInfoJson = mapper.writeValueAsBytes(nsInfo);
+		grantRequestJson = mapper.writeValueAsBytes(grantRequest);
+	}
+	
+	@Benchmark
+	public byte[] serializeNsd() throws Exception {
+		return mapper.writeValueAsBytes(nsd);
+	}
+	
+	@Benchmark
+	public Nsd deserializeNsd() throws Exception {
+		return mapper.readValue(nsdJson, Nsd.class);
+	}
+	
+	@Benchmark
+	public byte[] serializeVnfd() throws Exception {
+		return mapper.writeValueAsBytes(vnfd);
+	}
+	
+	@Benchmark
+	public Vnfd deserializeVnfd() throws Exception {
+		return mapper.readValue(vnfdJson, Vnfd.class);
+	}
+	
+	@Benchmark
+	public byte[] serializeAppd() throws Exception {
+		return mapper.writeValueAsBytes(appd);
+	}
+	
+	@Benchmark
+	public Appd deserializeAppd() throws Exception {
+		return mapper.readValue(appdJson, Appd.class);
+	}
+	
+	@Benchmark
+	public byte[] serializeNsInfo() throws Exception {
+		return mapper.writeValueAsBytes(nsInfo);
+	}
+	
+	@Benchmark
+	public NsInfo deserializeNsInfo() throws Exception {
+		return mapper.readValue(nsInfoJson, NsInfo.class);
+	}
+	
+	@Benchmark
+	public byte[] serializeGrantRequest() throws Exception {
+		return mapper.writeValueAsBytes(grantRequest);
+	}
+	
+	@Benchmark
+	public GrantVnfLifecycleOperationRequest deserializeGrantRequest() throws Exception {
+		return mapper.readValue(grantRequestJson, GrantVnfLifecycleOperationRequest.class);
+	}
+	
+}
@@ -0,0 +1,74 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import it.nextworks.nfvmano.libs.codecs.generators.DescriptorGenerator;
+import it.nextworks.nfvmano.libs.records.nsinfo.NsInfo;
+
+/**
+ * Benchmarks of the lookup of VNF instances in the NS info, 
+ * targeting the last VNF so that the whole record is scanned.
+ * 
+ * @author nextworks
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NsInfoQueryBenchmark {
+
+	@Param({"5", "50", "500"})
+	public int vnfs;
+	
+	@Param({"1", "10"})
+	public int instancesPerVnf;
+	
+	private NsInfo nsInfo;
+	private String vnfdId;
+	private int vnfIndex;
+	
+	@Setup
+	public void setup() {
+		nsInfo = new DescriptorGenerator(new ObjectMapper(), vnfs, 1, 1).nsInfo(instancesPerVnf);
+		vnfdId = DescriptorGenerator.vnfdId(vnfs - 1);
+		vnfIndex = instancesPerVnf - 1;
+	}
+	
+	@Benchmark
+	public String getVnfInfoIdFromVnfdIdAndVnfIndex() throws Exception {
+		return nsInfo.getVnfInfoIdFromVnfdIdAndVnfIndex(vnfdId, vnfIndex);
+	}
+	
+}
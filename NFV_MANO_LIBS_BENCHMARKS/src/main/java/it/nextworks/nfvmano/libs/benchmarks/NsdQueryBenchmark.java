@@ -0,0 +1,83 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import it.nextworks.nfvmano.libs.codecs.generators.DescriptorGenerator;
+import it.nextworks.nfvmano.libs.descriptors.nsd.Nsd;
+import it.nextworks.nfvmano.libs.records.nsinfo.UserAccessInfo;
+
+/**
+ * Benchmarks of the queries on the NSD used when instantiating an NS, 
+ * on the last (i.e. largest) instantiation level of the flavour.
+ * 
+ * @author nextworks
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NsdQueryBenchmark {
+
+	@Param({"5", "50", "500"})
+	public int vnfs;
+	
+	@Param({"3", "30"})
+	public int vls;
+	
+	@Param({"3", "10"})
+	public int levels;
+	
+	private Nsd nsd;
+	private String levelId;
+	
+	@Setup
+	public void setup() {
+		nsd = new DescriptorGenerator(new ObjectMapper(), vnfs, vls, levels).nsd();
+		levelId = DescriptorGenerator.levelId(levels - 1);
+	}
+	
+	@Benchmark
+	public Map<String, Map<String, String>> getVnfdDataFromFlavour() throws Exception {
+		return nsd.getVnfdDataFromFlavour(DescriptorGenerator.NS_DF_ID, levelId);
+	}
+	
+	@Benchmark
+	public List<UserAccessInfo> getUserAccessInfo() throws Exception {
+		return nsd.getUserAccessInfo(DescriptorGenerator.NS_DF_ID, levelId);
+	}
+	
+}
@@ -0,0 +1,101 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import it.nextworks.nfvmano.libs.codecs.generators.DescriptorGenerator;
+import it.nextworks.nfvmano.libs.descriptors.appd.Appd;
+import it.nextworks.nfvmano.libs.descriptors.nsd.Nsd;
+import it.nextworks.nfvmano.libs.descriptors.vnfd.Vnfd;
+import it.nextworks.nfvmano.libs.orvnfm.grant.interfaces.messages.GrantVnfLifecycleOperationRequest;
+
+/**
+ * Benchmarks of the validation of large descriptors and messages.
+ * 
+ * @author nextworks
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+	@Param({"5", "50", "500"})
+	public int vnfs;
+	
+	@Param({"3", "30"})
+	public int vls;
+	
+	@Param({"3", "10"})
+	public int levels;
+	
+	private Nsd nsd;
+	private Vnfd vnfd;
+	private Appd appd;
+	private GrantVnfLifecycleOperationRequest grantRequest;
+	
+	@Setup
+	public void setup() {
+		DescriptorGenerator generator = new DescriptorGenerator(new ObjectMapper(), vnfs, vls, levels);
+		nsd = generator.nsd();
+		vnfd = generator.vnfd();
+		appd = generator.appd();
+		grantRequest = generator.grantRequest();
+	}
+	
+	@Benchmark
+	public Nsd validateNsd() throws Exception {
+		nsd.isValid();
+		return nsd;
+	}
+	
+	@Benchmark
+	public Vnfd validateVnfd() throws Exception {
+		vnfd.isValid();
+		return vnfd;
+	}
+	
+	@Benchmark
+	public Appd validateAppd() throws Exception {
+		appd.isValid();
+		return appd;
+	}
+	
+	@Benchmark
+	public GrantVnfLifecycleOperationRequest validateGrantRequest() throws Exception {
+		grantRequest.isValid();
+		return grantRequest;
+	}
+	
+}
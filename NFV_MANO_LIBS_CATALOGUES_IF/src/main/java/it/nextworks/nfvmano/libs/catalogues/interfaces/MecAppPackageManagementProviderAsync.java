@@ -0,0 +1,204 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.catalogues.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.nextworks.nfvmano.libs.common.async.AsyncAdapters;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.elements.AppPackageInfo;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.messages.OnboardAppPackageRequest;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.messages.OnboardAppPackageResponse;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.messages.QueryOnBoadedAppPkgInfoResponse;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import java.io.File;
+
+/**
+ * Asynchronous variant of {@link MecAppPackageManagementProviderInterface}, 
+ * where each operation returns a CompletableFuture instead of blocking 
+ * the caller until the operation is processed.
+ * 
+ * Synchronous and asynchronous implementations can be adapted to each other
+ * through {@link AsyncAdapters}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface MecAppPackageManagementProviderAsync {
+
+	/**
+	 * This operation enables the MEPM to fetch on-boarded application package.
+	 * 
+	 * Ref. ETSI GS MEC 010-2 V1.1.1 (2017-07) - 6.3.3.1
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the package does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param onboardedAppPkgId Identifier of the on-boarded application package to be fetched
+	 * @return future completed with the on-boarded application package
+	 */
+	public CompletableFuture<File> fetchOnboardedApplicationPackage(String onboardedAppPkgId);
+
+	/**
+	 * This method allows to to query information about the Application Package.
+	 * 
+	 * Ref. ETSI GS MEC 010-2 V1.1.1 (2017-07) - 6.3.3.2/8
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the package does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request query
+	 * @return future completed with the list of queried application package infos
+	 */
+	public CompletableFuture<QueryOnBoadedAppPkgInfoResponse> queryApplicationPackage(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryApplicationPackage(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the package does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<AppPackageInfo>> queryApplicationPackagePaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation enables the MEPM to subscribe with a filter for the notifications
+	 * related to events of application packages sent by the MEO.
+	 * 
+	 * Ref. ETSI GS MEC 010-2 V1.1.1 (2017-07) - 6.3.3.3
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 		FailedOperationException if the operation fails;
+	 * 
+	 * @param request subscription request
+	 * @param consumer consumer of the notifications
+	 * @return future completed with the subscription ID
+	 */
+	public CompletableFuture<String> subscribeMecAppPackageInfo(SubscribeRequest request, MecAppPackageManagementConsumerInterface consumer);
+
+	/**
+	 * Method to remove a previous subscription.
+	 * 
+	 * Ref. ETSI GS MEC 010-2 V1.1.1 (2017-07) - 6.3.3.3
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the subscription does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param subscriptionId ID of the subscription to be removed
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> unsubscribeMecAppPackageInfo(String subscriptionId);
+
+	/**
+	 * Method to on-board an application package in the MEO.
+	 * 
+	 * Ref. ETSI GS MEC 010-2 V1.1.1 (2017-07) - 6.3.3.5
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		AlreadyExistingEntityException if the app package already exists.;
+	 * 		FailedOperationException if the operation fails.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 
+	 * @param request on-board request
+	 * @return future completed with response on-board response
+	 */
+	public CompletableFuture<OnboardAppPackageResponse> onboardAppPackage(OnboardAppPackageRequest request);
+
+	/**
+	 * This operation will enable a previously disabled application package,
+	 * allowing again its use for instantiation of new application instances.
+	 * 
+	 * Ref. ETSI GS MEC 010-2 V1.1.1 (2017-07) - 6.3.3.6
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the app package does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param onboardedAppPkgId ID of the app package to be enabled
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> enableAppPackage(String onboardedAppPkgId);
+
+	/**
+	 * This operation will disable a previously enabled application package,
+	 * preventing any further use for instantiation of new network application
+	 * instance with this application package.
+	 * 
+	 * Ref. ETSI GS MEC 010-2 V1.1.1 (2017-07) - 6.3.3.7
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the app package does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param onboardedAppPkgId ID of the app package to be disabled
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> disableAppPackage(String onboardedAppPkgId);
+
+	/**
+	 * This operation will delete one application package.
+	 * An application package shall only be deleted when there is no instantiated application instance using it.
+	 * An application package in the deletion pending state is no longer enabled or disabled.
+	 * 
+	 * Ref. ETSI GS MEC 010-2 V1.1.1 (2017-07) - 6.3.3.9
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the app package does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param onboardedAppPkgId Identifier of information held by the MEO about the specific on-boarded application package, which is to be deleted. This identifier was allocated by the MEO.
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> deleteAppPackage(String onboardedAppPkgId);
+
+	/**
+	 * This operation enables the OSS to abort the deletion of an application package that is in deletion pending state.
+	 * 
+	 * Ref. ETSI GS MEC 010-2 V1.1.1 (2017-07) - 6.3.3.10
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the app package does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param onboardedAppPkgId Identifier of the onboarded application package of which the deletion is requested to be aborted.
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> abortAppPackageDeletion(String onboardedAppPkgId);
+
+}
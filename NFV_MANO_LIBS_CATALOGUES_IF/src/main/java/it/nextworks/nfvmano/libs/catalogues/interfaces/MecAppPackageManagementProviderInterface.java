@@ -28,6 +28,8 @@ import it.nextworks.nfvmano.libs.common.exceptions.MethodNotImplementedException
 import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
 import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
 import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.elements.AppPackageInfo;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
 
 /**
  * This interface provides the methods to manage MEC application packages.
@@ -70,6 +72,24 @@ public interface MecAppPackageManagementProviderInterface {
 	public QueryOnBoadedAppPkgInfoResponse queryApplicationPackage(GeneralizedQueryRequest request)
 			throws MethodNotImplementedException, NotExistingEntityException, MalformattedElementException;
 	
+	/**
+	 * Paged variant of {@link #queryApplicationPackage(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryApplicationPackage:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws NotExistingEntityException if the package does not exist
+	 * @throws MalformattedElementException if the request is malformatted
+	 */
+	public default QueryResultStream<AppPackageInfo> queryApplicationPackagePaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, NotExistingEntityException, MalformattedElementException {
+		return QueryResultStream.paginate(queryApplicationPackage(request).getQueryResult(), request);
+	}
+	
 	/**
 	 * This operation enables the MEPM to subscribe with a filter for the notifications 
 	 * related to events of application packages sent by the MEO.
@@ -0,0 +1,272 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.catalogues.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.nextworks.nfvmano.libs.common.async.AsyncAdapters;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.elements.NsdInfo;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.elements.PnfdInfo;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.messages.*;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+
+/**
+ * Asynchronous variant of {@link NsdManagementProviderInterface}, 
+ * where each operation returns a CompletableFuture instead of blocking 
+ * the caller until the operation is processed.
+ * 
+ * Synchronous and asynchronous implementations can be adapted to each other
+ * through {@link AsyncAdapters}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface NsdManagementProviderAsync {
+
+	/**
+	 * Method to on-board an NSD in the NFVO.
+	 * Associated descriptors ( VLD and VNFFGD), that are part of the NSD, are on-boarded at the same time.
+	 * All descriptors needed by the NSD: VNFD, PNFD and NSD for nested NSs shall be on-boarded before being able to
+	 * successfully on-board the NSD.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		AlreadyExistingEntityException if the NSD already exists.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param request on-board NSD request.
+	 * @return future completed with identifier of the on-boarded instance of the NSD.
+	 */
+	public CompletableFuture<String> onboardNsd(OnboardNsdRequest request);
+
+	/**
+	 * Method to enable a previously disabled NSD instance,
+	 * allowing again its use for instantiation of new network
+	 * service with this descriptor.
+	 * The "In use/Not in use" sub-state shall not change as a result of the operation.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the NSD does not exist.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param request enable NSD request.
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> enableNsd(EnableNsdRequest request);
+
+	/**
+	 * Method to disable a previously enabled NSD instance,
+	 * preventing any further use for instantiation of new
+	 * network service with this descriptor.
+	 * The "In use/Not in use" sub-state shall not change as a result of the operation.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the NSD does not exist.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param request disable NSD request
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> disableNsd(DisableNsdRequest request);
+
+	/**
+	 * Method to update an already on-boarded NSD, creating a new version of the NSD.
+	 * The operation can also be used to update the userDefinedData of an existing NsdInfo
+	 * information element without creating a new version of the NSD.
+	 * 
+	 * The previous versions of the NSDs are not modified.
+	 * 
+	 * It is possible to add (remove) constituent descriptors (i.e. VNFDs, PNFDs, nested NSDs, VLDs, VNFFGDs and Service
+	 * Access Point Descriptors (SAPDs)) to (from) an NSD via the Update NSD operation. This is done by changing the
+	 * various descriptor references in the new NSD.
+	 * For example, to add VNFDs to an NSD, the OSS/BSS adds corresponding VNFD identifiers to the list of vnfdIds in the new NSD.
+	 * To remove VNFDs, the OSS/BSS simply does not include the vnfdIds (of the VNFDs to be removed) in the new NSD.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		AlreadyExistingEntityException if the updated NSD is already existing.;
+	 * 		NotExistingEntityException if the original NSD does not exist.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param request request to update an NSD
+	 * @return future completed with the ID of the updated NSD.
+	 */
+	public CompletableFuture<String> updateNsd(UpdateNsdRequest request);
+
+	/**
+	 * Method to delete one or more NSD(s). It is possible to delete only a single version of an NSD or all versions.
+	 * 
+	 * An NSD can only be deleted when there is no instantiated NS using it.
+	 * An NSD in the deletion pending state can no longer be enabled, disabled or updated.
+	 * It is not possible to instantiate NS(s) using an NSD in the deletion pending state.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the NSD does not exist.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param request request to delete an existing NSD
+	 * @return future completed with the IDs of the deleted NSDs
+	 */
+	public CompletableFuture<DeleteNsdResponse> deleteNsd(DeleteNsdRequest request);
+
+	/**
+	 * Method to query the NFVO concerning details of one or more NSDs.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the NSD does not exist.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param request query
+	 * @return future completed with NSD query response
+	 */
+	public CompletableFuture<QueryNsdResponse> queryNsd(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryNsd(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the NSD does not exist.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<NsdInfo>> queryNsdPaged(GeneralizedQueryRequest request);
+
+	/**
+	 * Method to subscribe with a filter for the notifications related to changes of NSD sent
+	 * by the NFVO.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param request subscription request
+	 * @param consumer	subscriber
+	 * @return future completed with subscription ID
+	 */
+	public CompletableFuture<String> subscribeNsdInfo(SubscribeRequest request, NsdManagementConsumerInterface consumer);
+
+	/**
+	 * Method to remove a previous subscription
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the subscription does not exist.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param subscriptionId	ID of the subscription to be removed
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> unsubscribeNsdInfo(String subscriptionId);
+
+	/**
+	 * This operation will on-board a PNF in the NFVO, making it available to be used by NSDs.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		AlreadyExistingEntityException if the PNFD already exists.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param request on-board PNFD request.
+	 * @return future completed with identifier of the on-boarded instance of the PNFD.
+	 */
+	public CompletableFuture<String> onboardPnfd(OnboardPnfdRequest request);
+
+	/**
+	 * Method to update a PNFD, creating a new version of already on-boarded PNFD.
+	 * The operation can also be used to update the userDefinedData of an existing
+	 * PnfInfo information element without creating a new version of the PNFD.
+	 * 
+	 * The previous versions of the PNFDs are not modified.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the original PNFD does not exist.;
+	 * 		AlreadyExistingEntityException if the new PNFD already exists.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param request request to update a PNFD
+	 * @return future completed with the ID of the updated PNFD.
+	 */
+	public CompletableFuture<String> updatePnfd(UpdatePnfdRequest request);
+
+	/**
+	 * Method to delete one or more PNFDs.
+	 * 
+	 * A PNFD can only be deleted when there is no NS (in the active or NOT_INSTANTIATED state) using it.
+	 * It is not possible to instantiate NSs that include a PNFD in deletion pending state.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the PNFD does not exist.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param request request to delete the PNFDs
+	 * @return future completed with the IDs of the deleted PNFDs
+	 */
+	public CompletableFuture<DeletePnfdResponse> deletePnfd(DeletePnfdRequest request);
+
+	/**
+	 * Method to query the NFVO concerning details of one or more PNFDs.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the PNFD does not exist.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param request query
+	 * @return future completed with PNFD query response
+	 */
+	public CompletableFuture<QueryPnfdResponse> queryPnfd(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryPnfd(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the PNFD does not exist.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<PnfdInfo>> queryPnfdPaged(GeneralizedQueryRequest request);
+
+}
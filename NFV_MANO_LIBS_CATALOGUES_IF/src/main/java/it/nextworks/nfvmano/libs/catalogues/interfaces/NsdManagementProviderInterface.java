@@ -23,6 +23,9 @@ import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
 import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
 import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
 import it.nextworks.nfvmano.libs.catalogues.interfaces.messages.*;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.elements.NsdInfo;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.elements.PnfdInfo;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
 
 /**
  * This interface allows the management of NSDs and associated PNFDs. 
@@ -139,6 +142,25 @@ public interface NsdManagementProviderInterface {
 	public QueryNsdResponse queryNsd(GeneralizedQueryRequest request) 
 			throws MethodNotImplementedException, MalformattedElementException, NotExistingEntityException, FailedOperationException;
 	
+	/**
+	 * Paged variant of {@link #queryNsd(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryNsd:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented.
+	 * @throws MalformattedElementException if the request is malformatted.
+	 * @throws NotExistingEntityException if the NSD does not exist.
+	 * @throws FailedOperationException if the operation has failed.
+	 */
+	public default QueryResultStream<NsdInfo> queryNsdPaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, MalformattedElementException, NotExistingEntityException, FailedOperationException {
+		return QueryResultStream.paginate(queryNsd(request).getQueryResult(), request);
+	}
+	
 	/**
 	 * Method to subscribe with a filter for the notifications related to changes of NSD sent
 	 * by the NFVO.
@@ -225,4 +247,23 @@ public interface NsdManagementProviderInterface {
 	 */
 	public QueryPnfdResponse queryPnfd(GeneralizedQueryRequest request) 
 			throws MethodNotImplementedException, MalformattedElementException, NotExistingEntityException, FailedOperationException;
+	
+	/**
+	 * Paged variant of {@link #queryPnfd(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryPnfd:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented.
+	 * @throws MalformattedElementException if the request is malformatted.
+	 * @throws NotExistingEntityException if the PNFD does not exist.
+	 * @throws FailedOperationException if the operation has failed.
+	 */
+	public default QueryResultStream<PnfdInfo> queryPnfdPaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, MalformattedElementException, NotExistingEntityException, FailedOperationException {
+		return QueryResultStream.paginate(queryPnfd(request).getQueryResult(), request);
+	}
 }
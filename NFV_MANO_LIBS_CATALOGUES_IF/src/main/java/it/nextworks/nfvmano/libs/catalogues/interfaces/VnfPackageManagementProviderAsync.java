@@ -0,0 +1,228 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.catalogues.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.nextworks.nfvmano.libs.common.async.AsyncAdapters;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.messages.DeleteVnfPackageRequest;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.messages.DisableVnfPackageRequest;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.messages.EnableVnfPackageRequest;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.messages.FetchOnboardedVnfPackageArtifactsRequest;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.messages.OnBoardVnfPackageRequest;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.messages.OnBoardVnfPackageResponse;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.messages.QueryOnBoardedVnfPkgInfoResponse;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.descriptors.onboardedvnfpackage.OnboardedVnfPkgInfo;
+import java.io.File;
+import java.util.List;
+
+/**
+ * Asynchronous variant of {@link VnfPackageManagementProviderInterface}, 
+ * where each operation returns a CompletableFuture instead of blocking 
+ * the caller until the operation is processed.
+ * 
+ * Synchronous and asynchronous implementations can be adapted to each other
+ * through {@link AsyncAdapters}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface VnfPackageManagementProviderAsync {
+
+	/**
+	 * This operation will on-board a VNF Package in the NFVO.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		AlreadyExistingEntityException if the VNF package is already existing in the NFVO catalogue;
+	 * 		FailedOperationException if the operation fails internally in the NFVO;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request on-board request
+	 * @return future completed with on-board response
+	 */
+	public CompletableFuture<OnBoardVnfPackageResponse> onBoardVnfPackage(OnBoardVnfPackageRequest request);
+
+	/**
+	 * This operation will enable a previously disabled VNF Package instance,
+	 * allowing again its use for instantiation of new VNF with this package.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the VNF package info does not exist;
+	 * 		FailedOperationException if the operation fails internally in the NFVO;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request enable request
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> enableVnfPackage(EnableVnfPackageRequest request);
+
+	/**
+	 * This operation will disable a previously enabled VNF Package instance,
+	 * preventing further use for instantiation of new VNFs with this package
+	 * (unless and until the VNF Package is re-enabled).
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the VNF package info does not exist;
+	 * 		FailedOperationException if the operation fails internally in the NFVO;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request enable request
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> disableVnfPackage(DisableVnfPackageRequest request);
+
+	/**
+	 * This operation will delete a VNF Package.
+	 * A VNF Package can only be deleted once there are no VNFs using it.
+	 * A deletion pending VNF Package can no longer be enabled, disabled or updated.
+	 * It is not possible to instantiate VNFs using a VNF Package in the "deletion pending" state.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the VNF package does not exist;
+	 * 		FailedOperationException if the operation fails internally in the NFVO;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request delete request
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> deleteVnfPackage(DeleteVnfPackageRequest request);
+
+	/**
+	 * This operation will enable the OSS/BSS to query from the NFVO
+	 * for information it has stored about one or more VNF Packages.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the VNF package info is not found in the NFVO catalogue;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request query
+	 * @return future completed with query response
+	 */
+	public CompletableFuture<QueryOnBoardedVnfPkgInfoResponse> queryVnfPackageInfo(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryVnfPackageInfo(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the VNF package info is not found in the NFVO catalogue;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<OnboardedVnfPkgInfo>> queryVnfPackageInfoPaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation enables the OSS/BSS to subscribe with a filter
+	 * for the notifications related to on-boarding of VNF Packages
+	 * and changes of VNF Packages sent by the NFVO.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 		FailedOperationException if the subscription fails;
+	 * 
+	 * @param request subscription request
+	 * @param consumer	subscriber
+	 * @return future completed with the subscription ID
+	 */
+	public CompletableFuture<String> subscribeVnfPackageInfo(SubscribeRequest request, VnfPackageManagementConsumerInterface consumer);
+
+	/**
+	 * Method to remove a previous subscription
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the subscription does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param subscriptionId ID of the subscription to be removed
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> unsubscribeVnfPackageInfo(String subscriptionId);
+
+	/**
+	 * This operation enables the OSS to fetch a whole on-boarded VNF Package.
+	 * The package is addressed using an identifier of information held by the
+	 * NFVO about the specific on-boarded VNF Package.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the VNF package is not found in the NFVO catalogue;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param onboardedVnfPkgInfoId Identifier of information held by the NFVO about the specific on-boarded VNF Package. This identifier was allocated by the NFVO.
+	 * @return future completed with the VNF package
+	 */
+	public CompletableFuture<File> fetchOnboardedVnfPackage(String onboardedVnfPkgInfoId);
+
+	/**
+	 * This operation enables the OSS/BSS to fetch selected artifacts
+	 * contained in an on-boarded VNF package.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the VNF package is not found in the NFVO catalogue;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request fetch VNF package artifacts request
+	 * @return future completed with the requested artifacts
+	 */
+	public CompletableFuture<List<File>> fetchOnboardedVnfPackageArtifacts(FetchOnboardedVnfPackageArtifactsRequest request);
+
+	/**
+	 * This operation enables the OSS to abort the deletion
+	 * of a VNF Package that is in deletion pending state.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the VNF package is not found in the NFVO catalogue;
+	 * 		FailedOperationException if the operation fails internally within the NFVO;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param onboardedVnfPkgInfoId Identifier of the onboarded VNF Package of which the deletion is requested to be aborted.
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> abortVnfPackageDeletion(String onboardedVnfPkgInfoId);
+
+	/**
+	 * This operation enables the consumer to query information about subscriptions.
+	 * TODO: still to be defined the format of the request
+	 * 
+	 * REF IFA 007 v2.3.1 - 6.2.9
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the subscription does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request subscription query
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> queryVnfPackageSubscription(GeneralizedQueryRequest request);
+
+}
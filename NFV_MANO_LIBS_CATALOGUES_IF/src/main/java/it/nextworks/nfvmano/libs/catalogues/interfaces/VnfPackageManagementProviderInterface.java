@@ -32,6 +32,8 @@ import it.nextworks.nfvmano.libs.common.exceptions.MethodNotImplementedException
 import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
 import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
 import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.descriptors.onboardedvnfpackage.OnboardedVnfPkgInfo;
 
 /**
  * This interface allows for the management of VNF Packages.
@@ -114,6 +116,24 @@ public interface VnfPackageManagementProviderInterface {
 	public QueryOnBoardedVnfPkgInfoResponse queryVnfPackageInfo(GeneralizedQueryRequest request)
 			throws MethodNotImplementedException, NotExistingEntityException, MalformattedElementException;
 	
+	/**
+	 * Paged variant of {@link #queryVnfPackageInfo(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryVnfPackageInfo:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws NotExistingEntityException if the VNF package info is not found in the NFVO catalogue
+	 * @throws MalformattedElementException if the request is malformatted
+	 */
+	public default QueryResultStream<OnboardedVnfPkgInfo> queryVnfPackageInfoPaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, NotExistingEntityException, MalformattedElementException {
+		return QueryResultStream.paginate(queryVnfPackageInfo(request).getQueryResult(), request);
+	}
+	
 	/**
 	 * This operation enables the OSS/BSS to subscribe with a filter 
 	 * for the notifications related to on-boarding of VNF Packages 
@@ -0,0 +1,232 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.catalogues.interfaces.deployment;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import it.nextworks.nfvmano.libs.catalogues.interfaces.NsdManagementConsumerInterface;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.elements.NsdInfo;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.messages.NsdChangeNotification;
+import it.nextworks.nfvmano.libs.catalogues.interfaces.messages.NsdOnBoardingNotification;
+import it.nextworks.nfvmano.libs.common.exceptions.MethodNotImplementedException;
+import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
+import it.nextworks.nfvmano.libs.descriptors.nsd.Nsd;
+import it.nextworks.nfvmano.libs.descriptors.nsd.ResolvedNsDeployment;
+
+/**
+ * Cache of the deployments resolved from the on-boarded NSDs, 
+ * see {@link Nsd#resolveDeployment(String, String)}.
+ * 
+ * The deployments are cached by NSD identifier and version, NS deployment flavour 
+ * and NS instantiation level, so that the NSDs loaded again from the catalogue
+ * for each operation share the deployments resolved for the previous ones.
+ * The on-boarded NSDs do not change, hence the cached deployments are invalidated 
+ * only explicitly, through {@link #invalidateNsd(String)} and {@link #invalidateNsdInfo(String)}, 
+ * usually on the notifications of the catalogue: {@link #invalidateOn(NsdManagementConsumerInterface)} 
+ * decorates a consumer so that the on-boarding of an NSD invalidates the deployments of 
+ * its NSD identifier, and the changes of an on-boarded NSD (e.g. its deletion) invalidate 
+ * the deployments of its NSD info. NSDs changed in place after their resolution 
+ * (e.g. not yet on-boarded) must be resolved directly through the NSD, or invalidated.
+ * 
+ * The deployments resolved while an invalidation occurs are not cached. 
+ * The least recently used deployments are evicted when the cache is full.
+ * The cache can be shared by concurrent callers.
+ * 
+ * @author nextworks
+ *
+ */
+public class NsDeploymentCache {
+
+	public static final int DEFAULT_MAX_ENTRIES = 1024;
+	
+	private final Map<Key, ResolvedNsDeployment> entries;
+	private final ConcurrentMap<String, String> nsdIdByNsdInfoId = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong();
+	
+	/**
+	 * Constructor, with the default maximum number of cached deployments
+	 */
+	public NsDeploymentCache() {
+		this(DEFAULT_MAX_ENTRIES);
+	}
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param maxEntries maximum number of cached deployments
+	 */
+	public NsDeploymentCache(int maxEntries) {
+		if (maxEntries <= 0) throw new IllegalArgumentException("Non positive maximum number of cached deployments");
+		this.entries = new LinkedHashMap<Key, ResolvedNsDeployment>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, ResolvedNsDeployment> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+	
+	/**
+	 * Returns the deployment of an on-boarded NSD, resolving it if not cached
+	 * 
+	 * @param nsdInfo the on-boarded NSD
+	 * @param nsFlavourId the NS Flavour ID
+	 * @param nsInstantiationLevel the NS Instantiation level ID, null for the default NS level
+	 * @return the resolved deployment
+	 * @throws NotExistingEntityException if the deployment flavour, the NS instantiation level or their VNF profiles do not exist
+	 */
+	public ResolvedNsDeployment resolve(NsdInfo nsdInfo, String nsFlavourId, String nsInstantiationLevel) 
+			throws NotExistingEntityException {
+		Nsd nsd = nsdInfo.getNsd();
+		if (nsd == null) throw NotExistingEntityException.stackless("NSD info " + nsdInfo.getNsdInfoId() + " without NSD");
+		if ((nsdInfo.getNsdInfoId() != null) && (nsd.getNsdIdentifier() != null)) 
+			nsdIdByNsdInfoId.put(nsdInfo.getNsdInfoId(), nsd.getNsdIdentifier());
+		return resolve(nsd, nsFlavourId, nsInstantiationLevel);
+	}
+	
+	/**
+	 * Returns the deployment of an NSD, resolving it if not cached
+	 * 
+	 * @param nsd the NSD
+	 * @param nsFlavourId the NS Flavour ID
+	 * @param nsInstantiationLevel the NS Instantiation level ID, null for the default NS level
+	 * @return the resolved deployment
+	 * @throws NotExistingEntityException if the deployment flavour, the NS instantiation level or their VNF profiles do not exist
+	 */
+	public ResolvedNsDeployment resolve(Nsd nsd, String nsFlavourId, String nsInstantiationLevel) 
+			throws NotExistingEntityException {
+		Key key = new Key(nsd.getNsdIdentifier(), nsd.getVersion(), nsFlavourId, nsInstantiationLevel);
+		synchronized (entries) {
+			ResolvedNsDeployment cached = entries.get(key);
+			if (cached != null) return cached;
+		}
+		long resolvedAt = generation.get();
+		ResolvedNsDeployment deployment = nsd.resolveDeployment(nsFlavourId, nsInstantiationLevel);
+		synchronized (entries) {
+			if (generation.get() == resolvedAt) entries.put(key, deployment);
+		}
+		return deployment;
+	}
+	
+	/**
+	 * Invalidates the cached deployments of all the versions of an NSD
+	 * 
+	 * @param nsdIdentifier the NSD identifier
+	 */
+	public void invalidateNsd(String nsdIdentifier) {
+		synchronized (entries) {
+			generation.incrementAndGet();
+			for (Iterator<Key> it = entries.keySet().iterator(); it.hasNext();) {
+				if (Objects.equals(it.next().nsdIdentifier, nsdIdentifier)) it.remove();
+			}
+		}
+	}
+	
+	/**
+	 * Invalidates the cached deployments of an on-boarded NSD. When the NSD of the 
+	 * NSD info is not known, i.e. it has not been resolved through {@link #resolve(NsdInfo, String, String)}, 
+	 * all the cached deployments are invalidated.
+	 * 
+	 * @param nsdInfoId the ID of the NSD info
+	 */
+	public void invalidateNsdInfo(String nsdInfoId) {
+		String nsdIdentifier = (nsdInfoId != null) ? nsdIdByNsdInfoId.remove(nsdInfoId) : null;
+		if (nsdIdentifier != null) invalidateNsd(nsdIdentifier);
+		else invalidateAll();
+	}
+	
+	/**
+	 * Invalidates all the cached deployments
+	 */
+	public void invalidateAll() {
+		synchronized (entries) {
+			generation.incrementAndGet();
+			entries.clear();
+		}
+	}
+	
+	/**
+	 * Decorates an NSD management consumer so that the notifications it receives 
+	 * invalidate the cached deployments of the notified NSDs, before being forwarded
+	 * 
+	 * @param consumer the consumer
+	 * @return the decorated consumer
+	 */
+	public NsdManagementConsumerInterface invalidateOn(NsdManagementConsumerInterface consumer) {
+		return new NsdManagementConsumerInterface() {
+			
+			@Override
+			public void notify(NsdOnBoardingNotification notification) throws MethodNotImplementedException {
+				invalidateNsd(notification.getNsdId());
+				consumer.notify(notification);
+			}
+			
+			@Override
+			public void notify(NsdChangeNotification notification) throws MethodNotImplementedException {
+				invalidateNsdInfo(notification.getNsdInfoId());
+				consumer.notify(notification);
+			}
+		};
+	}
+	
+	/**
+	 * @return the number of cached deployments
+	 */
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+	
+	private static final class Key {
+		
+		private final String nsdIdentifier;
+		private final String version;
+		private final String nsFlavourId;
+		private final String nsInstantiationLevel;
+		private final int hash;
+		
+		Key(String nsdIdentifier, String version, String nsFlavourId, String nsInstantiationLevel) {
+			this.nsdIdentifier = nsdIdentifier;
+			this.version = version;
+			this.nsFlavourId = nsFlavourId;
+			this.nsInstantiationLevel = nsInstantiationLevel;
+			this.hash = Objects.hash(nsdIdentifier, version, nsFlavourId, nsInstantiationLevel);
+		}
+		
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) return true;
+			if (!(obj instanceof Key)) return false;
+			Key other = (Key) obj;
+			return Objects.equals(nsdIdentifier, other.nsdIdentifier) && Objects.equals(version, other.version)
+					&& Objects.equals(nsFlavourId, other.nsFlavourId) && Objects.equals(nsInstantiationLevel, other.nsInstantiationLevel);
+		}
+	}
+	
+}
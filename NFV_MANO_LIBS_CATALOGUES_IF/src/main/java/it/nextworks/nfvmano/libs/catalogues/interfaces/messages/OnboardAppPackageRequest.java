@@ -15,10 +15,13 @@
 */
 package it.nextworks.nfvmano.libs.catalogues.interfaces.messages;
 
-import java.util.HashMap;
 import java.util.Map;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
 import it.nextworks.nfvmano.libs.common.InterfaceMessage;
+import it.nextworks.nfvmano.libs.common.collections.SmallMap;
+import it.nextworks.nfvmano.libs.common.collections.SmallMapDeserializer;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
 
 /**
@@ -35,7 +38,8 @@ public class OnboardAppPackageRequest implements InterfaceMessage {
 	private String version;
 	private String provider;
 	private String checksum;
-	private Map<String, String> userDefinedData = new HashMap<>();
+	@JsonDeserialize(using = SmallMapDeserializer.class)
+	private Map<String, String> userDefinedData = SmallMap.of();
 	private String appPackagePath;
 	
 	public OnboardAppPackageRequest() {	}
@@ -58,7 +62,7 @@ public class OnboardAppPackageRequest implements InterfaceMessage {
 		this.version = version;
 		this.provider = provider;
 		this.checksum = checksum;
-		if (userDefinedData != null) this.userDefinedData = userDefinedData;
+		if (userDefinedData != null) this.userDefinedData = SmallMap.copyOf(userDefinedData);
 		this.appPackagePath = appPackagePath;
 	}
 
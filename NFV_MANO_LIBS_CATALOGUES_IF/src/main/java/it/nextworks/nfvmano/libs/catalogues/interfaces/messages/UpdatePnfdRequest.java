@@ -15,12 +15,14 @@
 */
 package it.nextworks.nfvmano.libs.catalogues.interfaces.messages;
 
-import java.util.HashMap;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import it.nextworks.nfvmano.libs.common.InterfaceMessage;
+import it.nextworks.nfvmano.libs.common.collections.SmallMap;
+import it.nextworks.nfvmano.libs.common.collections.SmallMapDeserializer;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
 import it.nextworks.nfvmano.libs.descriptors.nsd.Pnfd;
 
@@ -39,7 +41,8 @@ public class UpdatePnfdRequest implements InterfaceMessage {
 	private Pnfd pnfd;
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
-	private Map<String, String> userDefinedData = new HashMap<>();
+	@JsonDeserialize(using = SmallMapDeserializer.class)
+	private Map<String, String> userDefinedData = SmallMap.of();
 	
 	public UpdatePnfdRequest() { }
 	
@@ -55,7 +58,7 @@ public class UpdatePnfdRequest implements InterfaceMessage {
 			Map<String, String> userDefinedData) {
 		this.pnfdInfoId = pnfdInfoId;
 		this.pnfd = pnfd;
-		if (userDefinedData != null) this.userDefinedData = userDefinedData;
+		if (userDefinedData != null) this.userDefinedData = SmallMap.copyOf(userDefinedData);
 	}
 
 	/**
@@ -0,0 +1,69 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+
+import it.nextworks.nfvmano.libs.common.enums.SerializerType;
+
+/**
+ * Codec for the binary encodings of the JSON data model (e.g. Smile, CBOR).
+ * 
+ * The mapper of the codec is derived from the JSON mapper of the information 
+ * model: it shares its configuration, modules, mix-ins and cached (de)serializers
+ * and only replaces the factory of the low-level parsers and generators. The
+ * same classes and Jackson annotations are therefore used for all the formats,
+ * and the encoded elements carry exactly the properties of their JSON encoding.
+ * 
+ * @author nextworks
+ *
+ */
+public abstract class BinaryJsonCodec extends JacksonCodec {
+
+	protected BinaryJsonCodec(SerializerType serializerType, String mediaType, JsonFactory factory, ObjectMapper mapper) {
+		super(serializerType, mediaType, deriveMapper(mapper, factory));
+	}
+	
+	/**
+	 * Creates a mapper with the configuration of the given one, writing and 
+	 * reading the format of the given factory.
+	 * 
+	 * @param mapper the JSON mapper configured for the information model
+	 * @param factory the factory of the target format
+	 * @return the new mapper
+	 */
+	public static ObjectMapper deriveMapper(ObjectMapper mapper, JsonFactory factory) {
+		DefaultSerializerProvider serializerProvider = null;
+		if (mapper.getSerializerProvider() instanceof DefaultSerializerProvider) {
+			serializerProvider = (DefaultSerializerProvider) mapper.getSerializerProvider();
+		}
+		DefaultDeserializationContext deserializationContext = null;
+		if (mapper.getDeserializationContext() instanceof DefaultDeserializationContext) {
+			deserializationContext = (DefaultDeserializationContext) mapper.getDeserializationContext();
+		}
+		ObjectMapper derived = new ObjectMapper(factory, serializerProvider, deserializationContext);
+		derived.setSerializerFactory(mapper.getSerializerFactory());
+		derived.setSubtypeResolver(mapper.getSubtypeResolver());
+		derived.setInjectableValues(mapper.getInjectableValues());
+		derived.setConfig(mapper.getSerializationConfig());
+		derived.setConfig(mapper.getDeserializationConfig());
+		return derived;
+	}
+	
+}
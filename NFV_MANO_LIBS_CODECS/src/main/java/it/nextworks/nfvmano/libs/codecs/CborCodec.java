@@ -0,0 +1,40 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import it.nextworks.nfvmano.libs.common.enums.SerializerType;
+
+/**
+ * CBOR codec, i.e. the encoding of the JSON data model defined by RFC 7049.
+ * 
+ * @author nextworks
+ *
+ */
+public class CborCodec extends BinaryJsonCodec {
+
+	public static final String MEDIA_TYPE = "application/cbor";
+	
+	/**
+	 * @param mapper the JSON mapper configured for the information model
+	 */
+	public CborCodec(ObjectMapper mapper) {
+		super(SerializerType.CBOR, MEDIA_TYPE, new CBORFactory(), mapper);
+	}
+	
+}
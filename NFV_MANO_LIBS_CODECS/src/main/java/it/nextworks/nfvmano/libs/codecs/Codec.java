@@ -0,0 +1,77 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs;
+
+import java.nio.ByteBuffer;
+
+import it.nextworks.nfvmano.libs.common.enums.SerializerType;
+import it.nextworks.nfvmano.libs.common.exceptions.FailedOperationException;
+import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+
+/**
+ * Encoder/decoder of information elements and messages for one of the
+ * serialization formats defined in SerializerType.
+ * 
+ * Implementations must be thread safe. Additional codecs can be plugged
+ * through the CodecProvider service interface.
+ * 
+ * @author nextworks
+ *
+ */
+public interface Codec {
+
+	/**
+	 * @return the serialization format implemented by the codec
+	 */
+	SerializerType getSerializerType();
+	
+	/**
+	 * @return the MIME type of the encoded content
+	 */
+	String getMediaType();
+	
+	/**
+	 * Encodes an element in a new buffer, ready to be read.
+	 * 
+	 * @param value element to be encoded
+	 * @return buffer with the encoded element
+	 * @throws FailedOperationException if the element cannot be encoded
+	 */
+	ByteBuffer encode(Object value) throws FailedOperationException;
+	
+	/**
+	 * Encodes an element in the given buffer, starting from its current position.
+	 * On failure the position of the buffer is left unchanged.
+	 * 
+	 * @param value element to be encoded
+	 * @param target buffer where the element is written
+	 * @return number of bytes written
+	 * @throws FailedOperationException if the element cannot be encoded or the buffer has not enough space
+	 */
+	int encode(Object value, ByteBuffer target) throws FailedOperationException;
+	
+	/**
+	 * Decodes an element from the remaining content of the given buffer.
+	 * The whole remaining content is consumed.
+	 * 
+	 * @param source buffer with the encoded element
+	 * @param type class of the element
+	 * @return the decoded element
+	 * @throws MalformattedElementException if the content cannot be decoded
+	 */
+	<T> T decode(ByteBuffer source, Class<T> type) throws MalformattedElementException;
+	
+}
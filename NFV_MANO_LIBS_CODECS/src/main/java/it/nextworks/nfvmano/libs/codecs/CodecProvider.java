@@ -0,0 +1,38 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Service interface used to plug additional codecs in the CodecRegistry.
+ * Providers are discovered through java.util.ServiceLoader, i.e. declared in
+ * META-INF/services/it.nextworks.nfvmano.libs.codecs.CodecProvider
+ * 
+ * @author nextworks
+ *
+ */
+public interface CodecProvider {
+
+	/**
+	 * Creates the codec.
+	 * 
+	 * @param mapper the JSON mapper configured for the information model
+	 * @return the codec
+	 */
+	Codec createCodec(ObjectMapper mapper);
+	
+}
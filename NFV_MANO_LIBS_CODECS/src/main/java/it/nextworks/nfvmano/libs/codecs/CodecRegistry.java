@@ -0,0 +1,88 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import it.nextworks.nfvmano.libs.codecs.protobuf.ProtobufCodec;
+import it.nextworks.nfvmano.libs.common.enums.SerializerType;
+import it.nextworks.nfvmano.libs.common.exceptions.MethodNotImplementedException;
+
+/**
+ * Registry of the codecs available for each SerializerType.
+ * 
+ * The registry is initialized with the built-in JSON, XML, PROTOBUF3, SMILE and CBOR codecs;
+ * codecs declared through the CodecProvider service interface replace the 
+ * built-in ones for the same serializer type.
+ * 
+ * @author nextworks
+ *
+ */
+public class CodecRegistry {
+
+	private final Map<SerializerType, Codec> codecs = new EnumMap<>(SerializerType.class);
+	
+	/**
+	 * Creates a registry with the built-in codecs and the ones declared by the CodecProvider services.
+	 * 
+	 * @param mapper the JSON mapper configured for the information model
+	 */
+	public CodecRegistry(ObjectMapper mapper) {
+		register(new JsonCodec(mapper));
+		register(new XmlCodec());
+		register(new ProtobufCodec(mapper));
+		register(new SmileCodec(mapper));
+		register(new CborCodec(mapper));
+		for (CodecProvider provider : ServiceLoader.load(CodecProvider.class)) {
+			register(provider.createCodec(mapper));
+		}
+	}
+	
+	/**
+	 * Registers a codec, replacing any codec previously registered for the same serializer type.
+	 * 
+	 * @param codec the codec to be registered
+	 */
+	public synchronized void register(Codec codec) {
+		codecs.put(codec.getSerializerType(), codec);
+	}
+	
+	/**
+	 * @param serializerType serialization format
+	 * @return the codec for the given format
+	 * @throws MethodNotImplementedException if no codec is available for the format
+	 */
+	public synchronized Codec getCodec(SerializerType serializerType) throws MethodNotImplementedException {
+		Codec codec = codecs.get(serializerType);
+		if (codec == null) throw new MethodNotImplementedException("No codec available for serializer type " + serializerType);
+		return codec;
+	}
+	
+	/**
+	 * @return the serializer types with a registered codec
+	 */
+	public synchronized Set<SerializerType> getSupportedTypes() {
+		return Collections.unmodifiableSet(new HashSet<>(codecs.keySet()));
+	}
+	
+}
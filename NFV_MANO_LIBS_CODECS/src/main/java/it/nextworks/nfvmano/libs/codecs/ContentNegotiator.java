@@ -0,0 +1,177 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import it.nextworks.nfvmano.libs.common.enums.SerializerType;
+import it.nextworks.nfvmano.libs.common.exceptions.MethodNotImplementedException;
+
+/**
+ * Selection of the codec for the content exchanged with a peer, based on
+ * the media types declared in the Content-Type and Accept headers (or 
+ * equivalent metadata of the transport).
+ * 
+ * Media types are matched case-insensitively and their parameters (e.g. charset)
+ * are ignored, except the quality factor of the Accept entries. When the peer 
+ * does not declare any media type or accepts any of them, the default serializer 
+ * type is used.
+ * 
+ * @author nextworks
+ *
+ */
+public class ContentNegotiator {
+
+	private final CodecRegistry registry;
+	private final SerializerType defaultType;
+	
+	/**
+	 * Constructor, with JSON as default serializer type
+	 * 
+	 * @param registry the registry of the available codecs
+	 */
+	public ContentNegotiator(CodecRegistry registry) {
+		this(registry, SerializerType.JSON);
+	}
+	
+	/**
+	 * @param registry the registry of the available codecs
+	 * @param defaultType the serializer type used when the peer has no preference
+	 */
+	public ContentNegotiator(CodecRegistry registry, SerializerType defaultType) {
+		this.registry = registry;
+		this.defaultType = defaultType;
+	}
+	
+	/**
+	 * Returns the codec for decoding a content with the given media type.
+	 * 
+	 * @param contentType the media type of the content, e.g. the value of the Content-Type header
+	 * @return the codec for the media type, or the default one if the media type is not specified
+	 * @throws MethodNotImplementedException if no codec is available for the media type
+	 */
+	public Codec forContentType(String contentType) throws MethodNotImplementedException {
+		String mediaType = stripParameters(contentType);
+		if (mediaType.isEmpty()) return registry.getCodec(defaultType);
+		Codec codec = findCodec(mediaType);
+		if (codec == null) throw new MethodNotImplementedException("No codec available for media type " + mediaType);
+		return codec;
+	}
+	
+	/**
+	 * Returns the codec for encoding a content accepted by the peer, i.e. the codec
+	 * of the media type with the highest quality factor among the supported ones.
+	 * Between media types with the same quality factor the first declared is selected.
+	 * 
+	 * @param accept the media types accepted by the peer, e.g. the value of the Accept header
+	 * @return the selected codec, or the default one if no media type is specified
+	 * @throws MethodNotImplementedException if none of the accepted media types is supported
+	 */
+	public Codec forAccept(String accept) throws MethodNotImplementedException {
+		if ((accept == null) || (accept.trim().isEmpty())) return registry.getCodec(defaultType);
+		List<AcceptedType> acceptedTypes = new ArrayList<>();
+		String[] entries = accept.split(",");
+		for (int i = 0; i < entries.length; i++) {
+			AcceptedType acceptedType = AcceptedType.parse(entries[i], i);
+			if ((acceptedType != null) && (acceptedType.quality > 0)) acceptedTypes.add(acceptedType);
+		}
+		Collections.sort(acceptedTypes);
+		for (AcceptedType acceptedType : acceptedTypes) {
+			Codec codec = findCodec(acceptedType.mediaType);
+			if (codec != null) return codec;
+		}
+		throw new MethodNotImplementedException("No codec available for accepted media types " + accept);
+	}
+	
+	/**
+	 * @param serializerType serialization format
+	 * @return the media type of the given format
+	 * @throws MethodNotImplementedException if no codec is available for the format
+	 */
+	public String getMediaType(SerializerType serializerType) throws MethodNotImplementedException {
+		return registry.getCodec(serializerType).getMediaType();
+	}
+	
+	private Codec findCodec(String mediaType) throws MethodNotImplementedException {
+		Set<SerializerType> supportedTypes = registry.getSupportedTypes();
+		if (mediaType.equals("*/*")) {
+			if (supportedTypes.contains(defaultType)) return registry.getCodec(defaultType);
+			mediaType = "*";
+		}
+		for (SerializerType serializerType : SerializerType.values()) {
+			if (!supportedTypes.contains(serializerType)) continue;
+			Codec codec = registry.getCodec(serializerType);
+			if (matches(mediaType, codec.getMediaType())) return codec;
+		}
+		return null;
+	}
+	
+	private static boolean matches(String pattern, String mediaType) {
+		if (pattern.equals("*")) return true;
+		if (pattern.endsWith("/*")) return mediaType.startsWith(pattern.substring(0, pattern.length() - 1));
+		return pattern.equals(mediaType);
+	}
+	
+	private static String stripParameters(String mediaType) {
+		if (mediaType == null) return "";
+		int separator = mediaType.indexOf(';');
+		if (separator >= 0) mediaType = mediaType.substring(0, separator);
+		return mediaType.trim().toLowerCase(Locale.ROOT);
+	}
+	
+	private static class AcceptedType implements Comparable<AcceptedType> {
+		
+		private final String mediaType;
+		private final double quality;
+		private final int position;
+		
+		private AcceptedType(String mediaType, double quality, int position) {
+			this.mediaType = mediaType;
+			this.quality = quality;
+			this.position = position;
+		}
+		
+		private static AcceptedType parse(String entry, int position) {
+			String[] parts = entry.split(";");
+			String mediaType = stripParameters(parts[0]);
+			if (mediaType.isEmpty()) return null;
+			double quality = 1;
+			for (int i = 1; i < parts.length; i++) {
+				String parameter = parts[i].trim();
+				if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+					try {
+						quality = Double.parseDouble(parameter.substring(2).trim());
+					} catch (NumberFormatException e) {
+						quality = 0;
+					}
+				}
+			}
+			return new AcceptedType(mediaType, quality, position);
+		}
+
+		@Override
+		public int compareTo(AcceptedType other) {
+			int byQuality = Double.compare(other.quality, quality);
+			return (byQuality != 0) ? byQuality : Integer.compare(position, other.position);
+		}
+		
+	}
+	
+}
@@ -0,0 +1,107 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
+
+import it.nextworks.nfvmano.libs.common.enums.SerializerType;
+import it.nextworks.nfvmano.libs.common.exceptions.FailedOperationException;
+import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+
+/**
+ * Codec based on a Jackson mapper, used for the text formats.
+ * Heap buffers are read and written through their backing array without
+ * intermediate copies.
+ * 
+ * @author nextworks
+ *
+ */
+public abstract class JacksonCodec implements Codec {
+
+	private final SerializerType serializerType;
+	private final String mediaType;
+	protected final ObjectMapper mapper;
+	
+	protected JacksonCodec(SerializerType serializerType, String mediaType, ObjectMapper mapper) {
+		this.serializerType = serializerType;
+		this.mediaType = mediaType;
+		this.mapper = mapper;
+	}
+	
+	@Override
+	public SerializerType getSerializerType() {
+		return serializerType;
+	}
+	
+	@Override
+	public String getMediaType() {
+		return mediaType;
+	}
+	
+	/**
+	 * @return the mapper used by the codec
+	 */
+	public ObjectMapper getMapper() {
+		return mapper;
+	}
+	
+	@Override
+	public ByteBuffer encode(Object value) throws FailedOperationException {
+		try {
+			return ByteBuffer.wrap(mapper.writeValueAsBytes(value));
+		} catch (IOException e) {
+			throw new FailedOperationException("Unable to encode " + serializerType + " element: " + e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public int encode(Object value, ByteBuffer target) throws FailedOperationException {
+		int start = target.position();
+		try {
+			mapper.writeValue(new ByteBufferBackedOutputStream(target), value);
+			return target.position() - start;
+		} catch (BufferOverflowException e) {
+			target.position(start);
+			throw new FailedOperationException("Not enough space in buffer to encode " + serializerType + " element");
+		} catch (IOException e) {
+			target.position(start);
+			throw new FailedOperationException("Unable to encode " + serializerType + " element: " + e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public <T> T decode(ByteBuffer source, Class<T> type) throws MalformattedElementException {
+		try {
+			T value;
+			if (source.hasArray()) {
+				value = mapper.readValue(source.array(), source.arrayOffset() + source.position(), source.remaining(), type);
+			} else {
+				value = mapper.readValue(new ByteBufferBackedInputStream(source), type);
+			}
+			source.position(source.limit());
+			return value;
+		} catch (IOException e) {
+			throw new MalformattedElementException("Unable to decode " + serializerType + " element: " + e.getMessage());
+		}
+	}
+	
+}
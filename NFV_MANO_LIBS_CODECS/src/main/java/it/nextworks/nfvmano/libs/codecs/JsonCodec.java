@@ -0,0 +1,36 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import it.nextworks.nfvmano.libs.common.enums.SerializerType;
+
+/**
+ * JSON codec, i.e. the encoding defined by the Jackson annotations of the model.
+ * 
+ * @author nextworks
+ *
+ */
+public class JsonCodec extends JacksonCodec {
+
+	public static final String MEDIA_TYPE = "application/json";
+	
+	public JsonCodec(ObjectMapper mapper) {
+		super(SerializerType.JSON, MEDIA_TYPE, mapper);
+	}
+	
+}
@@ -0,0 +1,41 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs;
+
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+
+import it.nextworks.nfvmano.libs.common.enums.SerializerType;
+
+/**
+ * XML codec, based on the Jackson XML data format and on the same
+ * annotations used for the JSON encoding.
+ * 
+ * @author nextworks
+ *
+ */
+public class XmlCodec extends JacksonCodec {
+
+	public static final String MEDIA_TYPE = "application/xml";
+	
+	public XmlCodec() {
+		this(new XmlMapper());
+	}
+	
+	public XmlCodec(XmlMapper mapper) {
+		super(SerializerType.XML, MEDIA_TYPE, mapper);
+	}
+	
+}
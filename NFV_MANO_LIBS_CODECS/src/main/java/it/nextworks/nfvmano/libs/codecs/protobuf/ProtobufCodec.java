@@ -0,0 +1,169 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs.protobuf;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import it.nextworks.nfvmano.libs.codecs.Codec;
+import it.nextworks.nfvmano.libs.common.enums.SerializerType;
+import it.nextworks.nfvmano.libs.common.exceptions.FailedOperationException;
+import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+
+/**
+ * Protobuf3 codec for the elements of the information model.
+ * 
+ * The schema of each element class is generated on first use from its
+ * Jackson metadata and persisted field numbers (see ProtobufSchemaGenerator) 
+ * and cached. Elements are 
+ * written and read by the serializers and deserializers of the JSON mapper,
+ * streaming directly to and from the protobuf wire format without building
+ * the JSON tree, so that the protobuf encoding carries exactly the same 
+ * properties of the JSON one.
+ * 
+ * @author nextworks
+ *
+ */
+public class ProtobufCodec implements Codec {
+
+	public static final String MEDIA_TYPE = "application/x-protobuf";
+	
+	private final ObjectMapper mapper;
+	private final ProtobufSchemaGenerator schemaGenerator;
+	private final ConcurrentMap<Class<?>, ProtobufSchema> schemas = new ConcurrentHashMap<>();
+	
+	/**
+	 * @param mapper the JSON mapper configured for the information model
+	 */
+	public ProtobufCodec(ObjectMapper mapper) {
+		this(mapper, ProtobufFieldNumbers.load());
+	}
+	
+	/**
+	 * @param mapper the JSON mapper configured for the information model
+	 * @param fieldNumbers the persisted field numbers of the information model
+	 */
+	public ProtobufCodec(ObjectMapper mapper, ProtobufFieldNumbers fieldNumbers) {
+		this.mapper = mapper;
+		this.schemaGenerator = new ProtobufSchemaGenerator(mapper, fieldNumbers);
+	}
+	
+	@Override
+	public SerializerType getSerializerType() {
+		return SerializerType.PROTOBUF3;
+	}
+
+	@Override
+	public String getMediaType() {
+		return MEDIA_TYPE;
+	}
+	
+	/**
+	 * @param type class of an element
+	 * @return the protobuf3 schema of the element
+	 * @throws IllegalArgumentException if the class cannot be mapped on a protobuf message
+	 */
+	public ProtobufSchema getSchema(Class<?> type) {
+		return schemas.computeIfAbsent(type, schemaGenerator::generate);
+	}
+
+	@Override
+	public ByteBuffer encode(Object value) throws FailedOperationException {
+		ProtobufGenerator generator = new ProtobufGenerator(mapper, getRootMessage(value));
+		write(generator, value);
+		return generator.toByteBuffer();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * The element is written directly in the backing array of heap buffers. 
+	 * Direct and read-only buffers have no accessible array: the element is
+	 * written in a temporary array and then copied in the buffer, since the
+	 * lengths of the nested messages are patched after their content.
+	 */
+	@Override
+	public int encode(Object value, ByteBuffer target) throws FailedOperationException {
+		ProtobufMessage rootMessage = getRootMessage(value);
+		if (!target.hasArray()) {
+			ProtobufGenerator generator = new ProtobufGenerator(mapper, rootMessage);
+			write(generator, value);
+			int size = size(generator);
+			if (target.remaining() < size) throw new FailedOperationException("Not enough space in buffer to encode PROTOBUF3 element");
+			generator.writeTo(target);
+			return size;
+		}
+		ProtobufGenerator generator = new ProtobufGenerator(mapper, rootMessage, target);
+		write(generator, value);
+		int size = size(generator);
+		target.position(target.position() + size);
+		return size;
+	}
+
+	@Override
+	public <T> T decode(ByteBuffer source, Class<T> type) throws MalformattedElementException {
+		ProtobufSchema schema;
+		try {
+			schema = getSchema(type);
+		} catch (IllegalArgumentException e) {
+			throw new MalformattedElementException(e.getMessage());
+		}
+		try (ProtobufParser parser = new ProtobufParser(mapper, schema.getRootMessage(), source)) {
+			T value = mapper.readValue(parser, type);
+			if (!parser.isCompleted()) throw new MalformattedElementException("Unable to decode PROTOBUF3 element: unexpected content");
+			return value;
+		} catch (IOException e) {
+			throw new MalformattedElementException("Unable to decode PROTOBUF3 element: " + message(e));
+		}
+	}
+	
+	private void write(ProtobufGenerator generator, Object value) throws FailedOperationException {
+		try {
+			mapper.writeValue(generator, value);
+		} catch (IOException | BufferOverflowException e) {
+			if (generator.isOverflowed()) throw new FailedOperationException("Not enough space in buffer to encode PROTOBUF3 element");
+			throw new FailedOperationException("Unable to encode PROTOBUF3 element: " + message(e), e);
+		}
+	}
+	
+	private static int size(ProtobufGenerator generator) throws FailedOperationException {
+		try {
+			return generator.size();
+		} catch (IOException e) {
+			throw new FailedOperationException("Unable to encode PROTOBUF3 element: " + e.getMessage(), e);
+		}
+	}
+	
+	private static String message(Exception e) {
+		return (e instanceof JsonProcessingException) ? ((JsonProcessingException) e).getOriginalMessage() : e.getMessage();
+	}
+	
+	private ProtobufMessage getRootMessage(Object value) throws FailedOperationException {
+		if (value == null) throw new FailedOperationException("Null element cannot be encoded in PROTOBUF3");
+		try {
+			return getSchema(value.getClass()).getRootMessage();
+		} catch (IllegalArgumentException e) {
+			throw new FailedOperationException(e.getMessage());
+		}
+	}
+	
+}
@@ -0,0 +1,97 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs.protobuf;
+
+/**
+ * Field of a protobuf3 message, mapped on a property of the Java element.
+ * Map fields always have string keys and are encoded as repeated entries with
+ * the key in field 1 and the value in field 2, as defined by protobuf3.
+ * 
+ * @author nextworks
+ *
+ */
+public class ProtobufField {
+
+	private final String name;
+	private final int number;
+	private final ProtobufFieldType type;
+	private final boolean repeated;
+	private final boolean map;
+	private final ProtobufMessage messageType;
+	
+	ProtobufField(String name, int number, ProtobufFieldType type, boolean repeated, boolean map, ProtobufMessage messageType) {
+		this.name = name;
+		this.number = number;
+		this.type = type;
+		this.repeated = repeated;
+		this.map = map;
+		this.messageType = messageType;
+	}
+
+	/**
+	 * @return the name of the property, as defined in the JSON encoding
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the field number
+	 */
+	public int getNumber() {
+		return number;
+	}
+
+	/**
+	 * @return the type of the value, or of the single elements for repeated and map fields
+	 */
+	public ProtobufFieldType getType() {
+		return type;
+	}
+
+	/**
+	 * @return true for repeated fields
+	 */
+	public boolean isRepeated() {
+		return repeated;
+	}
+
+	/**
+	 * @return true for map fields
+	 */
+	public boolean isMap() {
+		return map;
+	}
+
+	/**
+	 * @return the message type of the value, for fields of type MESSAGE
+	 */
+	public ProtobufMessage getMessageType() {
+		return messageType;
+	}
+	
+	String toProtoDefinition() {
+		String valueType = (type == ProtobufFieldType.MESSAGE) ? messageType.getName() : type.getProtoName();
+		StringBuilder sb = new StringBuilder();
+		if (map) sb.append("map<string, ").append(valueType).append(">");
+		else if (repeated) sb.append("repeated ").append(valueType);
+		else sb.append(valueType);
+		sb.append(" ").append(ProtobufSchema.toIdentifier(name)).append(" = ").append(number).append(";");
+		if (type == ProtobufFieldType.JSON) sb.append(" // JSON encoded");
+		return sb.toString();
+	}
+	
+}
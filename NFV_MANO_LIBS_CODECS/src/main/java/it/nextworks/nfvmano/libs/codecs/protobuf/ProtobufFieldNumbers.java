@@ -0,0 +1,198 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs.protobuf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Persisted field numbers of the protobuf3 messages mapped on the elements
+ * of the information model.
+ *
+ * Field numbers are part of the wire format, hence they must not change when
+ * properties are added, removed or renamed. Properties without the index
+ * attribute of JsonProperty are numbered through the files
+ * META-INF/nfvmano/protobuf-field-numbers.properties shipped by the modules
+ * of the information model, with entries in the format
+ * <code>fully.qualified.ClassName.property=number</code>.
+ *
+ * When properties are added to the information model, their numbers are
+ * assigned with ProtobufSchemaGenerator.assignFieldNumbers and the files are
+ * regenerated with {@link #store(OutputStream)}. The entries of removed
+ * properties must be kept, so that their numbers are never reused.
+ *
+ * @author nextworks
+ *
+ */
+public class ProtobufFieldNumbers {
+
+	public static final String RESOURCE = "META-INF/nfvmano/protobuf-field-numbers.properties";
+
+	private final Map<String, Integer> numbers = new HashMap<>();
+
+	/**
+	 * Creates an empty set of field numbers.
+	 */
+	public ProtobufFieldNumbers() { }
+
+	/**
+	 * Loads the field numbers of all the modules in the classpath.
+	 *
+	 * @return the field numbers
+	 * @throws UncheckedIOException if a field numbers file cannot be read
+	 * @throws IllegalStateException if a field numbers file is not valid
+	 */
+	public static ProtobufFieldNumbers load() {
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		return load((loader != null) ? loader : ProtobufFieldNumbers.class.getClassLoader());
+	}
+
+	/**
+	 * Loads the field numbers of all the modules visible by a class loader.
+	 *
+	 * @param loader the class loader
+	 * @return the field numbers
+	 * @throws UncheckedIOException if a field numbers file cannot be read
+	 * @throws IllegalStateException if a field numbers file is not valid
+	 */
+	public static ProtobufFieldNumbers load(ClassLoader loader) {
+		ProtobufFieldNumbers numbers = new ProtobufFieldNumbers();
+		try {
+			for (Enumeration<URL> resources = loader.getResources(RESOURCE); resources.hasMoreElements(); ) {
+				URL resource = resources.nextElement();
+				try (InputStream in = resource.openStream()) {
+					numbers.load(in, resource.toString());
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to read protobuf field numbers: " + e.getMessage(), e);
+		}
+		return numbers;
+	}
+
+	/**
+	 * Adds the entries of a field numbers file.
+	 *
+	 * @param in the content of the file
+	 * @param source name of the file, used in error messages
+	 * @throws IOException if the file cannot be read
+	 * @throws IllegalStateException if the file is not valid, or conflicts with the entries already loaded
+	 */
+	public synchronized void load(InputStream in, String source) throws IOException {
+		Properties p = new Properties();
+		p.load(in);
+		for (String key : p.stringPropertyNames()) {
+			int number;
+			try {
+				number = Integer.parseInt(p.getProperty(key).trim());
+			} catch (NumberFormatException e) {
+				throw new IllegalStateException("Invalid protobuf field number for " + key + " in " + source);
+			}
+			if ((key.lastIndexOf('.') <= 0) || !isValidNumber(number)) {
+				throw new IllegalStateException("Invalid protobuf field number entry " + key + " in " + source);
+			}
+			Integer previous = numbers.putIfAbsent(key, number);
+			if ((previous != null) && (previous != number)) {
+				throw new IllegalStateException("Conflicting protobuf field numbers for " + key + " in " + source);
+			}
+		}
+	}
+
+	/**
+	 * @param type class of the element
+	 * @param property name of the property, as defined in the JSON encoding
+	 * @return the field number of the property, or null if not defined
+	 */
+	public synchronized Integer getNumber(Class<?> type, String property) {
+		return numbers.get(key(type, property));
+	}
+
+	/**
+	 * Returns the field number of a property, assigning a new number if not yet defined.
+	 * New numbers follow all the numbers ever assigned to the properties of the same class.
+	 *
+	 * @param type class of the element
+	 * @param property name of the property, as defined in the JSON encoding
+	 * @param minimum minimum number to be assigned, e.g. to follow the explicit indexes of the class
+	 * @return the field number of the property
+	 */
+	public synchronized int assign(Class<?> type, String property, int minimum) {
+		String key = key(type, property);
+		Integer number = numbers.get(key);
+		if (number != null) return number;
+		int next = Math.max(minimum, 1);
+		String prefix = type.getName() + ".";
+		for (Map.Entry<String, Integer> e : numbers.entrySet()) {
+			if (e.getKey().startsWith(prefix) && (e.getKey().indexOf('.', prefix.length()) < 0)) {
+				next = Math.max(next, e.getValue() + 1);
+			}
+		}
+		if ((next >= 19000) && (next <= 19999)) next = 20000;
+		if (!isValidNumber(next)) throw new IllegalArgumentException("No protobuf field number available for " + key);
+		numbers.put(key, next);
+		return next;
+	}
+
+	/**
+	 * @return all the entries, sorted by key
+	 */
+	public synchronized Map<String, Integer> getNumbers() {
+		return Collections.unmodifiableMap(new TreeMap<>(numbers));
+	}
+
+	/**
+	 * Writes all the entries in the format of the field numbers files, sorted by key.
+	 *
+	 * @param out the target stream, not closed
+	 * @throws IOException if the entries cannot be written
+	 */
+	public void store(OutputStream out) throws IOException {
+		Writer w = new OutputStreamWriter(out, StandardCharsets.ISO_8859_1);
+		w.write("# Protobuf3 field numbers of the information model: never change or reuse a number\n");
+		for (Map.Entry<String, Integer> e : getNumbers().entrySet()) {
+			w.write(e.getKey());
+			w.write('=');
+			w.write(Integer.toString(e.getValue()));
+			w.write('\n');
+		}
+		w.flush();
+	}
+
+	/**
+	 * @param number a field number
+	 * @return true if the number can be used for a protobuf field
+	 */
+	static boolean isValidNumber(int number) {
+		return (number >= 1) && (number <= 536870911) && ((number < 19000) || (number > 19999));
+	}
+
+	private static String key(Class<?> type, String property) {
+		return type.getName() + "." + property;
+	}
+
+}
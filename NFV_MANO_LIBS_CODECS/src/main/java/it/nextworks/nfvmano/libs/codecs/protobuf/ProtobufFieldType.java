@@ -0,0 +1,70 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs.protobuf;
+
+/**
+ * Protobuf3 scalar and composite types used by the generated schemas.
+ * 
+ * Enumerations are mapped on strings, so that the encoding does not depend 
+ * on the order of the Java constants, and elements that have no fixed 
+ * structure (polymorphic types, nested collections, generic objects) are 
+ * carried as strings with their JSON encoding.
+ * 
+ * @author nextworks
+ *
+ */
+public enum ProtobufFieldType {
+
+	BOOL("bool", 0),
+	INT32("int32", 0),
+	INT64("int64", 0),
+	FLOAT("float", 5),
+	DOUBLE("double", 1),
+	STRING("string", 2),
+	BYTES("bytes", 2),
+	MESSAGE(null, 2),
+	JSON("string", 2);
+	
+	private final String protoName;
+	private final int wireType;
+	
+	private ProtobufFieldType(String protoName, int wireType) {
+		this.protoName = protoName;
+		this.wireType = wireType;
+	}
+	
+	/**
+	 * @return the name of the type in the .proto definition, null for messages
+	 */
+	public String getProtoName() {
+		return protoName;
+	}
+	
+	/**
+	 * @return the wire type of a single value
+	 */
+	public int getWireType() {
+		return wireType;
+	}
+	
+	/**
+	 * @return true if repeated values of this type are packed
+	 */
+	public boolean isPackable() {
+		return wireType != 2;
+	}
+	
+}
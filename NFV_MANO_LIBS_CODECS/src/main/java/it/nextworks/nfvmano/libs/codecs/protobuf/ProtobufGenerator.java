@@ -0,0 +1,840 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs.protobuf;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.base.GeneratorBase;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Jackson generator writing an element in the protobuf3 wire format, driven
+ * directly by the serializers of the JSON mapper, so that the protobuf encoding
+ * carries exactly the same properties of the JSON one without building the JSON tree.
+ *
+ * The element is written in a single pass in a growable array, or directly in
+ * the backing array of a target buffer: the length of each nested message is 
+ * reserved with one byte and patched when the message is closed, moving its 
+ * content only if the length takes more bytes.
+ * Null values are omitted, while all the other values are written explicitly,
+ * so that empty strings and zero values are preserved after decoding.
+ * Values of fields of type JSON are written with a JSON generator of the mapper.
+ *
+ * Instances are not thread safe and are used for a single element.
+ *
+ * @author nextworks
+ *
+ */
+class ProtobufGenerator extends GeneratorBase {
+
+	private static final int MESSAGE = 0;
+	private static final int REPEATED = 1;
+	private static final int MAP = 2;
+	
+	private final ObjectMapper mapper;
+	private final ProtobufMessage rootMessage;
+	
+	//content written in buffer[start, length), with buffer[length, end) available
+	private byte[] buffer;
+	private final int start;
+	private int length;
+	private int end;
+	private final boolean fixed;
+	private boolean overflowed;
+	
+	private Frame frame;
+	private boolean completed;
+	
+	private JsonGenerator json;
+	private ByteArrayBuilder jsonBuffer;
+	private ProtobufField jsonField;
+	private int jsonDepth;
+	
+	/**
+	 * @param mapper the JSON mapper, used for the fields of type JSON
+	 * @param rootMessage message type of the element
+	 */
+	ProtobufGenerator(ObjectMapper mapper, ProtobufMessage rootMessage) {
+		super(JsonGenerator.Feature.collectDefaults(), mapper);
+		this.mapper = mapper;
+		this.rootMessage = rootMessage;
+		this.buffer = new byte[256];
+		this.start = 0;
+		this.end = buffer.length;
+		this.fixed = false;
+	}
+	
+	/**
+	 * Generator writing in the backing array of a buffer, from its current position
+	 * up to its limit. The position of the buffer is not changed.
+	 * 
+	 * @param mapper the JSON mapper, used for the fields of type JSON
+	 * @param rootMessage message type of the element
+	 * @param target buffer backed by an accessible array
+	 */
+	ProtobufGenerator(ObjectMapper mapper, ProtobufMessage rootMessage, ByteBuffer target) {
+		super(JsonGenerator.Feature.collectDefaults(), mapper);
+		this.mapper = mapper;
+		this.rootMessage = rootMessage;
+		this.buffer = target.array();
+		this.start = target.arrayOffset() + target.position();
+		this.length = start;
+		this.end = target.arrayOffset() + target.limit();
+		this.fixed = true;
+	}
+	
+	/**
+	 * @return the size of the encoded element
+	 * @throws IOException if the element has not been completely written
+	 */
+	int size() throws IOException {
+		if (!completed) _reportError("Element is not a complete " + rootMessage.getName() + " message");
+		return length - start;
+	}
+	
+	/**
+	 * @return true if the element did not fit in the target buffer
+	 */
+	boolean isOverflowed() {
+		return overflowed;
+	}
+	
+	/**
+	 * Copies the encoded element in the target buffer.
+	 *
+	 * @param out target buffer, with at least {@link #size()} bytes remaining
+	 */
+	void writeTo(ByteBuffer out) {
+		out.put(buffer, start, length - start);
+	}
+	
+	/**
+	 * @return a buffer wrapping the encoded element
+	 */
+	ByteBuffer toByteBuffer() {
+		return ByteBuffer.wrap(buffer, start, length - start);
+	}
+	
+	@Override
+	public void writeStartObject() throws IOException {
+		if (startJson()) {
+			json.writeStartObject();
+			jsonDepth++;
+			return;
+		}
+		_writeContext = _writeContext.createChildObjectContext();
+		if (frame == null) {
+			if (completed) _reportError("Element is already complete");
+			frame = new Frame(null, MESSAGE, rootMessage, null);
+			return;
+		}
+		ProtobufField field = valueField();
+		if (frame.kind == MESSAGE) {
+			frame.current = null;
+			if (field.isMap()) {
+				frame = new Frame(frame, MAP, null, field);
+				return;
+			}
+			if (field.isRepeated() || (field.getType() != ProtobufFieldType.MESSAGE)) invalidValue(field, "message");
+			writeVarint(tag(field.getNumber(), 2));
+		} else {
+			if (field.getType() != ProtobufFieldType.MESSAGE) invalidValue(field, "message");
+			startItem(field);
+		}
+		Frame message = new Frame(frame, MESSAGE, field.getMessageType(), field);
+		message.lengthOffset = reserveLength();
+		frame = message;
+	}
+	
+	@Override
+	public void writeEndObject() throws IOException {
+		if (json != null) {
+			json.writeEndObject();
+			endJsonContainer();
+			return;
+		}
+		if ((frame == null) || (frame.kind == REPEATED)) _reportError("Unexpected end of object");
+		_writeContext = _writeContext.getParent();
+		Frame closed = frame;
+		frame = closed.parent;
+		if (closed.kind == MAP) return;
+		if (closed.lengthOffset < 0) {
+			completed = true;
+			return;
+		}
+		patchLength(closed.lengthOffset);
+		endItem();
+	}
+	
+	@Override
+	public void writeStartArray() throws IOException {
+		if (startJson()) {
+			json.writeStartArray();
+			jsonDepth++;
+			return;
+		}
+		if ((frame == null) || (frame.kind != MESSAGE) || (frame.current == null)) _reportError("Unexpected array in protobuf message");
+		ProtobufField field = frame.current;
+		frame.current = null;
+		if (!field.isRepeated()) invalidValue(field, "list");
+		_writeContext = _writeContext.createChildArrayContext();
+		Frame repeated = new Frame(frame, REPEATED, null, field);
+		if (field.getType().isPackable()) {
+			repeated.tagOffset = length;
+			writeVarint(tag(field.getNumber(), 2));
+			repeated.lengthOffset = reserveLength();
+		}
+		frame = repeated;
+	}
+	
+	@Override
+	public void writeEndArray() throws IOException {
+		if (json != null) {
+			json.writeEndArray();
+			endJsonContainer();
+			return;
+		}
+		if ((frame == null) || (frame.kind != REPEATED)) _reportError("Unexpected end of array");
+		_writeContext = _writeContext.getParent();
+		Frame closed = frame;
+		frame = closed.parent;
+		if (closed.lengthOffset >= 0) {
+			//empty packed fields are omitted
+			if (length == closed.lengthOffset + 1) length = closed.tagOffset;
+			else patchLength(closed.lengthOffset);
+		}
+	}
+	
+	@Override
+	public void writeFieldName(String name) throws IOException {
+		if (json != null) {
+			json.writeFieldName(name);
+			return;
+		}
+		if (frame == null) _reportError("Unexpected property " + name + " outside of protobuf message");
+		_writeContext.writeFieldName(name);
+		if (frame.kind == MAP) {
+			frame.key = name;
+			return;
+		}
+		ProtobufField field = frame.message.getField(name);
+		if (field == null) _reportError("Property " + name + " is not defined in protobuf message " + frame.message.getName());
+		frame.current = field;
+	}
+	
+	@Override
+	public void writeString(String text) throws IOException {
+		if (text == null) {
+			writeNull();
+			return;
+		}
+		if (startJson()) {
+			json.writeString(text);
+			endJsonValue();
+			return;
+		}
+		ProtobufField field = valueField();
+		switch (field.getType()) {
+		case STRING:
+			startScalar(field);
+			writeStringValue(text);
+			break;
+		case BYTES: {
+			byte[] b;
+			try {
+				b = Base64Variants.getDefaultVariant().decode(text);
+			} catch (IllegalArgumentException e) {
+				b = invalidValue(field, "binary value");
+			}
+			startScalar(field);
+			writeBytesValue(b, 0, b.length);
+			break;
+		}
+		default:
+			invalidValue(field, field.getType().getProtoName());
+		}
+		endItem();
+	}
+	
+	@Override
+	public void writeString(char[] text, int offset, int len) throws IOException {
+		writeString(new String(text, offset, len));
+	}
+	
+	@Override
+	public void writeRawUTF8String(byte[] text, int offset, int len) throws IOException {
+		writeString(new String(text, offset, len, StandardCharsets.UTF_8));
+	}
+	
+	@Override
+	public void writeUTF8String(byte[] text, int offset, int len) throws IOException {
+		writeString(new String(text, offset, len, StandardCharsets.UTF_8));
+	}
+	
+	@Override
+	public void writeRaw(String text) throws IOException {
+		if (json != null) json.writeRaw(text);
+		else _reportError("Raw content not supported in protobuf messages");
+	}
+	
+	@Override
+	public void writeRaw(String text, int offset, int len) throws IOException {
+		writeRaw(text.substring(offset, offset + len));
+	}
+	
+	@Override
+	public void writeRaw(char[] text, int offset, int len) throws IOException {
+		writeRaw(new String(text, offset, len));
+	}
+	
+	@Override
+	public void writeRaw(char c) throws IOException {
+		writeRaw(String.valueOf(c));
+	}
+	
+	@Override
+	public void writeRawValue(String text) throws IOException {
+		if (startJson()) {
+			json.writeRawValue(text);
+			endJsonValue();
+		} else {
+			_reportError("Raw values are supported only in protobuf fields of type JSON");
+		}
+	}
+	
+	@Override
+	public void writeRawValue(String text, int offset, int len) throws IOException {
+		writeRawValue(text.substring(offset, offset + len));
+	}
+	
+	@Override
+	public void writeRawValue(char[] text, int offset, int len) throws IOException {
+		writeRawValue(new String(text, offset, len));
+	}
+	
+	@Override
+	public void writeBinary(Base64Variant variant, byte[] data, int offset, int len) throws IOException {
+		if (startJson()) {
+			json.writeBinary(variant, data, offset, len);
+			endJsonValue();
+			return;
+		}
+		ProtobufField field = valueField();
+		switch (field.getType()) {
+		case BYTES:
+			startScalar(field);
+			writeBytesValue(data, offset, len);
+			break;
+		case STRING:
+			startScalar(field);
+			writeStringValue(variant.encode(Arrays.copyOfRange(data, offset, offset + len)));
+			break;
+		default:
+			invalidValue(field, field.getType().getProtoName());
+		}
+		endItem();
+	}
+	
+	@Override
+	public void writeNumber(int v) throws IOException {
+		if (startJson()) {
+			json.writeNumber(v);
+			endJsonValue();
+			return;
+		}
+		writeIntegral(v, String.valueOf(v));
+	}
+	
+	@Override
+	public void writeNumber(long v) throws IOException {
+		if (startJson()) {
+			json.writeNumber(v);
+			endJsonValue();
+			return;
+		}
+		writeIntegral(v, String.valueOf(v));
+	}
+	
+	@Override
+	public void writeNumber(BigInteger v) throws IOException {
+		if (v == null) {
+			writeNull();
+			return;
+		}
+		if (startJson()) {
+			json.writeNumber(v);
+			endJsonValue();
+			return;
+		}
+		writeIntegral(v.longValue(), v.toString());
+	}
+	
+	@Override
+	public void writeNumber(double v) throws IOException {
+		if (startJson()) {
+			json.writeNumber(v);
+			endJsonValue();
+			return;
+		}
+		writeDecimal(v, String.valueOf(v));
+	}
+	
+	@Override
+	public void writeNumber(float v) throws IOException {
+		if (startJson()) {
+			json.writeNumber(v);
+			endJsonValue();
+			return;
+		}
+		writeDecimal(v, String.valueOf(v));
+	}
+	
+	@Override
+	public void writeNumber(BigDecimal v) throws IOException {
+		if (v == null) {
+			writeNull();
+			return;
+		}
+		if (startJson()) {
+			json.writeNumber(v);
+			endJsonValue();
+			return;
+		}
+		writeDecimal(v.doubleValue(), v.toString());
+	}
+	
+	@Override
+	public void writeNumber(String encoded) throws IOException {
+		if (encoded == null) {
+			writeNull();
+			return;
+		}
+		if (startJson()) {
+			json.writeNumber(encoded);
+			endJsonValue();
+			return;
+		}
+		ProtobufField field = valueField();
+		try {
+			switch (field.getType()) {
+			case INT32:
+			case INT64:
+				writeIntegral(Long.parseLong(encoded), encoded);
+				return;
+			case FLOAT:
+			case DOUBLE:
+				writeDecimal(Double.parseDouble(encoded), encoded);
+				return;
+			default:
+				writeIntegral(0, encoded);
+			}
+		} catch (NumberFormatException e) {
+			invalidValue(field, "number");
+		}
+	}
+	
+	@Override
+	public void writeBoolean(boolean state) throws IOException {
+		if (startJson()) {
+			json.writeBoolean(state);
+			endJsonValue();
+			return;
+		}
+		ProtobufField field = valueField();
+		switch (field.getType()) {
+		case BOOL:
+			startScalar(field);
+			writeByte(state ? 1 : 0);
+			break;
+		case STRING:
+			startScalar(field);
+			writeStringValue(String.valueOf(state));
+			break;
+		default:
+			invalidValue(field, field.getType().getProtoName());
+		}
+		endItem();
+	}
+	
+	@Override
+	public void writeNull() throws IOException {
+		if (json != null) {
+			json.writeNull();
+			endJsonValue();
+			return;
+		}
+		//null values are omitted
+		if (frame == null) _reportError("Null element cannot be encoded in PROTOBUF3");
+		if (frame.kind == MESSAGE) frame.current = null;
+		else if (frame.kind == MAP) frame.key = null;
+	}
+	
+	@Override
+	public void flush() throws IOException {
+	}
+	
+	@Override
+	public void close() throws IOException {
+		super.close();
+		if (json != null) {
+			json.close();
+			json = null;
+		}
+	}
+	
+	@Override
+	protected void _releaseBuffers() {
+	}
+	
+	@Override
+	protected void _verifyValueWrite(String typeMsg) throws IOException {
+	}
+	
+	private void writeIntegral(long v, String text) throws IOException {
+		ProtobufField field = valueField();
+		switch (field.getType()) {
+		case INT32:
+		case INT64:
+			startScalar(field);
+			writeVarint(v);
+			break;
+		case FLOAT:
+			startScalar(field);
+			writeFixed32(Float.floatToIntBits(v));
+			break;
+		case DOUBLE:
+			startScalar(field);
+			writeFixed64(Double.doubleToLongBits(v));
+			break;
+		case STRING:
+			startScalar(field);
+			writeStringValue(text);
+			break;
+		default:
+			invalidValue(field, field.getType().getProtoName());
+		}
+		endItem();
+	}
+	
+	private void writeDecimal(double v, String text) throws IOException {
+		ProtobufField field = valueField();
+		switch (field.getType()) {
+		case FLOAT:
+			startScalar(field);
+			writeFixed32(Float.floatToIntBits((float) v));
+			break;
+		case DOUBLE:
+			startScalar(field);
+			writeFixed64(Double.doubleToLongBits(v));
+			break;
+		case STRING:
+			startScalar(field);
+			writeStringValue(text);
+			break;
+		default:
+			invalidValue(field, field.getType().getProtoName());
+		}
+		endItem();
+	}
+	
+	/**
+	 * Returns the field of the next value, checking that the value is expected.
+	 */
+	private ProtobufField valueField() throws IOException {
+		if (frame == null) _reportError("Element is not a " + rootMessage.getName() + " message");
+		switch (frame.kind) {
+		case MESSAGE:
+			if (frame.current == null) _reportError("Value without property in protobuf message " + frame.message.getName());
+			return frame.current;
+		case MAP:
+			if (frame.key == null) _reportError("Value without key in protobuf map " + frame.field.getName());
+			return frame.field;
+		default:
+			return frame.field;
+		}
+	}
+	
+	/**
+	 * Writes the tag, and the key for map entries, before a scalar value.
+	 */
+	private void startScalar(ProtobufField field) throws IOException {
+		if (frame.kind == MESSAGE) {
+			writeVarint(tag(field.getNumber(), field.getType().getWireType()));
+		} else {
+			startItem(field);
+		}
+	}
+	
+	/**
+	 * Writes the tag of an item of a repeated field, or the tag and the key of a map entry.
+	 */
+	private void startItem(ProtobufField field) throws IOException {
+		if (frame.kind == REPEATED) {
+			//items of packed fields have no tag
+			if (frame.lengthOffset < 0) writeVarint(tag(field.getNumber(), field.getType().getWireType()));
+			return;
+		}
+		writeVarint(tag(field.getNumber(), 2));
+		frame.entryOffset = reserveLength();
+		byte[] key = frame.key.getBytes(StandardCharsets.UTF_8);
+		writeVarint(tag(1, 2));
+		writeVarint(key.length);
+		writeBytes(key, 0, key.length);
+		writeVarint(tag(2, field.getType().getWireType()));
+	}
+	
+	/**
+	 * Completes a value: closes the map entry or clears the current property.
+	 */
+	private void endItem() {
+		if (frame == null) return;
+		if (frame.kind == MAP) {
+			patchLength(frame.entryOffset);
+			frame.key = null;
+		} else if (frame.kind == MESSAGE) {
+			frame.current = null;
+		}
+	}
+	
+	private <T> T invalidValue(ProtobufField field, String expected) throws IOException {
+		_reportError("Property " + field.getName() + " is not a " + expected);
+		return null;
+	}
+	
+	/**
+	 * Starts capturing a value of a field of type JSON, if the next value is of such a field.
+	 *
+	 * @return true if the value is written with the JSON generator
+	 */
+	private boolean startJson() throws IOException {
+		if (json != null) return true;
+		if ((frame == null) || (frame.kind != MESSAGE) || (frame.current == null)
+				|| (frame.current.getType() != ProtobufFieldType.JSON)) return false;
+		jsonField = frame.current;
+		jsonBuffer = new ByteArrayBuilder();
+		json = mapper.getFactory().createGenerator(jsonBuffer);
+		jsonDepth = 0;
+		return true;
+	}
+	
+	private void endJsonContainer() throws IOException {
+		jsonDepth--;
+		endJsonValue();
+	}
+	
+	/**
+	 * Completes a field of type JSON when its whole value has been written.
+	 */
+	private void endJsonValue() throws IOException {
+		if (jsonDepth > 0) return;
+		json.close();
+		json = null;
+		byte[] value = jsonBuffer.toByteArray();
+		jsonBuffer = null;
+		frame.current = null;
+		//null values are omitted, as for the other fields
+		if ((value.length == 4) && (value[0] == 'n') && (value[1] == 'u') && (value[2] == 'l') && (value[3] == 'l')) return;
+		writeVarint(tag(jsonField.getNumber(), 2));
+		writeVarint(value.length);
+		writeBytes(value, 0, value.length);
+	}
+	
+	private void writeStringValue(String s) {
+		int utf8Length = utf8Length(s);
+		writeVarint(utf8Length);
+		ensure(utf8Length);
+		length = writeUtf8(buffer, length, s);
+	}
+	
+	private void writeBytesValue(byte[] b, int offset, int len) {
+		writeVarint(len);
+		writeBytes(b, offset, len);
+	}
+	
+	/**
+	 * Reserves one byte for the length of a length delimited value.
+	 *
+	 * @return the offset of the length
+	 */
+	private int reserveLength() {
+		ensure(1);
+		return length++;
+	}
+	
+	/**
+	 * Writes the length of the value following the given offset, moving
+	 * the value if the length takes more than the byte reserved.
+	 */
+	private void patchLength(int offset) {
+		int valueLength = length - offset - 1;
+		int size = varintSize(valueLength);
+		if (size > 1) {
+			ensure(size - 1);
+			System.arraycopy(buffer, offset + 1, buffer, offset + size, valueLength);
+			length += size - 1;
+		}
+		int position = offset;
+		long v = valueLength;
+		while ((v & ~0x7FL) != 0) {
+			buffer[position++] = (byte) ((v & 0x7F) | 0x80);
+			v >>>= 7;
+		}
+		buffer[position] = (byte) v;
+	}
+	
+	private void ensure(int n) {
+		if (length + n > end) {
+			if (fixed) {
+				overflowed = true;
+				throw new BufferOverflowException();
+			}
+			buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + n));
+			end = buffer.length;
+		}
+	}
+	
+	private void writeByte(int b) {
+		ensure(1);
+		buffer[length++] = (byte) b;
+	}
+	
+	private void writeBytes(byte[] b, int offset, int len) {
+		ensure(len);
+		System.arraycopy(b, offset, buffer, length, len);
+		length += len;
+	}
+	
+	private void writeVarint(long value) {
+		ensure(varintSize(value));
+		while ((value & ~0x7FL) != 0) {
+			buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		buffer[length++] = (byte) value;
+	}
+	
+	private void writeFixed32(int value) {
+		ensure(4);
+		buffer[length++] = (byte) value;
+		buffer[length++] = (byte) (value >>> 8);
+		buffer[length++] = (byte) (value >>> 16);
+		buffer[length++] = (byte) (value >>> 24);
+	}
+	
+	private void writeFixed64(long value) {
+		writeFixed32((int) value);
+		writeFixed32((int) (value >>> 32));
+	}
+	
+	private static long tag(int number, int wireType) {
+		return ((long) number << 3) | wireType;
+	}
+	
+	private static int varintSize(long value) {
+		int size = 1;
+		while ((value & ~0x7FL) != 0) {
+			value >>>= 7;
+			size++;
+		}
+		return size;
+	}
+	
+	private static int utf8Length(String s) {
+		int length = 0;
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c < 0x80) length++;
+			else if (c < 0x800) length += 2;
+			else if (Character.isHighSurrogate(c) && (i + 1 < s.length()) && Character.isLowSurrogate(s.charAt(i + 1))) {
+				length += 4;
+				i++;
+			} else if (Character.isSurrogate(c)) length++;
+			else length += 3;
+		}
+		return length;
+	}
+	
+	/**
+	 * Writes a string in UTF-8, after its length has been reserved.
+	 * 
+	 * @return the position following the string
+	 */
+	private static int writeUtf8(byte[] out, int position, String s) {
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c < 0x80) {
+				out[position++] = (byte) c;
+			} else if (c < 0x800) {
+				out[position++] = (byte) (0xC0 | (c >> 6));
+				out[position++] = (byte) (0x80 | (c & 0x3F));
+			} else if (Character.isHighSurrogate(c) && (i + 1 < s.length()) && Character.isLowSurrogate(s.charAt(i + 1))) {
+				int cp = Character.toCodePoint(c, s.charAt(++i));
+				out[position++] = (byte) (0xF0 | (cp >> 18));
+				out[position++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+				out[position++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+				out[position++] = (byte) (0x80 | (cp & 0x3F));
+			} else if (Character.isSurrogate(c)) {
+				//unpaired surrogates are replaced, as done by String.getBytes
+				out[position++] = (byte) '?';
+			} else {
+				out[position++] = (byte) (0xE0 | (c >> 12));
+				out[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+				out[position++] = (byte) (0x80 | (c & 0x3F));
+			}
+		}
+		return position;
+	}
+	
+	/**
+	 * Message, repeated field or map being written.
+	 */
+	private static final class Frame {
+
+		final Frame parent;
+		final int kind;
+		final ProtobufMessage message;
+		final ProtobufField field;
+
+		//offset of the reserved length: nested messages and packed fields only
+		int lengthOffset = -1;
+		//offset of the tag of a packed field, to omit it when empty
+		int tagOffset;
+		//offset of the reserved length of the current map entry
+		int entryOffset;
+		//messages: field of the next value
+		ProtobufField current;
+		//maps: key of the next value
+		String key;
+
+		Frame(Frame parent, int kind, ProtobufMessage message, ProtobufField field) {
+			this.parent = parent;
+			this.kind = kind;
+			this.message = message;
+			this.field = field;
+		}
+	}
+
+}
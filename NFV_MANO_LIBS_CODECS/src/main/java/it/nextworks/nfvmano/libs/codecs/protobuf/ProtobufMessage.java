@@ -0,0 +1,94 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs.protobuf;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Protobuf3 message, mapped on a class of the information model.
+ * 
+ * @author nextworks
+ *
+ */
+public class ProtobufMessage {
+
+	private final String name;
+	private final Class<?> javaType;
+	private final List<ProtobufField> fields = new ArrayList<>();
+	private final Map<String, ProtobufField> fieldsByName = new HashMap<>();
+	private final Map<Integer, ProtobufField> fieldsByNumber = new HashMap<>();
+	
+	ProtobufMessage(String name, Class<?> javaType) {
+		this.name = name;
+		this.javaType = javaType;
+	}
+	
+	void addField(ProtobufField field) {
+		fields.add(field);
+		fieldsByName.put(field.getName(), field);
+		fieldsByNumber.put(field.getNumber(), field);
+	}
+
+	/**
+	 * @return the name of the message
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the class mapped on the message
+	 */
+	public Class<?> getJavaType() {
+		return javaType;
+	}
+
+	/**
+	 * @return the fields of the message
+	 */
+	public List<ProtobufField> getFields() {
+		return Collections.unmodifiableList(fields);
+	}
+	
+	/**
+	 * @param name name of the property
+	 * @return the field mapped on the property, or null
+	 */
+	public ProtobufField getField(String name) {
+		return fieldsByName.get(name);
+	}
+	
+	/**
+	 * @param number field number
+	 * @return the field with the given number, or null
+	 */
+	public ProtobufField getField(int number) {
+		return fieldsByNumber.get(number);
+	}
+	
+	String toProtoDefinition() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("message ").append(name).append(" {\n");
+		for (ProtobufField f : fields) sb.append("  ").append(f.toProtoDefinition()).append("\n");
+		sb.append("}\n");
+		return sb.toString();
+	}
+	
+}
@@ -0,0 +1,671 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs.protobuf;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.core.base.ParserMinimalBase;
+import com.fasterxml.jackson.core.json.JsonReadContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Jackson parser reading an element in the protobuf3 wire format, consumed
+ * directly by the deserializers of the JSON mapper without building the JSON tree.
+ *
+ * Strings and nested JSON values are read from the backing array of heap
+ * buffers without intermediate copies. Unknown fields are skipped, as
+ * required by protobuf3, and both packed and unpacked repeated fields
+ * are accepted. The items of repeated and map fields must be contiguous,
+ * as written by the protobuf encoders; repeated fields split by other
+ * fields are rejected.
+ *
+ * Instances are not thread safe and are used for a single element.
+ *
+ * @author nextworks
+ *
+ */
+class ProtobufParser extends ParserMinimalBase {
+
+	private static final int MESSAGE = 0;
+	private static final int REPEATED = 1;
+	private static final int MAP = 2;
+	
+	private final ObjectMapper mapper;
+	private final ByteBuffer in;
+	private final ProtobufMessage rootMessage;
+	private ObjectCodec codec;
+	
+	private JsonReadContext context = JsonReadContext.createRootContext(null);
+	private Frame frame;
+	private boolean started;
+	private boolean closed;
+	
+	//singular field whose name has been returned and whose value is next
+	private ProtobufField pendingField;
+	private int pendingWireType;
+	
+	//current scalar value: String, Boolean, Integer, Long, Float, Double or byte[]
+	private Object value;
+	
+	//parser of the value of a field of type JSON
+	private JsonParser json;
+	private ProtobufField jsonField;
+	private boolean jsonCompleted;
+	
+	/**
+	 * @param mapper the JSON mapper, used for the fields of type JSON
+	 * @param rootMessage message type of the element
+	 * @param in buffer with the encoded element, read up to its limit
+	 */
+	ProtobufParser(ObjectMapper mapper, ProtobufMessage rootMessage, ByteBuffer in) {
+		this.mapper = mapper;
+		this.codec = mapper;
+		this.rootMessage = rootMessage;
+		this.in = in;
+	}
+	
+	/**
+	 * @return true if the whole element has been read
+	 */
+	boolean isCompleted() {
+		return started && (frame == null) && (json == null);
+	}
+	
+	@Override
+	public JsonToken nextToken() throws IOException {
+		if (json != null) {
+			if (!jsonCompleted) return _currToken = nextJsonToken();
+			json.close();
+			json = null;
+		}
+		if (closed) return _currToken = null;
+		value = null;
+		try {
+			return _currToken = next();
+		} catch (BufferUnderflowException e) {
+			_reportError("Truncated protobuf message " + ((frame != null) ? frame.name() : rootMessage.getName()));
+			return null;
+		}
+	}
+	
+	private JsonToken next() throws IOException {
+		if (frame == null) {
+			if (started) return null;
+			started = true;
+			frame = new Frame(null, MESSAGE, rootMessage, null, in.limit());
+			return startObject();
+		}
+		switch (frame.kind) {
+		case MESSAGE:
+			return nextInMessage(frame);
+		case REPEATED:
+			return nextInRepeated(frame);
+		default:
+			return nextInMap(frame);
+		}
+	}
+	
+	private JsonToken nextInMessage(Frame f) throws IOException {
+		if (pendingField != null) {
+			ProtobufField field = pendingField;
+			pendingField = null;
+			return readValue(field, pendingWireType, f.end);
+		}
+		while (in.position() < f.end) {
+			long tag = readVarint();
+			int number = (int) (tag >>> 3);
+			int wireType = (int) (tag & 0x7);
+			ProtobufField field = f.message.getField(number);
+			if (field == null) {
+				skip(wireType, f.end);
+				continue;
+			}
+			if (field.isMap() || field.isRepeated()) {
+				if (f.containers == null) f.containers = new HashSet<>();
+				if (!f.containers.add(number)) _reportError("Protobuf field " + field.getName() + " is not contiguous");
+				Frame container = new Frame(f, field.isMap() ? MAP : REPEATED, null, field, f.end);
+				container.pendingWireType = wireType;
+				frame = container;
+			} else {
+				pendingField = field;
+				pendingWireType = wireType;
+			}
+			context.setCurrentName(field.getName());
+			return JsonToken.FIELD_NAME;
+		}
+		if (in.position() != f.end) _reportError("Protobuf message " + f.message.getName() + " exceeds its length");
+		frame = f.parent;
+		return endContainer(JsonToken.END_OBJECT);
+	}
+	
+	private JsonToken nextInRepeated(Frame f) throws IOException {
+		if (!f.started) {
+			f.started = true;
+			context = context.createChildArrayContext(-1, -1);
+			return JsonToken.START_ARRAY;
+		}
+		ProtobufFieldType type = f.field.getType();
+		while (true) {
+			if (f.packedEnd >= 0) {
+				if (in.position() < f.packedEnd) return readValue(f.field, type.getWireType(), f.packedEnd);
+				if (in.position() != f.packedEnd) _reportError("Packed protobuf field " + f.field.getName() + " exceeds its length");
+				f.packedEnd = -1;
+			}
+			int wireType = (f.pendingWireType >= 0) ? f.pendingWireType : nextItemWireType(f);
+			f.pendingWireType = -1;
+			if (wireType < 0) {
+				frame = f.parent;
+				return endContainer(JsonToken.END_ARRAY);
+			}
+			if ((wireType == 2) && type.isPackable()) {
+				f.packedEnd = readLengthPrefix(f.end);
+				continue;
+			}
+			return readValue(f.field, wireType, f.end);
+		}
+	}
+	
+	private JsonToken nextInMap(Frame f) throws IOException {
+		if (!f.started) {
+			f.started = true;
+			return startObject();
+		}
+		if (f.valuePending) {
+			f.valuePending = false;
+			if (f.valuePosition < 0) return defaultValue(f.field);
+			in.position(f.valuePosition);
+			return readValue(f.field, f.valueWireType, f.entryEnd);
+		}
+		if (f.entryEnd >= 0) {
+			in.position(f.entryEnd);
+			f.entryEnd = -1;
+		}
+		int wireType = (f.pendingWireType >= 0) ? f.pendingWireType : nextItemWireType(f);
+		f.pendingWireType = -1;
+		if (wireType < 0) {
+			frame = f.parent;
+			return endContainer(JsonToken.END_OBJECT);
+		}
+		checkWireType(f.field, wireType, 2);
+		f.entryEnd = readLengthPrefix(f.end);
+		//the key and the value may be in any order: the value is read after returning the key
+		String key = "";
+		f.valuePosition = -1;
+		while (in.position() < f.entryEnd) {
+			long tag = readVarint();
+			int number = (int) (tag >>> 3);
+			int entryWireType = (int) (tag & 0x7);
+			if (number == 1) {
+				checkWireType(f.field, entryWireType, 2);
+				key = readString(readLengthPrefix(f.entryEnd));
+			} else {
+				if (number == 2) {
+					f.valuePosition = in.position();
+					f.valueWireType = entryWireType;
+				}
+				skip(entryWireType, f.entryEnd);
+			}
+		}
+		f.valuePending = true;
+		context.setCurrentName(key);
+		return JsonToken.FIELD_NAME;
+	}
+	
+	/**
+	 * Reads the tag of the next item of a repeated or map field.
+	 *
+	 * @return the wire type of the item, or -1 if the next field is not an item
+	 */
+	private int nextItemWireType(Frame f) throws IOException {
+		if (in.position() >= f.end) return -1;
+		int mark = in.position();
+		long tag = readVarint();
+		if ((int) (tag >>> 3) != f.field.getNumber()) {
+			in.position(mark);
+			return -1;
+		}
+		return (int) (tag & 0x7);
+	}
+	
+	private JsonToken readValue(ProtobufField field, int wireType, int end) throws IOException {
+		checkWireType(field, wireType, field.getType().getWireType());
+		switch (field.getType()) {
+		case BOOL:
+			value = (readVarint() != 0) ? Boolean.TRUE : Boolean.FALSE;
+			return ((Boolean) value) ? JsonToken.VALUE_TRUE : JsonToken.VALUE_FALSE;
+		case INT32:
+			value = (int) readVarint();
+			return JsonToken.VALUE_NUMBER_INT;
+		case INT64:
+			value = readVarint();
+			return JsonToken.VALUE_NUMBER_INT;
+		case FLOAT:
+			checkFixed(4, end);
+			value = Float.intBitsToFloat(readFixed32());
+			return JsonToken.VALUE_NUMBER_FLOAT;
+		case DOUBLE:
+			checkFixed(8, end);
+			value = Double.longBitsToDouble((readFixed32() & 0xFFFFFFFFL) | ((long) readFixed32() << 32));
+			return JsonToken.VALUE_NUMBER_FLOAT;
+		case STRING:
+			value = readString(readLengthPrefix(end));
+			return JsonToken.VALUE_STRING;
+		case BYTES: {
+			int valueEnd = readLengthPrefix(end);
+			byte[] b = new byte[valueEnd - in.position()];
+			in.get(b);
+			value = b;
+			return JsonToken.VALUE_EMBEDDED_OBJECT;
+		}
+		case MESSAGE:
+			frame = new Frame(frame, MESSAGE, field.getMessageType(), field, readLengthPrefix(end));
+			return startObject();
+		case JSON:
+			return startJson(field, readLengthPrefix(end));
+		default:
+			throw new IllegalStateException("Unexpected protobuf type " + field.getType());
+		}
+	}
+	
+	/**
+	 * Value of a map entry without value, as defined by protobuf3.
+	 */
+	private JsonToken defaultValue(ProtobufField field) {
+		switch (field.getType()) {
+		case BOOL:
+			value = Boolean.FALSE;
+			return JsonToken.VALUE_FALSE;
+		case INT32:
+			value = 0;
+			return JsonToken.VALUE_NUMBER_INT;
+		case INT64:
+			value = 0L;
+			return JsonToken.VALUE_NUMBER_INT;
+		case FLOAT:
+		case DOUBLE:
+			value = 0.0;
+			return JsonToken.VALUE_NUMBER_FLOAT;
+		case STRING:
+			value = "";
+			return JsonToken.VALUE_STRING;
+		default:
+			return JsonToken.VALUE_NULL;
+		}
+	}
+	
+	private JsonToken startObject() {
+		context = context.createChildObjectContext(-1, -1);
+		return JsonToken.START_OBJECT;
+	}
+	
+	private JsonToken endContainer(JsonToken token) {
+		context = context.getParent();
+		return token;
+	}
+	
+	private JsonToken startJson(ProtobufField field, int valueEnd) throws IOException {
+		int length = valueEnd - in.position();
+		if (in.hasArray()) {
+			json = mapper.getFactory().createParser(in.array(), in.arrayOffset() + in.position(), length);
+		} else {
+			byte[] b = new byte[length];
+			in.get(b);
+			json = mapper.getFactory().createParser(b);
+		}
+		in.position(valueEnd);
+		jsonField = field;
+		jsonCompleted = false;
+		JsonToken token = nextJsonToken();
+		if (token == null) {
+			//empty content
+			json.close();
+			json = null;
+			return JsonToken.VALUE_NULL;
+		}
+		return token;
+	}
+	
+	private JsonToken nextJsonToken() throws IOException {
+		JsonToken token;
+		try {
+			token = json.nextToken();
+		} catch (JsonProcessingException e) {
+			_reportError("Invalid JSON content in protobuf field " + jsonField.getName() + ": " + e.getOriginalMessage());
+			return null;
+		}
+		if (token == null) _reportError("Truncated JSON content in protobuf field " + jsonField.getName());
+		jsonCompleted = json.getParsingContext().inRoot();
+		return token;
+	}
+	
+	@Override
+	protected void _handleEOF() throws JsonParseException {
+	}
+	
+	@Override
+	public String getCurrentName() throws IOException {
+		if (json != null) {
+			String name = json.getCurrentName();
+			if ((name != null) || !json.getParsingContext().inRoot()) return name;
+		}
+		if ((_currToken == JsonToken.START_OBJECT) || (_currToken == JsonToken.START_ARRAY)) {
+			JsonReadContext parent = context.getParent();
+			return (parent != null) ? parent.getCurrentName() : null;
+		}
+		return context.getCurrentName();
+	}
+	
+	@Override
+	public void overrideCurrentName(String name) {
+		try {
+			context.setCurrentName(name);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	@Override
+	public JsonStreamContext getParsingContext() {
+		return (json != null) ? json.getParsingContext() : context;
+	}
+	
+	@Override
+	public void close() throws IOException {
+		closed = true;
+		if (json != null) {
+			json.close();
+			json = null;
+		}
+	}
+	
+	@Override
+	public boolean isClosed() {
+		return closed;
+	}
+	
+	@Override
+	public String getText() throws IOException {
+		if (json != null) return json.getText();
+		if (_currToken == null) return null;
+		switch (_currToken) {
+		case FIELD_NAME:
+			return context.getCurrentName();
+		case VALUE_STRING:
+		case VALUE_NUMBER_INT:
+		case VALUE_NUMBER_FLOAT:
+			return String.valueOf(value);
+		case VALUE_EMBEDDED_OBJECT:
+			return Base64Variants.getDefaultVariant().encode((byte[]) value);
+		default:
+			return _currToken.asString();
+		}
+	}
+	
+	@Override
+	public char[] getTextCharacters() throws IOException {
+		if (json != null) return json.getTextCharacters();
+		String text = getText();
+		return (text != null) ? text.toCharArray() : null;
+	}
+	
+	@Override
+	public boolean hasTextCharacters() {
+		return (json != null) && json.hasTextCharacters();
+	}
+	
+	@Override
+	public int getTextLength() throws IOException {
+		if (json != null) return json.getTextLength();
+		String text = getText();
+		return (text != null) ? text.length() : 0;
+	}
+	
+	@Override
+	public int getTextOffset() throws IOException {
+		return (json != null) ? json.getTextOffset() : 0;
+	}
+	
+	@Override
+	public byte[] getBinaryValue(Base64Variant variant) throws IOException {
+		if (json != null) return json.getBinaryValue(variant);
+		if (value instanceof byte[]) return (byte[]) value;
+		if (_currToken == JsonToken.VALUE_STRING) {
+			try {
+				return variant.decode((String) value);
+			} catch (IllegalArgumentException e) {
+				_reportError("Invalid binary value: " + e.getMessage());
+			}
+		}
+		_reportError("Current token " + _currToken + " is not a binary value");
+		return null;
+	}
+	
+	@Override
+	public Object getEmbeddedObject() throws IOException {
+		if (json != null) return json.getEmbeddedObject();
+		return (_currToken == JsonToken.VALUE_EMBEDDED_OBJECT) ? value : null;
+	}
+	
+	@Override
+	public ObjectCodec getCodec() {
+		return codec;
+	}
+	
+	@Override
+	public void setCodec(ObjectCodec codec) {
+		this.codec = codec;
+	}
+	
+	@Override
+	public Version version() {
+		return Version.unknownVersion();
+	}
+	
+	@Override
+	public JsonLocation getCurrentLocation() {
+		return JsonLocation.NA;
+	}
+	
+	@Override
+	public JsonLocation getTokenLocation() {
+		return JsonLocation.NA;
+	}
+	
+	@Override
+	public Number getNumberValue() throws IOException {
+		if (json != null) return json.getNumberValue();
+		if (!(value instanceof Number)) _reportError("Current token " + _currToken + " is not numeric");
+		return (Number) value;
+	}
+	
+	@Override
+	public NumberType getNumberType() throws IOException {
+		if (json != null) return json.getNumberType();
+		if (value instanceof Integer) return NumberType.INT;
+		if (value instanceof Long) return NumberType.LONG;
+		if (value instanceof Float) return NumberType.FLOAT;
+		if (value instanceof Double) return NumberType.DOUBLE;
+		return null;
+	}
+	
+	@Override
+	public int getIntValue() throws IOException {
+		if (json != null) return json.getIntValue();
+		Number n = getNumberValue();
+		if ((n instanceof Long) && ((n.longValue() < Integer.MIN_VALUE) || (n.longValue() > Integer.MAX_VALUE))) {
+			_reportError("Numeric value " + n + " out of range of int");
+		}
+		return n.intValue();
+	}
+	
+	@Override
+	public long getLongValue() throws IOException {
+		if (json != null) return json.getLongValue();
+		return getNumberValue().longValue();
+	}
+	
+	@Override
+	public BigInteger getBigIntegerValue() throws IOException {
+		if (json != null) return json.getBigIntegerValue();
+		Number n = getNumberValue();
+		if ((n instanceof Float) || (n instanceof Double)) return BigDecimal.valueOf(n.doubleValue()).toBigInteger();
+		return BigInteger.valueOf(n.longValue());
+	}
+	
+	@Override
+	public float getFloatValue() throws IOException {
+		if (json != null) return json.getFloatValue();
+		return getNumberValue().floatValue();
+	}
+	
+	@Override
+	public double getDoubleValue() throws IOException {
+		if (json != null) return json.getDoubleValue();
+		return getNumberValue().doubleValue();
+	}
+	
+	@Override
+	public BigDecimal getDecimalValue() throws IOException {
+		if (json != null) return json.getDecimalValue();
+		Number n = getNumberValue();
+		if (n instanceof Float) return new BigDecimal(n.toString());
+		if (n instanceof Double) return BigDecimal.valueOf(n.doubleValue());
+		return BigDecimal.valueOf(n.longValue());
+	}
+	
+	private void checkWireType(ProtobufField field, int wireType, int expected) throws IOException {
+		if (wireType != expected) {
+			_reportError("Unexpected wire type " + wireType + " for protobuf field " + field.getName());
+		}
+	}
+	
+	private int readLengthPrefix(int end) throws IOException {
+		long length = readVarint();
+		if ((length < 0) || (length > end - in.position())) _reportError("Invalid protobuf length " + length);
+		return in.position() + (int) length;
+	}
+	
+	private String readString(int valueEnd) {
+		int length = valueEnd - in.position();
+		String s;
+		if (in.hasArray()) {
+			s = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+			in.position(valueEnd);
+		} else {
+			byte[] b = new byte[length];
+			in.get(b);
+			s = new String(b, StandardCharsets.UTF_8);
+		}
+		return s;
+	}
+	
+	private void skip(int wireType, int end) throws IOException {
+		switch (wireType) {
+		case 0:
+			readVarint();
+			if (in.position() > end) _reportError("Protobuf varint exceeds the enclosing message");
+			break;
+		case 1:
+			checkFixed(8, end);
+			in.position(in.position() + 8);
+			break;
+		case 2:
+			in.position(readLengthPrefix(end));
+			break;
+		case 5:
+			checkFixed(4, end);
+			in.position(in.position() + 4);
+			break;
+		default:
+			_reportError("Unsupported protobuf wire type " + wireType);
+		}
+	}
+	
+	private void checkFixed(int length, int end) throws IOException {
+		if (length > end - in.position()) _reportError("Protobuf fixed value exceeds the enclosing message");
+	}
+	
+	private long readVarint() throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = in.get();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) return value;
+		}
+		_reportError("Malformed protobuf varint");
+		return 0;
+	}
+	
+	private int readFixed32() {
+		return (in.get() & 0xFF) | ((in.get() & 0xFF) << 8) | ((in.get() & 0xFF) << 16) | ((in.get() & 0xFF) << 24);
+	}
+	
+	/**
+	 * Message, repeated field or map being read.
+	 */
+	private static final class Frame {
+
+		final Frame parent;
+		final int kind;
+		final ProtobufMessage message;
+		final ProtobufField field;
+		//end of the enclosing message
+		final int end;
+
+		boolean started;
+		//repeated and map fields: wire type of an item whose tag has been read
+		int pendingWireType = -1;
+		//repeated fields: end of the current packed block
+		int packedEnd = -1;
+		//maps: end of the current entry and position of its value
+		int entryEnd = -1;
+		int valuePosition = -1;
+		int valueWireType;
+		boolean valuePending;
+		//messages: numbers of the repeated and map fields already read
+		Set<Integer> containers;
+
+		Frame(Frame parent, int kind, ProtobufMessage message, ProtobufField field, int end) {
+			this.parent = parent;
+			this.kind = kind;
+			this.message = message;
+			this.field = field;
+			this.end = end;
+		}
+
+		String name() {
+			return (message != null) ? message.getName() : field.getName();
+		}
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs.protobuf;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Protobuf3 schema generated for a root element of the information model,
+ * including the messages of all the nested elements.
+ * 
+ * @author nextworks
+ *
+ */
+public class ProtobufSchema {
+
+	private final ProtobufMessage rootMessage;
+	private final List<ProtobufMessage> messages;
+	
+	ProtobufSchema(ProtobufMessage rootMessage, List<ProtobufMessage> messages) {
+		this.rootMessage = rootMessage;
+		this.messages = new ArrayList<>(messages);
+	}
+
+	/**
+	 * @return the message of the root element
+	 */
+	public ProtobufMessage getRootMessage() {
+		return rootMessage;
+	}
+
+	/**
+	 * @return all the messages of the schema
+	 */
+	public List<ProtobufMessage> getMessages() {
+		return Collections.unmodifiableList(messages);
+	}
+	
+	/**
+	 * @return the schema in the .proto format, to be used by non-Java peers
+	 */
+	public String toProtoDefinition() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("syntax = \"proto3\";\n\n");
+		Package p = rootMessage.getJavaType().getPackage();
+		if ((p != null) && !p.getName().isEmpty()) sb.append("package ").append(p.getName()).append(";\n\n");
+		for (ProtobufMessage m : messages) sb.append(m.toProtoDefinition()).append("\n");
+		return sb.toString();
+	}
+	
+	static String toIdentifier(String name) {
+		StringBuilder sb = new StringBuilder(name.length() + 1);
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			sb.append(((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) ? c : '_');
+		}
+		if ((sb.length() == 0) || Character.isDigit(sb.charAt(0))) sb.insert(0, '_');
+		return sb.toString();
+	}
+	
+}
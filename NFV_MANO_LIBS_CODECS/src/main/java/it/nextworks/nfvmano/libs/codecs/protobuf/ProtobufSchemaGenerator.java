@@ -0,0 +1,236 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs.protobuf;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+/**
+ * Generates the protobuf3 schema of an element of the information model
+ * from the same Jackson metadata used for the JSON encoding, so that the 
+ * two encodings always carry the same properties.
+ * 
+ * Field numbers are taken from the index attribute of JsonProperty when 
+ * present, otherwise from the persisted field numbers (see ProtobufFieldNumbers), 
+ * so that they do not change when the information model evolves. Properties 
+ * without a field number and duplicate field numbers are rejected.
+ * 
+ * @author nextworks
+ *
+ */
+public class ProtobufSchemaGenerator {
+
+	private final ObjectMapper mapper;
+	private final ProtobufFieldNumbers fieldNumbers;
+	
+	/**
+	 * @param mapper the JSON mapper configured for the information model
+	 */
+	public ProtobufSchemaGenerator(ObjectMapper mapper) {
+		this(mapper, ProtobufFieldNumbers.load());
+	}
+	
+	/**
+	 * @param mapper the JSON mapper configured for the information model
+	 * @param fieldNumbers the persisted field numbers
+	 */
+	public ProtobufSchemaGenerator(ObjectMapper mapper, ProtobufFieldNumbers fieldNumbers) {
+		this.mapper = mapper;
+		this.fieldNumbers = fieldNumbers;
+	}
+	
+	/**
+	 * Generates the schema of an element.
+	 * 
+	 * @param type class of the element
+	 * @return the schema
+	 * @throws IllegalArgumentException if the class cannot be mapped on a protobuf message
+	 */
+	public ProtobufSchema generate(Class<?> type) {
+		return generate(type, false);
+	}
+	
+	/**
+	 * Generates the schema of an element, assigning new field numbers to the 
+	 * properties without a field number. The new numbers are added to the
+	 * field numbers of the generator, to be stored in the field numbers file
+	 * of the module defining the element.
+	 * 
+	 * @param type class of the element
+	 * @return the schema
+	 * @throws IllegalArgumentException if the class cannot be mapped on a protobuf message
+	 */
+	public ProtobufSchema assignFieldNumbers(Class<?> type) {
+		return generate(type, true);
+	}
+	
+	private ProtobufSchema generate(Class<?> type, boolean assign) {
+		Generation g = new Generation(assign);
+		JavaType javaType = mapper.constructType(type);
+		if (!isMessage(javaType)) throw new IllegalArgumentException("Class " + type.getName() + " cannot be mapped on a protobuf message");
+		ProtobufMessage root = g.message(javaType);
+		return new ProtobufSchema(root, new ArrayList<>(g.messages.values()));
+	}
+	
+	private boolean isMessage(JavaType type) {
+		Class<?> raw = type.getRawClass();
+		if (type.isContainerType() || type.isPrimitive() || type.isAbstract() || type.isEnumType()) return false;
+		if (JsonNode.class.isAssignableFrom(raw) || raw == Object.class) return false;
+		if (raw.getName().startsWith("java.") || raw.getName().startsWith("javax.")) return false;
+		BeanDescription desc = mapper.getSerializationConfig().introspect(type);
+		if (desc.findAnyGetter() != null) return false;
+		for (BeanPropertyDefinition p : desc.findProperties()) {
+			if (p.couldSerialize()) return true;
+		}
+		return false;
+	}
+	
+	private class Generation {
+		
+		private final Map<Class<?>, ProtobufMessage> messages = new LinkedHashMap<>();
+		private final Set<String> names = new HashSet<>();
+		private final boolean assign;
+		
+		Generation(boolean assign) {
+			this.assign = assign;
+		}
+		
+		ProtobufMessage message(JavaType type) {
+			Class<?> raw = type.getRawClass();
+			ProtobufMessage m = messages.get(raw);
+			if (m != null) return m;
+			String name = raw.getSimpleName();
+			for (int i = 2; !names.add(name); i++) name = raw.getSimpleName() + i;
+			m = new ProtobufMessage(name, raw);
+			messages.put(raw, m);
+			
+			List<BeanPropertyDefinition> properties = new ArrayList<>();
+			int maxIndex = 0;
+			for (BeanPropertyDefinition p : mapper.getSerializationConfig().introspect(type).findProperties()) {
+				if (!p.couldSerialize()) continue;
+				properties.add(p);
+				Integer index = p.getMetadata().getIndex();
+				if (index != null) maxIndex = Math.max(maxIndex, index);
+			}
+			properties.sort(Comparator.comparing(BeanPropertyDefinition::getName));
+			Map<Integer, String> numbers = new HashMap<>();
+			List<ProtobufField> fields = new ArrayList<>();
+			for (BeanPropertyDefinition p : properties) {
+				int number = number(raw, p, maxIndex + 1);
+				if (!ProtobufFieldNumbers.isValidNumber(number)) {
+					throw new IllegalArgumentException("Invalid protobuf field number " + number + " for property " + p.getName() + " of " + raw.getName());
+				}
+				String previous = numbers.put(number, p.getName());
+				if (previous != null) {
+					throw new IllegalArgumentException("Duplicate protobuf field number " + number + " for properties " 
+							+ previous + " and " + p.getName() + " of " + raw.getName());
+				}
+				fields.add(field(p, number));
+			}
+			fields.sort(Comparator.comparingInt(ProtobufField::getNumber));
+			for (ProtobufField f : fields) m.addField(f);
+			return m;
+		}
+		
+		private int number(Class<?> raw, BeanPropertyDefinition p, int minimum) {
+			Integer index = p.getMetadata().getIndex();
+			if (index != null) return index;
+			Integer number = fieldNumbers.getNumber(raw, p.getName());
+			if (number != null) return number;
+			if (assign) return fieldNumbers.assign(raw, p.getName(), minimum);
+			throw new IllegalArgumentException("Property " + p.getName() + " of " + raw.getName() 
+					+ " has no protobuf field number: set the index of JsonProperty or add it to " + ProtobufFieldNumbers.RESOURCE);
+		}
+		
+		private ProtobufField field(BeanPropertyDefinition p, int number) {
+			String name = p.getName();
+			JavaType type = propertyType(p);
+			AnnotatedMember accessor = p.getAccessor();
+			if ((accessor != null) && accessor.hasAnnotation(JsonSerialize.class)) {
+				return new ProtobufField(name, number, ProtobufFieldType.JSON, false, false, null);
+			}
+			if (type.isArrayType() && (type.getContentType().getRawClass() == byte.class)) {
+				return new ProtobufField(name, number, ProtobufFieldType.BYTES, false, false, null);
+			}
+			if (type.isCollectionLikeType() || type.isArrayType()) {
+				return element(name, number, type.getContentType(), true, false);
+			}
+			if (type.isMapLikeType()) {
+				return element(name, number, type.getContentType(), false, true);
+			}
+			return element(name, number, type, false, false);
+		}
+		
+		//declared type of the property, from its getter, setter, field or creator parameter
+		private JavaType propertyType(BeanPropertyDefinition p) {
+			AnnotatedMember accessor = p.getAccessor();
+			if (accessor != null) return accessor.getType();
+			AnnotatedMethod setter = p.getSetter();
+			if (setter != null) return setter.getParameterType(0);
+			return p.getMutator().getType();
+		}
+		
+		private ProtobufField element(String name, int number, JavaType type, boolean repeated, boolean map) {
+			ProtobufFieldType fieldType;
+			if (type.isContainerType()) {
+				//protobuf does not support nested repeated fields
+				return new ProtobufField(name, number, ProtobufFieldType.JSON, false, false, null);
+			}
+			fieldType = scalarType(type.getRawClass());
+			if (fieldType != null) return new ProtobufField(name, number, fieldType, repeated, map, null);
+			if (isMessage(type)) return new ProtobufField(name, number, ProtobufFieldType.MESSAGE, repeated, map, message(type));
+			return new ProtobufField(name, number, ProtobufFieldType.JSON, false, false, null);
+		}
+		
+	}
+	
+	private ProtobufFieldType scalarType(Class<?> raw) {
+		if ((raw == boolean.class) || (raw == Boolean.class)) return ProtobufFieldType.BOOL;
+		if ((raw == int.class) || (raw == Integer.class) || (raw == short.class) || (raw == Short.class) 
+				|| (raw == byte.class) || (raw == Byte.class)) return ProtobufFieldType.INT32;
+		if ((raw == long.class) || (raw == Long.class)) return ProtobufFieldType.INT64;
+		if ((raw == float.class) || (raw == Float.class)) return ProtobufFieldType.FLOAT;
+		if ((raw == double.class) || (raw == Double.class)) return ProtobufFieldType.DOUBLE;
+		if ((raw == String.class) || (raw == char.class) || (raw == Character.class) || raw.isEnum() 
+				|| (raw == UUID.class) || (raw == BigDecimal.class) || (raw == BigInteger.class)) return ProtobufFieldType.STRING;
+		if (Date.class.isAssignableFrom(raw) || Calendar.class.isAssignableFrom(raw)) {
+			return mapper.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS) ? ProtobufFieldType.INT64 : ProtobufFieldType.STRING;
+		}
+		return null;
+	}
+	
+}
@@ -0,0 +1,194 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import it.nextworks.nfvmano.libs.codecs.generators.DescriptorGenerator;
+import it.nextworks.nfvmano.libs.codecs.generators.MessageGenerator;
+import it.nextworks.nfvmano.libs.common.InterfaceMessage;
+import it.nextworks.nfvmano.libs.common.diff.PatchOperation;
+import it.nextworks.nfvmano.libs.common.enums.SerializerType;
+import it.nextworks.nfvmano.libs.common.exceptions.FailedOperationException;
+
+/**
+ * Round trip conformance of the SMILE, CBOR and PROTOBUF3 codecs against the 
+ * JSON encoding, for all the messages of the IFA05, IFA07 and IFA13 interfaces,
+ * for generated NSDs, VNFDs and NS instances and for large generated query 
+ * responses, grant requests and notifications.
+ * 
+ * The messages are discovered in the classpath and instantiated through their 
+ * default constructor.
+ * 
+ * @author nextworks
+ *
+ */
+@RunWith(Parameterized.class)
+public class CodecConformanceTest {
+
+	private static final String[] MESSAGE_PACKAGES = {
+			"it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages",
+			"it.nextworks.nfvmano.libs.orvnfm.vnflcm.interfaces.messages",
+			"it.nextworks.nfvmano.libs.orvnfm.grant.interfaces.messages",
+			"it.nextworks.nfvmano.libs.osmanfvo.nslcm.interfaces.messages"
+	};
+	
+	private static final SerializerType[] SERIALIZER_TYPES = { SerializerType.SMILE, SerializerType.CBOR, SerializerType.PROTOBUF3 };
+	
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	private static final CodecRegistry REGISTRY = new CodecRegistry(MAPPER);
+	private static final RoundTripConformance CONFORMANCE = new RoundTripConformance(REGISTRY, MAPPER);
+	
+	private final SerializerType serializerType;
+	private final Object message;
+	
+	public CodecConformanceTest(SerializerType serializerType, String name, Object message) {
+		this.serializerType = serializerType;
+		this.message = message;
+	}
+	
+	@Parameters(name = "{0} {1}")
+	public static Collection<Object[]> parameters() throws Exception {
+		Map<String, Object> samples = new TreeMap<>();
+		ClassLoader loader = CodecConformanceTest.class.getClassLoader();
+		for (String messagePackage : MESSAGE_PACKAGES) {
+			for (Class<?> messageClass : findMessageClasses(loader, messagePackage)) {
+				samples.put(messageClass.getName(), messageClass.newInstance());
+			}
+		}
+		DescriptorGenerator descriptorGenerator = new DescriptorGenerator(MAPPER, 20, 3, 3);
+		MessageGenerator messageGenerator = new MessageGenerator(MAPPER, descriptorGenerator);
+		samples.put("generated Nsd", descriptorGenerator.nsd());
+		samples.put("generated Vnfd", descriptorGenerator.vnfd());
+		samples.put("generated NsInfo", descriptorGenerator.nsInfo(3));
+		samples.put("generated GrantVnfLifecycleOperationRequest", descriptorGenerator.grantRequest());
+		samples.put("generated NsLifecycleChangeNotification", messageGenerator.nsLifecycleChangeNotification(20, 3));
+		samples.put("generated QueryComputeResponse", messageGenerator.queryComputeResponse(1000));
+		samples.put("generated QueryNsResponse", messageGenerator.queryNsResponse(100, 3));
+		
+		List<Object[]> result = new ArrayList<>();
+		for (SerializerType serializerType : SERIALIZER_TYPES) {
+			for (Map.Entry<String, Object> sample : samples.entrySet()) {
+				result.add(new Object[] { serializerType, sample.getKey(), sample.getValue() });
+			}
+		}
+		return result;
+	}
+	
+	@Test
+	public void roundTripMatchesJson() throws Exception {
+		List<PatchOperation> differences = CONFORMANCE.check(message, serializerType);
+		assertTrue(differences.toString(), differences.isEmpty());
+	}
+	
+	@Test
+	public void encodingInBufferMatchesEncoding() throws Exception {
+		Codec codec = REGISTRY.getCodec(serializerType);
+		ByteBuffer expected = codec.encode(message);
+		int size = expected.remaining();
+		for (ByteBuffer target : new ByteBuffer[] { ByteBuffer.allocate(size + 8), ByteBuffer.allocateDirect(size + 8) }) {
+			target.position(3);
+			assertEquals(size, codec.encode(message, target));
+			assertEquals(3 + size, target.position());
+			target.flip();
+			target.position(3);
+			assertEquals(expected, target);
+		}
+		if (size == 0) return;
+		ByteBuffer small = ByteBuffer.allocate(size + 2);
+		small.position(3);
+		try {
+			codec.encode(message, small);
+			fail("Encoded " + size + " bytes in a buffer with " + (size - 1) + " bytes remaining");
+		} catch (FailedOperationException e) {
+			assertEquals(3, small.position());
+		}
+	}
+	
+	private static List<Class<?>> findMessageClasses(ClassLoader loader, String packageName) 
+			throws IOException, URISyntaxException, ClassNotFoundException {
+		String path = packageName.replace('.', '/');
+		List<String> classNames = new ArrayList<>();
+		Enumeration<URL> resources = loader.getResources(path);
+		while (resources.hasMoreElements()) {
+			URL url = resources.nextElement();
+			if (url.getProtocol().equals("jar")) {
+				JarFile jar = ((JarURLConnection) url.openConnection()).getJarFile();
+				for (JarEntry entry : Collections.list(jar.entries())) {
+					String name = entry.getName();
+					if (name.startsWith(path + "/") && name.endsWith(".class")) {
+						classNames.add(name.substring(0, name.length() - 6).replace('/', '.'));
+					}
+				}
+			} else if (url.getProtocol().equals("file")) {
+				collectClassNames(new File(url.toURI()), packageName, classNames);
+			}
+		}
+		List<Class<?>> classes = new ArrayList<>();
+		for (String className : classNames) {
+			if (className.contains("$")) continue;
+			Class<?> c = Class.forName(className, false, loader);
+			if (!InterfaceMessage.class.isAssignableFrom(c)) continue;
+			if (c.isInterface() || Modifier.isAbstract(c.getModifiers())) continue;
+			try {
+				if (!Modifier.isPublic(c.getConstructor().getModifiers())) continue;
+			} catch (NoSuchMethodException e) {
+				continue;
+			}
+			classes.add(c);
+		}
+		return classes;
+	}
+	
+	private static void collectClassNames(File directory, String packageName, List<String> classNames) {
+		File[] files = directory.listFiles();
+		if (files == null) return;
+		for (File file : files) {
+			if (file.isDirectory()) {
+				collectClassNames(file, packageName + "." + file.getName(), classNames);
+			} else if (file.getName().endsWith(".class")) {
+				classNames.add(packageName + "." + file.getName().substring(0, file.getName().length() - 6));
+			}
+		}
+	}
+	
+}
@@ -0,0 +1,83 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import it.nextworks.nfvmano.libs.common.diff.PatchOperation;
+import it.nextworks.nfvmano.libs.common.elements.Filter;
+import it.nextworks.nfvmano.libs.common.elements.ResourceHandle;
+import it.nextworks.nfvmano.libs.common.enums.SerializerType;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+
+/**
+ * Round trip of the common elements and messages through all the codecs 
+ * of the default registry, compared with the JSON encoding.
+ * 
+ * @author nextworks
+ *
+ */
+@RunWith(Parameterized.class)
+public class CodecRoundTripTest {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	private static final RoundTripConformance CONFORMANCE = new RoundTripConformance(new CodecRegistry(MAPPER), MAPPER);
+	
+	private final SerializerType serializerType;
+	private final Object element;
+	
+	public CodecRoundTripTest(SerializerType serializerType, String name, Object element) {
+		this.serializerType = serializerType;
+		this.element = element;
+	}
+	
+	@Parameters(name = "{0} {1}")
+	public static Collection<Object[]> parameters() {
+		Map<String, String> parameters = new HashMap<>();
+		parameters.put("vimId", "vim-1");
+		parameters.put("zoneId", "zone-1");
+		List<Object> elements = Arrays.asList(
+				new ResourceHandle("vim-1", "provider-1", "resource-1", "compute"),
+				new GeneralizedQueryRequest(new Filter(parameters), Arrays.asList("computeId", "zoneId"), 100, "cursor-1"),
+				new GeneralizedQueryRequest(new Filter(new HashMap<>()), null));
+		List<Object[]> result = new ArrayList<>();
+		for (SerializerType serializerType : new CodecRegistry(MAPPER).getSupportedTypes()) {
+			for (Object element : elements) result.add(new Object[] { serializerType, element.getClass().getSimpleName(), element });
+		}
+		return result;
+	}
+	
+	@Test
+	public void roundTripMatchesJson() throws Exception {
+		List<PatchOperation> differences = CONFORMANCE.check(element, serializerType);
+		assertTrue(differences.toString(), differences.isEmpty());
+	}
+	
+}
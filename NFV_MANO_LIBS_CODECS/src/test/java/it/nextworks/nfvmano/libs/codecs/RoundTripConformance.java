@@ -0,0 +1,107 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import it.nextworks.nfvmano.libs.common.diff.DescriptorDiff;
+import it.nextworks.nfvmano.libs.common.diff.ElementKeys;
+import it.nextworks.nfvmano.libs.common.diff.PatchOperation;
+import it.nextworks.nfvmano.libs.common.enums.SerializerType;
+import it.nextworks.nfvmano.libs.common.exceptions.FailedOperationException;
+import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.exceptions.MethodNotImplementedException;
+
+/**
+ * Conformance check of the codecs against the JSON encoding of the information model.
+ * 
+ * An element is encoded and decoded with the codec under test, and the JSON tree
+ * of the decoded element is compared with the JSON tree of the original one. 
+ * Any difference is reported as the patch operations transforming the expected
+ * tree into the actual one, so that a codec conforms for the element when no 
+ * operation is returned.
+ * 
+ * @author nextworks
+ *
+ */
+public class RoundTripConformance {
+
+	private final CodecRegistry registry;
+	private final ObjectMapper mapper;
+	private final DescriptorDiff diff;
+	
+	/**
+	 * @param registry the registry of the codecs under test
+	 * @param mapper the JSON mapper configured for the information model
+	 */
+	public RoundTripConformance(CodecRegistry registry, ObjectMapper mapper) {
+		this.registry = registry;
+		this.mapper = mapper;
+		this.diff = new DescriptorDiff(mapper, ElementKeys.defaults());
+	}
+	
+	/**
+	 * Checks the round trip of an element through the codec of the given format.
+	 * 
+	 * @param element the element to be checked
+	 * @param serializerType the format under test
+	 * @return the differences between the JSON trees of the original and of the decoded element
+	 * @throws MethodNotImplementedException if no codec is available for the format
+	 * @throws FailedOperationException if the element cannot be encoded
+	 * @throws MalformattedElementException if the encoded element cannot be decoded
+	 */
+	public List<PatchOperation> check(Object element, SerializerType serializerType) 
+			throws MethodNotImplementedException, FailedOperationException, MalformattedElementException {
+		Codec codec = registry.getCodec(serializerType);
+		ByteBuffer encoded = codec.encode(element);
+		Object decoded = codec.decode(encoded, element.getClass());
+		JsonNode expected = mapper.valueToTree(element);
+		JsonNode actual = mapper.valueToTree(decoded);
+		if (expected.equals(actual)) return new ArrayList<>();
+		return diff.diff(expected, actual);
+	}
+	
+	/**
+	 * Checks the round trip of an element through all the registered codecs.
+	 * Codecs failing to encode or decode the element are reported with a 
+	 * single REPLACE operation on the root, carrying the error message.
+	 * 
+	 * @param element the element to be checked
+	 * @return the differences found for each format, only for the formats not conforming
+	 */
+	public Map<SerializerType, List<PatchOperation>> checkAll(Object element) {
+		Map<SerializerType, List<PatchOperation>> result = new EnumMap<>(SerializerType.class);
+		for (SerializerType serializerType : registry.getSupportedTypes()) {
+			List<PatchOperation> differences;
+			try {
+				differences = check(element, serializerType);
+			} catch (MethodNotImplementedException | FailedOperationException | MalformattedElementException e) {
+				differences = new ArrayList<>();
+				differences.add(new PatchOperation(PatchOperation.Type.REPLACE, new ArrayList<>(), mapper.getNodeFactory().textNode(e.getMessage())));
+			}
+			if (!differences.isEmpty()) result.put(serializerType, differences);
+		}
+		return result;
+	}
+	
+}
@@ -0,0 +1,436 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs.generators;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import it.nextworks.nfvmano.libs.common.enums.InstantiationState;
+import it.nextworks.nfvmano.libs.descriptors.appd.Appd;
+import it.nextworks.nfvmano.libs.descriptors.nsd.Nsd;
+import it.nextworks.nfvmano.libs.descriptors.vnfd.Vnfd;
+import it.nextworks.nfvmano.libs.orvnfm.grant.interfaces.messages.GrantVnfLifecycleOperationRequest;
+import it.nextworks.nfvmano.libs.records.nsinfo.NsInfo;
+
+/**
+ * Generator of valid descriptors, records and messages of parametric size,
+ * used as payloads by the codec conformance tests and by the benchmarks.
+ * 
+ * The elements are built as JSON trees and then converted with the mapper,
+ * so that the generator does not depend on the constructors of the model.
+ * The generated NSD has one deployment flavour with the given number of 
+ * VNF profiles, virtual links and instantiation levels; each VNF is connected
+ * to the management VL, exposed through a SAP, and to a data VL. The same 
+ * sizes are used for the VDUs, internal VLs and levels of VNFDs and AppDs.
+ * 
+ * @author nextworks
+ *
+ */
+public class DescriptorGenerator {
+
+	public static final String NS_DF_ID = "ns_df";
+	public static final String VNF_DF_ID = "vnf_df";
+	
+	private final ObjectMapper mapper;
+	private final int vnfs;
+	private final int vls;
+	private final int levels;
+	
+	/**
+	 * @param mapper mapper used to build the elements
+	 * @param vnfs number of VNFs in the NSD, VDUs in the VNFD, resources in the grant request
+	 * @param vls number of virtual links, at least 1
+	 * @param levels number of instantiation levels, at least 1
+	 */
+	public DescriptorGenerator(ObjectMapper mapper, int vnfs, int vls, int levels) {
+		if ((vnfs < 1) || (vls < 1) || (levels < 1)) throw new IllegalArgumentException("Sizes must be positive");
+		this.mapper = mapper;
+		this.vnfs = vnfs;
+		this.vls = vls;
+		this.levels = levels;
+	}
+	
+	public static String vnfdId(int i) {
+		return "vnfd_" + i;
+	}
+	
+	public static String levelId(int k) {
+		return "il_" + k;
+	}
+	
+	public Nsd nsd() {
+		return build(nsdTree(), Nsd.class);
+	}
+	
+	public Vnfd vnfd() {
+		return build(vnfdTree(), Vnfd.class);
+	}
+	
+	public Appd appd() {
+		return build(appdTree(), Appd.class);
+	}
+	
+	public GrantVnfLifecycleOperationRequest grantRequest() {
+		return build(grantRequestTree(), GrantVnfLifecycleOperationRequest.class);
+	}
+	
+	/**
+	 * Builds an NS instance with the given number of instances for each VNF of the NSD.
+	 * 
+	 * @param instancesPerVnf number of VNF instances for each VNFD
+	 * @return the NS info
+	 */
+	public NsInfo nsInfo(int instancesPerVnf) {
+		List<String> vnfInfoIds = new ArrayList<>();
+		for (int i = 0; i < vnfs; i++) {
+			for (int j = 0; j < instancesPerVnf; j++) vnfInfoIds.add(vnfInfoId(i, j));
+		}
+		Map<String, String> configurationParameters = new HashMap<>();
+		configurationParameters.put("tenant_network", "tenant_net");
+		NsInfo nsInfo = new NsInfo("ns_instance", "ns_name", "generated NS instance", "nsd", NS_DF_ID, 
+				vnfInfoIds, null, InstantiationState.INSTANTIATED, null, null, "tenant", configurationParameters);
+		for (int i = 0; i < vnfs; i++) {
+			for (int j = 0; j < instancesPerVnf; j++) nsInfo.addVnfInfo(vnfInfoId(i, j), j, vnfdId(i));
+		}
+		return nsInfo;
+	}
+	
+	public static String vnfInfoId(int vnf, int index) {
+		return "vnf_info_" + vnf + "_" + index;
+	}
+	
+	public ObjectNode nsdTree() {
+		ObjectNode nsd = mapper.createObjectNode();
+		nsd.put("nsdIdentifier", "nsd");
+		nsd.put("designer", "nextworks");
+		nsd.put("version", "1.0");
+		nsd.put("nsdName", "generated NSD");
+		nsd.put("nsdInvariantId", "nsd_invariant");
+		ArrayNode vnfdIds = nsd.putArray("vnfdId");
+		for (int i = 0; i < vnfs; i++) vnfdIds.add(vnfdId(i));
+		
+		ObjectNode sapd = nsd.putArray("sapd").addObject();
+		sapd.put("cpdId", "sap_mgmt");
+		sapd.put("layerProtocol", "IPV4");
+		sapd.put("cpRole", "ROOT");
+		sapd.put("description", "management SAP");
+		sapd.put("nsVirtualLinkDescId", "vld_0");
+		sapd.put("sapAddressAssignment", false);
+		addressData(sapd.putArray("addressData"));
+		
+		ArrayNode vlds = nsd.putArray("virtualLinkDesc");
+		for (int j = 0; j < vls; j++) {
+			ObjectNode vld = vlds.addObject();
+			vld.put("virtualLinkDescId", "vld_" + j);
+			vld.put("virtualLinkDescProvider", "nextworks");
+			vld.put("virtuaLinkDescVersion", "1.0");
+			vld.put("description", "virtual link " + j);
+			connectivityType(vld.putObject("connectivityType"));
+			virtualLinkDf(vld.putArray("virtualLinkDf").addObject(), "vl_df_" + j);
+		}
+		
+		ObjectNode df = nsd.putArray("nsDf").addObject();
+		df.put("nsDfId", NS_DF_ID);
+		df.put("flavourKey", "ns_df_key");
+		df.put("defaultNsInstantiationLevelId", levelId(0));
+		ArrayNode vnfProfiles = df.putArray("vnfProfile");
+		for (int i = 0; i < vnfs; i++) {
+			ObjectNode p = vnfProfiles.addObject();
+			p.put("vnfProfileId", "vnfp_" + i);
+			p.put("vnfdId", vnfdId(i));
+			p.put("flavourId", VNF_DF_ID);
+			p.put("instantiationLevel", levelId(0));
+			p.put("minNumberOfInstances", 1);
+			p.put("maxNumberOfInstances", levels);
+			ArrayNode conns = p.putArray("nsVirtualLinkConnectivity");
+			vlConnectivity(conns.addObject(), "vlp_0", "vnf_" + i + "_mgmt_cp");
+			if (vls > 1) vlConnectivity(conns.addObject(), "vlp_" + (1 + i % (vls - 1)), "vnf_" + i + "_data_cp");
+		}
+		ArrayNode vlProfiles = df.putArray("virtualLinkProfile");
+		for (int j = 0; j < vls; j++) {
+			ObjectNode p = vlProfiles.addObject();
+			p.put("virtualLinkProfileId", "vlp_" + j);
+			p.put("virtualLinkDescId", "vld_" + j);
+			p.put("flavourId", "vl_df_" + j);
+			bitrate(p.putObject("minBitrateRequirements"));
+			bitrate(p.putObject("maxBitrateRequirements"));
+		}
+		ArrayNode nsLevels = df.putArray("nsInstantiationLevel");
+		for (int k = 0; k < levels; k++) {
+			ObjectNode l = nsLevels.addObject();
+			l.put("nsLevelId", levelId(k));
+			l.put("description", "instantiation level " + k);
+			ArrayNode vnfMappings = l.putArray("vnfToLevelMapping");
+			for (int i = 0; i < vnfs; i++) {
+				ObjectNode m = vnfMappings.addObject();
+				m.put("vnfProfileId", "vnfp_" + i);
+				m.put("numberOfInstances", k + 1);
+			}
+			ArrayNode vlMappings = l.putArray("virtualLinkToLevelMapping");
+			for (int j = 0; j < vls; j++) {
+				ObjectNode m = vlMappings.addObject();
+				m.put("virtualLinkProfileId", "vlp_" + j);
+				bitrate(m.putObject("bitRateRequirements"));
+			}
+		}
+		ArrayNode dependencies = df.putArray("dependencies");
+		for (int i = 1; i < vnfs; i++) {
+			ObjectNode d = dependencies.addObject();
+			d.putArray("primaryId").add("vnfp_" + (i - 1));
+			d.putArray("secondaryId").add("vnfp_" + i);
+		}
+		
+		ObjectNode security = nsd.putObject("security");
+		security.put("signature", "signature");
+		security.put("algorithm", "SHA-256");
+		security.put("certificate", "certificate");
+		return nsd;
+	}
+	
+	public ObjectNode vnfdTree() {
+		ObjectNode vnfd = mapper.createObjectNode();
+		vnfd.put("vnfdId", vnfdId(0));
+		vnfd.put("vnfProvider", "nextworks");
+		vnfd.put("vnfProductName", "generated VNF");
+		vnfd.put("vnfSoftwareVersion", "1.0");
+		vnfd.put("vnfdVersion", "1.0");
+		vnfd.putArray("vnfmInfo").add("vnfm");
+		
+		ArrayNode vdus = vnfd.putArray("vdu");
+		ArrayNode computes = vnfd.putArray("virtualComputeDesc");
+		ArrayNode storages = vnfd.putArray("virtualStorageDesc");
+		for (int i = 0; i < vnfs; i++) {
+			ObjectNode vdu = vdus.addObject();
+			vdu.put("vduId", "vdu_" + i);
+			vdu.put("name", "vdu " + i);
+			vdu.put("description", "generated VDU " + i);
+			vdu.put("virtualComputeDesc", "vcd_" + i);
+			vdu.putArray("virtualStorageDesc").add("vsd_" + i);
+			ObjectNode cpd = vdu.putArray("intCpd").addObject();
+			cpd.put("cpdId", "vdu_" + i + "_cp");
+			cpd.put("layerProtocol", "IPV4");
+			cpd.put("intVirtualLinkDesc", "int_vld_" + (i % vls));
+			addressData(cpd.putArray("addressData"));
+			ObjectNode image = vdu.putObject("swImageDesc");
+			image.put("id", "image_" + i);
+			image.put("name", "image " + i);
+			image.put("version", "1.0");
+			image.put("checksum", "d41d8cd98f00b204e9800998ecf8427e");
+			image.put("containerFormat", "bare");
+			image.put("diskFormat", "qcow2");
+			image.put("minDisk", 10);
+			image.put("minRam", 2);
+			image.put("size", 1);
+			image.put("swImage", "image_" + i + ".qcow2");
+			
+			ObjectNode compute = computes.addObject();
+			compute.put("virtualComputeDescId", "vcd_" + i);
+			ObjectNode cpu = compute.putObject("virtualCpu");
+			cpu.put("cpuArchitecture", "x86_64");
+			cpu.put("numVirtualCpu", 2);
+			ObjectNode memory = compute.putObject("virtualMemory");
+			memory.put("virtualMemSize", 4096);
+			memory.put("numaEnabled", false);
+			
+			ObjectNode storage = storages.addObject();
+			storage.put("id", "vsd_" + i);
+			storage.put("typeOfStorage", "VOLUME");
+			storage.put("sizeOfStorage", 10);
+			storage.put("swImageDesc", "image_" + i);
+		}
+		
+		ArrayNode vlds = vnfd.putArray("intVirtualLinkDesc");
+		for (int j = 0; j < vls; j++) {
+			ObjectNode vld = vlds.addObject();
+			vld.put("virtualLinkDescId", "int_vld_" + j);
+			vld.put("description", "internal virtual link " + j);
+			connectivityType(vld.putObject("connectivityType"));
+			virtualLinkDf(vld.putArray("virtualLinkDescFlavour").addObject(), "int_vl_df_" + j);
+		}
+		
+		ObjectNode extCpd = vnfd.putArray("vnfExtCpd").addObject();
+		extCpd.put("cpdId", "vnf_mgmt_cp");
+		extCpd.put("layerProtocol", "IPV4");
+		extCpd.put("intCpd", "vdu_0_cp");
+		addressData(extCpd.putArray("addressData"));
+		
+		ObjectNode df = vnfd.putArray("deploymentFlavour").addObject();
+		df.put("flavourId", VNF_DF_ID);
+		df.put("description", "generated VNF DF");
+		df.put("defaultInstantiationLevelId", levelId(0));
+		ArrayNode vduProfiles = df.putArray("vduProfile");
+		for (int i = 0; i < vnfs; i++) {
+			ObjectNode p = vduProfiles.addObject();
+			p.put("vduId", "vdu_" + i);
+			p.put("minNumberOfInstances", 1);
+			p.put("maxNumberOfInstances", levels);
+		}
+		ArrayNode vlProfiles = df.putArray("virtualLinkProfile");
+		for (int j = 0; j < vls; j++) {
+			ObjectNode p = vlProfiles.addObject();
+			p.put("virtualLinkProfileId", "int_vlp_" + j);
+			p.put("virtualLinkDescId", "int_vld_" + j);
+			p.put("flavourId", "int_vl_df_" + j);
+			bitrate(p.putObject("minBitrateRequirements"));
+			bitrate(p.putObject("maxBitrateRequirements"));
+		}
+		ArrayNode vnfLevels = df.putArray("instantiationLevel");
+		for (int k = 0; k < levels; k++) {
+			ObjectNode l = vnfLevels.addObject();
+			l.put("levelId", levelId(k));
+			l.put("description", "instantiation level " + k);
+			ArrayNode vduLevels = l.putArray("vduLevel");
+			for (int i = 0; i < vnfs; i++) {
+				ObjectNode vl = vduLevels.addObject();
+				vl.put("vduId", "vdu_" + i);
+				vl.put("numberOfInstances", k + 1);
+			}
+		}
+		ObjectNode lcmConfig = df.putObject("vnfLcmOperationsConfiguration");
+		lcmConfig.putObject("instantiateVnfOpConfig").putArray("parameter").add("param");
+		lcmConfig.putObject("scaleVnfToLevelOpConfig").put("arbitraryTargetLevelsSupported", true);
+		
+		ObjectNode modifiable = vnfd.putObject("modifiableAttributes");
+		modifiable.putObject("metadata").put("owner", "nextworks");
+		modifiable.putObject("extension").put("monitoring", "enabled");
+		return vnfd;
+	}
+	
+	public ObjectNode appdTree() {
+		ObjectNode appd = mapper.createObjectNode();
+		appd.put("appDId", "appd");
+		appd.put("appName", "appd");
+		appd.put("appProvider", "nextworks");
+		appd.put("appSoftVersion", "1.0");
+		appd.put("appDVersion", "1.0");
+		appd.putArray("mecVersion").add("1.1.1");
+		appd.put("appDescription", "generated application");
+		ObjectNode compute = appd.putObject("virtualComputeDescriptor");
+		compute.put("virtualComputeDescId", "app_vcd");
+		compute.putObject("virtualCpu").put("numVirtualCpu", 2);
+		compute.putObject("virtualMemory").put("virtualMemSize", 2048);
+		ObjectNode image = appd.putObject("swImageDescriptor");
+		image.put("id", "app_image");
+		image.put("name", "app image");
+		image.put("version", "1.0");
+		image.put("checksum", "d41d8cd98f00b204e9800998ecf8427e");
+		image.put("swImage", "app_image.qcow2");
+		ArrayNode extCpds = appd.putArray("appExtCpd");
+		for (int j = 0; j < vls; j++) {
+			ObjectNode cpd = extCpds.addObject();
+			cpd.put("cpdId", "app_cp_" + j);
+			cpd.put("layerProtocol", "IPV4");
+			addressData(cpd.putArray("addressData"));
+		}
+		ArrayNode trafficRules = appd.putArray("appTrafficRule");
+		ArrayNode dnsRules = appd.putArray("appDNSRule");
+		for (int i = 0; i < vnfs; i++) {
+			ObjectNode rule = trafficRules.addObject();
+			rule.put("trafficRuleId", "traffic_rule_" + i);
+			rule.put("filterType", "FLOW");
+			rule.put("priority", i);
+			rule.put("action", "FORWARD_AS_IS");
+			ObjectNode filter = rule.putArray("trafficFilter").addObject();
+			filter.putArray("srcAddress").add("10.0." + (i % 256) + ".0/24");
+			filter.putArray("dstPort").add(String.valueOf(8000 + i));
+			ObjectNode dns = dnsRules.addObject();
+			dns.put("dnsRuleId", "dns_rule_" + i);
+			dns.put("domainName", "app" + i + ".mec");
+			dns.put("ipAddressType", "IPv4");
+			dns.put("ipAddress", "10.0." + (i % 256) + ".1");
+			dns.put("ttl", 3600);
+		}
+		ObjectNode latency = appd.putObject("appLatency");
+		latency.put("timeUnit", 1);
+		latency.put("latency", 10);
+		return appd;
+	}
+	
+	public ObjectNode grantRequestTree() {
+		ObjectNode grant = mapper.createObjectNode();
+		grant.put("vnfInstanceId", "vnf_instance");
+		grant.put("lifecycleOperationOccurrenceId", "lcm_op_occ");
+		grant.put("vnfdId", vnfdId(0));
+		grant.put("flavourId", VNF_DF_ID);
+		grant.put("lifecycleOperation", "INSTATIATE_VNF");
+		grant.put("instantiationLevelId", levelId(levels - 1));
+		ArrayNode resources = grant.putArray("addResource");
+		for (int i = 0; i < vnfs; i++) {
+			for (int k = 0; k < levels; k++) {
+				ObjectNode r = resources.addObject();
+				r.put("resourceDefinitionId", "resource_" + i + "_" + k);
+				r.put("type", "VM");
+				r.put("vduId", "vdu_" + i);
+				r.put("resourceTemplateId", "vcd_" + i);
+			}
+		}
+		ObjectNode params = grant.putObject("additionalParam");
+		params.put("tenant", "tenant");
+		params.put("zone", "zone_0");
+		return grant;
+	}
+	
+	private static void addressData(ArrayNode addressData) {
+		ObjectNode a = addressData.addObject();
+		a.put("addressType", "IP_ADDRESS");
+		a.put("iPAddressAssignment", true);
+		a.put("floatingIpActivated", false);
+		a.put("management", false);
+		a.put("iPAddressType", "IPv4");
+		a.put("numberOfIpAddress", 1);
+	}
+	
+	private static void connectivityType(ObjectNode connectivityType) {
+		connectivityType.put("layerProtocol", "IPV4");
+		connectivityType.put("flowPattern", "mesh");
+	}
+	
+	private static void virtualLinkDf(ObjectNode df, String flavourId) {
+		df.put("flavourId", flavourId);
+		ObjectNode qos = df.putObject("qos");
+		qos.put("latency", 10);
+		qos.put("packetDelayVariation", 1);
+		qos.put("packetLossRatio", 0);
+		qos.put("priority", 1);
+		bitrate(df.putObject("bitrateRequirements"));
+	}
+	
+	private static void vlConnectivity(ObjectNode connectivity, String vlProfileId, String cpdId) {
+		connectivity.put("virtualLinkProfileId", vlProfileId);
+		connectivity.putArray("cpdId").add(cpdId);
+	}
+	
+	private static void bitrate(ObjectNode bitrate) {
+		bitrate.put("root", "100");
+		bitrate.put("leaf", "100");
+	}
+	
+	private <T> T build(ObjectNode tree, Class<T> type) {
+		try {
+			return mapper.treeToValue(tree, type);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Unable to build generated " + type.getSimpleName() + ": " + e.getMessage(), e);
+		}
+	}
+	
+}
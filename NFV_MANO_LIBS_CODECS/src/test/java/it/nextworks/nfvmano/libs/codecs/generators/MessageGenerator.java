@@ -0,0 +1,170 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.codecs.generators;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import it.nextworks.nfvmano.libs.osmanfvo.nslcm.interfaces.messages.NsLifecycleChangeNotification;
+import it.nextworks.nfvmano.libs.osmanfvo.nslcm.interfaces.messages.QueryNsResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.QueryComputeResponse;
+
+/**
+ * Generator of large query responses and notifications of the IFA05 and IFA13 interfaces,
+ * used as payloads by the codec conformance tests and by the transport benchmarks.
+ * 
+ * @author nextworks
+ *
+ */
+public class MessageGenerator {
+
+	private final ObjectMapper mapper;
+	private final DescriptorGenerator descriptorGenerator;
+	
+	/**
+	 * @param mapper mapper used to build the messages
+	 * @param descriptorGenerator generator of the NS instances included in the IFA13 responses
+	 */
+	public MessageGenerator(ObjectMapper mapper, DescriptorGenerator descriptorGenerator) {
+		this.mapper = mapper;
+		this.descriptorGenerator = descriptorGenerator;
+	}
+	
+	/**
+	 * @param computes number of virtual computes in the response
+	 * @return the IFA05 query compute response
+	 */
+	public QueryComputeResponse queryComputeResponse(int computes) {
+		try {
+			return mapper.treeToValue(queryComputeResponseTree(computes), QueryComputeResponse.class);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Unable to build generated QueryComputeResponse: " + e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * @param nsInstances number of NS instances in the response
+	 * @param instancesPerVnf number of VNF instances for each VNFD of the NS instances
+	 * @return the IFA13 query NS response
+	 */
+	public QueryNsResponse queryNsResponse(int nsInstances, int instancesPerVnf) {
+		QueryNsResponse response = new QueryNsResponse();
+		for (int i = 0; i < nsInstances; i++) {
+			response.getQueryNsResult().add(descriptorGenerator.nsInfo(instancesPerVnf));
+		}
+		return response;
+	}
+	
+	/**
+	 * Builds the notification of the result of the instantiation of an NS, 
+	 * with all the VNFs and VLs of the generated NSD.
+	 * 
+	 * @param vnfs number of VNFs affected
+	 * @param vls number of VLs affected
+	 * @return the IFA13 NS lifecycle change notification
+	 */
+	public NsLifecycleChangeNotification nsLifecycleChangeNotification(int vnfs, int vls) {
+		try {
+			return mapper.treeToValue(nsLifecycleChangeNotificationTree(vnfs, vls), NsLifecycleChangeNotification.class);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Unable to build generated NsLifecycleChangeNotification: " + e.getMessage(), e);
+		}
+	}
+	
+	public ObjectNode nsLifecycleChangeNotificationTree(int vnfs, int vls) {
+		ObjectNode notification = mapper.createObjectNode();
+		notification.put("nsInstanceId", "ns_instance");
+		notification.put("lifecycleOperationOccurrenceId", "operation_1");
+		notification.put("operation", "INSTANTIATE");
+		notification.put("status", "LIFECYCLE_OPERATION_RESULT");
+		ArrayNode affectedVnf = notification.putArray("affectedVnf");
+		for (int i = 0; i < vnfs; i++) {
+			ObjectNode vnf = affectedVnf.addObject();
+			vnf.put("vnfInstanceId", DescriptorGenerator.vnfInfoId(i, 0));
+			vnf.put("vnfdId", DescriptorGenerator.vnfdId(i));
+			vnf.put("vnfProfileId", "vnf_profile_" + i);
+			vnf.put("vnfName", "vnf_" + i);
+			vnf.put("changeType", "VNF_INSTANTIATED");
+		}
+		ArrayNode affectedVl = notification.putArray("affectedVl");
+		for (int i = 0; i < vls; i++) {
+			ObjectNode vl = affectedVl.addObject();
+			vl.put("nsVirtualLinkId", "vl_instance_" + i);
+			vl.put("nsVirtualLinkDescId", "vl_" + i);
+			vl.put("vlProfileId", "vl_profile_" + i);
+			vl.put("changeType", "VL_ADDED");
+		}
+		return notification;
+	}
+	
+	public ObjectNode queryComputeResponseTree(int computes) {
+		ObjectNode response = mapper.createObjectNode();
+		ArrayNode virtualCompute = response.putArray("virtualCompute");
+		for (int i = 0; i < computes; i++) {
+			ObjectNode vc = virtualCompute.addObject();
+			vc.put("computeId", "compute_" + i);
+			vc.put("computeName", "vm_" + i);
+			vc.put("flavourId", "flavour_" + (i % 4));
+			vc.putArray("accelerationCapability").add("dpdk");
+			ObjectNode cpu = vc.putObject("virtualCpu");
+			cpu.put("cpuArchitecture", "x86_64");
+			cpu.put("numVirtualCpu", 2 << (i % 3));
+			cpu.put("cpuClock", 2400);
+			cpu.put("virtualCpuOversubscriptionPolicy", "none");
+			ObjectNode pinning = cpu.putObject("virtualCpuPinning");
+			pinning.put("cpuPinningPolicy", "STATIC");
+			pinning.putArray("cpuPinningRules").add("isolate");
+			ObjectNode memory = vc.putObject("virtualMemory");
+			memory.put("virtualMemSize", 4096);
+			memory.put("virtualMemOversubscriptionPolicy", "none");
+			memory.put("numaEnabled", (i % 2) == 0);
+			ArrayNode interfaces = vc.putArray("virtualNetworkInterface");
+			for (int n = 0; n < 3; n++) {
+				ObjectNode vni = interfaces.addObject();
+				vni.put("resourceId", "port_" + i + "_" + n);
+				vni.put("ownerId", "compute_" + i);
+				vni.put("networkId", "network_" + n);
+				vni.put("networkPortId", "port_" + i + "_" + n);
+				vni.putArray("ipAddress").add("10." + n + "." + ((i >> 8) & 255) + "." + (i & 255));
+				vni.put("typeVirtualNic", "virtio");
+				vni.put("macAddress", String.format("fa:16:3e:%02x:%02x:%02x", n, (i >> 8) & 255, i & 255));
+				vni.put("bandwidth", 1000);
+				vni.put("operationalState", "ENABLED");
+			}
+			ArrayNode disks = vc.putArray("virtualDisks");
+			ObjectNode disk = disks.addObject();
+			disk.put("storageId", "volume_" + i);
+			disk.put("storageName", "root_" + i);
+			disk.put("flavourId", "flavour_" + (i % 4));
+			disk.put("typeOfStorage", "volume");
+			disk.put("sizeOfStorage", 20);
+			disk.put("rdmaEnabled", false);
+			disk.put("ownerId", "compute_" + i);
+			disk.put("zoneId", "zone_" + (i % 2));
+			disk.put("hostId", "host_" + (i % 16));
+			disk.put("operationalState", "ENABLED");
+			vc.put("vcImageId", "image_" + (i % 8));
+			vc.put("zoneId", "zone_" + (i % 2));
+			vc.put("hostId", "host_" + (i % 16));
+			vc.put("operationalState", "ENABLED");
+			vc.putObject("metadata").put("tenant", "tenant");
+		}
+		return response;
+	}
+	
+}
@@ -16,6 +16,7 @@
 package it.nextworks.nfvmano.libs.common;
 
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.validation.Validatable;
 
 /**
  * Interface with common methods for checking the validity
@@ -24,7 +25,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  * @author nextworks
  *
  */
-public interface InterfaceInformationElement {
+public interface InterfaceInformationElement extends Validatable {
 
 	/**
 	 * Method to verify if the information element is compliant with the 
@@ -32,6 +33,7 @@ public interface InterfaceInformationElement {
 	 * 
 	 * @throws MalformattedElementException if the information element is not valid
 	 */
+	@Override
 	public void isValid() throws MalformattedElementException;
 	
 }
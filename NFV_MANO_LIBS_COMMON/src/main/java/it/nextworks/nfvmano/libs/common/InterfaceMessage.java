@@ -16,6 +16,7 @@
 package it.nextworks.nfvmano.libs.common;
 
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.validation.Validatable;
 
 /**
  * Interface with common methods for checking the validity
@@ -25,7 +26,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  * @author nextworks
  *
  */
-public interface InterfaceMessage {
+public interface InterfaceMessage extends Validatable {
 
 	/**
 	 * Method to verify if the information element is compliant with the 
@@ -33,6 +34,7 @@ public interface InterfaceMessage {
 	 * 
 	 * @throws MalformattedElementException if the information element is not valid
 	 */
+	@Override
 	public void isValid() throws MalformattedElementException;
 	
 }
@@ -0,0 +1,41 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Interface of the descriptors identified by an ID and a version 
+ * (e.g. NSD, VNFD, AppD), whose content does not change once on-boarded.
+ * 
+ * @author nextworks
+ *
+ */
+public interface VersionedDescriptor {
+
+	/**
+	 * @return the ID of the descriptor
+	 */
+	@JsonIgnore
+	public String getDescriptorId();
+	
+	/**
+	 * @return the version of the descriptor
+	 */
+	@JsonIgnore
+	public String getDescriptorVersion();
+	
+}
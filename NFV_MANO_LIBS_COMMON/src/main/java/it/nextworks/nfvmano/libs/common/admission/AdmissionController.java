@@ -0,0 +1,384 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.admission;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import it.nextworks.nfvmano.libs.common.exceptions.FailedOperationException;
+import it.nextworks.nfvmano.libs.common.exceptions.NotPermittedOperationException;
+import it.nextworks.nfvmano.libs.common.proxy.DelegatingInvocationHandler;
+
+/**
+ * Admission control of the requests received by provider interfaces 
+ * (e.g. NsLcmProviderInterface or NsdManagementProviderInterface), with rate 
+ * and concurrency limits per tenant and per operation of each tenant.
+ * 
+ * A request is admitted if:
+ * <ul>
+ * <li>the limits of its operation for its tenant (see {@link #setOperationLimits(String, AdmissionLimits)})
+ * grant a token and a slot among the requests in progress;</li>
+ * <li>the limits of its tenant (see {@link #setTenantLimits(String, AdmissionLimits)}), shared 
+ * by all the operations of the tenant, grant a token and a slot within the share of the 
+ * {@link Priority} class of the operation.</li>
+ * </ul>
+ * Requests are never queued: the requests not admitted are rejected immediately with 
+ * a NotPermittedOperationException if declared by the method, otherwise with a 
+ * FailedOperationException or, if neither is declared, a RejectedExecutionException.
+ * The rejection exceptions do not capture the stack trace.
+ * 
+ * The decorators created by the controller are dynamic proxies, resolving the tenant 
+ * of each request through a {@link TenantResolver}, e.g. a {@link ContextTenantResolver} 
+ * for the requests that do not carry their tenant. The slot of a request is released when 
+ * the method returns or, for methods returning a CompletableFuture (e.g. the 
+ * *ProviderAsync interfaces), when the future completes.
+ * 
+ * The state of at most maxTenants tenants is kept. When the limit is reached, the 
+ * idle tenants (without requests in progress and with full token buckets, i.e. whose 
+ * state is equivalent to a new one) are evicted; if no tenant is idle, the requests of 
+ * new tenants are rejected until some tenant becomes idle.
+ * 
+ * @author nextworks
+ *
+ */
+public class AdmissionController {
+	
+	public static final int DEFAULT_MAX_TENANTS = 10000;
+	
+	private static final long EVICTION_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+	
+	private final AdmissionLimits defaultTenantLimits;
+	private final Map<String, AdmissionLimits> tenantLimits = new ConcurrentHashMap<>();
+	private final Map<String, AdmissionLimits> operationLimits = new ConcurrentHashMap<>();
+	private final Map<String, Priority> priorities = new ConcurrentHashMap<>();
+	
+	private final int maxTenants;
+	private final ConcurrentMap<String, TenantState> tenants = new ConcurrentHashMap<>();
+	private long lastEviction = System.nanoTime() - EVICTION_INTERVAL_NANOS;
+	
+	private final AtomicLong admitted = new AtomicLong();
+	private final AtomicLong rejected = new AtomicLong();
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param defaultTenantLimits limits of the tenants without specific limits
+	 */
+	public AdmissionController(AdmissionLimits defaultTenantLimits) {
+		this(defaultTenantLimits, DEFAULT_MAX_TENANTS);
+	}
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param defaultTenantLimits limits of the tenants without specific limits
+	 * @param maxTenants maximum number of tenants whose state is kept
+	 */
+	public AdmissionController(AdmissionLimits defaultTenantLimits, int maxTenants) {
+		if (defaultTenantLimits == null) throw new NullPointerException("Null default tenant limits");
+		if (maxTenants <= 0) throw new IllegalArgumentException("Maximum number of tenants not positive");
+		this.defaultTenantLimits = defaultTenantLimits;
+		this.maxTenants = maxTenants;
+	}
+	
+	/**
+	 * Sets the limits of a tenant. It must be invoked before the first request of the tenant.
+	 * 
+	 * @param tenant the ID of the tenant
+	 * @param limits the limits shared by all the operations of the tenant
+	 */
+	public void setTenantLimits(String tenant, AdmissionLimits limits) {
+		tenantLimits.put(tenant, limits);
+	}
+	
+	/**
+	 * Sets the limits of an operation, applied separately to each tenant. 
+	 * It must be invoked before the first request of the operation.
+	 * 
+	 * @param operation the name of the method
+	 * @param limits the limits of the operation for each tenant
+	 */
+	public void setOperationLimits(String operation, AdmissionLimits limits) {
+		operationLimits.put(operation, limits);
+	}
+	
+	/**
+	 * Overrides the priority class of an operation, by default derived 
+	 * from the name of the method (see {@link Priority#of(String)}).
+	 * It must be invoked before decorating the interfaces.
+	 * 
+	 * @param operation the name of the method
+	 * @param priority the priority class
+	 */
+	public void setPriority(String operation, Priority priority) {
+		priorities.put(operation, priority);
+	}
+	
+	/**
+	 * @param operation the name of the method
+	 * @return the priority class of the operation
+	 */
+	public Priority getPriority(String operation) {
+		Priority priority = priorities.get(operation);
+		return (priority != null) ? priority : Priority.of(operation);
+	}
+	
+	/**
+	 * Decorates an implementation of a provider interface, applying the 
+	 * admission control to all its methods
+	 * 
+	 * @param iface the interface
+	 * @param target the implementation
+	 * @param resolver resolver of the tenants of the requests
+	 * @return the decorated implementation
+	 */
+	public <T> T decorate(Class<T> iface, T target, TenantResolver resolver) {
+		return new AdmissionInvocationHandler<>(iface, target, resolver).newProxy();
+	}
+	
+	/**
+	 * Tries to admit a request
+	 * 
+	 * @param tenant the ID of the tenant
+	 * @param operation the name of the operation
+	 * @return the permit of the request, to be released at its end, or null if the request is not admitted
+	 */
+	public Permit tryAdmit(String tenant, String operation) {
+		return tryAdmit(tenant, operation, getPriority(operation));
+	}
+	
+	/**
+	 * @return the number of admitted requests
+	 */
+	public long getAdmitted() {
+		return admitted.get();
+	}
+	
+	/**
+	 * @return the number of rejected requests
+	 */
+	public long getRejected() {
+		return rejected.get();
+	}
+	
+	/**
+	 * @return the number of tenants whose state is kept
+	 */
+	public int getTenants() {
+		return tenants.size();
+	}
+	
+	/**
+	 * @param tenant the ID of the tenant
+	 * @return the number of requests of the tenant in progress
+	 */
+	public int getInProgress(String tenant) {
+		TenantState state = tenants.get(tenant);
+		return (state != null) ? state.inProgress.get() : 0;
+	}
+	
+	private Permit tryAdmit(String tenant, String operation, Priority priority) {
+		while (true) {
+			TenantState state = tenants.get(tenant);
+			if (state == null) {
+				if ((tenants.size() >= maxTenants) && !evictIdleTenants()) break;
+				state = tenants.computeIfAbsent(tenant, this::newTenantState);
+			}
+			Limiter operationLimiter = state.operations.computeIfAbsent(operation, this::newOperationLimiter);
+			if (!operationLimiter.tryAcquire(1.0)) break;
+			if (!state.tryAcquire(priority.getShare())) {
+				operationLimiter.abort();
+				break;
+			}
+			if (!state.evicted) {
+				admitted.incrementAndGet();
+				return new Permit(state, operationLimiter);
+			}
+			//evicted meanwhile: admitted again on the new state of the tenant
+			state.abort();
+			operationLimiter.abort();
+		}
+		rejected.incrementAndGet();
+		return null;
+	}
+	
+	/**
+	 * Evicts the idle tenants, at most once per eviction interval
+	 * 
+	 * @return true if there is room for a new tenant
+	 */
+	private synchronized boolean evictIdleTenants() {
+		long now = System.nanoTime();
+		if (now - lastEviction < EVICTION_INTERVAL_NANOS) return tenants.size() < maxTenants;
+		lastEviction = now;
+		for (Map.Entry<String, TenantState> e : tenants.entrySet()) {
+			TenantState state = e.getValue();
+			//a request admitted concurrently either sees the flag or is seen as in progress
+			state.evicted = true;
+			if (state.isIdle()) tenants.remove(e.getKey(), state);
+			else state.evicted = false;
+		}
+		return tenants.size() < maxTenants;
+	}
+	
+	private TenantState newTenantState(String tenant) {
+		AdmissionLimits limits = tenantLimits.get(tenant);
+		return new TenantState((limits != null) ? limits : defaultTenantLimits);
+	}
+	
+	private Limiter newOperationLimiter(String operation) {
+		AdmissionLimits limits = operationLimits.get(operation);
+		return new Limiter((limits != null) ? limits : AdmissionLimits.UNLIMITED);
+	}
+	
+	private static class Limiter {
+		
+		final TokenBucket bucket;
+		final int maxConcurrent;
+		final AtomicInteger inProgress = new AtomicInteger();
+		
+		Limiter(AdmissionLimits limits) {
+			this.bucket = new TokenBucket(limits);
+			this.maxConcurrent = limits.getMaxConcurrent();
+		}
+		
+		boolean tryAcquire(double share) {
+			double allowed = maxConcurrent - TokenBucket.reserved(maxConcurrent, share);
+			if (inProgress.incrementAndGet() > allowed) {
+				inProgress.decrementAndGet();
+				return false;
+			}
+			if (!bucket.tryTake(share)) {
+				inProgress.decrementAndGet();
+				return false;
+			}
+			return true;
+		}
+		
+		void abort() {
+			bucket.giveBack();
+			inProgress.decrementAndGet();
+		}
+		
+		boolean isIdle() {
+			return (inProgress.get() == 0) && bucket.isFull();
+		}
+	}
+	
+	private static final class TenantState extends Limiter {
+		
+		final ConcurrentMap<String, Limiter> operations = new ConcurrentHashMap<>();
+		volatile boolean evicted;
+		
+		TenantState(AdmissionLimits limits) {
+			super(limits);
+		}
+		
+		@Override
+		boolean isIdle() {
+			if (!super.isIdle()) return false;
+			for (Limiter operation : operations.values()) {
+				if (!operation.isIdle()) return false;
+			}
+			return true;
+		}
+	}
+	
+	/**
+	 * Permit of an admitted request
+	 */
+	public static final class Permit {
+		
+		private final Limiter tenant;
+		private final Limiter operation;
+		private final AtomicBoolean released = new AtomicBoolean();
+		
+		private Permit(Limiter tenant, Limiter operation) {
+			this.tenant = tenant;
+			this.operation = operation;
+		}
+		
+		/**
+		 * Releases the slots of the request; further invocations have no effect
+		 */
+		public void release() {
+			if (!released.compareAndSet(false, true)) return;
+			operation.inProgress.decrementAndGet();
+			tenant.inProgress.decrementAndGet();
+		}
+	}
+	
+	private class AdmissionInvocationHandler<T> extends DelegatingInvocationHandler<T> {
+		
+		private final TenantResolver resolver;
+		private final Map<Method, Priority> methodPriorities = new HashMap<>();
+		
+		AdmissionInvocationHandler(Class<T> iface, T target, TenantResolver resolver) {
+			super(iface, target);
+			if (resolver == null) throw new NullPointerException("Null tenant resolver");
+			this.resolver = resolver;
+			for (Method m : iface.getMethods()) {
+				methodPriorities.put(m, getPriority(m.getName()));
+			}
+		}
+
+		@Override
+		protected Object invokeInterfaceMethod(Method method, Object[] args) throws Throwable {
+			String tenant = resolver.resolveTenant(method, args);
+			Permit permit = tryAdmit(String.valueOf(tenant), method.getName(), methodPriorities.get(method));
+			if (permit == null) throw rejection(method, tenant);
+			if (!CompletableFuture.class.isAssignableFrom(method.getReturnType())) {
+				try {
+					return proceed(method, args);
+				} finally {
+					permit.release();
+				}
+			}
+			CompletableFuture<?> result;
+			try {
+				result = (CompletableFuture<?>) proceed(method, args);
+			} catch (Throwable e) {
+				permit.release();
+				throw e;
+			}
+			if (result == null) {
+				permit.release();
+				return null;
+			}
+			result.whenComplete((response, e) -> permit.release());
+			return result;
+		}
+		
+		private Exception rejection(Method method, String tenant) {
+			String message = "Request " + method.getName() + " of tenant " + tenant + " rejected by admission control";
+			if (canThrow(method, NotPermittedOperationException.class)) return NotPermittedOperationException.stackless(message);
+			if (canThrow(method, FailedOperationException.class)) return FailedOperationException.stackless(message);
+			RejectedExecutionException e = new RejectedExecutionException(message);
+			e.setStackTrace(new StackTraceElement[0]);
+			return e;
+		}
+	}
+	
+}
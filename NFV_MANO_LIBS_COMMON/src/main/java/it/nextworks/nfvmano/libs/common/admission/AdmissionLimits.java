@@ -0,0 +1,73 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.admission;
+
+/**
+ * Limits applied by the admission control to a tenant or to an operation of a tenant:
+ * a token bucket limiting the rate of the requests and a limit on the requests in progress.
+ * 
+ * @author nextworks
+ *
+ */
+public class AdmissionLimits {
+
+	/**
+	 * Limits that admit every request
+	 */
+	public static final AdmissionLimits UNLIMITED = new AdmissionLimits(Double.POSITIVE_INFINITY, Integer.MAX_VALUE, Integer.MAX_VALUE);
+	
+	private final double requestsPerSecond;
+	private final int burst;
+	private final int maxConcurrent;
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param requestsPerSecond sustained rate of the requests
+	 * @param burst maximum number of requests admitted at once, i.e. the size of the token bucket
+	 * @param maxConcurrent maximum number of requests in progress
+	 */
+	public AdmissionLimits(double requestsPerSecond, int burst, int maxConcurrent) {
+		if (!(requestsPerSecond > 0)) throw new IllegalArgumentException("Rate not positive");
+		if (burst <= 0) throw new IllegalArgumentException("Burst not positive");
+		if (maxConcurrent <= 0) throw new IllegalArgumentException("Maximum concurrency not positive");
+		this.requestsPerSecond = requestsPerSecond;
+		this.burst = burst;
+		this.maxConcurrent = maxConcurrent;
+	}
+
+	/**
+	 * @return the requestsPerSecond
+	 */
+	public double getRequestsPerSecond() {
+		return requestsPerSecond;
+	}
+
+	/**
+	 * @return the burst
+	 */
+	public int getBurst() {
+		return burst;
+	}
+
+	/**
+	 * @return the maxConcurrent
+	 */
+	public int getMaxConcurrent() {
+		return maxConcurrent;
+	}
+	
+}
@@ -0,0 +1,83 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.admission;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tenant resolver reading the tenant from the arguments of the request, 
+ * i.e. from the first argument with a getTenantId() method returning a String
+ * (e.g. CreateNsIdentifierRequest or NsInfo). 
+ * Requests without tenant are assigned to a default tenant: requests that never 
+ * carry it, e.g. the queries with a GeneralizedQueryRequest, should be resolved 
+ * through a {@link ContextTenantResolver}, falling back to this resolver.
+ * 
+ * @author nextworks
+ *
+ */
+public class ArgumentTenantResolver implements TenantResolver {
+
+	private static final Method NONE;
+	
+	static {
+		try {
+			NONE = Object.class.getMethod("toString");
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private final String defaultTenant;
+	private final Map<Class<?>, Method> getters = new ConcurrentHashMap<>();
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param defaultTenant tenant assigned to the requests without tenant
+	 */
+	public ArgumentTenantResolver(String defaultTenant) {
+		this.defaultTenant = defaultTenant;
+	}
+	
+	@Override
+	public String resolveTenant(Method method, Object[] args) {
+		if (args == null) return defaultTenant;
+		for (Object arg : args) {
+			if (arg == null) continue;
+			Method getter = getters.computeIfAbsent(arg.getClass(), ArgumentTenantResolver::findGetter);
+			if (getter == NONE) continue;
+			try {
+				Object tenant = getter.invoke(arg);
+				if (tenant != null) return (String) tenant;
+			} catch (ReflectiveOperationException e) {
+				//not readable, the next arguments are checked
+			}
+		}
+		return defaultTenant;
+	}
+	
+	private static Method findGetter(Class<?> type) {
+		try {
+			Method getter = type.getMethod("getTenantId");
+			return (getter.getReturnType() == String.class) ? getter : NONE;
+		} catch (NoSuchMethodException e) {
+			return NONE;
+		}
+	}
+	
+}
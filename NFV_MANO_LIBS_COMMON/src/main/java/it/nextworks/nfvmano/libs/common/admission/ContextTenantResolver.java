@@ -0,0 +1,55 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.admission;
+
+import java.lang.reflect.Method;
+
+/**
+ * Tenant resolver reading the tenant from the {@link TenantContext} of the calling 
+ * thread, for the requests that do not carry their tenant (e.g. the 
+ * GeneralizedQueryRequest of the queries). The tenant of the context takes 
+ * precedence over the one resolved by the fallback resolver, if any, which is 
+ * used only for the requests issued outside a tenant scope.
+ * 
+ * The context is read by the thread invoking the decorated interface, hence the 
+ * scope must be open in the thread issuing the request, also for the methods 
+ * returning a CompletableFuture.
+ * 
+ * @author nextworks
+ *
+ */
+public class ContextTenantResolver implements TenantResolver {
+
+	private final TenantResolver fallback;
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param fallback resolver of the requests issued outside a tenant scope, 
+	 * e.g. an {@link ArgumentTenantResolver}, null if none
+	 */
+	public ContextTenantResolver(TenantResolver fallback) {
+		this.fallback = fallback;
+	}
+	
+	@Override
+	public String resolveTenant(Method method, Object[] args) {
+		String tenant = TenantContext.getTenant();
+		if ((tenant != null) || (fallback == null)) return tenant;
+		return fallback.resolveTenant(method, args);
+	}
+	
+}
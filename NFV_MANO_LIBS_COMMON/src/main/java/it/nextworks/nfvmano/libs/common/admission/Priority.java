@@ -0,0 +1,73 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.admission;
+
+/**
+ * Priority classes of the operations subject to admission control.
+ * 
+ * Each class can use only a share of the concurrency and of the rate 
+ * granted to a tenant, so that the remaining headroom is kept for the 
+ * operations of higher priority: e.g. a tenant flooding queries cannot 
+ * prevent the healing of its own NS instances.
+ * 
+ * @author nextworks
+ *
+ */
+public enum Priority {
+
+	/**
+	 * Operations restoring or releasing resources, e.g. healNs, terminateNs or deleteNsIdentifier
+	 */
+	HIGH(1.0),
+	
+	/**
+	 * Operations changing resources, e.g. instantiateNs or scaleNs
+	 */
+	NORMAL(0.8),
+	
+	/**
+	 * Queries, subscriptions and notifications
+	 */
+	LOW(0.5);
+	
+	private final double share;
+	
+	private Priority(double share) {
+		this.share = share;
+	}
+	
+	/**
+	 * @return the share of the tenant limits usable by the operations of this class
+	 */
+	public double getShare() {
+		return share;
+	}
+	
+	/**
+	 * Classifies an operation from the name of its method
+	 * 
+	 * @param operation the name of the method
+	 * @return the priority class
+	 */
+	public static Priority of(String operation) {
+		if (operation.startsWith("heal") || operation.startsWith("terminate") 
+				|| operation.startsWith("delete") || operation.startsWith("operate")) return HIGH;
+		if (operation.startsWith("query") || operation.startsWith("get") || operation.startsWith("subscribe") 
+				|| operation.startsWith("unsubscribe") || operation.startsWith("notify")) return LOW;
+		return NORMAL;
+	}
+	
+}
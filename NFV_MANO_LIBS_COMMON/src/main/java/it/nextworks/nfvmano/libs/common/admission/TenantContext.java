@@ -0,0 +1,76 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.admission;
+
+/**
+ * Tenant issuing the request handled by the current thread, e.g. set by a 
+ * northbound gateway from the authenticated principal of the incoming request, 
+ * and read by the {@link ContextTenantResolver}.
+ * 
+ * <pre>
+ * try (TenantContext.Scope scope = TenantContext.withTenant(tenantId)) {
+ *     response = nsLcm.queryNs(request);
+ * }
+ * </pre>
+ * 
+ * @author nextworks
+ *
+ */
+public class TenantContext {
+
+	private static final ThreadLocal<String> TENANT = new ThreadLocal<>();
+	
+	private TenantContext() { }
+	
+	/**
+	 * Sets the tenant of the requests issued by the current thread, 
+	 * until the returned scope is closed
+	 * 
+	 * @param tenant the ID of the tenant
+	 * @return the scope of the tenant
+	 */
+	public static Scope withTenant(String tenant) {
+		String previous = TENANT.get();
+		TENANT.set(tenant);
+		return new Scope(previous);
+	}
+	
+	/**
+	 * @return the tenant of the current thread, null if not set
+	 */
+	public static String getTenant() {
+		return TENANT.get();
+	}
+	
+	/**
+	 * Scope of a tenant, restoring the previous tenant when closed
+	 */
+	public static final class Scope implements AutoCloseable {
+		
+		private final String previous;
+		
+		private Scope(String previous) {
+			this.previous = previous;
+		}
+		
+		@Override
+		public void close() {
+			if (previous == null) TENANT.remove();
+			else TENANT.set(previous);
+		}
+	}
+	
+}
@@ -0,0 +1,37 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.admission;
+
+import java.lang.reflect.Method;
+
+/**
+ * Resolves the tenant issuing a request on a decorated interface.
+ * 
+ * @author nextworks
+ *
+ */
+public interface TenantResolver {
+
+	/**
+	 * Resolves the tenant of a request
+	 * 
+	 * @param method the invoked method
+	 * @param args the arguments of the invocation
+	 * @return the ID of the tenant, null if unknown
+	 */
+	public String resolveTenant(Method method, Object[] args);
+	
+}
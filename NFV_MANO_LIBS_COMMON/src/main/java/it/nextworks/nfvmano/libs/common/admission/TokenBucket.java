@@ -0,0 +1,87 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.admission;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket, refilled continuously at the rate of the limits.
+ * 
+ * @author nextworks
+ *
+ */
+class TokenBucket {
+
+	private final double tokensPerNano;
+	private final double capacity;
+	
+	private double tokens;
+	private long refilled;
+	
+	TokenBucket(AdmissionLimits limits) {
+		this.tokensPerNano = limits.getRequestsPerSecond() / TimeUnit.SECONDS.toNanos(1);
+		this.capacity = limits.getBurst();
+		this.tokens = capacity;
+		this.refilled = System.nanoTime();
+	}
+	
+	/**
+	 * Takes a token, provided that the given share of the capacity remains available 
+	 * to the callers of higher priority
+	 * 
+	 * @param share share of the capacity usable by the caller
+	 * @return true if the token has been taken
+	 */
+	synchronized boolean tryTake(double share) {
+		if (Double.isInfinite(tokensPerNano)) return true;
+		long now = System.nanoTime();
+		tokens = Math.min(capacity, tokens + (now - refilled) * tokensPerNano);
+		refilled = now;
+		if (tokens < reserved(capacity, share) + 1) return false;
+		tokens -= 1;
+		return true;
+	}
+	
+	/**
+	 * Computes the part of a limit reserved to the callers of higher priority
+	 * 
+	 * @param limit the limit
+	 * @param share share of the limit usable by the caller
+	 * @return the reserved part of the limit
+	 */
+	static double reserved(double limit, double share) {
+		return Math.floor(limit * (1 - share));
+	}
+	
+	/**
+	 * @return true if the bucket is full, i.e. equivalent to a new bucket
+	 */
+	synchronized boolean isFull() {
+		if (Double.isInfinite(tokensPerNano)) return true;
+		long now = System.nanoTime();
+		tokens = Math.min(capacity, tokens + (now - refilled) * tokensPerNano);
+		refilled = now;
+		return tokens >= capacity;
+	}
+	
+	/**
+	 * Returns a token taken by a request that has not been admitted
+	 */
+	synchronized void giveBack() {
+		tokens = Math.min(capacity, tokens + 1);
+	}
+	
+}
@@ -0,0 +1,175 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.async;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import it.nextworks.nfvmano.libs.common.exceptions.FailedOperationException;
+import it.nextworks.nfvmano.libs.common.exceptions.MethodNotImplementedException;
+import it.nextworks.nfvmano.libs.common.proxy.DelegatingInvocationHandler;
+
+/**
+ * Adapters between the synchronous interfaces of the libraries 
+ * (e.g. NsLcmProviderInterface) and their asynchronous variants
+ * (e.g. NsLcmProviderAsync).
+ * 
+ * Each method of an asynchronous interface has the same name and parameters
+ * of a method of the synchronous interface and returns a CompletableFuture
+ * of its (boxed) return type. The future is completed exceptionally with the 
+ * same exceptions thrown by the synchronous method, e.g. NotExistingEntityException.
+ * The correspondence of the methods is checked when the adapter is created.
+ * 
+ * @author nextworks
+ *
+ */
+public class AsyncAdapters {
+
+	private AsyncAdapters() { }
+	
+	/**
+	 * Adapts a synchronous implementation to an asynchronous interface: 
+	 * each invocation runs the synchronous method on the executor.
+	 * If the executor rejects the task, the future is completed 
+	 * exceptionally with a FailedOperationException.
+	 * 
+	 * @param syncInterface the synchronous interface
+	 * @param target the synchronous implementation
+	 * @param asyncInterface the asynchronous interface
+	 * @param executor executor running the synchronous invocations, see {@link AsyncExecutors}
+	 * @return the asynchronous implementation
+	 */
+	public static <S, A> A toAsync(Class<S> syncInterface, S target, Class<A> asyncInterface, Executor executor) {
+		Map<Method, Method> methods = mapMethods(asyncInterface, syncInterface);
+		return new DelegatingInvocationHandler<A>(asyncInterface, target) {
+			
+			@Override
+			protected Object invokeInterfaceMethod(Method method, Object[] args) throws Throwable {
+				Method syncMethod = methods.get(method);
+				CompletableFuture<Object> future = new CompletableFuture<>();
+				try {
+					executor.execute(() -> {
+						try {
+							future.complete(syncMethod.invoke(target, args));
+						} catch (InvocationTargetException e) {
+							future.completeExceptionally(e.getCause());
+						} catch (Throwable e) {
+							future.completeExceptionally(e);
+						}
+					});
+				} catch (RejectedExecutionException e) {
+					future.completeExceptionally(new FailedOperationException("Operation " + method.getName() + " rejected: too many operations in progress", e));
+				}
+				return future;
+			}
+		}.newProxy();
+	}
+	
+	/**
+	 * Adapts an asynchronous implementation to a synchronous interface: 
+	 * each invocation waits for the completion of the future.
+	 * The exceptions completing the future are thrown unchanged when declared 
+	 * by the synchronous method, otherwise they are wrapped in a 
+	 * FailedOperationException if declared, or in a CompletionException.
+	 * 
+	 * @param asyncInterface the asynchronous interface
+	 * @param target the asynchronous implementation
+	 * @param syncInterface the synchronous interface
+	 * @return the synchronous implementation
+	 */
+	public static <S, A> S toSync(Class<A> asyncInterface, A target, Class<S> syncInterface) {
+		Map<Method, Method> methods = new HashMap<>();
+		for (Map.Entry<Method, Method> e : mapMethods(asyncInterface, syncInterface).entrySet()) methods.put(e.getValue(), e.getKey());
+		for (Method m : syncInterface.getMethods()) {
+			if (!m.isDefault() && !Modifier.isStatic(m.getModifiers()) && !methods.containsKey(m))
+				throw new IllegalArgumentException("Method " + m.getName() + " of " + syncInterface.getName() 
+					+ " has no asynchronous counterpart in " + asyncInterface.getName());
+		}
+		return new DelegatingInvocationHandler<S>(syncInterface, target) {
+			
+			@Override
+			protected Object invokeInterfaceMethod(Method method, Object[] args) throws Throwable {
+				Method asyncMethod = methods.get(method);
+				if (asyncMethod == null) {
+					if (DelegatingInvocationHandler.canThrow(method, MethodNotImplementedException.class)) 
+						throw new MethodNotImplementedException("Method " + method.getName() + " not available in " + asyncInterface.getName());
+					throw new UnsupportedOperationException("Method " + method.getName() + " not available in " + asyncInterface.getName());
+				}
+				Object result;
+				try {
+					result = asyncMethod.invoke(target, args);
+				} catch (InvocationTargetException e) {
+					throw e.getCause();
+				}
+				return join(method, (CompletableFuture<?>) result);
+			}
+		}.newProxy();
+	}
+	
+	/**
+	 * Waits for the completion of a future returned by an asynchronous method,
+	 * converting its exceptions as done by {@link #toSync(Class, Object, Class)}.
+	 * 
+	 * @param syncMethod the corresponding synchronous method
+	 * @param future the future
+	 * @return the result of the future
+	 * @throws Throwable the exception to be thrown by the synchronous method
+	 */
+	static Object join(Method syncMethod, CompletableFuture<?> future) throws Throwable {
+		if (future == null) throw new FailedOperationException("Null future returned by " + syncMethod.getName());
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw failure(syncMethod, new FailedOperationException("Interrupted while waiting for " + syncMethod.getName(), e));
+		} catch (ExecutionException e) {
+			throw failure(syncMethod, e.getCause());
+		}
+	}
+	
+	private static Throwable failure(Method syncMethod, Throwable cause) {
+		while ((cause instanceof CompletionException) && cause.getCause() != null) cause = cause.getCause();
+		if (DelegatingInvocationHandler.canThrow(syncMethod, cause.getClass())) return cause;
+		if (DelegatingInvocationHandler.canThrow(syncMethod, FailedOperationException.class)) 
+			return new FailedOperationException(cause.getMessage(), cause);
+		return new CompletionException(cause);
+	}
+	
+	private static Map<Method, Method> mapMethods(Class<?> asyncInterface, Class<?> syncInterface) {
+		Map<Method, Method> methods = new HashMap<>();
+		for (Method asyncMethod : asyncInterface.getMethods()) {
+			if (Modifier.isStatic(asyncMethod.getModifiers())) continue;
+			if (!CompletableFuture.class.isAssignableFrom(asyncMethod.getReturnType()))
+				throw new IllegalArgumentException("Method " + asyncMethod.getName() + " of " + asyncInterface.getName() + " does not return a CompletableFuture");
+			try {
+				methods.put(asyncMethod, syncInterface.getMethod(asyncMethod.getName(), asyncMethod.getParameterTypes()));
+			} catch (NoSuchMethodException e) {
+				throw new IllegalArgumentException("Method " + asyncMethod.getName() + " of " + asyncInterface.getName() 
+					+ " has no synchronous counterpart in " + syncInterface.getName());
+			}
+		}
+		return methods;
+	}
+	
+}
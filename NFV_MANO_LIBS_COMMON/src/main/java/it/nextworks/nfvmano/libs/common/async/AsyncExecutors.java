@@ -0,0 +1,126 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.async;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory of the executors running the synchronous implementations 
+ * behind the asynchronous interfaces.
+ * 
+ * On a JVM supporting virtual threads (Java 21 or later) the blocking calls 
+ * towards VIMs and VNFMs can run on a virtual thread each, so that the number 
+ * of operations in progress is not limited by the platform threads. 
+ * On older JVMs a bounded pool of platform threads is used instead: 
+ * the tasks exceeding its queue are rejected rather than queued indefinitely.
+ * The libraries are compiled for Java 8, so virtual threads are looked up 
+ * by reflection.
+ * 
+ * @author nextworks
+ *
+ */
+public class AsyncExecutors {
+
+	private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = lookupVirtualThreadExecutor();
+	
+	private AsyncExecutors() { }
+	
+	/**
+	 * @return true if the JVM supports virtual threads
+	 */
+	public static boolean isVirtualThreadSupported() {
+		return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+	}
+	
+	/**
+	 * Creates an executor starting a new virtual thread for each task
+	 * 
+	 * @return the executor
+	 * @throws UnsupportedOperationException if the JVM does not support virtual threads
+	 */
+	public static ExecutorService newVirtualThreadExecutor() {
+		if (NEW_VIRTUAL_THREAD_EXECUTOR == null) throw new UnsupportedOperationException("Virtual threads not supported by the JVM");
+		try {
+			return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+		} catch (ReflectiveOperationException e) {
+			throw new UnsupportedOperationException("Unable to create virtual thread executor: " + e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * Creates a bounded pool of daemon platform threads, 
+	 * rejecting the tasks when all the threads are busy and the queue is full.
+	 * 
+	 * @param name prefix of the names of the threads
+	 * @param threads maximum number of threads
+	 * @param queueCapacity maximum number of tasks waiting for a thread
+	 * @return the executor
+	 */
+	public static ExecutorService newBoundedExecutor(String name, int threads, int queueCapacity) {
+		if (threads <= 0 || queueCapacity <= 0) throw new IllegalArgumentException("Threads and queue capacity must be positive");
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, 
+				new ArrayBlockingQueue<>(queueCapacity), new NamedThreadFactory(name), new ThreadPoolExecutor.AbortPolicy());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+	
+	/**
+	 * Creates an executor on virtual threads if supported by the JVM, 
+	 * otherwise a bounded pool of platform threads.
+	 * 
+	 * @param name prefix of the names of the platform threads
+	 * @param threads maximum number of platform threads
+	 * @param queueCapacity maximum number of tasks waiting for a platform thread
+	 * @return the executor
+	 */
+	public static ExecutorService newLcmExecutor(String name, int threads, int queueCapacity) {
+		if (isVirtualThreadSupported()) return newVirtualThreadExecutor();
+		return newBoundedExecutor(name, threads, queueCapacity);
+	}
+	
+	private static Method lookupVirtualThreadExecutor() {
+		try {
+			return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+	
+	private static class NamedThreadFactory implements ThreadFactory {
+		
+		private final String name;
+		private final AtomicInteger counter = new AtomicInteger();
+		
+		NamedThreadFactory(String name) {
+			this.name = name;
+		}
+		
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread t = new Thread(r, name + "-" + counter.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		}
+	}
+	
+}
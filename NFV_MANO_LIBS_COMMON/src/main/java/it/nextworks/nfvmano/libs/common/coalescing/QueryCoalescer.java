@@ -0,0 +1,382 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.coalescing;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import it.nextworks.nfvmano.libs.common.exceptions.FailedOperationException;
+import it.nextworks.nfvmano.libs.common.proxy.DelegatingInvocationHandler;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+
+/**
+ * Single-flight coalescing of identical concurrent queries on provider interfaces
+ * (e.g. queryNsd, queryNs, queryVnfPackageInfo or queryResourceCapacity), with an 
+ * optional short-lived cache of the responses.
+ * 
+ * The decorators created by the coalescer are dynamic proxies. When a query is 
+ * invoked while an identical one (see {@link QueryKey}) is in progress on the same 
+ * target, the caller waits for the query in progress and receives its response or
+ * its exception, instead of invoking the target again. Methods returning a 
+ * CompletableFuture (e.g. the *ProviderAsync interfaces) share the future of the
+ * query in progress. When the cache is enabled, successful responses are 
+ * also returned to the identical queries received until their time to live expires.
+ * 
+ * The cached responses are invalidated through {@link #invalidate()} and 
+ * {@link #invalidate(String)}, usually invoked on the change notifications of the
+ * provider: {@link #invalidateOn(Class, Object, String...)} decorates a consumer 
+ * interface (e.g. NsdManagementConsumerInterface) so that every notification
+ * it receives invalidates the given queries. Queries in progress when an 
+ * invalidation occurs are not joined by the following callers and their responses
+ * are not cached.
+ * 
+ * The same response object is returned to all the callers of coalesced and cached
+ * queries: callers must not modify it.
+ * 
+ * @author nextworks
+ *
+ */
+public class QueryCoalescer {
+
+	private final long cacheTtlNanos;
+	private final int maxCachedResponses;
+	
+	private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+	private final ConcurrentMap<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+	private final ConcurrentMap<FlightKey, CachedResponse> cache = new ConcurrentHashMap<>();
+	
+	private final AtomicLong executions = new AtomicLong();
+	private final AtomicLong coalesced = new AtomicLong();
+	private final AtomicLong cacheHits = new AtomicLong();
+	
+	/**
+	 * Creates a coalescer without response cache
+	 */
+	public QueryCoalescer() {
+		this(0, TimeUnit.NANOSECONDS, 0);
+	}
+	
+	/**
+	 * Creates a coalescer with response cache
+	 * 
+	 * @param cacheTtl time to live of the cached responses, 0 to disable the cache
+	 * @param unit unit of the time to live
+	 * @param maxCachedResponses maximum number of cached responses
+	 */
+	public QueryCoalescer(long cacheTtl, TimeUnit unit, int maxCachedResponses) {
+		if (cacheTtl < 0) throw new IllegalArgumentException("Negative cache time to live");
+		if (maxCachedResponses < 0) throw new IllegalArgumentException("Negative maximum number of cached responses");
+		this.cacheTtlNanos = unit.toNanos(cacheTtl);
+		this.maxCachedResponses = maxCachedResponses;
+	}
+	
+	/**
+	 * Decorates an implementation of a provider interface, coalescing all its queries, 
+	 * i.e. the methods whose name starts with "query", with a single argument
+	 * and returning a response. Paged queries returning a QueryResultStream are not 
+	 * coalesced, since their result can be consumed only once.
+	 * 
+	 * @param iface the interface
+	 * @param target the implementation
+	 * @return the decorated implementation
+	 */
+	public <T> T decorate(Class<T> iface, T target) {
+		Set<String> operations = new HashSet<>();
+		for (Method m : iface.getMethods()) {
+			if (m.getName().startsWith("query") && isCoalescable(m)) operations.add(m.getName());
+		}
+		return new CoalescingInvocationHandler<>(iface, target, operations).newProxy();
+	}
+	
+	/**
+	 * Decorates an implementation of a provider interface, coalescing the given queries
+	 * 
+	 * @param iface the interface
+	 * @param target the implementation
+	 * @param operations names of the methods to be coalesced
+	 * @return the decorated implementation
+	 * @throws IllegalArgumentException if a method does not exist or cannot be coalesced
+	 */
+	public <T> T decorate(Class<T> iface, T target, String... operations) {
+		Set<String> selected = new HashSet<>(Arrays.asList(operations));
+		for (String operation : selected) {
+			boolean found = false;
+			for (Method m : iface.getMethods()) {
+				if (!m.getName().equals(operation)) continue;
+				if (!isCoalescable(m)) throw new IllegalArgumentException("Method " + operation + " of " + iface.getSimpleName() + " cannot be coalesced");
+				found = true;
+			}
+			if (!found) throw new IllegalArgumentException("Method " + operation + " not found in " + iface.getSimpleName());
+		}
+		return new CoalescingInvocationHandler<>(iface, target, selected).newProxy();
+	}
+	
+	/**
+	 * Decorates an implementation of a consumer interface, so that each notification
+	 * it receives invalidates the cached responses of the given queries before being
+	 * delivered to the implementation. 
+	 * 
+	 * @param iface the consumer interface
+	 * @param consumer the implementation
+	 * @param operations names of the queries to be invalidated; if empty, all the queries are invalidated
+	 * @return the decorated implementation
+	 */
+	public <C> C invalidateOn(Class<C> iface, C consumer, String... operations) {
+		return new InvalidatingInvocationHandler<>(iface, consumer, operations).newProxy();
+	}
+	
+	/**
+	 * Invalidates the cached responses of all the queries
+	 */
+	public void invalidate() {
+		for (AtomicLong generation : generations.values()) generation.incrementAndGet();
+		inFlight.clear();
+		cache.clear();
+	}
+	
+	/**
+	 * Invalidates the cached responses of a query, for all the decorated targets
+	 * 
+	 * @param operation the name of the query method
+	 */
+	public void invalidate(String operation) {
+		generation(operation).incrementAndGet();
+		inFlight.keySet().removeIf(k -> k.operation.equals(operation));
+		cache.keySet().removeIf(k -> k.operation.equals(operation));
+	}
+	
+	/**
+	 * @return the number of queries invoked on the targets
+	 */
+	public long getExecutions() {
+		return executions.get();
+	}
+	
+	/**
+	 * @return the number of queries that joined an identical query in progress
+	 */
+	public long getCoalesced() {
+		return coalesced.get();
+	}
+	
+	/**
+	 * @return the number of queries answered from the cache
+	 */
+	public long getCacheHits() {
+		return cacheHits.get();
+	}
+	
+	/**
+	 * @return the number of responses currently cached, including the expired ones not yet removed
+	 */
+	public int getCachedResponses() {
+		return cache.size();
+	}
+	
+	private static boolean isCoalescable(Method m) {
+		return (m.getParameterCount() == 1) && (m.getReturnType() != void.class) 
+				&& !QueryResultStream.class.isAssignableFrom(m.getReturnType());
+	}
+	
+	private AtomicLong generation(String operation) {
+		return generations.computeIfAbsent(operation, k -> new AtomicLong());
+	}
+	
+	private void store(FlightKey key, Object response, long generation) {
+		if ((cacheTtlNanos == 0) || (response == null)) return;
+		if (generation(key.operation).get() != generation) return;
+		long now = System.nanoTime();
+		if (cache.size() >= maxCachedResponses) {
+			cache.values().removeIf(c -> c.isExpired(now));
+			if (cache.size() >= maxCachedResponses) return;
+		}
+		CachedResponse cached = new CachedResponse(response, now + cacheTtlNanos);
+		cache.put(key, cached);
+		//an invalidation concurrent with the put must not leave the response in the cache
+		if (generation(key.operation).get() != generation) cache.remove(key, cached);
+	}
+	
+	private class CoalescingInvocationHandler<T> extends DelegatingInvocationHandler<T> {
+		
+		private final Map<Method, String> operations = new HashMap<>();
+		
+		CoalescingInvocationHandler(Class<T> iface, T target, Set<String> selected) {
+			super(iface, target);
+			for (Method m : iface.getMethods()) {
+				if (selected.contains(m.getName()) && isCoalescable(m)) operations.put(m, m.getName());
+			}
+		}
+
+		@Override
+		protected Object invokeInterfaceMethod(Method method, Object[] args) throws Throwable {
+			String operation = operations.get(method);
+			if (operation == null) return proceed(method, args);
+			FlightKey key;
+			try {
+				key = new FlightKey(this, method, operation, QueryKey.of(args[0]));
+			} catch (IllegalArgumentException e) {
+				return proceed(method, args);
+			}
+			boolean async = CompletableFuture.class.isAssignableFrom(method.getReturnType());
+			
+			if (cacheTtlNanos > 0) {
+				CachedResponse cached = cache.get(key);
+				if (cached != null) {
+					if (!cached.isExpired(System.nanoTime())) {
+						cacheHits.incrementAndGet();
+						return async ? CompletableFuture.completedFuture(cached.response) : cached.response;
+					}
+					cache.remove(key, cached);
+				}
+			}
+			
+			CompletableFuture<Object> flight = new CompletableFuture<>();
+			CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+			if (existing != null) {
+				coalesced.incrementAndGet();
+				return async ? existing.thenApply(Function.identity()) : await(method, existing);
+			}
+			
+			long generation = generation(operation).get();
+			executions.incrementAndGet();
+			if (async) {
+				CompletableFuture<?> result;
+				try {
+					result = (CompletableFuture<?>) proceed(method, args);
+				} catch (Throwable e) {
+					fail(key, flight, e);
+					throw e;
+				}
+				if (result == null) {
+					//the coalesced callers cannot share a missing future
+					fail(key, flight, new NullPointerException("Null future returned by " + method.getName()));
+					return null;
+				}
+				result.whenComplete((response, e) -> {
+					if (e == null) succeed(key, flight, response, generation);
+					else fail(key, flight, (e instanceof CompletionException) && (e.getCause() != null) ? e.getCause() : e);
+				});
+				return flight.thenApply(Function.identity());
+			}
+			try {
+				Object response = proceed(method, args);
+				succeed(key, flight, response, generation);
+				return response;
+			} catch (Throwable e) {
+				fail(key, flight, e);
+				throw e;
+			}
+		}
+		
+		private void succeed(FlightKey key, CompletableFuture<Object> flight, Object response, long generation) {
+			inFlight.remove(key, flight);
+			store(key, response, generation);
+			flight.complete(response);
+		}
+		
+		private void fail(FlightKey key, CompletableFuture<Object> flight, Throwable e) {
+			inFlight.remove(key, flight);
+			flight.completeExceptionally(e);
+		}
+		
+		private Object await(Method method, CompletableFuture<Object> flight) throws Throwable {
+			try {
+				return flight.get();
+			} catch (ExecutionException e) {
+				throw e.getCause();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				String message = "Interrupted while waiting for the coalesced " + method.getName();
+				if (canThrow(method, FailedOperationException.class)) throw new FailedOperationException(message);
+				throw new CompletionException(message, e);
+			}
+		}
+	}
+	
+	private class InvalidatingInvocationHandler<C> extends DelegatingInvocationHandler<C> {
+		
+		private final String[] operations;
+		
+		InvalidatingInvocationHandler(Class<C> iface, C consumer, String[] operations) {
+			super(iface, consumer);
+			this.operations = operations.clone();
+		}
+
+		@Override
+		protected Object invokeInterfaceMethod(Method method, Object[] args) throws Throwable {
+			if (operations.length == 0) invalidate();
+			else for (String operation : operations) invalidate(operation);
+			return proceed(method, args);
+		}
+	}
+	
+	private static final class FlightKey {
+		
+		private final Object scope;
+		private final Method method;
+		private final String operation;
+		private final QueryKey query;
+		private final int hash;
+		
+		private FlightKey(Object scope, Method method, String operation, QueryKey query) {
+			this.scope = scope;
+			this.method = method;
+			this.operation = operation;
+			this.query = query;
+			this.hash = (System.identityHashCode(scope) * 31 + method.hashCode()) * 31 + query.hashCode();
+		}
+		
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof FlightKey)) return false;
+			FlightKey other = (FlightKey) obj;
+			return (scope == other.scope) && method.equals(other.method) && query.equals(other.query);
+		}
+	}
+	
+	private static final class CachedResponse {
+		
+		private final Object response;
+		private final long expiration;
+		
+		private CachedResponse(Object response, long expiration) {
+			this.response = response;
+			this.expiration = expiration;
+		}
+		
+		private boolean isExpired(long now) {
+			return now - expiration >= 0;
+		}
+	}
+	
+}
@@ -0,0 +1,98 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.coalescing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+
+/**
+ * Canonical form of a query request, used to detect identical queries.
+ * 
+ * Two GeneralizedQueryRequests are identical when they have the same filter 
+ * parameters, the same attribute selector regardless of the order and of the
+ * duplicates of its entries, the same page size and the same cursor. 
+ * Any other request is identical to the requests of the same class with 
+ * the same JSON tree, regardless of the order of the properties and of
+ * the entries of the maps.
+ * 
+ * @author nextworks
+ *
+ */
+public final class QueryKey {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	
+	private final List<Object> canonical;
+	private final int hash;
+	
+	private QueryKey(List<Object> canonical) {
+		this.canonical = canonical;
+		this.hash = canonical.hashCode();
+	}
+	
+	/**
+	 * @param request the query request, possibly null
+	 * @return the canonical form of the request
+	 * @throws IllegalArgumentException if the request cannot be converted in a JSON tree
+	 */
+	public static QueryKey of(Object request) {
+		if (request == null) return new QueryKey(new ArrayList<>());
+		if (request instanceof GeneralizedQueryRequest) return of((GeneralizedQueryRequest) request);
+		return new QueryKey(Arrays.<Object>asList(request.getClass().getName(), MAPPER.valueToTree(request)));
+	}
+	
+	/**
+	 * @param request the query request
+	 * @return the canonical form of the filter, selector and paging parameters of the request
+	 */
+	public static QueryKey of(GeneralizedQueryRequest request) {
+		Map<String, String> parameters = new TreeMap<>();
+		if ((request.getFilter() != null) && (request.getFilter().getParameters() != null)) {
+			parameters.putAll(request.getFilter().getParameters());
+		}
+		TreeSet<String> selector = new TreeSet<>();
+		if (request.getAttributeSelector() != null) selector.addAll(request.getAttributeSelector());
+		return new QueryKey(Arrays.<Object>asList(GeneralizedQueryRequest.class.getName(), 
+				parameters, new ArrayList<>(selector), request.getPageSize(), request.getCursor()));
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof QueryKey)) return false;
+		QueryKey other = (QueryKey) obj;
+		return (hash == other.hash) && canonical.equals(other.canonical);
+	}
+	
+	@Override
+	public String toString() {
+		return canonical.toString();
+	}
+	
+}
@@ -0,0 +1,100 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.collections;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import it.nextworks.nfvmano.libs.common.tracking.ModificationTracked;
+
+/**
+ * Hash index of the elements of a list by ID, used by the lookup helpers of the 
+ * descriptors (e.g. Nsd, NsDf, Vnfd, VnfDf) to replace the linear scans of their element lists.
+ * 
+ * The index is built lazily by the aggregate holding the list and kept in a transient field.
+ * It records the {@link ModificationTracked#getModificationStamp() modification stamp} of the 
+ * aggregate when it is built: the lists of the aggregates record their changes in that stamp,
+ * also when changed in place through their getters, hence {@link #of(IdIndex, List, long, Function)} 
+ * reuses the index while the list instance and the stamp are the same, and builds a new one otherwise. 
+ * Lookups are answered by the index alone, for missing IDs as well as for indexed ones.
+ * 
+ * The IDs of the indexed elements are expected not to change while the elements belong 
+ * to the list, as for the information elements of the descriptors, which have no setters 
+ * for their IDs. With duplicate IDs, the first element having the ID is returned. 
+ * Elements without ID are not indexed. The index can be shared by concurrent readers.
+ * 
+ * @author nextworks
+ *
+ * @param <E> type of the indexed elements
+ */
+public final class IdIndex<E> {
+
+	private final List<E> source;
+	private final long stamp;
+	private final Map<String, E> elements;
+	
+	private IdIndex(List<E> source, long stamp, Function<E, String> idOf) {
+		this.source = source;
+		this.stamp = stamp;
+		if (source == null) {
+			this.elements = Collections.emptyMap();
+			return;
+		}
+		Map<String, E> elements = new HashMap<>(Math.max(4, (int) (source.size() / 0.75f) + 1));
+		for (E e : source) {
+			String id = (e != null) ? idOf.apply(e) : null;
+			if (id != null) elements.putIfAbsent(id, e);
+		}
+		this.elements = elements;
+	}
+	
+	/**
+	 * Returns an index of a list
+	 * 
+	 * @param current the current index of the list, null if not built yet
+	 * @param source the list
+	 * @param stamp the current modification stamp of the element holding the list
+	 * @param idOf function returning the ID of an element
+	 * @return the current index, if built for the same list and stamp, or a new index
+	 */
+	public static <E> IdIndex<E> of(IdIndex<E> current, List<E> source, long stamp, Function<E, String> idOf) {
+		if ((current != null) && (current.source == source) && (current.stamp == stamp)) return current;
+		return new IdIndex<>(source, stamp, idOf);
+	}
+	
+	/**
+	 * Looks up an element by ID
+	 * 
+	 * @param id the ID
+	 * @return the element, or an empty optional if no element has the given ID
+	 */
+	public Optional<E> find(String id) {
+		if (id == null) return Optional.empty();
+		return Optional.ofNullable(elements.get(id));
+	}
+	
+	/**
+	 * @return the number of indexed IDs
+	 */
+	public int size() {
+		return elements.size();
+	}
+	
+}
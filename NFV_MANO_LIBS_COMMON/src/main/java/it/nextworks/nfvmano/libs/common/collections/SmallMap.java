@@ -0,0 +1,275 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.collections;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Compact map, used for the metadata, extension and additional parameter fields 
+ * of the interface messages, elements and records, which normally hold a few entries.
+ * 
+ * Keys and values are stored in a single flat array, in insertion order,
+ * and looked up with a linear scan. When a map grows beyond MAX_SIZE entries 
+ * they are moved to a linked hash map. The map is mutable, like the hash maps
+ * it replaces, hence it can also be used for the map fields of the JPA entities, 
+ * whose content is replaced in place by Hibernate on merge. 
+ * Null keys and values are permitted. The map is not thread safe.
+ * 
+ * @author nextworks
+ *
+ */
+public final class SmallMap<K, V> extends AbstractMap<K, V> implements Serializable {
+
+	private static final long serialVersionUID = 2L;
+
+	/**
+	 * Maximum number of entries stored in the flat array
+	 */
+	public static final int MAX_SIZE = 16;
+	
+	private static final Object[] EMPTY_TABLE = new Object[0];
+	
+	private Object[] table = EMPTY_TABLE;
+	private int length = 0;
+	private LinkedHashMap<K, V> overflow;
+	private int modCount = 0;
+	
+	private transient Set<Map.Entry<K, V>> entrySet;
+	
+	/**
+	 * Creates an empty map
+	 */
+	public SmallMap() { }
+	
+	/**
+	 * Creates a map with the entries of another map
+	 * 
+	 * @param map the entries
+	 */
+	public SmallMap(Map<? extends K, ? extends V> map) {
+		if (map.size() > MAX_SIZE) overflow = new LinkedHashMap<>(map);
+		else if (!map.isEmpty()) {
+			table = new Object[map.size() * 2];
+			putAll(map);
+		}
+	}
+	
+	/**
+	 * @return a new empty map
+	 */
+	public static <K, V> SmallMap<K, V> of() {
+		return new SmallMap<>();
+	}
+	
+	/**
+	 * @return a new map with a single entry
+	 */
+	public static <K, V> SmallMap<K, V> of(K key, V value) {
+		SmallMap<K, V> map = new SmallMap<>();
+		map.put(key, value);
+		return map;
+	}
+	
+	/**
+	 * Creates a copy of a map
+	 * 
+	 * @param map the map to be copied, may be null
+	 * @return the copy, empty if the given map is null
+	 */
+	public static <K, V> SmallMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+		return (map == null) ? new SmallMap<>() : new SmallMap<>(map);
+	}
+	
+	@Override
+	public int size() {
+		return (overflow != null) ? overflow.size() : (length >> 1);
+	}
+	
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+	
+	@Override
+	public boolean containsKey(Object key) {
+		if (overflow != null) return overflow.containsKey(key);
+		return indexOf(key) >= 0;
+	}
+	
+	@Override
+	public boolean containsValue(Object value) {
+		if (overflow != null) return overflow.containsValue(value);
+		for (int i = 1; i < length; i += 2) {
+			if (Objects.equals(table[i], value)) return true;
+		}
+		return false;
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		if (overflow != null) return overflow.get(key);
+		int i = indexOf(key);
+		return (i >= 0) ? (V) table[i + 1] : null;
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		if (overflow != null) return overflow.put(key, value);
+		int i = indexOf(key);
+		if (i >= 0) {
+			V previous = (V) table[i + 1];
+			table[i + 1] = value;
+			return previous;
+		}
+		modCount++;
+		if (length == MAX_SIZE * 2) {
+			overflow = new LinkedHashMap<>();
+			for (int j = 0; j < length; j += 2) overflow.put((K) table[j], (V) table[j + 1]);
+			overflow.put(key, value);
+			table = EMPTY_TABLE;
+			length = 0;
+			return null;
+		}
+		if (length == table.length) table = Arrays.copyOf(table, Math.min(Math.max(table.length * 2, 4), MAX_SIZE * 2));
+		table[length++] = key;
+		table[length++] = value;
+		return null;
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		if (overflow != null) return overflow.remove(key);
+		int i = indexOf(key);
+		if (i < 0) return null;
+		V previous = (V) table[i + 1];
+		removeAt(i);
+		return previous;
+	}
+	
+	@Override
+	public void clear() {
+		modCount++;
+		overflow = null;
+		table = EMPTY_TABLE;
+		length = 0;
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		if (overflow != null) {
+			overflow.forEach(action);
+			return;
+		}
+		for (int i = 0; i < length; i += 2) action.accept((K) table[i], (V) table[i + 1]);
+	}
+	
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		Set<Map.Entry<K, V>> es = entrySet;
+		if (es == null) {
+			es = new AbstractSet<Map.Entry<K, V>>() {
+				
+				@Override
+				public Iterator<Map.Entry<K, V>> iterator() {
+					return (overflow != null) ? overflow.entrySet().iterator() : new EntryIterator();
+				}
+
+				@Override
+				public int size() {
+					return SmallMap.this.size();
+				}
+				
+				@Override
+				public void clear() {
+					SmallMap.this.clear();
+				}
+			};
+			entrySet = es;
+		}
+		return es;
+	}
+	
+	private int indexOf(Object key) {
+		for (int i = 0; i < length; i += 2) {
+			if (Objects.equals(table[i], key)) return i;
+		}
+		return -1;
+	}
+	
+	private void removeAt(int i) {
+		modCount++;
+		System.arraycopy(table, i + 2, table, i, length - i - 2);
+		table[--length] = null;
+		table[--length] = null;
+	}
+	
+	private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+		
+		private int next = 0;
+		private int last = -1;
+		private int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			return (overflow == null) && (next < length);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Map.Entry<K, V> next() {
+			if (expectedModCount != modCount) throw new ConcurrentModificationException();
+			if (!hasNext()) throw new NoSuchElementException();
+			last = next;
+			next += 2;
+			return new SimpleEntry<K, V>((K) table[last], (V) table[last + 1]) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				public V setValue(V value) {
+					super.setValue(value);
+					return put(getKey(), value);
+				}
+			};
+		}
+		
+		@Override
+		public void remove() {
+			if (last < 0) throw new IllegalStateException();
+			if (expectedModCount != modCount) throw new ConcurrentModificationException();
+			removeAt(last);
+			expectedModCount = modCount;
+			next = last;
+			last = -1;
+		}
+		
+	}
+	
+}
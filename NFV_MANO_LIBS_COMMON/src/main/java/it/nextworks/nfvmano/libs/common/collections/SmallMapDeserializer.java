@@ -0,0 +1,67 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.collections;
+
+import java.io.IOException;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Jackson deserializer of Map&lt;String, String&gt; fields into SmallMap, 
+ * without building an intermediate hash map.
+ * To be used with @JsonDeserialize(using = SmallMapDeserializer.class).
+ * 
+ * @author nextworks
+ *
+ */
+public class SmallMapDeserializer extends StdDeserializer<Map<String, String>> {
+
+	private static final long serialVersionUID = 1L;
+
+	public SmallMapDeserializer() {
+		super(Map.class);
+	}
+	
+	@Override
+	public Map<String, String> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+		JsonToken t = p.getCurrentToken();
+		if (t == JsonToken.START_OBJECT) t = p.nextToken();
+		else if (t != JsonToken.FIELD_NAME) {
+			@SuppressWarnings("unchecked")
+			Map<String, String> m = (Map<String, String>) ctxt.handleUnexpectedToken(Map.class, p);
+			return m;
+		}
+		SmallMap<String, String> map = new SmallMap<>();
+		for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+			String key = p.getCurrentName();
+			JsonToken v = p.nextToken();
+			if (v == JsonToken.VALUE_NULL) map.put(key, null);
+			else if (v.isScalarValue()) map.put(key, p.getText());
+			else map.put(key, (String) ctxt.handleUnexpectedToken(String.class, p));
+		}
+		return map;
+	}
+	
+	@Override
+	public Map<String, String> getNullValue(DeserializationContext ctxt) {
+		return SmallMap.of();
+	}
+	
+}
@@ -0,0 +1,277 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.diff;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.fingerprint.MerkleHasher;
+
+/**
+ * Structural diff and patch of descriptor versions, e.g. of the NSDs,
+ * VNFDs or AppDs replaced by an update or by a new on-boarding.
+ * 
+ * The descriptors are compared on their JSON trees. The elements of the lists 
+ * are matched by their identifiers (e.g. nsDfId, vduId, cpdId) as defined by the
+ * {@link ElementKeys}, not by their position, so that adding, removing or changing 
+ * an element produces only the operations on that element, whatever its position.
+ * The order of the elements of keyed lists is not significant: added elements 
+ * are appended at the end of the list. Lists without key and scalar lists are 
+ * replaced as a whole when changed. Null properties are equivalent to missing ones.
+ * 
+ * @author nextworks
+ *
+ */
+public class DescriptorDiff {
+
+	private final ObjectMapper mapper;
+	private final ElementKeys keys;
+	
+	/**
+	 * Constructor, with the default keys of the NFV MANO descriptors
+	 */
+	public DescriptorDiff() {
+		this(new ObjectMapper(), ElementKeys.defaults());
+	}
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param mapper mapper used to convert the descriptors to and from their JSON trees
+	 * @param keys keys of the list elements
+	 */
+	public DescriptorDiff(ObjectMapper mapper, ElementKeys keys) {
+		this.mapper = mapper;
+		this.keys = keys;
+	}
+	
+	/**
+	 * Computes the patch transforming a descriptor version into another one
+	 * 
+	 * @param from the old version
+	 * @param to the new version
+	 * @return the patch
+	 * @throws MalformattedElementException if the two versions are not of the same type
+	 */
+	public DescriptorPatch diff(Object from, Object to) throws MalformattedElementException {
+		if (from == null || to == null) throw new MalformattedElementException("Null descriptor version");
+		if (from.getClass() != to.getClass()) 
+			throw new MalformattedElementException("Cannot compare " + from.getClass().getSimpleName() + " with " + to.getClass().getSimpleName());
+		List<PatchOperation> operations = diff(mapper.<JsonNode>valueToTree(from), mapper.<JsonNode>valueToTree(to));
+		return new DescriptorPatch(MerkleHasher.getDefault().hash(from), MerkleHasher.getDefault().hash(to), operations);
+	}
+	
+	/**
+	 * Computes the operations transforming a JSON tree into another one
+	 * 
+	 * @param from the old tree
+	 * @param to the new tree
+	 * @return the operations
+	 */
+	public List<PatchOperation> diff(JsonNode from, JsonNode to) {
+		List<PatchOperation> operations = new ArrayList<>();
+		if (from.isObject() && to.isObject()) {
+			diffObjects((ObjectNode) from, (ObjectNode) to, new ArrayList<>(), operations);
+		} else if (!from.equals(to)) {
+			throw new IllegalArgumentException("Descriptors must be JSON objects");
+		}
+		return operations;
+	}
+	
+	/**
+	 * Applies a patch to the descriptor version it was computed from
+	 * 
+	 * @param base the old version
+	 * @param patch the patch
+	 * @return the new version
+	 * @throws MalformattedElementException if the patch does not apply to the given version
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T apply(T base, DescriptorPatch patch) throws MalformattedElementException {
+		if (patch.getBaseFingerprint() != null && !patch.getBaseFingerprint().equals(MerkleHasher.getDefault().hash(base)))
+			throw new MalformattedElementException("Patch computed from a different version of the descriptor");
+		ObjectNode tree = mapper.valueToTree(base);
+		apply(tree, patch.getOperations());
+		try {
+			return (T) mapper.treeToValue(tree, base.getClass());
+		} catch (JsonProcessingException e) {
+			throw new MalformattedElementException("Patched descriptor not valid: " + e.getMessage());
+		}
+	}
+	
+	/**
+	 * Applies patch operations to a JSON tree, modifying it
+	 * 
+	 * @param tree the tree
+	 * @param operations the operations
+	 * @throws MalformattedElementException if an operation does not apply to the tree
+	 */
+	public void apply(ObjectNode tree, List<PatchOperation> operations) throws MalformattedElementException {
+		for (PatchOperation operation : operations) applyOperation(tree, operation);
+	}
+	
+	private void diffObjects(ObjectNode from, ObjectNode to, List<PathElement> path, List<PatchOperation> operations) {
+		TreeSet<String> names = new TreeSet<>();
+		for (Iterator<String> it = from.fieldNames(); it.hasNext();) names.add(it.next());
+		for (Iterator<String> it = to.fieldNames(); it.hasNext();) names.add(it.next());
+		for (String name : names) {
+			JsonNode a = valueOf(from, name);
+			JsonNode b = valueOf(to, name);
+			if (a == null && b == null) continue;
+			List<PathElement> p = append(path, new PathElement(name));
+			if (a == null) {
+				operations.add(new PatchOperation(PatchOperation.Type.ADD, p, b));
+			} else if (b == null) {
+				operations.add(new PatchOperation(PatchOperation.Type.REMOVE, p, null));
+			} else if (!a.equals(b)) {
+				diffValues(name, a, b, path, operations);
+			}
+		}
+	}
+	
+	private void diffValues(String name, JsonNode a, JsonNode b, List<PathElement> path, List<PatchOperation> operations) {
+		if (a.isObject() && b.isObject()) {
+			diffObjects((ObjectNode) a, (ObjectNode) b, append(path, new PathElement(name)), operations);
+			return;
+		}
+		if (a.isArray() && b.isArray()) {
+			String key = keys.findKey(name, a, b);
+			if (key != null) {
+				diffKeyedLists(name, key, a, b, path, operations);
+				return;
+			}
+		}
+		operations.add(new PatchOperation(PatchOperation.Type.REPLACE, append(path, new PathElement(name)), b));
+	}
+	
+	private void diffKeyedLists(String name, String key, JsonNode a, JsonNode b, List<PathElement> path, List<PatchOperation> operations) {
+		Map<String, JsonNode> oldElements = index(a, key);
+		Map<String, JsonNode> newElements = index(b, key);
+		for (Map.Entry<String, JsonNode> e : oldElements.entrySet()) {
+			List<PathElement> p = append(path, new PathElement(name, key, e.getKey()));
+			JsonNode n = newElements.get(e.getKey());
+			if (n == null) {
+				operations.add(new PatchOperation(PatchOperation.Type.REMOVE, p, null));
+			} else if (!n.equals(e.getValue())) {
+				diffObjects((ObjectNode) e.getValue(), (ObjectNode) n, p, operations);
+			}
+		}
+		for (Map.Entry<String, JsonNode> e : newElements.entrySet()) {
+			if (!oldElements.containsKey(e.getKey())) 
+				operations.add(new PatchOperation(PatchOperation.Type.ADD, append(path, new PathElement(name, key, e.getKey())), e.getValue()));
+		}
+	}
+	
+	private void applyOperation(ObjectNode tree, PatchOperation operation) throws MalformattedElementException {
+		List<PathElement> path = operation.getPath();
+		if (path.isEmpty()) throw new MalformattedElementException("Patch operation without path");
+		ObjectNode parent = tree;
+		for (int i = 0; i < path.size() - 1; i++) {
+			JsonNode child = select(parent, path.get(i));
+			if (child == null || !child.isObject()) 
+				throw new MalformattedElementException("Path " + operation.getPathString() + " not found in descriptor");
+			parent = (ObjectNode) child;
+		}
+		PathElement last = path.get(path.size() - 1);
+		if (!last.isKeyed()) {
+			JsonNode current = valueOf(parent, last.getProperty());
+			switch (operation.getOp()) {
+			case ADD:
+				if (current != null) throw new MalformattedElementException("Value at " + operation.getPathString() + " already existing");
+				parent.set(last.getProperty(), requireValue(operation));
+				break;
+			case REPLACE:
+				if (current == null) throw new MalformattedElementException("Value at " + operation.getPathString() + " not found");
+				parent.set(last.getProperty(), requireValue(operation));
+				break;
+			case REMOVE:
+				if (current == null) throw new MalformattedElementException("Value at " + operation.getPathString() + " not found");
+				parent.remove(last.getProperty());
+				break;
+			}
+			return;
+		}
+		JsonNode list = valueOf(parent, last.getProperty());
+		if (list != null && !list.isArray()) throw new MalformattedElementException("Value at " + operation.getPathString() + " is not a list");
+		int index = (list == null) ? -1 : indexOf(list, last);
+		switch (operation.getOp()) {
+		case ADD:
+			if (index >= 0) throw new MalformattedElementException("Element " + operation.getPathString() + " already existing");
+			if (list == null) list = parent.putArray(last.getProperty());
+			((ArrayNode) list).add(requireValue(operation));
+			break;
+		case REPLACE:
+			if (index < 0) throw new MalformattedElementException("Element " + operation.getPathString() + " not found");
+			((ArrayNode) list).set(index, requireValue(operation));
+			break;
+		case REMOVE:
+			if (index < 0) throw new MalformattedElementException("Element " + operation.getPathString() + " not found");
+			((ArrayNode) list).remove(index);
+			break;
+		}
+	}
+	
+	private static JsonNode select(ObjectNode parent, PathElement step) {
+		JsonNode value = valueOf(parent, step.getProperty());
+		if (value == null || !step.isKeyed()) return value;
+		if (!value.isArray()) return null;
+		int index = indexOf(value, step);
+		return (index < 0) ? null : value.get(index);
+	}
+	
+	private static int indexOf(JsonNode list, PathElement step) {
+		for (int i = 0; i < list.size(); i++) {
+			JsonNode key = list.get(i).get(step.getKeyName());
+			if (key != null && key.asText().equals(step.getKeyValue())) return i;
+		}
+		return -1;
+	}
+	
+	private static JsonNode requireValue(PatchOperation operation) throws MalformattedElementException {
+		if (operation.getValue() == null) throw new MalformattedElementException("Patch operation " + operation.getOp() + " without value");
+		return operation.getValue();
+	}
+	
+	private static JsonNode valueOf(ObjectNode node, String name) {
+		JsonNode value = node.get(name);
+		return (value == null || value.isNull()) ? null : value;
+	}
+	
+	private static Map<String, JsonNode> index(JsonNode list, String key) {
+		Map<String, JsonNode> elements = new LinkedHashMap<>();
+		for (JsonNode element : list) elements.put(element.get(key).asText(), element);
+		return elements;
+	}
+	
+	private static List<PathElement> append(List<PathElement> path, PathElement step) {
+		List<PathElement> result = new ArrayList<>(path.size() + 1);
+		result.addAll(path);
+		result.add(step);
+		return result;
+	}
+	
+}
@@ -0,0 +1,93 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.diff;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Patch between two versions of a descriptor, produced by {@link DescriptorDiff}.
+ * 
+ * The patch carries the fingerprints of the two versions, so that it can be 
+ * applied only to the version it was computed from, and can be serialized 
+ * to be persisted or notified in place of the whole new version.
+ * Since the order of the keyed lists is not part of the patch, the version 
+ * produced by the patch has the content of the target version, but its 
+ * fingerprint may differ when the elements of a keyed list were reordered.
+ * 
+ * @author nextworks
+ *
+ */
+public class DescriptorPatch {
+
+	private String baseFingerprint;
+	private String targetFingerprint;
+	private List<PatchOperation> operations = new ArrayList<>();
+	
+	public DescriptorPatch() { }
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param baseFingerprint fingerprint of the version the patch applies to
+	 * @param targetFingerprint fingerprint of the version produced by the patch
+	 * @param operations operations of the patch
+	 */
+	public DescriptorPatch(String baseFingerprint, String targetFingerprint, List<PatchOperation> operations) {
+		this.baseFingerprint = baseFingerprint;
+		this.targetFingerprint = targetFingerprint;
+		if (operations != null) this.operations = operations;
+	}
+
+	/**
+	 * @return the baseFingerprint
+	 */
+	@JsonProperty("baseFingerprint")
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	public String getBaseFingerprint() {
+		return baseFingerprint;
+	}
+
+	/**
+	 * @return the targetFingerprint
+	 */
+	@JsonProperty("targetFingerprint")
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	public String getTargetFingerprint() {
+		return targetFingerprint;
+	}
+
+	/**
+	 * @return the operations
+	 */
+	@JsonProperty("operations")
+	public List<PatchOperation> getOperations() {
+		return operations;
+	}
+	
+	/**
+	 * @return true if the two versions have the same content
+	 */
+	@JsonIgnore
+	public boolean isEmpty() {
+		return operations.isEmpty();
+	}
+	
+}
@@ -0,0 +1,146 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.diff;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Registry of the properties identifying the elements of the lists of a descriptor,
+ * e.g. nsDfId for the elements of the nsDf list of an NSD or vduId for the 
+ * elements of the vdu list of a VNFD. Lists are identified by their JSON property name.
+ * 
+ * When no key is registered for a list, or the registered key does not identify
+ * its elements, a key is looked for among the textual properties ending with "Id"
+ * present with distinct values in all the elements.
+ * Lists without key are compared and replaced as a whole.
+ * 
+ * @author nextworks
+ *
+ */
+public class ElementKeys {
+
+	private final Map<String, String> keys = new ConcurrentHashMap<>();
+	
+	public ElementKeys() {	}
+	
+	/**
+	 * @return a registry with the keys of the lists of the NFV MANO descriptors
+	 */
+	public static ElementKeys defaults() {
+		ElementKeys k = new ElementKeys();
+		//NSD
+		k.register("nsDf", "nsDfId");
+		k.register("sapd", "cpdId");
+		k.register("virtualLinkDesc", "virtualLinkDescId");
+		k.register("vnffgd", "vnffgdId");
+		k.register("nfpd", "nfpId");
+		k.register("vnfProfile", "vnfProfileId");
+		k.register("pnfProfile", "pnfProfileId");
+		k.register("nsProfile", "nsProfileId");
+		k.register("virtualLinkProfile", "virtualLinkProfileId");
+		k.register("nsInstantiationLevel", "nsLevelId");
+		k.register("vnfToLevelMapping", "vnfProfileId");
+		k.register("virtualLinkToLevelMapping", "virtualLinkProfileId");
+		k.register("nsToLevelMapping", "nsProfileId");
+		k.register("virtualLinkDf", "flavourId");
+		k.register("monitoredInfo", "monitoringParameterId");
+		//VNFD
+		k.register("vdu", "vduId");
+		k.register("intCpd", "cpdId");
+		k.register("vnfExtCpd", "cpdId");
+		k.register("virtualComputeDesc", "virtualComputeDescId");
+		k.register("virtualStorageDesc", "id");
+		k.register("intVirtualLinkDesc", "virtualLinkDescId");
+		k.register("virtualLinkDescFlavour", "flavourId");
+		k.register("deploymentFlavour", "flavourId");
+		k.register("vduProfile", "vduId");
+		k.register("instantiationLevel", "levelId");
+		k.register("vduLevel", "vduId");
+		k.register("scalingAspect", "id");
+		//AppD
+		k.register("appExtCpd", "cpdId");
+		k.register("appTrafficRule", "trafficRuleId");
+		k.register("appDNSRule", "dnsRuleId");
+		k.register("appServiceRequired", "serName");
+		k.register("appServiceProduced", "serName");
+		return k;
+	}
+	
+	/**
+	 * Registers the key of a list
+	 * 
+	 * @param listProperty JSON name of the list property
+	 * @param keyProperty JSON name of the property identifying the elements of the list
+	 * @return this registry
+	 */
+	public ElementKeys register(String listProperty, String keyProperty) {
+		keys.put(listProperty, keyProperty);
+		return this;
+	}
+	
+	/**
+	 * Finds the key identifying the elements of one or more versions of a list
+	 * 
+	 * @param listProperty JSON name of the list property
+	 * @param versions the versions of the list
+	 * @return the name of the key property, or null if the elements cannot be identified by a key
+	 */
+	public String findKey(String listProperty, JsonNode... versions) {
+		String registered = keys.get(listProperty);
+		if (registered != null && isKey(registered, versions)) return registered;
+		Set<String> candidates = null;
+		for (JsonNode list : versions) {
+			for (JsonNode element : list) {
+				if (!element.isObject()) return null;
+				Set<String> names = new HashSet<>();
+				for (Iterator<String> it = element.fieldNames(); it.hasNext();) {
+					String name = it.next();
+					if (name.endsWith("Id") && element.get(name).isTextual()) names.add(name);
+				}
+				if (candidates == null) candidates = new TreeSet<>(names);
+				else candidates.retainAll(names);
+			}
+		}
+		if (candidates == null) return registered;
+		for (String candidate : candidates) {
+			if (isKey(candidate, versions)) return candidate;
+		}
+		return null;
+	}
+	
+	private static boolean isKey(String key, JsonNode... versions) {
+		for (JsonNode list : versions) {
+			List<String> values = new ArrayList<>();
+			for (JsonNode element : list) {
+				JsonNode value = element.get(key);
+				if (value == null || !value.isTextual()) return false;
+				values.add(value.asText());
+			}
+			if (new HashSet<>(values).size() != values.size()) return false;
+		}
+		return true;
+	}
+	
+}
@@ -0,0 +1,105 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.diff;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Operation of a descriptor patch, adding, removing or replacing 
+ * the value at the given path. 
+ * When the last step of the path selects an element of a list, 
+ * the operation adds, removes or replaces that element.
+ * 
+ * @author nextworks
+ *
+ */
+public class PatchOperation {
+
+	/**
+	 * Type of a patch operation
+	 */
+	public enum Type {
+		ADD,
+		REMOVE,
+		REPLACE
+	}
+	
+	private Type op;
+	private List<PathElement> path = new ArrayList<>();
+	private JsonNode value;
+	
+	public PatchOperation() { }
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param op type of the operation
+	 * @param path path of the changed value, starting from the root of the descriptor
+	 * @param value the new value, null for REMOVE operations
+	 */
+	public PatchOperation(Type op, List<PathElement> path, JsonNode value) {
+		this.op = op;
+		if (path != null) this.path = path;
+		this.value = value;
+	}
+
+	/**
+	 * @return the op
+	 */
+	@JsonProperty("op")
+	public Type getOp() {
+		return op;
+	}
+
+	/**
+	 * @return the path
+	 */
+	@JsonProperty("path")
+	public List<PathElement> getPath() {
+		return path;
+	}
+
+	/**
+	 * @return the value
+	 */
+	@JsonProperty("value")
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	public JsonNode getValue() {
+		return value;
+	}
+	
+	/**
+	 * @return the path in readable format, e.g. /nsDf[nsDfId=df_1]/vnfProfile[vnfProfileId=vnfp_1]/flavourId
+	 */
+	@JsonIgnore
+	public String getPathString() {
+		StringBuilder sb = new StringBuilder();
+		for (PathElement e : path) sb.append('/').append(e);
+		return sb.toString();
+	}
+	
+	@Override
+	public String toString() {
+		return op + " " + getPathString() + ((value == null) ? "" : " " + value);
+	}
+	
+}
@@ -0,0 +1,98 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.diff;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Step of the path of a patch operation: a property of an object, 
+ * optionally selecting the element of a list with a given key value.
+ * 
+ * @author nextworks
+ *
+ */
+public class PathElement {
+
+	private String property;
+	private String keyName;
+	private String keyValue;
+	
+	public PathElement() { }
+	
+	/**
+	 * Constructor of a step selecting a property
+	 * 
+	 * @param property JSON name of the property
+	 */
+	public PathElement(String property) {
+		this(property, null, null);
+	}
+	
+	/**
+	 * Constructor of a step selecting an element of a list
+	 * 
+	 * @param property JSON name of the list property
+	 * @param keyName name of the key property of the elements
+	 * @param keyValue value of the key of the selected element
+	 */
+	public PathElement(String property, String keyName, String keyValue) {
+		this.property = property;
+		this.keyName = keyName;
+		this.keyValue = keyValue;
+	}
+
+	/**
+	 * @return the property
+	 */
+	@JsonProperty("property")
+	public String getProperty() {
+		return property;
+	}
+
+	/**
+	 * @return the keyName
+	 */
+	@JsonProperty("keyName")
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	public String getKeyName() {
+		return keyName;
+	}
+
+	/**
+	 * @return the keyValue
+	 */
+	@JsonProperty("keyValue")
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	public String getKeyValue() {
+		return keyValue;
+	}
+	
+	/**
+	 * @return true if the step selects an element of a list
+	 */
+	@JsonIgnore
+	public boolean isKeyed() {
+		return keyName != null;
+	}
+	
+	@Override
+	public String toString() {
+		return isKeyed() ? property + "[" + keyName + "=" + keyValue + "]" : property;
+	}
+	
+}
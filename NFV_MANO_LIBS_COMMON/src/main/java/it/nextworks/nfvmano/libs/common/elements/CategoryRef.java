@@ -94,10 +94,10 @@ public class CategoryRef implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {	
-		if (href == null) throw new MalformattedElementException("Category ref without href");
-		if (catRefId == null) throw new MalformattedElementException("Category ref without id");
-		if (name == null) throw new MalformattedElementException("Category ref without name");
-		if (version == null) throw new MalformattedElementException("Category ref without version");
+		if (href == null) throw MalformattedElementException.stackless("Category ref without href");
+		if (catRefId == null) throw MalformattedElementException.stackless("Category ref without id");
+		if (name == null) throw MalformattedElementException.stackless("Category ref without name");
+		if (version == null) throw MalformattedElementException.stackless("Category ref without version");
 	}
 
 }
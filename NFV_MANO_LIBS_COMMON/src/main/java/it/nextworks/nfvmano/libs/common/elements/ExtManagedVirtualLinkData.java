@@ -102,8 +102,8 @@ public class ExtManagedVirtualLinkData implements InterfaceInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (resourceId == null) throw new MalformattedElementException("External managed VL data without resource ID");
-		if (virtualLinkDescId == null) throw new MalformattedElementException("External managed VL data without VLD ID");
+		if (resourceId == null) throw MalformattedElementException.stackless("External managed VL data without resource ID");
+		if (virtualLinkDescId == null) throw MalformattedElementException.stackless("External managed VL data without VLD ID");
 	}
 
 }
@@ -104,9 +104,9 @@ public class ExtVirtualLinkData implements InterfaceInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (resourceId == null) throw new MalformattedElementException("External VL data without resource ID");
+		if (resourceId == null) throw MalformattedElementException.stackless("External VL data without resource ID");
 		if ((extCp == null) || (extCp.isEmpty())) {
-			throw new MalformattedElementException("External VL data without external CPs");
+			throw MalformattedElementException.stackless("External VL data without external CPs");
 		} else {
 			for (VnfExtCpData cp : extCp) cp.isValid();
 		}
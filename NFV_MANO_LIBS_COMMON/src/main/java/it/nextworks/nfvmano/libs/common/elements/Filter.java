@@ -24,44 +24,16 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 /**
  * This data type provides the input filter for a selection
  * 
+ * The keys of the parameters are the names of the FilterKey values.
+ * The filter is matched when all the parameters are matched.
+ * A FilterCompiler translates it into a predicate to be applied on the records.
+ * 
  * @author nextworks
  *
  */
 public class Filter {
 
-	//Supported keys: 
-	//NSD_ID
-	//NSD_VERSION
-	//NSD_INFO_ID
-	//NS_ID
-	//RESOURCE_TYPE
-	//RESOURCE_ID
-	//VNF_PACKAGE_ID
-	//VNF_PACKAGE_PRODUCT_NAME
-	//VNF_PACKAGE_SW_VERSION
-	//VNF_PACKAGE_PROVIDER
-	//VNFD_ID
-	//PNF_ID
-	//PNFD_ID
-	//PNFD_VERSION
-	//PNFD_INFO_ID
-	//APP_PACKAGE_INFO_ID
-	//APPD_ID
-    //APPD_VERSION
-	//FLAVOUR_ID
-	//VSB_NAME & VSB_VERSION
-	//VSB_ID
-	//VSD_ID
-	//VSI_ID
-	//CTXB_NAME & CTXB_VERSION
-	//TCB_NAME & TCB_VERSION
-	//CTXB_ID
-	//CTXD_ID & TENANT_ID
-	//TCB_ID
-	//TCD_ID
-	//TENANT_ID
-	//POLICY_ID
-	//POLICY_STATUS
+	//Supported keys: see FilterKey
 	private Map<String,String> parameters = new HashMap<>();
 	
 	public Filter() {}
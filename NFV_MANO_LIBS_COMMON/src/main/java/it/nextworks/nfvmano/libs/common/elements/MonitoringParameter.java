@@ -88,7 +88,7 @@ public class MonitoringParameter implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.monitoringParameterId == null) throw new MalformattedElementException("Monitoring Parameter without ID");
-		if (this.performanceMetric == null) throw new MalformattedElementException("Monitoring Parameter without metric");
+		if (this.monitoringParameterId == null) throw MalformattedElementException.stackless("Monitoring Parameter without ID");
+		if (this.performanceMetric == null) throw MalformattedElementException.stackless("Monitoring Parameter without metric");
 	}
 }
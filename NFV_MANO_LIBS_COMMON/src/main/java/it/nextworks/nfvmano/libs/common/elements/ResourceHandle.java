@@ -15,10 +15,16 @@
 */
 package it.nextworks.nfvmano.libs.common.elements;
 
+import javax.persistence.Convert;
 import javax.persistence.Embeddable;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.identifiers.IdentifierDictionary;
+import it.nextworks.nfvmano.libs.common.identifiers.InternedIdentifierConverter;
+import it.nextworks.nfvmano.libs.common.identifiers.InternedIdentifierDeserializer;
 
 /**
  * This information element provides information that allows addressing 
@@ -33,7 +39,11 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
 @Embeddable
 public class ResourceHandle implements DescriptorInformationElement {
 
+	@JsonDeserialize(using = InternedIdentifierDeserializer.class)
+	@Convert(converter = InternedIdentifierConverter.class)
 	private String vimId;
+	@JsonDeserialize(using = InternedIdentifierDeserializer.class)
+	@Convert(converter = InternedIdentifierConverter.class)
 	private String resourceProviderId;
 	private String resourceId;
 	private String vimLevelResourceType;
@@ -50,9 +60,9 @@ public class ResourceHandle implements DescriptorInformationElement {
 	public ResourceHandle(String vimId, 
 			String resourceProviderId,
 			String resourceId) {
-		this.vimId = vimId;
+		this.vimId = IdentifierDictionary.intern(vimId);
 		this.resourceId = resourceId;
-		this.resourceProviderId = resourceProviderId;
+		this.resourceProviderId = IdentifierDictionary.intern(resourceProviderId);
 		this.vimLevelResourceType = null;
 	}
 	
@@ -68,9 +78,9 @@ public class ResourceHandle implements DescriptorInformationElement {
 			String resourceProviderId,
 			String resourceId,
 			String vimLevelResourceType) {
-		this.vimId = vimId;
+		this.vimId = IdentifierDictionary.intern(vimId);
 		this.resourceId = resourceId;
-		this.resourceProviderId = resourceProviderId;
+		this.resourceProviderId = IdentifierDictionary.intern(resourceProviderId);
 		this.vimLevelResourceType = vimLevelResourceType;
 	}
 	
@@ -108,8 +118,8 @@ public class ResourceHandle implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (resourceId == null) throw new MalformattedElementException("Resource Handle without resource ID");
-		if ((vimId == null) && (resourceProviderId == null)) throw new MalformattedElementException("Resource Handle without vimID or resource provider ID");
+		if (resourceId == null) throw MalformattedElementException.stackless("Resource Handle without resource ID");
+		if ((vimId == null) && (resourceProviderId == null)) throw MalformattedElementException.stackless("Resource Handle without vimID or resource provider ID");
 	}
 
 }
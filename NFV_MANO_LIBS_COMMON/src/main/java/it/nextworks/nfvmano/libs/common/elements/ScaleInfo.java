@@ -72,7 +72,7 @@ public class ScaleInfo implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (aspectId == null) throw new MalformattedElementException("Scale info without aspect ID");
+		if (aspectId == null) throw MalformattedElementException.stackless("Scale info without aspect ID");
 	}
 
 }
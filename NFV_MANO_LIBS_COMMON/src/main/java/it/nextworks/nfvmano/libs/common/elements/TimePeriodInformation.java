@@ -61,8 +61,8 @@ public class TimePeriodInformation implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (startTime == null) throw new MalformattedElementException("Time period information without start time");
-		if (stopTime == null) throw new MalformattedElementException("Time period information without stop time");
+		if (startTime == null) throw MalformattedElementException.stackless("Time period information without start time");
+		if (stopTime == null) throw MalformattedElementException.stackless("Time period information without stop time");
 	}
 
 }
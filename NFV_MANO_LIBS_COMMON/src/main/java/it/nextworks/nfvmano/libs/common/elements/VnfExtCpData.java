@@ -81,7 +81,7 @@ public class VnfExtCpData implements InterfaceInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (cpdId == null) throw new MalformattedElementException("VNF external CP data without CPD ID");
+		if (cpdId == null) throw MalformattedElementException.stackless("VNF external CP data without CPD ID");
 	}
 
 }
@@ -0,0 +1,89 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.enums;
+
+/**
+ * Keys supported in the parameters of a Filter.
+ * 
+ * @author nextworks
+ *
+ */
+public enum FilterKey {
+
+	//catalogue: NSDs and PNFDs
+	NSD_ID,
+	NSD_VERSION,
+	NSD_INFO_ID,
+	PNF_ID,
+	PNFD_ID,
+	PNFD_VERSION,
+	PNFD_INFO_ID,
+	
+	//catalogue: VNF packages
+	VNF_PACKAGE_ID,
+	VNF_PACKAGE_PRODUCT_NAME,
+	VNF_PACKAGE_SW_VERSION,
+	VNF_PACKAGE_PROVIDER,
+	VNFD_ID,
+	FLAVOUR_ID,
+	
+	//catalogue: MEC application packages
+	APP_PACKAGE_INFO_ID,
+	APPD_ID,
+	APPD_VERSION,
+	
+	//NS instances and virtualised resources
+	NS_ID,
+	RESOURCE_TYPE,
+	RESOURCE_ID,
+	
+	//vertical service blueprints and descriptors
+	VSB_NAME,
+	VSB_VERSION,
+	VSB_ID,
+	VSD_ID,
+	VSI_ID,
+	
+	//context and test case blueprints and descriptors
+	CTXB_NAME,
+	CTXB_VERSION,
+	TCB_NAME,
+	TCB_VERSION,
+	CTXB_ID,
+	CTXD_ID,
+	TCB_ID,
+	TCD_ID,
+	
+	//tenants and policies
+	TENANT_ID,
+	POLICY_ID,
+	POLICY_STATUS;
+	
+	/**
+	 * Returns the filter key with the given name, as used in the parameters of a filter
+	 * 
+	 * @param name name of the filter parameter
+	 * @return the filter key, or null if the parameter is not a supported key
+	 */
+	public static FilterKey fromString(String name) {
+		if (name == null) return null;
+		for (FilterKey x : FilterKey.values()) {
+			if (x.name().equals(name)) return x;
+		}
+		return null;
+	}
+	
+}
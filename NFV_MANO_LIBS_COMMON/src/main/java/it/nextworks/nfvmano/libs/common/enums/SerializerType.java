@@ -18,6 +18,10 @@ package it.nextworks.nfvmano.libs.common.enums;
 /**
  * Ref. ETSI GS MEC 011 V1.1.1 (2017-07) - 6.6.3
  * 
+ * SMILE and CBOR are not defined in the standard: they are binary encodings
+ * of the JSON data model, used for the internal communication between
+ * NFVO, VNFM and VIM adapters.
+ * 
  * @author nextworks
  *
  */
@@ -25,6 +29,8 @@ public enum SerializerType {
 
 	JSON,
 	XML,
-	PROTOBUF3
+	PROTOBUF3,
+	SMILE,
+	CBOR
 	
 }
@@ -48,4 +48,16 @@ public class MethodNotImplementedException extends Exception {
 		// TODO Auto-generated constructor stub
 	}
 
+	/**
+	 * Creates an exception that does not capture the stack trace nor record
+	 * suppressed exceptions, to be used on expected (control-flow) paths
+	 * where the cost of filling the stack trace is not justified.
+	 * 
+	 * @param message detail message
+	 * @return the stackless exception
+	 */
+	public static MethodNotImplementedException stackless(String message) {
+		return new MethodNotImplementedException(message, null, false, false);
+	}
+
 }
@@ -41,5 +41,17 @@ public class NotPermittedOperationException extends Exception {
 		super(message, cause, enableSuppression, writableStackTrace);
 		// TODO Auto-generated constructor stub
 	}
-	
+
+	/**
+	 * Creates an exception that does not capture the stack trace nor record
+	 * suppressed exceptions, to be used on expected (control-flow) paths
+	 * where the cost of filling the stack trace is not justified.
+	 * 
+	 * @param message detail message
+	 * @return the stackless exception
+	 */
+	public static NotPermittedOperationException stackless(String message) {
+		return new NotPermittedOperationException(message, null, false, false);
+	}
+
 }
@@ -20,4 +20,16 @@ public class WrongStatusException extends Exception {
 
     public WrongStatusException() {
     }
+
+    /**
+     * Creates an exception that does not capture the stack trace nor record
+     * suppressed exceptions, to be used on expected (control-flow) paths
+     * where the cost of filling the stack trace is not justified.
+     * 
+     * @param message detail message
+     * @return the stackless exception
+     */
+    public static WrongStatusException stackless(String message) {
+        return new WrongStatusException(message, null, false, false);
+    }
 }
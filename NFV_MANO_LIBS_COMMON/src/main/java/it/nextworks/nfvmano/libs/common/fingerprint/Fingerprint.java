@@ -0,0 +1,76 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.fingerprint;
+
+import java.util.Arrays;
+
+/**
+ * Content-addressed fingerprint of an element of the information model,
+ * i.e. the root hash of its Merkle tree computed by a {@link MerkleHasher}.
+ * Two elements with the same content have the same fingerprint.
+ * 
+ * @author nextworks
+ *
+ */
+public final class Fingerprint {
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+	
+	private final byte[] hash;
+	
+	Fingerprint(byte[] hash) {
+		this.hash = hash;
+	}
+	
+	/**
+	 * @return a copy of the bytes of the hash
+	 */
+	public byte[] toBytes() {
+		return hash.clone();
+	}
+	
+	/**
+	 * @return the hash as lower case hexadecimal string
+	 */
+	public String toHex() {
+		char[] chars = new char[hash.length * 2];
+		for (int i = 0; i < hash.length; i++) {
+			chars[2 * i] = HEX[(hash[i] >> 4) & 0x0f];
+			chars[2 * i + 1] = HEX[hash[i] & 0x0f];
+		}
+		return new String(chars);
+	}
+	
+	byte[] bytes() {
+		return hash;
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		return (obj instanceof Fingerprint) && Arrays.equals(hash, ((Fingerprint) obj).hash);
+	}
+	
+	@Override
+	public int hashCode() {
+		return ((hash[0] & 0xff) << 24) | ((hash[1] & 0xff) << 16) | ((hash[2] & 0xff) << 8) | (hash[3] & 0xff);
+	}
+	
+	@Override
+	public String toString() {
+		return toHex();
+	}
+	
+}
@@ -0,0 +1,502 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.fingerprint;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.proxy.HibernateProxy;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import it.nextworks.nfvmano.libs.common.tracking.ModificationStamp;
+import it.nextworks.nfvmano.libs.common.tracking.ModificationTracked;
+
+/**
+ * Canonical Merkle hashing of the elements of the information model.
+ * 
+ * The element tree is visited through its Jackson properties, so that the
+ * fingerprint covers the same content of the JSON serialization: 
+ * properties ignored by Jackson (e.g. database identifiers and back references)
+ * are not part of the fingerprint. Properties are hashed in name order, 
+ * map entries in key order and set elements in hash order, while lists keep their order.
+ * Null values, empty collections and empty maps are equivalent to missing properties.
+ * Hibernate proxies are hashed as the entities they refer to.
+ * 
+ * The hash of each element is computed from the hashes of its child elements.
+ * The hashes of the {@link ModificationTracked} elements are cached, weakly referencing 
+ * the element, together with the modification stamp they were computed with and the 
+ * tracked child elements they depend on. A cached hash is reused while the stamps of 
+ * the element and of all its cached descendants are unchanged, hence after a change 
+ * the next fingerprint of the root rehashes only the path from the root to the changed 
+ * element, while unchanged sub-trees are taken from the cache. If no tracked element
+ * has been changed since a cached hash was last verified, the hash is reused without
+ * checking the stamps at all.
+ * 
+ * A hash is cached only if the whole sub-tree is covered by the stamps: elements 
+ * containing untracked mutable content (e.g. untracked elements with setters or lists, 
+ * untracked collections, arrays or dates) are rehashed on each fingerprint. 
+ * Untracked elements whose fields are all immutable scalars and without setters 
+ * (e.g. AffinityRule) are immutable values and do not prevent the caching. 
+ * Within a single fingerprint, elements referenced more than once are hashed once. 
+ * The hasher can be used concurrently.
+ * 
+ * @author nextworks
+ *
+ */
+public class MerkleHasher {
+
+	private static final MerkleHasher DEFAULT = new MerkleHasher(new ObjectMapper());
+	
+	private static final byte OBJECT = 'O';
+	private static final byte STRING = 'S';
+	private static final byte NUMBER = 'N';
+	private static final byte BOOLEAN = 'B';
+	private static final byte ENUM = 'E';
+	private static final byte BYTES = 'Y';
+	private static final byte LIST = 'L';
+	private static final byte SET = 'U';
+	private static final byte MAP = 'M';
+	private static final byte VALUE = 'V';
+	private static final byte CYCLE = 'C';
+	
+	private static final Comparator<byte[]> HASH_ORDER = (a, b) -> {
+		for (int i = 0; i < a.length; i++) {
+			int c = Integer.compare(a[i] & 0xff, b[i] & 0xff);
+			if (c != 0) return c;
+		}
+		return 0;
+	};
+	
+	private final ObjectMapper mapper;
+	private final MessageDigest prototype;
+	private final Map<Class<?>, List<Property>> properties = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Boolean> valueTypes = new ConcurrentHashMap<>();
+	private final WeakIdentityMap<Node> nodes = new WeakIdentityMap<>();
+	private final AtomicLong hashedElements = new AtomicLong();
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param mapper mapper whose configuration selects the properties of the elements
+	 */
+	public MerkleHasher(ObjectMapper mapper) {
+		this.mapper = mapper;
+		try {
+			this.prototype = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+	
+	/**
+	 * @return the hasher shared by the information model
+	 */
+	public static MerkleHasher getDefault() {
+		return DEFAULT;
+	}
+	
+	/**
+	 * Computes the fingerprint of an element, reusing the cached hashes of its unchanged sub-trees
+	 * 
+	 * @param element the element
+	 * @return the fingerprint
+	 */
+	public Fingerprint fingerprint(Object element) {
+		if (element == null) throw new NullPointerException("Null element");
+		MessageDigest digest = newDigest();
+		new Walk().update(digest, element);
+		return new Fingerprint(digest.digest());
+	}
+	
+	/**
+	 * Computes the fingerprint of an element as hexadecimal string, 
+	 * e.g. to be used as content hasher of a ValidationCache.
+	 * 
+	 * @param element the element
+	 * @return the fingerprint as hexadecimal string
+	 */
+	public String hash(Object element) {
+		return fingerprint(element).toHex();
+	}
+	
+	/**
+	 * @return the number of elements with a cached hash
+	 */
+	public int getCachedElements() {
+		synchronized (nodes) {
+			return nodes.size();
+		}
+	}
+	
+	/**
+	 * @return the number of elements hashed since the creation of the hasher, 
+	 * not including the elements whose hash was taken from the cache
+	 */
+	public long getHashedElements() {
+		return hashedElements.get();
+	}
+	
+	private Node getNode(Object element) {
+		synchronized (nodes) {
+			return nodes.get(element);
+		}
+	}
+	
+	private void putNode(Object element, Node node) {
+		synchronized (nodes) {
+			nodes.put(element, node);
+		}
+	}
+	
+	//state of a single fingerprint
+	private class Walk {
+		
+		private final Map<Object, Node> walked = new IdentityHashMap<>();
+		private final Map<Object, Boolean> inProgress = new IdentityHashMap<>();
+		private Frame frame;
+		
+		private Node hashElement(Object element) {
+			Node node = walked.get(element);
+			if (node != null) return node;
+			boolean tracked = element instanceof ModificationTracked;
+			if (tracked) {
+				node = getNode(element);
+				if ((node != null) && node.isCurrent(element)) {
+					walked.put(element, node);
+					return node;
+				}
+			}
+			if (inProgress.put(element, Boolean.TRUE) != null) return null;
+			Frame parent = frame;
+			frame = new Frame();
+			try {
+				long clock = ModificationStamp.clock();
+				long stamp = tracked ? ((ModificationTracked) element).getModificationStamp() : 0;
+				MessageDigest digest = newDigest();
+				digest.update(OBJECT);
+				updateString(digest, element.getClass().getName());
+				for (Property p : getProperties(element.getClass())) {
+					Object value = p.getValue(element);
+					if (isEmpty(value)) {
+						if (value != null) checkContainer(value);
+						continue;
+					}
+					updateString(digest, p.name);
+					update(digest, value);
+				}
+				byte[] hash = digest.digest();
+				hashedElements.incrementAndGet();
+				if (!frame.cacheable) {
+					node = new Node(hash, Node.VOLATILE);
+				} else if (tracked) {
+					node = new Node(hash, stamp, clock, frame.children.toArray(), frame.childNodes.toArray(new Node[frame.childNodes.size()]));
+					putNode(element, node);
+				} else {
+					node = new Node(hash, isValueType(element.getClass()) ? Node.VALUE : Node.VOLATILE);
+				}
+				walked.put(element, node);
+				return node;
+			} finally {
+				frame = parent;
+				inProgress.remove(element);
+			}
+		}
+		
+		private void update(MessageDigest digest, Object value) {
+			if (value instanceof HibernateProxy) value = ((HibernateProxy) value).getHibernateLazyInitializer().getImplementation();
+			if (value instanceof String) {
+				digest.update(STRING);
+				updateString(digest, (String) value);
+			} else if (value instanceof Boolean) {
+				digest.update(BOOLEAN);
+				digest.update((byte) (((Boolean) value) ? 1 : 0));
+			} else if (value instanceof Number) {
+				if (!isImmutableScalar(value.getClass())) uncacheable();
+				digest.update(NUMBER);
+				Object number = (value instanceof BigDecimal) ? ((BigDecimal) value).stripTrailingZeros().toPlainString() : value;
+				updateString(digest, number.toString());
+			} else if (value instanceof Enum) {
+				digest.update(ENUM);
+				updateString(digest, ((Enum<?>) value).name());
+			} else if (value instanceof byte[]) {
+				uncacheable();
+				digest.update(BYTES);
+				updateInt(digest, ((byte[]) value).length);
+				digest.update((byte[]) value);
+			} else if (value instanceof Object[]) {
+				uncacheable();
+				updateList(digest, Arrays.asList((Object[]) value));
+			} else if (value instanceof Set) {
+				checkContainer(value);
+				digest.update(SET);
+				List<byte[]> elementHashes = new ArrayList<>();
+				for (Object v : (Set<?>) value) {
+					if (v == null) continue;
+					MessageDigest elementDigest = newDigest();
+					update(elementDigest, v);
+					elementHashes.add(elementDigest.digest());
+				}
+				elementHashes.sort(HASH_ORDER);
+				updateInt(digest, elementHashes.size());
+				for (byte[] h : elementHashes) digest.update(h);
+			} else if (value instanceof Collection) {
+				checkContainer(value);
+				updateList(digest, (Collection<?>) value);
+			} else if (value instanceof Map) {
+				checkContainer(value);
+				digest.update(MAP);
+				Map<String, Object> sorted = new TreeMap<>();
+				for (Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+					if (e.getValue() != null) sorted.put(String.valueOf(e.getKey()), e.getValue());
+				}
+				updateInt(digest, sorted.size());
+				for (Map.Entry<String, Object> e : sorted.entrySet()) {
+					updateString(digest, e.getKey());
+					update(digest, e.getValue());
+				}
+			} else if (isElement(value.getClass())) {
+				Node child = hashElement(value);
+				if (child == null) {
+					uncacheable();
+					digest.update(CYCLE);
+				} else {
+					if (frame != null) frame.add(value, child);
+					digest.update(OBJECT);
+					digest.update(child.hash);
+				}
+			} else {
+				if (!isImmutableScalar(value.getClass())) uncacheable();
+				digest.update(VALUE);
+				updateString(digest, value.toString());
+			}
+		}
+		
+		private void updateList(MessageDigest digest, Collection<?> values) {
+			digest.update(LIST);
+			updateInt(digest, values.size());
+			for (Object v : values) {
+				if (v == null) {
+					digest.update(VALUE);
+					updateInt(digest, -1);
+				} else {
+					update(digest, v);
+				}
+			}
+		}
+		
+		//collections of tracked elements must be tracked by their stamp, or immutable
+		private void checkContainer(Object container) {
+			if (!ModificationStamp.isTracked(container) 
+					&& !container.getClass().getName().startsWith("java.util.Collections$Unmodifiable")) uncacheable();
+		}
+		
+		private void uncacheable() {
+			if (frame != null) frame.cacheable = false;
+		}
+	}
+	
+	//content of the element being hashed
+	private static class Frame {
+		
+		boolean cacheable = true;
+		final List<Object> children = new ArrayList<>();
+		final List<Node> childNodes = new ArrayList<>();
+		
+		void add(Object child, Node node) {
+			if (node.kind == Node.TRACKED) {
+				children.add(child);
+				childNodes.add(node);
+			} else if (node.kind == Node.VOLATILE) {
+				cacheable = false;
+			}
+		}
+	}
+	
+	private static class Node {
+		
+		//hash of a tracked element, valid while the stamps of the element and of its children are unchanged
+		static final int TRACKED = 0;
+		//hash of an immutable value
+		static final int VALUE = 1;
+		//hash valid only for the current fingerprint
+		static final int VOLATILE = 2;
+		
+		final byte[] hash;
+		final int kind;
+		final long stamp;
+		final Object[] children;
+		final Node[] childNodes;
+		volatile long verifiedAt = -1;
+		
+		Node(byte[] hash, int kind) {
+			this.hash = hash;
+			this.kind = kind;
+			this.stamp = 0;
+			this.children = null;
+			this.childNodes = null;
+		}
+		
+		Node(byte[] hash, long stamp, long clock, Object[] children, Node[] childNodes) {
+			this.hash = hash;
+			this.kind = TRACKED;
+			this.stamp = stamp;
+			this.children = children;
+			this.childNodes = childNodes;
+			this.verifiedAt = clock;
+		}
+		
+		boolean isCurrent(Object element) {
+			long clock = ModificationStamp.clock();
+			return (verifiedAt == clock) || matches(element, clock);
+		}
+		
+		private boolean matches(Object element, long clock) {
+			if (verifiedAt == clock) return true;
+			if (((ModificationTracked) element).getModificationStamp() != stamp) return false;
+			for (int i = 0; i < children.length; i++) {
+				if (!childNodes[i].matches(children[i], clock)) return false;
+			}
+			verifiedAt = clock;
+			return true;
+		}
+	}
+	
+	private static void updateString(MessageDigest digest, String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		updateInt(digest, bytes.length);
+		digest.update(bytes);
+	}
+	
+	private static void updateInt(MessageDigest digest, int value) {
+		digest.update((byte) (value >>> 24));
+		digest.update((byte) (value >>> 16));
+		digest.update((byte) (value >>> 8));
+		digest.update((byte) value);
+	}
+	
+	private static boolean isEmpty(Object value) {
+		return (value == null) 
+				|| ((value instanceof Collection) && ((Collection<?>) value).isEmpty())
+				|| ((value instanceof Map) && ((Map<?, ?>) value).isEmpty());
+	}
+	
+	private static boolean isElement(Class<?> type) {
+		String name = type.getName();
+		return !(name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("com.fasterxml."));
+	}
+	
+	private static boolean isImmutableScalar(Class<?> type) {
+		return (type == String.class) || (type == Boolean.class) || (type == Character.class) 
+				|| (type == Byte.class) || (type == Short.class) || (type == Integer.class) || (type == Long.class)
+				|| (type == Float.class) || (type == Double.class) || (type == BigDecimal.class) || (type == BigInteger.class)
+				|| Enum.class.isAssignableFrom(type);
+	}
+	
+	private boolean isValueType(Class<?> type) {
+		Boolean value = valueTypes.get(type);
+		if (value == null) {
+			value = isValueType(type, new HashSet<>());
+			valueTypes.put(type, value);
+		}
+		return value;
+	}
+	
+	//untracked elements without setters, whose fields are all immutable scalars or values
+	private static boolean isValueType(Class<?> type, Set<Class<?>> visiting) {
+		if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || !visiting.add(type)) return false;
+		try {
+			for (Method m : type.getMethods()) {
+				if (m.getName().startsWith("set") && (m.getParameterCount() == 1) && !Modifier.isStatic(m.getModifiers())) return false;
+			}
+			for (Class<?> c = type; (c != null) && (c != Object.class); c = c.getSuperclass()) {
+				for (Field f : c.getDeclaredFields()) {
+					if (Modifier.isStatic(f.getModifiers()) || f.isSynthetic()) continue;
+					Class<?> t = f.getType();
+					if (t.isPrimitive() || isImmutableScalar(t)) continue;
+					if (t.isArray() || !isElement(t) || !isValueType(t, visiting)) return false;
+				}
+			}
+			return true;
+		} finally {
+			visiting.remove(type);
+		}
+	}
+	
+	private MessageDigest newDigest() {
+		try {
+			return (MessageDigest) prototype.clone();
+		} catch (CloneNotSupportedException e) {
+			try {
+				return MessageDigest.getInstance(prototype.getAlgorithm());
+			} catch (NoSuchAlgorithmException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+	}
+	
+	private List<Property> getProperties(Class<?> type) {
+		return properties.computeIfAbsent(type, t -> {
+			BeanDescription description = mapper.getSerializationConfig().introspect(mapper.constructType(t));
+			List<Property> result = new ArrayList<>();
+			for (BeanPropertyDefinition p : description.findProperties()) {
+				AnnotatedMember accessor = p.getAccessor();
+				if (accessor == null) continue;
+				accessor.fixAccess(true);
+				result.add(new Property(p.getName(), accessor));
+			}
+			result.sort((a, b) -> a.name.compareTo(b.name));
+			return result;
+		});
+	}
+	
+	private static class Property {
+		
+		final String name;
+		final AnnotatedMember accessor;
+		
+		Property(String name, AnnotatedMember accessor) {
+			this.name = name;
+			this.accessor = accessor;
+		}
+		
+		Object getValue(Object element) {
+			return accessor.getValue(element);
+		}
+	}
+	
+}
@@ -0,0 +1,90 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.fingerprint;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Map with keys compared by identity and weakly referenced, 
+ * so that the cached hashes do not keep the elements alive.
+ * Not thread safe.
+ * 
+ * @author nextworks
+ *
+ * @param <V> type of the values
+ */
+class WeakIdentityMap<V> {
+
+	private final Map<IdentityKey, V> map = new HashMap<>();
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+	
+	V get(Object key) {
+		expunge();
+		return map.get(new IdentityKey(key, null));
+	}
+	
+	void put(Object key, V value) {
+		expunge();
+		map.put(new IdentityKey(key, queue), value);
+	}
+	
+	V remove(Object key) {
+		expunge();
+		return map.remove(new IdentityKey(key, null));
+	}
+	
+	int size() {
+		expunge();
+		return map.size();
+	}
+	
+	void clear() {
+		map.clear();
+		while (queue.poll() != null);
+	}
+	
+	private void expunge() {
+		Object ref;
+		while ((ref = queue.poll()) != null) map.remove(ref);
+	}
+	
+	private static class IdentityKey extends WeakReference<Object> {
+		
+		private final int hash;
+		
+		IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+			super(referent, queue);
+			this.hash = System.identityHashCode(referent);
+		}
+		
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) return true;
+			if (!(obj instanceof IdentityKey)) return false;
+			Object referent = get();
+			return referent != null && referent == ((IdentityKey) obj).get();
+		}
+	}
+	
+}
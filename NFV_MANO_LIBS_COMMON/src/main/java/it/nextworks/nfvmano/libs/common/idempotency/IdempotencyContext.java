@@ -0,0 +1,93 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.idempotency;
+
+/**
+ * Client idempotency key of the request issued by the current thread,
+ * e.g. taken by a northbound gateway from the Idempotency-Key header 
+ * of the incoming request.
+ * 
+ * The key is consumed by the first operation invoked through an 
+ * {@link IdempotencyLayer} decorator within the scope: the further operations 
+ * invoked in the same scope (e.g. the VNF instantiations issued while 
+ * handling an NS instantiation) are compared by content.
+ * 
+ * <pre>
+ * try (IdempotencyContext.Scope scope = IdempotencyContext.withKey(idempotencyKey)) {
+ *     operationId = nsLcm.instantiateNs(request);
+ * }
+ * </pre>
+ * 
+ * @author nextworks
+ *
+ */
+public class IdempotencyContext {
+
+	private static final ThreadLocal<String> KEY = new ThreadLocal<>();
+	
+	private IdempotencyContext() { }
+	
+	/**
+	 * Sets the idempotency key of the next request issued by the current thread,
+	 * until the key is consumed or the returned scope is closed
+	 * 
+	 * @param key the client idempotency key, null to use the content of the requests
+	 * @return the scope of the key
+	 */
+	public static Scope withKey(String key) {
+		String previous = KEY.get();
+		KEY.set(key);
+		return new Scope(previous);
+	}
+	
+	/**
+	 * @return the idempotency key of the current thread, null if not set
+	 */
+	public static String getKey() {
+		return KEY.get();
+	}
+	
+	/**
+	 * Returns the idempotency key of the current thread and removes it 
+	 * for the rest of the scope
+	 * 
+	 * @return the idempotency key, null if not set or already consumed
+	 */
+	static String consumeKey() {
+		String key = KEY.get();
+		if (key != null) KEY.set(null);
+		return key;
+	}
+	
+	/**
+	 * Scope of an idempotency key, restoring the previous key when closed
+	 */
+	public static final class Scope implements AutoCloseable {
+		
+		private final String previous;
+		
+		private Scope(String previous) {
+			this.previous = previous;
+		}
+		
+		@Override
+		public void close() {
+			if (previous == null) KEY.remove();
+			else KEY.set(previous);
+		}
+	}
+	
+}
@@ -0,0 +1,271 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.idempotency;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import it.nextworks.nfvmano.libs.common.exceptions.FailedOperationException;
+import it.nextworks.nfvmano.libs.common.fingerprint.Fingerprint;
+import it.nextworks.nfvmano.libs.common.fingerprint.MerkleHasher;
+import it.nextworks.nfvmano.libs.common.proxy.DelegatingInvocationHandler;
+
+/**
+ * Idempotency layer for the lifecycle operations of provider interfaces 
+ * (e.g. NsLcmProviderInterface, VnfLcmProviderInterface or the allocation 
+ * methods of the IFA05 resource management interfaces).
+ * 
+ * The decorators created by the layer are dynamic proxies. A request is a 
+ * duplicate of a previous one invoked on the same target if it has the same 
+ * operation and the same client idempotency key (see {@link IdempotencyContext})
+ * or, when the caller does not provide a key, the same content, compared through 
+ * the fingerprints of the arguments. Duplicates received while the original 
+ * request is in progress, or within the window of the {@link IdempotencyStore} 
+ * following its completion, are not executed again: they receive the response 
+ * of the original request (e.g. its operation ID), waiting for it if the 
+ * original request is still in progress. Methods returning a CompletableFuture 
+ * (e.g. the *ProviderAsync interfaces) share the future of the original request.
+ * Failed requests are not remembered, so that the clients can retry them.
+ * 
+ * When a client key is provided, the content of the request is not compared: 
+ * reusing a key for a different request returns the response of the first one.
+ * The key is consumed by the first decorated operation invoked in its scope, 
+ * hence it does not apply to the further operations issued by the same thread.
+ * 
+ * @author nextworks
+ *
+ */
+public class IdempotencyLayer {
+	
+	private static final String[] READ_ONLY_PREFIXES = { "query", "get", "subscribe", "unsubscribe", "notify" };
+
+	private final IdempotencyStore store;
+	private final MerkleHasher hasher;
+	
+	private final AtomicLong executions = new AtomicLong();
+	private final AtomicLong duplicates = new AtomicLong();
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param store the store of the received requests
+	 */
+	public IdempotencyLayer(IdempotencyStore store) {
+		this(store, new ObjectMapper());
+	}
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param store the store of the received requests
+	 * @param mapper mapper whose configuration selects the properties compared in the requests
+	 */
+	public IdempotencyLayer(IdempotencyStore store, ObjectMapper mapper) {
+		if (store == null) throw new NullPointerException("Null store");
+		this.store = store;
+		this.hasher = new MerkleHasher(mapper);
+	}
+	
+	/**
+	 * Decorates an implementation of a provider interface, making idempotent all its 
+	 * operations with arguments, except queries, subscriptions and notifications
+	 * (i.e. the methods whose name starts with "query", "get", "subscribe", 
+	 * "unsubscribe" or "notify").
+	 * 
+	 * @param iface the interface
+	 * @param target the implementation
+	 * @return the decorated implementation
+	 */
+	public <T> T decorate(Class<T> iface, T target) {
+		Set<String> operations = new HashSet<>();
+		for (Method m : iface.getMethods()) {
+			if ((m.getParameterCount() > 0) && !isReadOnly(m.getName())) operations.add(m.getName());
+		}
+		return new IdempotentInvocationHandler<>(iface, target, operations).newProxy();
+	}
+	
+	/**
+	 * Decorates an implementation of a provider interface, making idempotent the given operations
+	 * 
+	 * @param iface the interface
+	 * @param target the implementation
+	 * @param operations names of the methods to be made idempotent
+	 * @return the decorated implementation
+	 * @throws IllegalArgumentException if a method does not exist or has no arguments
+	 */
+	public <T> T decorate(Class<T> iface, T target, String... operations) {
+		Set<String> selected = new HashSet<>(Arrays.asList(operations));
+		for (String operation : selected) {
+			boolean found = false;
+			for (Method m : iface.getMethods()) {
+				if (!m.getName().equals(operation)) continue;
+				if (m.getParameterCount() == 0) throw new IllegalArgumentException("Method " + operation + " of " + iface.getSimpleName() + " has no arguments");
+				found = true;
+			}
+			if (!found) throw new IllegalArgumentException("Method " + operation + " not found in " + iface.getSimpleName());
+		}
+		return new IdempotentInvocationHandler<>(iface, target, selected).newProxy();
+	}
+	
+	/**
+	 * @return the store of the received requests
+	 */
+	public IdempotencyStore getStore() {
+		return store;
+	}
+	
+	/**
+	 * @return the number of requests invoked on the targets
+	 */
+	public long getExecutions() {
+		return executions.get();
+	}
+	
+	/**
+	 * @return the number of duplicate requests answered without invoking the targets
+	 */
+	public long getDuplicates() {
+		return duplicates.get();
+	}
+	
+	private static boolean isReadOnly(String operation) {
+		for (String prefix : READ_ONLY_PREFIXES) {
+			if (operation.startsWith(prefix)) return true;
+		}
+		return false;
+	}
+	
+	private Fingerprint[] fingerprints(Object[] args) {
+		Fingerprint[] fingerprints = new Fingerprint[args.length];
+		for (int i = 0; i < args.length; i++) {
+			if (args[i] != null) fingerprints[i] = hasher.fingerprint(args[i]);
+		}
+		return fingerprints;
+	}
+	
+	private class IdempotentInvocationHandler<T> extends DelegatingInvocationHandler<T> {
+		
+		private final Map<Method, String> operations = new HashMap<>();
+		
+		IdempotentInvocationHandler(Class<T> iface, T target, Set<String> selected) {
+			super(iface, target);
+			for (Method m : iface.getMethods()) {
+				if (selected.contains(m.getName()) && (m.getParameterCount() > 0)) operations.put(m, m.getName());
+			}
+		}
+
+		@Override
+		protected Object invokeInterfaceMethod(Method method, Object[] args) throws Throwable {
+			if (!operations.containsKey(method)) return proceed(method, args);
+			String clientKey = IdempotencyContext.consumeKey();
+			RequestKey key = (clientKey != null) ? new RequestKey(target, method, clientKey, null) 
+					: new RequestKey(target, method, null, fingerprints(args));
+			boolean async = CompletableFuture.class.isAssignableFrom(method.getReturnType());
+			
+			IdempotencyStore.Registration registration = store.register(key);
+			if (!registration.isOwner()) {
+				duplicates.incrementAndGet();
+				return async ? registration.getResponse().thenApply(Function.identity()) : await(method, registration.getResponse());
+			}
+			
+			executions.incrementAndGet();
+			if (async) {
+				CompletableFuture<?> result;
+				try {
+					result = (CompletableFuture<?>) proceed(method, args);
+				} catch (Throwable e) {
+					store.fail(key, registration, e);
+					throw e;
+				}
+				if (result == null) {
+					//the duplicates cannot share a missing future, and the request can be retried
+					store.fail(key, registration, new NullPointerException("Null future returned by " + method.getName()));
+					return null;
+				}
+				result.whenComplete((response, e) -> {
+					if (e == null) store.complete(key, registration, response);
+					else store.fail(key, registration, (e instanceof CompletionException) && (e.getCause() != null) ? e.getCause() : e);
+				});
+				return registration.getResponse().thenApply(Function.identity());
+			}
+			try {
+				Object response = proceed(method, args);
+				store.complete(key, registration, response);
+				return response;
+			} catch (Throwable e) {
+				store.fail(key, registration, e);
+				throw e;
+			}
+		}
+		
+		private Object await(Method method, CompletableFuture<Object> response) throws Throwable {
+			try {
+				return response.get();
+			} catch (ExecutionException e) {
+				throw e.getCause();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				String message = "Interrupted while waiting for the original request of " + method.getName();
+				if (canThrow(method, FailedOperationException.class)) throw new FailedOperationException(message);
+				throw new CompletionException(message, e);
+			}
+		}
+	}
+	
+	private static final class RequestKey {
+		
+		private final Object scope;
+		private final Method method;
+		private final String clientKey;
+		private final Fingerprint[] content;
+		private final int hash;
+		
+		private RequestKey(Object scope, Method method, String clientKey, Fingerprint[] content) {
+			this.scope = scope;
+			this.method = method;
+			this.clientKey = clientKey;
+			this.content = content;
+			int h = System.identityHashCode(scope) * 31 + method.hashCode();
+			this.hash = h * 31 + ((clientKey != null) ? clientKey.hashCode() : Arrays.hashCode(content));
+		}
+		
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof RequestKey)) return false;
+			RequestKey other = (RequestKey) obj;
+			if ((scope != other.scope) || !method.equals(other.method)) return false;
+			if (clientKey != null) return clientKey.equals(other.clientKey);
+			return (other.clientKey == null) && Arrays.equals(content, other.content);
+		}
+	}
+	
+}
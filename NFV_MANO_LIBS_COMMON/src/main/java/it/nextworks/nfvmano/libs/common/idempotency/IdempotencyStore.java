@@ -0,0 +1,249 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.idempotency;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Store of the requests already received by an idempotency layer, with 
+ * their responses.
+ * 
+ * The store is split in stripes, selected by the hash of the key and each 
+ * protected by its own lock, so that concurrent requests with different keys 
+ * rarely contend. A request in progress is never evicted, so that its duplicates 
+ * always join it. A completed request is kept for a fixed window from its completion: 
+ * the expired requests and, when a stripe is full, the requests completed first 
+ * are evicted on each registration in the stripe. A stripe can therefore exceed its
+ * share of the maximum number of requests only with requests in progress. 
+ * Failed requests are removed, so that they can be retried.
+ * 
+ * @author nextworks
+ *
+ */
+public class IdempotencyStore {
+
+	public static final int DEFAULT_STRIPES = 16;
+	
+	private final long ttlNanos;
+	private final int maxEntriesPerStripe;
+	private final Stripe[] stripes;
+	
+	/**
+	 * @param ttl window in which duplicate requests are detected
+	 * @param unit unit of the window
+	 * @param maxEntries maximum number of requests kept in the store
+	 */
+	public IdempotencyStore(long ttl, TimeUnit unit, int maxEntries) {
+		this(ttl, unit, maxEntries, DEFAULT_STRIPES);
+	}
+	
+	/**
+	 * @param ttl window in which duplicate requests are detected
+	 * @param unit unit of the window
+	 * @param maxEntries maximum number of requests kept in the store
+	 * @param stripes number of independently locked stripes
+	 */
+	public IdempotencyStore(long ttl, TimeUnit unit, int maxEntries, int stripes) {
+		if (ttl <= 0) throw new IllegalArgumentException("Time to live not positive");
+		if (stripes <= 0) throw new IllegalArgumentException("Number of stripes not positive");
+		if (maxEntries < stripes) throw new IllegalArgumentException("Maximum number of entries lower than the number of stripes");
+		this.ttlNanos = unit.toNanos(ttl);
+		this.maxEntriesPerStripe = maxEntries / stripes;
+		this.stripes = new Stripe[stripes];
+		for (int i = 0; i < stripes; i++) this.stripes[i] = new Stripe();
+	}
+	
+	/**
+	 * Registers a request. If an identical request is registered and not expired, 
+	 * its registration is returned, otherwise a new registration owned by the caller 
+	 * is created: the owner must execute the request and then invoke 
+	 * {@link #complete(Object, Registration, Object)} or {@link #fail(Object, Registration, Throwable)}.
+	 * 
+	 * @param key the key of the request
+	 * @return the registration of the request
+	 */
+	public Registration register(Object key) {
+		Stripe stripe = stripe(key);
+		long now = System.nanoTime();
+		stripe.lock.lock();
+		try {
+			evict(stripe, now);
+			Entry existing = stripe.entries.get(key);
+			if (existing != null) return new Registration(existing, false);
+			Entry entry = new Entry();
+			stripe.entries.put(key, entry);
+			return new Registration(entry, true);
+		} finally {
+			stripe.lock.unlock();
+		}
+	}
+	
+	/**
+	 * Completes a request with its response, which is returned to the duplicates 
+	 * received until the end of the window starting now
+	 * 
+	 * @param key the key of the request
+	 * @param registration the registration owned by the caller
+	 * @param response the response
+	 */
+	public void complete(Object key, Registration registration, Object response) {
+		Stripe stripe = stripe(key);
+		stripe.lock.lock();
+		try {
+			Entry existing = stripe.entries.get(key);
+			if (existing == registration.entry) {
+				//moved to the tail, keeping the completed entries in expiration order
+				stripe.entries.remove(key);
+				existing.expiration = System.nanoTime() + ttlNanos;
+				existing.completed = true;
+				stripe.entries.put(key, existing);
+			}
+		} finally {
+			stripe.lock.unlock();
+		}
+		registration.entry.response.complete(response);
+	}
+	
+	/**
+	 * Fails a request: the pending duplicates receive the exception, the following 
+	 * ones are executed again
+	 * 
+	 * @param key the key of the request
+	 * @param registration the registration owned by the caller
+	 * @param e the exception of the request
+	 */
+	public void fail(Object key, Registration registration, Throwable e) {
+		Stripe stripe = stripe(key);
+		stripe.lock.lock();
+		try {
+			if (stripe.entries.get(key) == registration.entry) stripe.entries.remove(key);
+		} finally {
+			stripe.lock.unlock();
+		}
+		registration.entry.response.completeExceptionally(e);
+	}
+	
+	/**
+	 * Removes a request, so that its following duplicates are executed again
+	 * 
+	 * @param key the key of the request
+	 */
+	public void remove(Object key) {
+		Stripe stripe = stripe(key);
+		stripe.lock.lock();
+		try {
+			stripe.entries.remove(key);
+		} finally {
+			stripe.lock.unlock();
+		}
+	}
+	
+	/**
+	 * Removes all the requests
+	 */
+	public void clear() {
+		for (Stripe stripe : stripes) {
+			stripe.lock.lock();
+			try {
+				stripe.entries.clear();
+			} finally {
+				stripe.lock.unlock();
+			}
+		}
+	}
+	
+	/**
+	 * @return the number of requests in the store, including the ones in progress and the expired ones not yet evicted
+	 */
+	public int size() {
+		int size = 0;
+		for (Stripe stripe : stripes) {
+			stripe.lock.lock();
+			try {
+				size += stripe.entries.size();
+			} finally {
+				stripe.lock.unlock();
+			}
+		}
+		return size;
+	}
+	
+	private Stripe stripe(Object key) {
+		int h = key.hashCode();
+		h ^= (h >>> 16);
+		return stripes[(h & 0x7fffffff) % stripes.length];
+	}
+	
+	private void evict(Stripe stripe, long now) {
+		//completed entries are in completion order, hence in expiration order, 
+		//interleaved with the entries in progress, which are skipped
+		Iterator<Entry> it = stripe.entries.values().iterator();
+		int size = stripe.entries.size();
+		while (it.hasNext()) {
+			Entry e = it.next();
+			if (!e.completed) continue;
+			if ((now - e.expiration < 0) && (size < maxEntriesPerStripe)) break;
+			it.remove();
+			size--;
+		}
+	}
+	
+	private static final class Stripe {
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Map<Object, Entry> entries = new LinkedHashMap<>();
+	}
+	
+	private static final class Entry {
+		private final CompletableFuture<Object> response = new CompletableFuture<>();
+		//guarded by the lock of the stripe
+		private boolean completed;
+		private long expiration;
+	}
+	
+	/**
+	 * Registration of a request in the store
+	 */
+	public static final class Registration {
+		
+		private final Entry entry;
+		private final boolean owner;
+		
+		private Registration(Entry entry, boolean owner) {
+			this.entry = entry;
+			this.owner = owner;
+		}
+		
+		/**
+		 * @return true if the caller registered the request and must execute it
+		 */
+		public boolean isOwner() {
+			return owner;
+		}
+		
+		/**
+		 * @return the future completed with the response of the request
+		 */
+		public CompletableFuture<Object> getResponse() {
+			return entry.response;
+		}
+	}
+	
+}
@@ -0,0 +1,150 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.identifiers;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Dictionary of the identifiers shared by many records of the inventory 
+ * (e.g. VNFD, NSD, VIM, zone, resource provider and flavour IDs).
+ * 
+ * Each identifier is stored once and mapped on a compact int handle, so
+ * that records can share the same canonical String instance and identifiers
+ * can be compared by handle or by reference.
+ * 
+ * The dictionary is append-only: it must be used only for identifiers with
+ * a bounded value set, not for identifiers of instances. When the maximum
+ * size is reached new identifiers are returned as they are and get no handle.
+ * 
+ * @author nextworks
+ *
+ */
+public class IdentifierDictionary {
+
+	public static final int NO_HANDLE = -1;
+	
+	public static final int DEFAULT_MAX_SIZE = 1 << 20;
+	
+	private static final IdentifierDictionary DEFAULT = new IdentifierDictionary(DEFAULT_MAX_SIZE);
+	
+	private final int maxSize;
+	private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+	private volatile String[] identifiers = new String[64];
+	private int size = 0;
+	
+	/**
+	 * @param maxSize maximum number of identifiers stored in the dictionary
+	 */
+	public IdentifierDictionary(int maxSize) {
+		this.maxSize = maxSize;
+	}
+	
+	/**
+	 * @return the dictionary shared by the information model
+	 */
+	public static IdentifierDictionary getDefault() {
+		return DEFAULT;
+	}
+	
+	/**
+	 * Interns an identifier in the default dictionary.
+	 * 
+	 * @param identifier the identifier, may be null
+	 * @return the canonical instance of the identifier
+	 */
+	public static String intern(String identifier) {
+		return DEFAULT.canonicalize(identifier);
+	}
+	
+	/**
+	 * Compares two identifiers, by reference when both are canonical.
+	 * 
+	 * @param a first identifier
+	 * @param b second identifier
+	 * @return true if the identifiers are equal
+	 */
+	public static boolean sameIdentifier(String a, String b) {
+		return (a == b) || ((a != null) && a.equals(b));
+	}
+	
+	/**
+	 * @param identifier the identifier, may be null
+	 * @return the canonical instance of the identifier
+	 */
+	public String canonicalize(String identifier) {
+		if (identifier == null) return null;
+		Entry e = lookup(identifier);
+		return (e != null) ? e.identifier : identifier;
+	}
+	
+	/**
+	 * @param identifier the identifier
+	 * @return the handle of the identifier, NO_HANDLE if null or if the dictionary is full
+	 */
+	public int getHandle(String identifier) {
+		if (identifier == null) return NO_HANDLE;
+		Entry e = lookup(identifier);
+		return (e != null) ? e.handle : NO_HANDLE;
+	}
+	
+	/**
+	 * @param handle the handle of an identifier
+	 * @return the identifier, or null if the handle is not valid
+	 */
+	public String resolve(int handle) {
+		String[] current = identifiers;
+		return ((handle >= 0) && (handle < current.length)) ? current[handle] : null;
+	}
+	
+	/**
+	 * @return the number of identifiers in the dictionary
+	 */
+	public int size() {
+		return entries.size();
+	}
+	
+	private Entry lookup(String identifier) {
+		Entry e = entries.get(identifier);
+		if (e != null) return e;
+		synchronized (this) {
+			e = entries.get(identifier);
+			if (e != null) return e;
+			if (size >= maxSize) return null;
+			if (size == identifiers.length) identifiers = Arrays.copyOf(identifiers, size * 2);
+			e = new Entry(identifier, size);
+			//the identifier is stored in the array before its handle is visible in the map
+			identifiers[size] = identifier;
+			size++;
+			entries.put(identifier, e);
+			return e;
+		}
+	}
+	
+	private static final class Entry {
+		
+		private final String identifier;
+		private final int handle;
+		
+		private Entry(String identifier, int handle) {
+			this.identifier = identifier;
+			this.handle = handle;
+		}
+		
+	}
+	
+}
@@ -0,0 +1,43 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.identifiers;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * JPA converter that interns identifiers loaded from the DB in the default 
+ * IdentifierDictionary. The column keeps the plain identifier.
+ * To be used with @Convert(converter = InternedIdentifierConverter.class) 
+ * on String identifier fields.
+ * 
+ * @author nextworks
+ *
+ */
+@Converter
+public class InternedIdentifierConverter implements AttributeConverter<String, String> {
+
+	@Override
+	public String convertToDatabaseColumn(String attribute) {
+		return attribute;
+	}
+
+	@Override
+	public String convertToEntityAttribute(String dbData) {
+		return IdentifierDictionary.intern(dbData);
+	}
+
+}
@@ -0,0 +1,47 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.identifiers;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+/**
+ * Jackson deserializer that interns identifiers in the default IdentifierDictionary.
+ * To be used with @JsonDeserialize(using = InternedIdentifierDeserializer.class) 
+ * on String identifier fields.
+ * 
+ * @author nextworks
+ *
+ */
+public class InternedIdentifierDeserializer extends StdScalarDeserializer<String> {
+
+	private static final long serialVersionUID = 1L;
+
+	public InternedIdentifierDeserializer() {
+		super(String.class);
+	}
+	
+	@Override
+	public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+		String value = p.getValueAsString();
+		if (value == null) value = (String) ctxt.handleUnexpectedToken(String.class, p);
+		return IdentifierDictionary.intern(value);
+	}
+	
+}
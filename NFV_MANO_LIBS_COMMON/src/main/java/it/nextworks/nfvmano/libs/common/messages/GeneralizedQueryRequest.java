@@ -32,6 +32,8 @@ public class GeneralizedQueryRequest implements InterfaceMessage {
 
 	private Filter filter;
 	private List<String> attributeSelector = new ArrayList<>();
+	private Integer pageSize;
+	private String cursor;
 	
 	public GeneralizedQueryRequest() {	}
 	
@@ -46,6 +48,23 @@ public class GeneralizedQueryRequest implements InterfaceMessage {
 		this.filter = filter;
 		if (attributeSelector != null) this.attributeSelector = attributeSelector;
 	}
+	
+	/**
+	 * Constructor for paged queries
+	 * 
+	 * @param filter Filter defining the entities on which the query applies, based on their attributes or identifiers.
+	 * @param attributeSelector Provides a list of attribute names of the entity. If present, only these attributes are returned.
+	 * @param pageSize Maximum number of entities to be returned. If null, all the entities are returned.
+	 * @param cursor Opaque cursor returned with the previous page, identifying where the query continues. If null, the query starts from the first entity.
+	 */
+	public GeneralizedQueryRequest(Filter filter,
+			List<String> attributeSelector,
+			Integer pageSize,
+			String cursor) {
+		this(filter, attributeSelector);
+		this.pageSize = pageSize;
+		this.cursor = cursor;
+	}
 
 	/**
 	 * @return the filter
@@ -61,10 +80,26 @@ public class GeneralizedQueryRequest implements InterfaceMessage {
 		return attributeSelector;
 	}
 	
+	/**
+	 * @return the pageSize
+	 */
+	public Integer getPageSize() {
+		return pageSize;
+	}
+
+	/**
+	 * @return the cursor
+	 */
+	public String getCursor() {
+		return cursor;
+	}
+	
 	@Override
 	public void isValid() throws MalformattedElementException {
 		if (this.filter == null) 
 			throw new MalformattedElementException("NSD query request without filter");
+		if ((this.pageSize != null) && (this.pageSize <= 0))
+			throw new MalformattedElementException("Query request with page size not positive");
 	}
 
 }
@@ -0,0 +1,128 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics registry keeping the metrics in memory.
+ * 
+ * The throughput in the snapshots is computed over the interval since 
+ * the creation of the registry or its last reset.
+ * 
+ * @author nextworks
+ *
+ */
+public class InMemoryMetricsRegistry implements MetricsRegistry {
+
+	private final Map<String, InMemoryOperationMetrics> operations = new ConcurrentHashMap<>();
+	private volatile long startMillis = System.currentTimeMillis();
+	
+	public InMemoryMetricsRegistry() { }
+	
+	@Override
+	public OperationMetrics getOperationMetrics(String component, String operation) {
+		return operations.computeIfAbsent(component + "#" + operation, k -> new InMemoryOperationMetrics(component, operation));
+	}
+	
+	@Override
+	public MetricsSnapshot snapshot() {
+		long now = System.currentTimeMillis();
+		long interval = Math.max(now - startMillis, 1);
+		List<OperationSnapshot> snapshots = new ArrayList<>();
+		for (InMemoryOperationMetrics m : new TreeMap<>(operations).values()) snapshots.add(m.snapshot(interval));
+		return new MetricsSnapshot(now, interval, snapshots);
+	}
+	
+	/**
+	 * Returns a snapshot and then resets the metrics, 
+	 * so that the next snapshot covers the following interval.
+	 * 
+	 * @return the snapshot
+	 */
+	public MetricsSnapshot snapshotAndReset() {
+		MetricsSnapshot snapshot = snapshot();
+		reset();
+		return snapshot;
+	}
+	
+	/**
+	 * Resets all the metrics, except the number of invocations in progress
+	 */
+	public void reset() {
+		for (InMemoryOperationMetrics m : operations.values()) m.reset();
+		startMillis = System.currentTimeMillis();
+	}
+	
+	private static class InMemoryOperationMetrics implements OperationMetrics {
+		
+		final String component;
+		final String operation;
+		final LatencyHistogram latency = new LatencyHistogram();
+		final LongAdder invocations = new LongAdder();
+		final LongAdder failures = new LongAdder();
+		final LongAdder inFlight = new LongAdder();
+		final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+		
+		InMemoryOperationMetrics(String component, String operation) {
+			this.component = component;
+			this.operation = operation;
+		}
+		
+		@Override
+		public void started() {
+			inFlight.increment();
+		}
+		
+		@Override
+		public void succeeded(long durationNanos) {
+			inFlight.decrement();
+			invocations.increment();
+			latency.record(durationNanos);
+		}
+		
+		@Override
+		public void failed(long durationNanos, Throwable error) {
+			inFlight.decrement();
+			invocations.increment();
+			failures.increment();
+			latency.record(durationNanos);
+			String type = error == null ? "unknown" : error.getClass().getSimpleName();
+			errors.computeIfAbsent(type, k -> new LongAdder()).increment();
+		}
+		
+		OperationSnapshot snapshot(long intervalMillis) {
+			Map<String, Long> errorCounts = new TreeMap<>();
+			for (Map.Entry<String, LongAdder> e : errors.entrySet()) errorCounts.put(e.getKey(), e.getValue().sum());
+			long completed = invocations.sum();
+			return new OperationSnapshot(component, operation, completed, failures.sum(), inFlight.sum(), 
+					completed * 1000.0 / intervalMillis, errorCounts, latency.snapshot());
+		}
+		
+		void reset() {
+			latency.reset();
+			invocations.reset();
+			failures.reset();
+			errors.clear();
+		}
+	}
+	
+}
@@ -0,0 +1,129 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent histogram of latencies with log-linear buckets, in the style of 
+ * HDR histograms: values below {@value #LINEAR_LIMIT} are counted exactly, 
+ * larger values in buckets whose width is at most 1/{@value #SUB_BUCKETS} 
+ * of their lower bound, so that the relative error of the percentiles is 
+ * bounded (about 3%) over the whole range of long values, with a fixed 
+ * memory footprint and no allocation when recording.
+ * 
+ * @author nextworks
+ *
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 5;
+	
+	public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	
+	public static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+	
+	private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+	
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+	private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+	
+	public LatencyHistogram() { }
+	
+	/**
+	 * Records a value. Negative values are recorded as 0.
+	 * 
+	 * @param value the value, e.g. a duration in nanoseconds
+	 */
+	public void record(long value) {
+		if (value < 0) value = 0;
+		counts.incrementAndGet(bucketOf(value));
+		count.increment();
+		sum.add(value);
+		long m;
+		while (value < (m = min.get()) && !min.compareAndSet(m, value));
+		while (value > (m = max.get()) && !max.compareAndSet(m, value));
+	}
+	
+	/**
+	 * Removes all the recorded values. 
+	 * Values recorded concurrently may be partially kept.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++) counts.set(i, 0);
+		count.reset();
+		sum.reset();
+		min.set(Long.MAX_VALUE);
+		max.set(Long.MIN_VALUE);
+	}
+	
+	/**
+	 * Returns a snapshot of the histogram. 
+	 * The percentiles are the upper bounds of the buckets containing them, 
+	 * capped to the maximum recorded value.
+	 * 
+	 * @return the snapshot
+	 */
+	public LatencySnapshot snapshot() {
+		long[] copy = new long[BUCKETS];
+		long total = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			copy[i] = counts.get(i);
+			total += copy[i];
+		}
+		if (total == 0) return new LatencySnapshot(0, 0, 0, 0, 0, 0, 0, 0);
+		long maxValue = max.get();
+		return new LatencySnapshot(total, 
+				min.get(), 
+				maxValue, 
+				(double) sum.sum() / count.sum(), 
+				percentile(copy, total, 0.5, maxValue),
+				percentile(copy, total, 0.9, maxValue),
+				percentile(copy, total, 0.99, maxValue),
+				percentile(copy, total, 0.999, maxValue));
+	}
+	
+	private static long percentile(long[] counts, long total, double quantile, long maxValue) {
+		long rank = (long) Math.ceil(quantile * total);
+		if (rank < 1) rank = 1;
+		long seen = 0;
+		for (int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if (seen >= rank) return Math.min(upperBoundOf(i), maxValue);
+		}
+		return maxValue;
+	}
+	
+	static int bucketOf(long value) {
+		if (value < LINEAR_LIMIT) return (int) value;
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+	}
+	
+	static long upperBoundOf(int bucket) {
+		if (bucket < LINEAR_LIMIT) return bucket;
+		int shift = bucket / SUB_BUCKETS - 1;
+		long subBucket = bucket % SUB_BUCKETS + SUB_BUCKETS;
+		long upper = ((subBucket + 1) << shift) - 1;
+		return upper < 0 ? Long.MAX_VALUE : upper;
+	}
+	
+}
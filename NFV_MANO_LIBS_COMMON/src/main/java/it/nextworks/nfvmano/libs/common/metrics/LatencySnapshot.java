@@ -0,0 +1,117 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.metrics;
+
+/**
+ * Snapshot of a latency histogram. All the values are in the unit
+ * of the recorded values, i.e. nanoseconds for the operation metrics.
+ * 
+ * @author nextworks
+ *
+ */
+public class LatencySnapshot {
+
+	private long count;
+	private long min;
+	private long max;
+	private double mean;
+	private long p50;
+	private long p90;
+	private long p99;
+	private long p999;
+	
+	public LatencySnapshot() { }
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param count number of recorded values
+	 * @param min minimum value
+	 * @param max maximum value
+	 * @param mean mean value
+	 * @param p50 median
+	 * @param p90 90th percentile
+	 * @param p99 99th percentile
+	 * @param p999 99.9th percentile
+	 */
+	public LatencySnapshot(long count, long min, long max, double mean, long p50, long p90, long p99, long p999) {
+		this.count = count;
+		this.min = min;
+		this.max = max;
+		this.mean = mean;
+		this.p50 = p50;
+		this.p90 = p90;
+		this.p99 = p99;
+		this.p999 = p999;
+	}
+
+	/**
+	 * @return the count
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return the min
+	 */
+	public long getMin() {
+		return min;
+	}
+
+	/**
+	 * @return the max
+	 */
+	public long getMax() {
+		return max;
+	}
+
+	/**
+	 * @return the mean
+	 */
+	public double getMean() {
+		return mean;
+	}
+
+	/**
+	 * @return the p50
+	 */
+	public long getP50() {
+		return p50;
+	}
+
+	/**
+	 * @return the p90
+	 */
+	public long getP90() {
+		return p90;
+	}
+
+	/**
+	 * @return the p99
+	 */
+	public long getP99() {
+		return p99;
+	}
+
+	/**
+	 * @return the p999
+	 */
+	public long getP999() {
+		return p999;
+	}
+	
+}
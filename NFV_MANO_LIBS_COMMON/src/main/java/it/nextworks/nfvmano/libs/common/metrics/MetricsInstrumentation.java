@@ -0,0 +1,109 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.metrics;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import it.nextworks.nfvmano.libs.common.proxy.DelegatingInvocationHandler;
+
+/**
+ * Decorator recording the metrics of the invocations of an interface, 
+ * typically one of the provider or consumer interfaces of the NFV MANO libraries 
+ * (e.g. NsLcmProviderInterface or VnfLcmConsumerInterface).
+ * 
+ * The decorator is a dynamic proxy: for each method of the interface it records 
+ * the latency, the number of invocations, the invocations in progress and the 
+ * failures by exception type (e.g. FailedOperationException, NotExistingEntityException)
+ * in the metrics of the operation named as the method. Overloaded methods share 
+ * the same metrics. The exceptions of the target are rethrown unchanged.
+ * For the methods returning a CompletableFuture (e.g. the *ProviderAsync interfaces)
+ * the invocation is in progress until the future completes: the latency and the 
+ * outcome are recorded on its completion, with the failures recorded by the type 
+ * of the exception completing the future. The future of the target is returned.
+ * 
+ * @author nextworks
+ *
+ */
+public class MetricsInstrumentation {
+
+	private MetricsInstrumentation() { }
+	
+	/**
+	 * Decorates an implementation of an interface, using the simple name 
+	 * of the interface as component name.
+	 * 
+	 * @param iface the interface
+	 * @param target the implementation
+	 * @param registry registry of the metrics
+	 * @return the instrumented implementation
+	 */
+	public static <T> T instrument(Class<T> iface, T target, MetricsRegistry registry) {
+		return instrument(iface, target, registry, iface.getSimpleName());
+	}
+	
+	/**
+	 * Decorates an implementation of an interface
+	 * 
+	 * @param iface the interface
+	 * @param target the implementation
+	 * @param registry registry of the metrics
+	 * @param component name of the component in the metrics
+	 * @return the instrumented implementation
+	 */
+	public static <T> T instrument(Class<T> iface, T target, MetricsRegistry registry, String component) {
+		return new MetricsInvocationHandler<>(iface, target, registry, component).newProxy();
+	}
+	
+	private static class MetricsInvocationHandler<T> extends DelegatingInvocationHandler<T> {
+		
+		private final Map<Method, OperationMetrics> metrics = new HashMap<>();
+		
+		MetricsInvocationHandler(Class<T> iface, T target, MetricsRegistry registry, String component) {
+			super(iface, target);
+			for (Method m : iface.getMethods()) {
+				if (m.getDeclaringClass() != Object.class) metrics.put(m, registry.getOperationMetrics(component, m.getName()));
+			}
+		}
+		
+		@Override
+		protected Object invokeInterfaceMethod(Method method, Object[] args) throws Throwable {
+			OperationMetrics m = metrics.get(method);
+			if (m == null) return proceed(method, args);
+			m.started();
+			long start = System.nanoTime();
+			try {
+				Object result = proceed(method, args);
+				if (result instanceof CompletableFuture) {
+					((CompletableFuture<?>) result).whenComplete((response, e) -> {
+						if (e == null) m.succeeded(System.nanoTime() - start);
+						else m.failed(System.nanoTime() - start, (e instanceof CompletionException) && (e.getCause() != null) ? e.getCause() : e);
+					});
+					return result;
+				}
+				m.succeeded(System.nanoTime() - start);
+				return result;
+			} catch (Throwable e) {
+				m.failed(System.nanoTime() - start, e);
+				throw e;
+			}
+		}
+	}
+	
+}
@@ -0,0 +1,48 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.metrics;
+
+/**
+ * Service provider interface of the registries collecting the metrics 
+ * of the operations of the NFV MANO interfaces.
+ * 
+ * Implementations must be thread safe. The in-memory implementation
+ * is {@link InMemoryMetricsRegistry}; other implementations can bridge 
+ * the metrics to an external monitoring system.
+ * 
+ * @author nextworks
+ *
+ */
+public interface MetricsRegistry {
+
+	/**
+	 * Returns the metrics of an operation, creating them if needed.
+	 * Repeated calls with the same arguments return the same metrics.
+	 * 
+	 * @param component name of the component, e.g. the name of the interface
+	 * @param operation name of the operation, e.g. the name of the method
+	 * @return the metrics of the operation
+	 */
+	public OperationMetrics getOperationMetrics(String component, String operation);
+	
+	/**
+	 * Returns a snapshot of all the metrics collected so far
+	 * 
+	 * @return the snapshot
+	 */
+	public MetricsSnapshot snapshot();
+	
+}
@@ -0,0 +1,84 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Snapshot of the metrics of a registry, which can be exported 
+ * serializing it with Jackson.
+ * 
+ * @author nextworks
+ *
+ */
+public class MetricsSnapshot {
+
+	private long timestamp;
+	private long intervalMillis;
+	private List<OperationSnapshot> operations = new ArrayList<>();
+	
+	public MetricsSnapshot() { }
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param timestamp time of the snapshot, in milliseconds since the epoch
+	 * @param intervalMillis length of the interval covered by the snapshot
+	 * @param operations snapshots of the operations
+	 */
+	public MetricsSnapshot(long timestamp, long intervalMillis, List<OperationSnapshot> operations) {
+		this.timestamp = timestamp;
+		this.intervalMillis = intervalMillis;
+		if (operations != null) this.operations = operations;
+	}
+
+	/**
+	 * @return the timestamp
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * @return the intervalMillis
+	 */
+	public long getIntervalMillis() {
+		return intervalMillis;
+	}
+
+	/**
+	 * @return the operations
+	 */
+	public List<OperationSnapshot> getOperations() {
+		return operations;
+	}
+	
+	/**
+	 * Returns the snapshot of an operation
+	 * 
+	 * @param component name of the component
+	 * @param operation name of the operation
+	 * @return the snapshot of the operation, or null if not recorded
+	 */
+	public OperationSnapshot getOperation(String component, String operation) {
+		for (OperationSnapshot o : operations) {
+			if (o.getComponent().equals(component) && o.getOperation().equals(operation)) return o;
+		}
+		return null;
+	}
+	
+}
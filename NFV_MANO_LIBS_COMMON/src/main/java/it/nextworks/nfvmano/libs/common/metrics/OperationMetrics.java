@@ -0,0 +1,48 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.metrics;
+
+/**
+ * Recorder of the invocations of an operation.
+ * For each invocation {@link #started()} is called once, followed by either
+ * {@link #succeeded(long)} or {@link #failed(long, Throwable)}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface OperationMetrics {
+
+	/**
+	 * Records the start of an invocation
+	 */
+	public void started();
+	
+	/**
+	 * Records the successful completion of an invocation
+	 * 
+	 * @param durationNanos duration of the invocation in nanoseconds
+	 */
+	public void succeeded(long durationNanos);
+	
+	/**
+	 * Records the failure of an invocation
+	 * 
+	 * @param durationNanos duration of the invocation in nanoseconds
+	 * @param error the exception thrown by the invocation
+	 */
+	public void failed(long durationNanos, Throwable error);
+	
+}
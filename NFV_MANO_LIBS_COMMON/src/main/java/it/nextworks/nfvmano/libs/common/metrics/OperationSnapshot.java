@@ -0,0 +1,120 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Snapshot of the metrics of an operation
+ * 
+ * @author nextworks
+ *
+ */
+public class OperationSnapshot {
+
+	private String component;
+	private String operation;
+	private long invocations;
+	private long failures;
+	private long inFlight;
+	private double throughput;
+	private Map<String, Long> errors = new HashMap<>();
+	private LatencySnapshot latency;
+	
+	public OperationSnapshot() { }
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param component name of the component
+	 * @param operation name of the operation
+	 * @param invocations number of completed invocations
+	 * @param failures number of failed invocations
+	 * @param inFlight number of invocations in progress
+	 * @param throughput completed invocations per second
+	 * @param errors number of failures by exception type
+	 * @param latency latency of the completed invocations, in nanoseconds
+	 */
+	public OperationSnapshot(String component, String operation, long invocations, long failures, long inFlight, 
+			double throughput, Map<String, Long> errors, LatencySnapshot latency) {
+		this.component = component;
+		this.operation = operation;
+		this.invocations = invocations;
+		this.failures = failures;
+		this.inFlight = inFlight;
+		this.throughput = throughput;
+		if (errors != null) this.errors = errors;
+		this.latency = latency;
+	}
+
+	/**
+	 * @return the component
+	 */
+	public String getComponent() {
+		return component;
+	}
+
+	/**
+	 * @return the operation
+	 */
+	public String getOperation() {
+		return operation;
+	}
+
+	/**
+	 * @return the invocations
+	 */
+	public long getInvocations() {
+		return invocations;
+	}
+
+	/**
+	 * @return the failures
+	 */
+	public long getFailures() {
+		return failures;
+	}
+
+	/**
+	 * @return the inFlight
+	 */
+	public long getInFlight() {
+		return inFlight;
+	}
+
+	/**
+	 * @return the throughput
+	 */
+	public double getThroughput() {
+		return throughput;
+	}
+
+	/**
+	 * @return the errors
+	 */
+	public Map<String, Long> getErrors() {
+		return errors;
+	}
+
+	/**
+	 * @return the latency
+	 */
+	public LatencySnapshot getLatency() {
+		return latency;
+	}
+	
+}
@@ -0,0 +1,124 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.proxy;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Base class of the invocation handlers of the dynamic proxies that decorate 
+ * an implementation of an interface (e.g. a provider or a consumer interface) 
+ * with additional behaviour.
+ * 
+ * The methods inherited from Object are handled by the handler itself, 
+ * using the identity of the proxy, while the methods of the interface are 
+ * passed to {@link #invokeInterfaceMethod(Method, Object[])}.
+ * The exceptions thrown by the target are propagated unwrapped, so that the 
+ * callers of the proxy see the same checked exceptions of the target.
+ * 
+ * @author nextworks
+ *
+ * @param <T> type of the decorated interface
+ */
+public abstract class DelegatingInvocationHandler<T> implements InvocationHandler {
+
+	protected final Class<T> iface;
+	protected final Object target;
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param iface the interface implemented by the proxy
+	 * @param target the object receiving the invocations, 
+	 * usually an implementation of the same interface
+	 */
+	protected DelegatingInvocationHandler(Class<T> iface, Object target) {
+		if (!iface.isInterface()) throw new IllegalArgumentException(iface.getName() + " is not an interface");
+		if (target == null) throw new NullPointerException("Null target");
+		this.iface = iface;
+		this.target = target;
+	}
+	
+	/**
+	 * Creates the proxy using this handler
+	 * 
+	 * @return the proxy implementing the interface
+	 */
+	public T newProxy() {
+		return iface.cast(Proxy.newProxyInstance(iface.getClassLoader(), new Class<?>[] { iface }, this));
+	}
+	
+	@Override
+	public final Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		if (method.getDeclaringClass() == Object.class) {
+			switch (method.getName()) {
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "toString":
+				return getClass().getSimpleName() + "[" + target + "]";
+			default:
+				return proceed(method, args);
+			}
+		}
+		return invokeInterfaceMethod(method, args);
+	}
+	
+	/**
+	 * Invokes a method of the interface on the proxy
+	 * 
+	 * @param method the invoked method
+	 * @param args the arguments
+	 * @return the value returned to the caller of the proxy
+	 * @throws Throwable the exception thrown to the caller of the proxy
+	 */
+	protected abstract Object invokeInterfaceMethod(Method method, Object[] args) throws Throwable;
+	
+	/**
+	 * Invokes a method on the target, unwrapping the exception it throws
+	 * 
+	 * @param method the method, declared by the interface of the target
+	 * @param args the arguments
+	 * @return the value returned by the target
+	 * @throws Throwable the exception thrown by the target
+	 */
+	protected Object proceed(Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+	
+	/**
+	 * Checks if a method can throw an exception without violating its signature
+	 * 
+	 * @param method the method
+	 * @param exceptionType type of the exception
+	 * @return true if the exception is unchecked or declared by the method
+	 */
+	public static boolean canThrow(Method method, Class<? extends Throwable> exceptionType) {
+		if (RuntimeException.class.isAssignableFrom(exceptionType) || Error.class.isAssignableFrom(exceptionType)) return true;
+		for (Class<?> declared : method.getExceptionTypes()) {
+			if (declared.isAssignableFrom(exceptionType)) return true;
+		}
+		return false;
+	}
+	
+}
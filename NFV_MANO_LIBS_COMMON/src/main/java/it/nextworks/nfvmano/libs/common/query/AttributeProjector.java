@@ -0,0 +1,196 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+
+/**
+ * Projection of the entities returned by a query on the attributes 
+ * listed in the attribute selector of the query request.
+ * 
+ * The attributes are identified by their JSON names, with nested attributes
+ * separated by dots (e.g. "nsInstanceId", "nsState", "sapInfo.address").
+ * When an attribute is a list, the nested attributes are selected on each of its elements.
+ * The projection reads only the selected attributes of the entities and
+ * returns a partial JSON view including only them, serialized with the
+ * same Jackson annotations used for the complete entities.
+ * An empty selector projects the complete entities.
+ * 
+ * The projector caches the properties of the entity classes and the parsed 
+ * selectors, which are provided by the clients: the least recently used selectors 
+ * are evicted when the configured maximum number is reached. The projector is thread-safe.
+ * 
+ * @author nextworks
+ *
+ */
+public class AttributeProjector {
+	
+	public static final int DEFAULT_MAX_SELECTORS = 256;
+
+	private final ObjectMapper mapper;
+	private final Map<List<String>, SelectorNode> selectors;
+	private final Map<Class<?>, Map<String, AnnotatedMember>> properties = new ConcurrentHashMap<>();
+	
+	public AttributeProjector() {
+		this(new ObjectMapper());
+	}
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param mapper object mapper used to serialize the selected attributes
+	 */
+	public AttributeProjector(ObjectMapper mapper) {
+		this(mapper, DEFAULT_MAX_SELECTORS);
+	}
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param mapper object mapper used to serialize the selected attributes
+	 * @param maxSelectors maximum number of cached selectors
+	 */
+	public AttributeProjector(ObjectMapper mapper, int maxSelectors) {
+		if (maxSelectors < 0) throw new IllegalArgumentException("Negative maximum number of selectors");
+		this.mapper = mapper;
+		this.selectors = Collections.synchronizedMap(new LinkedHashMap<List<String>, SelectorNode>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<String>, SelectorNode> eldest) {
+				return size() > maxSelectors;
+			}
+		});
+	}
+	
+	/**
+	 * Projects an entity on the given attributes
+	 * 
+	 * @param entity the entity
+	 * @param attributeSelector the attributes to be returned
+	 * @return the JSON view of the entity, including only the selected attributes
+	 * @throws MalformattedElementException if the selector includes attributes not defined for the entity
+	 */
+	public JsonNode project(Object entity, List<String> attributeSelector) throws MalformattedElementException {
+		if ((attributeSelector == null) || (attributeSelector.isEmpty())) return mapper.valueToTree(entity);
+		return project(entity, getSelector(attributeSelector), "");
+	}
+	
+	/**
+	 * Projects a list of entities on the given attributes
+	 * 
+	 * @param entities the entities
+	 * @param attributeSelector the attributes to be returned
+	 * @return the JSON array with the views of the entities, including only the selected attributes
+	 * @throws MalformattedElementException if the selector includes attributes not defined for the entities
+	 */
+	public ArrayNode projectAll(Iterable<?> entities, List<String> attributeSelector) throws MalformattedElementException {
+		ArrayNode result = JsonNodeFactory.instance.arrayNode();
+		for (Object entity : entities) result.add(project(entity, attributeSelector));
+		return result;
+	}
+	
+	private JsonNode project(Object value, SelectorNode selector, String path) throws MalformattedElementException {
+		if (value == null) return JsonNodeFactory.instance.nullNode();
+		if (selector.isLeaf()) return mapper.valueToTree(value);
+		if (value instanceof Iterable) {
+			ArrayNode array = JsonNodeFactory.instance.arrayNode();
+			for (Object element : (Iterable<?>) value) array.add(project(element, selector, path));
+			return array;
+		}
+		if (value instanceof Map) {
+			ObjectNode node = JsonNodeFactory.instance.objectNode();
+			Map<?, ?> map = (Map<?, ?>) value;
+			for (Map.Entry<String, SelectorNode> child : selector.children.entrySet()) {
+				if (map.containsKey(child.getKey())) 
+					node.set(child.getKey(), project(map.get(child.getKey()), child.getValue(), path + child.getKey() + "."));
+			}
+			return node;
+		}
+		Map<String, AnnotatedMember> accessors = getProperties(value.getClass());
+		ObjectNode node = JsonNodeFactory.instance.objectNode();
+		for (Map.Entry<String, SelectorNode> child : selector.children.entrySet()) {
+			AnnotatedMember accessor = accessors.get(child.getKey());
+			if (accessor == null) 
+				throw new MalformattedElementException("Attribute " + path + child.getKey() + " not defined for " + value.getClass().getSimpleName());
+			Object childValue = accessor.getValue(value);
+			if (childValue != null) node.set(child.getKey(), project(childValue, child.getValue(), path + child.getKey() + "."));
+		}
+		return node;
+	}
+	
+	private Map<String, AnnotatedMember> getProperties(Class<?> type) {
+		Map<String, AnnotatedMember> accessors = properties.get(type);
+		if (accessors != null) return accessors;
+		accessors = new LinkedHashMap<>();
+		JavaType javaType = mapper.getTypeFactory().constructType(type);
+		for (BeanPropertyDefinition p : mapper.getSerializationConfig().introspect(javaType).findProperties()) {
+			AnnotatedMember accessor = p.getAccessor();
+			if (accessor == null) continue;
+			accessor.fixAccess(true);
+			accessors.put(p.getName(), accessor);
+		}
+		accessors = Collections.unmodifiableMap(accessors);
+		properties.put(type, accessors);
+		return accessors;
+	}
+	
+	private SelectorNode getSelector(List<String> attributeSelector) throws MalformattedElementException {
+		SelectorNode selector = selectors.get(attributeSelector);
+		if (selector != null) return selector;
+		selector = new SelectorNode();
+		for (String attribute : attributeSelector) {
+			if ((attribute == null) || attribute.isEmpty()) throw new MalformattedElementException("Empty attribute in attribute selector");
+			SelectorNode current = selector;
+			for (String name : attribute.split("\\.", -1)) {
+				if (name.isEmpty()) throw new MalformattedElementException("Malformed attribute " + attribute + " in attribute selector");
+				if (current.whole) break;
+				current = current.children.computeIfAbsent(name, n -> new SelectorNode());
+			}
+			//selecting a whole attribute overrides the selection of its nested attributes
+			current.whole = true;
+			current.children.clear();
+		}
+		selectors.put(new ArrayList<>(attributeSelector), selector);
+		return selector;
+	}
+	
+	private static class SelectorNode {
+		final Map<String, SelectorNode> children = new LinkedHashMap<>();
+		boolean whole = false;
+		
+		boolean isLeaf() {
+			return whole;
+		}
+	}
+	
+}
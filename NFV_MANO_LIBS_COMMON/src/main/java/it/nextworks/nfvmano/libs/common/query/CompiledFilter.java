@@ -0,0 +1,76 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.query;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import it.nextworks.nfvmano.libs.common.enums.FilterKey;
+
+/**
+ * Predicate obtained compiling a Filter with a FilterCompiler.
+ * 
+ * It is immutable and can be re-used across threads and queries.
+ * 
+ * @author nextworks
+ *
+ * @param <T> type of the records the filter applies to
+ */
+public class CompiledFilter<T> implements Predicate<T> {
+
+	private final Map<FilterKey, String> terms;
+	private final String[] values;
+	private final Function<T, Collection<String>>[] accessors;
+	
+	@SuppressWarnings("unchecked")
+	CompiledFilter(Map<FilterKey, String> terms, Map<FilterKey, Function<T, Collection<String>>> accessors) {
+		this.terms = Collections.unmodifiableMap(terms);
+		this.values = new String[terms.size()];
+		this.accessors = new Function[terms.size()];
+		int i = 0;
+		for (Map.Entry<FilterKey, String> e : terms.entrySet()) {
+			values[i] = e.getValue();
+			this.accessors[i] = accessors.get(e.getKey());
+			i++;
+		}
+	}
+	
+	/**
+	 * @return the terms of the filter, i.e. the value required for each filter key
+	 */
+	public Map<FilterKey, String> getTerms() {
+		return terms;
+	}
+	
+	/**
+	 * @return true if the filter matches all the records
+	 */
+	public boolean isMatchAll() {
+		return values.length == 0;
+	}
+	
+	@Override
+	public boolean test(T record) {
+		for (int i = 0; i < values.length; i++) {
+			if (!accessors[i].apply(record).contains(values[i])) return false;
+		}
+		return true;
+	}
+	
+}
@@ -0,0 +1,128 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.query;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import it.nextworks.nfvmano.libs.common.elements.Filter;
+import it.nextworks.nfvmano.libs.common.enums.FilterKey;
+import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+
+/**
+ * Compiler that translates a Filter into a predicate on records of a given type.
+ * 
+ * The compiler is configured once per record type, associating each supported
+ * filter key to the accessor that reads the corresponding attribute from the record.
+ * Attributes can be single-valued or multi-valued: a multi-valued attribute
+ * matches a filter parameter when any of its values is equal to the parameter.
+ * 
+ * The compiler is thread-safe once configured.
+ * 
+ * @author nextworks
+ *
+ * @param <T> type of the records the filters apply to
+ */
+public class FilterCompiler<T> {
+
+	private final Map<FilterKey, Function<T, Collection<String>>> attributes = new EnumMap<>(FilterKey.class);
+	
+	public FilterCompiler() { }
+	
+	/**
+	 * Associates a filter key to a single-valued attribute of the records
+	 * 
+	 * @param key filter key
+	 * @param accessor function returning the value of the attribute, possibly null
+	 * @return this compiler
+	 */
+	public FilterCompiler<T> withAttribute(FilterKey key, Function<T, String> accessor) {
+		attributes.put(key, r -> {
+			String value = accessor.apply(r);
+			if (value == null) return Collections.emptyList();
+			return Collections.singletonList(value);
+		});
+		return this;
+	}
+	
+	/**
+	 * Associates a filter key to a multi-valued attribute of the records
+	 * 
+	 * @param key filter key
+	 * @param accessor function returning the values of the attribute, possibly null
+	 * @return this compiler
+	 */
+	public FilterCompiler<T> withMultiValuedAttribute(FilterKey key, Function<T, Collection<String>> accessor) {
+		attributes.put(key, r -> {
+			Collection<String> values = accessor.apply(r);
+			if (values == null) return Collections.emptyList();
+			return values;
+		});
+		return this;
+	}
+	
+	/**
+	 * @return the filter keys supported by this compiler
+	 */
+	public Set<FilterKey> getSupportedKeys() {
+		return Collections.unmodifiableSet(attributes.keySet());
+	}
+	
+	/**
+	 * Returns the values of the attribute associated to the given key in the given record
+	 * 
+	 * @param key filter key
+	 * @param record the record
+	 * @return the values of the attribute, empty if the attribute is not set
+	 * @throws MalformattedElementException if the key is not supported by this compiler
+	 */
+	public Collection<String> getAttributeValues(FilterKey key, T record) throws MalformattedElementException {
+		return getAccessor(key).apply(record);
+	}
+	
+	/**
+	 * Compiles the given filter. A null filter or a filter without parameters matches all the records.
+	 * 
+	 * @param filter the filter to be compiled
+	 * @return the compiled filter
+	 * @throws MalformattedElementException if the filter includes keys not supported by this compiler
+	 */
+	public CompiledFilter<T> compile(Filter filter) throws MalformattedElementException {
+		Map<FilterKey, String> terms = new EnumMap<>(FilterKey.class);
+		if (filter != null) {
+			for (Map.Entry<String, String> e : filter.getParameters().entrySet()) {
+				FilterKey key = FilterKey.fromString(e.getKey());
+				if (key == null) throw new MalformattedElementException("Unknown filter key " + e.getKey());
+				if (e.getValue() == null) throw new MalformattedElementException("Filter key " + e.getKey() + " without value");
+				terms.put(key, e.getValue());
+			}
+		}
+		Map<FilterKey, Function<T, Collection<String>>> accessors = new EnumMap<>(FilterKey.class);
+		for (FilterKey key : terms.keySet()) accessors.put(key, getAccessor(key));
+		return new CompiledFilter<>(terms, accessors);
+	}
+	
+	Function<T, Collection<String>> getAccessor(FilterKey key) throws MalformattedElementException {
+		Function<T, Collection<String>> accessor = attributes.get(key);
+		if (accessor == null) throw new MalformattedElementException("Filter key " + key + " not supported");
+		return accessor;
+	}
+	
+}
@@ -0,0 +1,290 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+import it.nextworks.nfvmano.libs.common.elements.Filter;
+import it.nextworks.nfvmano.libs.common.enums.FilterKey;
+import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+
+/**
+ * In-memory store of records supporting queries based on filters.
+ * 
+ * The records are identified by a primary key and can be indexed on
+ * any of the filter keys supported by the filter compiler of the store.
+ * A query uses the most selective index among the keys of the filter
+ * and evaluates the remaining parameters only on the candidate records,
+ * falling back to a scan of the store when none of the keys is indexed.
+ * The query results are ordered by primary key and can be paged with 
+ * cursors based on the primary key.
+ * 
+ * Readers are lock-free, while writers are serialized. A record modified
+ * after its insertion must be stored again to update the indexes.
+ * 
+ * @author nextworks
+ *
+ * @param <T> type of the stored records
+ */
+public class IndexedRecordStore<T> {
+
+	private final Function<T, String> primaryKey;
+	private final FilterCompiler<T> compiler;
+	private final ConcurrentSkipListMap<String, IndexedRecord<T>> records = new ConcurrentSkipListMap<>();
+	private final Map<FilterKey, SecondaryIndex> indexes = new EnumMap<>(FilterKey.class);
+	private volatile Map<FilterKey, SecondaryIndex> indexSnapshot = new EnumMap<>(FilterKey.class);
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param primaryKey function returning the primary key of a record
+	 * @param compiler compiler for the filters applied to the records
+	 */
+	public IndexedRecordStore(Function<T, String> primaryKey, FilterCompiler<T> compiler) {
+		this.primaryKey = primaryKey;
+		this.compiler = compiler;
+	}
+	
+	/**
+	 * Adds a secondary index on the given key, indexing the records already stored
+	 * 
+	 * @param key the filter key to be indexed
+	 * @return this store
+	 * @throws MalformattedElementException if the key is not supported by the filter compiler of the store
+	 */
+	public synchronized IndexedRecordStore<T> addIndex(FilterKey key) throws MalformattedElementException {
+		if (indexes.containsKey(key)) return this;
+		Function<T, Collection<String>> accessor = compiler.getAccessor(key);
+		SecondaryIndex index = new SecondaryIndex(key);
+		for (IndexedRecord<T> r : records.values()) {
+			List<String> values = new ArrayList<>(accessor.apply(r.record));
+			r.indexedValues.put(key, values);
+			index.add(r.primaryKey, values);
+		}
+		indexes.put(key, index);
+		indexSnapshot = new EnumMap<>(indexes);
+		return this;
+	}
+	
+	/**
+	 * @return the filter compiler of the store
+	 */
+	public FilterCompiler<T> getCompiler() {
+		return compiler;
+	}
+	
+	/**
+	 * Stores a record, replacing the record with the same primary key
+	 * 
+	 * @param record the record to be stored
+	 */
+	public synchronized void put(T record) {
+		String key = primaryKey.apply(record);
+		IndexedRecord<T> old = records.get(key);
+		if (old != null) unindex(old);
+		IndexedRecord<T> r = new IndexedRecord<>(key, record);
+		for (Map.Entry<FilterKey, SecondaryIndex> e : indexes.entrySet()) {
+			List<String> values;
+			try {
+				values = new ArrayList<>(compiler.getAttributeValues(e.getKey(), record));
+			} catch (MalformattedElementException ex) {
+				//indexes are created only for supported keys
+				throw new IllegalStateException(ex);
+			}
+			r.indexedValues.put(e.getKey(), values);
+			e.getValue().add(key, values);
+		}
+		records.put(key, r);
+	}
+	
+	/**
+	 * Removes a record from the store
+	 * 
+	 * @param key primary key of the record
+	 * @return the removed record, or null if not present
+	 */
+	public synchronized T remove(String key) {
+		IndexedRecord<T> old = records.remove(key);
+		if (old == null) return null;
+		unindex(old);
+		return old.record;
+	}
+	
+	/**
+	 * @param key primary key of the record
+	 * @return the record with the given primary key, or null if not present
+	 */
+	public T get(String key) {
+		IndexedRecord<T> r = records.get(key);
+		return r == null ? null : r.record;
+	}
+	
+	/**
+	 * @return the number of stored records
+	 */
+	public int size() {
+		return records.size();
+	}
+	
+	/**
+	 * Returns the records matching the given filter
+	 * 
+	 * @param filter the filter
+	 * @return the matching records, ordered by primary key
+	 * @throws MalformattedElementException if the filter includes keys not supported by the store
+	 */
+	public List<T> query(Filter filter) throws MalformattedElementException {
+		return query(compiler.compile(filter));
+	}
+	
+	/**
+	 * Returns the records matching the given compiled filter
+	 * 
+	 * @param filter the compiled filter
+	 * @return the matching records, ordered by primary key
+	 */
+	public List<T> query(CompiledFilter<T> filter) {
+		List<T> result = new ArrayList<>();
+		for (IndexedRecord<T> r : candidates(filter, records).values()) {
+			if (filter.test(r.record)) result.add(r.record);
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns the page of records matching the filter of the given request,
+	 * selected by the page size and the cursor of the request.
+	 * The records of a page are collected when the page is requested, while
+	 * the records of an unbounded query are matched while they are consumed.
+	 * The cursor is based on the primary key of the last record returned,
+	 * so that the pages are stable with respect to concurrent insertions and removals.
+	 * 
+	 * @param request the query request
+	 * @return the requested page of matching records, ordered by primary key
+	 * @throws MalformattedElementException if the filter includes keys not supported by the store, 
+	 * or the cursor or the page size are not valid
+	 */
+	public QueryResultStream<T> query(GeneralizedQueryRequest request) throws MalformattedElementException {
+		CompiledFilter<T> filter = compiler.compile(request.getFilter());
+		QueryCursor cursor = QueryCursor.decode(request.getCursor());
+		NavigableMap<String, IndexedRecord<T>> range = records;
+		if (cursor.isKeyBased()) range = records.tailMap(cursor.getLastKey(), false);
+		else if (cursor.getOffset() != 0) throw new MalformattedElementException("Query cursor not valid for this store");
+		Iterator<IndexedRecord<T>> candidates = candidates(filter, range).values().iterator();
+		Integer pageSize = request.getPageSize();
+		if (pageSize == null) {
+			Iterator<T> matching = new Iterator<T>() {
+				private T next = advance();
+				
+				private T advance() {
+					while (candidates.hasNext()) {
+						IndexedRecord<T> r = candidates.next();
+						if (filter.test(r.record)) return r.record;
+					}
+					return null;
+				}
+				
+				@Override
+				public boolean hasNext() {
+					return next != null;
+				}
+				
+				@Override
+				public T next() {
+					if (next == null) throw new NoSuchElementException();
+					T current = next;
+					next = advance();
+					return current;
+				}
+			};
+			return new QueryResultStream<>(matching, null);
+		}
+		if (pageSize <= 0) throw new MalformattedElementException("Query request with page size not positive");
+		//the page size is provided by the client, hence it is not used to preallocate the page
+		List<T> page = new ArrayList<>();
+		String lastKey = null;
+		boolean more = false;
+		while (candidates.hasNext()) {
+			IndexedRecord<T> r = candidates.next();
+			if (!filter.test(r.record)) continue;
+			if (page.size() == pageSize) {
+				more = true;
+				break;
+			}
+			page.add(r.record);
+			lastKey = r.primaryKey;
+		}
+		return new QueryResultStream<>(page.iterator(), more ? QueryCursor.afterKey(lastKey).encode() : null);
+	}
+	
+	/**
+	 * Returns the candidate records for the given filter within the given range of the store,
+	 * using the most selective index on the filter keys.
+	 * The candidates must still be tested against the filter.
+	 */
+	NavigableMap<String, IndexedRecord<T>> candidates(CompiledFilter<T> filter, NavigableMap<String, IndexedRecord<T>> range) {
+		Set<String> best = null;
+		Map<FilterKey, SecondaryIndex> currentIndexes = indexSnapshot;
+		for (Map.Entry<FilterKey, String> term : filter.getTerms().entrySet()) {
+			SecondaryIndex index = currentIndexes.get(term.getKey());
+			if (index == null) continue;
+			Set<String> keys = index.lookup(term.getValue());
+			if ((best == null) || (keys.size() < best.size())) best = keys;
+		}
+		if (best == null) return range;
+		NavigableMap<String, IndexedRecord<T>> result = new TreeMap<>();
+		for (String k : best) {
+			//keys outside the range are not returned by the range view
+			IndexedRecord<T> r = range.get(k);
+			if (r != null) result.put(k, r);
+		}
+		return result;
+	}
+	
+	NavigableMap<String, IndexedRecord<T>> getRecords() {
+		return records;
+	}
+	
+	private void unindex(IndexedRecord<T> r) {
+		for (Map.Entry<FilterKey, List<String>> e : r.indexedValues.entrySet()) {
+			indexes.get(e.getKey()).remove(r.primaryKey, e.getValue());
+		}
+	}
+	
+	static class IndexedRecord<T> {
+		final String primaryKey;
+		final T record;
+		final Map<FilterKey, List<String>> indexedValues = new EnumMap<>(FilterKey.class);
+		
+		IndexedRecord(String primaryKey, T record) {
+			this.primaryKey = primaryKey;
+			this.record = record;
+		}
+	}
+	
+}
@@ -0,0 +1,116 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+
+/**
+ * Continuation cursor of a paged query.
+ * 
+ * The cursor is exchanged with the consumers as an opaque string and
+ * identifies either the position of the next entity in the result or
+ * the primary key of the last entity returned.
+ * 
+ * @author nextworks
+ *
+ */
+public class QueryCursor {
+
+	private static final String OFFSET_PREFIX = "o:";
+	private static final String KEY_PREFIX = "k:";
+	
+	private final int offset;
+	private final String lastKey;
+	
+	private QueryCursor(int offset, String lastKey) {
+		this.offset = offset;
+		this.lastKey = lastKey;
+	}
+	
+	/**
+	 * @param offset position of the next entity in the result
+	 * @return the cursor
+	 */
+	public static QueryCursor ofOffset(int offset) {
+		return new QueryCursor(offset, null);
+	}
+	
+	/**
+	 * @param lastKey primary key of the last entity returned
+	 * @return the cursor
+	 */
+	public static QueryCursor afterKey(String lastKey) {
+		return new QueryCursor(-1, lastKey);
+	}
+	
+	/**
+	 * Decodes an opaque cursor
+	 * 
+	 * @param cursor the opaque cursor. If null, the cursor at the beginning of the result is returned.
+	 * @return the decoded cursor
+	 * @throws MalformattedElementException if the cursor is not valid
+	 */
+	public static QueryCursor decode(String cursor) throws MalformattedElementException {
+		if (cursor == null) return ofOffset(0);
+		String value;
+		try {
+			value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw new MalformattedElementException("Invalid query cursor");
+		}
+		if (value.startsWith(KEY_PREFIX)) return afterKey(value.substring(KEY_PREFIX.length()));
+		if (value.startsWith(OFFSET_PREFIX)) {
+			try {
+				int offset = Integer.parseInt(value.substring(OFFSET_PREFIX.length()));
+				if (offset >= 0) return ofOffset(offset);
+			} catch (NumberFormatException e) { }
+		}
+		throw new MalformattedElementException("Invalid query cursor");
+	}
+	
+	/**
+	 * @return the opaque representation of the cursor
+	 */
+	public String encode() {
+		String value = isKeyBased() ? KEY_PREFIX + lastKey : OFFSET_PREFIX + offset;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * @return true if the cursor identifies the last entity returned, false if it identifies a position
+	 */
+	public boolean isKeyBased() {
+		return lastKey != null;
+	}
+	
+	/**
+	 * @return the position of the next entity in the result, or -1 for key based cursors
+	 */
+	public int getOffset() {
+		return offset;
+	}
+	
+	/**
+	 * @return the primary key of the last entity returned, or null for position based cursors
+	 */
+	public String getLastKey() {
+		return lastKey;
+	}
+	
+}
@@ -0,0 +1,135 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.query;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+
+/**
+ * Result of a paged query, delivering the entities of a page one at a time
+ * together with the cursor to request the following page.
+ * 
+ * The entities can be consumed only once, either iterating or streaming them.
+ * The result must be closed to release the resources of the provider, 
+ * e.g. a database cursor.
+ * 
+ * @author nextworks
+ *
+ * @param <T> type of the entities in the result
+ */
+public class QueryResultStream<T> implements Iterable<T>, AutoCloseable {
+
+	private final Spliterator<T> entities;
+	private final String nextCursor;
+	private final Runnable onClose;
+	private final AtomicBoolean closed = new AtomicBoolean(false);
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param entities the entities in the page
+	 * @param nextCursor cursor to request the following page, null if this is the last page
+	 * @param onClose action to release the resources of the provider, possibly null
+	 */
+	public QueryResultStream(Spliterator<T> entities, String nextCursor, Runnable onClose) {
+		this.entities = entities;
+		this.nextCursor = nextCursor;
+		this.onClose = onClose;
+	}
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param entities the entities in the page
+	 * @param nextCursor cursor to request the following page, null if this is the last page
+	 */
+	public QueryResultStream(Iterator<T> entities, String nextCursor) {
+		this(Spliterators.spliteratorUnknownSize(entities, Spliterator.ORDERED), nextCursor, null);
+	}
+	
+	/**
+	 * Builds the result for the page of a list selected by the page size and the cursor of the request.
+	 * The cursor of the request must be position based.
+	 * 
+	 * @param entities the complete result of the query
+	 * @param request the query request
+	 * @param <T> type of the entities in the result
+	 * @return the result for the requested page
+	 * @throws MalformattedElementException if the cursor or the page size of the request are not valid
+	 */
+	public static <T> QueryResultStream<T> paginate(List<T> entities, GeneralizedQueryRequest request) throws MalformattedElementException {
+		QueryCursor cursor = QueryCursor.decode(request.getCursor());
+		if (cursor.isKeyBased()) throw new MalformattedElementException("Query cursor not valid for this result");
+		Integer pageSize = request.getPageSize();
+		if ((pageSize != null) && (pageSize <= 0)) throw new MalformattedElementException("Query request with page size not positive");
+		int from = Math.min(cursor.getOffset(), entities.size());
+		int to = entities.size();
+		if (pageSize != null) to = (int) Math.min((long) from + pageSize, to);
+		String next = (to < entities.size()) ? QueryCursor.ofOffset(to).encode() : null;
+		return new QueryResultStream<>(entities.subList(from, to).spliterator(), next, null);
+	}
+	
+	@Override
+	public Iterator<T> iterator() {
+		return Spliterators.iterator(entities);
+	}
+	
+	@Override
+	public Spliterator<T> spliterator() {
+		return entities;
+	}
+	
+	@Override
+	public void forEach(Consumer<? super T> action) {
+		entities.forEachRemaining(action);
+	}
+	
+	/**
+	 * @return a sequential stream on the entities of the page
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(entities, false).onClose(this::close);
+	}
+	
+	/**
+	 * @return the cursor to request the following page, null if this is the last page
+	 */
+	public String getNextCursor() {
+		return nextCursor;
+	}
+	
+	/**
+	 * @return true if further pages are available
+	 */
+	public boolean hasNextPage() {
+		return nextCursor != null;
+	}
+	
+	@Override
+	public void close() {
+		if ((onClose != null) && closed.compareAndSet(false, true)) onClose.run();
+	}
+	
+}
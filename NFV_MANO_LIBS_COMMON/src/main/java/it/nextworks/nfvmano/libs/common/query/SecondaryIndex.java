@@ -0,0 +1,110 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.query;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import it.nextworks.nfvmano.libs.common.enums.FilterKey;
+
+/**
+ * In-memory secondary index, mapping the values of the attribute
+ * associated to a filter key to the primary keys of the records
+ * with that value.
+ * 
+ * The index is safe for concurrent readers and writers: the primary keys
+ * of a value are added and removed atomically with the creation and the 
+ * removal of its entry, so that an addition concurrent with the removal of 
+ * the last key of the same value is never lost.
+ * 
+ * @author nextworks
+ *
+ */
+public class SecondaryIndex {
+
+	private final FilterKey key;
+	private final Map<String, Set<String>> entries = new ConcurrentHashMap<>();
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param key the filter key indexed by this index
+	 */
+	public SecondaryIndex(FilterKey key) {
+		this.key = key;
+	}
+	
+	/**
+	 * @return the filter key indexed by this index
+	 */
+	public FilterKey getKey() {
+		return key;
+	}
+	
+	/**
+	 * Adds a record to the index
+	 * 
+	 * @param primaryKey primary key of the record
+	 * @param values values of the indexed attribute in the record
+	 */
+	public void add(String primaryKey, Collection<String> values) {
+		for (String v : values) {
+			entries.compute(v, (k, keys) -> {
+				if (keys == null) keys = ConcurrentHashMap.newKeySet();
+				keys.add(primaryKey);
+				return keys;
+			});
+		}
+	}
+	
+	/**
+	 * Removes a record from the index
+	 * 
+	 * @param primaryKey primary key of the record
+	 * @param values values of the indexed attribute in the record
+	 */
+	public void remove(String primaryKey, Collection<String> values) {
+		for (String v : values) {
+			entries.computeIfPresent(v, (k, keys) -> {
+				keys.remove(primaryKey);
+				return keys.isEmpty() ? null : keys;
+			});
+		}
+	}
+	
+	/**
+	 * Returns the primary keys of the records with the given attribute value
+	 * 
+	 * @param value attribute value
+	 * @return the primary keys of the matching records, as an unmodifiable view
+	 */
+	public Set<String> lookup(String value) {
+		Set<String> keys = entries.get(value);
+		if (keys == null) return Collections.emptySet();
+		return Collections.unmodifiableSet(keys);
+	}
+	
+	/**
+	 * Removes all the entries of the index
+	 */
+	public void clear() {
+		entries.clear();
+	}
+	
+}
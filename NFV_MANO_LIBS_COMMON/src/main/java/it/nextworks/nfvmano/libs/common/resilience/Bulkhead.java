@@ -0,0 +1,107 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.resilience;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulkhead isolating the requests of different partitions (e.g. VIMs) 
+ * in separate concurrency pools, so that the requests towards a slow partition 
+ * cannot take all the threads of the callers.
+ * 
+ * @author nextworks
+ *
+ */
+public class Bulkhead {
+
+	private final int maxConcurrent;
+	private final long maxWaitNanos;
+	private final ConcurrentMap<String, Semaphore> pools = new ConcurrentHashMap<>();
+	private final AtomicLong rejected = new AtomicLong();
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param maxConcurrent maximum number of requests in progress in each partition
+	 * @param maxWait maximum time a request waits for a free slot in its partition, 0 to reject it immediately
+	 * @param unit unit of the maximum waiting time
+	 */
+	public Bulkhead(int maxConcurrent, long maxWait, TimeUnit unit) {
+		if (maxConcurrent <= 0) throw new IllegalArgumentException("Maximum concurrency not positive");
+		if (maxWait < 0) throw new IllegalArgumentException("Negative maximum waiting time");
+		this.maxConcurrent = maxConcurrent;
+		this.maxWaitNanos = unit.toNanos(maxWait);
+	}
+	
+	/**
+	 * Takes a slot in the pool of a partition, waiting at most the maximum waiting time
+	 * 
+	 * @param partition the partition
+	 * @return true if the slot has been taken and must be released through {@link #exit(String)}
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public boolean tryEnter(String partition) throws InterruptedException {
+		Semaphore pool = pool(partition);
+		boolean entered = (maxWaitNanos == 0) ? pool.tryAcquire() : pool.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+		if (!entered) rejected.incrementAndGet();
+		return entered;
+	}
+	
+	/**
+	 * Takes a slot in the pool of a partition only if immediately available, e.g. for 
+	 * optional requests like hedges. Failures are not counted as rejections.
+	 * 
+	 * @param partition the partition
+	 * @return true if the slot has been taken and must be released through {@link #exit(String)}
+	 */
+	public boolean tryEnterNow(String partition) {
+		return pool(partition).tryAcquire();
+	}
+	
+	/**
+	 * Releases a slot in the pool of a partition
+	 * 
+	 * @param partition the partition
+	 */
+	public void exit(String partition) {
+		pool(partition).release();
+	}
+	
+	/**
+	 * @param partition the partition
+	 * @return the number of free slots in the pool of the partition
+	 */
+	public int getAvailable(String partition) {
+		Semaphore pool = pools.get(partition);
+		return (pool != null) ? pool.availablePermits() : maxConcurrent;
+	}
+	
+	/**
+	 * @return the number of requests rejected because their partition was full
+	 */
+	public long getRejected() {
+		return rejected.get();
+	}
+	
+	private Semaphore pool(String partition) {
+		return pools.computeIfAbsent(partition, p -> new Semaphore(maxConcurrent));
+	}
+	
+}
@@ -0,0 +1,195 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.resilience;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker with a separate circuit for each partition (e.g. VIM).
+ * 
+ * A circuit opens after a number of consecutive failed or slow requests: 
+ * while open, the requests of the partition are rejected without being invoked.
+ * After the open duration the circuit becomes half-open and admits a limited 
+ * number of probe requests: if all of them succeed the circuit closes, 
+ * otherwise it opens again.
+ * 
+ * @author nextworks
+ *
+ */
+public class CircuitBreaker {
+
+	/**
+	 * States of a circuit
+	 */
+	public enum State {
+		CLOSED,
+		OPEN,
+		HALF_OPEN
+	}
+	
+	private final int failureThreshold;
+	private final long openNanos;
+	private final int halfOpenProbes;
+	private volatile long slowCallNanos = Long.MAX_VALUE;
+	
+	private final ConcurrentMap<String, Circuit> circuits = new ConcurrentHashMap<>();
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param failureThreshold number of consecutive failures opening a circuit
+	 * @param openDuration time a circuit stays open before admitting the probe requests
+	 * @param unit unit of the open duration
+	 * @param halfOpenProbes number of successful probe requests closing a half-open circuit
+	 */
+	public CircuitBreaker(int failureThreshold, long openDuration, TimeUnit unit, int halfOpenProbes) {
+		if (failureThreshold <= 0) throw new IllegalArgumentException("Failure threshold not positive");
+		if (openDuration <= 0) throw new IllegalArgumentException("Open duration not positive");
+		if (halfOpenProbes <= 0) throw new IllegalArgumentException("Number of probes not positive");
+		this.failureThreshold = failureThreshold;
+		this.openNanos = unit.toNanos(openDuration);
+		this.halfOpenProbes = halfOpenProbes;
+	}
+	
+	/**
+	 * Sets the latency above which a successful request is counted as a failure
+	 * 
+	 * @param threshold the latency threshold
+	 * @param unit unit of the threshold
+	 */
+	public void setSlowCallThreshold(long threshold, TimeUnit unit) {
+		this.slowCallNanos = unit.toNanos(threshold);
+	}
+	
+	/**
+	 * Tries to start a request in a partition
+	 * 
+	 * @param partition the partition
+	 * @return the attempt, whose outcome must be reported, or null if the circuit does not admit the request
+	 */
+	public Attempt tryAttempt(String partition) {
+		Circuit circuit = circuits.computeIfAbsent(partition, p -> new Circuit());
+		synchronized (circuit) {
+			long now = System.nanoTime();
+			if ((circuit.state == State.OPEN) && (now - circuit.openedAt >= openNanos)) {
+				circuit.moveTo(State.HALF_OPEN, now);
+			}
+			switch (circuit.state) {
+			case CLOSED:
+				return new Attempt(circuit, circuit.epoch, now);
+			case HALF_OPEN:
+				if (circuit.probes >= halfOpenProbes) return null;
+				circuit.probes++;
+				return new Attempt(circuit, circuit.epoch, now);
+			default:
+				return null;
+			}
+		}
+	}
+	
+	/**
+	 * @param partition the partition
+	 * @return the state of the circuit of the partition
+	 */
+	public State getState(String partition) {
+		Circuit circuit = circuits.get(partition);
+		if (circuit == null) return State.CLOSED;
+		synchronized (circuit) {
+			return circuit.state;
+		}
+	}
+	
+	/**
+	 * Closes the circuit of a partition
+	 * 
+	 * @param partition the partition
+	 */
+	public void reset(String partition) {
+		circuits.remove(partition);
+	}
+	
+	private void record(Circuit circuit, long epoch, boolean failed) {
+		synchronized (circuit) {
+			//outcomes of requests started before the last transition do not affect the new state
+			if (epoch != circuit.epoch) return;
+			long now = System.nanoTime();
+			switch (circuit.state) {
+			case CLOSED:
+				circuit.failures = failed ? circuit.failures + 1 : 0;
+				if (circuit.failures >= failureThreshold) circuit.moveTo(State.OPEN, now);
+				break;
+			case HALF_OPEN:
+				if (failed) circuit.moveTo(State.OPEN, now);
+				else if (++circuit.successes >= halfOpenProbes) circuit.moveTo(State.CLOSED, now);
+				break;
+			default:
+				break;
+			}
+		}
+	}
+	
+	private static final class Circuit {
+		
+		private State state = State.CLOSED;
+		private long epoch;
+		private long openedAt;
+		private int failures;
+		private int probes;
+		private int successes;
+		
+		private void moveTo(State state, long now) {
+			this.state = state;
+			this.epoch++;
+			this.openedAt = now;
+			this.failures = 0;
+			this.probes = 0;
+			this.successes = 0;
+		}
+	}
+	
+	/**
+	 * Request admitted by a circuit
+	 */
+	public final class Attempt {
+		
+		private final Circuit circuit;
+		private final long epoch;
+		private final long start;
+		
+		private Attempt(Circuit circuit, long epoch, long start) {
+			this.circuit = circuit;
+			this.epoch = epoch;
+			this.start = start;
+		}
+		
+		/**
+		 * Reports the success of the request, counted as a failure if slower than the slow call threshold
+		 */
+		public void succeeded() {
+			record(circuit, epoch, System.nanoTime() - start > slowCallNanos);
+		}
+		
+		/**
+		 * Reports the failure of the request
+		 */
+		public void failed() {
+			record(circuit, epoch, true);
+		}
+	}
+	
+}
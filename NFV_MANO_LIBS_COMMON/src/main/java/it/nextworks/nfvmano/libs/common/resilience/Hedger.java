@@ -0,0 +1,232 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.resilience;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Latency-based hedging of idempotent requests, e.g. queries.
+ * 
+ * The latencies of the recent successful requests of each operation are recorded: 
+ * when a request takes longer than a quantile of them (e.g. the 95th percentile), 
+ * an identical request is started and the first successful response is returned, 
+ * cancelling the other request. Requests are not hedged until enough latencies 
+ * of their operation have been recorded.
+ * 
+ * Hedges can be subject to admission, e.g. to a free slot in the bulkhead of their 
+ * partition, so that they do not add load to a saturated partition: requests whose 
+ * hedge is not admitted just wait for their response.
+ * 
+ * Hedged requests are executed by the threads of the executor, hence they do not see 
+ * the thread-local state of the caller.
+ * 
+ * @author nextworks
+ *
+ */
+public class Hedger {
+	
+	private static final int WINDOW = 128;
+	private static final int MIN_SAMPLES = 16;
+
+	private final ExecutorService executor;
+	private final double quantile;
+	private final long minDelayNanos;
+	private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+	
+	private final AtomicLong hedges = new AtomicLong();
+	private final AtomicLong hedgeWins = new AtomicLong();
+	private final AtomicLong skippedHedges = new AtomicLong();
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param executor executor of the requests, when hedging is enabled
+	 * @param quantile quantile of the recent latencies after which a request is hedged, between 0 and 1
+	 * @param minDelay minimum delay before hedging a request
+	 * @param unit unit of the minimum delay
+	 */
+	public Hedger(ExecutorService executor, double quantile, long minDelay, TimeUnit unit) {
+		if (executor == null) throw new NullPointerException("Null executor");
+		if (!(quantile > 0 && quantile <= 1)) throw new IllegalArgumentException("Quantile not in (0, 1]");
+		this.executor = executor;
+		this.quantile = quantile;
+		this.minDelayNanos = unit.toNanos(minDelay);
+	}
+	
+	/**
+	 * Executes a request, hedging it if slower than the recent requests of its operation
+	 * 
+	 * @param operation the name of the operation
+	 * @param request the request, which must be idempotent
+	 * @return the first successful response
+	 * @throws Exception the exception of the last failed request, if no request succeeds
+	 */
+	public <V> V call(String operation, Callable<V> request) throws Exception {
+		return call(operation, request, () -> true, () -> { });
+	}
+	
+	/**
+	 * Executes a request, hedging it if slower than the recent requests of its operation
+	 * and if the hedge is admitted
+	 * 
+	 * @param operation the name of the operation
+	 * @param request the request, which must be idempotent
+	 * @param admitHedge admission of the hedge, e.g. taking a slot in a bulkhead
+	 * @param releaseHedge release of an admitted hedge, invoked once when the hedge completes or is cancelled
+	 * @return the first successful response
+	 * @throws Exception the exception of the last failed request, if no request succeeds
+	 */
+	public <V> V call(String operation, Callable<V> request, BooleanSupplier admitHedge, Runnable releaseHedge) throws Exception {
+		LatencyWindow window = windows.computeIfAbsent(operation, o -> new LatencyWindow());
+		long delay = window.delay();
+		long start = System.nanoTime();
+		if (delay < 0) {
+			V response = request.call();
+			window.record(System.nanoTime() - start);
+			return response;
+		}
+		
+		ExecutorCompletionService<V> completion = new ExecutorCompletionService<>(executor);
+		List<Future<V>> requests = new ArrayList<>(2);
+		requests.add(completion.submit(request));
+		HedgeTask<V> hedge = null;
+		try {
+			Future<V> done = completion.poll(delay, TimeUnit.NANOSECONDS);
+			if (done == null) {
+				if (admitHedge.getAsBoolean()) {
+					hedge = new HedgeTask<>(request, releaseHedge);
+					try {
+						requests.add(completion.submit(hedge));
+						hedges.incrementAndGet();
+					} catch (RejectedExecutionException e) {
+						hedge.cancel();
+						hedge = null;
+						skippedHedges.incrementAndGet();
+					}
+				} else {
+					skippedHedges.incrementAndGet();
+				}
+			}
+			ExecutionException failure = null;
+			for (int pending = requests.size(); pending > 0; pending--) {
+				Future<V> completed = (done != null) ? done : completion.take();
+				done = null;
+				try {
+					V response = completed.get();
+					window.record(System.nanoTime() - start);
+					if (completed != requests.get(0)) hedgeWins.incrementAndGet();
+					return response;
+				} catch (ExecutionException e) {
+					failure = e;
+				}
+			}
+			Throwable cause = failure.getCause();
+			if (cause instanceof Exception) throw (Exception) cause;
+			if (cause instanceof Error) throw (Error) cause;
+			throw failure;
+		} finally {
+			for (Future<V> f : requests) f.cancel(true);
+			if (hedge != null) hedge.cancel();
+		}
+	}
+	
+	/**
+	 * @return the number of hedged requests
+	 */
+	public long getHedges() {
+		return hedges.get();
+	}
+	
+	/**
+	 * @return the number of hedged requests answered by the hedge
+	 */
+	public long getHedgeWins() {
+		return hedgeWins.get();
+	}
+	
+	/**
+	 * @return the number of requests not hedged because their hedge was not admitted
+	 */
+	public long getSkippedHedges() {
+		return skippedHedges.get();
+	}
+	
+	/**
+	 * Hedge of a request, releasing its admission exactly once: when it completes, 
+	 * or when it is cancelled before starting.
+	 */
+	private static final class HedgeTask<V> implements Callable<V> {
+		
+		private final Callable<V> request;
+		private final Runnable release;
+		private final AtomicBoolean claimed = new AtomicBoolean();
+		
+		HedgeTask(Callable<V> request, Runnable release) {
+			this.request = request;
+			this.release = release;
+		}
+		
+		@Override
+		public V call() throws Exception {
+			if (!claimed.compareAndSet(false, true)) return null;
+			try {
+				return request.call();
+			} finally {
+				release.run();
+			}
+		}
+		
+		void cancel() {
+			if (claimed.compareAndSet(false, true)) release.run();
+		}
+	}
+	
+	private final class LatencyWindow {
+		
+		private final long[] samples = new long[WINDOW];
+		private int count;
+		private int next;
+		
+		synchronized void record(long latency) {
+			samples[next] = latency;
+			next = (next + 1) % WINDOW;
+			if (count < WINDOW) count++;
+		}
+		
+		synchronized long delay() {
+			if (count < MIN_SAMPLES) return -1;
+			long[] sorted = Arrays.copyOf(samples, count);
+			Arrays.sort(sorted);
+			int index = Math.min(count - 1, (int) Math.ceil(quantile * count) - 1);
+			return Math.max(minDelayNanos, sorted[Math.max(0, index)]);
+		}
+	}
+	
+}
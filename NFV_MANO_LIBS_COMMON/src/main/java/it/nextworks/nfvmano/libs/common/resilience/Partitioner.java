@@ -0,0 +1,51 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.resilience;
+
+import java.lang.reflect.Method;
+
+/**
+ * Assigns the requests received by a decorated interface to partitions, 
+ * e.g. the VIMs or the resource zones targeted by the requests, 
+ * isolated from each other by the {@link Resilience} decorators.
+ * 
+ * @author nextworks
+ *
+ */
+public interface Partitioner {
+
+	/**
+	 * Resolves the partition of a request
+	 * 
+	 * @param method the invoked method
+	 * @param args the arguments of the invocation
+	 * @return the partition, or null if the request cannot be assigned to a partition, 
+	 * in which case it is rejected; requests to be admitted in a shared partition 
+	 * must be explicitly assigned to it, e.g. to Resilience.DEFAULT_PARTITION
+	 */
+	public String partitionOf(Method method, Object[] args);
+	
+	/**
+	 * Notifies the response of a successful request, e.g. to learn the partition 
+	 * of the resources it created. The default implementation does nothing.
+	 * 
+	 * @param method the invoked method
+	 * @param args the arguments of the invocation
+	 * @param response the response
+	 */
+	public default void onResponse(Method method, Object[] args, Object response) { }
+	
+}
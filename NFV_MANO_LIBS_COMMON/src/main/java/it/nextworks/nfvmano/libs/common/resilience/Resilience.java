@@ -0,0 +1,197 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.resilience;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import it.nextworks.nfvmano.libs.common.exceptions.FailedOperationException;
+import it.nextworks.nfvmano.libs.common.proxy.DelegatingInvocationHandler;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+
+/**
+ * Decorator isolating the partitions (e.g. the VIMs) targeted by the requests of
+ * an interface, typically one of the IFA05 resource management provider interfaces.
+ * 
+ * The decorator is a dynamic proxy. The requests of each partition, resolved through 
+ * a {@link Partitioner}, are executed within the {@link Bulkhead} pool of the partition 
+ * and are admitted only while the circuit of the partition in the {@link CircuitBreaker} 
+ * is not open. Requests rejected by the bulkhead or by the circuit breaker fail with
+ * a FailedOperationException, or a RejectedExecutionException if the method 
+ * does not declare it, without capturing the stack trace. Queries (the methods whose 
+ * name starts with "query" and returning a response) are hedged by the {@link Hedger}, 
+ * if any, and their hedges take a slot in the bulkhead of the partition: they are not 
+ * started while the partition is saturated. Requests that cannot be assigned to a 
+ * partition are rejected; partitioners can assign the requests not bound to a 
+ * specific partition to the shared {@link #DEFAULT_PARTITION}.
+ * 
+ * FailedOperationExceptions, unchecked exceptions and slow requests are counted as
+ * failures of the partition; the other exceptions (e.g. NotExistingEntityException 
+ * or MalformattedElementException) are errors of the callers and are counted as successes.
+ * For methods returning a CompletableFuture (e.g. the *ProviderAsync interfaces) the 
+ * slot is released and the outcome recorded when the future completes; a null future 
+ * is recorded as a failure.
+ * 
+ * @author nextworks
+ *
+ */
+public class Resilience {
+
+	public static final String DEFAULT_PARTITION = "default";
+	
+	private Resilience() { }
+	
+	/**
+	 * Decorates an implementation of an interface
+	 * 
+	 * @param iface the interface
+	 * @param target the implementation
+	 * @param partitioner partitioner of the requests
+	 * @param bulkhead bulkhead of the partitions, null to disable it
+	 * @param circuitBreaker circuit breaker of the partitions, null to disable it
+	 * @param hedger hedger of the queries, null to disable it
+	 * @return the decorated implementation
+	 */
+	public static <T> T decorate(Class<T> iface, T target, Partitioner partitioner, 
+			Bulkhead bulkhead, CircuitBreaker circuitBreaker, Hedger hedger) {
+		return new ResilienceInvocationHandler<>(iface, target, partitioner, bulkhead, circuitBreaker, hedger).newProxy();
+	}
+	
+	static boolean isFailure(Throwable e) {
+		return (e instanceof FailedOperationException) || (e instanceof RuntimeException);
+	}
+	
+	private static class ResilienceInvocationHandler<T> extends DelegatingInvocationHandler<T> {
+		
+		private final Partitioner partitioner;
+		private final Bulkhead bulkhead;
+		private final CircuitBreaker circuitBreaker;
+		private final Hedger hedger;
+		private final Set<Method> hedged = new HashSet<>();
+		
+		ResilienceInvocationHandler(Class<T> iface, T target, Partitioner partitioner, 
+				Bulkhead bulkhead, CircuitBreaker circuitBreaker, Hedger hedger) {
+			super(iface, target);
+			if (partitioner == null) throw new NullPointerException("Null partitioner");
+			this.partitioner = partitioner;
+			this.bulkhead = bulkhead;
+			this.circuitBreaker = circuitBreaker;
+			this.hedger = hedger;
+			for (Method m : iface.getMethods()) {
+				if (m.getName().startsWith("query") && (m.getReturnType() != void.class)
+						&& !QueryResultStream.class.isAssignableFrom(m.getReturnType())
+						&& !CompletableFuture.class.isAssignableFrom(m.getReturnType())) hedged.add(m);
+			}
+		}
+
+		@Override
+		protected Object invokeInterfaceMethod(Method method, Object[] args) throws Throwable {
+			String partition = partitioner.partitionOf(method, args);
+			if (partition == null) throw rejection(method, "Request " + method.getName() + " rejected: partition not resolved");
+			
+			if (bulkhead != null) {
+				boolean entered;
+				try {
+					entered = bulkhead.tryEnter(partition);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw interrupted(method, partition, e);
+				}
+				if (!entered) throw rejection(method, partition, "no free slot in the bulkhead");
+			}
+			CircuitBreaker.Attempt attempt = null;
+			if (circuitBreaker != null) {
+				attempt = circuitBreaker.tryAttempt(partition);
+				if (attempt == null) {
+					exit(partition);
+					throw rejection(method, partition, "circuit open");
+				}
+			}
+			
+			boolean async = CompletableFuture.class.isAssignableFrom(method.getReturnType());
+			Object response;
+			try {
+				response = (hedger != null) && hedged.contains(method) ? hedge(method, args, partition) : proceed(method, args);
+			} catch (Throwable e) {
+				completed(method, args, partition, attempt, null, e);
+				throw e;
+			}
+			if (async && (response == null)) {
+				completed(method, args, partition, attempt, null, new NullPointerException("Null future returned by " + method.getName()));
+			} else if (async) {
+				CircuitBreaker.Attempt started = attempt;
+				((CompletableFuture<?>) response).whenComplete((r, e) -> 
+					completed(method, args, partition, started, r, (e instanceof CompletionException) && (e.getCause() != null) ? e.getCause() : e));
+			} else {
+				completed(method, args, partition, attempt, async ? null : response, null);
+			}
+			return response;
+		}
+		
+		private Object hedge(Method method, Object[] args, String partition) throws Throwable {
+			try {
+				return hedger.call(method.getName(), () -> {
+					try {
+						return proceed(method, args);
+					} catch (Exception | Error e) {
+						throw e;
+					} catch (Throwable e) {
+						throw new UndeclaredThrowableException(e);
+					}
+				}, () -> (bulkhead == null) || bulkhead.tryEnterNow(partition), () -> exit(partition));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw interrupted(method, partition, e);
+			}
+		}
+		
+		private void completed(Method method, Object[] args, String partition, CircuitBreaker.Attempt attempt, Object response, Throwable e) {
+			exit(partition);
+			if (attempt != null) {
+				if ((e != null) && isFailure(e)) attempt.failed();
+				else attempt.succeeded();
+			}
+			if ((e == null) && (response != null)) partitioner.onResponse(method, args, response);
+		}
+		
+		private void exit(String partition) {
+			if (bulkhead != null) bulkhead.exit(partition);
+		}
+		
+		private Exception rejection(Method method, String partition, String reason) {
+			return rejection(method, "Request " + method.getName() + " on partition " + partition + " rejected: " + reason);
+		}
+		
+		private Exception rejection(Method method, String message) {
+			if (canThrow(method, FailedOperationException.class)) return FailedOperationException.stackless(message);
+			RejectedExecutionException e = new RejectedExecutionException(message);
+			e.setStackTrace(new StackTraceElement[0]);
+			return e;
+		}
+		
+		private Exception interrupted(Method method, String partition, InterruptedException e) {
+			String message = "Interrupted while executing " + method.getName() + " on partition " + partition;
+			if (canThrow(method, FailedOperationException.class)) return new FailedOperationException(message);
+			return new CompletionException(message, e);
+		}
+	}
+	
+}
@@ -0,0 +1,85 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.subscription;
+
+/**
+ * Statistics of the deliveries of the notifications to a consumer
+ * 
+ * @author nextworks
+ *
+ */
+public class DeliveryStatistics {
+
+	private final int pending;
+	private final long delivered;
+	private final long failed;
+	private final long dropped;
+	private final long timedOut;
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param pending number of notifications waiting in the queue of the consumer
+	 * @param delivered number of notifications delivered successfully
+	 * @param failed number of notifications whose delivery failed, including the ones timed out
+	 * @param dropped number of notifications dropped because the queue of the consumer was full
+	 * or because their subscriptions were removed before the delivery
+	 * @param timedOut number of notifications whose delivery has been interrupted on timeout
+	 */
+	public DeliveryStatistics(int pending, long delivered, long failed, long dropped, long timedOut) {
+		this.pending = pending;
+		this.delivered = delivered;
+		this.failed = failed;
+		this.dropped = dropped;
+		this.timedOut = timedOut;
+	}
+
+	/**
+	 * @return the pending
+	 */
+	public int getPending() {
+		return pending;
+	}
+
+	/**
+	 * @return the delivered
+	 */
+	public long getDelivered() {
+		return delivered;
+	}
+
+	/**
+	 * @return the failed
+	 */
+	public long getFailed() {
+		return failed;
+	}
+
+	/**
+	 * @return the dropped
+	 */
+	public long getDropped() {
+		return dropped;
+	}
+
+	/**
+	 * @return the timedOut
+	 */
+	public long getTimedOut() {
+		return timedOut;
+	}
+	
+}
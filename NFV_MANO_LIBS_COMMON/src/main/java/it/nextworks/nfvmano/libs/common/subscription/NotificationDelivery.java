@@ -0,0 +1,39 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.subscription;
+
+/**
+ * Delivery of a notification to a consumer, usually invoking
+ * the related method of a consumer interface.
+ * 
+ * @author nextworks
+ *
+ * @param <C> type of the consumers receiving the notifications
+ * @param <N> type of the notifications
+ */
+@FunctionalInterface
+public interface NotificationDelivery<C, N> {
+
+	/**
+	 * Delivers a notification to a consumer
+	 * 
+	 * @param consumer the consumer
+	 * @param notification the notification
+	 * @throws Exception if the delivery fails
+	 */
+	public void deliver(C consumer, N notification) throws Exception;
+	
+}
@@ -0,0 +1,354 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.subscription;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous dispatcher of the notifications to the consumers
+ * whose subscriptions in a SubscriptionRegistry match them.
+ * 
+ * Each consumer has its own bounded queue, drained by at most one task at a time
+ * on the executor of the dispatcher, so that the notifications are delivered 
+ * to each consumer in order and a slow or stalled consumer delays only its 
+ * own notifications. Each task delivers a batch of notifications and then 
+ * releases the executor thread to the other consumers.
+ * When the queue of a consumer is full, the overflow policy decides which 
+ * notification is dropped, without blocking the publisher.
+ * 
+ * A consumer with more than one matching subscription receives a notification only once.
+ * Notifications are delivered only while at least one of their matching subscriptions 
+ * is active: the queue of a consumer is removed, with its pending notifications, when 
+ * its last subscription is removed from the registry.
+ * 
+ * With a delivery timeout, a delivery lasting longer is interrupted and counted as 
+ * failed, and the task releases the executor thread to the other consumers: the 
+ * deliveries must hence respond to the interruption (e.g. blocking I/O on interruptible 
+ * channels, or waits on the java.util.concurrent primitives). Without a timeout, 
+ * the executor should have enough threads to tolerate the expected number of 
+ * stalled consumers. In both cases it should be dedicated to the dispatcher.
+ * 
+ * @author nextworks
+ *
+ * @param <C> type of the consumers receiving the notifications
+ * @param <N> type of the notifications
+ */
+public class NotificationDispatcher<C, N> {
+
+	/**
+	 * Policy applied when the queue of a consumer is full
+	 */
+	public enum OverflowPolicy {
+		DROP_OLDEST,
+		DROP_NEWEST
+	}
+	
+	private final SubscriptionRegistry<C, N> registry;
+	private final NotificationDelivery<C, N> delivery;
+	private final Executor executor;
+	private final int queueCapacity;
+	private final int batchSize;
+	private final OverflowPolicy overflowPolicy;
+	private final ScheduledExecutorService timer;
+	private final long deliveryTimeoutNanos;
+	private final Map<ConsumerKey, ConsumerQueue> queues = new ConcurrentHashMap<>();
+	
+	/**
+	 * Constructor of a dispatcher without delivery timeout
+	 * 
+	 * @param registry registry of the subscriptions
+	 * @param delivery delivery of a notification to a consumer
+	 * @param executor executor running the delivery tasks
+	 * @param queueCapacity maximum number of notifications queued for each consumer
+	 * @param batchSize maximum number of notifications delivered by a task
+	 * @param overflowPolicy policy applied when the queue of a consumer is full
+	 */
+	public NotificationDispatcher(SubscriptionRegistry<C, N> registry,
+			NotificationDelivery<C, N> delivery,
+			Executor executor,
+			int queueCapacity,
+			int batchSize,
+			OverflowPolicy overflowPolicy) {
+		this(registry, delivery, executor, queueCapacity, batchSize, overflowPolicy, null, 0, TimeUnit.NANOSECONDS);
+	}
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param registry registry of the subscriptions
+	 * @param delivery delivery of a notification to a consumer
+	 * @param executor executor running the delivery tasks
+	 * @param queueCapacity maximum number of notifications queued for each consumer
+	 * @param batchSize maximum number of notifications delivered by a task
+	 * @param overflowPolicy policy applied when the queue of a consumer is full
+	 * @param timer scheduler interrupting the deliveries on timeout, null to disable the timeout
+	 * @param deliveryTimeout maximum duration of a delivery
+	 * @param unit unit of the delivery timeout
+	 */
+	public NotificationDispatcher(SubscriptionRegistry<C, N> registry,
+			NotificationDelivery<C, N> delivery,
+			Executor executor,
+			int queueCapacity,
+			int batchSize,
+			OverflowPolicy overflowPolicy,
+			ScheduledExecutorService timer,
+			long deliveryTimeout,
+			TimeUnit unit) {
+		if (queueCapacity <= 0 || batchSize <= 0) throw new IllegalArgumentException("Queue capacity and batch size must be positive");
+		if ((timer != null) && (deliveryTimeout <= 0)) throw new IllegalArgumentException("Delivery timeout not positive");
+		this.registry = registry;
+		this.delivery = delivery;
+		this.executor = executor;
+		this.queueCapacity = queueCapacity;
+		this.batchSize = batchSize;
+		this.overflowPolicy = overflowPolicy;
+		this.timer = timer;
+		this.deliveryTimeoutNanos = unit.toNanos(deliveryTimeout);
+		registry.addUnsubscribeListener(s -> removeIfUnsubscribed(s.getConsumer()));
+	}
+	
+	/**
+	 * Queues a notification for the consumers with matching subscriptions.
+	 * The method does not block and does not wait for the delivery.
+	 * 
+	 * @param notification the notification
+	 * @return the number of consumers the notification has been queued for
+	 */
+	public int publish(N notification) {
+		List<Subscription<C, N>> matching = registry.match(notification);
+		if (matching.isEmpty()) return 0;
+		Map<C, Pending> consumers = new IdentityHashMap<>();
+		for (Subscription<C, N> s : matching) {
+			Pending pending = consumers.get(s.getConsumer());
+			if (pending == null) consumers.put(s.getConsumer(), new Pending(notification, s));
+			else pending.add(s);
+		}
+		for (Map.Entry<C, Pending> e : consumers.entrySet()) {
+			C consumer = e.getKey();
+			queues.computeIfAbsent(new ConsumerKey(consumer), k -> new ConsumerQueue(consumer)).offer(e.getValue());
+			//unsubscribed while publishing: the queue created for the consumer is removed
+			if (!e.getValue().isActive()) removeIfUnsubscribed(consumer);
+		}
+		return consumers.size();
+	}
+	
+	/**
+	 * Returns the statistics of the deliveries to a consumer
+	 * 
+	 * @param consumer the consumer
+	 * @return the statistics, or null if no notification has been queued for the consumer
+	 */
+	public DeliveryStatistics getStatistics(C consumer) {
+		ConsumerQueue queue = queues.get(new ConsumerKey(consumer));
+		if (queue == null) return null;
+		return new DeliveryStatistics(queue.queue.size(), queue.delivered.get(), queue.failed.get(), queue.dropped.get(), queue.timedOut.get());
+	}
+	
+	/**
+	 * Removes the queues of the consumers without active subscriptions, 
+	 * dropping their pending notifications.
+	 */
+	public void purge() {
+		Map<C, Boolean> subscribed = new IdentityHashMap<>();
+		for (Subscription<C, N> s : registry.getSubscriptions()) subscribed.put(s.getConsumer(), Boolean.TRUE);
+		queues.entrySet().removeIf(e -> !subscribed.containsKey(e.getValue().consumer));
+	}
+	
+	private void removeIfUnsubscribed(C consumer) {
+		if (registry.hasSubscriptions(consumer)) return;
+		ConsumerQueue queue = queues.remove(new ConsumerKey(consumer));
+		if (queue != null) queue.queue.clear();
+	}
+	
+	/**
+	 * Notification queued for a consumer, with the subscriptions of the consumer matching it
+	 */
+	private final class Pending {
+		
+		final N notification;
+		final Subscription<C, N> subscription;
+		List<Subscription<C, N>> others;
+		
+		Pending(N notification, Subscription<C, N> subscription) {
+			this.notification = notification;
+			this.subscription = subscription;
+		}
+		
+		void add(Subscription<C, N> s) {
+			if (others == null) others = new ArrayList<>(2);
+			others.add(s);
+		}
+		
+		boolean isActive() {
+			if (subscription.isActive()) return true;
+			if (others != null) {
+				for (Subscription<C, N> s : others) {
+					if (s.isActive()) return true;
+				}
+			}
+			return false;
+		}
+	}
+	
+	private class ConsumerQueue {
+		
+		final C consumer;
+		final BlockingQueue<Pending> queue = new ArrayBlockingQueue<>(queueCapacity);
+		final AtomicBoolean scheduled = new AtomicBoolean(false);
+		final AtomicLong delivered = new AtomicLong();
+		final AtomicLong failed = new AtomicLong();
+		final AtomicLong dropped = new AtomicLong();
+		final AtomicLong timedOut = new AtomicLong();
+		
+		ConsumerQueue(C consumer) {
+			this.consumer = consumer;
+		}
+		
+		void offer(Pending notification) {
+			while (!queue.offer(notification)) {
+				dropped.incrementAndGet();
+				if (overflowPolicy == OverflowPolicy.DROP_NEWEST) return;
+				queue.poll();
+			}
+			schedule();
+		}
+		
+		void schedule() {
+			if (!scheduled.compareAndSet(false, true)) return;
+			try {
+				executor.execute(this::drain);
+			} catch (RejectedExecutionException e) {
+				scheduled.set(false);
+			}
+		}
+		
+		void drain() {
+			try {
+				for (int i = 0; i < batchSize; i++) {
+					Pending pending = queue.poll();
+					if (pending == null) break;
+					if (!pending.isActive()) {
+						dropped.incrementAndGet();
+						continue;
+					}
+					if (!deliver(pending.notification)) break;
+				}
+			} finally {
+				scheduled.set(false);
+				if (!queue.isEmpty()) schedule();
+			}
+		}
+		
+		/**
+		 * @return false if the delivery timed out, hence the executor thread is to be released
+		 */
+		boolean deliver(N notification) {
+			Watchdog watchdog = (timer != null) ? new Watchdog(Thread.currentThread()) : null;
+			boolean completed = false;
+			try {
+				if (watchdog != null) watchdog.start();
+				delivery.deliver(consumer, notification);
+				completed = true;
+			} catch (Exception e) {
+				//counted below
+			} finally {
+				if ((watchdog != null) && watchdog.stop()) {
+					timedOut.incrementAndGet();
+					completed = false;
+				}
+				if (completed) delivered.incrementAndGet();
+				else failed.incrementAndGet();
+			}
+			return (watchdog == null) || !watchdog.timedOut;
+		}
+	}
+	
+	/**
+	 * Interrupts a delivery on timeout
+	 */
+	private final class Watchdog implements Runnable {
+		
+		private final Thread thread;
+		private ScheduledFuture<?> future;
+		private boolean running = true;
+		boolean timedOut;
+		
+		Watchdog(Thread thread) {
+			this.thread = thread;
+		}
+		
+		void start() {
+			try {
+				future = timer.schedule(this, deliveryTimeoutNanos, TimeUnit.NANOSECONDS);
+			} catch (RejectedExecutionException e) {
+				//the timer is shut down: the delivery is not bounded
+			}
+		}
+		
+		@Override
+		public synchronized void run() {
+			if (!running) return;
+			timedOut = true;
+			thread.interrupt();
+		}
+		
+		/**
+		 * @return true if the delivery has been interrupted
+		 */
+		boolean stop() {
+			if (future != null) future.cancel(false);
+			synchronized (this) {
+				running = false;
+			}
+			//the interruption, if any, has been raised within the lock: it is not left to the next task
+			if (timedOut) Thread.interrupted();
+			return timedOut;
+		}
+	}
+	
+	private static class ConsumerKey {
+		
+		final Object consumer;
+		
+		ConsumerKey(Object consumer) {
+			this.consumer = consumer;
+		}
+		
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(consumer);
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			return (obj instanceof ConsumerKey) && ((ConsumerKey) obj).consumer == consumer;
+		}
+	}
+	
+}
@@ -0,0 +1,84 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.subscription;
+
+import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
+import it.nextworks.nfvmano.libs.common.query.CompiledFilter;
+
+/**
+ * Subscription to the notifications of a provider interface,
+ * stored in a SubscriptionRegistry.
+ * 
+ * @author nextworks
+ *
+ * @param <C> type of the consumers receiving the notifications
+ * @param <N> type of the notifications
+ */
+public class Subscription<C, N> {
+
+	private final String subscriptionId;
+	private final SubscribeRequest request;
+	private final C consumer;
+	private final CompiledFilter<N> filter;
+	private volatile boolean active = true;
+	
+	Subscription(String subscriptionId, SubscribeRequest request, C consumer, CompiledFilter<N> filter) {
+		this.subscriptionId = subscriptionId;
+		this.request = request;
+		this.consumer = consumer;
+		this.filter = filter;
+	}
+
+	/**
+	 * @return the subscriptionId
+	 */
+	public String getSubscriptionId() {
+		return subscriptionId;
+	}
+
+	/**
+	 * @return the request
+	 */
+	public SubscribeRequest getRequest() {
+		return request;
+	}
+
+	/**
+	 * @return the consumer
+	 */
+	public C getConsumer() {
+		return consumer;
+	}
+
+	/**
+	 * @return the compiled filter of the subscription
+	 */
+	public CompiledFilter<N> getFilter() {
+		return filter;
+	}
+	
+	/**
+	 * @return false if the subscription has been removed
+	 */
+	public boolean isActive() {
+		return active;
+	}
+	
+	void deactivate() {
+		active = false;
+	}
+	
+}
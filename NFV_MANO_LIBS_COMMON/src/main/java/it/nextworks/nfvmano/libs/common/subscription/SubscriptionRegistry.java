@@ -0,0 +1,194 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.subscription;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import it.nextworks.nfvmano.libs.common.enums.FilterKey;
+import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
+import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
+import it.nextworks.nfvmano.libs.common.query.CompiledFilter;
+import it.nextworks.nfvmano.libs.common.query.FilterCompiler;
+
+/**
+ * Registry of the subscriptions to the notifications of a provider interface,
+ * to be shared by the implementations of the subscribe and unsubscribe methods.
+ * 
+ * The filters of the subscriptions are compiled against the attributes of
+ * the notifications. Each subscription with a filter is indexed on one of its 
+ * filter parameters, so that a notification is tested only against the 
+ * subscriptions indexed on its attribute values and the ones without filter.
+ * 
+ * Listeners registered through {@link #addUnsubscribeListener(Consumer)}, e.g. the 
+ * NotificationDispatcher, are notified of the removed subscriptions, so that they 
+ * can release the resources of their consumers.
+ * 
+ * The registry is safe for concurrent use.
+ * 
+ * @author nextworks
+ *
+ * @param <C> type of the consumers receiving the notifications
+ * @param <N> type of the notifications
+ */
+public class SubscriptionRegistry<C, N> {
+
+	private final FilterCompiler<N> compiler;
+	private final Map<String, Subscription<C, N>> subscriptions = new ConcurrentHashMap<>();
+	private final Set<Subscription<C, N>> unfiltered = ConcurrentHashMap.newKeySet();
+	private final Map<FilterKey, Map<String, Set<Subscription<C, N>>>> index = new EnumMap<>(FilterKey.class);
+	private final List<Consumer<Subscription<C, N>>> unsubscribeListeners = new CopyOnWriteArrayList<>();
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param compiler compiler of the subscription filters, defining the filter keys supported for the notifications
+	 */
+	public SubscriptionRegistry(FilterCompiler<N> compiler) {
+		this.compiler = compiler;
+		for (FilterKey key : compiler.getSupportedKeys()) index.put(key, new ConcurrentHashMap<>());
+	}
+	
+	/**
+	 * Adds a subscription
+	 * 
+	 * @param request subscription request
+	 * @param consumer consumer receiving the notifications
+	 * @return the ID of the subscription
+	 * @throws MalformattedElementException if the request is malformatted or its filter includes keys not supported for the notifications
+	 */
+	public String subscribe(SubscribeRequest request, C consumer) throws MalformattedElementException {
+		if (request == null) throw new MalformattedElementException("Subscription without request");
+		if (consumer == null) throw new MalformattedElementException("Subscription without consumer");
+		CompiledFilter<N> filter = compiler.compile(request.getFilter());
+		String subscriptionId = UUID.randomUUID().toString();
+		Subscription<C, N> subscription = new Subscription<>(subscriptionId, request, consumer, filter);
+		subscriptions.put(subscriptionId, subscription);
+		if (filter.isMatchAll()) {
+			unfiltered.add(subscription);
+		} else {
+			Map.Entry<FilterKey, String> anchor = filter.getTerms().entrySet().iterator().next();
+			index.get(anchor.getKey()).computeIfAbsent(anchor.getValue(), v -> ConcurrentHashMap.newKeySet()).add(subscription);
+		}
+		return subscriptionId;
+	}
+	
+	/**
+	 * Removes a subscription
+	 * 
+	 * @param subscriptionId ID of the subscription to be removed
+	 * @throws NotExistingEntityException if the subscription does not exist
+	 */
+	public void unsubscribe(String subscriptionId) throws NotExistingEntityException {
+		Subscription<C, N> subscription = subscriptions.remove(subscriptionId);
+		if (subscription == null) throw new NotExistingEntityException("Subscription " + subscriptionId + " not found");
+		subscription.deactivate();
+		CompiledFilter<N> filter = subscription.getFilter();
+		if (filter.isMatchAll()) {
+			unfiltered.remove(subscription);
+		} else {
+			Map.Entry<FilterKey, String> anchor = filter.getTerms().entrySet().iterator().next();
+			index.get(anchor.getKey()).computeIfPresent(anchor.getValue(), (v, s) -> {
+				s.remove(subscription);
+				return s.isEmpty() ? null : s;
+			});
+		}
+		for (Consumer<Subscription<C, N>> listener : unsubscribeListeners) listener.accept(subscription);
+	}
+	
+	/**
+	 * Adds a listener notified of each subscription removed, after its removal
+	 * 
+	 * @param listener the listener
+	 */
+	public void addUnsubscribeListener(Consumer<Subscription<C, N>> listener) {
+		unsubscribeListeners.add(listener);
+	}
+	
+	/**
+	 * @param consumer a consumer
+	 * @return true if the consumer has at least an active subscription
+	 */
+	public boolean hasSubscriptions(C consumer) {
+		for (Subscription<C, N> s : subscriptions.values()) {
+			if (s.getConsumer() == consumer) return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * @param subscriptionId ID of the subscription
+	 * @return the subscription
+	 * @throws NotExistingEntityException if the subscription does not exist
+	 */
+	public Subscription<C, N> getSubscription(String subscriptionId) throws NotExistingEntityException {
+		Subscription<C, N> subscription = subscriptions.get(subscriptionId);
+		if (subscription == null) throw new NotExistingEntityException("Subscription " + subscriptionId + " not found");
+		return subscription;
+	}
+	
+	/**
+	 * @return all the active subscriptions
+	 */
+	public Collection<Subscription<C, N>> getSubscriptions() {
+		return new ArrayList<>(subscriptions.values());
+	}
+	
+	/**
+	 * Returns the subscriptions whose filter matches the given notification
+	 * 
+	 * @param notification the notification
+	 * @return the matching subscriptions
+	 */
+	public List<Subscription<C, N>> match(N notification) {
+		List<Subscription<C, N>> result = new ArrayList<>(unfiltered);
+		Map<Subscription<C, N>, Boolean> tested = null;
+		for (Map.Entry<FilterKey, Map<String, Set<Subscription<C, N>>>> e : index.entrySet()) {
+			if (e.getValue().isEmpty()) continue;
+			Collection<String> values;
+			try {
+				values = compiler.getAttributeValues(e.getKey(), notification);
+			} catch (MalformattedElementException ex) {
+				//the index includes only the keys supported by the compiler
+				throw new IllegalStateException(ex);
+			}
+			for (String value : values) {
+				Set<Subscription<C, N>> candidates = e.getValue().get(value);
+				if (candidates == null) continue;
+				for (Subscription<C, N> s : candidates) {
+					if (values.size() > 1) {
+						//with multi-valued attributes a subscription can be found more than once
+						if (tested == null) tested = new IdentityHashMap<>();
+						if (tested.put(s, Boolean.TRUE) != null) continue;
+					}
+					if (s.getFilter().test(notification)) result.add(s);
+				}
+			}
+		}
+		return result;
+	}
+	
+}
@@ -0,0 +1,100 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.tracking;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Modification stamp of a mutable element of the information model.
+ * 
+ * The stamp is changed by every setter of the element, through {@link #touch()}, 
+ * and by every change of the lists and maps returned by its getters, which are 
+ * wrapped through {@link #track(List)} and {@link #track(Map)}: a cached value 
+ * derived from the element (e.g. its hash or an index of its lists) is valid 
+ * as long as the stamp of the element is the one it was computed with.
+ * 
+ * The values of the stamps are taken from a global clock, so that a stamp never
+ * takes again a previous value and an unchanged {@link #clock()} guarantees that 
+ * no tracked element has been changed in the meanwhile. Elements are not 
+ * thread safe: concurrent changes of the same element may produce a single 
+ * new stamp, which is anyway different from the previous one.
+ * 
+ * @author nextworks
+ *
+ */
+public final class ModificationStamp {
+
+	private static final AtomicLong CLOCK = new AtomicLong();
+	
+	private volatile long value;
+	
+	/**
+	 * Creates the stamp of a new element
+	 */
+	public ModificationStamp() { }
+	
+	/**
+	 * @return the current value of the stamp
+	 */
+	public long get() {
+		return value;
+	}
+	
+	/**
+	 * Records a change of the element
+	 */
+	public void touch() {
+		value = CLOCK.incrementAndGet();
+	}
+	
+	/**
+	 * @return the current value of the global clock, changed by every modification of a tracked element
+	 */
+	public static long clock() {
+		return CLOCK.get();
+	}
+	
+	/**
+	 * Wraps a list of the element, so that its changes are recorded by the stamp.
+	 * 
+	 * @param list the list held by the element, possibly null
+	 * @return a live view of the list, or null if the list is null
+	 */
+	public <E> List<E> track(List<E> list) {
+		return (list == null) ? null : new TrackedList<>(list, this);
+	}
+	
+	/**
+	 * Wraps a map of the element, so that its changes are recorded by the stamp.
+	 * 
+	 * @param map the map held by the element, possibly null
+	 * @return a live view of the map, or null if the map is null
+	 */
+	public <K, V> Map<K, V> track(Map<K, V> map) {
+		return (map == null) ? null : new TrackedMap<>(map, this);
+	}
+	
+	/**
+	 * @param collection a list or a map returned by the getter of an element
+	 * @return true if the changes of the collection are recorded by a modification stamp
+	 */
+	public static boolean isTracked(Object collection) {
+		return (collection instanceof TrackedList) || (collection instanceof TrackedMap);
+	}
+	
+}
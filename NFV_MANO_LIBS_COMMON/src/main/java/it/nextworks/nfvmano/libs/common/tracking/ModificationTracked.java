@@ -0,0 +1,41 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.tracking;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Interface of the mutable elements of the information model whose changes
+ * are recorded by a {@link ModificationStamp}, so that the values derived from
+ * them can be cached and invalidated when the element changes.
+ * 
+ * Implementations change the stamp in all their setters and return their lists 
+ * and maps wrapped by the stamp, e.g. extending {@link TrackedElement}. Lists and 
+ * maps passed to their constructors are owned by the element and must not be 
+ * changed by the caller afterwards.
+ * 
+ * @author nextworks
+ *
+ */
+public interface ModificationTracked {
+
+	/**
+	 * @return the current modification stamp of the element, not including its sub-elements
+	 */
+	@JsonIgnore
+	public long getModificationStamp();
+	
+}
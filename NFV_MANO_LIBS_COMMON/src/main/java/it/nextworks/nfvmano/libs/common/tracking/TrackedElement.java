@@ -0,0 +1,83 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.tracking;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.MappedSuperclass;
+import javax.persistence.PostLoad;
+import javax.persistence.PreUpdate;
+import javax.persistence.Transient;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Base class of the JPA entities of the information model whose changes are
+ * recorded by a {@link ModificationStamp}.
+ * 
+ * Subclasses call {@link #touch()} in their setters and in the methods changing 
+ * their collections, and return their lists and maps through {@link #track(List)} 
+ * and {@link #track(Map)}. The changes written by the persistence provider directly 
+ * in the fields (e.g. by a refresh, or by a merge into a managed entity) are recorded 
+ * when the entity is loaded or refreshed, and when it is updated on flush.
+ * 
+ * @author nextworks
+ *
+ */
+@MappedSuperclass
+public abstract class TrackedElement implements ModificationTracked {
+
+	@Transient
+	@JsonIgnore
+	private transient ModificationStamp modificationStamp = new ModificationStamp();
+	
+	@Override
+	@JsonIgnore
+	public long getModificationStamp() {
+		return modificationStamp.get();
+	}
+	
+	/**
+	 * Records a change of the element
+	 */
+	protected void touch() {
+		modificationStamp.touch();
+	}
+	
+	/**
+	 * @param list a list held by the element
+	 * @return a live view of the list recording its changes, or null if the list is null
+	 */
+	protected <E> List<E> track(List<E> list) {
+		return modificationStamp.track(list);
+	}
+	
+	/**
+	 * @param map a map held by the element
+	 * @return a live view of the map recording its changes, or null if the map is null
+	 */
+	protected <K, V> Map<K, V> track(Map<K, V> map) {
+		return modificationStamp.track(map);
+	}
+	
+	@PostLoad
+	@PreUpdate
+	private void providerChange() {
+		modificationStamp.touch();
+	}
+	
+}
@@ -0,0 +1,257 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.tracking;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Live view of a list held by an element, recording its changes
+ * in the modification stamp of the element.
+ * 
+ * @author nextworks
+ *
+ * @param <E> type of the elements
+ */
+final class TrackedList<E> extends AbstractList<E> {
+
+	private final List<E> list;
+	private final ModificationStamp stamp;
+	
+	TrackedList(List<E> list, ModificationStamp stamp) {
+		this.list = list;
+		this.stamp = stamp;
+	}
+	
+	@Override
+	public E get(int index) {
+		return list.get(index);
+	}
+	
+	@Override
+	public int size() {
+		return list.size();
+	}
+	
+	@Override
+	public boolean isEmpty() {
+		return list.isEmpty();
+	}
+	
+	@Override
+	public boolean contains(Object o) {
+		return list.contains(o);
+	}
+	
+	@Override
+	public int indexOf(Object o) {
+		return list.indexOf(o);
+	}
+	
+	@Override
+	public int lastIndexOf(Object o) {
+		return list.lastIndexOf(o);
+	}
+	
+	@Override
+	public Object[] toArray() {
+		return list.toArray();
+	}
+	
+	@Override
+	public <T> T[] toArray(T[] a) {
+		return list.toArray(a);
+	}
+	
+	@Override
+	public E set(int index, E element) {
+		E previous = list.set(index, element);
+		stamp.touch();
+		return previous;
+	}
+	
+	@Override
+	public boolean add(E e) {
+		boolean changed = list.add(e);
+		stamp.touch();
+		return changed;
+	}
+	
+	@Override
+	public void add(int index, E element) {
+		list.add(index, element);
+		stamp.touch();
+	}
+	
+	@Override
+	public E remove(int index) {
+		E removed = list.remove(index);
+		stamp.touch();
+		return removed;
+	}
+	
+	@Override
+	public boolean remove(Object o) {
+		return touchIf(list.remove(o));
+	}
+	
+	@Override
+	public boolean addAll(Collection<? extends E> c) {
+		return touchIf(list.addAll(c));
+	}
+	
+	@Override
+	public boolean addAll(int index, Collection<? extends E> c) {
+		return touchIf(list.addAll(index, c));
+	}
+	
+	@Override
+	public boolean removeAll(Collection<?> c) {
+		return touchIf(list.removeAll(c));
+	}
+	
+	@Override
+	public boolean retainAll(Collection<?> c) {
+		return touchIf(list.retainAll(c));
+	}
+	
+	@Override
+	public boolean removeIf(Predicate<? super E> filter) {
+		return touchIf(list.removeIf(filter));
+	}
+	
+	@Override
+	public void replaceAll(UnaryOperator<E> operator) {
+		list.replaceAll(operator);
+		stamp.touch();
+	}
+	
+	@Override
+	public void sort(Comparator<? super E> c) {
+		list.sort(c);
+		stamp.touch();
+	}
+	
+	@Override
+	public void clear() {
+		list.clear();
+		stamp.touch();
+	}
+	
+	@Override
+	public Iterator<E> iterator() {
+		return listIterator(0);
+	}
+	
+	@Override
+	public ListIterator<E> listIterator(int index) {
+		ListIterator<E> iterator = list.listIterator(index);
+		return new ListIterator<E>() {
+			
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+			
+			@Override
+			public E next() {
+				return iterator.next();
+			}
+			
+			@Override
+			public boolean hasPrevious() {
+				return iterator.hasPrevious();
+			}
+			
+			@Override
+			public E previous() {
+				return iterator.previous();
+			}
+			
+			@Override
+			public int nextIndex() {
+				return iterator.nextIndex();
+			}
+			
+			@Override
+			public int previousIndex() {
+				return iterator.previousIndex();
+			}
+			
+			@Override
+			public void remove() {
+				iterator.remove();
+				stamp.touch();
+			}
+			
+			@Override
+			public void set(E e) {
+				iterator.set(e);
+				stamp.touch();
+			}
+			
+			@Override
+			public void add(E e) {
+				iterator.add(e);
+				stamp.touch();
+			}
+		};
+	}
+	
+	@Override
+	public List<E> subList(int fromIndex, int toIndex) {
+		return new TrackedList<>(list.subList(fromIndex, toIndex), stamp);
+	}
+	
+	@Override
+	public void forEach(Consumer<? super E> action) {
+		list.forEach(action);
+	}
+	
+	@Override
+	public Spliterator<E> spliterator() {
+		return list.spliterator();
+	}
+	
+	@Override
+	public boolean equals(Object o) {
+		return (o == this) || list.equals(o);
+	}
+	
+	@Override
+	public int hashCode() {
+		return list.hashCode();
+	}
+	
+	@Override
+	public String toString() {
+		return list.toString();
+	}
+	
+	private boolean touchIf(boolean changed) {
+		if (changed) stamp.touch();
+		return changed;
+	}
+	
+}
@@ -0,0 +1,166 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.tracking;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Live view of a map held by an element, recording its changes
+ * in the modification stamp of the element.
+ * 
+ * @author nextworks
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+final class TrackedMap<K, V> extends AbstractMap<K, V> {
+
+	private final Map<K, V> map;
+	private final ModificationStamp stamp;
+	
+	private transient Set<Map.Entry<K, V>> entrySet;
+	
+	TrackedMap(Map<K, V> map, ModificationStamp stamp) {
+		this.map = map;
+		this.stamp = stamp;
+	}
+	
+	@Override
+	public int size() {
+		return map.size();
+	}
+	
+	@Override
+	public boolean isEmpty() {
+		return map.isEmpty();
+	}
+	
+	@Override
+	public boolean containsKey(Object key) {
+		return map.containsKey(key);
+	}
+	
+	@Override
+	public boolean containsValue(Object value) {
+		return map.containsValue(value);
+	}
+	
+	@Override
+	public V get(Object key) {
+		return map.get(key);
+	}
+	
+	@Override
+	public V put(K key, V value) {
+		V previous = map.put(key, value);
+		stamp.touch();
+		return previous;
+	}
+	
+	@Override
+	public V remove(Object key) {
+		V previous = map.remove(key);
+		stamp.touch();
+		return previous;
+	}
+	
+	@Override
+	public void putAll(Map<? extends K, ? extends V> m) {
+		map.putAll(m);
+		stamp.touch();
+	}
+	
+	@Override
+	public void clear() {
+		map.clear();
+		stamp.touch();
+	}
+	
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		map.forEach(action);
+	}
+	
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		if (entrySet == null) entrySet = new EntrySet();
+		return entrySet;
+	}
+	
+	@Override
+	public boolean equals(Object o) {
+		return (o == this) || map.equals(o);
+	}
+	
+	@Override
+	public int hashCode() {
+		return map.hashCode();
+	}
+	
+	@Override
+	public String toString() {
+		return map.toString();
+	}
+	
+	private class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+		
+		@Override
+		public int size() {
+			return map.size();
+		}
+		
+		@Override
+		public Iterator<Map.Entry<K, V>> iterator() {
+			Iterator<Map.Entry<K, V>> iterator = map.entrySet().iterator();
+			return new Iterator<Map.Entry<K, V>>() {
+				
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+				
+				@Override
+				public Map.Entry<K, V> next() {
+					Map.Entry<K, V> entry = iterator.next();
+					return new SimpleEntry<K, V>(entry) {
+						
+						private static final long serialVersionUID = 1L;
+						
+						@Override
+						public V setValue(V value) {
+							super.setValue(value);
+							V previous = entry.setValue(value);
+							stamp.touch();
+							return previous;
+						}
+					};
+				}
+				
+				@Override
+				public void remove() {
+					iterator.remove();
+					stamp.touch();
+				}
+			};
+		}
+	}
+	
+}
@@ -0,0 +1,55 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.validation;
+
+import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+
+/**
+ * Interface of the information elements and messages whose validity
+ * can be verified against the standard.
+ * 
+ * @author nextworks
+ *
+ */
+public interface Validatable {
+
+	/**
+	 * Method to verify if the element is compliant with the standard
+	 * 
+	 * @throws MalformattedElementException if the element is not valid
+	 */
+	public void isValid() throws MalformattedElementException;
+	
+	/**
+	 * Method to verify if the element is compliant with the standard,
+	 * reporting the violations to the given context instead of throwing.
+	 * 
+	 * The default implementation reports the first violation found by isValid.
+	 * Elements with independent sub-elements should override it, reporting all 
+	 * their violations to the context instead of throwing, and delegating the 
+	 * sub-elements to the context.
+	 * 
+	 * @param context the validation context collecting the violations
+	 */
+	public default void validate(ValidationContext context) {
+		try {
+			isValid();
+		} catch (MalformattedElementException e) {
+			context.reportViolation(e.getMessage());
+		}
+	}
+	
+}
@@ -0,0 +1,150 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.validation;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import it.nextworks.nfvmano.libs.common.VersionedDescriptor;
+import it.nextworks.nfvmano.libs.common.fingerprint.MerkleHasher;
+
+/**
+ * Cache of the validation results of elements, keyed by a hash of their content
+ * or, for the on-boarded descriptors, by their ID and version.
+ * 
+ * The cache applies only to the configured element types, which are expected 
+ * to be immutable once validated (e.g. on-boarded descriptors). By default the results
+ * are keyed by the fingerprint of the default MerkleHasher, which rehashes only the 
+ * elements changed since the previous fingerprint of the same instance. The caches 
+ * created by {@link #forOnboardedDescriptors(int, Set)} key the {@link VersionedDescriptor}s 
+ * by their ID and version instead, without reading their content: they must be used only 
+ * for descriptors already on-boarded, and a descriptor deleted and on-boarded again 
+ * with the same ID and version must be removed through {@link #invalidate(Object)}.
+ * The least recently used results are evicted when the cache is full.
+ * 
+ * @author nextworks
+ *
+ */
+public class ValidationCache {
+
+	private final Set<Class<?>> cachedTypes;
+	private final Function<Object, String> contentHasher;
+	private final Map<String, List<Violation>> results;
+	
+	/**
+	 * Constructor, with hashes computed by the default MerkleHasher on the current
+	 * content, so that an element changed after its validation is validated again.
+	 * 
+	 * @param maxEntries maximum number of cached results
+	 * @param cachedTypes types of the elements whose validation results are cached
+	 */
+	public ValidationCache(int maxEntries, Set<Class<?>> cachedTypes) {
+		this(maxEntries, cachedTypes, MerkleHasher.getDefault()::hash);
+	}
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param maxEntries maximum number of cached results
+	 * @param cachedTypes types of the elements whose validation results are cached
+	 * @param contentHasher function computing the hash of the content of an element, returning null if the hash is not available
+	 */
+	public ValidationCache(int maxEntries, Set<Class<?>> cachedTypes, Function<Object, String> contentHasher) {
+		this.cachedTypes = new HashSet<>(cachedTypes);
+		this.contentHasher = contentHasher;
+		this.results = Collections.synchronizedMap(new LinkedHashMap<String, List<Violation>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, List<Violation>> eldest) {
+				return size() > maxEntries;
+			}
+		});
+	}
+	
+	/**
+	 * Creates a cache for the validation of on-boarded descriptors, keying the
+	 * {@link VersionedDescriptor}s by their ID and version and the other elements
+	 * by the fingerprint of their content.
+	 * 
+	 * @param maxEntries maximum number of cached results
+	 * @param cachedTypes types of the elements whose validation results are cached
+	 * @return the cache
+	 */
+	public static ValidationCache forOnboardedDescriptors(int maxEntries, Set<Class<?>> cachedTypes) {
+		return new ValidationCache(maxEntries, cachedTypes, ValidationCache::descriptorIdentity);
+	}
+	
+	/**
+	 * @param element the element
+	 * @return true if the validation results of the element are cached
+	 */
+	public boolean isCached(Object element) {
+		return cachedTypes.contains(element.getClass());
+	}
+	
+	/**
+	 * Removes the cached results of an element
+	 * 
+	 * @param element the element
+	 */
+	public void invalidate(Object element) {
+		String hash = hash(element);
+		if (hash != null) results.remove(hash);
+	}
+	
+	/**
+	 * Removes all the cached results
+	 */
+	public void clear() {
+		results.clear();
+	}
+	
+	String hash(Object element) {
+		String hash;
+		try {
+			hash = contentHasher.apply(element);
+		} catch (RuntimeException e) {
+			//the element is validated without cache
+			return null;
+		}
+		if (hash == null) return null;
+		return element.getClass().getName() + ":" + hash;
+	}
+	
+	private static String descriptorIdentity(Object element) {
+		if (element instanceof VersionedDescriptor) {
+			VersionedDescriptor descriptor = (VersionedDescriptor) element;
+			if ((descriptor.getDescriptorId() != null) && (descriptor.getDescriptorVersion() != null))
+				return descriptor.getDescriptorId() + "@" + descriptor.getDescriptorVersion();
+		}
+		return "#" + MerkleHasher.getDefault().hash(element);
+	}
+	
+	List<Violation> get(String hash) {
+		return results.get(hash);
+	}
+	
+	void put(String hash, List<Violation> violations) {
+		results.put(hash, violations);
+	}
+	
+}
@@ -0,0 +1,242 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.validation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+
+/**
+ * Context of the validation of an element, collecting all the violations
+ * found in the element and in its sub-elements in a single pass.
+ * 
+ * The violations are identified by the path of the element where they 
+ * have been found, relative to the validated element. 
+ * When created with a fork-join pool, the context validates the elements 
+ * of the lists in parallel, still reporting the violations in the order
+ * of a sequential validation. When created with a cache, the context
+ * re-uses the results of the previous validations of unchanged elements.
+ * 
+ * @author nextworks
+ *
+ */
+public class ValidationContext {
+
+	private final List<Violation> violations;
+	private final String path;
+	private final ForkJoinPool pool;
+	private final ValidationCache cache;
+	
+	/**
+	 * Constructor for a sequential validation without cache
+	 */
+	public ValidationContext() {
+		this(null, null);
+	}
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param pool pool for the parallel validation of the list elements, or null for a sequential validation
+	 * @param cache cache of the validation results, or null to always validate the elements
+	 */
+	public ValidationContext(ForkJoinPool pool, ValidationCache cache) {
+		this(new ArrayList<>(), "", pool, cache);
+	}
+	
+	private ValidationContext(List<Violation> violations, String path, ForkJoinPool pool, ValidationCache cache) {
+		this.violations = violations;
+		this.path = path;
+		this.pool = pool;
+		this.cache = cache;
+	}
+	
+	/**
+	 * Validates an element, throwing an exception for the first violation found.
+	 * 
+	 * @param element the element to be validated
+	 * @throws MalformattedElementException if the element is not valid
+	 */
+	public static void requireValid(Validatable element) throws MalformattedElementException {
+		ValidationContext context = new ValidationContext();
+		element.validate(context);
+		context.throwIfInvalid();
+	}
+	
+	/**
+	 * Validates an element, collecting the violations in this context
+	 * 
+	 * @param element the element to be validated
+	 * @return this context
+	 */
+	public ValidationContext validate(Validatable element) {
+		validateElement(element);
+		return this;
+	}
+	
+	/**
+	 * @return the path of the element currently validated
+	 */
+	public String getPath() {
+		return path;
+	}
+	
+	/**
+	 * Reports a violation in the element currently validated
+	 * 
+	 * @param message description of the violation
+	 */
+	public void reportViolation(String message) {
+		violations.add(new Violation(path, message));
+	}
+	
+	/**
+	 * Reports a violation if the given condition does not hold
+	 * 
+	 * @param condition condition required by the standard
+	 * @param message description of the violation
+	 */
+	public void require(boolean condition, String message) {
+		if (!condition) reportViolation(message);
+	}
+	
+	/**
+	 * Validates a sub-element of the element currently validated
+	 * 
+	 * @param name name of the sub-element
+	 * @param element the sub-element, ignored if null
+	 */
+	public void validate(String name, Validatable element) {
+		if (element == null) return;
+		child(name).validateElement(element);
+	}
+	
+	/**
+	 * Validates a list of sub-elements of the element currently validated,
+	 * in parallel if the context has a fork-join pool
+	 * 
+	 * @param name name of the list
+	 * @param elements the sub-elements, ignored if null
+	 */
+	public void validateAll(String name, Collection<? extends Validatable> elements) {
+		if ((elements == null) || (elements.isEmpty())) return;
+		String listPath = childPath(name);
+		if ((pool == null) || (elements.size() == 1)) {
+			int i = 0;
+			for (Validatable e : elements) {
+				if (e != null) new ValidationContext(violations, listPath + "[" + i + "]", pool, cache).validateElement(e);
+				i++;
+			}
+			return;
+		}
+		List<ValidationTask> tasks = new ArrayList<>();
+		int i = 0;
+		for (Validatable e : elements) {
+			if (e != null) tasks.add(new ValidationTask(e, listPath + "[" + i + "]"));
+			i++;
+		}
+		if (ForkJoinTask.inForkJoinPool()) {
+			ForkJoinTask.invokeAll(tasks);
+		} else {
+			pool.invoke(new RecursiveAction() {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected void compute() {
+					invokeAll(tasks);
+				}
+			});
+		}
+		for (ValidationTask t : tasks) violations.addAll(t.context.violations);
+	}
+	
+	/**
+	 * @return the violations found so far
+	 */
+	public List<Violation> getViolations() {
+		return Collections.unmodifiableList(violations);
+	}
+	
+	/**
+	 * @return true if no violation has been found
+	 */
+	public boolean isValid() {
+		return violations.isEmpty();
+	}
+	
+	/**
+	 * @throws MalformattedElementException with the message of the first violation, if any violation has been found
+	 */
+	public void throwIfInvalid() throws MalformattedElementException {
+		if (!violations.isEmpty()) throw new MalformattedElementException(violations.get(0).getMessage());
+	}
+	
+	private void validateElement(Validatable element) {
+		if ((cache == null) || !cache.isCached(element)) {
+			element.validate(this);
+			return;
+		}
+		String hash = cache.hash(element);
+		if (hash == null) {
+			element.validate(this);
+			return;
+		}
+		List<Violation> cached = cache.get(hash);
+		if (cached == null) {
+			ValidationContext local = new ValidationContext(new ArrayList<>(), "", pool, cache);
+			element.validate(local);
+			cached = Collections.unmodifiableList(local.violations);
+			cache.put(hash, cached);
+		}
+		for (Violation v : cached) {
+			String p = v.getPath().isEmpty() ? path : childPath(v.getPath());
+			violations.add(new Violation(p, v.getMessage()));
+		}
+	}
+	
+	private ValidationContext child(String name) {
+		return new ValidationContext(violations, childPath(name), pool, cache);
+	}
+	
+	private String childPath(String name) {
+		return path.isEmpty() ? name : path + "." + name;
+	}
+	
+	private class ValidationTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		final Validatable element;
+		final ValidationContext context;
+		
+		ValidationTask(Validatable element, String path) {
+			this.element = element;
+			this.context = new ValidationContext(new ArrayList<>(), path, pool, cache);
+		}
+		
+		@Override
+		protected void compute() {
+			context.validateElement(element);
+		}
+	}
+	
+}
@@ -0,0 +1,59 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.common.validation;
+
+/**
+ * Violation of the standard found validating an element
+ * 
+ * @author nextworks
+ *
+ */
+public class Violation {
+
+	private final String path;
+	private final String message;
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param path path of the element with the violation, relative to the validated element
+	 * @param message description of the violation
+	 */
+	public Violation(String path, String message) {
+		this.path = path;
+		this.message = message;
+	}
+
+	/**
+	 * @return the path
+	 */
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * @return the message
+	 */
+	public String getMessage() {
+		return message;
+	}
+	
+	@Override
+	public String toString() {
+		return path.isEmpty() ? message : path + ": " + message;
+	}
+	
+}
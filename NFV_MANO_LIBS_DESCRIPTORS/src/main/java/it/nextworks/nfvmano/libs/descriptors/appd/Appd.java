@@ -29,15 +29,16 @@ import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedEntityGraphs;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.JoinColumn;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
-import org.hibernate.annotations.Fetch;
-import org.hibernate.annotations.FetchMode;
-import org.hibernate.annotations.LazyCollection;
-import org.hibernate.annotations.LazyCollectionOption;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -46,7 +47,13 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
+import it.nextworks.nfvmano.libs.common.VersionedDescriptor;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.fingerprint.Fingerprint;
+import it.nextworks.nfvmano.libs.common.fingerprint.MerkleHasher;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.common.validation.ValidationContext;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.SwImageDesc;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.TerminateVnfOpConfig;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.VirtualComputeDesc;
@@ -62,7 +69,65 @@ import it.nextworks.nfvmano.libs.descriptors.common.elements.VirtualStorageDesc;
  *
  */
 @Entity
-public class Appd implements DescriptorInformationElement {
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = FetchProfiles.APPD_SUMMARY),
+	@NamedEntityGraph(name = FetchProfiles.APPD_DEPLOYMENT, attributeNodes = {
+		@NamedAttributeNode("virtualComputeDescriptor"),
+		@NamedAttributeNode("virtualStorageDescriptor"),
+		@NamedAttributeNode("appExtCpd"),
+		@NamedAttributeNode(value = "appServiceRequired", subgraph = "appServiceRequired"),
+		@NamedAttributeNode("appFeatureRequired"),
+		@NamedAttributeNode(value = "transportDependencies", subgraph = "transportDependencies"),
+		@NamedAttributeNode(value = "appTrafficRule", subgraph = "appTrafficRule"),
+		@NamedAttributeNode("appDNSRule")
+	}, subgraphs = {
+		@NamedSubgraph(name = "appServiceRequired", attributeNodes = {
+			@NamedAttributeNode("serTransportDependencies"),
+			@NamedAttributeNode("requestedPermissions")
+		}),
+		@NamedSubgraph(name = "transportDependencies", attributeNodes = {
+			@NamedAttributeNode("serializers"),
+			@NamedAttributeNode("labels")
+		}),
+		@NamedSubgraph(name = "appTrafficRule", attributeNodes = {
+			@NamedAttributeNode("trafficFilter"),
+			@NamedAttributeNode("dstInterface")
+		})
+	}),
+	@NamedEntityGraph(name = FetchProfiles.APPD_FULL, attributeNodes = {
+		@NamedAttributeNode("mecVersion"),
+		@NamedAttributeNode("virtualComputeDescriptor"),
+		@NamedAttributeNode("virtualStorageDescriptor"),
+		@NamedAttributeNode("appExtCpd"),
+		@NamedAttributeNode(value = "appServiceRequired", subgraph = "appServiceRequired"),
+		@NamedAttributeNode(value = "appServiceOptional", subgraph = "appServiceOptional"),
+		@NamedAttributeNode("appServiceProduced"),
+		@NamedAttributeNode("appFeatureRequired"),
+		@NamedAttributeNode("appFeatureOptional"),
+		@NamedAttributeNode(value = "transportDependencies", subgraph = "transportDependencies"),
+		@NamedAttributeNode(value = "appTrafficRule", subgraph = "appTrafficRule"),
+		@NamedAttributeNode("appDNSRule")
+	}, subgraphs = {
+		@NamedSubgraph(name = "appServiceRequired", attributeNodes = {
+			@NamedAttributeNode("serTransportDependencies"),
+			@NamedAttributeNode("requestedPermissions")
+		}),
+		@NamedSubgraph(name = "appServiceOptional", attributeNodes = {
+			@NamedAttributeNode("serTransportDependencies"),
+			@NamedAttributeNode("requestedPermissions")
+		}),
+		@NamedSubgraph(name = "transportDependencies", attributeNodes = {
+			@NamedAttributeNode("serializers"),
+			@NamedAttributeNode("labels")
+		}),
+		@NamedSubgraph(name = "appTrafficRule", attributeNodes = {
+			@NamedAttributeNode("trafficFilter"),
+			@NamedAttributeNode("dstInterface")
+		})
+	})
+})
+@BatchSize(size = FetchProfiles.BATCH_SIZE)
+public class Appd extends TrackedElement implements DescriptorInformationElement, VersionedDescriptor {
 
 	@Id
     @GeneratedValue
@@ -75,8 +140,8 @@ public class Appd implements DescriptorInformationElement {
 	private String appSoftVersion;
 	private String appDVersion;
 	
-	@ElementCollection(fetch=FetchType.EAGER)
-	@Fetch(FetchMode.SELECT)
+	@ElementCollection(fetch=FetchType.LAZY)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> mecVersion = new ArrayList<>();
 	
@@ -93,64 +158,64 @@ public class Appd implements DescriptorInformationElement {
 	private SwImageDesc swImageDescriptor;
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
-    @ElementCollection(fetch = FetchType.EAGER)
-    @Fetch(FetchMode.SELECT)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @BatchSize(size = FetchProfiles.BATCH_SIZE)
     @Cascade(org.hibernate.annotations.CascadeType.ALL)
     private List<VirtualStorageDesc> virtualStorageDescriptor = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "appd", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<AppExternalCpd> appExtCpd = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "appdRequired", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<MecServiceDependency> appServiceRequired = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "appdOptional", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<MecServiceDependency> appServiceOptional = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "appd", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<MecServiceDescriptor> appServiceProduced = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
-	@ElementCollection(fetch=FetchType.EAGER)
+	@ElementCollection(fetch=FetchType.LAZY)
 	@CollectionTable(name="APP_REQ", joinColumns=@JoinColumn(name="afr_app_id"))
-	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<MecFeatureDependency> appFeatureRequired = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
-	@ElementCollection(fetch=FetchType.EAGER)
+	@ElementCollection(fetch=FetchType.LAZY)
 	@CollectionTable(name="APP_OPT", joinColumns=@JoinColumn(name="afo_app_id"))
-	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<MecFeatureDependency> appFeatureOptional = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "appd", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<TransportDependency> transportDependencies = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "appd", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<TrafficRuleDescriptor> appTrafficRule = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
-	@ElementCollection(fetch = FetchType.EAGER)
-    @Fetch(FetchMode.SELECT)
+	@ElementCollection(fetch = FetchType.LAZY)
+    @BatchSize(size = FetchProfiles.BATCH_SIZE)
     @Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<DnsRuleDescriptor> appDNSRule = new ArrayList<>();
 	
@@ -260,6 +325,18 @@ public class Appd implements DescriptorInformationElement {
 		return appDVersion;
 	}
 
+	@Override
+	@JsonIgnore
+	public String getDescriptorId() {
+		return appDId;
+	}
+
+	@Override
+	@JsonIgnore
+	public String getDescriptorVersion() {
+		return appDVersion;
+	}
+
 
 
 	/**
@@ -267,7 +344,7 @@ public class Appd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("mecVersion")
 	public List<String> getMecVersion() {
-		return mecVersion;
+		return track(mecVersion);
 	}
 
 
@@ -317,7 +394,7 @@ public class Appd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("virtualStorageDescriptor")
 	public List<VirtualStorageDesc> getVirtualStorageDescriptor() {
-		return virtualStorageDescriptor;
+		return track(virtualStorageDescriptor);
 	}
 
 
@@ -327,7 +404,7 @@ public class Appd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("appExtCpd")
 	public List<AppExternalCpd> getAppExtCpd() {
-		return appExtCpd;
+		return track(appExtCpd);
 	}
 
 
@@ -337,7 +414,7 @@ public class Appd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("appServiceRequired")
 	public List<MecServiceDependency> getAppServiceRequired() {
-		return appServiceRequired;
+		return track(appServiceRequired);
 	}
 
 
@@ -347,7 +424,7 @@ public class Appd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("appServiceOptional")
 	public List<MecServiceDependency> getAppServiceOptional() {
-		return appServiceOptional;
+		return track(appServiceOptional);
 	}
 
 
@@ -357,7 +434,7 @@ public class Appd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("appServiceProduced")
 	public List<MecServiceDescriptor> getAppServiceProduced() {
-		return appServiceProduced;
+		return track(appServiceProduced);
 	}
 
 
@@ -367,7 +444,7 @@ public class Appd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("appFeatureRequired")
 	public List<MecFeatureDependency> getAppFeatureRequired() {
-		return appFeatureRequired;
+		return track(appFeatureRequired);
 	}
 
 
@@ -377,7 +454,7 @@ public class Appd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("appFeatureOptional")
 	public List<MecFeatureDependency> getAppFeatureOptional() {
-		return appFeatureOptional;
+		return track(appFeatureOptional);
 	}
 
 
@@ -387,7 +464,7 @@ public class Appd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("transportDependencies")
 	public List<TransportDependency> getTransportDependencies() {
-		return transportDependencies;
+		return track(transportDependencies);
 	}
 
 
@@ -397,7 +474,7 @@ public class Appd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("appTrafficRule")
 	public List<TrafficRuleDescriptor> getAppTrafficRule() {
-		return appTrafficRule;
+		return track(appTrafficRule);
 	}
 
 
@@ -407,7 +484,7 @@ public class Appd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("")
 	public List<DnsRuleDescriptor> getAppDNSRule() {
-		return appDNSRule;
+		return track(appDNSRule);
 	}
 
 
@@ -449,33 +526,48 @@ public class Appd implements DescriptorInformationElement {
 		return id;
 	}
 
+	/**
+	 * Returns the content-addressed fingerprint of the AppD, computed by the
+	 * default MerkleHasher: two AppDs with the same content have the same fingerprint.
+	 * 
+	 * @return the fingerprint
+	 */
+	public Fingerprint fingerprint() {
+		return MerkleHasher.getDefault().fingerprint(this);
+	}
+
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (appDId == null) throw new MalformattedElementException("Appd without ID");
-		if (appName == null) throw new MalformattedElementException("Appd without name");
-		if (appProvider == null) throw new MalformattedElementException("Appd without provider");
-		if (appSoftVersion == null) throw new MalformattedElementException("Appd without sw version");
-		if (appDVersion == null) throw new MalformattedElementException("Appd without appd version");
-		if ((mecVersion == null) || (mecVersion.isEmpty())) throw new MalformattedElementException("Appd without MEC version");
-		if (appDescription == null) throw new MalformattedElementException("Appd without description");
-		if (virtualComputeDescriptor == null) throw new MalformattedElementException("Appd without virtual compute descriptor");
-		else virtualComputeDescriptor.isValid();
-		if (swImageDescriptor == null) throw new MalformattedElementException("Appd without sw image info");
-		else swImageDescriptor.isValid();
-		for (VirtualStorageDesc vsd : virtualStorageDescriptor) vsd.isValid();
-		for (AppExternalCpd cp : appExtCpd) cp.isValid();
-		for (MecServiceDependency asr : appServiceRequired) asr.isValid();
-		for (MecServiceDependency aso : appServiceOptional) aso.isValid();
-		for (MecServiceDescriptor asp : appServiceProduced) asp.isValid();
-		for (MecFeatureDependency afr : appFeatureRequired) afr.isValid();
-		for (MecFeatureDependency afo : appFeatureOptional) afo.isValid();
-		for (TransportDependency td : transportDependencies) td.isValid();
-		for (TrafficRuleDescriptor tfd : appTrafficRule) tfd.isValid();
-		for (DnsRuleDescriptor drd : appDNSRule) drd.isValid();
-		if (appLatency != null) appLatency.isValid();
-		if (terminateAppInstanceOpConfig != null) terminateAppInstanceOpConfig.isValid();
-		if (changeAppInstanceStateOpConfig != null) changeAppInstanceStateOpConfig.isValid();
-		if (!(appDId.equals(appName))) throw new MalformattedElementException("Appd ID and appd name must be the same!");
+		ValidationContext.requireValid(this);
+	}
+	
+	@Override
+	public void validate(ValidationContext context) {
+		context.require(appDId != null, "Appd without ID");
+		context.require(appName != null, "Appd without name");
+		context.require(appProvider != null, "Appd without provider");
+		context.require(appSoftVersion != null, "Appd without sw version");
+		context.require(appDVersion != null, "Appd without appd version");
+		context.require((mecVersion != null) && (!mecVersion.isEmpty()), "Appd without MEC version");
+		context.require(appDescription != null, "Appd without description");
+		if (virtualComputeDescriptor == null) context.reportViolation("Appd without virtual compute descriptor");
+		else context.validate("virtualComputeDescriptor", virtualComputeDescriptor);
+		if (swImageDescriptor == null) context.reportViolation("Appd without sw image info");
+		else context.validate("swImageDescriptor", swImageDescriptor);
+		context.validateAll("virtualStorageDescriptor", virtualStorageDescriptor);
+		context.validateAll("appExtCpd", appExtCpd);
+		context.validateAll("appServiceRequired", appServiceRequired);
+		context.validateAll("appServiceOptional", appServiceOptional);
+		context.validateAll("appServiceProduced", appServiceProduced);
+		context.validateAll("appFeatureRequired", appFeatureRequired);
+		context.validateAll("appFeatureOptional", appFeatureOptional);
+		context.validateAll("transportDependencies", transportDependencies);
+		context.validateAll("appTrafficRule", appTrafficRule);
+		context.validateAll("appDNSRule", appDNSRule);
+		context.validate("appLatency", appLatency);
+		context.validate("terminateAppInstanceOpConfig", terminateAppInstanceOpConfig);
+		context.validate("changeAppInstanceStateOpConfig", changeAppInstanceStateOpConfig);
+		context.require((appDId == null) || (appDId.equals(appName)), "Appd ID and appd name must be the same!");
 	}
 	
 }
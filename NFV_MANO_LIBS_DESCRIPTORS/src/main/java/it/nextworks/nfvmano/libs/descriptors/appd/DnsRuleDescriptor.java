@@ -109,9 +109,9 @@ public class DnsRuleDescriptor implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (dnsRuleId == null) throw new MalformattedElementException("DNS rule descriptor without ID");
-		if (domainName == null) throw new MalformattedElementException("DNS rule descriptor without domain name");
-		if (ipAddress == null) throw new MalformattedElementException("DNS rule descriptor without IP address");
+		if (dnsRuleId == null) throw MalformattedElementException.stackless("DNS rule descriptor without ID");
+		if (domainName == null) throw MalformattedElementException.stackless("DNS rule descriptor without domain name");
+		if (ipAddress == null) throw MalformattedElementException.stackless("DNS rule descriptor without IP address");
 	}
 
 }
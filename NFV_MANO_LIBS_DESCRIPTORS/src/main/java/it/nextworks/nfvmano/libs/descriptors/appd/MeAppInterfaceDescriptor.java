@@ -28,6 +28,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.enums.NetworkInterfaceType;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
 
 /**
  * The InterfaceDescriptor data type describes an interface of a ME application.
@@ -38,7 +39,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class MeAppInterfaceDescriptor implements DescriptorInformationElement {
+public class MeAppInterfaceDescriptor extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
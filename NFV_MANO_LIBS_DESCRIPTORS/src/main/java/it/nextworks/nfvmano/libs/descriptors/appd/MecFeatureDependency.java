@@ -72,7 +72,7 @@ public class MecFeatureDependency implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (featureName == null) throw new MalformattedElementException("MEC feature dependency without name");
-		if (version == null) throw new MalformattedElementException("MEC feature dependency without version");
+		if (featureName == null) throw MalformattedElementException.stackless("MEC feature dependency without name");
+		if (version == null) throw MalformattedElementException.stackless("MEC feature dependency without version");
 	}
 }
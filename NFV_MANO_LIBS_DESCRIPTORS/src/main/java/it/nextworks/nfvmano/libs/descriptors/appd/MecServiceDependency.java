@@ -28,6 +28,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -43,6 +44,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.CategoryRef;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * The ServiceDependency data type supports the specification of requirements 
@@ -54,7 +57,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class MecServiceDependency implements DescriptorInformationElement {
+public class MecServiceDependency extends TrackedElement implements DescriptorInformationElement {
 	
 	@Id
     @GeneratedValue
@@ -80,11 +83,13 @@ public class MecServiceDependency implements DescriptorInformationElement {
 	@OneToMany(mappedBy = "msd", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<TransportDependency> serTransportDependencies = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
     @ElementCollection(fetch = FetchType.EAGER)
     @Fetch(FetchMode.SELECT)
+    @BatchSize(size = FetchProfiles.BATCH_SIZE)
     @Cascade(org.hibernate.annotations.CascadeType.ALL)
     private List<String> requestedPermissions = new ArrayList<>();
 	
@@ -147,7 +152,7 @@ public class MecServiceDependency implements DescriptorInformationElement {
 	 */
 	@JsonProperty("serTransportDependencies")
 	public List<TransportDependency> getSerTransportDependencies() {
-		return serTransportDependencies;
+		return track(serTransportDependencies);
 	}
 
 	/**
@@ -155,14 +160,14 @@ public class MecServiceDependency implements DescriptorInformationElement {
 	 */
 	@JsonProperty("requestedPermissions")
 	public List<String> getRequestedPermissions() {
-		return requestedPermissions;
+		return track(requestedPermissions);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (serName == null) throw new MalformattedElementException("MEC service dependency without service name.");
+		if (serName == null) throw MalformattedElementException.stackless("MEC service dependency without service name.");
 		if (serCategory != null) this.serCategory.isValid();
-		if (serviceVersion == null) throw new MalformattedElementException("MEC service dependency without version.");
+		if (serviceVersion == null) throw MalformattedElementException.stackless("MEC service dependency without version.");
 		for (TransportDependency td : serTransportDependencies) td.isValid();
 	}
 	
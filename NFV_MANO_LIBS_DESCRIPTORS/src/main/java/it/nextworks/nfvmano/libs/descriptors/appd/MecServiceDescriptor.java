@@ -26,6 +26,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
 import org.hibernate.annotations.OnDelete;
@@ -38,6 +39,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.CategoryRef;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * The ServiceDescriptor data type describes a ME service produced by a service-providing ME application.
@@ -48,7 +51,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class MecServiceDescriptor implements DescriptorInformationElement {
+public class MecServiceDescriptor extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -71,6 +74,7 @@ public class MecServiceDescriptor implements DescriptorInformationElement {
 	@OneToMany(mappedBy = "msd", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<MecServiceTransport> transportsSupported = new ArrayList<>();
 	
 	public MecServiceDescriptor() {
@@ -124,14 +128,14 @@ public class MecServiceDescriptor implements DescriptorInformationElement {
 	 * @return the transportsSupported
 	 */
 	public List<MecServiceTransport> getTransportsSupported() {
-		return transportsSupported;
+		return track(transportsSupported);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (serName == null) throw new MalformattedElementException("MEC service descriptor without name");
+		if (serName == null) throw MalformattedElementException.stackless("MEC service descriptor without name");
 		if (serCategory != null) serCategory.isValid();
-		if (serVersion == null) throw new MalformattedElementException("MEC service descriptor without version");
+		if (serVersion == null) throw MalformattedElementException.stackless("MEC service descriptor without version");
 		for (MecServiceTransport mst : transportsSupported) mst.isValid();
 	}
 }
@@ -27,6 +27,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -39,6 +40,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.enums.SerializerType;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * This class models transports and serialization formats supported made available 
@@ -50,7 +53,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class MecServiceTransport implements DescriptorInformationElement {
+public class MecServiceTransport extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -67,6 +70,7 @@ public class MecServiceTransport implements DescriptorInformationElement {
 	
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<SerializerType> serializers = new ArrayList<>();
 	
@@ -101,14 +105,14 @@ public class MecServiceTransport implements DescriptorInformationElement {
 	 */
 	@JsonProperty("serializers")
 	public List<SerializerType> getSerializers() {
-		return serializers;
+		return track(serializers);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (transport == null) throw new MalformattedElementException("MEC service transport without transport");
+		if (transport == null) throw MalformattedElementException.stackless("MEC service transport without transport");
 		else transport.isValid();
-		if ((serializers == null) || (serializers.isEmpty())) throw new MalformattedElementException("MEC service transport without serializers.");
+		if ((serializers == null) || (serializers.isEmpty())) throw MalformattedElementException.stackless("MEC service transport without serializers.");
 	}
 
 }
@@ -29,6 +29,7 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -42,6 +43,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.enums.OAuth20GrantType;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * This type represents security information related to a transport.
@@ -52,7 +55,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class SecurityInfo implements DescriptorInformationElement {
+public class SecurityInfo extends TrackedElement implements DescriptorInformationElement {
 	
 	@Id
     @GeneratedValue
@@ -67,6 +70,7 @@ public class SecurityInfo implements DescriptorInformationElement {
 	
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<OAuth20GrantType> grantTypes = new ArrayList<>();
 	
@@ -75,6 +79,7 @@ public class SecurityInfo implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private Map<String, String> extensions = new HashMap<String, String>();
 	
@@ -108,7 +113,7 @@ public class SecurityInfo implements DescriptorInformationElement {
 	 */
 	@JsonProperty("grantTypes")
 	public List<OAuth20GrantType> getGrantTypes() {
-		return grantTypes;
+		return track(grantTypes);
 	}
 
 	/**
@@ -124,12 +129,12 @@ public class SecurityInfo implements DescriptorInformationElement {
 	 */
 	@JsonProperty("extensions")
 	public Map<String, String> getExtensions() {
-		return extensions;
+		return track(extensions);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if ((grantTypes == null) || (grantTypes.isEmpty())) throw new MalformattedElementException("Security info without OAUTH grant type");
+		if ((grantTypes == null) || (grantTypes.isEmpty())) throw MalformattedElementException.stackless("Security info without OAUTH grant type");
 	}
 
 }
@@ -25,6 +25,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -35,6 +36,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * The TrafficFilter data type supports the specification of ME application requirements related to traffic rules.
@@ -45,7 +48,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class TrafficFilter implements DescriptorInformationElement {
+public class TrafficFilter extends TrackedElement implements DescriptorInformationElement {
 	
 	@Id
     @GeneratedValue
@@ -59,60 +62,70 @@ public class TrafficFilter implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> srcAddress = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> dstAddress = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> srcPort = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> dstPort = new ArrayList<>();
 
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> protocol = new ArrayList<>();
 
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> token = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> srcTunnelAddress = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> tgtTunnelAddress = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> srcTunnelPort = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> dstTunnelPort = new ArrayList<>();
 	
@@ -179,7 +192,7 @@ public class TrafficFilter implements DescriptorInformationElement {
 	 */
 	@JsonProperty("srcAddress")
 	public List<String> getSrcAddress() {
-		return srcAddress;
+		return track(srcAddress);
 	}
 
 	/**
@@ -187,7 +200,7 @@ public class TrafficFilter implements DescriptorInformationElement {
 	 */
 	@JsonProperty("dstAddress")
 	public List<String> getDstAddress() {
-		return dstAddress;
+		return track(dstAddress);
 	}
 
 	/**
@@ -195,7 +208,7 @@ public class TrafficFilter implements DescriptorInformationElement {
 	 */
 	@JsonProperty("srcPort")
 	public List<String> getSrcPort() {
-		return srcPort;
+		return track(srcPort);
 	}
 
 	/**
@@ -203,7 +216,7 @@ public class TrafficFilter implements DescriptorInformationElement {
 	 */
 	@JsonProperty("dstPort")
 	public List<String> getDstPort() {
-		return dstPort;
+		return track(dstPort);
 	}
 
 	/**
@@ -211,7 +224,7 @@ public class TrafficFilter implements DescriptorInformationElement {
 	 */
 	@JsonProperty("protocol")
 	public List<String> getProtocol() {
-		return protocol;
+		return track(protocol);
 	}
 
 	/**
@@ -219,7 +232,7 @@ public class TrafficFilter implements DescriptorInformationElement {
 	 */
 	@JsonProperty("token")
 	public List<String> getToken() {
-		return token;
+		return track(token);
 	}
 
 	/**
@@ -227,7 +240,7 @@ public class TrafficFilter implements DescriptorInformationElement {
 	 */
 	@JsonProperty("srcTunnelAddress")
 	public List<String> getSrcTunnelAddress() {
-		return srcTunnelAddress;
+		return track(srcTunnelAddress);
 	}
 
 	/**
@@ -235,7 +248,7 @@ public class TrafficFilter implements DescriptorInformationElement {
 	 */
 	@JsonProperty("tgtTunnelAddress")
 	public List<String> getTgtTunnelAddress() {
-		return tgtTunnelAddress;
+		return track(tgtTunnelAddress);
 	}
 
 	/**
@@ -243,7 +256,7 @@ public class TrafficFilter implements DescriptorInformationElement {
 	 */
 	@JsonProperty("srcTunnelPort")
 	public List<String> getSrcTunnelPort() {
-		return srcTunnelPort;
+		return track(srcTunnelPort);
 	}
 
 	/**
@@ -251,7 +264,7 @@ public class TrafficFilter implements DescriptorInformationElement {
 	 */
 	@JsonProperty("dstTunnelPort")
 	public List<String> getDstTunnelPort() {
-		return dstTunnelPort;
+		return track(dstTunnelPort);
 	}
 
 	/**
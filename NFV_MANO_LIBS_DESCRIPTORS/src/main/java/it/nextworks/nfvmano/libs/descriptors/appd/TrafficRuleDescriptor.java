@@ -25,6 +25,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
 import org.hibernate.annotations.OnDelete;
@@ -37,6 +38,8 @@ import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.enums.MeHostPacketAction;
 import it.nextworks.nfvmano.libs.common.enums.TrafficFilterType;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * The TrafficRuleDescriptor data type describes traffic rules related to a ME application.
@@ -47,7 +50,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class TrafficRuleDescriptor implements DescriptorInformationElement {
+public class TrafficRuleDescriptor extends TrackedElement implements DescriptorInformationElement {
 	
 	@Id
     @GeneratedValue
@@ -67,6 +70,7 @@ public class TrafficRuleDescriptor implements DescriptorInformationElement {
 	@OneToMany(mappedBy = "trd", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<TrafficFilter> trafficFilter = new ArrayList<>();
 	
 	private MeHostPacketAction action;
@@ -74,6 +78,7 @@ public class TrafficRuleDescriptor implements DescriptorInformationElement {
 	@OneToMany(mappedBy = "trd", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<MeAppInterfaceDescriptor> dstInterface = new ArrayList<>();
 	
 	public TrafficRuleDescriptor() {
@@ -132,7 +137,7 @@ public class TrafficRuleDescriptor implements DescriptorInformationElement {
 	 */
 	@JsonProperty("trafficFilter")
 	public List<TrafficFilter> getTrafficFilter() {
-		return trafficFilter;
+		return track(trafficFilter);
 	}
 
 	/**
@@ -148,15 +153,15 @@ public class TrafficRuleDescriptor implements DescriptorInformationElement {
 	 */
 	@JsonProperty("dstInterface")
 	public List<MeAppInterfaceDescriptor> getDstInterface() {
-		return dstInterface;
+		return track(dstInterface);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (trafficRuleId == null) throw new MalformattedElementException("Traffic rule descriptor without ID.");
-		if ((trafficFilter == null) || (trafficFilter.isEmpty())) throw new MalformattedElementException("Traffic rule descriptor without traffic filter.");
+		if (trafficRuleId == null) throw MalformattedElementException.stackless("Traffic rule descriptor without ID.");
+		if ((trafficFilter == null) || (trafficFilter.isEmpty())) throw MalformattedElementException.stackless("Traffic rule descriptor without traffic filter.");
 		else for (TrafficFilter tf : trafficFilter) tf.isValid();
-		if (dstInterface.size() > 2) throw new MalformattedElementException("Traffic rule descriptor with too many interfaces");
+		if (dstInterface.size() > 2) throw MalformattedElementException.stackless("Traffic rule descriptor with too many interfaces");
 		for (MeAppInterfaceDescriptor meid : dstInterface) meid.isValid();
 	}
 
@@ -27,6 +27,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -39,6 +40,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.enums.SerializerType;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * The TransportDependency data type supports the specification of requirements 
@@ -51,7 +54,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class TransportDependency implements DescriptorInformationElement {
+public class TransportDependency extends TrackedElement implements DescriptorInformationElement {
 	
 	@Id
     @GeneratedValue
@@ -72,11 +75,13 @@ public class TransportDependency implements DescriptorInformationElement {
 	
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<SerializerType> serializers = new ArrayList<>();
 	
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> labels = new ArrayList<>();
 	
@@ -128,7 +133,7 @@ public class TransportDependency implements DescriptorInformationElement {
 	 */
 	@JsonProperty("serializers")
 	public List<SerializerType> getSerializers() {
-		return serializers;
+		return track(serializers);
 	}
 
 	/**
@@ -136,13 +141,13 @@ public class TransportDependency implements DescriptorInformationElement {
 	 */
 	@JsonProperty("labels")
 	public List<String> getLabels() {
-		return labels;
+		return track(labels);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if ((serializers == null) || (serializers.isEmpty())) throw new MalformattedElementException("MEC transport dependency without serializers.");
-		if ((labels == null) || (labels.isEmpty())) throw new MalformattedElementException("MEC transport dependency without labels.");
+		if ((serializers == null) || (serializers.isEmpty())) throw MalformattedElementException.stackless("MEC transport dependency without serializers.");
+		if ((labels == null) || (labels.isEmpty())) throw MalformattedElementException.stackless("MEC transport dependency without labels.");
 	}
 
 }
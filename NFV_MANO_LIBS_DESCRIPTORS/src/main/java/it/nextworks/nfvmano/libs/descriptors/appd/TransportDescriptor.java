@@ -32,6 +32,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.enums.TransportProtocolType;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
 
 /**
  * The TransportDescriptor data type describes a transport.
@@ -42,7 +43,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class TransportDescriptor implements DescriptorInformationElement {
+public class TransportDescriptor extends TrackedElement implements DescriptorInformationElement {
 	
 	@Id
     @GeneratedValue
@@ -145,9 +146,9 @@ public class TransportDescriptor implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (protocol == null) throw new MalformattedElementException("Transport descriptor without protocol");
-		if (version == null) throw new MalformattedElementException("Transport descriptor without version");
-		if (security == null) throw new MalformattedElementException("Transport descriptor without security info");
+		if (protocol == null) throw MalformattedElementException.stackless("Transport descriptor without protocol");
+		if (version == null) throw MalformattedElementException.stackless("Transport descriptor without version");
+		if (security == null) throw MalformattedElementException.stackless("Transport descriptor without security info");
 		else security.isValid();
 	}
 
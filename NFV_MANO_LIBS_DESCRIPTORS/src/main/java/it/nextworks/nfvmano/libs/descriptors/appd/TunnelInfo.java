@@ -100,8 +100,8 @@ public class TunnelInfo implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (tunnelDstAddress == null) throw new MalformattedElementException("Tunnel info without dst address");
-		if (tunnelSrcAddress == null) throw new MalformattedElementException("Tunnel info without src address");
+		if (tunnelDstAddress == null) throw MalformattedElementException.stackless("Tunnel info without dst address");
+		if (tunnelSrcAddress == null) throw MalformattedElementException.stackless("Tunnel info without src address");
 	}
 
 }
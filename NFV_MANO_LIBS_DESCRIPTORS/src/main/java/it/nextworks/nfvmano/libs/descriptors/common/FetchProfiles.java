@@ -0,0 +1,203 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.descriptors.common;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.AttributeNode;
+import javax.persistence.EntityGraph;
+import javax.persistence.EntityManager;
+import javax.persistence.Subgraph;
+
+import org.hibernate.Hibernate;
+import org.hibernate.proxy.HibernateProxy;
+
+/**
+ * Fetch profiles of the root entities of descriptors and records 
+ * (Nsd, NsDf, Vnfd, VnfDf, Appd and NsInfo).
+ * 
+ * The collections of the root entities are lazy and each root entity declares the 
+ * named entity graphs "Entity.summary", "Entity.deployment" and "Entity.full":
+ * the summary graph has no collections, the deployment graph has the collections 
+ * needed to resolve and deploy the descriptor or record, and the full graph has 
+ * all the collections, including the ones of the nested deployment flavours.
+ * 
+ * The graphs are not used as load graph hints, since most of them include several 
+ * bag collections that Hibernate cannot join in the same query. They are applied 
+ * through {@link #fetch(EntityManager, Class, Object, String)}, which must be invoked 
+ * in the transaction loading the entities and initializes the collections of the 
+ * graph. The lazy collections are loaded in batches of {@link #BATCH_SIZE} owners 
+ * per query, taken among the entities of the persistence context, hence loading a 
+ * page of N entities issues at most ceil(N / BATCH_SIZE) queries per collection 
+ * and never loads the collections of the entities outside the page.
+ * 
+ * The collections of the nested entities (e.g. of the VNF profiles, NS levels
+ * or VDUs) are eager, but they are loaded in batches of {@link #BATCH_SIZE} owners
+ * as well, and the deployment and full graphs list them in their subgraphs.
+ * 
+ * The collections outside the fetched graph remain uninitialized after the 
+ * transaction: entities serialized to JSON outside the transaction must be fetched 
+ * with the {@link #FULL} profile, or serialized by a mapper that skips the lazy 
+ * attributes not loaded (e.g. with the jackson-datatype-hibernate5 module).
+ * 
+ * @author nextworks
+ *
+ */
+public final class FetchProfiles {
+	
+	public static final String SUMMARY = "summary";
+	public static final String DEPLOYMENT = "deployment";
+	public static final String FULL = "full";
+	
+	public static final String NSD_SUMMARY = "Nsd.summary";
+	public static final String NSD_DEPLOYMENT = "Nsd.deployment";
+	public static final String NSD_FULL = "Nsd.full";
+	
+	public static final String NS_DF_SUMMARY = "NsDf.summary";
+	public static final String NS_DF_DEPLOYMENT = "NsDf.deployment";
+	public static final String NS_DF_FULL = "NsDf.full";
+	
+	public static final String VNFD_SUMMARY = "Vnfd.summary";
+	public static final String VNFD_DEPLOYMENT = "Vnfd.deployment";
+	public static final String VNFD_FULL = "Vnfd.full";
+	
+	public static final String VNF_DF_SUMMARY = "VnfDf.summary";
+	public static final String VNF_DF_DEPLOYMENT = "VnfDf.deployment";
+	public static final String VNF_DF_FULL = "VnfDf.full";
+	
+	public static final String APPD_SUMMARY = "Appd.summary";
+	public static final String APPD_DEPLOYMENT = "Appd.deployment";
+	public static final String APPD_FULL = "Appd.full";
+	
+	public static final String NS_INFO_SUMMARY = "NsInfo.summary";
+	public static final String NS_INFO_DEPLOYMENT = "NsInfo.deployment";
+	public static final String NS_INFO_FULL = "NsInfo.full";
+	
+	/**
+	 * Number of owners whose lazy collections, or root entity proxies, 
+	 * are initialized by the same query
+	 */
+	public static final int BATCH_SIZE = 32;
+	
+	private FetchProfiles() { }
+	
+	/**
+	 * @param entity the root entity
+	 * @param profile the profile, i.e. {@link #SUMMARY}, {@link #DEPLOYMENT} or {@link #FULL}
+	 * @return the name of the entity graph of the profile
+	 */
+	public static String graphName(Class<?> entity, String profile) {
+		if (!SUMMARY.equals(profile) && !DEPLOYMENT.equals(profile) && !FULL.equals(profile)) {
+			throw new IllegalArgumentException("Unknown fetch profile " + profile);
+		}
+		return entity.getSimpleName() + "." + profile;
+	}
+	
+	/**
+	 * Finds a root entity and initializes the collections of a profile.
+	 * It must be invoked in a transaction.
+	 * 
+	 * @param em the entity manager
+	 * @param entity the root entity
+	 * @param id the primary key
+	 * @param profile the profile, i.e. {@link #SUMMARY}, {@link #DEPLOYMENT} or {@link #FULL}
+	 * @return the entity, or null if it does not exist
+	 */
+	public static <T> T find(EntityManager em, Class<T> entity, Object id, String profile) {
+		return fetch(em, entity, em.find(entity, id), profile);
+	}
+	
+	/**
+	 * Initializes the collections of a profile for a root entity loaded by the entity manager.
+	 * It must be invoked in the transaction that loaded the entity.
+	 * 
+	 * @param em the entity manager
+	 * @param entity the root entity
+	 * @param value the entity to be initialized, may be null
+	 * @param profile the profile, i.e. {@link #SUMMARY}, {@link #DEPLOYMENT} or {@link #FULL}
+	 * @return the given entity
+	 */
+	public static <T> T fetch(EntityManager em, Class<T> entity, T value, String profile) {
+		if (value == null) return null;
+		initialize(value, graph(em, entity, profile).getAttributeNodes());
+		return value;
+	}
+	
+	/**
+	 * Initializes the collections of a profile for the root entities of a query result, 
+	 * e.g. a page. It must be invoked in the transaction that loaded the entities.
+	 * 
+	 * @param em the entity manager
+	 * @param entity the root entity
+	 * @param values the entities to be initialized
+	 * @param profile the profile, i.e. {@link #SUMMARY}, {@link #DEPLOYMENT} or {@link #FULL}
+	 * @return the given entities
+	 */
+	public static <T> List<T> fetch(EntityManager em, Class<T> entity, List<T> values, String profile) {
+		List<AttributeNode<?>> nodes = graph(em, entity, profile).getAttributeNodes();
+		for (T value : values) {
+			if (value != null) initialize(value, nodes);
+		}
+		return values;
+	}
+	
+	private static EntityGraph<?> graph(EntityManager em, Class<?> entity, String profile) {
+		return em.getEntityGraph(graphName(entity, profile));
+	}
+	
+	private static void initialize(Object value, List<AttributeNode<?>> nodes) {
+		for (AttributeNode<?> node : nodes) {
+			Object attribute = read(value, node.getAttributeName());
+			if (attribute == null) continue;
+			Hibernate.initialize(attribute);
+			Map<Class, Subgraph> subgraphs = node.getSubgraphs();
+			if (subgraphs.isEmpty()) continue;
+			for (Subgraph<?> subgraph : subgraphs.values()) {
+				List<AttributeNode<?>> subnodes = subgraph.getAttributeNodes();
+				if (attribute instanceof Collection) {
+					for (Object element : new ArrayList<>((Collection<?>) attribute)) {
+						if (element != null) initialize(element, subnodes);
+					}
+				} else {
+					initialize(attribute, subnodes);
+				}
+			}
+		}
+	}
+	
+	private static Object read(Object value, String attribute) {
+		Object target = value;
+		if (target instanceof HibernateProxy) {
+			target = ((HibernateProxy) target).getHibernateLazyInitializer().getImplementation();
+		}
+		for (Class<?> c = target.getClass(); c != null; c = c.getSuperclass()) {
+			try {
+				Field field = c.getDeclaredField(attribute);
+				field.setAccessible(true);
+				return field.get(target);
+			} catch (NoSuchFieldException e) {
+				continue;
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException("Attribute " + attribute + " not accessible in " + target.getClass().getSimpleName(), e);
+			}
+		}
+		throw new IllegalArgumentException("Attribute " + attribute + " not found in " + target.getClass().getSimpleName());
+	}
+}
@@ -88,7 +88,7 @@ public class AffinityOrAntiAffinityGroup implements DescriptorInformationElement
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.groupId == null) throw new MalformattedElementException("Affinity group without ID");
+		if (this.groupId == null) throw MalformattedElementException.stackless("Affinity group without ID");
 	}
 
 }
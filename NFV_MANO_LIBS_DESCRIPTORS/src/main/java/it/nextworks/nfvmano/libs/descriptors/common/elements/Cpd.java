@@ -26,6 +26,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.Inheritance;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -38,6 +39,8 @@ import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.enums.CpRole;
 import it.nextworks.nfvmano.libs.common.enums.LayerProtocol;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * The Cpd information element specifies the characteristics of connection points 
@@ -51,7 +54,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
 @Entity
 @Inheritance
 @DiscriminatorColumn(name="CONNPOINT_TYPE")
-public class Cpd implements DescriptorInformationElement {
+public class Cpd extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
 	@GeneratedValue
@@ -70,6 +73,7 @@ public class Cpd implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<AddressData> addressData = new ArrayList<AddressData>();	//Note: this is in IFA 11, not in IFA 14
 	
@@ -139,13 +143,13 @@ public class Cpd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("addressData")
 	public List<AddressData> getAddressData() {
-		return addressData;
+		return track(addressData);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.cpdId == null) throw new MalformattedElementException("CPD without ID");
-		if (this.layerProtocol == null) throw new MalformattedElementException("CPD without layer protocol");
+		if (this.cpdId == null) throw MalformattedElementException.stackless("CPD without ID");
+		if (this.layerProtocol == null) throw MalformattedElementException.stackless("CPD without layer protocol");
 		for (AddressData a : addressData) a.isValid();
 	}
 
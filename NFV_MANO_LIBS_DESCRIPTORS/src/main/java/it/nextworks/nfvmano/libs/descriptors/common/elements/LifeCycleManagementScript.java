@@ -28,6 +28,7 @@ import javax.persistence.Id;
 import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -37,6 +38,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.enums.LcmEventType;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 import it.nextworks.nfvmano.libs.descriptors.nsd.Nsd;
 import it.nextworks.nfvmano.libs.descriptors.vnfd.Vnfd;
 
@@ -50,7 +53,7 @@ import it.nextworks.nfvmano.libs.descriptors.vnfd.Vnfd;
  *
  */
 @Entity
-public class LifeCycleManagementScript implements DescriptorInformationElement {
+public class LifeCycleManagementScript extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -67,6 +70,7 @@ public class LifeCycleManagementScript implements DescriptorInformationElement {
 	
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<LcmEventType> event = new ArrayList<>();
 	
@@ -111,7 +115,7 @@ public class LifeCycleManagementScript implements DescriptorInformationElement {
 	 * @return the event
 	 */
 	public List<LcmEventType> getEvent() {
-		return event;
+		return track(event);
 	}
 
 	/**
@@ -131,8 +135,8 @@ public class LifeCycleManagementScript implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (script == null) throw new MalformattedElementException("LCM script without script info");
-		if ((event == null) || (event.isEmpty())) throw new MalformattedElementException("LCM script without event");
+		if (script == null) throw MalformattedElementException.stackless("LCM script without script info");
+		if ((event == null) || (event.isEmpty())) throw MalformattedElementException.stackless("LCM script without event");
 	}
 
 }
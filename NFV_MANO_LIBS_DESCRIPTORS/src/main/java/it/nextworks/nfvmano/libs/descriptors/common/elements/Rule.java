@@ -32,6 +32,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
 import it.nextworks.nfvmano.libs.descriptors.nsd.Nfpd;
 import it.nextworks.nfvmano.libs.descriptors.nsd.Nsd;
 import it.nextworks.nfvmano.libs.descriptors.vnfd.Vnfd;
@@ -39,7 +40,7 @@ import it.nextworks.nfvmano.libs.records.nsinfo.Nfp;
 
 
 @Entity
-public class Rule implements DescriptorInformationElement {
+public class Rule extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -193,11 +193,11 @@ public class SwImageDesc implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (swImageId == null) throw new MalformattedElementException("Sw Image Descriptor without ID");
-		if (name == null) throw new MalformattedElementException("Sw Image Descriptor without name");
-		if (version == null) throw new MalformattedElementException("Sw Image Descriptor without version");
-		if (checksum == null) throw new MalformattedElementException("Sw Image Descriptor without checksum");
-		if (swImage == null) throw new MalformattedElementException("Sw Image Descriptor without sw image");
+		if (swImageId == null) throw MalformattedElementException.stackless("Sw Image Descriptor without ID");
+		if (name == null) throw MalformattedElementException.stackless("Sw Image Descriptor without name");
+		if (version == null) throw MalformattedElementException.stackless("Sw Image Descriptor without version");
+		if (checksum == null) throw MalformattedElementException.stackless("Sw Image Descriptor without checksum");
+		if (swImage == null) throw MalformattedElementException.stackless("Sw Image Descriptor without sw image");
 	}
 
 }
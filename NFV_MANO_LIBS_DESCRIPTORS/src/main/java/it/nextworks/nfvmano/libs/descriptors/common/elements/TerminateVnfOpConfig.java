@@ -70,7 +70,7 @@ public class TerminateVnfOpConfig implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (minGracefulStopTimeout == null) throw new MalformattedElementException("Operate VNF config data without minimum graceful stop timeout");
+		if (minGracefulStopTimeout == null) throw MalformattedElementException.stackless("Operate VNF config data without minimum graceful stop timeout");
 	}
 
 }
@@ -25,6 +25,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -34,6 +35,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 import it.nextworks.nfvmano.libs.records.vnfinfo.VnfInfo;
 
 /**
@@ -45,7 +48,7 @@ import it.nextworks.nfvmano.libs.records.vnfinfo.VnfInfo;
  *
  */
 @Entity
-public class VimConnectionInfo implements DescriptorInformationElement {
+public class VimConnectionInfo extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -62,18 +65,21 @@ public class VimConnectionInfo implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> interfaceInfo = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> accessInfo = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> extra = new ArrayList<>();
 	
@@ -146,26 +152,26 @@ public class VimConnectionInfo implements DescriptorInformationElement {
 	 * @return the interfaceInfo
 	 */
 	public List<String> getInterfaceInfo() {
-		return interfaceInfo;
+		return track(interfaceInfo);
 	}
 
 	/**
 	 * @return the accessInfo
 	 */
 	public List<String> getAccessInfo() {
-		return accessInfo;
+		return track(accessInfo);
 	}
 
 	/**
 	 * @return the extra
 	 */
 	public List<String> getExtra() {
-		return extra;
+		return track(extra);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (vimConnectionInfoId == null) throw new MalformattedElementException("VIM Connection info without VIM connection info ID");
+		if (vimConnectionInfoId == null) throw MalformattedElementException.stackless("VIM Connection info without VIM connection info ID");
 	}
 
 }
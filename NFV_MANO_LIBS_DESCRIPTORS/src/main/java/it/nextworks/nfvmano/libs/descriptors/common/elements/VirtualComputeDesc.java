@@ -31,6 +31,7 @@ import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -45,7 +46,10 @@ import it.nextworks.nfvmano.libs.common.InterfaceMessage;
 import it.nextworks.nfvmano.libs.common.elements.VirtualCpuData;
 import it.nextworks.nfvmano.libs.common.elements.VirtualMemoryData;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.common.validation.ValidationContext;
 import it.nextworks.nfvmano.libs.descriptors.appd.Appd;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 import it.nextworks.nfvmano.libs.descriptors.vnfd.RequestedAdditionalCapabilityData;
 import it.nextworks.nfvmano.libs.descriptors.vnfd.Vnfd;
 
@@ -59,7 +63,7 @@ import it.nextworks.nfvmano.libs.descriptors.vnfd.Vnfd;
  *
  */
 @Entity
-public class VirtualComputeDesc implements InterfaceMessage {
+public class VirtualComputeDesc extends TrackedElement implements InterfaceMessage {
 
 	@Id
     @GeneratedValue
@@ -81,12 +85,14 @@ public class VirtualComputeDesc implements InterfaceMessage {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private Map<String, String> logicalNode = new HashMap<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<RequestedAdditionalCapabilityData> requestAdditionalCapabilities = new ArrayList<>();
 	
@@ -162,7 +168,7 @@ public class VirtualComputeDesc implements InterfaceMessage {
 	 */
 	@JsonProperty("logicalNode")
 	public Map<String, String> getLogicalNode() {
-		return logicalNode;
+		return track(logicalNode);
 	}
 
 	/**
@@ -170,7 +176,7 @@ public class VirtualComputeDesc implements InterfaceMessage {
 	 */
 	@JsonProperty("requestAdditionalCapabilities")
 	public List<RequestedAdditionalCapabilityData> getRequestAdditionalCapabilities() {
-		return requestAdditionalCapabilities;
+		return track(requestAdditionalCapabilities);
 	}
 
 	/**
@@ -191,9 +197,14 @@ public class VirtualComputeDesc implements InterfaceMessage {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (virtualComputeDescId == null) throw new MalformattedElementException("Virtual compute descriptor without ID");
-		if (virtualCpu == null) throw new MalformattedElementException("Virtual compute descriptor without vCPU data");
-		if (virtualMemory == null) throw new MalformattedElementException("Virtual compute descriptor without virtual memory data");	
+		ValidationContext.requireValid(this);
+	}
+	
+	@Override
+	public void validate(ValidationContext context) {
+		context.require(virtualComputeDescId != null, "Virtual compute descriptor without ID");
+		context.require(virtualCpu != null, "Virtual compute descriptor without vCPU data");
+		context.require(virtualMemory != null, "Virtual compute descriptor without virtual memory data");
 	}
 
 }
@@ -29,6 +29,7 @@ import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.QoS;
 import it.nextworks.nfvmano.libs.common.enums.ServiceAvailabilityLevel;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
 import it.nextworks.nfvmano.libs.descriptors.nsd.NsVirtualLinkDesc;
 import it.nextworks.nfvmano.libs.descriptors.vnfd.VnfVirtualLinkDesc;
 
@@ -43,7 +44,7 @@ import it.nextworks.nfvmano.libs.descriptors.vnfd.VnfVirtualLinkDesc;
  *
  */
 @Entity
-public class VirtualLinkDf implements DescriptorInformationElement {
+public class VirtualLinkDf extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -162,7 +163,7 @@ public class VirtualLinkDf implements DescriptorInformationElement {
 	
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.flavourId == null) throw new MalformattedElementException("VL DF without flavour ID");
+		if (this.flavourId == null) throw MalformattedElementException.stackless("VL DF without flavour ID");
 		if (this.qos != null) qos.isValid();
 	}
 
@@ -29,6 +29,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -40,6 +41,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.AffinityRule;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 import it.nextworks.nfvmano.libs.descriptors.nsd.NsDf;
 import it.nextworks.nfvmano.libs.descriptors.vnfd.VnfDf;
 
@@ -55,7 +58,7 @@ import it.nextworks.nfvmano.libs.descriptors.vnfd.VnfDf;
  *
  */
 @Entity
-public class VirtualLinkProfile implements DescriptorInformationElement {
+public class VirtualLinkProfile extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -77,12 +80,14 @@ public class VirtualLinkProfile implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<AffinityRule> localAffinityOrAntiAffinityRule = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> affinityOrAntiAffinityGroupId = new ArrayList<>();
 	
@@ -195,7 +200,7 @@ public class VirtualLinkProfile implements DescriptorInformationElement {
 	 */
 	@JsonProperty("localAffinityOrAntiAffinityRule")
 	public List<AffinityRule> getLocalAffinityOrAntiAffinityRule() {
-		return localAffinityOrAntiAffinityRule;
+		return track(localAffinityOrAntiAffinityRule);
 	}
 
 	/**
@@ -203,7 +208,7 @@ public class VirtualLinkProfile implements DescriptorInformationElement {
 	 */
 	@JsonProperty("affinityOrAntiAffinityGroupId")
 	public List<String> getAffinityOrAntiAffinityGroupId() {
-		return affinityOrAntiAffinityGroupId;
+		return track(affinityOrAntiAffinityGroupId);
 	}
 
 	/**
@@ -224,16 +229,16 @@ public class VirtualLinkProfile implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.virtualLinkProfileId == null) throw new MalformattedElementException("VL profile without ID");
-		if (this.virtualLinkDescId == null) throw new MalformattedElementException("VL profile without VLD ID");
-		if (this.flavourId == null) throw new MalformattedElementException("VL profile without VL flavour ID");
+		if (this.virtualLinkProfileId == null) throw MalformattedElementException.stackless("VL profile without ID");
+		if (this.virtualLinkDescId == null) throw MalformattedElementException.stackless("VL profile without VLD ID");
+		if (this.flavourId == null) throw MalformattedElementException.stackless("VL profile without VL flavour ID");
 		if (this.minBitrateRequirements == null) {
-			throw new MalformattedElementException("VL profile without min bitrate requirements");
+			throw MalformattedElementException.stackless("VL profile without min bitrate requirements");
 		} else {
 			this.minBitrateRequirements.isValid();
 		}
 		if (this.maxBitrateRequirements == null) {
-			throw new MalformattedElementException("VL profile without max bitrate requirements");
+			throw MalformattedElementException.stackless("VL profile without max bitrate requirements");
 		} else {
 			this.maxBitrateRequirements.isValid();
 		}
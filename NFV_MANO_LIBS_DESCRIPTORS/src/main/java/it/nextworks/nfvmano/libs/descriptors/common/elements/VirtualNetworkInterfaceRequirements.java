@@ -110,7 +110,7 @@ public class VirtualNetworkInterfaceRequirements implements DescriptorInformatio
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (netRequirement == null) throw new MalformattedElementException("Virtual network interface requirement without requirement");
+		if (netRequirement == null) throw MalformattedElementException.stackless("Virtual network interface requirement without requirement");
 	}
 
 }
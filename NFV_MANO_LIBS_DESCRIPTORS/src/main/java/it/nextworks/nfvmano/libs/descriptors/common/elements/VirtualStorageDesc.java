@@ -107,8 +107,8 @@ public class VirtualStorageDesc implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (storageId == null) throw new MalformattedElementException("Virtual storage descriptor without id");
-		if (typeOfStorage == null) throw new MalformattedElementException("Virtual storage descriptor without type");
+		if (storageId == null) throw MalformattedElementException.stackless("Virtual storage descriptor without id");
+		if (typeOfStorage == null) throw MalformattedElementException.stackless("Virtual storage descriptor without type");
 	}
 
 }
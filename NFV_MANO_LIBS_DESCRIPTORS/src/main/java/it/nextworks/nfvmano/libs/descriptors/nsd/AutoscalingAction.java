@@ -16,9 +16,10 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.enums.NsScaleType;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
 
 @Entity
-public class AutoscalingAction implements DescriptorInformationElement {
+public class AutoscalingAction extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -67,9 +68,9 @@ public class AutoscalingAction implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.scaleType == null) throw new MalformattedElementException("Autoscaling action without type");
-		if (this.scaleType != NsScaleType.SCALE_NS) throw new MalformattedElementException("Only NS scaling actions are acceptable in autoscaling rules so far.");
-		if (this.scaleNsToLevelData == null) throw new MalformattedElementException("Autoscaling action without content.");
+		if (this.scaleType == null) throw MalformattedElementException.stackless("Autoscaling action without type");
+		if (this.scaleType != NsScaleType.SCALE_NS) throw MalformattedElementException.stackless("Only NS scaling actions are acceptable in autoscaling rules so far.");
+		if (this.scaleNsToLevelData == null) throw MalformattedElementException.stackless("Autoscaling action without content.");
 		else this.scaleNsToLevelData.isValid();
 	}
 
@@ -13,6 +13,7 @@ import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
 import org.hibernate.annotations.OnDelete;
@@ -25,6 +26,8 @@ import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.enums.LogicOperation;
 import it.nextworks.nfvmano.libs.common.enums.ScalingProcedureType;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * Information element defining a condition that must be matched to trigger a scaling rule for a NS.
@@ -35,7 +38,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class AutoscalingRuleCondition implements DescriptorInformationElement {
+public class AutoscalingRuleCondition extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -71,6 +74,7 @@ public class AutoscalingRuleCondition implements DescriptorInformationElement {
 	@OneToMany(mappedBy = "condition", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<AutoscalingRuleCriteria> scalingCriteria = new ArrayList<>();
 	
 	public AutoscalingRuleCondition() {
@@ -165,7 +169,7 @@ public class AutoscalingRuleCondition implements DescriptorInformationElement {
 	 * @return the scalingCriteria
 	 */
 	public List<AutoscalingRuleCriteria> getScalingCriteria() {
-		return scalingCriteria;
+		return track(scalingCriteria);
 	}
 
 	
@@ -179,9 +183,9 @@ public class AutoscalingRuleCondition implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.name == null) throw new MalformattedElementException("Autoscaling rule condition without name");
+		if (this.name == null) throw MalformattedElementException.stackless("Autoscaling rule condition without name");
 		if ((this.scalingCriteria == null) || (this.scalingCriteria.isEmpty())) 
-			throw new MalformattedElementException("Autoscaling rule condition without criteria"); 
+			throw MalformattedElementException.stackless("Autoscaling rule condition without criteria"); 
 			else for (AutoscalingRuleCriteria arc : scalingCriteria) arc.isValid();
 	}
 
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.enums.RelationalOperation;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
 
 /**
  * Information element defining a threshold criteria in a condition that must be matched 
@@ -22,7 +23,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class AutoscalingRuleCriteria implements DescriptorInformationElement {
+public class AutoscalingRuleCriteria extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -126,10 +127,10 @@ public class AutoscalingRuleCriteria implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.name == null) throw new MalformattedElementException("Autoscaling rule criteria without name");
-		if (this.nsMonitoringParamRef == null) throw new MalformattedElementException("Autoscaling rule criteria without monitoring parameter");
+		if (this.name == null) throw MalformattedElementException.stackless("Autoscaling rule criteria without name");
+		if (this.nsMonitoringParamRef == null) throw MalformattedElementException.stackless("Autoscaling rule criteria without monitoring parameter");
 		if ( (this.scaleInRelationalOperation == null) && (this.scaleOutRelationalOperation == null) )
-				throw new MalformattedElementException("Autoscaling rule criteria without relational operation");
+				throw MalformattedElementException.stackless("Autoscaling rule criteria without relational operation");
 	}
 
 }
@@ -25,6 +25,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -34,6 +35,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * The Dependencies information element provides 
@@ -53,7 +56,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class Dependencies implements DescriptorInformationElement {
+public class Dependencies extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -66,11 +69,13 @@ public class Dependencies implements DescriptorInformationElement {
 	
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> primaryId = new ArrayList<>();
 	
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> secondaryId = new ArrayList<>();
 	
@@ -101,7 +106,7 @@ public class Dependencies implements DescriptorInformationElement {
 	 */
 	@JsonProperty("primaryId")
 	public List<String> getPrimaryId() {
-		return primaryId;
+		return track(primaryId);
 	}
 
 	/**
@@ -109,13 +114,13 @@ public class Dependencies implements DescriptorInformationElement {
 	 */
 	@JsonProperty("secondaryId")
 	public List<String> getSecondaryId() {
-		return secondaryId;
+		return track(secondaryId);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if ((this.primaryId == null) || (this.primaryId.isEmpty())) throw new MalformattedElementException("Dependency element without primary IDs");
-		if ((this.secondaryId == null) || (this.secondaryId.isEmpty())) throw new MalformattedElementException("Dependency element without secondary IDs");
+		if ((this.primaryId == null) || (this.primaryId.isEmpty())) throw MalformattedElementException.stackless("Dependency element without primary IDs");
+		if ((this.secondaryId == null) || (this.secondaryId.isEmpty())) throw MalformattedElementException.stackless("Dependency element without secondary IDs");
 	}
 
 }
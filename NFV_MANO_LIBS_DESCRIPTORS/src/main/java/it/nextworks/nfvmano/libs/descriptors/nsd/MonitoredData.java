@@ -28,6 +28,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.MonitoringParameter;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
 
 /**
  * The MonitoredData information element identifies information to be monitored 
@@ -38,7 +39,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class MonitoredData implements DescriptorInformationElement {
+public class MonitoredData extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -97,7 +98,7 @@ public class MonitoredData implements DescriptorInformationElement {
 		//One and only one of the attributes shall be included 
 		//(i.e. there is a XOR relationship between the attributes).
 		if ((this.vnfIndicatorInfo != null) && (this.monitoringParameter != null)) 
-			throw new MalformattedElementException("Monitored data with both VNF Indicator info and Monitoring Parameter");
+			throw MalformattedElementException.stackless("Monitored data with both VNF Indicator info and Monitoring Parameter");
 		if (this.vnfIndicatorInfo != null) this.vnfIndicatorInfo.isValid();
 		if (this.monitoringParameter != null) this.monitoringParameter.isValid();
 	}
@@ -0,0 +1,177 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.descriptors.nsd;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Flattened graph of a composite NSD and of all the NSDs nested in it, 
+ * directly or indirectly, as resolved by the {@link NestedNsdResolver}.
+ * 
+ * Each NSD appears once, even if nested in more NSDs. The graph is acyclic and 
+ * immutable.
+ * 
+ * @author nextworks
+ *
+ */
+public class NestedNsdGraph {
+
+	private final String rootNsdId;
+	private final Map<String, Nsd> nsds;
+	private final Map<String, List<Edge>> edges;
+	private final List<String> order;
+	private final int depth;
+	
+	NestedNsdGraph(String rootNsdId, Map<String, Nsd> nsds, Map<String, List<Edge>> edges, List<String> order, int depth) {
+		this.rootNsdId = rootNsdId;
+		this.nsds = Collections.unmodifiableMap(nsds);
+		this.edges = Collections.unmodifiableMap(edges);
+		this.order = Collections.unmodifiableList(order);
+		this.depth = depth;
+	}
+	
+	/**
+	 * @return the composite NSD
+	 */
+	public Nsd getRoot() {
+		return nsds.get(rootNsdId);
+	}
+	
+	/**
+	 * @param nsdId ID of the NSD
+	 * @return the NSD with the given ID, if part of the graph
+	 */
+	public Optional<Nsd> findNsd(String nsdId) {
+		return Optional.ofNullable(nsds.get(nsdId));
+	}
+	
+	/**
+	 * @return all the NSDs of the graph, by NSD ID
+	 */
+	public Map<String, Nsd> getNsds() {
+		return nsds;
+	}
+	
+	/**
+	 * @param nsdId ID of the NSD
+	 * @return the NSDs directly nested in the given NSD
+	 */
+	public List<Edge> getNestedNsds(String nsdId) {
+		List<Edge> nested = edges.get(nsdId);
+		return (nested != null) ? nested : Collections.<Edge>emptyList();
+	}
+	
+	/**
+	 * @return the IDs of the NSDs, each one after all the NSDs nested in it (i.e. in instantiation order)
+	 */
+	public List<String> getInstantiationOrder() {
+		return order;
+	}
+	
+	/**
+	 * @return the maximum nesting depth, 0 if the NSD has no nested NSDs
+	 */
+	public int getDepth() {
+		return depth;
+	}
+	
+	/**
+	 * Nesting of an NSD in a composite NSD
+	 */
+	public static final class Edge {
+		
+		private final String nsdId;
+		private final String nsDfId;
+		private final String nsProfileId;
+		private final String nestedNsdId;
+		private final String nestedNsDfId;
+		private final String nestedNsLevelId;
+		private final int minNumberOfInstances;
+		private final int maxNumberOfInstances;
+		
+		Edge(String nsdId, String nsDfId, String nsProfileId, String nestedNsdId, String nestedNsDfId, 
+				String nestedNsLevelId, int minNumberOfInstances, int maxNumberOfInstances) {
+			this.nsdId = nsdId;
+			this.nsDfId = nsDfId;
+			this.nsProfileId = nsProfileId;
+			this.nestedNsdId = nestedNsdId;
+			this.nestedNsDfId = nestedNsDfId;
+			this.nestedNsLevelId = nestedNsLevelId;
+			this.minNumberOfInstances = minNumberOfInstances;
+			this.maxNumberOfInstances = maxNumberOfInstances;
+		}
+
+		/**
+		 * @return the ID of the composite NSD
+		 */
+		public String getNsdId() {
+			return nsdId;
+		}
+
+		/**
+		 * @return the ID of the deployment flavour of the composite NSD, null if the nesting is not bound to an NS profile
+		 */
+		public String getNsDfId() {
+			return nsDfId;
+		}
+
+		/**
+		 * @return the ID of the NS profile, null if the nesting is not bound to an NS profile
+		 */
+		public String getNsProfileId() {
+			return nsProfileId;
+		}
+
+		/**
+		 * @return the ID of the nested NSD
+		 */
+		public String getNestedNsdId() {
+			return nestedNsdId;
+		}
+
+		/**
+		 * @return the ID of the deployment flavour of the nested NSD, null if not specified
+		 */
+		public String getNestedNsDfId() {
+			return nestedNsDfId;
+		}
+
+		/**
+		 * @return the ID of the NS instantiation level of the nested NSD, null if not specified
+		 */
+		public String getNestedNsLevelId() {
+			return nestedNsLevelId;
+		}
+
+		/**
+		 * @return the minNumberOfInstances
+		 */
+		public int getMinNumberOfInstances() {
+			return minNumberOfInstances;
+		}
+
+		/**
+		 * @return the maxNumberOfInstances
+		 */
+		public int getMaxNumberOfInstances() {
+			return maxNumberOfInstances;
+		}
+	}
+	
+}
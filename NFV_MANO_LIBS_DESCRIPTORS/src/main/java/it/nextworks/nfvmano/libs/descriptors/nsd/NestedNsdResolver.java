@@ -0,0 +1,234 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.descriptors.nsd;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import it.nextworks.nfvmano.libs.common.exceptions.FailedOperationException;
+import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
+
+/**
+ * Resolver of composite NSDs, expanding the NSDs nested through the nestedNsdId 
+ * of the NSD and the NS profiles of its deployment flavours into a {@link NestedNsdGraph}.
+ * 
+ * The graph is expanded breadth-first: all the NSDs nested at the same depth are 
+ * retrieved from the {@link NsdSource} in a single batch, hence the number of 
+ * round trips is bounded by the nesting depth, which is limited by the maximum depth
+ * of the resolver. The retrieved NSDs are memoized by the resolver and shared by all 
+ * the graphs it resolves, until {@link #forget(String)} or {@link #clear()} are invoked.
+ * Cyclic nesting is rejected.
+ * 
+ * @author nextworks
+ *
+ */
+public class NestedNsdResolver {
+	
+	public static final int DEFAULT_MAX_DEPTH = 16;
+
+	private final NsdSource source;
+	private final int maxDepth;
+	private final Map<String, Nsd> memo = new ConcurrentHashMap<>();
+	
+	private final AtomicLong batches = new AtomicLong();
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param source the source of the nested NSDs
+	 */
+	public NestedNsdResolver(NsdSource source) {
+		this(source, DEFAULT_MAX_DEPTH);
+	}
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param source the source of the nested NSDs
+	 * @param maxDepth maximum nesting depth
+	 */
+	public NestedNsdResolver(NsdSource source, int maxDepth) {
+		if (source == null) throw new NullPointerException("Null NSD source");
+		if (maxDepth <= 0) throw new IllegalArgumentException("Maximum depth not positive");
+		this.source = source;
+		this.maxDepth = maxDepth;
+	}
+	
+	/**
+	 * Resolves a composite NSD retrieved from the source
+	 * 
+	 * @param nsdId ID of the composite NSD
+	 * @return the graph of the NSD
+	 * @throws NotExistingEntityException if the NSD or one of the nested NSDs does not exist
+	 * @throws MalformattedElementException if the nesting is cyclic or deeper than the maximum depth
+	 * @throws FailedOperationException if the NSDs cannot be retrieved
+	 */
+	public NestedNsdGraph resolve(String nsdId) 
+			throws NotExistingEntityException, MalformattedElementException, FailedOperationException {
+		Map<String, Nsd> root = new HashMap<>();
+		fetch(Collections.singleton(nsdId), root);
+		return resolve(root.get(nsdId));
+	}
+	
+	/**
+	 * Resolves a composite NSD, e.g. while it is onboarded. The composite NSD 
+	 * itself is not memoized.
+	 * 
+	 * @param nsd the composite NSD
+	 * @return the graph of the NSD
+	 * @throws NotExistingEntityException if one of the nested NSDs does not exist
+	 * @throws MalformattedElementException if the nesting is cyclic or deeper than the maximum depth
+	 * @throws FailedOperationException if the NSDs cannot be retrieved
+	 */
+	public NestedNsdGraph resolve(Nsd nsd) 
+			throws NotExistingEntityException, MalformattedElementException, FailedOperationException {
+		String rootId = nsd.getNsdIdentifier();
+		Map<String, Nsd> nsds = new LinkedHashMap<>();
+		Map<String, List<NestedNsdGraph.Edge>> edges = new HashMap<>();
+		nsds.put(rootId, nsd);
+		
+		Set<String> frontier = new LinkedHashSet<>();
+		frontier.add(rootId);
+		for (int level = 0; !frontier.isEmpty(); level++) {
+			Set<String> next = new LinkedHashSet<>();
+			for (String nsdId : frontier) {
+				List<NestedNsdGraph.Edge> nested = edgesOf(nsdId, nsds.get(nsdId));
+				edges.put(nsdId, nested);
+				for (NestedNsdGraph.Edge e : nested) {
+					if (!nsds.containsKey(e.getNestedNsdId())) next.add(e.getNestedNsdId());
+				}
+			}
+			if (next.isEmpty()) break;
+			if (level + 1 > maxDepth) {
+				throw MalformattedElementException.stackless("NSD " + rootId + " nested deeper than " + maxDepth + " levels");
+			}
+			fetch(next, nsds);
+			frontier = next;
+		}
+		
+		List<String> order = new ArrayList<>();
+		Map<String, Integer> depths = new HashMap<>();
+		visit(rootId, edges, new HashSet<>(), new ArrayList<>(), depths, order);
+		return new NestedNsdGraph(rootId, nsds, edges, order, depths.get(rootId));
+	}
+	
+	/**
+	 * Removes an NSD from the memoized ones, e.g. after it has been updated or deleted
+	 * 
+	 * @param nsdId ID of the NSD
+	 */
+	public void forget(String nsdId) {
+		memo.remove(nsdId);
+	}
+	
+	/**
+	 * Removes all the memoized NSDs
+	 */
+	public void clear() {
+		memo.clear();
+	}
+	
+	/**
+	 * @return the number of memoized NSDs
+	 */
+	public int getMemoizedNsds() {
+		return memo.size();
+	}
+	
+	/**
+	 * @return the number of batches retrieved from the source
+	 */
+	public long getBatches() {
+		return batches.get();
+	}
+	
+	private void fetch(Set<String> nsdIds, Map<String, Nsd> nsds) throws NotExistingEntityException, FailedOperationException {
+		List<String> missing = new ArrayList<>();
+		for (String nsdId : nsdIds) {
+			Nsd nsd = memo.get(nsdId);
+			if (nsd != null) nsds.put(nsdId, nsd);
+			else missing.add(nsdId);
+		}
+		if (missing.isEmpty()) return;
+		batches.incrementAndGet();
+		Map<String, Nsd> retrieved = source.getNsds(missing);
+		for (String nsdId : missing) {
+			Nsd nsd = (retrieved != null) ? retrieved.get(nsdId) : null;
+			if (nsd == null) throw new NotExistingEntityException("NSD " + nsdId + " not found");
+			memo.put(nsdId, nsd);
+			nsds.put(nsdId, nsd);
+		}
+	}
+	
+	private static List<NestedNsdGraph.Edge> edgesOf(String nsdId, Nsd nsd) {
+		List<NestedNsdGraph.Edge> edges = new ArrayList<>();
+		Set<String> bound = new HashSet<>();
+		if (nsd.getNsDf() != null) {
+			for (NsDf df : nsd.getNsDf()) {
+				if (df.getNsProfile() == null) continue;
+				for (NsProfile profile : df.getNsProfile()) {
+					if (profile.getNsdId() == null) continue;
+					edges.add(new NestedNsdGraph.Edge(nsdId, df.getNsDfId(), profile.getNsProfileId(), profile.getNsdId(), 
+							profile.getNsDeploymentFlavourId(), profile.getNsInstantiationLevelId(), 
+							profile.getMinNumberOfInstances(), profile.getMaxNumberOfInstances()));
+					bound.add(profile.getNsdId());
+				}
+			}
+		}
+		if (nsd.getNestedNsdId() != null) {
+			for (String nestedNsdId : nsd.getNestedNsdId()) {
+				if ((nestedNsdId != null) && bound.add(nestedNsdId)) {
+					edges.add(new NestedNsdGraph.Edge(nsdId, null, null, nestedNsdId, null, null, 1, 1));
+				}
+			}
+		}
+		return edges;
+	}
+	
+	//post-order visit: each NSD is added after the NSDs nested in it
+	private static void visit(String nsdId, Map<String, List<NestedNsdGraph.Edge>> edges, Set<String> visiting, 
+			List<String> path, Map<String, Integer> depths, List<String> order) throws MalformattedElementException {
+		if (depths.containsKey(nsdId)) return;
+		path.add(nsdId);
+		if (!visiting.add(nsdId)) {
+			List<String> cycle = path.subList(path.indexOf(nsdId), path.size());
+			throw MalformattedElementException.stackless("Cyclic NSD nesting: " + String.join(" -> ", cycle));
+		}
+		int depth = 0;
+		List<NestedNsdGraph.Edge> nested = edges.get(nsdId);
+		if (nested != null) {
+			for (NestedNsdGraph.Edge e : nested) {
+				visit(e.getNestedNsdId(), edges, visiting, path, depths, order);
+				depth = Math.max(depth, depths.get(e.getNestedNsdId()) + 1);
+			}
+		}
+		visiting.remove(nsdId);
+		path.remove(path.size() - 1);
+		depths.put(nsdId, depth);
+		order.add(nsdId);
+	}
+	
+}
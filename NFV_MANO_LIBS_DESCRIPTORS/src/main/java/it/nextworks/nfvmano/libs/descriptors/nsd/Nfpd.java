@@ -28,6 +28,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -41,6 +42,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.QoS;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.Rule;
 
 
@@ -57,7 +60,7 @@ import it.nextworks.nfvmano.libs.descriptors.common.elements.Rule;
  *
  */
 @Entity
-public class Nfpd implements DescriptorInformationElement {
+public class Nfpd extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -77,6 +80,7 @@ public class Nfpd implements DescriptorInformationElement {
 	
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> cpd = new ArrayList<>();
 	
@@ -150,7 +154,7 @@ public class Nfpd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("cpd")
 	public List<String> getCpd() {
-		return cpd;
+		return track(cpd);
 	}
 	
 	
@@ -165,10 +169,10 @@ public class Nfpd implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.nfpId == null) throw new MalformattedElementException("NFDP without ID");
+		if (this.nfpId == null) throw MalformattedElementException.stackless("NFDP without ID");
 		if (this.nfpRule != null) this.nfpRule.isValid();
 		if ((this.cpd == null) || (this.cpd.isEmpty())) {
-			throw new MalformattedElementException("NFDP without CPD");
+			throw MalformattedElementException.stackless("NFDP without CPD");
 		}
 		if (this.qos != null) this.qos.isValid();
 	}
@@ -12,6 +12,7 @@ import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
 import org.hibernate.annotations.OnDelete;
@@ -22,6 +23,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * Information element defining a scaling rule for a NS.
@@ -32,7 +35,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class NsAutoscalingRule implements DescriptorInformationElement {
+public class NsAutoscalingRule extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -53,6 +56,7 @@ public class NsAutoscalingRule implements DescriptorInformationElement {
 	@OneToMany(mappedBy = "rule", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<AutoscalingAction> ruleActions = new ArrayList<>();
 	
 	public NsAutoscalingRule() {
@@ -82,17 +86,17 @@ public class NsAutoscalingRule implements DescriptorInformationElement {
 	 * @return the ruleActions
 	 */
 	public List<AutoscalingAction> getRuleActions() {
-		return ruleActions;
+		return track(ruleActions);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (ruleId == null) throw new MalformattedElementException("Autoscaling rule without ID");
+		if (ruleId == null) throw MalformattedElementException.stackless("Autoscaling rule without ID");
 		if (this.ruleCondition == null)
-			throw new MalformattedElementException("Autoscaling rule without conditions"); 
+			throw MalformattedElementException.stackless("Autoscaling rule without conditions"); 
 			else ruleCondition.isValid();
 		if ((this.ruleActions == null) || (this.ruleActions.isEmpty())) 
-			throw new MalformattedElementException("Autoscaling rule without actions"); 
+			throw MalformattedElementException.stackless("Autoscaling rule without actions"); 
 			else for (AutoscalingAction aa : ruleActions) aa.isValid();
 	}
 
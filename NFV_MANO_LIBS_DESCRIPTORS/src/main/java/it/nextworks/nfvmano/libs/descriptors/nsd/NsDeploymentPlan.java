@@ -0,0 +1,225 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.descriptors.nsd;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Plan for the instantiation of the VNFs and nested NSs of an NS instantiation level, 
+ * produced by the {@link NsDeploymentPlanner} from the dependencies of the NS deployment flavour.
+ * 
+ * The plan is a sequence of waves: the steps of a wave depend only on steps of 
+ * the previous waves, hence they can be executed in parallel once the previous 
+ * wave is completed. Termination executes the waves in the reverse order.
+ * 
+ * @author nextworks
+ *
+ */
+public class NsDeploymentPlan {
+
+	private final String nsDfId;
+	private final String nsLevelId;
+	private final List<Wave> waves;
+	private final List<Step> criticalPath;
+	private final long estimatedDuration;
+	
+	NsDeploymentPlan(String nsDfId, String nsLevelId, List<Wave> waves, List<Step> criticalPath, long estimatedDuration) {
+		this.nsDfId = nsDfId;
+		this.nsLevelId = nsLevelId;
+		this.waves = Collections.unmodifiableList(waves);
+		this.criticalPath = Collections.unmodifiableList(criticalPath);
+		this.estimatedDuration = estimatedDuration;
+	}
+
+	/**
+	 * @return the nsDfId
+	 */
+	public String getNsDfId() {
+		return nsDfId;
+	}
+
+	/**
+	 * @return the nsLevelId
+	 */
+	public String getNsLevelId() {
+		return nsLevelId;
+	}
+
+	/**
+	 * @return the waves for the instantiation, in execution order
+	 */
+	public List<Wave> getInstantiationWaves() {
+		return waves;
+	}
+	
+	/**
+	 * @return the waves for the termination, in execution order
+	 */
+	public List<Wave> getTerminationWaves() {
+		List<Wave> reverse = new ArrayList<>(waves);
+		Collections.reverse(reverse);
+		return Collections.unmodifiableList(reverse);
+	}
+	
+	/**
+	 * @return all the steps of the plan, in instantiation order
+	 */
+	public List<Step> getSteps() {
+		List<Step> steps = new ArrayList<>();
+		for (Wave w : waves) steps.addAll(w.getSteps());
+		return steps;
+	}
+	
+	/**
+	 * @return the longest chain of dependent steps, in instantiation order
+	 */
+	public List<Step> getCriticalPath() {
+		return criticalPath;
+	}
+	
+	/**
+	 * @return the estimated duration of the critical path, in milliseconds. 
+	 * It is the duration of the instantiation when each step starts as soon as its dependencies are completed.
+	 */
+	public long getEstimatedDuration() {
+		return estimatedDuration;
+	}
+	
+	/**
+	 * @return the estimated duration of the instantiation executed wave by wave, in milliseconds
+	 */
+	public long getEstimatedWavedDuration() {
+		long d = 0;
+		for (Wave w : waves) d += w.getEstimatedDuration();
+		return d;
+	}
+	
+	/**
+	 * Type of the profile instantiated by a step
+	 */
+	public enum StepType {
+		VNF,
+		NS
+	}
+	
+	/**
+	 * Instantiation of the VNFs of a VNF profile or of the nested NSs of an NS profile
+	 */
+	public static final class Step {
+		
+		private final String profileId;
+		private final StepType type;
+		private final String descriptorId;
+		private final int numberOfInstances;
+		private final long estimatedDuration;
+		private final long earliestStart;
+		
+		Step(String profileId, StepType type, String descriptorId, int numberOfInstances, long estimatedDuration, long earliestStart) {
+			this.profileId = profileId;
+			this.type = type;
+			this.descriptorId = descriptorId;
+			this.numberOfInstances = numberOfInstances;
+			this.estimatedDuration = estimatedDuration;
+			this.earliestStart = earliestStart;
+		}
+
+		/**
+		 * @return the ID of the VNF profile or of the NS profile
+		 */
+		public String getProfileId() {
+			return profileId;
+		}
+
+		/**
+		 * @return the type
+		 */
+		public StepType getType() {
+			return type;
+		}
+
+		/**
+		 * @return the ID of the VNFD or of the nested NSD
+		 */
+		public String getDescriptorId() {
+			return descriptorId;
+		}
+
+		/**
+		 * @return the numberOfInstances
+		 */
+		public int getNumberOfInstances() {
+			return numberOfInstances;
+		}
+
+		/**
+		 * @return the estimated duration, in milliseconds
+		 */
+		public long getEstimatedDuration() {
+			return estimatedDuration;
+		}
+
+		/**
+		 * @return the earliest start from the beginning of the instantiation, in milliseconds
+		 */
+		public long getEarliestStart() {
+			return earliestStart;
+		}
+		
+		@Override
+		public String toString() {
+			return type + " " + profileId;
+		}
+	}
+	
+	/**
+	 * Set of steps which can be executed in parallel
+	 */
+	public static final class Wave {
+		
+		private final int index;
+		private final List<Step> steps;
+		
+		Wave(int index, List<Step> steps) {
+			this.index = index;
+			this.steps = Collections.unmodifiableList(steps);
+		}
+
+		/**
+		 * @return the index of the wave in the instantiation order, starting from 0
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		/**
+		 * @return the steps
+		 */
+		public List<Step> getSteps() {
+			return steps;
+		}
+		
+		/**
+		 * @return the estimated duration of the wave, i.e. of its longest step, in milliseconds
+		 */
+		public long getEstimatedDuration() {
+			long d = 0;
+			for (Step s : steps) d = Math.max(d, s.getEstimatedDuration());
+			return d;
+		}
+	}
+}
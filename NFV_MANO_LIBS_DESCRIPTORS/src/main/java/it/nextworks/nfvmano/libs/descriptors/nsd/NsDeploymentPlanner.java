@@ -0,0 +1,230 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.descriptors.nsd;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
+
+/**
+ * Planner of the instantiation of an NS instantiation level. 
+ * 
+ * The VNF profiles and NS profiles of the level are ordered according to the 
+ * dependencies of the NS deployment flavour, building a DAG where each primary 
+ * profile precedes its secondary profiles, and grouped in parallel waves. 
+ * Dependencies through profiles which are not part of the level are preserved.
+ * The critical path is estimated from the durations configured for profiles 
+ * or descriptors, falling back to the default duration.
+ * 
+ * @author nextworks
+ *
+ */
+public class NsDeploymentPlanner {
+	
+	public static final long DEFAULT_DURATION_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+	private final long defaultDuration;
+	private final Map<String, Long> durations = new ConcurrentHashMap<>();
+	
+	public NsDeploymentPlanner() {
+		this(DEFAULT_DURATION_MILLIS, TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param defaultDuration estimated duration of the steps without a configured duration
+	 * @param unit unit of the duration
+	 */
+	public NsDeploymentPlanner(long defaultDuration, TimeUnit unit) {
+		if (defaultDuration < 0) throw new IllegalArgumentException("Negative default duration");
+		this.defaultDuration = unit.toMillis(defaultDuration);
+	}
+	
+	/**
+	 * Sets the estimated duration of the instantiation of a profile or of a descriptor. 
+	 * The duration of a profile takes precedence over the one of its descriptor.
+	 * 
+	 * @param id ID of the VNF profile, NS profile, VNFD or NSD
+	 * @param duration estimated duration
+	 * @param unit unit of the duration
+	 */
+	public void setEstimatedDuration(String id, long duration, TimeUnit unit) {
+		if (duration < 0) throw new IllegalArgumentException("Negative duration");
+		durations.put(id, unit.toMillis(duration));
+	}
+	
+	/**
+	 * Plans the instantiation of an NS level
+	 * 
+	 * @param df the NS deployment flavour
+	 * @param nsLevelId ID of the NS level, null for the default level
+	 * @return the plan
+	 * @throws NotExistingEntityException if the NS level or one of its profiles do not exist
+	 * @throws MalformattedElementException if the dependencies are cyclic or refer to unknown profiles
+	 */
+	public NsDeploymentPlan plan(NsDf df, String nsLevelId) throws NotExistingEntityException, MalformattedElementException {
+		NsLevel level = (nsLevelId == null) ? df.getDefaultInstantiationLevel() : df.getNsLevel(nsLevelId);
+		return plan(df, level);
+	}
+	
+	/**
+	 * Plans the instantiation of an NS level
+	 * 
+	 * @param df the NS deployment flavour
+	 * @param level the NS level
+	 * @return the plan
+	 * @throws NotExistingEntityException if one of the profiles of the level does not exist
+	 * @throws MalformattedElementException if the dependencies are cyclic or refer to unknown profiles
+	 */
+	public NsDeploymentPlan plan(NsDf df, NsLevel level) throws NotExistingEntityException, MalformattedElementException {
+		Map<String, NsProfile> nsProfiles = new HashMap<>();
+		if (df.getNsProfile() != null) {
+			for (NsProfile p : df.getNsProfile()) nsProfiles.putIfAbsent(p.getNsProfileId(), p);
+		}
+		
+		//profiles instantiated by the level, with their estimated steps
+		Map<String, NsDeploymentPlan.StepType> types = new LinkedHashMap<>();
+		Map<String, String> descriptors = new HashMap<>();
+		Map<String, Integer> instances = new HashMap<>();
+		if (level.getVnfToLevelMapping() != null) {
+			for (VnfToLevelMapping m : level.getVnfToLevelMapping()) {
+				Optional<VnfProfile> vp = df.findVnfProfile(m.getVnfProfileId());
+				if (!vp.isPresent()) throw NotExistingEntityException.stackless("VNF profile " + m.getVnfProfileId() + " not found in DF " + df.getNsDfId());
+				types.put(m.getVnfProfileId(), NsDeploymentPlan.StepType.VNF);
+				descriptors.put(m.getVnfProfileId(), vp.get().getVnfdId());
+				instances.put(m.getVnfProfileId(), m.getNumberOfInstances());
+			}
+		}
+		if (level.getNsToLevelMapping() != null) {
+			for (NsToLevelMapping m : level.getNsToLevelMapping()) {
+				NsProfile np = nsProfiles.get(m.getNsProfileId());
+				if (np == null) throw NotExistingEntityException.stackless("NS profile " + m.getNsProfileId() + " not found in DF " + df.getNsDfId());
+				types.put(m.getNsProfileId(), NsDeploymentPlan.StepType.NS);
+				descriptors.put(m.getNsProfileId(), np.getNsdId());
+				instances.put(m.getNsProfileId(), m.getNumberOfInstances());
+			}
+		}
+		
+		//DAG including the profiles not instantiated by the level, to keep transitive dependencies
+		Map<String, Set<String>> successors = new LinkedHashMap<>();
+		Map<String, Integer> inDegree = new HashMap<>();
+		for (String id : types.keySet()) addNode(id, successors, inDegree);
+		if (df.getDependencies() != null) {
+			for (Dependencies d : df.getDependencies()) {
+				for (String primary : d.getPrimaryId()) {
+					checkProfile(df, nsProfiles, primary);
+					addNode(primary, successors, inDegree);
+					for (String secondary : d.getSecondaryId()) {
+						checkProfile(df, nsProfiles, secondary);
+						addNode(secondary, successors, inDegree);
+						if (successors.get(primary).add(secondary)) inDegree.merge(secondary, 1, Integer::sum);
+					}
+				}
+			}
+		}
+		
+		//Kahn's algorithm, computing waves and earliest finish times in topological order
+		Map<String, Integer> waveOf = new HashMap<>();
+		Map<String, Long> finish = new HashMap<>();
+		Map<String, Long> start = new HashMap<>();
+		Map<String, String> criticalPredecessor = new HashMap<>();
+		Deque<String> ready = new ArrayDeque<>();
+		for (String id : successors.keySet()) {
+			waveOf.put(id, 0);
+			start.put(id, 0L);
+			if (inDegree.get(id) == 0) ready.add(id);
+		}
+		int visited = 0;
+		String last = null;
+		while (!ready.isEmpty()) {
+			String id = ready.poll();
+			visited++;
+			boolean present = types.containsKey(id);
+			long end = start.get(id) + (present ? durationOf(id, descriptors.get(id)) : 0);
+			finish.put(id, end);
+			if (present && ((last == null) || (end > finish.get(last)))) last = id;
+			int nextWave = waveOf.get(id) + (present ? 1 : 0);
+			for (String s : successors.get(id)) {
+				if (nextWave > waveOf.get(s)) waveOf.put(s, nextWave);
+				if ((end > start.get(s)) || !criticalPredecessor.containsKey(s)) {
+					start.put(s, end);
+					criticalPredecessor.put(s, id);
+				}
+				if (inDegree.merge(s, -1, Integer::sum) == 0) ready.add(s);
+			}
+		}
+		if (visited < successors.size()) {
+			List<String> cyclic = new ArrayList<>();
+			for (Map.Entry<String, Integer> e : inDegree.entrySet()) {
+				if (e.getValue() > 0) cyclic.add(e.getKey());
+			}
+			throw MalformattedElementException.stackless("Cyclic dependencies in DF " + df.getNsDfId() + " involving profiles " + cyclic);
+		}
+		
+		Map<String, NsDeploymentPlan.Step> steps = new HashMap<>();
+		List<List<NsDeploymentPlan.Step>> waveSteps = new ArrayList<>();
+		for (Map.Entry<String, NsDeploymentPlan.StepType> e : types.entrySet()) {
+			String id = e.getKey();
+			NsDeploymentPlan.Step step = new NsDeploymentPlan.Step(id, e.getValue(), descriptors.get(id), instances.get(id), 
+					finish.get(id) - start.get(id), start.get(id));
+			steps.put(id, step);
+			int w = waveOf.get(id);
+			while (waveSteps.size() <= w) waveSteps.add(new ArrayList<>());
+			waveSteps.get(w).add(step);
+		}
+		List<NsDeploymentPlan.Wave> waves = new ArrayList<>();
+		for (List<NsDeploymentPlan.Step> ws : waveSteps) waves.add(new NsDeploymentPlan.Wave(waves.size(), ws));
+		
+		List<NsDeploymentPlan.Step> criticalPath = new ArrayList<>();
+		for (String id = last; id != null; id = criticalPredecessor.get(id)) {
+			if (steps.containsKey(id)) criticalPath.add(0, steps.get(id));
+		}
+		return new NsDeploymentPlan(df.getNsDfId(), level.getNsLevelId(), waves, criticalPath, 
+				(last == null) ? 0 : finish.get(last));
+	}
+	
+	private long durationOf(String profileId, String descriptorId) {
+		Long d = durations.get(profileId);
+		if ((d == null) && (descriptorId != null)) d = durations.get(descriptorId);
+		return (d == null) ? defaultDuration : d;
+	}
+	
+	private static void addNode(String id, Map<String, Set<String>> successors, Map<String, Integer> inDegree) {
+		if (!successors.containsKey(id)) {
+			successors.put(id, new LinkedHashSet<>());
+			inDegree.put(id, 0);
+		}
+	}
+	
+	private static void checkProfile(NsDf df, Map<String, NsProfile> nsProfiles, String profileId) throws MalformattedElementException {
+		if (!nsProfiles.containsKey(profileId) && !df.findVnfProfile(profileId).isPresent()) {
+			throw MalformattedElementException.stackless("Dependency on unknown profile " + profileId + " in DF " + df.getNsDfId());
+		}
+	}
+}
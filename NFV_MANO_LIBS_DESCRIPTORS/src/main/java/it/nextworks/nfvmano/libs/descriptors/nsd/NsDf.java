@@ -17,6 +17,7 @@ package it.nextworks.nfvmano.libs.descriptors.nsd;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import javax.persistence.CascadeType;
 import javax.persistence.ElementCollection;
@@ -25,13 +26,15 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedEntityGraphs;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToMany;
+import javax.persistence.Transient;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
-import org.hibernate.annotations.Fetch;
-import org.hibernate.annotations.FetchMode;
-import org.hibernate.annotations.LazyCollection;
-import org.hibernate.annotations.LazyCollectionOption;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -40,8 +43,12 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
+import it.nextworks.nfvmano.libs.common.collections.IdIndex;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
 import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.common.validation.ValidationContext;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.AffinityOrAntiAffinityGroup;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.VirtualLinkProfile;
 
@@ -54,7 +61,61 @@ import it.nextworks.nfvmano.libs.descriptors.common.elements.VirtualLinkProfile;
  *
  */
 @Entity
-public class NsDf implements DescriptorInformationElement {
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = FetchProfiles.NS_DF_SUMMARY),
+	@NamedEntityGraph(name = FetchProfiles.NS_DF_DEPLOYMENT, attributeNodes = {
+		@NamedAttributeNode(value = "vnfProfile", subgraph = "vnfProfile"),
+		@NamedAttributeNode("pnfProfile"),
+		@NamedAttributeNode(value = "virtualLinkProfile", subgraph = "virtualLinkProfile"),
+		@NamedAttributeNode(value = "nsInstantiationLevel", subgraph = "nsInstantiationLevel"),
+		@NamedAttributeNode("nsProfile"),
+		@NamedAttributeNode("dependencies")
+	}, subgraphs = {
+		@NamedSubgraph(name = "vnfProfile", attributeNodes = {
+			@NamedAttributeNode("localAffinityOrAntiAffinityRule"),
+			@NamedAttributeNode("affinityOrAntiAffinityGroupId"),
+			@NamedAttributeNode("nsVirtualLinkConnectivity"),
+			@NamedAttributeNode("script")
+		}),
+		@NamedSubgraph(name = "virtualLinkProfile", attributeNodes = {
+			@NamedAttributeNode("localAffinityOrAntiAffinityRule"),
+			@NamedAttributeNode("affinityOrAntiAffinityGroupId")
+		}),
+		@NamedSubgraph(name = "nsInstantiationLevel", attributeNodes = {
+			@NamedAttributeNode("vnfToLevelMapping"),
+			@NamedAttributeNode("nsToLevelMapping"),
+			@NamedAttributeNode("virtualLinkToLevelMapping")
+		})
+	}),
+	@NamedEntityGraph(name = FetchProfiles.NS_DF_FULL, attributeNodes = {
+		@NamedAttributeNode(value = "vnfProfile", subgraph = "vnfProfile"),
+		@NamedAttributeNode("pnfProfile"),
+		@NamedAttributeNode(value = "virtualLinkProfile", subgraph = "virtualLinkProfile"),
+		@NamedAttributeNode(value = "nsInstantiationLevel", subgraph = "nsInstantiationLevel"),
+		@NamedAttributeNode("nsProfile"),
+		@NamedAttributeNode("dependencies"),
+		@NamedAttributeNode("scalingAspect"),
+		@NamedAttributeNode("affinityOrAntiAffinityGroup")
+	}, subgraphs = {
+		@NamedSubgraph(name = "vnfProfile", attributeNodes = {
+			@NamedAttributeNode("localAffinityOrAntiAffinityRule"),
+			@NamedAttributeNode("affinityOrAntiAffinityGroupId"),
+			@NamedAttributeNode("nsVirtualLinkConnectivity"),
+			@NamedAttributeNode("script")
+		}),
+		@NamedSubgraph(name = "virtualLinkProfile", attributeNodes = {
+			@NamedAttributeNode("localAffinityOrAntiAffinityRule"),
+			@NamedAttributeNode("affinityOrAntiAffinityGroupId")
+		}),
+		@NamedSubgraph(name = "nsInstantiationLevel", attributeNodes = {
+			@NamedAttributeNode("vnfToLevelMapping"),
+			@NamedAttributeNode("nsToLevelMapping"),
+			@NamedAttributeNode("virtualLinkToLevelMapping")
+		})
+	})
+})
+@BatchSize(size = FetchProfiles.BATCH_SIZE)
+public class NsDf extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -70,35 +131,36 @@ public class NsDf implements DescriptorInformationElement {
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "nsDf", cascade=CascadeType.ALL)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	private List<VnfProfile> vnfProfile = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "nsDf", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<PnfProfile> pnfProfile = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "nsDf", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<VirtualLinkProfile> virtualLinkProfile = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "nsDf", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<NsScalingAspect> scalingAspect = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
-	@ElementCollection(fetch=FetchType.EAGER)
-	@Fetch(FetchMode.SELECT)
+	@ElementCollection(fetch=FetchType.LAZY)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<AffinityOrAntiAffinityGroup> affinityOrAntiAffinityGroup = new ArrayList<>();
 	
-	@OneToMany(fetch=FetchType.EAGER, mappedBy = "nsDf", cascade=CascadeType.ALL)
+	@OneToMany(mappedBy = "nsDf", cascade=CascadeType.ALL)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	private List<NsLevel> nsInstantiationLevel = new ArrayList<>();
 	
@@ -108,15 +170,27 @@ public class NsDf implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "nsDf", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<NsProfile> nsProfile = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "nsDf", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<Dependencies> dependencies = new ArrayList<>();
 	
+	@Transient
+	@JsonIgnore
+	private transient volatile IdIndex<NsLevel> nsLevelIndex;
+	
+	@Transient
+	@JsonIgnore
+	private transient volatile IdIndex<VnfProfile> vnfProfileIndex;
+	
+	@Transient
+	@JsonIgnore
+	private transient volatile IdIndex<VirtualLinkProfile> virtualLinkProfileIndex;
+	
 	public NsDf() {
 		// JPA only
 	}
@@ -208,7 +282,7 @@ public class NsDf implements DescriptorInformationElement {
 	 */
 	@JsonProperty("vnfProfile")
 	public List<VnfProfile> getVnfProfile() {
-		return vnfProfile;
+		return track(vnfProfile);
 	}
 
 	/**
@@ -216,7 +290,7 @@ public class NsDf implements DescriptorInformationElement {
 	 */
 	@JsonProperty("pnfProfile")
 	public List<PnfProfile> getPnfProfile() {
-		return pnfProfile;
+		return track(pnfProfile);
 	}
 
 	/**
@@ -224,7 +298,7 @@ public class NsDf implements DescriptorInformationElement {
 	 */
 	@JsonProperty("virtualLinkProfile")
 	public List<VirtualLinkProfile> getVirtualLinkProfile() {
-		return virtualLinkProfile;
+		return track(virtualLinkProfile);
 	}
 
 	/**
@@ -232,7 +306,7 @@ public class NsDf implements DescriptorInformationElement {
 	 */
 	@JsonProperty("scalingAspect")
 	public List<NsScalingAspect> getScalingAspect() {
-		return scalingAspect;
+		return track(scalingAspect);
 	}
 
 	/**
@@ -240,7 +314,7 @@ public class NsDf implements DescriptorInformationElement {
 	 */
 	@JsonProperty("affinityOrAntiAffinityGroup")
 	public List<AffinityOrAntiAffinityGroup> getAffinityOrAntiAffinityGroup() {
-		return affinityOrAntiAffinityGroup;
+		return track(affinityOrAntiAffinityGroup);
 	}
 
 	/**
@@ -248,7 +322,7 @@ public class NsDf implements DescriptorInformationElement {
 	 */
 	@JsonProperty("nsInstantiationLevel")
 	public List<NsLevel> getNsInstantiationLevel() {
-		return nsInstantiationLevel;
+		return track(nsInstantiationLevel);
 	}
 
 	/**
@@ -264,7 +338,7 @@ public class NsDf implements DescriptorInformationElement {
 	 */
 	@JsonProperty("nsProfile")
 	public List<NsProfile> getNsProfile() {
-		return nsProfile;
+		return track(nsProfile);
 	}
 
 	/**
@@ -272,79 +346,117 @@ public class NsDf implements DescriptorInformationElement {
 	 */
 	@JsonProperty("dependencies")
 	public List<Dependencies> getDependencies() {
-		return dependencies;
+		return track(dependencies);
 	}
 	
 	
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.nsDfId == null) throw new MalformattedElementException("NS DF without ID");
-		if (this.flavourKey == null) throw new MalformattedElementException("NS DF without flavour key");
-		if (this.vnfProfile != null) {
-			for (VnfProfile pr : this.vnfProfile) pr.isValid();
-		}
-		if (this.pnfProfile != null) {
-			for (PnfProfile pr : this.pnfProfile) pr.isValid();
-		}
-		if (this.virtualLinkProfile != null) {
-			for (VirtualLinkProfile pr : this.virtualLinkProfile) pr.isValid();
-		}
-		if (this.scalingAspect != null) {
-			for (NsScalingAspect sa : this.scalingAspect) sa.isValid();
-		}
-		if (this.affinityOrAntiAffinityGroup != null) {
-			for (AffinityOrAntiAffinityGroup gr : this.affinityOrAntiAffinityGroup) gr.isValid();
-		}
+		ValidationContext.requireValid(this);
+	}
+	
+	@Override
+	public void validate(ValidationContext context) {
+		context.require(this.nsDfId != null, "NS DF without ID");
+		context.require(this.flavourKey != null, "NS DF without flavour key");
+		context.validateAll("vnfProfile", this.vnfProfile);
+		context.validateAll("pnfProfile", this.pnfProfile);
+		context.validateAll("virtualLinkProfile", this.virtualLinkProfile);
+		context.validateAll("scalingAspect", this.scalingAspect);
+		context.validateAll("affinityOrAntiAffinityGroup", this.affinityOrAntiAffinityGroup);
 		if ((this.nsInstantiationLevel == null) || (this.nsInstantiationLevel.isEmpty())) {
-			throw new MalformattedElementException("NS DF without instantiation level");
+			context.reportViolation("NS DF without instantiation level");
 		} else {
-			for (NsLevel l : this.nsInstantiationLevel) l.isValid();
-		}
-		if ((this.nsInstantiationLevel.size()>1) && (this.defaultNsInstantiationLevelId == null))
-			throw new MalformattedElementException("NS DF without default NS instantiation level ID, but multiple NS levels");
-		if (this.nsProfile != null) {
-			for (NsProfile pr : this.nsProfile) pr.isValid();
-		}
-		if (this.dependencies != null) {
-			for (Dependencies d : this.dependencies) d.isValid();
+			context.validateAll("nsInstantiationLevel", this.nsInstantiationLevel);
+			context.require(!((this.nsInstantiationLevel.size()>1) && (this.defaultNsInstantiationLevelId == null)), 
+					"NS DF without default NS instantiation level ID, but multiple NS levels");
 		}
+		context.validateAll("nsProfile", this.nsProfile);
+		context.validateAll("dependencies", this.dependencies);
 	}
 	
 	@JsonIgnore
 	public NsLevel getNsLevel(String nsLevelId) throws NotExistingEntityException {
-		for (NsLevel l : nsInstantiationLevel) {
-			if (l.getNsLevelId().equals(nsLevelId)) return l;
-		}
-		throw new NotExistingEntityException("NS level " + nsLevelId + " not found in DF " + nsDfId);
+		Optional<NsLevel> l = findNsLevel(nsLevelId);
+		if (!l.isPresent()) throw NotExistingEntityException.stackless("NS level " + nsLevelId + " not found in DF " + nsDfId);
+		return l.get();
+	}
+	
+	/**
+	 * @param nsLevelId ID of the NS level
+	 * @return the NS level with the given ID, or an empty optional if it does not exist in this DF
+	 */
+	@JsonIgnore
+	public Optional<NsLevel> findNsLevel(String nsLevelId) {
+		IdIndex<NsLevel> index = IdIndex.of(nsLevelIndex, nsInstantiationLevel, getModificationStamp(), NsLevel::getNsLevelId);
+		nsLevelIndex = index;
+		return index.find(nsLevelId);
 	}
 	
 	@JsonIgnore
 	public NsLevel getDefaultInstantiationLevel() throws NotExistingEntityException {
 		if ((nsInstantiationLevel == null) || (nsInstantiationLevel.isEmpty())) {
-			throw new NotExistingEntityException("DF " + nsDfId + " without NS levels");
+			throw NotExistingEntityException.stackless("DF " + nsDfId + " without NS levels");
 		} else if (nsInstantiationLevel.size()==1) {
 			return nsInstantiationLevel.get(0);
 		} else {
 			if (defaultNsInstantiationLevelId == null) {
-				throw new NotExistingEntityException("DF " + nsDfId + " without default NS level and with multiple NS levels");
+				throw NotExistingEntityException.stackless("DF " + nsDfId + " without default NS level and with multiple NS levels");
 			}
 			return getNsLevel(defaultNsInstantiationLevelId);
 		}
 	}
 	
+	/**
+	 * @return the default NS level, or an empty optional if the DF has no NS levels 
+	 * or has multiple NS levels but no valid default one
+	 */
 	@JsonIgnore
-	public VnfProfile getVnfProfile(String vnfdId) throws NotExistingEntityException {
-		for (VnfProfile vp : vnfProfile) {
-			if (vp.getVnfProfileId().equals(vnfdId)) return vp;
+	public Optional<NsLevel> findDefaultInstantiationLevel() {
+		if ((nsInstantiationLevel == null) || (nsInstantiationLevel.isEmpty())) {
+			return Optional.empty();
+		} else if (nsInstantiationLevel.size()==1) {
+			return Optional.of(nsInstantiationLevel.get(0));
+		} else {
+			if (defaultNsInstantiationLevelId == null) return Optional.empty();
+			return findNsLevel(defaultNsInstantiationLevelId);
 		}
-		throw new NotExistingEntityException("VNF profile for VNFD ID " + vnfdId + " not found");
+	}
+	
+	@JsonIgnore
+	public VnfProfile getVnfProfile(String vnfdId) throws NotExistingEntityException {
+		Optional<VnfProfile> vp = findVnfProfile(vnfdId);
+		if (!vp.isPresent()) throw NotExistingEntityException.stackless("VNF profile for VNFD ID " + vnfdId + " not found");
+		return vp.get();
+	}
+	
+	/**
+	 * @param vnfProfileId ID of the VNF profile
+	 * @return the VNF profile with the given ID, or an empty optional if it does not exist in this DF
+	 */
+	@JsonIgnore
+	public Optional<VnfProfile> findVnfProfile(String vnfProfileId) {
+		IdIndex<VnfProfile> index = IdIndex.of(vnfProfileIndex, vnfProfile, getModificationStamp(), VnfProfile::getVnfProfileId);
+		vnfProfileIndex = index;
+		return index.find(vnfProfileId);
 	}
 	
 	public VirtualLinkProfile getVirtualLinkProfile(String vlProfileId) throws NotExistingEntityException {
-		for (VirtualLinkProfile vlp : virtualLinkProfile) {
-			if (vlp.getVirtualLinkProfileId().equals(vlProfileId)) return vlp;
-		}
-		throw new NotExistingEntityException("VL profile for VL profile ID " + vlProfileId + " not found");
+		Optional<VirtualLinkProfile> vlp = findVirtualLinkProfile(vlProfileId);
+		if (!vlp.isPresent()) throw NotExistingEntityException.stackless("VL profile for VL profile ID " + vlProfileId + " not found");
+		return vlp.get();
 	}
+	
+	/**
+	 * @param vlProfileId ID of the VL profile
+	 * @return the VL profile with the given ID, or an empty optional if it does not exist in this DF
+	 */
+	@JsonIgnore
+	public Optional<VirtualLinkProfile> findVirtualLinkProfile(String vlProfileId) {
+		IdIndex<VirtualLinkProfile> index = IdIndex.of(virtualLinkProfileIndex, virtualLinkProfile, getModificationStamp(), VirtualLinkProfile::getVirtualLinkProfileId);
+		virtualLinkProfileIndex = index;
+		return index.find(vlProfileId);
+	}
+	
 }
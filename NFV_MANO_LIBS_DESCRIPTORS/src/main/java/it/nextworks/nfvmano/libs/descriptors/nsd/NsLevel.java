@@ -27,6 +27,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -41,6 +42,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.common.validation.ValidationContext;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * The NsLevel information element describes the details of an NS level. 
@@ -56,7 +60,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class NsLevel implements DescriptorInformationElement {
+public class NsLevel extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -77,12 +81,14 @@ public class NsLevel implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<VnfToLevelMapping> vnfToLevelMapping = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<NsToLevelMapping> nsToLevelMapping = new ArrayList<>();
 	
@@ -90,6 +96,7 @@ public class NsLevel implements DescriptorInformationElement {
 	@OneToMany(mappedBy = "nsLevel", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<VirtualLinkToLevelMapping> virtualLinkToLevelMapping = new ArrayList<>();
 	
 	public NsLevel() {
@@ -163,7 +170,7 @@ public class NsLevel implements DescriptorInformationElement {
 	 */
 	@JsonProperty("vnfToLevelMapping")
 	public List<VnfToLevelMapping> getVnfToLevelMapping() {
-		return vnfToLevelMapping;
+		return track(vnfToLevelMapping);
 	}
 
 	/**
@@ -171,7 +178,7 @@ public class NsLevel implements DescriptorInformationElement {
 	 */
 	@JsonProperty("nsToLevelMapping")
 	public List<NsToLevelMapping> getNsToLevelMapping() {
-		return nsToLevelMapping;
+		return track(nsToLevelMapping);
 	}
 
 	/**
@@ -179,32 +186,25 @@ public class NsLevel implements DescriptorInformationElement {
 	 */
 	@JsonProperty("virtualLinkToLevelMapping")
 	public List<VirtualLinkToLevelMapping> getVirtualLinkToLevelMapping() {
-		return virtualLinkToLevelMapping;
+		return track(virtualLinkToLevelMapping);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.nsLevelId == null) throw new MalformattedElementException("NS level without ID");
-		if (this.description == null) throw new MalformattedElementException("NS level without description");
-		boolean noVnfMap = false;
-		boolean noNsMap = false;
-		boolean noVlMap = false;
-		if ((this.vnfToLevelMapping == null) || (this.vnfToLevelMapping.isEmpty())) {
-			noVnfMap = true;
-		} else {
-			for (VnfToLevelMapping map : this.vnfToLevelMapping) map.isValid();
-		}
-		if ((this.nsToLevelMapping == null) || (this.nsToLevelMapping.isEmpty())) {
-			noNsMap = true;
-		} else {
-			for (NsToLevelMapping map : this.nsToLevelMapping) map.isValid();
-		}
-		if ((this.virtualLinkToLevelMapping == null) || (this.virtualLinkToLevelMapping.isEmpty())) {
-			noVlMap = true;
-		} else {
-			for (VirtualLinkToLevelMapping map : this.virtualLinkToLevelMapping) map.isValid();
-		}
-		if (noNsMap && noVnfMap && noVlMap) throw new MalformattedElementException("NS level without any mapping declared");
+		ValidationContext.requireValid(this);
+	}
+	
+	@Override
+	public void validate(ValidationContext context) {
+		context.require(this.nsLevelId != null, "NS level without ID");
+		context.require(this.description != null, "NS level without description");
+		boolean noVnfMap = (this.vnfToLevelMapping == null) || (this.vnfToLevelMapping.isEmpty());
+		boolean noNsMap = (this.nsToLevelMapping == null) || (this.nsToLevelMapping.isEmpty());
+		boolean noVlMap = (this.virtualLinkToLevelMapping == null) || (this.virtualLinkToLevelMapping.isEmpty());
+		context.validateAll("vnfToLevelMapping", this.vnfToLevelMapping);
+		context.validateAll("nsToLevelMapping", this.nsToLevelMapping);
+		context.validateAll("virtualLinkToLevelMapping", this.virtualLinkToLevelMapping);
+		context.require(!(noNsMap && noVnfMap && noVlMap), "NS level without any mapping declared");
 	}
 
 }
@@ -28,6 +28,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -42,6 +43,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * The NsProfile information element specifies 
@@ -53,7 +56,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class NsProfile implements DescriptorInformationElement {
+public class NsProfile extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -77,12 +80,14 @@ public class NsProfile implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> affinityOrAntiaffinityGroupId = new ArrayList<>();
 	
 	@OneToMany(mappedBy = "nsProfile", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	private List<NsVirtualLinkConnectivity> nsVirtualLinkConnectivity = new ArrayList<>();
 	
@@ -216,7 +221,7 @@ public class NsProfile implements DescriptorInformationElement {
 	 */
 	@JsonProperty("affinityOrAntiaffinityGroupId")
 	public List<String> getAffinityOrAntiaffinityGroupId() {
-		return affinityOrAntiaffinityGroupId;
+		return track(affinityOrAntiaffinityGroupId);
 	}
 	
 	/**
@@ -224,14 +229,14 @@ public class NsProfile implements DescriptorInformationElement {
 	 */
 	@JsonProperty("nsVirtualLinkConnectivity")
 	public List<NsVirtualLinkConnectivity> getNsVirtualLinkConnectivity() {
-		return nsVirtualLinkConnectivity;
+		return track(nsVirtualLinkConnectivity);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.nsProfileId == null) throw new MalformattedElementException("NS profile without ID");
-		if (this.nsdId == null) throw new MalformattedElementException("NS profile without NSD ID");
-		if (this.nsDeploymentFlavourId == null) throw new MalformattedElementException("NS profile without NS DF ID");
+		if (this.nsProfileId == null) throw MalformattedElementException.stackless("NS profile without ID");
+		if (this.nsdId == null) throw MalformattedElementException.stackless("NS profile without NSD ID");
+		if (this.nsDeploymentFlavourId == null) throw MalformattedElementException.stackless("NS profile without NS DF ID");
 		if (this.nsVirtualLinkConnectivity != null) {
 			for (NsVirtualLinkConnectivity vlc : this.nsVirtualLinkConnectivity) vlc.isValid();
 		}
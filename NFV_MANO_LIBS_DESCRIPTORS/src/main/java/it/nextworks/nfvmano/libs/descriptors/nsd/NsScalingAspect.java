@@ -26,6 +26,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -34,6 +35,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * The NsScalingAspect information element describes the details 
@@ -53,7 +56,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class NsScalingAspect implements DescriptorInformationElement {
+public class NsScalingAspect extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -70,6 +73,7 @@ public class NsScalingAspect implements DescriptorInformationElement {
 	
 	@OneToMany(fetch=FetchType.EAGER, mappedBy = "nsScale", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<NsLevel> nsScaleLevel = new ArrayList<>();
 	
 	public NsScalingAspect() {
@@ -146,16 +150,16 @@ public class NsScalingAspect implements DescriptorInformationElement {
 	 */
 	@JsonProperty("nsScaleLevel")
 	public List<NsLevel> getNsScaleLevel() {
-		return nsScaleLevel;
+		return track(nsScaleLevel);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.nsScalingAspectId == null) throw new MalformattedElementException("NS Scaling Aspect without ID");
-		if (this.name == null) throw new MalformattedElementException("NS Scaling Aspect without name");
-		if (this.description == null) throw new MalformattedElementException("NS Scaling Aspect without description");
+		if (this.nsScalingAspectId == null) throw MalformattedElementException.stackless("NS Scaling Aspect without ID");
+		if (this.name == null) throw MalformattedElementException.stackless("NS Scaling Aspect without name");
+		if (this.description == null) throw MalformattedElementException.stackless("NS Scaling Aspect without description");
 		if ((this.nsScaleLevel == null) || (this.nsScaleLevel.isEmpty())) {
-			throw new MalformattedElementException("NS Scaling Aspect without NS level");
+			throw MalformattedElementException.stackless("NS Scaling Aspect without NS level");
 		} else {
 			for (NsLevel l : this.nsScaleLevel) l.isValid();
 		}
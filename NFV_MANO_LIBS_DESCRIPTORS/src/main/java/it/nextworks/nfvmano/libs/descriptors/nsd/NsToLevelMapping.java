@@ -74,7 +74,7 @@ public class NsToLevelMapping implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.nsProfileId == null) throw new MalformattedElementException("NS to level mapping without NS profile ID");
+		if (this.nsProfileId == null) throw MalformattedElementException.stackless("NS to level mapping without NS profile ID");
 	}
 
 }
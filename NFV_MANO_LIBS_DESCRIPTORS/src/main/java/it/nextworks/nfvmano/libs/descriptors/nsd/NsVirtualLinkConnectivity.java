@@ -25,6 +25,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -35,6 +36,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * The NsVirtuallLinkConnectivity information element 
@@ -47,7 +50,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class NsVirtualLinkConnectivity implements DescriptorInformationElement {
+public class NsVirtualLinkConnectivity extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -71,6 +74,7 @@ public class NsVirtualLinkConnectivity implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> cpdId = new ArrayList<>();
 	
@@ -137,14 +141,14 @@ public class NsVirtualLinkConnectivity implements DescriptorInformationElement {
 	 */
 	@JsonProperty("cpdId")
 	public List<String> getCpdId() {
-		return cpdId;
+		return track(cpdId);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.virtualLinkProfileId == null) throw new MalformattedElementException("NS VL connectivity without VL profile ID");
+		if (this.virtualLinkProfileId == null) throw MalformattedElementException.stackless("NS VL connectivity without VL profile ID");
 		if ((this.cpdId == null) || (this.cpdId.isEmpty())) 
-			throw new MalformattedElementException("NS VL connectivity without CPD IDs");
+			throw MalformattedElementException.stackless("NS VL connectivity without CPD IDs");
 	}
 
 }
@@ -28,6 +28,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -40,6 +41,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.common.validation.ValidationContext;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.ConnectivityType;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.VirtualLinkDf;
 
@@ -53,7 +57,7 @@ import it.nextworks.nfvmano.libs.descriptors.common.elements.VirtualLinkDf;
  *
  */
 @Entity
-public class NsVirtualLinkDesc implements DescriptorInformationElement{
+public class NsVirtualLinkDesc extends TrackedElement implements DescriptorInformationElement{
 
 	@Id
     @GeneratedValue
@@ -76,11 +80,13 @@ public class NsVirtualLinkDesc implements DescriptorInformationElement{
 	
 	@OneToMany(fetch=FetchType.EAGER, mappedBy = "nsVld", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<VirtualLinkDf> virtualLinkDf = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> testAccess = new ArrayList<>();
 	
@@ -164,7 +170,7 @@ public class NsVirtualLinkDesc implements DescriptorInformationElement{
 	 */
 	@JsonProperty("virtualLinkDf")
 	public List<VirtualLinkDf> getVirtualLinkDf() {
-		return virtualLinkDf;
+		return track(virtualLinkDf);
 	}
 
 	/**
@@ -172,7 +178,7 @@ public class NsVirtualLinkDesc implements DescriptorInformationElement{
 	 */
 	@JsonProperty("testAccess")
 	public List<String> getTestAccess() {
-		return testAccess;
+		return track(testAccess);
 	}
 
 	/**
@@ -194,20 +200,26 @@ public class NsVirtualLinkDesc implements DescriptorInformationElement{
 	@JsonIgnore
 	public void addDeploymentFlavour(VirtualLinkDf df) {
 		this.virtualLinkDf.add(df);
+		touch();
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.virtualLinkDescId == null) throw new MalformattedElementException("VLD without ID");
-		if (this.virtuaLinkDescVersion == null) throw new MalformattedElementException("VLD without version");
+		ValidationContext.requireValid(this);
+	}
+	
+	@Override
+	public void validate(ValidationContext context) {
+		context.require(this.virtualLinkDescId != null, "VLD without ID");
+		context.require(this.virtuaLinkDescVersion != null, "VLD without version");
 		if ((this.virtualLinkDf == null) || (this.virtualLinkDf.isEmpty())) {
-			throw new MalformattedElementException("VLD without deployment flavour");
+			context.reportViolation("VLD without deployment flavour");
 		} else {
-			for (VirtualLinkDf df : this.virtualLinkDf) df.isValid();
+			context.validateAll("virtualLinkDf", this.virtualLinkDf);
 		}
-		if (this.security != null) this.security.isValid();
+		context.validate("security", this.security);
 		if (this.connectivityType == null) {
-			throw new MalformattedElementException("VLD without connectivity type");
-		} else this.connectivityType.isValid();
+			context.reportViolation("VLD without connectivity type");
+		} else context.validate("connectivityType", this.connectivityType);
 	}
 }
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import javax.persistence.CascadeType;
 import javax.persistence.ElementCollection;
@@ -27,13 +28,15 @@ import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedEntityGraphs;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToMany;
+import javax.persistence.Transient;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
-import org.hibernate.annotations.Fetch;
-import org.hibernate.annotations.FetchMode;
-import org.hibernate.annotations.LazyCollection;
-import org.hibernate.annotations.LazyCollectionOption;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -43,8 +46,15 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
+import it.nextworks.nfvmano.libs.common.VersionedDescriptor;
+import it.nextworks.nfvmano.libs.common.collections.IdIndex;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
 import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
+import it.nextworks.nfvmano.libs.common.fingerprint.Fingerprint;
+import it.nextworks.nfvmano.libs.common.fingerprint.MerkleHasher;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.common.validation.ValidationContext;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.LifeCycleManagementScript;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.VirtualLinkProfile;
 import it.nextworks.nfvmano.libs.records.nsinfo.UserAccessInfo;
@@ -58,7 +68,81 @@ import it.nextworks.nfvmano.libs.records.nsinfo.UserAccessInfo;
  *
  */
 @Entity
-public class Nsd implements DescriptorInformationElement {
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = FetchProfiles.NSD_SUMMARY),
+	@NamedEntityGraph(name = FetchProfiles.NSD_DEPLOYMENT, attributeNodes = {
+		@NamedAttributeNode(value = "nsDf", subgraph = "nsDf"),
+		@NamedAttributeNode("nestedNsdId"),
+		@NamedAttributeNode("vnfdId"),
+		@NamedAttributeNode("pnfdId"),
+		@NamedAttributeNode("sapd"),
+		@NamedAttributeNode("virtualLinkDesc")
+	}, subgraphs = {
+		@NamedSubgraph(name = "nsDf", attributeNodes = {
+			@NamedAttributeNode(value = "vnfProfile", subgraph = "vnfProfile"),
+			@NamedAttributeNode("pnfProfile"),
+			@NamedAttributeNode(value = "virtualLinkProfile", subgraph = "virtualLinkProfile"),
+			@NamedAttributeNode(value = "nsInstantiationLevel", subgraph = "nsInstantiationLevel"),
+			@NamedAttributeNode("nsProfile"),
+			@NamedAttributeNode("dependencies")
+		}),
+		@NamedSubgraph(name = "vnfProfile", attributeNodes = {
+			@NamedAttributeNode("localAffinityOrAntiAffinityRule"),
+			@NamedAttributeNode("affinityOrAntiAffinityGroupId"),
+			@NamedAttributeNode("nsVirtualLinkConnectivity"),
+			@NamedAttributeNode("script")
+		}),
+		@NamedSubgraph(name = "virtualLinkProfile", attributeNodes = {
+			@NamedAttributeNode("localAffinityOrAntiAffinityRule"),
+			@NamedAttributeNode("affinityOrAntiAffinityGroupId")
+		}),
+		@NamedSubgraph(name = "nsInstantiationLevel", attributeNodes = {
+			@NamedAttributeNode("vnfToLevelMapping"),
+			@NamedAttributeNode("nsToLevelMapping"),
+			@NamedAttributeNode("virtualLinkToLevelMapping")
+		})
+	}),
+	@NamedEntityGraph(name = FetchProfiles.NSD_FULL, attributeNodes = {
+		@NamedAttributeNode(value = "nsDf", subgraph = "nsDf"),
+		@NamedAttributeNode("nestedNsdId"),
+		@NamedAttributeNode("vnfdId"),
+		@NamedAttributeNode("pnfdId"),
+		@NamedAttributeNode("sapd"),
+		@NamedAttributeNode("virtualLinkDesc"),
+		@NamedAttributeNode("vnffgd"),
+		@NamedAttributeNode("monitoredInfo"),
+		@NamedAttributeNode("autoScalingRule"),
+		@NamedAttributeNode("lifeCycleManagementScript")
+	}, subgraphs = {
+		@NamedSubgraph(name = "nsDf", attributeNodes = {
+			@NamedAttributeNode(value = "vnfProfile", subgraph = "vnfProfile"),
+			@NamedAttributeNode("pnfProfile"),
+			@NamedAttributeNode(value = "virtualLinkProfile", subgraph = "virtualLinkProfile"),
+			@NamedAttributeNode(value = "nsInstantiationLevel", subgraph = "nsInstantiationLevel"),
+			@NamedAttributeNode("nsProfile"),
+			@NamedAttributeNode("dependencies"),
+			@NamedAttributeNode("scalingAspect"),
+			@NamedAttributeNode("affinityOrAntiAffinityGroup")
+		}),
+		@NamedSubgraph(name = "vnfProfile", attributeNodes = {
+			@NamedAttributeNode("localAffinityOrAntiAffinityRule"),
+			@NamedAttributeNode("affinityOrAntiAffinityGroupId"),
+			@NamedAttributeNode("nsVirtualLinkConnectivity"),
+			@NamedAttributeNode("script")
+		}),
+		@NamedSubgraph(name = "virtualLinkProfile", attributeNodes = {
+			@NamedAttributeNode("localAffinityOrAntiAffinityRule"),
+			@NamedAttributeNode("affinityOrAntiAffinityGroupId")
+		}),
+		@NamedSubgraph(name = "nsInstantiationLevel", attributeNodes = {
+			@NamedAttributeNode("vnfToLevelMapping"),
+			@NamedAttributeNode("nsToLevelMapping"),
+			@NamedAttributeNode("virtualLinkToLevelMapping")
+		})
+	})
+})
+@BatchSize(size = FetchProfiles.BATCH_SIZE)
+public class Nsd extends TrackedElement implements DescriptorInformationElement, VersionedDescriptor {
 	
 	@Id
     @GeneratedValue
@@ -72,67 +156,79 @@ public class Nsd implements DescriptorInformationElement {
 	private String nsdInvariantId;
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
-	@ElementCollection(fetch=FetchType.EAGER)
-	@Fetch(FetchMode.SELECT)
+	@ElementCollection(fetch=FetchType.LAZY)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> nestedNsdId = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
-	@ElementCollection(fetch=FetchType.EAGER)
-	@Fetch(FetchMode.SELECT)
+	@ElementCollection(fetch=FetchType.LAZY)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> vnfdId = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
-	@ElementCollection(fetch=FetchType.EAGER)
-	@Fetch(FetchMode.SELECT)
+	@ElementCollection(fetch=FetchType.LAZY)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> pnfdId = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "nsd", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<Sapd> sapd = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "nsd", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<NsVirtualLinkDesc> virtualLinkDesc = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "nsd", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<Vnffgd> vnffgd = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "nsd", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<MonitoredData> monitoredInfo = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "nsd", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<NsAutoscalingRule> autoScalingRule = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "nsd", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<LifeCycleManagementScript> lifeCycleManagementScript = new ArrayList<>();
 	
 	@OneToMany(mappedBy = "nsd", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<NsDf> nsDf = new ArrayList<>();
 	
 	@Embedded
 	private SecurityParameters security;
 	
+	@Transient
+	@JsonIgnore
+	private transient volatile IdIndex<NsDf> nsDfIndex;
+	
+	@Transient
+	@JsonIgnore
+	private transient volatile IdIndex<Sapd> sapdIndex;
+	
+	@Transient
+	@JsonIgnore
+	private transient volatile IdIndex<Sapd> sapdByVlIndex;
+	
 	public Nsd() {
 		//JPA only
 	}
@@ -257,6 +353,18 @@ public class Nsd implements DescriptorInformationElement {
 		return version;
 	}
 
+	@Override
+	@JsonIgnore
+	public String getDescriptorId() {
+		return nsdIdentifier;
+	}
+
+	@Override
+	@JsonIgnore
+	public String getDescriptorVersion() {
+		return version;
+	}
+
 	/**
 	 * @return the nsdName
 	 */
@@ -278,7 +386,7 @@ public class Nsd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("nestedNsdId")
 	public List<String> getNestedNsdId() {
-		return nestedNsdId;
+		return track(nestedNsdId);
 	}
 
 	/**
@@ -286,7 +394,7 @@ public class Nsd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("vnfdId")
 	public List<String> getVnfdId() {
-		return vnfdId;
+		return track(vnfdId);
 	}
 
 	/**
@@ -294,7 +402,7 @@ public class Nsd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("pnfdId")
 	public List<String> getPnfdId() {
-		return pnfdId;
+		return track(pnfdId);
 	}
 
 	/**
@@ -302,7 +410,7 @@ public class Nsd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("sapd")
 	public List<Sapd> getSapd() {
-		return sapd;
+		return track(sapd);
 	}
 
 	/**
@@ -310,7 +418,7 @@ public class Nsd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("virtualLinkDesc")
 	public List<NsVirtualLinkDesc> getVirtualLinkDesc() {
-		return virtualLinkDesc;
+		return track(virtualLinkDesc);
 	}
 
 	/**
@@ -318,7 +426,7 @@ public class Nsd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("vnffgd")
 	public List<Vnffgd> getVnffgd() {
-		return vnffgd;
+		return track(vnffgd);
 	}
 
 	/**
@@ -326,7 +434,7 @@ public class Nsd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("monitoredInfo")
 	public List<MonitoredData> getMonitoredInfo() {
-		return monitoredInfo;
+		return track(monitoredInfo);
 	}
 
 	/**
@@ -334,7 +442,7 @@ public class Nsd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("autoScalingRule")
 	public List<NsAutoscalingRule> getAutoScalingRule() {
-		return autoScalingRule;
+		return track(autoScalingRule);
 	}
 
 	/**
@@ -342,7 +450,7 @@ public class Nsd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("lifeCycleManagementScript")
 	public List<LifeCycleManagementScript> getLifeCycleManagementScript() {
-		return lifeCycleManagementScript;
+		return track(lifeCycleManagementScript);
 	}
 
 	/**
@@ -350,7 +458,7 @@ public class Nsd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("nsDf")
 	public List<NsDf> getNsDf() {
-		return nsDf;
+		return track(nsDf);
 	}
 
 	/**
@@ -361,40 +469,43 @@ public class Nsd implements DescriptorInformationElement {
 		return security;
 	}
 
+	/**
+	 * Returns the content-addressed fingerprint of the NSD, computed by the
+	 * default MerkleHasher: two NSDs with the same content have the same fingerprint.
+	 * 
+	 * @return the fingerprint
+	 */
+	public Fingerprint fingerprint() {
+		return MerkleHasher.getDefault().fingerprint(this);
+	}
+
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.nsdIdentifier == null) throw new MalformattedElementException("NSD without NDS ID");
-		if (this.designer == null) throw new MalformattedElementException("NSD without designer");
-		if (this.version == null) throw new MalformattedElementException("NSD without version");
-		if (this.nsdName == null) throw new MalformattedElementException("NSD without NDS name");
-		if (this.nsdInvariantId == null) throw new MalformattedElementException("NSD without NDS Invariant ID");
-		if ((this.nestedNsdId.isEmpty()) && (this.vnfdId.isEmpty())) throw new MalformattedElementException("NSD with nested NSD and VNFD ID both empty");
-		if (this.sapd != null) {
-			for (Sapd s : this.sapd) s.isValid();
-		}
-		if (this.virtualLinkDesc != null) {
-			for (NsVirtualLinkDesc vl : this.virtualLinkDesc) vl.isValid();
-		}
-		if (this.vnffgd != null) {
-			for (Vnffgd fg : this.vnffgd) fg.isValid();
-		}
-		if (this.monitoredInfo != null) {
-			for (MonitoredData mi : this.monitoredInfo) mi.isValid();
-		}
-		if (this.autoScalingRule != null) {
-			for (NsAutoscalingRule rule : this.autoScalingRule) rule.isValid();
-		}
+		ValidationContext.requireValid(this);
+	}
+	
+	@Override
+	public void validate(ValidationContext context) {
+		context.require(this.nsdIdentifier != null, "NSD without NDS ID");
+		context.require(this.designer != null, "NSD without designer");
+		context.require(this.version != null, "NSD without version");
+		context.require(this.nsdName != null, "NSD without NDS name");
+		context.require(this.nsdInvariantId != null, "NSD without NDS Invariant ID");
+		context.require(!((this.nestedNsdId.isEmpty()) && (this.vnfdId.isEmpty())), "NSD with nested NSD and VNFD ID both empty");
+		context.validateAll("sapd", this.sapd);
+		context.validateAll("virtualLinkDesc", this.virtualLinkDesc);
+		context.validateAll("vnffgd", this.vnffgd);
+		context.validateAll("monitoredInfo", this.monitoredInfo);
+		context.validateAll("autoScalingRule", this.autoScalingRule);
 		if ((this.nsDf == null) || (this.nsDf.isEmpty())) {
-			throw new MalformattedElementException("NSD without deployment flavour");
+			context.reportViolation("NSD without deployment flavour");
 		} else {
-			for (NsDf df : this.nsDf) df.isValid();
-		}
-		if (this.lifeCycleManagementScript != null) {
-			for (LifeCycleManagementScript lcmScript : this.lifeCycleManagementScript) lcmScript.isValid();
+			context.validateAll("nsDf", this.nsDf);
 		}
+		context.validateAll("lifeCycleManagementScript", this.lifeCycleManagementScript);
 		if (this.security == null) {
-			throw new MalformattedElementException("NSD without security parameters");
-		} else this.security.isValid();
+			context.reportViolation("NSD without security parameters");
+		} else context.validate("security", this.security);
 	}
 	
 	@JsonIgnore
@@ -406,10 +517,23 @@ public class Nsd implements DescriptorInformationElement {
 	 * @throws NotExistingEntityException if the deployment flavour with the given ID does not exist
 	 */
 	public NsDf getNsDeploymentFlavour(String dfId) throws NotExistingEntityException {
-		for (NsDf df : nsDf) {
-			if (df.getNsDfId().equals(dfId)) return df;
-		}
-		throw new NotExistingEntityException("NS Deployment Flavour " + dfId + " not found.");
+		Optional<NsDf> df = findNsDeploymentFlavour(dfId);
+		if (!df.isPresent()) throw NotExistingEntityException.stackless("NS Deployment Flavour " + dfId + " not found.");
+		return df.get();
+	}
+	
+	/**
+	 * Looks up the NS Deployment Flavour with the given ID, without raising 
+	 * an exception when it does not exist.
+	 * 
+	 * @param dfId ID of the deployment flavour
+	 * @return the NS deployment flavour, or an empty optional if it does not exist
+	 */
+	@JsonIgnore
+	public Optional<NsDf> findNsDeploymentFlavour(String dfId) {
+		IdIndex<NsDf> index = IdIndex.of(nsDfIndex, nsDf, getModificationStamp(), NsDf::getNsDfId);
+		nsDfIndex = index;
+		return index.find(dfId);
 	}
 	
 	@JsonIgnore
@@ -420,10 +544,20 @@ public class Nsd implements DescriptorInformationElement {
 	 * @return the NS SAP.
 	 */
 	public Sapd getSapForVl(String vldId) {
-		for (Sapd s : sapd) {
-			if (s.getNsVirtualLinkDescId().equals(vldId)) return s;
-		}
-		return null;
+		return findSapForVl(vldId).orElse(null);
+	}
+	
+	/**
+	 * Looks up the NS SAP attached to the NS VL with the given VLD ID.
+	 * 
+	 * @param vldId ID of the VL attached to the requested SAP.
+	 * @return the NS SAP, or an empty optional if no SAP is attached to the VL
+	 */
+	@JsonIgnore
+	public Optional<Sapd> findSapForVl(String vldId) {
+		IdIndex<Sapd> index = IdIndex.of(sapdByVlIndex, sapd, getModificationStamp(), Sapd::getNsVirtualLinkDescId);
+		sapdByVlIndex = index;
+		return index.find(vldId);
 	}
 	
 	@JsonIgnore
@@ -434,10 +568,20 @@ public class Nsd implements DescriptorInformationElement {
 	 * @return the NS SAP
 	 */
 	public Sapd getSapFromSapId(String sapdId) {
-		for (Sapd s: sapd) {
-			if (s.getCpdId().equals(sapdId)) return s;
-		}
-		return null;
+		return findSapFromSapId(sapdId).orElse(null);
+	}
+	
+	/**
+	 * Looks up the NS SAP for the given SAP ID.
+	 * 
+	 * @param sapdId the ID of the requested SAP
+	 * @return the NS SAP, or an empty optional if it does not exist
+	 */
+	@JsonIgnore
+	public Optional<Sapd> findSapFromSapId(String sapdId) {
+		IdIndex<Sapd> index = IdIndex.of(sapdIndex, sapd, getModificationStamp(), Sapd::getCpdId);
+		sapdIndex = index;
+		return index.find(sapdId);
 	}
 	
 	/**
@@ -454,25 +598,14 @@ public class Nsd implements DescriptorInformationElement {
 	public Map<String,Map<String, String>> getVnfdDataFromFlavour(String nsFlavourId, String nsInstantiationLevel)
 			throws NotExistingEntityException {
 		Map<String,Map<String, String>> vnfdIds = new HashMap<>();
-		NsDf nsDeploymentFlavour = getNsDeploymentFlavour(nsFlavourId);
-		NsLevel nsLevel;
-		if (nsInstantiationLevel != null) nsLevel = nsDeploymentFlavour.getNsLevel(nsInstantiationLevel);
-		else nsLevel = nsDeploymentFlavour.getDefaultInstantiationLevel();
-		List<VnfToLevelMapping> vnfLevels = nsLevel.getVnfToLevelMapping();
-		for (VnfToLevelMapping vnf : vnfLevels) {
-			VnfProfile vnfProfile = nsDeploymentFlavour.getVnfProfile(vnf.getVnfProfileId());
-			int numInstances = vnf.getNumberOfInstances();
-			String vnfdId = vnfProfile.getVnfdId();
-			String vnfFlavourId = vnfProfile.getFlavourId();
-			String vnfInstantiationLevel = vnfProfile.getInstantiationLevel();
-			
+		for (ResolvedNsDeployment.ResolvedVnf vnf : resolveDeployment(nsFlavourId, nsInstantiationLevel).getVnfs()) {
 			Map<String,String> vnfdDetail = new HashMap<>();
-			vnfdDetail.put("VNFD_ID", vnfdId);
-			vnfdDetail.put("VNF_DF_ID", vnfFlavourId);
-			vnfdDetail.put("VNF_INSTANCES", String.valueOf(numInstances));
-			vnfdDetail.put("VNF_INSTANTIATION_LEVEL", vnfInstantiationLevel);
+			vnfdDetail.put("VNFD_ID", vnf.getVnfdId());
+			vnfdDetail.put("VNF_DF_ID", vnf.getVnfDfId());
+			vnfdDetail.put("VNF_INSTANCES", String.valueOf(vnf.getNumberOfInstances()));
+			vnfdDetail.put("VNF_INSTANTIATION_LEVEL", vnf.getVnfInstantiationLevelId());
 			
-			vnfdIds.put(vnfdId, vnfdDetail);
+			vnfdIds.put(vnf.getVnfdId(), vnfdDetail);
 		}
 		
 		return vnfdIds;
@@ -483,38 +616,39 @@ public class Nsd implements DescriptorInformationElement {
 	public List<UserAccessInfo> getUserAccessInfo(String nsFlavourId, String nsInstantiationLevel) 
 		throws NotExistingEntityException {
 		
-		List<UserAccessInfo> uais = new ArrayList<>(); 
+		ResolvedNsDeployment deployment = resolveDeployment(nsFlavourId, nsInstantiationLevel);
+		if (!deployment.getMissingVirtualLinkProfiles().isEmpty()) {
+			throw NotExistingEntityException.stackless("VL profile for VL profile ID " + deployment.getMissingVirtualLinkProfiles().get(0) + " not found");
+		}
 		
-		//Read the right NS level
+		//user access info are updated by the callers, hence they are created on each call
+		List<UserAccessInfo> uais = new ArrayList<>(); 
+		for (ResolvedNsDeployment.AccessPoint ap : deployment.getAccessPoints()) {
+			uais.add(new UserAccessInfo(ap.getSapdId(), ap.getVnfdId(), null, ap.getVnfExtCpdId(), null));
+		}
+		return uais;
+	}
+	
+	/**
+	 * Returns the deployment of the NSD for the given NS flavour ID and NS instantiation level,
+	 * resolved from the current content of the NSD. The returned deployment is an immutable 
+	 * snapshot, which can be shared by the steps of an operation (e.g. instantiation).
+	 * The deployments of the on-boarded NSDs can be shared also by different operations 
+	 * through the NsDeploymentCache of the catalogue interfaces.
+	 * 
+	 * @param nsFlavourId the NS Flavour ID
+	 * @param nsInstantiationLevel the NS Instantiation level ID, null for the default NS level
+	 * @return the resolved deployment
+	 * @throws NotExistingEntityException if the deployment flavour, the NS instantiation level or their VNF profiles do not exist
+	 */
+	@JsonIgnore
+	public ResolvedNsDeployment resolveDeployment(String nsFlavourId, String nsInstantiationLevel) 
+		throws NotExistingEntityException {
 		NsDf nsDeploymentFlavour = getNsDeploymentFlavour(nsFlavourId);
 		NsLevel nsLevel;
 		if (nsInstantiationLevel != null) nsLevel = nsDeploymentFlavour.getNsLevel(nsInstantiationLevel);
 		else nsLevel = nsDeploymentFlavour.getDefaultInstantiationLevel();
-		
-		//Read the VNFs in the NS level and verify if they are connected to a VL associated to a SAP. This info is in the VNF profile
-		List<VnfToLevelMapping> vnfLevels = nsLevel.getVnfToLevelMapping();
-		for (VnfToLevelMapping vnf : vnfLevels) {
-			VnfProfile vnfProfile = nsDeploymentFlavour.getVnfProfile(vnf.getVnfProfileId());
-			String vnfdId = vnfProfile.getVnfdId();
-			
-			//Get all the VLs the VNF is connected to.
-			List<NsVirtualLinkConnectivity> nsVlConns = vnfProfile.getNsVirtualLinkConnectivity();
-			for (NsVirtualLinkConnectivity nsVlConn : nsVlConns) {
-				
-				//For each of the VLs connected to the VNF, it checks if the VL is connected to a SAP
-				String vlProfileId = nsVlConn.getVirtualLinkProfileId();
-				VirtualLinkProfile vlp = nsDeploymentFlavour.getVirtualLinkProfile(vlProfileId);
-				String vldId = vlp.getVirtualLinkDescId();
-				Sapd sapd = getSapForVl(vldId);
-				if (sapd != null) {
-					//This means that the VL of the current VL profile is associated to a SAP
-					UserAccessInfo uai = new UserAccessInfo(sapd.getCpdId(), vnfdId, null, nsVlConn.getCpdId().get(0), null);
-					uais.add(uai);
-				}
-			}
-		}
-		
-		return uais;
+		return ResolvedNsDeployment.resolve(this, nsDeploymentFlavour, nsLevel);
 	}
 	
 }
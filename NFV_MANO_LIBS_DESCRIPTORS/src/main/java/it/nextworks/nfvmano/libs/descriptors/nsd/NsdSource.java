@@ -0,0 +1,42 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.descriptors.nsd;
+
+import java.util.Collection;
+import java.util.Map;
+
+import it.nextworks.nfvmano.libs.common.exceptions.FailedOperationException;
+
+/**
+ * Source of the NSDs used by the {@link NestedNsdResolver}, e.g. an NSD catalogue 
+ * or its persistence layer. Implementations should retrieve all the requested 
+ * NSDs in a single round trip.
+ * 
+ * @author nextworks
+ *
+ */
+public interface NsdSource {
+
+	/**
+	 * Retrieves a batch of NSDs
+	 * 
+	 * @param nsdIds the IDs of the NSDs
+	 * @return the NSDs found, by NSD ID; the NSDs not found are omitted
+	 * @throws FailedOperationException if the NSDs cannot be retrieved
+	 */
+	public Map<String, Nsd> getNsds(Collection<String> nsdIds) throws FailedOperationException;
+	
+}
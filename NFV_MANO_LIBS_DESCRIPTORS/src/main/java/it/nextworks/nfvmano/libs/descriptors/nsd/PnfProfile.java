@@ -25,6 +25,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
 import org.hibernate.annotations.OnDelete;
@@ -35,6 +36,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 
 /**
@@ -45,7 +48,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class PnfProfile implements DescriptorInformationElement {
+public class PnfProfile extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -63,6 +66,7 @@ public class PnfProfile implements DescriptorInformationElement {
 	@OneToMany(mappedBy = "pnfProfile", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<NsVirtualLinkConnectivity> nsVirtualLinkConnectivity = new ArrayList<>();
 	
 	public PnfProfile() {
@@ -123,15 +127,15 @@ public class PnfProfile implements DescriptorInformationElement {
 	 */
 	@JsonProperty("pnfVirtualLinkConnectivity")
 	public List<NsVirtualLinkConnectivity> getNsVirtualLinkConnectivity() {
-		return nsVirtualLinkConnectivity;
+		return track(nsVirtualLinkConnectivity);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.pnfdId == null) throw new MalformattedElementException("PNF profile without PNFD ID");
-		if (this.pnfProfileId == null) throw new MalformattedElementException("PNF profile without profile ID");
+		if (this.pnfdId == null) throw MalformattedElementException.stackless("PNF profile without PNFD ID");
+		if (this.pnfProfileId == null) throw MalformattedElementException.stackless("PNF profile without profile ID");
 		if ((this.nsVirtualLinkConnectivity == null) || (this.nsVirtualLinkConnectivity.isEmpty())) {
-			throw new MalformattedElementException("PNF profile without NS VL connectivity");
+			throw MalformattedElementException.stackless("PNF profile without NS VL connectivity");
 		} else {
 			for (NsVirtualLinkConnectivity vlc : this.nsVirtualLinkConnectivity) vlc.isValid();
 		}
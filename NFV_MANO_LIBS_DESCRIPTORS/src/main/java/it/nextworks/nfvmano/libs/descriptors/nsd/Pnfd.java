@@ -27,6 +27,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -39,6 +40,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * The Pnfd information element is a deployment template 
@@ -51,7 +54,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class Pnfd implements DescriptorInformationElement {
+public class Pnfd extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -64,6 +67,7 @@ public class Pnfd implements DescriptorInformationElement {
 	
 	@OneToMany(fetch=FetchType.EAGER, mappedBy = "pnfd", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<PnfExtCpd> pnfExtCp = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_NULL)
@@ -73,6 +77,7 @@ public class Pnfd implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> configurableProperty = new ArrayList<>();	//this is not standard
 	
@@ -138,7 +143,7 @@ public class Pnfd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("pnfExtCp")
 	public List<PnfExtCpd> getPnfExtCp() {
-		return pnfExtCp;
+		return track(pnfExtCp);
 	}
 
 	/**
@@ -154,17 +159,17 @@ public class Pnfd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("configurableProperty")
 	public List<String> getConfigurableProperty() {
-		return configurableProperty;
+		return track(configurableProperty);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (pnfdId == null) throw new MalformattedElementException("PNFD without ID");
-		if (provider == null) throw new MalformattedElementException("PNFD without provider");
-		if (version == null) throw new MalformattedElementException("PNFD without version");
+		if (pnfdId == null) throw MalformattedElementException.stackless("PNFD without ID");
+		if (provider == null) throw MalformattedElementException.stackless("PNFD without provider");
+		if (version == null) throw MalformattedElementException.stackless("PNFD without version");
 		if (security != null) security.isValid();
 		if ((pnfExtCp == null) || (pnfExtCp.isEmpty())) {
-			throw new MalformattedElementException("PNFD without external connection points");
+			throw MalformattedElementException.stackless("PNFD without external connection points");
 		} else {
 			for (PnfExtCpd cp : this.pnfExtCp) cp.isValid();
 		}
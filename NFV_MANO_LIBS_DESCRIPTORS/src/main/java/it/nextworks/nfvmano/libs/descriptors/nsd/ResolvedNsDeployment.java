@@ -0,0 +1,371 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.descriptors.nsd;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
+import it.nextworks.nfvmano.libs.descriptors.common.elements.VirtualLinkProfile;
+
+/**
+ * Deployment of an NSD for a given NS deployment flavour and NS instantiation level, 
+ * resolved from the VNF profiles, the VL profiles and the SAPs of the NSD: 
+ * the VNFs to be instantiated with their flavours, levels and number of instances,
+ * the connectivity of the VLs, the SAPs of the VLs and the user access points.
+ * 
+ * The deployment is an immutable snapshot computed in a single pass by 
+ * {@link Nsd#resolveDeployment(String, String)}, so that the steps of an operation 
+ * (e.g. instantiation, scaling and presentation) can share it. It is not cached 
+ * by the NSD, whose elements can be changed in place through its getters.
+ * 
+ * @author nextworks
+ *
+ */
+public class ResolvedNsDeployment {
+
+	private final String nsdId;
+	private final String nsDfId;
+	private final String nsLevelId;
+	private final List<ResolvedVnf> vnfs;
+	private final Map<String, ResolvedVnf> vnfsByVnfdId;
+	private final Map<String, VlConnectivity> vlConnectivity;
+	private final Map<String, String> vlToSap;
+	private final List<AccessPoint> accessPoints;
+	private final List<String> missingVirtualLinkProfiles;
+	
+	private ResolvedNsDeployment(String nsdId, String nsDfId, String nsLevelId, List<ResolvedVnf> vnfs,
+			Map<String, VlConnectivity> vlConnectivity, Map<String, String> vlToSap, 
+			List<AccessPoint> accessPoints, List<String> missingVirtualLinkProfiles) {
+		this.nsdId = nsdId;
+		this.nsDfId = nsDfId;
+		this.nsLevelId = nsLevelId;
+		this.vnfs = Collections.unmodifiableList(vnfs);
+		Map<String, ResolvedVnf> byVnfdId = new LinkedHashMap<>();
+		for (ResolvedVnf vnf : vnfs) byVnfdId.put(vnf.getVnfdId(), vnf);
+		this.vnfsByVnfdId = Collections.unmodifiableMap(byVnfdId);
+		this.vlConnectivity = Collections.unmodifiableMap(vlConnectivity);
+		this.vlToSap = Collections.unmodifiableMap(vlToSap);
+		this.accessPoints = Collections.unmodifiableList(accessPoints);
+		this.missingVirtualLinkProfiles = Collections.unmodifiableList(missingVirtualLinkProfiles);
+	}
+	
+	/**
+	 * Resolves the deployment of an NSD
+	 * 
+	 * @param nsd the NSD
+	 * @param df the NS deployment flavour
+	 * @param level the NS instantiation level
+	 * @return the resolved deployment
+	 * @throws NotExistingEntityException if a VNF profile of the level does not exist
+	 */
+	static ResolvedNsDeployment resolve(Nsd nsd, NsDf df, NsLevel level) throws NotExistingEntityException {
+		List<ResolvedVnf> vnfs = new ArrayList<>();
+		Map<String, List<ConnectedVnf>> connections = new LinkedHashMap<>();
+		Map<String, String> vlToSap = new LinkedHashMap<>();
+		List<AccessPoint> accessPoints = new ArrayList<>();
+		List<String> missing = new ArrayList<>();
+		
+		for (VnfToLevelMapping mapping : level.getVnfToLevelMapping()) {
+			VnfProfile vnfProfile = df.getVnfProfile(mapping.getVnfProfileId());
+			vnfs.add(new ResolvedVnf(vnfProfile.getVnfProfileId(), vnfProfile.getVnfdId(), vnfProfile.getFlavourId(), 
+					vnfProfile.getInstantiationLevel(), mapping.getNumberOfInstances()));
+			for (NsVirtualLinkConnectivity conn : vnfProfile.getNsVirtualLinkConnectivity()) {
+				String vlProfileId = conn.getVirtualLinkProfileId();
+				List<String> cpdIds = Collections.unmodifiableList(new ArrayList<>(conn.getCpdId()));
+				List<ConnectedVnf> connected = connections.get(vlProfileId);
+				if (connected == null) {
+					connected = new ArrayList<>();
+					connections.put(vlProfileId, connected);
+				}
+				connected.add(new ConnectedVnf(vnfProfile.getVnfProfileId(), vnfProfile.getVnfdId(), cpdIds));
+				
+				Optional<VirtualLinkProfile> vlp = df.findVirtualLinkProfile(vlProfileId);
+				if (!vlp.isPresent()) {
+					if (!missing.contains(vlProfileId)) missing.add(vlProfileId);
+					continue;
+				}
+				String vldId = vlp.get().getVirtualLinkDescId();
+				Optional<Sapd> sapd = nsd.findSapForVl(vldId);
+				if (!sapd.isPresent()) continue;
+				vlToSap.put(vldId, sapd.get().getCpdId());
+				accessPoints.add(new AccessPoint(sapd.get().getCpdId(), vnfProfile.getVnfdId(), cpdIds.isEmpty() ? null : cpdIds.get(0)));
+			}
+		}
+		
+		Map<String, VlConnectivity> vlConnectivity = new LinkedHashMap<>();
+		for (Map.Entry<String, List<ConnectedVnf>> e : connections.entrySet()) {
+			Optional<VirtualLinkProfile> vlp = df.findVirtualLinkProfile(e.getKey());
+			String vldId = vlp.isPresent() ? vlp.get().getVirtualLinkDescId() : null;
+			vlConnectivity.put(e.getKey(), new VlConnectivity(e.getKey(), vldId, (vldId != null) ? vlToSap.get(vldId) : null, 
+					Collections.unmodifiableList(e.getValue())));
+		}
+		
+		return new ResolvedNsDeployment(nsd.getNsdIdentifier(), df.getNsDfId(), level.getNsLevelId(), vnfs, 
+				vlConnectivity, vlToSap, accessPoints, missing);
+	}
+	
+	/**
+	 * @return the ID of the NSD
+	 */
+	public String getNsdId() {
+		return nsdId;
+	}
+
+	/**
+	 * @return the ID of the NS deployment flavour
+	 */
+	public String getNsDfId() {
+		return nsDfId;
+	}
+
+	/**
+	 * @return the ID of the NS instantiation level
+	 */
+	public String getNsLevelId() {
+		return nsLevelId;
+	}
+
+	/**
+	 * @return the VNFs of the NS instantiation level, in the order of its VNF to level mappings
+	 */
+	public List<ResolvedVnf> getVnfs() {
+		return vnfs;
+	}
+	
+	/**
+	 * @param vnfdId ID of the VNFD
+	 * @return the VNF with the given VNFD ID; if more VNF profiles refer to the VNFD, the last one
+	 */
+	public Optional<ResolvedVnf> findVnfByVnfdId(String vnfdId) {
+		return Optional.ofNullable(vnfsByVnfdId.get(vnfdId));
+	}
+	
+	/**
+	 * @return the VNFs by VNFD ID; if more VNF profiles refer to the same VNFD, the last one
+	 */
+	public Map<String, ResolvedVnf> getVnfsByVnfdId() {
+		return vnfsByVnfdId;
+	}
+
+	/**
+	 * @return the connectivity of the VLs, by VL profile ID
+	 */
+	public Map<String, VlConnectivity> getVlConnectivity() {
+		return vlConnectivity;
+	}
+
+	/**
+	 * @return the IDs of the SAPs of the VLs connected to the VNFs, by VLD ID
+	 */
+	public Map<String, String> getVlToSap() {
+		return vlToSap;
+	}
+
+	/**
+	 * @return the user access points, i.e. the VNF connection points on VLs with a SAP
+	 */
+	public List<AccessPoint> getAccessPoints() {
+		return accessPoints;
+	}
+
+	/**
+	 * @return the IDs of the VL profiles referred by the VNF profiles but not defined in the deployment flavour
+	 */
+	public List<String> getMissingVirtualLinkProfiles() {
+		return missingVirtualLinkProfiles;
+	}
+	
+	/**
+	 * VNF of a resolved deployment
+	 */
+	public static final class ResolvedVnf {
+		
+		private final String vnfProfileId;
+		private final String vnfdId;
+		private final String vnfDfId;
+		private final String vnfInstantiationLevelId;
+		private final int numberOfInstances;
+		
+		private ResolvedVnf(String vnfProfileId, String vnfdId, String vnfDfId, String vnfInstantiationLevelId, int numberOfInstances) {
+			this.vnfProfileId = vnfProfileId;
+			this.vnfdId = vnfdId;
+			this.vnfDfId = vnfDfId;
+			this.vnfInstantiationLevelId = vnfInstantiationLevelId;
+			this.numberOfInstances = numberOfInstances;
+		}
+
+		/**
+		 * @return the vnfProfileId
+		 */
+		public String getVnfProfileId() {
+			return vnfProfileId;
+		}
+
+		/**
+		 * @return the vnfdId
+		 */
+		public String getVnfdId() {
+			return vnfdId;
+		}
+
+		/**
+		 * @return the vnfDfId
+		 */
+		public String getVnfDfId() {
+			return vnfDfId;
+		}
+
+		/**
+		 * @return the vnfInstantiationLevelId
+		 */
+		public String getVnfInstantiationLevelId() {
+			return vnfInstantiationLevelId;
+		}
+
+		/**
+		 * @return the numberOfInstances
+		 */
+		public int getNumberOfInstances() {
+			return numberOfInstances;
+		}
+	}
+	
+	/**
+	 * Connectivity of a VL of a resolved deployment
+	 */
+	public static final class VlConnectivity {
+		
+		private final String virtualLinkProfileId;
+		private final String virtualLinkDescId;
+		private final String sapdId;
+		private final List<ConnectedVnf> connectedVnfs;
+		
+		private VlConnectivity(String virtualLinkProfileId, String virtualLinkDescId, String sapdId, List<ConnectedVnf> connectedVnfs) {
+			this.virtualLinkProfileId = virtualLinkProfileId;
+			this.virtualLinkDescId = virtualLinkDescId;
+			this.sapdId = sapdId;
+			this.connectedVnfs = connectedVnfs;
+		}
+
+		/**
+		 * @return the virtualLinkProfileId
+		 */
+		public String getVirtualLinkProfileId() {
+			return virtualLinkProfileId;
+		}
+
+		/**
+		 * @return the ID of the VLD, null if the VL profile is not defined
+		 */
+		public String getVirtualLinkDescId() {
+			return virtualLinkDescId;
+		}
+
+		/**
+		 * @return the ID of the SAP of the VL, null if the VL has no SAP
+		 */
+		public String getSapdId() {
+			return sapdId;
+		}
+
+		/**
+		 * @return the VNFs connected to the VL
+		 */
+		public List<ConnectedVnf> getConnectedVnfs() {
+			return connectedVnfs;
+		}
+	}
+	
+	/**
+	 * VNF connected to a VL of a resolved deployment
+	 */
+	public static final class ConnectedVnf {
+		
+		private final String vnfProfileId;
+		private final String vnfdId;
+		private final List<String> cpdIds;
+		
+		private ConnectedVnf(String vnfProfileId, String vnfdId, List<String> cpdIds) {
+			this.vnfProfileId = vnfProfileId;
+			this.vnfdId = vnfdId;
+			this.cpdIds = cpdIds;
+		}
+
+		/**
+		 * @return the vnfProfileId
+		 */
+		public String getVnfProfileId() {
+			return vnfProfileId;
+		}
+
+		/**
+		 * @return the vnfdId
+		 */
+		public String getVnfdId() {
+			return vnfdId;
+		}
+
+		/**
+		 * @return the IDs of the connection point descriptors of the VNF connected to the VL
+		 */
+		public List<String> getCpdIds() {
+			return cpdIds;
+		}
+	}
+	
+	/**
+	 * User access point of a resolved deployment
+	 */
+	public static final class AccessPoint {
+		
+		private final String sapdId;
+		private final String vnfdId;
+		private final String vnfExtCpdId;
+		
+		private AccessPoint(String sapdId, String vnfdId, String vnfExtCpdId) {
+			this.sapdId = sapdId;
+			this.vnfdId = vnfdId;
+			this.vnfExtCpdId = vnfExtCpdId;
+		}
+
+		/**
+		 * @return the sapdId
+		 */
+		public String getSapdId() {
+			return sapdId;
+		}
+
+		/**
+		 * @return the vnfdId
+		 */
+		public String getVnfdId() {
+			return vnfdId;
+		}
+
+		/**
+		 * @return the vnfExtCpdId
+		 */
+		public String getVnfExtCpdId() {
+			return vnfExtCpdId;
+		}
+	}
+	
+}
@@ -123,7 +123,7 @@ public class Sapd extends Cpd {
 	@Override
 	public void isValid() throws MalformattedElementException {
 		super.isValid();
-		if ((this.associatedCpdId == null) && (this.nsVirtualLinkDescId == null)) throw new MalformattedElementException("Sapd without associated CPD ID and without NS VLD ID"); 
+		if ((this.associatedCpdId == null) && (this.nsVirtualLinkDescId == null)) throw MalformattedElementException.stackless("Sapd without associated CPD ID and without NS VLD ID"); 
 	}
 
 }
@@ -27,6 +27,7 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -38,6 +39,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 
 import it.nextworks.nfvmano.libs.common.InterfaceInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 import it.nextworks.nfvmano.libs.records.nsinfo.NsScaleInfo;
 
 /**
@@ -55,7 +58,7 @@ import it.nextworks.nfvmano.libs.records.nsinfo.NsScaleInfo;
  *
  */
 @Entity
-public class ScaleNsToLevelData implements InterfaceInformationElement {
+public class ScaleNsToLevelData extends TrackedElement implements InterfaceInformationElement {
 
 	@Id
     @GeneratedValue
@@ -73,6 +76,7 @@ public class ScaleNsToLevelData implements InterfaceInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<NsScaleInfo> nsScaleInfo = new ArrayList<>();
 	
@@ -123,7 +127,7 @@ public class ScaleNsToLevelData implements InterfaceInformationElement {
 	 * @return the nsScaleInfo
 	 */
 	public List<NsScaleInfo> getNsScaleInfo() {
-		return nsScaleInfo;
+		return track(nsScaleInfo);
 	}
 
 	@Override
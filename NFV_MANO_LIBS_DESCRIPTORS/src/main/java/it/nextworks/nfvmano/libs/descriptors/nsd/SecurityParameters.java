@@ -91,8 +91,8 @@ public class SecurityParameters implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.signature == null) throw new MalformattedElementException("Security Parameters without signature");
-		if (this.algorithm == null) throw new MalformattedElementException("Security Parameters without algorithm");
+		if (this.signature == null) throw MalformattedElementException.stackless("Security Parameters without signature");
+		if (this.algorithm == null) throw MalformattedElementException.stackless("Security Parameters without algorithm");
 	}
 
 }
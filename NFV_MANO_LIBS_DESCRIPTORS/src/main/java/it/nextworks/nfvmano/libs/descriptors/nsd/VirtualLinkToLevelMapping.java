@@ -26,6 +26,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.LinkBitrateRequirements;
 
 /**
@@ -39,7 +40,7 @@ import it.nextworks.nfvmano.libs.descriptors.common.elements.LinkBitrateRequirem
  *
  */
 @Entity
-public class VirtualLinkToLevelMapping implements DescriptorInformationElement {
+public class VirtualLinkToLevelMapping extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -94,8 +95,8 @@ public class VirtualLinkToLevelMapping implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.virtualLinkProfileId == null) throw new MalformattedElementException("VL to level mapping without VL profile ID");
-		if (this.bitRateRequirements == null) throw new MalformattedElementException("VL to level mapping without bit rate requirements");
+		if (this.virtualLinkProfileId == null) throw MalformattedElementException.stackless("VL to level mapping without VL profile ID");
+		if (this.bitRateRequirements == null) throw MalformattedElementException.stackless("VL to level mapping without bit rate requirements");
 	}
 
 }
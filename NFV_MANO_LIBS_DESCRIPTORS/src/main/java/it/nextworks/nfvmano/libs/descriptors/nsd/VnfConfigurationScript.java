@@ -28,6 +28,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -35,8 +36,11 @@ import org.hibernate.annotations.FetchMode;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
+
 @Entity
-public class VnfConfigurationScript {
+public class VnfConfigurationScript extends TrackedElement {
 	
 	@Id
     @GeneratedValue
@@ -52,12 +56,14 @@ public class VnfConfigurationScript {
 	
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private Map<String, String> args = new HashMap<>();
 	
 	
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> script = new ArrayList<String>();
 	
@@ -66,14 +72,14 @@ public class VnfConfigurationScript {
 	 * @return the args
 	 */
 	public Map<String, String> getArgs() {
-		return args;
+		return track(args);
 	}
 
 	/**
 	 * @return the script
 	 */
 	public List<String> getScript() {
-		return script;
+		return track(script);
 	}
 
 }
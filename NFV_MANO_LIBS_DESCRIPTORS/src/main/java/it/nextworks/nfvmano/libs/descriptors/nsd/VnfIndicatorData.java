@@ -69,8 +69,8 @@ public class VnfIndicatorData implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.vnfdId == null) throw new MalformattedElementException("VNF indicator data without VNFD ID");
-		if (this.vnfIndicator == null) throw new MalformattedElementException("VNF indicator data without VNF indicator ID");
+		if (this.vnfdId == null) throw MalformattedElementException.stackless("VNF indicator data without VNFD ID");
+		if (this.vnfIndicator == null) throw MalformattedElementException.stackless("VNF indicator data without VNF indicator ID");
 	}
 
 }
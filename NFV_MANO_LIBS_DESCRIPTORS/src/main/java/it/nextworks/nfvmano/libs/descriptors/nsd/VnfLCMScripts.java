@@ -28,6 +28,7 @@ import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
 import org.hibernate.annotations.OnDelete;
@@ -37,8 +38,11 @@ import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
+
 @Entity
-public class VnfLCMScripts {
+public class VnfLCMScripts extends TrackedElement {
 
 	@Id
     @GeneratedValue
@@ -55,6 +59,7 @@ public class VnfLCMScripts {
 	@OneToMany(mappedBy = "vnfLcmScripts", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private Map<String, VnfConfigurationScript> scripts = new HashMap<>();
 	
 	
@@ -83,7 +88,7 @@ public class VnfLCMScripts {
 	// Capture all other fields that Jackson do not match other members
     @JsonAnyGetter
     public Map<String, VnfConfigurationScript> getConfigurationScripts() {
-        return scripts;
+        return track(scripts);
     }
 
 	
@@ -91,6 +96,7 @@ public class VnfLCMScripts {
     @JsonAnySetter
     public void addConfigurationSCript(String name, VnfConfigurationScript newScript) {
         scripts.put(name, newScript);
+        touch();
     }
 	
 	
@@ -27,6 +27,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -42,6 +43,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.AffinityRule;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.common.validation.ValidationContext;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * The VnfProfile information element specifies a profile for 
@@ -54,7 +58,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class VnfProfile implements DescriptorInformationElement {
+public class VnfProfile extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -78,18 +82,21 @@ public class VnfProfile implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<AffinityRule> localAffinityOrAntiAffinityRule = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> affinityOrAntiAffinityGroupId = new ArrayList<>();
 	
 	@OneToMany(mappedBy = "vnfProfile", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<NsVirtualLinkConnectivity> nsVirtualLinkConnectivity = new ArrayList<>();
 	
 	
@@ -97,6 +104,7 @@ public class VnfProfile implements DescriptorInformationElement {
 	@OneToMany(mappedBy = "vnfProfile", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	private List<VnfLCMScripts> script = new ArrayList<>();
 	
@@ -228,7 +236,7 @@ public class VnfProfile implements DescriptorInformationElement {
 	 */
 	@JsonProperty("localAffinityOrAntiAffinityRule")
 	public List<AffinityRule> getLocalAffinityOrAntiAffinityRule() {
-		return localAffinityOrAntiAffinityRule;
+		return track(localAffinityOrAntiAffinityRule);
 	}
 
 	/**
@@ -236,7 +244,7 @@ public class VnfProfile implements DescriptorInformationElement {
 	 */
 	@JsonProperty("affinityOrAntiAffinityGroupId")
 	public List<String> getAffinityOrAntiAffinityGroupId() {
-		return affinityOrAntiAffinityGroupId;
+		return track(affinityOrAntiAffinityGroupId);
 	}
 
 	/**
@@ -244,30 +252,33 @@ public class VnfProfile implements DescriptorInformationElement {
 	 */
 	@JsonProperty("nsVirtualLinkConnectivity")
 	public List<NsVirtualLinkConnectivity> getNsVirtualLinkConnectivity() {
-		return nsVirtualLinkConnectivity;
+		return track(nsVirtualLinkConnectivity);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.vnfProfileId == null) throw new MalformattedElementException("VNF profile without profile ID");
-		if (this.vnfdId == null) throw new MalformattedElementException("VNF profile without VNFD ID");
-		if (this.flavourId == null) throw new MalformattedElementException("VNF profile without VNF flavour ID");
-		if (this.maxNumberOfInstances < this.minNumberOfInstances) throw new MalformattedElementException("VNF profile with unacceptable min/max instances boundaries");
+		ValidationContext.requireValid(this);
+	}
+	
+	@Override
+	public void validate(ValidationContext context) {
+		context.require(this.vnfProfileId != null, "VNF profile without profile ID");
+		context.require(this.vnfdId != null, "VNF profile without VNFD ID");
+		context.require(this.flavourId != null, "VNF profile without VNF flavour ID");
+		context.require(this.maxNumberOfInstances >= this.minNumberOfInstances, "VNF profile with unacceptable min/max instances boundaries");
 		if ((this.nsVirtualLinkConnectivity == null) || (this.nsVirtualLinkConnectivity.isEmpty())) { 
-			throw new MalformattedElementException("VNF profile without NS VL connectivity");
+			context.reportViolation("VNF profile without NS VL connectivity");
 		} else {
-			for (NsVirtualLinkConnectivity vlc : this.nsVirtualLinkConnectivity) vlc.isValid();
-		}
-		if (this.localAffinityOrAntiAffinityRule != null) {
-			for (AffinityRule rule : this.localAffinityOrAntiAffinityRule) rule.isValid();
+			context.validateAll("nsVirtualLinkConnectivity", this.nsVirtualLinkConnectivity);
 		}
+		context.validateAll("localAffinityOrAntiAffinityRule", this.localAffinityOrAntiAffinityRule);
 	}
 	
 	/**
 	 * @return the script
 	 */
 	public List<VnfLCMScripts> getScript() {
-		return script;
+		return track(script);
 	}
 
 
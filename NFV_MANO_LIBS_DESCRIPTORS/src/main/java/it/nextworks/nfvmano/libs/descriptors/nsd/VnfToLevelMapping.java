@@ -72,7 +72,7 @@ public class VnfToLevelMapping implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.vnfProfileId == null) throw new MalformattedElementException("VNF to level mapping without VNF profile ID");
+		if (this.vnfProfileId == null) throw MalformattedElementException.stackless("VNF to level mapping without VNF profile ID");
 	}
 
 }
@@ -27,6 +27,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -39,6 +40,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.common.validation.ValidationContext;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * The Vnffgd information element specifies a topology of connectivity 
@@ -51,7 +55,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class Vnffgd implements DescriptorInformationElement {
+public class Vnffgd extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -66,28 +70,33 @@ public class Vnffgd implements DescriptorInformationElement {
 	
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> vnfdId = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> pnfdId = new ArrayList<>();
 	
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> virtualLinkDescId = new ArrayList<>();
 	
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> cpdPoolId = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(fetch=FetchType.EAGER, mappedBy = "fg", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<Nfpd> nfpd = new ArrayList<>();
 	
 	public Vnffgd() {
@@ -160,7 +169,7 @@ public class Vnffgd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("vnfdId")
 	public List<String> getVnfdId() {
-		return vnfdId;
+		return track(vnfdId);
 	}
 
 	/**
@@ -168,7 +177,7 @@ public class Vnffgd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("pnfdId")
 	public List<String> getPnfdId() {
-		return pnfdId;
+		return track(pnfdId);
 	}
 
 	/**
@@ -176,7 +185,7 @@ public class Vnffgd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("virtualLinkDescId")
 	public List<String> getVirtualLinkDescId() {
-		return virtualLinkDescId;
+		return track(virtualLinkDescId);
 	}
 
 	/**
@@ -184,7 +193,7 @@ public class Vnffgd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("cpdPoolId")
 	public List<String> getCpdPoolId() {
-		return cpdPoolId;
+		return track(cpdPoolId);
 	}
 
 	/**
@@ -192,21 +201,20 @@ public class Vnffgd implements DescriptorInformationElement {
 	 */
 	@JsonProperty("nfpd")
 	public List<Nfpd> getNfpd() {
-		return nfpd;
+		return track(nfpd);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.vnffgdId == null) throw new MalformattedElementException("VNFFGD without ID");
-		if ((this.vnfdId == null) || (this.vnfdId.isEmpty())) {
-			throw new MalformattedElementException("VNFFGD without VNFD IDs");
-		}
-		if ((this.virtualLinkDescId == null) || (this.virtualLinkDescId.isEmpty())) {
-			throw new MalformattedElementException("VNFFGD without VLD IDs");
-		}
-		if ((this.cpdPoolId == null) || (this.cpdPoolId.isEmpty())) {
-			throw new MalformattedElementException("VNFFGD without CPD pool IDs");
-		}
+		ValidationContext.requireValid(this);
+	}
+	
+	@Override
+	public void validate(ValidationContext context) {
+		context.require(this.vnffgdId != null, "VNFFGD without ID");
+		context.require((this.vnfdId != null) && (!this.vnfdId.isEmpty()), "VNFFGD without VNFD IDs");
+		context.require((this.virtualLinkDescId != null) && (!this.virtualLinkDescId.isEmpty()), "VNFFGD without VLD IDs");
+		context.require((this.cpdPoolId != null) && (!this.cpdPoolId.isEmpty()), "VNFFGD without CPD pool IDs");
 	}
 
 }
@@ -29,6 +29,7 @@ import javax.persistence.Id;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -44,6 +45,8 @@ import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.enums.OperationalState;
 import it.nextworks.nfvmano.libs.common.enums.UsageState;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 import it.nextworks.nfvmano.libs.descriptors.vnfd.Vnfd;
 
 
@@ -58,7 +61,7 @@ import it.nextworks.nfvmano.libs.descriptors.vnfd.Vnfd;
  *
  */
 @Entity
-public class OnboardedVnfPkgInfo implements DescriptorInformationElement {
+public class OnboardedVnfPkgInfo extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -80,11 +83,13 @@ public class OnboardedVnfPkgInfo implements DescriptorInformationElement {
 	@OneToMany(mappedBy = "vnfPkgInfo", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<VnfPackageSoftwareImageInformation> softwareImage = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<VnfPackageArtifactInformation> additionalArtifact = new ArrayList<>();
 	
@@ -95,12 +100,14 @@ public class OnboardedVnfPkgInfo implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private Map<String, String> userDefinedData = new HashMap<>();
 	
 	@JsonIgnore
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> vnfId = new ArrayList<>();
 	
@@ -266,14 +273,14 @@ public class OnboardedVnfPkgInfo implements DescriptorInformationElement {
 	 * @return the softwareImage
 	 */
 	public List<VnfPackageSoftwareImageInformation> getSoftwareImage() {
-		return softwareImage;
+		return track(softwareImage);
 	}
 
 	/**
 	 * @return the additionalArtifact
 	 */
 	public List<VnfPackageArtifactInformation> getAdditionalArtifact() {
-		return additionalArtifact;
+		return track(additionalArtifact);
 	}
 
 	/**
@@ -301,7 +308,7 @@ public class OnboardedVnfPkgInfo implements DescriptorInformationElement {
 	 * @return the userDefinedData
 	 */
 	public Map<String, String> getUserDefinedData() {
-		return userDefinedData;
+		return track(userDefinedData);
 	}
 	
 	
@@ -311,6 +318,7 @@ public class OnboardedVnfPkgInfo implements DescriptorInformationElement {
 	 */
 	public void setOnboardedVnfPkgInfoId(String onboardedVnfPkgInfoId) {
 		this.onboardedVnfPkgInfoId = onboardedVnfPkgInfoId;
+		touch();
 	}
 
 	
@@ -320,6 +328,7 @@ public class OnboardedVnfPkgInfo implements DescriptorInformationElement {
 	 */
 	public void setOperationalState(OperationalState operationalState) {
 		this.operationalState = operationalState;
+		touch();
 	}
 
 	/**
@@ -327,6 +336,7 @@ public class OnboardedVnfPkgInfo implements DescriptorInformationElement {
 	 */
 	public void setUsageState(UsageState usageState) {
 		this.usageState = usageState;
+		touch();
 	}
 
 	/**
@@ -334,6 +344,7 @@ public class OnboardedVnfPkgInfo implements DescriptorInformationElement {
 	 */
 	public void setDeletionPending(boolean deletionPending) {
 		this.deletionPending = deletionPending;
+		touch();
 	}
 	
 	/**
@@ -343,6 +354,7 @@ public class OnboardedVnfPkgInfo implements DescriptorInformationElement {
 	 */
 	public void addVnfInstance(String vnfId) {
 		this.vnfId.add(vnfId);
+		touch();
 	}
 	
 	/**
@@ -352,6 +364,7 @@ public class OnboardedVnfPkgInfo implements DescriptorInformationElement {
 	 */
 	public void removeVnfInstance(String vnfId) {
 		this.vnfId.remove(vnfId);
+		touch();
 	}
 	
 	
@@ -360,7 +373,7 @@ public class OnboardedVnfPkgInfo implements DescriptorInformationElement {
 	 * @return the vnfId
 	 */
 	public List<String> getVnfId() {
-		return vnfId;
+		return track(vnfId);
 	}
 
 	/**
@@ -376,20 +389,20 @@ public class OnboardedVnfPkgInfo implements DescriptorInformationElement {
 	
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (onboardedVnfPkgInfoId == null) throw new MalformattedElementException("Onboarded VNF package info without ID");
-		if (vnfdId == null) throw new MalformattedElementException("Onboarded VNF package info without VNFD ID");
-		if (vnfProvider == null) throw new MalformattedElementException("Onboarded VNF package info without VNF provider");
-		if (vnfProductName == null) throw new MalformattedElementException("Onboarded VNF package info without VNF product name");
-		if (vnfSoftwareVersion == null) throw new MalformattedElementException("Onboarded VNF package info without VNF sw version");
-		if (vnfdVersion == null) throw new MalformattedElementException("Onboarded VNF package info without VNFD version");
-		if (checksum == null) throw new MalformattedElementException("Onboarded VNF package info without checksum");
+		if (onboardedVnfPkgInfoId == null) throw MalformattedElementException.stackless("Onboarded VNF package info without ID");
+		if (vnfdId == null) throw MalformattedElementException.stackless("Onboarded VNF package info without VNFD ID");
+		if (vnfProvider == null) throw MalformattedElementException.stackless("Onboarded VNF package info without VNF provider");
+		if (vnfProductName == null) throw MalformattedElementException.stackless("Onboarded VNF package info without VNF product name");
+		if (vnfSoftwareVersion == null) throw MalformattedElementException.stackless("Onboarded VNF package info without VNF sw version");
+		if (vnfdVersion == null) throw MalformattedElementException.stackless("Onboarded VNF package info without VNFD version");
+		if (checksum == null) throw MalformattedElementException.stackless("Onboarded VNF package info without checksum");
 		if (vnfd == null) {
-			throw new MalformattedElementException("Onboarded VNF package info without VNFD");
+			throw MalformattedElementException.stackless("Onboarded VNF package info without VNFD");
 		} else {
 			vnfd.isValid();
 		}
 		if ((softwareImage == null) || (softwareImage.isEmpty())) {
-			throw new MalformattedElementException("Onboarded VNF package info without software images");
+			throw MalformattedElementException.stackless("Onboarded VNF package info without software images");
 		} else {
 			for (VnfPackageSoftwareImageInformation sw : softwareImage) sw.isValid();
 		}
@@ -28,6 +28,7 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -40,6 +41,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * This information element represents Software Image Information.
@@ -50,7 +53,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class SoftwareImageInformation implements DescriptorInformationElement {
+public class SoftwareImageInformation extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -85,6 +88,7 @@ public class SoftwareImageInformation implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private Map<String, String> userMetadata = new HashMap<String, String>();
 	
@@ -258,13 +262,13 @@ public class SoftwareImageInformation implements DescriptorInformationElement {
 	 */
 	@JsonProperty("userMetadata")
 	public Map<String, String> getUserMetadata() {
-		return userMetadata;
+		return track(userMetadata);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (softwareImageId == null) throw new MalformattedElementException("Sw image info without ID.");
-		if (name == null) throw new MalformattedElementException("Sw image info without name.");
+		if (softwareImageId == null) throw MalformattedElementException.stackless("Sw image info without ID.");
+		if (name == null) throw MalformattedElementException.stackless("Sw image info without name.");
 	}
 
 }
@@ -69,8 +69,8 @@ public class VnfPackageArtifactInformation implements DescriptorInformationEleme
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (selector == null) throw new MalformattedElementException("VNF package artifact information without selector");
-		if (metadata == null) throw new MalformattedElementException("VNF package artifact information without metadata");
+		if (selector == null) throw MalformattedElementException.stackless("VNF package artifact information without selector");
+		if (metadata == null) throw MalformattedElementException.stackless("VNF package artifact information without metadata");
 	}
 
 }
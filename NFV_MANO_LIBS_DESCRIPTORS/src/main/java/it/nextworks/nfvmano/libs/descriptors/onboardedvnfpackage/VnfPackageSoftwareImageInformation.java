@@ -31,6 +31,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
 
 /**
  * This information element represents an artifact contained in a VNF Package 
@@ -42,7 +43,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class VnfPackageSoftwareImageInformation implements DescriptorInformationElement {
+public class VnfPackageSoftwareImageInformation extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -89,8 +90,8 @@ public class VnfPackageSoftwareImageInformation implements DescriptorInformation
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (accessInformation == null) throw new MalformattedElementException("VNF package sw image info without access information");
-		if (softwareImageInformation == null) throw new MalformattedElementException("VNF package sw image info without sw image information");
+		if (accessInformation == null) throw MalformattedElementException.stackless("VNF package sw image info without access information");
+		if (softwareImageInformation == null) throw MalformattedElementException.stackless("VNF package sw image info without sw image information");
 	}
 
 }
@@ -27,6 +27,7 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -39,6 +40,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * This information element defines attributes that affect the invocation of 
@@ -50,7 +53,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class ChangeVnfFlavourOpConfig implements DescriptorInformationElement {
+public class ChangeVnfFlavourOpConfig extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -66,6 +69,7 @@ public class ChangeVnfFlavourOpConfig implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> parameter = new ArrayList<>();
 	
@@ -90,7 +94,7 @@ public class ChangeVnfFlavourOpConfig implements DescriptorInformationElement {
 	 */
 	@JsonProperty("parameter")
 	public List<String> getParameter() {
-		return parameter;
+		return track(parameter);
 	}
 
 	@Override
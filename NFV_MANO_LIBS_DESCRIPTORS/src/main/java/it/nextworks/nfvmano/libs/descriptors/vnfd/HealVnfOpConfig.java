@@ -27,6 +27,7 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -39,6 +40,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * This information element defines attributes that affect 
@@ -50,7 +53,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class HealVnfOpConfig implements DescriptorInformationElement {
+public class HealVnfOpConfig extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -66,12 +69,14 @@ public class HealVnfOpConfig implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> parameter = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> cause = new ArrayList<>();
 	
@@ -98,7 +103,7 @@ public class HealVnfOpConfig implements DescriptorInformationElement {
 	 */
 	@JsonProperty("parameter")
 	public List<String> getParameter() {
-		return parameter;
+		return track(parameter);
 	}
 	
 	/**
@@ -106,7 +111,7 @@ public class HealVnfOpConfig implements DescriptorInformationElement {
 	 */
 	@JsonProperty("cause")
 	public List<String> getCause() {
-		return cause;
+		return track(cause);
 	}
 
 	@Override
@@ -25,6 +25,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -36,6 +37,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.ScaleInfo;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.common.validation.ValidationContext;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * The InstantiationLevel information element describes a given level 
@@ -51,7 +55,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class InstantiationLevel implements DescriptorInformationElement {
+public class InstantiationLevel extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -68,12 +72,14 @@ public class InstantiationLevel implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<VduLevel> vduLevel = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<ScaleInfo> scaleInfo = new ArrayList<>();
 	
@@ -127,7 +133,7 @@ public class InstantiationLevel implements DescriptorInformationElement {
 	 */
 	@JsonProperty("vduLevel")
 	public List<VduLevel> getVduLevel() {
-		return vduLevel;
+		return track(vduLevel);
 	}
 
 
@@ -136,20 +142,25 @@ public class InstantiationLevel implements DescriptorInformationElement {
 	 */
 	@JsonProperty("scaleInfo")
 	public List<ScaleInfo> getScaleInfo() {
-		return scaleInfo;
+		return track(scaleInfo);
 	}
 
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (levelId == null) throw new MalformattedElementException("Instantiation level without ID");
-		if (description == null) throw new MalformattedElementException("Instantiation level without description");
+		ValidationContext.requireValid(this);
+	}
+	
+	@Override
+	public void validate(ValidationContext context) {
+		context.require(levelId != null, "Instantiation level without ID");
+		context.require(description != null, "Instantiation level without description");
 		if ((vduLevel == null) || (vduLevel.isEmpty())) {
-			throw new MalformattedElementException("Instantiation level without VDU levels");
+			context.reportViolation("Instantiation level without VDU levels");
 		} else {
-			for (VduLevel l : vduLevel) l.isValid();
+			context.validateAll("vduLevel", vduLevel);
 		}
-		for (ScaleInfo s: scaleInfo) s.isValid();
+		context.validateAll("scaleInfo", scaleInfo);
 	}
 
 }
@@ -107,7 +107,7 @@ public class RequestedAdditionalCapabilityData implements DescriptorInformationE
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (name == null) throw new MalformattedElementException("Requested Additional Capability without name");
+		if (name == null) throw MalformattedElementException.stackless("Requested Additional Capability without name");
 	}
 
 }
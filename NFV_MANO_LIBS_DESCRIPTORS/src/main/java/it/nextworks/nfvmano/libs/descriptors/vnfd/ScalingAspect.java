@@ -106,9 +106,9 @@ public class ScalingAspect implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (saId == null) throw new MalformattedElementException("Scaling aspect without ID");
-		if (saName == null) throw new MalformattedElementException("Scaling aspect without name");
-		if (saDescription == null) throw new MalformattedElementException("Scaling aspect without description");
+		if (saId == null) throw MalformattedElementException.stackless("Scaling aspect without ID");
+		if (saName == null) throw MalformattedElementException.stackless("Scaling aspect without name");
+		if (saDescription == null) throw MalformattedElementException.stackless("Scaling aspect without description");
 	}
 
 }
@@ -30,6 +30,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -45,6 +46,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.MonitoringParameter;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.common.validation.ValidationContext;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.SwImageDesc;
 
 /**
@@ -58,7 +62,7 @@ import it.nextworks.nfvmano.libs.descriptors.common.elements.SwImageDesc;
  *
  */
 @Entity
-public class Vdu implements DescriptorInformationElement {
+public class Vdu extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -76,6 +80,7 @@ public class Vdu implements DescriptorInformationElement {
 	@OneToMany(mappedBy = "vdu", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<VduCpd> intCpd = new ArrayList<>();
 	
 	private String virtualComputeDesc;
@@ -83,12 +88,14 @@ public class Vdu implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> virtualStorageDesc = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private Map<Integer, String> bootOrder = new HashMap<>();
 	
@@ -98,12 +105,14 @@ public class Vdu implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> nfviConstraint = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<MonitoringParameter> monitoringParameter = new ArrayList<>();
 	
@@ -188,7 +197,7 @@ public class Vdu implements DescriptorInformationElement {
 	 */
 	@JsonProperty("intCpd")
 	public List<VduCpd> getIntCpd() {
-		return intCpd;
+		return track(intCpd);
 	}
 
 
@@ -206,7 +215,7 @@ public class Vdu implements DescriptorInformationElement {
 	 */
 	@JsonProperty("virtualStorageDesc")
 	public List<String> getVirtualStorageDesc() {
-		return virtualStorageDesc;
+		return track(virtualStorageDesc);
 	}
 
 
@@ -215,7 +224,7 @@ public class Vdu implements DescriptorInformationElement {
 	 */
 	@JsonProperty("bootOrder")
 	public Map<Integer, String> getBootOrder() {
-		return bootOrder;
+		return track(bootOrder);
 	}
 
 
@@ -233,7 +242,7 @@ public class Vdu implements DescriptorInformationElement {
 	 */
 	@JsonProperty("nfviConstraint")
 	public List<String> getNfviConstraint() {
-		return nfviConstraint;
+		return track(nfviConstraint);
 	}
 
 
@@ -242,7 +251,7 @@ public class Vdu implements DescriptorInformationElement {
 	 */
 	@JsonProperty("monitoringParameter")
 	public List<MonitoringParameter> getMonitoringParameter() {
-		return monitoringParameter;
+		return track(monitoringParameter);
 	}
 
 
@@ -257,15 +266,20 @@ public class Vdu implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (vduId == null) throw new MalformattedElementException("VDU without ID");
-		if (vduName == null) throw new MalformattedElementException("VDU without name");
-		if (description == null) throw new MalformattedElementException("VDU without description");
+		ValidationContext.requireValid(this);
+	}
+	
+	@Override
+	public void validate(ValidationContext context) {
+		context.require(vduId != null, "VDU without ID");
+		context.require(vduName != null, "VDU without name");
+		context.require(description != null, "VDU without description");
 		if ((intCpd == null) || (intCpd.isEmpty())) {
-			throw new MalformattedElementException("VDU without internal connection points");
+			context.reportViolation("VDU without internal connection points");
 		} else {
-			for (VduCpd cp : intCpd) cp.isValid();
+			context.validateAll("intCpd", intCpd);
 		}
-		if (virtualComputeDesc == null) throw new MalformattedElementException("VDU without virtual compute descriptor");
+		context.require(virtualComputeDesc != null, "VDU without virtual compute descriptor");
 	}
 
 }
@@ -70,7 +70,7 @@ public class VduLevel implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (vduId == null) throw new MalformattedElementException("VDU level without VDU ID");
+		if (vduId == null) throw MalformattedElementException.stackless("VDU level without VDU ID");
 	}
 
 }
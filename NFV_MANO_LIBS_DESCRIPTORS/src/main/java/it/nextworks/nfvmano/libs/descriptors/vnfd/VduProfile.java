@@ -25,6 +25,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -36,6 +37,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.AffinityRule;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.common.validation.ValidationContext;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * The VduProfile describes additional instantiation data for a given VDU used in a DF.
@@ -46,7 +50,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class VduProfile implements DescriptorInformationElement {
+public class VduProfile extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -64,12 +68,14 @@ public class VduProfile implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<AffinityRule> localAffinityOrAntiAffinityRule = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> affinityOrAntiAffinityGroupId = new ArrayList<>();
 	
@@ -132,7 +138,7 @@ public class VduProfile implements DescriptorInformationElement {
 	 */
 	@JsonProperty("localAffinityOrAntiAffinityRule")
 	public List<AffinityRule> getLocalAffinityOrAntiAffinityRule() {
-		return localAffinityOrAntiAffinityRule;
+		return track(localAffinityOrAntiAffinityRule);
 	}
 
 	/**
@@ -140,13 +146,18 @@ public class VduProfile implements DescriptorInformationElement {
 	 */
 	@JsonProperty("affinityOrAntiAffinityGroupId")
 	public List<String> getAffinityOrAntiAffinityGroupId() {
-		return affinityOrAntiAffinityGroupId;
+		return track(affinityOrAntiAffinityGroupId);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (vduId == null) throw new MalformattedElementException("VDU profile without VDU ID");
-		for (AffinityRule r : localAffinityOrAntiAffinityRule) r.isValid();
+		ValidationContext.requireValid(this);
+	}
+	
+	@Override
+	public void validate(ValidationContext context) {
+		context.require(vduId != null, "VDU profile without VDU ID");
+		context.validateAll("localAffinityOrAntiAffinityRule", localAffinityOrAntiAffinityRule);
 	}
 
 }
@@ -27,6 +27,7 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -39,6 +40,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * This information element defines the configurable properties 
@@ -51,7 +54,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class VnfConfigurableProperties implements DescriptorInformationElement {
+public class VnfConfigurableProperties extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -70,6 +73,7 @@ public class VnfConfigurableProperties implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> additionalConfigurableProperty = new ArrayList<>();
 	
@@ -116,7 +120,7 @@ public class VnfConfigurableProperties implements DescriptorInformationElement {
 	 */
 	@JsonProperty("additionalConfigurableProperty")
 	public List<String> getAdditionalConfigurableProperty() {
-		return additionalConfigurableProperty;
+		return track(additionalConfigurableProperty);
 	}
 
 	@Override
@@ -17,6 +17,7 @@ package it.nextworks.nfvmano.libs.descriptors.vnfd;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import javax.persistence.CascadeType;
 import javax.persistence.ElementCollection;
@@ -25,14 +26,16 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedEntityGraphs;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
+import javax.persistence.Transient;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
-import org.hibernate.annotations.Fetch;
-import org.hibernate.annotations.FetchMode;
-import org.hibernate.annotations.LazyCollection;
-import org.hibernate.annotations.LazyCollectionOption;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -41,10 +44,14 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
+import it.nextworks.nfvmano.libs.common.collections.IdIndex;
 import it.nextworks.nfvmano.libs.common.elements.MonitoringParameter;
 import it.nextworks.nfvmano.libs.common.enums.VnfLcmOperation;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
 import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.common.validation.ValidationContext;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.AffinityOrAntiAffinityGroup;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.VirtualLinkProfile;
 
@@ -57,7 +64,53 @@ import it.nextworks.nfvmano.libs.descriptors.common.elements.VirtualLinkProfile;
  *
  */
 @Entity
-public class VnfDf implements DescriptorInformationElement {
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = FetchProfiles.VNF_DF_SUMMARY),
+	@NamedEntityGraph(name = FetchProfiles.VNF_DF_DEPLOYMENT, attributeNodes = {
+		@NamedAttributeNode(value = "vduProfile", subgraph = "vduProfile"),
+		@NamedAttributeNode(value = "virtualLinkProfile", subgraph = "virtualLinkProfile"),
+		@NamedAttributeNode(value = "instantiationLevel", subgraph = "instantiationLevel"),
+		@NamedAttributeNode("affinityOrAntiAffinityGroup")
+	}, subgraphs = {
+		@NamedSubgraph(name = "vduProfile", attributeNodes = {
+			@NamedAttributeNode("localAffinityOrAntiAffinityRule"),
+			@NamedAttributeNode("affinityOrAntiAffinityGroupId")
+		}),
+		@NamedSubgraph(name = "virtualLinkProfile", attributeNodes = {
+			@NamedAttributeNode("localAffinityOrAntiAffinityRule"),
+			@NamedAttributeNode("affinityOrAntiAffinityGroupId")
+		}),
+		@NamedSubgraph(name = "instantiationLevel", attributeNodes = {
+			@NamedAttributeNode("vduLevel"),
+			@NamedAttributeNode("scaleInfo")
+		})
+	}),
+	@NamedEntityGraph(name = FetchProfiles.VNF_DF_FULL, attributeNodes = {
+		@NamedAttributeNode(value = "vduProfile", subgraph = "vduProfile"),
+		@NamedAttributeNode(value = "virtualLinkProfile", subgraph = "virtualLinkProfile"),
+		@NamedAttributeNode(value = "instantiationLevel", subgraph = "instantiationLevel"),
+		@NamedAttributeNode("affinityOrAntiAffinityGroup"),
+		@NamedAttributeNode("supportedOperation"),
+		@NamedAttributeNode("vnfLcmOperationsConfiguration"),
+		@NamedAttributeNode("monitoringParameter"),
+		@NamedAttributeNode("scalingAspect")
+	}, subgraphs = {
+		@NamedSubgraph(name = "vduProfile", attributeNodes = {
+			@NamedAttributeNode("localAffinityOrAntiAffinityRule"),
+			@NamedAttributeNode("affinityOrAntiAffinityGroupId")
+		}),
+		@NamedSubgraph(name = "virtualLinkProfile", attributeNodes = {
+			@NamedAttributeNode("localAffinityOrAntiAffinityRule"),
+			@NamedAttributeNode("affinityOrAntiAffinityGroupId")
+		}),
+		@NamedSubgraph(name = "instantiationLevel", attributeNodes = {
+			@NamedAttributeNode("vduLevel"),
+			@NamedAttributeNode("scaleInfo")
+		})
+	})
+})
+@BatchSize(size = FetchProfiles.BATCH_SIZE)
+public class VnfDf extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -73,25 +126,25 @@ public class VnfDf implements DescriptorInformationElement {
 	
 	@OneToMany(mappedBy = "vnfDf", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<VduProfile> vduProfile = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "vnfDf", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<VirtualLinkProfile> virtualLinkProfile = new ArrayList<>();
 	
 	@OneToMany(mappedBy = "vnfDf", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<InstantiationLevel> instantiationLevel = new ArrayList<>();
 	
 	private String defaultInstantiationLevelId;
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
-	@ElementCollection(fetch=FetchType.EAGER)
-	@Fetch(FetchMode.SELECT)
+	@ElementCollection(fetch=FetchType.LAZY)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<VnfLcmOperation> supportedOperation = new ArrayList<>();
 	
@@ -100,23 +153,27 @@ public class VnfDf implements DescriptorInformationElement {
 	private VnfLcmOperationsConfiguration vnfLcmOperationsConfiguration;
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
-	@ElementCollection(fetch=FetchType.EAGER)
-	@Fetch(FetchMode.SELECT)
+	@ElementCollection(fetch=FetchType.LAZY)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<AffinityOrAntiAffinityGroup> affinityOrAntiAffinityGroup = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
-	@ElementCollection(fetch=FetchType.EAGER)
-	@Fetch(FetchMode.SELECT)
+	@ElementCollection(fetch=FetchType.LAZY)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<MonitoringParameter> monitoringParameter = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
-	@ElementCollection(fetch=FetchType.EAGER)
-	@Fetch(FetchMode.SELECT)
+	@ElementCollection(fetch=FetchType.LAZY)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<ScalingAspect> scalingAspect = new ArrayList<>();
 	
+	@Transient
+	@JsonIgnore
+	private transient volatile IdIndex<InstantiationLevel> instantiationLevelIndex;
+	
 	public VnfDf() {
 		// JPA only
 	}
@@ -174,7 +231,7 @@ public class VnfDf implements DescriptorInformationElement {
 	 */
 	@JsonProperty("vduProfile")
 	public List<VduProfile> getVduProfile() {
-		return vduProfile;
+		return track(vduProfile);
 	}
 
 	/**
@@ -182,7 +239,7 @@ public class VnfDf implements DescriptorInformationElement {
 	 */
 	@JsonProperty("virtualLinkProfile")
 	public List<VirtualLinkProfile> getVirtualLinkProfile() {
-		return virtualLinkProfile;
+		return track(virtualLinkProfile);
 	}
 
 	/**
@@ -190,7 +247,7 @@ public class VnfDf implements DescriptorInformationElement {
 	 */
 	@JsonProperty("instantiationLevel")
 	public List<InstantiationLevel> getInstantiationLevel() {
-		return instantiationLevel;
+		return track(instantiationLevel);
 	}
 
 	/**
@@ -206,7 +263,7 @@ public class VnfDf implements DescriptorInformationElement {
 	 */
 	@JsonProperty("supportedOperation")
 	public List<VnfLcmOperation> getSupportedOperation() {
-		return supportedOperation;
+		return track(supportedOperation);
 	}
 
 	/**
@@ -222,7 +279,7 @@ public class VnfDf implements DescriptorInformationElement {
 	 */
 	@JsonProperty("affinityOrAntiAffinityGroup")
 	public List<AffinityOrAntiAffinityGroup> getAffinityOrAntiAffinityGroup() {
-		return affinityOrAntiAffinityGroup;
+		return track(affinityOrAntiAffinityGroup);
 	}
 
 	/**
@@ -230,7 +287,7 @@ public class VnfDf implements DescriptorInformationElement {
 	 */
 	@JsonProperty("monitoringParameter")
 	public List<MonitoringParameter> getMonitoringParameter() {
-		return monitoringParameter;
+		return track(monitoringParameter);
 	}
 
 	/**
@@ -238,43 +295,69 @@ public class VnfDf implements DescriptorInformationElement {
 	 */
 	@JsonProperty("scalingAspect")
 	public List<ScalingAspect> getScalingAspect() {
-		return scalingAspect;
+		return track(scalingAspect);
 	}
 
 	@JsonIgnore
 	public InstantiationLevel getInstantiationLevel(String ilId) throws NotExistingEntityException {
-		if (ilId == null) return getDefaultInstantiationLevel();
-    	for (InstantiationLevel il : instantiationLevel) {
-    		if (il.getLevelId().equals(ilId)) return il;
-    	}
-    	throw new NotExistingEntityException("Instantiation level with ID " + ilId + " not found.");
+		Optional<InstantiationLevel> il = findInstantiationLevel(ilId);
+		if (!il.isPresent()) throw NotExistingEntityException.stackless("Instantiation level with ID " + ilId + " not found.");
+		return il.get();
     }
 	
+	/**
+	 * @param ilId ID of the instantiation level; if null the default instantiation level is looked up
+	 * @return the instantiation level, or an empty optional if it does not exist
+	 */
+	@JsonIgnore
+	public Optional<InstantiationLevel> findInstantiationLevel(String ilId) {
+		if (ilId == null) {
+			if (defaultInstantiationLevelId == null) return Optional.empty();
+			ilId = defaultInstantiationLevelId;
+		}
+		IdIndex<InstantiationLevel> index = IdIndex.of(instantiationLevelIndex, instantiationLevel, getModificationStamp(), InstantiationLevel::getLevelId);
+		instantiationLevelIndex = index;
+		return index.find(ilId);
+	}
+	
 	@JsonIgnore
 	public InstantiationLevel getDefaultInstantiationLevel() throws NotExistingEntityException {
 		return getInstantiationLevel(defaultInstantiationLevelId);
 	}
 	
+	/**
+	 * @return the default instantiation level, or an empty optional if it is not defined
+	 */
+	@JsonIgnore
+	public Optional<InstantiationLevel> findDefaultInstantiationLevel() {
+		return findInstantiationLevel(defaultInstantiationLevelId);
+	}
+	
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (flavourId == null) throw new MalformattedElementException("VNF DF without ID");
-		if (description == null) throw new MalformattedElementException("VNF DF without description");
+		ValidationContext.requireValid(this);
+	}
+	
+	@Override
+	public void validate(ValidationContext context) {
+		context.require(flavourId != null, "VNF DF without ID");
+		context.require(description != null, "VNF DF without description");
 		if ((vduProfile == null) || (vduProfile.isEmpty())) {
-			throw new MalformattedElementException("VNF DF without VDU profile");
+			context.reportViolation("VNF DF without VDU profile");
 		} else {
-			for (VduProfile p : vduProfile) p.isValid();
+			context.validateAll("vduProfile", vduProfile);
 		}
-		for (VirtualLinkProfile p : virtualLinkProfile) p.isValid();
+		context.validateAll("virtualLinkProfile", virtualLinkProfile);
 		if ((instantiationLevel == null) || (instantiationLevel.isEmpty())) {
-			throw new MalformattedElementException("VNF DF without instantiation level");
+			context.reportViolation("VNF DF without instantiation level");
 		} else {
-			for (InstantiationLevel i : instantiationLevel) i.isValid();
+			context.validateAll("instantiationLevel", instantiationLevel);
 		}
 		if (vnfLcmOperationsConfiguration == null) {
-			throw new MalformattedElementException("VNF DF without VNF LCM operation configuration");
-		} else vnfLcmOperationsConfiguration.isValid();
-		for (AffinityOrAntiAffinityGroup a: affinityOrAntiAffinityGroup) a.isValid();
-		for (MonitoringParameter mp : monitoringParameter) mp.isValid();
+			context.reportViolation("VNF DF without VNF LCM operation configuration");
+		} else context.validate("vnfLcmOperationsConfiguration", vnfLcmOperationsConfiguration);
+		context.validateAll("affinityOrAntiAffinityGroup", affinityOrAntiAffinityGroup);
+		context.validateAll("monitoringParameter", monitoringParameter);
 	}
 
 }
@@ -26,6 +26,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -37,6 +38,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import it.nextworks.nfvmano.libs.common.enums.CpRole;
 import it.nextworks.nfvmano.libs.common.enums.LayerProtocol;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.AddressData;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.Cpd;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.VirtualNetworkInterfaceRequirements;
@@ -67,6 +69,7 @@ public class VnfExtCpd extends Cpd {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<VirtualNetworkInterfaceRequirements> virtualNetworkInterfaceRequirements = new ArrayList<>();
 	
@@ -119,13 +122,13 @@ public class VnfExtCpd extends Cpd {
 	 */
 	@JsonProperty("virtualNetworkInterfaceRequirements")
 	public List<VirtualNetworkInterfaceRequirements> getVirtualNetworkInterfaceRequirements() {
-		return virtualNetworkInterfaceRequirements;
+		return track(virtualNetworkInterfaceRequirements);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
 		super.isValid();
-		if ((intVirtualLinkDesc == null) && (intCpd == null)) throw new MalformattedElementException("VNF external connection point without reference to internal VLD ID or CPD ID");
+		if ((intVirtualLinkDesc == null) && (intCpd == null)) throw MalformattedElementException.stackless("VNF external connection point without reference to internal VLD ID or CPD ID");
 		for (VirtualNetworkInterfaceRequirements r : virtualNetworkInterfaceRequirements) r.isValid();
 	}
 
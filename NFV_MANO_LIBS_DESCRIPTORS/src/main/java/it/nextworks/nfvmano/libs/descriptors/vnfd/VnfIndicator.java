@@ -96,7 +96,7 @@ public class VnfIndicator implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (indicatorId == null) throw new MalformattedElementException("VNF indicator without ID");
+		if (indicatorId == null) throw MalformattedElementException.stackless("VNF indicator without ID");
 	}
 
 }
@@ -27,6 +27,7 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -38,6 +39,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * This information element defines the VNF-specific extension and 
@@ -50,7 +53,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class VnfInfoModifiableAttributes implements DescriptorInformationElement {
+public class VnfInfoModifiableAttributes extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -66,12 +69,14 @@ public class VnfInfoModifiableAttributes implements DescriptorInformationElement
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private Map<String, String> extension = new HashMap<String, String>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private Map<String, String> metadata = new HashMap<String, String>();
 	
@@ -98,7 +103,7 @@ public class VnfInfoModifiableAttributes implements DescriptorInformationElement
 	 * @return the extension
 	 */
 	public Map<String, String> getExtension() {
-		return extension;
+		return track(extension);
 	}
 
 	/**
@@ -106,13 +111,14 @@ public class VnfInfoModifiableAttributes implements DescriptorInformationElement
 	 */
 	public void setExtension(Map<String, String> extension) {
 		this.extension = extension;
+		touch();
 	}
 
 	/**
 	 * @return the metadata
 	 */
 	public Map<String, String> getMetadata() {
-		return metadata;
+		return track(metadata);
 	}
 
 	@Override
@@ -35,6 +35,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.TerminateVnfOpConfig;
 
 /**
@@ -49,7 +50,7 @@ import it.nextworks.nfvmano.libs.descriptors.common.elements.TerminateVnfOpConfi
  *
  */
 @Entity
-public class VnfLcmOperationsConfiguration implements DescriptorInformationElement {
+public class VnfLcmOperationsConfiguration extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -28,6 +28,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -43,6 +44,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.MonitoringParameter;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.common.validation.ValidationContext;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.ConnectivityType;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.VirtualLinkDf;
 
@@ -55,7 +59,7 @@ import it.nextworks.nfvmano.libs.descriptors.common.elements.VirtualLinkDf;
  *
  */
 @Entity
-public class VnfVirtualLinkDesc implements DescriptorInformationElement {
+public class VnfVirtualLinkDesc extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -74,6 +78,7 @@ public class VnfVirtualLinkDesc implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> testAccess = new ArrayList<>();
 	
@@ -82,12 +87,14 @@ public class VnfVirtualLinkDesc implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<MonitoringParameter> monitoringParameter = new ArrayList<>();
 	
 	@OneToMany(mappedBy = "vnfVld", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<VirtualLinkDf> virtualLinkDescFlavour = new ArrayList<>();
 	
 	public VnfVirtualLinkDesc() {
@@ -141,7 +148,7 @@ public class VnfVirtualLinkDesc implements DescriptorInformationElement {
 	 */
 	@JsonProperty("testAccess")
 	public List<String> getTestAccess() {
-		return testAccess;
+		return track(testAccess);
 	}
 
 	/**
@@ -157,7 +164,7 @@ public class VnfVirtualLinkDesc implements DescriptorInformationElement {
 	 */
 	@JsonProperty("monitoringParameter")
 	public List<MonitoringParameter> getMonitoringParameter() {
-		return monitoringParameter;
+		return track(monitoringParameter);
 	}
 	
 	
@@ -167,19 +174,24 @@ public class VnfVirtualLinkDesc implements DescriptorInformationElement {
 	 */
 	@JsonProperty("virtualLinkDescFlavour")
 	public List<VirtualLinkDf> getVirtualLinkDescFlavour() {
-		return virtualLinkDescFlavour;
+		return track(virtualLinkDescFlavour);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (virtualLinkDescId == null) throw new MalformattedElementException("VNF VLD without ID");
-		if (connectivityType == null) throw new MalformattedElementException("VNF VLD without connectivity type"); 
-			else connectivityType.isValid();
-		for (MonitoringParameter mp : monitoringParameter) mp.isValid();
+		ValidationContext.requireValid(this);
+	}
+	
+	@Override
+	public void validate(ValidationContext context) {
+		context.require(virtualLinkDescId != null, "VNF VLD without ID");
+		if (connectivityType == null) context.reportViolation("VNF VLD without connectivity type");
+		else context.validate("connectivityType", connectivityType);
+		context.validateAll("monitoringParameter", monitoringParameter);
 		if ((virtualLinkDescFlavour == null) || (virtualLinkDescFlavour.isEmpty())) {
-			throw new MalformattedElementException("VNF VLD without deployment flavour");
+			context.reportViolation("VNF VLD without deployment flavour");
 		} else {
-			for (VirtualLinkDf df : virtualLinkDescFlavour) df.isValid(); 
+			context.validateAll("virtualLinkDescFlavour", virtualLinkDescFlavour);
 		}
 	}
 
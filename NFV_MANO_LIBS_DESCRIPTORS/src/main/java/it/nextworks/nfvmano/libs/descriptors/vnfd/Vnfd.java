@@ -17,6 +17,7 @@ package it.nextworks.nfvmano.libs.descriptors.vnfd;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import javax.persistence.CascadeType;
 import javax.persistence.ElementCollection;
@@ -25,14 +26,16 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedEntityGraphs;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
+import javax.persistence.Transient;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
-import org.hibernate.annotations.Fetch;
-import org.hibernate.annotations.FetchMode;
-import org.hibernate.annotations.LazyCollection;
-import org.hibernate.annotations.LazyCollectionOption;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -41,9 +44,16 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
+import it.nextworks.nfvmano.libs.common.VersionedDescriptor;
+import it.nextworks.nfvmano.libs.common.collections.IdIndex;
 import it.nextworks.nfvmano.libs.common.enums.LcmEventType;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
 import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
+import it.nextworks.nfvmano.libs.common.fingerprint.Fingerprint;
+import it.nextworks.nfvmano.libs.common.fingerprint.MerkleHasher;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.common.validation.ValidationContext;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.LifeCycleManagementScript;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.Rule;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.VirtualComputeDesc;
@@ -59,7 +69,89 @@ import it.nextworks.nfvmano.libs.descriptors.onboardedvnfpackage.OnboardedVnfPkg
  * @author nextworks
  */
 @Entity
-public class Vnfd implements DescriptorInformationElement {
+@NamedEntityGraphs({
+    @NamedEntityGraph(name = FetchProfiles.VNFD_SUMMARY),
+    @NamedEntityGraph(name = FetchProfiles.VNFD_DEPLOYMENT, attributeNodes = {
+        @NamedAttributeNode(value = "deploymentFlavour", subgraph = "deploymentFlavour"),
+        @NamedAttributeNode(value = "vdu", subgraph = "vdu"),
+        @NamedAttributeNode("virtualComputeDesc"),
+        @NamedAttributeNode("virtualStorageDesc"),
+        @NamedAttributeNode("intVirtualLinkDesc"),
+        @NamedAttributeNode("vnfExtCpd")
+    }, subgraphs = {
+        @NamedSubgraph(name = "deploymentFlavour", attributeNodes = {
+            @NamedAttributeNode(value = "vduProfile", subgraph = "vduProfile"),
+            @NamedAttributeNode(value = "virtualLinkProfile", subgraph = "virtualLinkProfile"),
+            @NamedAttributeNode(value = "instantiationLevel", subgraph = "instantiationLevel"),
+            @NamedAttributeNode("affinityOrAntiAffinityGroup")
+        }),
+        @NamedSubgraph(name = "vdu", attributeNodes = {
+            @NamedAttributeNode("intCpd"),
+            @NamedAttributeNode("virtualStorageDesc"),
+            @NamedAttributeNode("bootOrder"),
+            @NamedAttributeNode("nfviConstraint"),
+            @NamedAttributeNode("monitoringParameter")
+        }),
+        @NamedSubgraph(name = "vduProfile", attributeNodes = {
+            @NamedAttributeNode("localAffinityOrAntiAffinityRule"),
+            @NamedAttributeNode("affinityOrAntiAffinityGroupId")
+        }),
+        @NamedSubgraph(name = "virtualLinkProfile", attributeNodes = {
+            @NamedAttributeNode("localAffinityOrAntiAffinityRule"),
+            @NamedAttributeNode("affinityOrAntiAffinityGroupId")
+        }),
+        @NamedSubgraph(name = "instantiationLevel", attributeNodes = {
+            @NamedAttributeNode("vduLevel"),
+            @NamedAttributeNode("scaleInfo")
+        })
+    }),
+    @NamedEntityGraph(name = FetchProfiles.VNFD_FULL, attributeNodes = {
+        @NamedAttributeNode(value = "deploymentFlavour", subgraph = "deploymentFlavour"),
+        @NamedAttributeNode("vnfmInfo"),
+        @NamedAttributeNode("localizationLanguage"),
+        @NamedAttributeNode(value = "vdu", subgraph = "vdu"),
+        @NamedAttributeNode("virtualComputeDesc"),
+        @NamedAttributeNode("virtualStorageDesc"),
+        @NamedAttributeNode("intVirtualLinkDesc"),
+        @NamedAttributeNode("vnfExtCpd"),
+        @NamedAttributeNode("lifeCycleManagementScript"),
+        @NamedAttributeNode("elementGroup"),
+        @NamedAttributeNode("vnfIndicator"),
+        @NamedAttributeNode("autoScale")
+    }, subgraphs = {
+        @NamedSubgraph(name = "deploymentFlavour", attributeNodes = {
+            @NamedAttributeNode(value = "vduProfile", subgraph = "vduProfile"),
+            @NamedAttributeNode(value = "virtualLinkProfile", subgraph = "virtualLinkProfile"),
+            @NamedAttributeNode(value = "instantiationLevel", subgraph = "instantiationLevel"),
+            @NamedAttributeNode("affinityOrAntiAffinityGroup"),
+            @NamedAttributeNode("supportedOperation"),
+            @NamedAttributeNode("vnfLcmOperationsConfiguration"),
+            @NamedAttributeNode("monitoringParameter"),
+            @NamedAttributeNode("scalingAspect")
+        }),
+        @NamedSubgraph(name = "vdu", attributeNodes = {
+            @NamedAttributeNode("intCpd"),
+            @NamedAttributeNode("virtualStorageDesc"),
+            @NamedAttributeNode("bootOrder"),
+            @NamedAttributeNode("nfviConstraint"),
+            @NamedAttributeNode("monitoringParameter")
+        }),
+        @NamedSubgraph(name = "vduProfile", attributeNodes = {
+            @NamedAttributeNode("localAffinityOrAntiAffinityRule"),
+            @NamedAttributeNode("affinityOrAntiAffinityGroupId")
+        }),
+        @NamedSubgraph(name = "virtualLinkProfile", attributeNodes = {
+            @NamedAttributeNode("localAffinityOrAntiAffinityRule"),
+            @NamedAttributeNode("affinityOrAntiAffinityGroupId")
+        }),
+        @NamedSubgraph(name = "instantiationLevel", attributeNodes = {
+            @NamedAttributeNode("vduLevel"),
+            @NamedAttributeNode("scaleInfo")
+        })
+    })
+})
+@BatchSize(size = FetchProfiles.BATCH_SIZE)
+public class Vnfd extends TrackedElement implements DescriptorInformationElement, VersionedDescriptor {
 
     @Id
     @GeneratedValue
@@ -80,14 +172,14 @@ public class Vnfd implements DescriptorInformationElement {
     private String vnfProductInfoName;
     private String vnfProductInfoDescription;
     
-    @ElementCollection(fetch = FetchType.EAGER)
-    @Fetch(FetchMode.SELECT)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @BatchSize(size = FetchProfiles.BATCH_SIZE)
     @Cascade(org.hibernate.annotations.CascadeType.ALL)
     private List<String> vnfmInfo = new ArrayList<>();
 
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
-    @ElementCollection(fetch = FetchType.EAGER)
-    @Fetch(FetchMode.SELECT)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @BatchSize(size = FetchProfiles.BATCH_SIZE)
     @Cascade(org.hibernate.annotations.CascadeType.ALL)
     private List<String> localizationLanguage = new ArrayList<>();
 
@@ -95,35 +187,35 @@ public class Vnfd implements DescriptorInformationElement {
 
     @OneToMany(mappedBy = "vnfd", cascade = CascadeType.ALL)
     @OnDelete(action = OnDeleteAction.CASCADE)
-    @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = FetchProfiles.BATCH_SIZE)
     private List<Vdu> vdu = new ArrayList<>();
 
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
     @OneToMany(mappedBy = "vnfd", cascade = CascadeType.ALL)
     @OnDelete(action = OnDeleteAction.CASCADE)
-    @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = FetchProfiles.BATCH_SIZE)
     private List<VirtualComputeDesc> virtualComputeDesc = new ArrayList<>();
 
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
-    @ElementCollection(fetch = FetchType.EAGER)
-    @Fetch(FetchMode.SELECT)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @BatchSize(size = FetchProfiles.BATCH_SIZE)
     @Cascade(org.hibernate.annotations.CascadeType.ALL)
     private List<VirtualStorageDesc> virtualStorageDesc = new ArrayList<>();
 
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
     @OneToMany(mappedBy = "vnfd", cascade = CascadeType.ALL)
     @OnDelete(action = OnDeleteAction.CASCADE)
-    @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = FetchProfiles.BATCH_SIZE)
     private List<VnfVirtualLinkDesc> intVirtualLinkDesc = new ArrayList<>();
 
     @OneToMany(mappedBy = "vnfd", cascade = CascadeType.ALL)
     @OnDelete(action = OnDeleteAction.CASCADE)
-    @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = FetchProfiles.BATCH_SIZE)
     private List<VnfExtCpd> vnfExtCpd = new ArrayList<>();
 
     @OneToMany(mappedBy = "vnfd", cascade = CascadeType.ALL)
     @OnDelete(action = OnDeleteAction.CASCADE)
-    @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = FetchProfiles.BATCH_SIZE)
     private List<VnfDf> deploymentFlavour = new ArrayList<>();
 
     @OneToOne(fetch = FetchType.EAGER, mappedBy = "vnfd", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -137,27 +229,51 @@ public class Vnfd implements DescriptorInformationElement {
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
     @OneToMany(mappedBy = "vnfd", cascade = CascadeType.ALL)
     @OnDelete(action = OnDeleteAction.CASCADE)
-    @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = FetchProfiles.BATCH_SIZE)
     private List<LifeCycleManagementScript> lifeCycleManagementScript = new ArrayList<>();
 
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
     @OneToMany(mappedBy = "vnfd", cascade = CascadeType.ALL)
     @OnDelete(action = OnDeleteAction.CASCADE)
-    @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = FetchProfiles.BATCH_SIZE)
     private List<VnfdElementGroup> elementGroup = new ArrayList<>();
 
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
-    @ElementCollection(fetch = FetchType.EAGER)
-    @Fetch(FetchMode.SELECT)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @BatchSize(size = FetchProfiles.BATCH_SIZE)
     @Cascade(org.hibernate.annotations.CascadeType.ALL)
     private List<VnfIndicator> vnfIndicator = new ArrayList<>();
 
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
     @OneToMany(mappedBy = "vnfd", cascade = CascadeType.ALL)
     @OnDelete(action = OnDeleteAction.CASCADE)
-    @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = FetchProfiles.BATCH_SIZE)
     private List<Rule> autoScale = new ArrayList<>();
 
+    @Transient
+    @JsonIgnore
+    private transient volatile IdIndex<VnfDf> deploymentFlavourIndex;
+
+    @Transient
+    @JsonIgnore
+    private transient volatile IdIndex<Vdu> vduIndex;
+
+    @Transient
+    @JsonIgnore
+    private transient volatile IdIndex<VirtualComputeDesc> virtualComputeDescIndex;
+
+    @Transient
+    @JsonIgnore
+    private transient volatile IdIndex<VirtualStorageDesc> virtualStorageDescIndex;
+
+    @Transient
+    @JsonIgnore
+    private transient volatile IdIndex<VnfExtCpd> vnfExtCpdIndex;
+
+    @Transient
+    @JsonIgnore
+    private transient volatile IdIndex<VnfExtCpd> vnfExtCpdByIntCpdIndex;
+
     public Vnfd() {
         //JPA only
     }
@@ -239,6 +355,18 @@ public class Vnfd implements DescriptorInformationElement {
         return vnfdVersion;
     }
 
+    @Override
+    @JsonIgnore
+    public String getDescriptorId() {
+        return vnfdId;
+    }
+
+    @Override
+    @JsonIgnore
+    public String getDescriptorVersion() {
+        return vnfdVersion;
+    }
+
     /**
      * @return the vnfProductInfoName
      */
@@ -260,7 +388,7 @@ public class Vnfd implements DescriptorInformationElement {
      */
     @JsonProperty("vnfmInfo")
     public List<String> getVnfmInfo() {
-        return vnfmInfo;
+        return track(vnfmInfo);
     }
 
     /**
@@ -268,7 +396,7 @@ public class Vnfd implements DescriptorInformationElement {
      */
     @JsonProperty("localizationLanguage")
     public List<String> getLocalizationLanguage() {
-        return localizationLanguage;
+        return track(localizationLanguage);
     }
 
     /**
@@ -284,7 +412,7 @@ public class Vnfd implements DescriptorInformationElement {
      */
     @JsonProperty("vdu")
     public List<Vdu> getVdu() {
-        return vdu;
+        return track(vdu);
     }
 
     /**
@@ -292,7 +420,7 @@ public class Vnfd implements DescriptorInformationElement {
      */
     @JsonProperty("virtualComputeDesc")
     public List<VirtualComputeDesc> getVirtualComputeDesc() {
-        return virtualComputeDesc;
+        return track(virtualComputeDesc);
     }
 
     /**
@@ -300,7 +428,7 @@ public class Vnfd implements DescriptorInformationElement {
      */
     @JsonProperty("virtualStorageDesc")
     public List<VirtualStorageDesc> getVirtualStorageDesc() {
-        return virtualStorageDesc;
+        return track(virtualStorageDesc);
     }
 
     /**
@@ -308,7 +436,7 @@ public class Vnfd implements DescriptorInformationElement {
      */
     @JsonProperty("intVirtualLinkDesc")
     public List<VnfVirtualLinkDesc> getIntVirtualLinkDesc() {
-        return intVirtualLinkDesc;
+        return track(intVirtualLinkDesc);
     }
 
     /**
@@ -316,7 +444,7 @@ public class Vnfd implements DescriptorInformationElement {
      */
     @JsonProperty("vnfExtCpd")
     public List<VnfExtCpd> getVnfExtCpd() {
-        return vnfExtCpd;
+        return track(vnfExtCpd);
     }
 
     /**
@@ -324,7 +452,7 @@ public class Vnfd implements DescriptorInformationElement {
      */
     @JsonProperty("deploymentFlavour")
     public List<VnfDf> getDeploymentFlavour() {
-        return deploymentFlavour;
+        return track(deploymentFlavour);
     }
 
     /**
@@ -348,7 +476,7 @@ public class Vnfd implements DescriptorInformationElement {
      */
     @JsonProperty("lifeCycleManagementScript")
     public List<LifeCycleManagementScript> getLifeCycleManagementScript() {
-        return lifeCycleManagementScript;
+        return track(lifeCycleManagementScript);
     }
 
     /**
@@ -356,7 +484,7 @@ public class Vnfd implements DescriptorInformationElement {
      */
     @JsonProperty("elementGroup")
     public List<VnfdElementGroup> getElementGroup() {
-        return elementGroup;
+        return track(elementGroup);
     }
 
     /**
@@ -364,7 +492,7 @@ public class Vnfd implements DescriptorInformationElement {
      */
     @JsonProperty("vnfIndicator")
     public List<VnfIndicator> getVnfIndicator() {
-        return vnfIndicator;
+        return track(vnfIndicator);
     }
 
     /**
@@ -372,55 +500,115 @@ public class Vnfd implements DescriptorInformationElement {
      */
     @JsonProperty("autoscale")
     public List<Rule> getAutoScale() {
-        return autoScale;
+        return track(autoScale);
     }
     
     @JsonIgnore
     public VnfDf getVnfDf(String dfId) throws NotExistingEntityException {
-    	for (VnfDf df : deploymentFlavour) {
-    		if (df.getFlavourId().equals(dfId)) return df;
-    	}
-    	throw new NotExistingEntityException("Deployment flavour with ID " + dfId + " not found");
+    	Optional<VnfDf> df = findVnfDf(dfId);
+    	if (!df.isPresent()) throw NotExistingEntityException.stackless("Deployment flavour with ID " + dfId + " not found");
+    	return df.get();
+    }
+    
+    /**
+     * @param dfId ID of the deployment flavour
+     * @return the VNF deployment flavour with the given ID, or an empty optional if it does not exist
+     */
+    @JsonIgnore
+    public Optional<VnfDf> findVnfDf(String dfId) {
+    	IdIndex<VnfDf> index = IdIndex.of(deploymentFlavourIndex, deploymentFlavour, getModificationStamp(), VnfDf::getFlavourId);
+    	deploymentFlavourIndex = index;
+    	return index.find(dfId);
     }
     
     @JsonIgnore
     public Vdu getVduFromId(String vduId) throws NotExistingEntityException {
-    	for (Vdu v : vdu) {
-    		if (v.getVduId().equals(vduId)) return v;
-    	}
-    	throw new NotExistingEntityException("VDU with ID " + vduId + " not found");
+    	Optional<Vdu> v = findVduFromId(vduId);
+    	if (!v.isPresent()) throw NotExistingEntityException.stackless("VDU with ID " + vduId + " not found");
+    	return v.get();
+    }
+    
+    /**
+     * @param vduId ID of the VDU
+     * @return the VDU with the given ID, or an empty optional if it does not exist
+     */
+    @JsonIgnore
+    public Optional<Vdu> findVduFromId(String vduId) {
+    	IdIndex<Vdu> index = IdIndex.of(vduIndex, vdu, getModificationStamp(), Vdu::getVduId);
+    	vduIndex = index;
+    	return index.find(vduId);
     }
     
     @JsonIgnore
     public VirtualComputeDesc getVirtualComputeDescriptorFromId(String vcdId) throws NotExistingEntityException {
-    	for (VirtualComputeDesc vcd : virtualComputeDesc) {
-    		if (vcd.getVirtualComputeDescId().equals(vcdId)) return vcd;
-    	}
-    	throw new NotExistingEntityException("Virtual compute descriptor with ID " + vcdId + " not found");
+    	Optional<VirtualComputeDesc> vcd = findVirtualComputeDescriptorFromId(vcdId);
+    	if (!vcd.isPresent()) throw NotExistingEntityException.stackless("Virtual compute descriptor with ID " + vcdId + " not found");
+    	return vcd.get();
+    }
+    
+    /**
+     * @param vcdId ID of the virtual compute descriptor
+     * @return the virtual compute descriptor with the given ID, or an empty optional if it does not exist
+     */
+    @JsonIgnore
+    public Optional<VirtualComputeDesc> findVirtualComputeDescriptorFromId(String vcdId) {
+    	IdIndex<VirtualComputeDesc> index = IdIndex.of(virtualComputeDescIndex, virtualComputeDesc, getModificationStamp(), VirtualComputeDesc::getVirtualComputeDescId);
+    	virtualComputeDescIndex = index;
+    	return index.find(vcdId);
     }
     
     @JsonIgnore
     public VirtualStorageDesc getVirtualStorageDescriptorFromId(String vsdId) throws NotExistingEntityException {
-    	for (VirtualStorageDesc vsd : virtualStorageDesc) {
-    		if (vsd.getStorageId().equals(vsdId)) return vsd;
-    	}
-    	throw new NotExistingEntityException("Virtual storage description with ID " + vsdId + " not found");
+    	Optional<VirtualStorageDesc> vsd = findVirtualStorageDescriptorFromId(vsdId);
+    	if (!vsd.isPresent()) throw NotExistingEntityException.stackless("Virtual storage description with ID " + vsdId + " not found");
+    	return vsd.get();
+    }
+    
+    /**
+     * @param vsdId ID of the virtual storage descriptor
+     * @return the virtual storage descriptor with the given ID, or an empty optional if it does not exist
+     */
+    @JsonIgnore
+    public Optional<VirtualStorageDesc> findVirtualStorageDescriptorFromId(String vsdId) {
+    	IdIndex<VirtualStorageDesc> index = IdIndex.of(virtualStorageDescIndex, virtualStorageDesc, getModificationStamp(), VirtualStorageDesc::getStorageId);
+    	virtualStorageDescIndex = index;
+    	return index.find(vsdId);
     }
     
     @JsonIgnore
     public VnfExtCpd getExternalConnectionPointAssociatedToInternalConnectionPoint(String intCpId) throws NotExistingEntityException {
-    	for (VnfExtCpd extCp : vnfExtCpd) {
-    		if (extCp.getIntCpd().equals(intCpId)) return extCp;
-    	}
-    	throw new NotExistingEntityException("External connection point associated to internal cp " + intCpId + " not found");
+    	Optional<VnfExtCpd> extCp = findExternalConnectionPointAssociatedToInternalConnectionPoint(intCpId);
+    	if (!extCp.isPresent()) throw NotExistingEntityException.stackless("External connection point associated to internal cp " + intCpId + " not found");
+    	return extCp.get();
+    }
+    
+    /**
+     * @param intCpId ID of the internal connection point
+     * @return the external connection point associated to the given internal one, or an empty optional if it does not exist
+     */
+    @JsonIgnore
+    public Optional<VnfExtCpd> findExternalConnectionPointAssociatedToInternalConnectionPoint(String intCpId) {
+    	IdIndex<VnfExtCpd> index = IdIndex.of(vnfExtCpdByIntCpdIndex, vnfExtCpd, getModificationStamp(), VnfExtCpd::getIntCpd);
+    	vnfExtCpdByIntCpdIndex = index;
+    	return index.find(intCpId);
     }
     
     @JsonIgnore
     public VnfExtCpd getExternalConnectionPointFromId(String extCpdId) throws NotExistingEntityException {
-    	for (VnfExtCpd extCp : vnfExtCpd) {
-    		if (extCp.getCpdId().equals(extCpdId)) return extCp;
-    	}
-    	throw new NotExistingEntityException("External connection point with Id " + extCpdId + " not found");
+    	Optional<VnfExtCpd> extCp = findExternalConnectionPointFromId(extCpdId);
+    	if (!extCp.isPresent()) throw NotExistingEntityException.stackless("External connection point with Id " + extCpdId + " not found");
+    	return extCp.get();
+    }
+    
+    /**
+     * @param extCpdId ID of the external connection point descriptor
+     * @return the external connection point with the given ID, or an empty optional if it does not exist
+     */
+    @JsonIgnore
+    public Optional<VnfExtCpd> findExternalConnectionPointFromId(String extCpdId) {
+    	IdIndex<VnfExtCpd> index = IdIndex.of(vnfExtCpdIndex, vnfExtCpd, getModificationStamp(), VnfExtCpd::getCpdId);
+    	vnfExtCpdIndex = index;
+    	return index.find(extCpdId);
     }
     
     @JsonIgnore
@@ -432,41 +620,55 @@ public class Vnfd implements DescriptorInformationElement {
     	return result;
     }
 
+    /**
+     * Returns the content-addressed fingerprint of the VNFD, computed by the
+     * default MerkleHasher: two VNFDs with the same content have the same fingerprint.
+     * 
+     * @return the fingerprint
+     */
+    public Fingerprint fingerprint() {
+        return MerkleHasher.getDefault().fingerprint(this);
+    }
+
     @Override
     public void isValid() throws MalformattedElementException {
-        if (vnfdId == null) throw new MalformattedElementException("VNFD without VNFD ID");
-        if (vnfProvider == null) throw new MalformattedElementException("VNFD without VNF provider");
-        if (vnfProductName == null) throw new MalformattedElementException("VNFD without VNF product name");
-        if (vnfSoftwareVersion == null) throw new MalformattedElementException("VNFD without VNF sw version");
-        if (vnfdVersion == null) throw new MalformattedElementException("VNFD without VNFD version");
-        if ((vnfmInfo == null) || (vnfmInfo.isEmpty()))
-            throw new MalformattedElementException("VNFD without VNFM info");
+        ValidationContext.requireValid(this);
+    }
+
+    @Override
+    public void validate(ValidationContext context) {
+        context.require(vnfdId != null, "VNFD without VNFD ID");
+        context.require(vnfProvider != null, "VNFD without VNF provider");
+        context.require(vnfProductName != null, "VNFD without VNF product name");
+        context.require(vnfSoftwareVersion != null, "VNFD without VNF sw version");
+        context.require(vnfdVersion != null, "VNFD without VNFD version");
+        context.require((vnfmInfo != null) && (!vnfmInfo.isEmpty()), "VNFD without VNFM info");
         if ((vdu == null) || (vdu.isEmpty())) {
-            throw new MalformattedElementException("VNFD without VDUs");
+            context.reportViolation("VNFD without VDUs");
         } else {
-            for (Vdu v : vdu) v.isValid();
+            context.validateAll("vdu", vdu);
         }
-        for (VirtualComputeDesc v : virtualComputeDesc) v.isValid();
-        for (VirtualStorageDesc v : virtualStorageDesc) v.isValid();
-        for (VnfVirtualLinkDesc v : intVirtualLinkDesc) v.isValid();
+        context.validateAll("virtualComputeDesc", virtualComputeDesc);
+        context.validateAll("virtualStorageDesc", virtualStorageDesc);
+        context.validateAll("intVirtualLinkDesc", intVirtualLinkDesc);
         if ((vnfExtCpd == null) || (vnfExtCpd.isEmpty())) {
-            throw new MalformattedElementException("VNFD without external connection points");
+            context.reportViolation("VNFD without external connection points");
         } else {
-            for (VnfExtCpd v : vnfExtCpd) v.isValid();
+            context.validateAll("vnfExtCpd", vnfExtCpd);
         }
         if ((deploymentFlavour == null) || (deploymentFlavour.isEmpty())) {
-            throw new MalformattedElementException("VNFD without deployment flavours");
+            context.reportViolation("VNFD without deployment flavours");
         } else {
-            for (VnfDf v : deploymentFlavour) v.isValid();
+            context.validateAll("deploymentFlavour", deploymentFlavour);
         }
-        if (configurableProperties != null) configurableProperties.isValid();
+        context.validate("configurableProperties", configurableProperties);
         if (modifiableAttributes == null) {
-            throw new MalformattedElementException("VNFD without modifiable attributes");
-        } else modifiableAttributes.isValid();
-        for (LifeCycleManagementScript s : lifeCycleManagementScript) s.isValid();
-        for (VnfdElementGroup v : elementGroup) v.isValid();
-        for (VnfIndicator i : vnfIndicator) i.isValid();
-        for (Rule r : autoScale) r.isValid();
+            context.reportViolation("VNFD without modifiable attributes");
+        } else context.validate("modifiableAttributes", modifiableAttributes);
+        context.validateAll("lifeCycleManagementScript", lifeCycleManagementScript);
+        context.validateAll("elementGroup", elementGroup);
+        context.validateAll("vnfIndicator", vnfIndicator);
+        context.validateAll("autoScale", autoScale);
     }
 
 }
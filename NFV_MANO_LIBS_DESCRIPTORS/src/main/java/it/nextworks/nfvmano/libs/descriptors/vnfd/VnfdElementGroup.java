@@ -26,6 +26,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -36,6 +37,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * A VNFD Element Group is a mechanism for associating elements of a VNFD 
@@ -48,7 +51,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class VnfdElementGroup implements DescriptorInformationElement {
+public class VnfdElementGroup extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -66,12 +69,14 @@ public class VnfdElementGroup implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> vdu = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> virtualLinkDesc = new ArrayList<>();
 	
@@ -124,7 +129,7 @@ public class VnfdElementGroup implements DescriptorInformationElement {
 	 */
 	@JsonProperty("vdu")
 	public List<String> getVdu() {
-		return vdu;
+		return track(vdu);
 	}
 
 	/**
@@ -132,13 +137,13 @@ public class VnfdElementGroup implements DescriptorInformationElement {
 	 */
 	@JsonProperty("virtualLinkDesc")
 	public List<String> getVirtualLinkDesc() {
-		return virtualLinkDesc;
+		return track(virtualLinkDesc);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (vnfdElementGroupId == null) throw new MalformattedElementException("VNFD element group without ID");
-		if (description == null) throw new MalformattedElementException("VNFD element group without description");
+		if (vnfdElementGroupId == null) throw MalformattedElementException.stackless("VNFD element group without ID");
+		if (description == null) throw MalformattedElementException.stackless("VNFD element group without description");
 	}
 
 }
@@ -27,6 +27,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -39,6 +40,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.enums.OperationalState;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.Rule;
 
 /**
@@ -49,7 +52,7 @@ import it.nextworks.nfvmano.libs.descriptors.common.elements.Rule;
  *
  */
 @Entity
-public class Nfp implements DescriptorInformationElement {
+public class Nfp extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -64,6 +67,7 @@ public class Nfp implements DescriptorInformationElement {
 	
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> cpId = new ArrayList<>();
 	
@@ -138,7 +142,7 @@ public class Nfp implements DescriptorInformationElement {
 	 * @return the cpId
 	 */
 	public List<String> getCpId() {
-		return cpId;
+		return track(cpId);
 	}
 
 	/**
@@ -164,9 +168,9 @@ public class Nfp implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (nfpId == null) throw new MalformattedElementException("NFP without ID");
-		if ((cpId == null) || (cpId.isEmpty())) throw new MalformattedElementException("NFP without CP IDs");
-		if (nfpRule == null) throw new MalformattedElementException("NFP without rule");
+		if (nfpId == null) throw MalformattedElementException.stackless("NFP without ID");
+		if ((cpId == null) || (cpId.isEmpty())) throw MalformattedElementException.stackless("NFP without CP IDs");
+		if (nfpRule == null) throw MalformattedElementException.stackless("NFP without rule");
 	}
 
 }
@@ -19,31 +19,42 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import javax.persistence.CascadeType;
+import javax.persistence.Convert;
 import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedEntityGraphs;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
-import org.hibernate.annotations.Fetch;
-import org.hibernate.annotations.FetchMode;
-import org.hibernate.annotations.LazyCollection;
-import org.hibernate.annotations.LazyCollectionOption;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.AffinityRule;
 import it.nextworks.nfvmano.libs.common.enums.InstantiationState;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
 import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
+import it.nextworks.nfvmano.libs.common.fingerprint.Fingerprint;
+import it.nextworks.nfvmano.libs.common.fingerprint.MerkleHasher;
+import it.nextworks.nfvmano.libs.common.identifiers.IdentifierDictionary;
+import it.nextworks.nfvmano.libs.common.identifiers.InternedIdentifierConverter;
+import it.nextworks.nfvmano.libs.common.identifiers.InternedIdentifierDeserializer;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * This information element provides run-time information about an NS instance.
@@ -53,7 +64,62 @@ import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
  *
  */
 @Entity
-public class NsInfo implements DescriptorInformationElement {
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = FetchProfiles.NS_INFO_SUMMARY),
+	@NamedEntityGraph(name = FetchProfiles.NS_INFO_DEPLOYMENT, attributeNodes = {
+		@NamedAttributeNode("vnfInfoId"),
+		@NamedAttributeNode("vnfInfoMap"),
+		@NamedAttributeNode("vnfInfoVnfdIdMap"),
+		@NamedAttributeNode(value = "pnfInfo", subgraph = "pnfInfo"),
+		@NamedAttributeNode(value = "virtualLinkInfo", subgraph = "virtualLinkInfo"),
+		@NamedAttributeNode(value = "sapInfo", subgraph = "sapInfo"),
+		@NamedAttributeNode("nestedNsInfoId")
+	}, subgraphs = {
+		@NamedSubgraph(name = "pnfInfo", attributeNodes = {
+			@NamedAttributeNode("cpInfo")
+		}),
+		@NamedSubgraph(name = "virtualLinkInfo", attributeNodes = {
+			@NamedAttributeNode("resourceHandle"),
+			@NamedAttributeNode("linkPort")
+		}),
+		@NamedSubgraph(name = "sapInfo", attributeNodes = {
+			@NamedAttributeNode("userAccessInfo")
+		})
+	}),
+	@NamedEntityGraph(name = FetchProfiles.NS_INFO_FULL, attributeNodes = {
+		@NamedAttributeNode("configurationParameters"),
+		@NamedAttributeNode("vnfInfoId"),
+		@NamedAttributeNode("vnfInfoMap"),
+		@NamedAttributeNode("vnfInfoVnfdIdMap"),
+		@NamedAttributeNode(value = "pnfInfo", subgraph = "pnfInfo"),
+		@NamedAttributeNode(value = "virtualLinkInfo", subgraph = "virtualLinkInfo"),
+		@NamedAttributeNode(value = "vnffgInfo", subgraph = "vnffgInfo"),
+		@NamedAttributeNode(value = "sapInfo", subgraph = "sapInfo"),
+		@NamedAttributeNode("nestedNsInfoId"),
+		@NamedAttributeNode("nsScaleStatus"),
+		@NamedAttributeNode("additionalAffinityOrAntiAffinityRule")
+	}, subgraphs = {
+		@NamedSubgraph(name = "pnfInfo", attributeNodes = {
+			@NamedAttributeNode("cpInfo")
+		}),
+		@NamedSubgraph(name = "virtualLinkInfo", attributeNodes = {
+			@NamedAttributeNode("resourceHandle"),
+			@NamedAttributeNode("linkPort")
+		}),
+		@NamedSubgraph(name = "vnffgInfo", attributeNodes = {
+			@NamedAttributeNode("vnfId"),
+			@NamedAttributeNode("pnfId"),
+			@NamedAttributeNode("virtualLinkId"),
+			@NamedAttributeNode("cpId"),
+			@NamedAttributeNode("nfp")
+		}),
+		@NamedSubgraph(name = "sapInfo", attributeNodes = {
+			@NamedAttributeNode("userAccessInfo")
+		})
+	})
+})
+@BatchSize(size = FetchProfiles.BATCH_SIZE)
+public class NsInfo extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -64,67 +130,71 @@ public class NsInfo implements DescriptorInformationElement {
 	private String nsInstanceId;
 	private String nsName;
 	private String description;
+	@JsonDeserialize(using = InternedIdentifierDeserializer.class)
+	@Convert(converter = InternedIdentifierConverter.class)
 	private String nsdId;
 	
 	@JsonIgnore
 	private String tenantId;
 	
 	@JsonIgnore
-	@ElementCollection(fetch=FetchType.EAGER)
-	@Fetch(FetchMode.SELECT)
+	@ElementCollection(fetch=FetchType.LAZY)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private Map<String, String> configurationParameters = new HashMap<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@JsonDeserialize(using = InternedIdentifierDeserializer.class)
+	@Convert(converter = InternedIdentifierConverter.class)
 	private String flavourId;
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
-	@ElementCollection(fetch=FetchType.EAGER)
-	@Fetch(FetchMode.SELECT)
+	@ElementCollection(fetch=FetchType.LAZY)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> vnfInfoId = new ArrayList<String>();
 	
 	//KEY: VNF info ID; value: index
 	@JsonIgnore
-	@ElementCollection(fetch=FetchType.EAGER)
-	@Fetch(FetchMode.SELECT)
+	@ElementCollection(fetch=FetchType.LAZY)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private Map<String, Integer> vnfInfoMap = new HashMap<>(); 
 
 	//KEY: VNF info ID; value: VNFD ID
 	@JsonIgnore
-	@ElementCollection(fetch=FetchType.EAGER)
-	@Fetch(FetchMode.SELECT)
+	@ElementCollection(fetch=FetchType.LAZY)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private Map<String, String> vnfInfoVnfdIdMap = new HashMap<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "nsInfo", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<PnfInfo> pnfInfo = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "nsInfo", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<NsVirtualLinkInfo> virtualLinkInfo = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "nsInfo", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<VnffgInfo> vnffgInfo = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "nsInfo", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
-	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<SapInfo> sapInfo = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
-	@ElementCollection(fetch=FetchType.EAGER)
-	@Fetch(FetchMode.SELECT)
+	@ElementCollection(fetch=FetchType.LAZY)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> nestedNsInfoId = new ArrayList<>();
 	
@@ -137,14 +207,14 @@ public class NsInfo implements DescriptorInformationElement {
 	private InstantiationState nsState;
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
-	@ElementCollection(fetch=FetchType.EAGER)
-	@Fetch(FetchMode.SELECT)
+	@ElementCollection(fetch=FetchType.LAZY)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<NsScaleInfo> nsScaleStatus = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
-	@ElementCollection(fetch=FetchType.EAGER)
-	@Fetch(FetchMode.SELECT)
+	@ElementCollection(fetch=FetchType.LAZY)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<AffinityRule> additionalAffinityOrAntiAffinityRule = new ArrayList<>();
 	
@@ -189,8 +259,8 @@ public class NsInfo implements DescriptorInformationElement {
 		this.nsInstanceId = nsInstanceId;
 		this.nsName = nsName;
 		this.description = description;
-		this.nsdId = nsdId;
-		this.flavourId = flavourId;
+		this.nsdId = IdentifierDictionary.intern(nsdId);
+		this.flavourId = IdentifierDictionary.intern(flavourId);
 		if (vnfInfoId != null) this.vnfInfoId = vnfInfoId;
 		if (nestedNsInfoId != null) this.nestedNsInfoId = nestedNsInfoId;
 		this.nsState = nsState;
@@ -236,8 +306,8 @@ public class NsInfo implements DescriptorInformationElement {
 		this.nsInstanceId = nsInstanceId;
 		this.nsName = nsName;
 		this.description = description;
-		this.nsdId = nsdId;
-		this.flavourId = flavourId;
+		this.nsdId = IdentifierDictionary.intern(nsdId);
+		this.flavourId = IdentifierDictionary.intern(flavourId);
 		if (vnfInfoId != null) this.vnfInfoId = vnfInfoId;
 		if (pnfInfo != null) this.pnfInfo = pnfInfo;
 		if (virtualLinkInfo != null) this.virtualLinkInfo = virtualLinkInfo;
@@ -255,7 +325,8 @@ public class NsInfo implements DescriptorInformationElement {
 	 * @param flavourId the flavourId to set
 	 */
 	public void setFlavourId(String flavourId) {
-		this.flavourId = flavourId;
+		this.flavourId = IdentifierDictionary.intern(flavourId);
+		touch();
 	}
 
 	/**
@@ -270,6 +341,7 @@ public class NsInfo implements DescriptorInformationElement {
 	 */
 	public void setNsInstanceId(String nsInstanceId) {
 		this.nsInstanceId = nsInstanceId;
+		touch();
 	}
 
 	/**
@@ -311,42 +383,42 @@ public class NsInfo implements DescriptorInformationElement {
 	 * @return the vnfInfoId
 	 */
 	public List<String> getVnfInfoId() {
-		return vnfInfoId;
+		return track(vnfInfoId);
 	}
 
 	/**
 	 * @return the pnfInfo
 	 */
 	public List<PnfInfo> getPnfInfo() {
-		return pnfInfo;
+		return track(pnfInfo);
 	}
 
 	/**
 	 * @return the virtualLinkInfo
 	 */
 	public List<NsVirtualLinkInfo> getVirtualLinkInfo() {
-		return virtualLinkInfo;
+		return track(virtualLinkInfo);
 	}
 
 	/**
 	 * @return the vnffgInfo
 	 */
 	public List<VnffgInfo> getVnffgInfo() {
-		return vnffgInfo;
+		return track(vnffgInfo);
 	}
 
 	/**
 	 * @return the sapInfo
 	 */
 	public List<SapInfo> getSapInfo() {
-		return sapInfo;
+		return track(sapInfo);
 	}
 
 	/**
 	 * @return the nestedNsInfoId
 	 */
 	public List<String> getNestedNsInfoId() {
-		return nestedNsInfoId;
+		return track(nestedNsInfoId);
 	}
 
 	/**
@@ -360,14 +432,14 @@ public class NsInfo implements DescriptorInformationElement {
 	 * @return the nsScaleStatus
 	 */
 	public List<NsScaleInfo> getNsScaleStatus() {
-		return nsScaleStatus;
+		return track(nsScaleStatus);
 	}
 
 	/**
 	 * @return the additionalAffinityOrAntiAffinityRule
 	 */
 	public List<AffinityRule> getAdditionalAffinityOrAntiAffinityRule() {
-		return additionalAffinityOrAntiAffinityRule;
+		return track(additionalAffinityOrAntiAffinityRule);
 	}
 	
 	
@@ -383,27 +455,41 @@ public class NsInfo implements DescriptorInformationElement {
 		vnfInfoId.add(vnfInfo);
 		vnfInfoMap.put(vnfInfo, index);
 		vnfInfoVnfdIdMap.put(vnfInfo, vnfdId);
+		touch();
 	}
 	
 	public void removeVnfInfo(String vnfInfo) {
 		vnfInfoId.remove(vnfInfo);
 		vnfInfoMap.remove(vnfInfo);
 		vnfInfoVnfdIdMap.remove(vnfInfo);
+		touch();
 	}
 	
 	@JsonIgnore
 	public String getVnfInfoIdFromVnfdIdAndVnfIndex(String vnfdId, int vnfIndex) throws NotExistingEntityException {
-		List<String> vnfInfoIdsWithSameVnfdId = new ArrayList<>();
+		Optional<String> vnfInfoId = findVnfInfoIdFromVnfdIdAndVnfIndex(vnfdId, vnfIndex);
+		if (vnfInfoId.isPresent()) return vnfInfoId.get();
+		if (!vnfInfoVnfdIdMap.containsValue(vnfdId)) throw NotExistingEntityException.stackless("VNF info with VNFD ID " + vnfdId + " not found in NS instance " + nsInstanceId);
+		throw NotExistingEntityException.stackless("VNF info with VNFD ID " + vnfdId + " and VNF index " + vnfIndex + " not found in NS instance " + nsInstanceId);
+	}
+	
+	/**
+	 * @param vnfdId ID of the VNFD
+	 * @param vnfIndex index of the VNF instance among the ones with the same VNFD
+	 * @return the ID of the VNF info, or an empty optional if no single VNF info matches
+	 */
+	@JsonIgnore
+	public Optional<String> findVnfInfoIdFromVnfdIdAndVnfIndex(String vnfdId, int vnfIndex) {
+		String target = null;
 		for (Map.Entry<String, String> e : vnfInfoVnfdIdMap.entrySet()) {
-			if (e.getValue().equals(vnfdId)) vnfInfoIdsWithSameVnfdId.add(e.getKey());
-		}
-		if (vnfInfoIdsWithSameVnfdId.isEmpty()) throw new NotExistingEntityException("VNF info with VNFD ID " + vnfdId + " not found in NS instance " + nsInstanceId);
-		List<String> target = new ArrayList<>();
-		for (String vnfInfoId : vnfInfoIdsWithSameVnfdId) {
-			if (vnfInfoMap.get(vnfInfoId) == vnfIndex) target.add(vnfInfoId);
+			if (!e.getValue().equals(vnfdId)) continue;
+			Integer index = vnfInfoMap.get(e.getKey());
+			if ((index != null) && (index == vnfIndex)) {
+				if (target != null) return Optional.empty();
+				target = e.getKey();
+			}
 		}
-		if (target.size() != 1) throw new NotExistingEntityException("VNF info with VNFD ID " + vnfdId + " and VNF index " + vnfIndex + " not found in NS instance " + nsInstanceId);
-		return target.get(0);
+		return Optional.ofNullable(target);
 	}
 	
 	/**
@@ -411,7 +497,7 @@ public class NsInfo implements DescriptorInformationElement {
 	 */
 	@JsonIgnore
 	public Map<String, Integer> getVnfInfoMap() {
-		return vnfInfoMap;
+		return track(vnfInfoMap);
 	}
 	
 	@JsonIgnore
@@ -428,7 +514,7 @@ public class NsInfo implements DescriptorInformationElement {
 	 */
 	@JsonIgnore
 	public Map<String, String> getVnfInfoVnfdIdMap() {
-		return vnfInfoVnfdIdMap;
+		return track(vnfInfoVnfdIdMap);
 	}
 
 	/**
@@ -436,6 +522,7 @@ public class NsInfo implements DescriptorInformationElement {
 	 */
 	public void setNsState(InstantiationState nsState) {
 		this.nsState = nsState;
+		touch();
 	}
 	
 	/**
@@ -449,6 +536,7 @@ public class NsInfo implements DescriptorInformationElement {
 		List<NsScaleInfo> nsScaleInfo = new ArrayList<>();
 		nsScaleInfo.add(nsScaleInfoItem);
 		this.nsScaleStatus = nsScaleInfo;
+		touch();
 	}
 	
 	
@@ -482,13 +570,25 @@ public class NsInfo implements DescriptorInformationElement {
 	 */
 	public void setMonitoringDashboardUrl(String monitoringDashboardUrl) {
 		this.monitoringDashboardUrl = monitoringDashboardUrl;
+		touch();
 	}
 
 	public SapInfo getSapInfoFromSapdId(String sapdId) throws NotExistingEntityException {
+		Optional<SapInfo> s = findSapInfoFromSapdId(sapdId);
+		if (!s.isPresent()) throw NotExistingEntityException.stackless("SAP info for SAPD ID " + sapdId + " not found");
+		return s.get();
+	}
+	
+	/**
+	 * @param sapdId ID of the SAPD
+	 * @return the SAP info for the given SAPD, or an empty optional if it does not exist
+	 */
+	@JsonIgnore
+	public Optional<SapInfo> findSapInfoFromSapdId(String sapdId) {
 		for (SapInfo s : sapInfo) {
-			if (s.getSapdId().equals(sapdId)) return s;
+			if (s.getSapdId().equals(sapdId)) return Optional.of(s);
 		}
-		throw new NotExistingEntityException("SAP info for SAPD ID " + sapdId + " not found");
+		return Optional.empty();
 	}
 	
 		
@@ -497,7 +597,7 @@ public class NsInfo implements DescriptorInformationElement {
 	 */
 	@JsonIgnore
 	public Map<String, String> getConfigurationParameters() {
-		return configurationParameters;
+		return track(configurationParameters);
 	}
 
 	/**
@@ -506,14 +606,25 @@ public class NsInfo implements DescriptorInformationElement {
 	@JsonIgnore 
 	public void setConfigurationParameters(Map<String, String> configurationParameters) {
 		if (configurationParameters != null) this.configurationParameters = configurationParameters;
+		touch();
+	}
+
+	/**
+	 * Returns the content-addressed fingerprint of the NS instance record, computed by the
+	 * default MerkleHasher: two NS infos with the same content have the same fingerprint.
+	 * 
+	 * @return the fingerprint
+	 */
+	public Fingerprint fingerprint() {
+		return MerkleHasher.getDefault().fingerprint(this);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (nsInstanceId == null) throw new MalformattedElementException("NS Info without NS instance ID");
-		if (nsName == null) throw new MalformattedElementException("NS Info without NS name");
-		if (description == null) throw new MalformattedElementException("NS Info without description");
-		if (nsdId == null) throw new MalformattedElementException("NS Info without NSD ID");
+		if (nsInstanceId == null) throw MalformattedElementException.stackless("NS Info without NS instance ID");
+		if (nsName == null) throw MalformattedElementException.stackless("NS Info without NS name");
+		if (description == null) throw MalformattedElementException.stackless("NS Info without description");
+		if (nsdId == null) throw MalformattedElementException.stackless("NS Info without NSD ID");
 		if (pnfInfo != null) {
 			for (PnfInfo p: pnfInfo) p.isValid();
 		}
@@ -27,6 +27,7 @@ import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.ResourceHandle;
 import it.nextworks.nfvmano.libs.common.enums.VimResourceStatus;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
 
 /**
  * This information element provides information about a port of an NS VL.
@@ -37,7 +38,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class NsLinkPort implements DescriptorInformationElement {
+public class NsLinkPort extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -133,12 +134,13 @@ public class NsLinkPort implements DescriptorInformationElement {
 	 */
 	public void setStatus(VimResourceStatus status) {
 		this.status = status;
+		touch();
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
 		if (resourceHandle == null) {
-			throw new MalformattedElementException("NS Link Port without resource handle");
+			throw MalformattedElementException.stackless("NS Link Port without resource handle");
 		} else resourceHandle.isValid();
 	}
 	
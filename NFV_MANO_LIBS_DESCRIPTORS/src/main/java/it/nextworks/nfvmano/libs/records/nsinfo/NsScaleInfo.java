@@ -66,8 +66,8 @@ public class NsScaleInfo implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (nsScaleLevelId == null) throw new MalformattedElementException("NS scale info without scale level ID");
-		if (nsScalingAspectId == null) throw new MalformattedElementException("NS scale info without scaling aspect ID");
+		if (nsScaleLevelId == null) throw MalformattedElementException.stackless("NS scale info without scale level ID");
+		if (nsScalingAspectId == null) throw MalformattedElementException.stackless("NS scale info without scaling aspect ID");
 	}
 
 }
@@ -27,6 +27,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -42,6 +43,8 @@ import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.ResourceHandle;
 import it.nextworks.nfvmano.libs.common.enums.VimResourceStatus;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * This information element provides run-time information about an NS VL instance.
@@ -51,7 +54,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class NsVirtualLinkInfo implements DescriptorInformationElement {
+public class NsVirtualLinkInfo extends TrackedElement implements DescriptorInformationElement {
 	
 	@Id
     @GeneratedValue
@@ -68,6 +71,7 @@ public class NsVirtualLinkInfo implements DescriptorInformationElement {
 	
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<ResourceHandle> resourceHandle = new ArrayList<>();
 	
@@ -75,6 +79,7 @@ public class NsVirtualLinkInfo implements DescriptorInformationElement {
 	@OneToMany(mappedBy = "vlInfo", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<NsLinkPort> linkPort = new ArrayList<>();
 	
 	@JsonIgnore
@@ -212,6 +217,7 @@ public class NsVirtualLinkInfo implements DescriptorInformationElement {
 	 */
 	public void setSegmentId(int segmentId) {
 		this.segmentId = segmentId;
+		touch();
 	}
 
 	/**
@@ -225,14 +231,14 @@ public class NsVirtualLinkInfo implements DescriptorInformationElement {
 	 * @return the resourceHandle
 	 */
 	public List<ResourceHandle> getResourceHandle() {
-		return resourceHandle;
+		return track(resourceHandle);
 	}
 
 	/**
 	 * @return the linkPort
 	 */
 	public List<NsLinkPort> getLinkPort() {
-		return linkPort;
+		return track(linkPort);
 	}
 	
 	
@@ -251,6 +257,7 @@ public class NsVirtualLinkInfo implements DescriptorInformationElement {
 	@JsonIgnore
 	public void setStatus(VimResourceStatus status) {
 		this.status = status;
+		touch();
 	}
 	
 	/**
@@ -277,6 +284,7 @@ public class NsVirtualLinkInfo implements DescriptorInformationElement {
 	@JsonIgnore
 	public void setSubnetId(String subnetId) {
 		this.subnetId = subnetId;
+		touch();
 	}
 	
 	
@@ -295,14 +303,15 @@ public class NsVirtualLinkInfo implements DescriptorInformationElement {
 	@JsonIgnore
 	public void setSubnetStatus(VimResourceStatus subnetStatus) {
 		this.subnetStatus = subnetStatus;
+		touch();
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.nsVirtualLinkDescId == null) throw new MalformattedElementException("NS VL info without VLD ID");
-		if (this.nsVirtualLinkInstanceId == null) throw new MalformattedElementException("NS VL info without VL instance ID");
+		if (this.nsVirtualLinkDescId == null) throw MalformattedElementException.stackless("NS VL info without VLD ID");
+		if (this.nsVirtualLinkInstanceId == null) throw MalformattedElementException.stackless("NS VL info without VL instance ID");
 		if ((this.resourceHandle == null) || (this.resourceHandle.isEmpty())) {
-			throw new MalformattedElementException("NS VL info without resource handle");
+			throw MalformattedElementException.stackless("NS VL info without resource handle");
 		} else {
 			for (ResourceHandle r: this.resourceHandle) r.isValid();
 		}
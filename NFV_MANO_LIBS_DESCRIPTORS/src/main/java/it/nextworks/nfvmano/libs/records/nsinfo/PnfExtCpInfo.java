@@ -66,8 +66,8 @@ public class PnfExtCpInfo implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.cpdId == null) throw new MalformattedElementException("PNF ext cp info without CP ID");
-		if (this.address == null) throw new MalformattedElementException("PNF ext cp info without address");
+		if (this.cpdId == null) throw MalformattedElementException.stackless("PNF ext cp info without CP ID");
+		if (this.address == null) throw MalformattedElementException.stackless("PNF ext cp info without address");
 	}
 
 }
@@ -26,6 +26,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -34,6 +35,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * This information element provides information about a PNF that is part of an NS instance.
@@ -43,7 +46,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class PnfInfo implements DescriptorInformationElement {
+public class PnfInfo extends TrackedElement implements DescriptorInformationElement {
 
 
 	@Id
@@ -65,6 +68,7 @@ public class PnfInfo implements DescriptorInformationElement {
 	
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	private List<PnfExtCpInfo> cpInfo = new ArrayList<>();
@@ -114,7 +118,7 @@ public class PnfInfo implements DescriptorInformationElement {
 	 * @return the cpInfo
 	 */
 	public List<PnfExtCpInfo> getCpInfo() {
-		return cpInfo;
+		return track(cpInfo);
 	}
 	
 	
@@ -157,13 +161,13 @@ public class PnfInfo implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (this.pnfId == null) throw new MalformattedElementException("PNF info without PNF ID");
-		if (this.pnfdId == null) throw new MalformattedElementException("PNF info without PNFD ID");
-		if (this.pnfdInfoId == null) throw new MalformattedElementException("PNF info without PNFD info ID");
-		if (this.pnfName == null) throw new MalformattedElementException("PNF info without name");
-		//if (this.pnfProfileId == null) throw new MalformattedElementException("PNF info without PNF profile ID");
+		if (this.pnfId == null) throw MalformattedElementException.stackless("PNF info without PNF ID");
+		if (this.pnfdId == null) throw MalformattedElementException.stackless("PNF info without PNFD ID");
+		if (this.pnfdInfoId == null) throw MalformattedElementException.stackless("PNF info without PNFD info ID");
+		if (this.pnfName == null) throw MalformattedElementException.stackless("PNF info without name");
+		//if (this.pnfProfileId == null) throw MalformattedElementException.stackless("PNF info without PNF profile ID");
 		if ((this.cpInfo == null) || (this.cpInfo.isEmpty())) {
-			throw new MalformattedElementException("PNF info without CP information");
+			throw MalformattedElementException.stackless("PNF info without CP information");
 		} else {
 			for (PnfExtCpInfo i : this.cpInfo) i.isValid();
 		}
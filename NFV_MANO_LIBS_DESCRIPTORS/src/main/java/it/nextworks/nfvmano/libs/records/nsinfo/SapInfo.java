@@ -25,6 +25,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -35,6 +36,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
 import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * This information element provides information about an SAP of an NS instance.
@@ -44,7 +47,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
  *
  */
 @Entity
-public class SapInfo implements DescriptorInformationElement {
+public class SapInfo extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -64,6 +67,7 @@ public class SapInfo implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<UserAccessInfo> userAccessInfo = new ArrayList<>();	//Note: this is NOT standard
 	
@@ -139,16 +143,18 @@ public class SapInfo implements DescriptorInformationElement {
 	
 	public void addUserAccessInfo(String sapdId, String vnfdId, String vnfId, String vnfExtCpdId, String address) {
 		this.userAccessInfo.add(new UserAccessInfo(sapdId, vnfdId, vnfId, vnfExtCpdId, address));
+		touch();
 	}
 	
 	public void removeUserAccessInfo(String vnfId, String vnfExtCpdId) throws NotExistingEntityException {
 		for (UserAccessInfo uai : userAccessInfo) {
 			if (uai.getVnfId().equals(vnfId) && uai.getVnfExtCpdId().equals(vnfExtCpdId)) {
 				userAccessInfo.remove(uai);
+				touch();
 				return;
 			}
 		}
-		throw new NotExistingEntityException("User Access Info for VNF " + vnfId + " and VNF external connection point " + vnfExtCpdId + " not found.");
+		throw NotExistingEntityException.stackless("User Access Info for VNF " + vnfId + " and VNF external connection point " + vnfExtCpdId + " not found.");
 	}
 	
 	public void removeUserAccessInfo(String vnfId) {
@@ -157,6 +163,7 @@ public class SapInfo implements DescriptorInformationElement {
 				userAccessInfo.remove(uai);
 			}
 		}
+		touch();
 	}
 	
 	
@@ -165,16 +172,16 @@ public class SapInfo implements DescriptorInformationElement {
 	 * @return the userAccessInfo
 	 */
 	public List<UserAccessInfo> getUserAccessInfo() {
-		return userAccessInfo;
+		return track(userAccessInfo);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (sapInstanceId == null) throw new MalformattedElementException("SAP Info without SAP instance ID");
-		if (sapdId == null) throw new MalformattedElementException("SAP Info without SAPD ID");
-		if (sapName == null) throw new MalformattedElementException("SAP Info without SAP name");
-		if (description == null) throw new MalformattedElementException("SAP Info without SAP description");
-		if (address == null) throw new MalformattedElementException("SAP Info without SAP address");
+		if (sapInstanceId == null) throw MalformattedElementException.stackless("SAP Info without SAP instance ID");
+		if (sapdId == null) throw MalformattedElementException.stackless("SAP Info without SAPD ID");
+		if (sapName == null) throw MalformattedElementException.stackless("SAP Info without SAP name");
+		if (description == null) throw MalformattedElementException.stackless("SAP Info without SAP description");
+		if (address == null) throw MalformattedElementException.stackless("SAP Info without SAP address");
 	}
 
 }
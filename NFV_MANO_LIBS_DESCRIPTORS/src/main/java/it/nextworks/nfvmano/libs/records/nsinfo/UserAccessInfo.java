@@ -1,9 +1,19 @@
 package it.nextworks.nfvmano.libs.records.nsinfo;
 
 import javax.persistence.Embeddable;
+import javax.persistence.Transient;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import it.nextworks.nfvmano.libs.common.tracking.ModificationStamp;
+import it.nextworks.nfvmano.libs.common.tracking.ModificationTracked;
 
 @Embeddable
-public class UserAccessInfo {
+public class UserAccessInfo implements ModificationTracked {
+	
+	@Transient
+	@JsonIgnore
+	private transient ModificationStamp modificationStamp = new ModificationStamp();
 	
 	private String sapdId;
 	private String vnfdId;
@@ -70,12 +80,19 @@ public class UserAccessInfo {
 	public String getAddress() {
 		return address;
 	}
+	
+	@Override
+	@JsonIgnore
+	public long getModificationStamp() {
+		return modificationStamp.get();
+	}
 
 	/**
 	 * @param vnfId the vnfId to set
 	 */
 	public void setVnfId(String vnfId) {
 		this.vnfId = vnfId;
+		modificationStamp.touch();
 	}
 
 	/**
@@ -83,6 +100,7 @@ public class UserAccessInfo {
 	 */
 	public void setAddress(String address) {
 		this.address = address;
+		modificationStamp.touch();
 	}
 	
 	
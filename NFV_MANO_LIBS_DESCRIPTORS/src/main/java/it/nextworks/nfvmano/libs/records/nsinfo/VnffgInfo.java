@@ -27,6 +27,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -40,6 +41,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * This information element contains information about a VNFFG instance.
@@ -49,7 +52,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class VnffgInfo implements DescriptorInformationElement {
+public class VnffgInfo extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -65,28 +68,33 @@ public class VnffgInfo implements DescriptorInformationElement {
 	
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> vnfId = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> pnfId = new ArrayList<>();
 	
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> virtualLinkId = new ArrayList<>();
 	
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> cpId = new ArrayList<>();
 	
 	@OneToMany(mappedBy = "vnffgInfo", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<Nfp> nfp = new ArrayList<>();
 	
 	public VnffgInfo() {
@@ -171,46 +179,46 @@ public class VnffgInfo implements DescriptorInformationElement {
 	 * @return the vnfId
 	 */
 	public List<String> getVnfId() {
-		return vnfId;
+		return track(vnfId);
 	}
 
 	/**
 	 * @return the pnfId
 	 */
 	public List<String> getPnfId() {
-		return pnfId;
+		return track(pnfId);
 	}
 
 	/**
 	 * @return the virtualLinkId
 	 */
 	public List<String> getVirtualLinkId() {
-		return virtualLinkId;
+		return track(virtualLinkId);
 	}
 
 	/**
 	 * @return the cpId
 	 */
 	public List<String> getCpId() {
-		return cpId;
+		return track(cpId);
 	}
 
 	/**
 	 * @return the nfp
 	 */
 	public List<Nfp> getNfp() {
-		return nfp;
+		return track(nfp);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (vnffgdId == null) throw new MalformattedElementException("VNFFG Info without VNFFGD ID");
-		if (vnffgId == null) throw new MalformattedElementException("VNFFG Info without VNFFG ID");
-		if ((vnfId == null) || (vnfId.isEmpty())) throw new MalformattedElementException("VNFFG Info without VNF ID");
-		if ((virtualLinkId == null) || (virtualLinkId.isEmpty())) throw new MalformattedElementException("VNFFG Info without VL ID");
-		if ((cpId == null) || (cpId.isEmpty())) throw new MalformattedElementException("VNFFG Info without CP ID");
+		if (vnffgdId == null) throw MalformattedElementException.stackless("VNFFG Info without VNFFGD ID");
+		if (vnffgId == null) throw MalformattedElementException.stackless("VNFFG Info without VNFFG ID");
+		if ((vnfId == null) || (vnfId.isEmpty())) throw MalformattedElementException.stackless("VNFFG Info without VNF ID");
+		if ((virtualLinkId == null) || (virtualLinkId.isEmpty())) throw MalformattedElementException.stackless("VNFFG Info without VL ID");
+		if ((cpId == null) || (cpId.isEmpty())) throw MalformattedElementException.stackless("VNFFG Info without CP ID");
 		if ((nfp == null) || (nfp.isEmpty())) {
-			throw new MalformattedElementException("VNFFG Info without NFP");
+			throw MalformattedElementException.stackless("VNFFG Info without NFP");
 		} else {
 			for (Nfp n:nfp) n.isValid();
 		}
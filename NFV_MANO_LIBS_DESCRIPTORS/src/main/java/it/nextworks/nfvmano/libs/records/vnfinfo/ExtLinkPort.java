@@ -26,6 +26,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.ResourceHandle;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
 
 /**
  * This information element provides information about a port of an external VL, 
@@ -37,7 +38,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class ExtLinkPort implements DescriptorInformationElement {
+public class ExtLinkPort extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -103,8 +104,8 @@ public class ExtLinkPort implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (extLinkPortId == null) throw new MalformattedElementException("External link port without ID");
-		if (resourceHandle == null) throw new MalformattedElementException("VNF link port without resource handle");
+		if (extLinkPortId == null) throw MalformattedElementException.stackless("External link port without ID");
+		if (resourceHandle == null) throw MalformattedElementException.stackless("VNF link port without resource handle");
 		else resourceHandle.isValid();
 	}
 
@@ -26,6 +26,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
 import org.hibernate.annotations.OnDelete;
@@ -36,6 +37,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.ResourceHandle;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * This information element provides a reference to an externally-managed internal VL.
@@ -46,7 +49,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class ExtManagedVirtualLinkInfo implements DescriptorInformationElement {
+public class ExtManagedVirtualLinkInfo extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -66,6 +69,7 @@ public class ExtManagedVirtualLinkInfo implements DescriptorInformationElement {
 	@OneToMany(mappedBy = "extMngVlInfo", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<VnfLinkPort> linkPort = new ArrayList<>();
 	
 	public ExtManagedVirtualLinkInfo() {
@@ -120,15 +124,15 @@ public class ExtManagedVirtualLinkInfo implements DescriptorInformationElement {
 	 * @return the linkPort
 	 */
 	public List<VnfLinkPort> getLinkPort() {
-		return linkPort;
+		return track(linkPort);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (extManagedVirtualLinkId == null) throw new MalformattedElementException("External managed VL info without VL ID");
-		if (vnfVirtualLinkDescId == null) throw new MalformattedElementException("External managed VL info without VNF VLD ID");
+		if (extManagedVirtualLinkId == null) throw MalformattedElementException.stackless("External managed VL info without VL ID");
+		if (vnfVirtualLinkDescId == null) throw MalformattedElementException.stackless("External managed VL info without VNF VLD ID");
 		if (networkResource == null) {
-			throw new MalformattedElementException("External managed VL info without network resource");
+			throw MalformattedElementException.stackless("External managed VL info without network resource");
 		} else networkResource.isValid();
 		for (VnfLinkPort p : linkPort) p.isValid();
 	}
@@ -26,6 +26,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
 import org.hibernate.annotations.OnDelete;
@@ -36,6 +37,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.ResourceHandle;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * This information element provides a reference to an external VL.
@@ -46,7 +49,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class ExtVirtualLinkInfo implements DescriptorInformationElement {
+public class ExtVirtualLinkInfo extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -65,6 +68,7 @@ public class ExtVirtualLinkInfo implements DescriptorInformationElement {
 	@OneToMany(mappedBy = "extVlInfo", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<ExtLinkPort> linkPort = new ArrayList<>();
 	
 	public ExtVirtualLinkInfo() {
@@ -106,13 +110,13 @@ public class ExtVirtualLinkInfo implements DescriptorInformationElement {
 	 * @return the linkPort
 	 */
 	public List<ExtLinkPort> getLinkPort() {
-		return linkPort;
+		return track(linkPort);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (extVirtualLinkId == null) throw new MalformattedElementException("External VL info without VL ID");
-		if (resourceHandle == null) throw new MalformattedElementException("External VL info without resource");
+		if (extVirtualLinkId == null) throw MalformattedElementException.stackless("External VL info without VL ID");
+		if (resourceHandle == null) throw MalformattedElementException.stackless("External VL info without resource");
 		else resourceHandle.isValid();
 		for (ExtLinkPort p : linkPort) p.isValid();
 	}
@@ -17,8 +17,10 @@ package it.nextworks.nfvmano.libs.records.vnfinfo;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import javax.persistence.CascadeType;
+import javax.persistence.Convert;
 import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
@@ -28,6 +30,7 @@ import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -39,6 +42,7 @@ import org.hibernate.annotations.OnDeleteAction;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.MonitoringParameter;
@@ -46,6 +50,11 @@ import it.nextworks.nfvmano.libs.common.elements.ScaleInfo;
 import it.nextworks.nfvmano.libs.common.enums.OperativeState;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
 import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
+import it.nextworks.nfvmano.libs.common.identifiers.IdentifierDictionary;
+import it.nextworks.nfvmano.libs.common.identifiers.InternedIdentifierConverter;
+import it.nextworks.nfvmano.libs.common.identifiers.InternedIdentifierDeserializer;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * This information element provides run-time information specific to an instantiated VNF instance.
@@ -56,7 +65,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
  *
  */
 @Entity
-public class InstantiatedVnfInfo implements DescriptorInformationElement {
+public class InstantiatedVnfInfo extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -69,6 +78,8 @@ public class InstantiatedVnfInfo implements DescriptorInformationElement {
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	private VnfInfo vnfInfo;
 	
+	@JsonDeserialize(using = InternedIdentifierDeserializer.class)
+	@Convert(converter = InternedIdentifierConverter.class)
 	private String flavourId;
 	
 	private OperativeState vnfState;
@@ -76,29 +87,34 @@ public class InstantiatedVnfInfo implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<ScaleInfo> scaleStatus = new ArrayList<>();
 	
 	@OneToMany(mappedBy = "iVnfInfo", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<VnfExtCpInfo> extCpInfo = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "iVnfInfo", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<ExtVirtualLinkInfo> extVirtualLinkInfo = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "iVnfInfo", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<ExtManagedVirtualLinkInfo> extManagedVirtualLinkInfo = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<MonitoringParameter> monitoringParameter = new ArrayList<>();
 	
@@ -116,18 +132,21 @@ public class InstantiatedVnfInfo implements DescriptorInformationElement {
 	@OneToMany(mappedBy = "iVnfInfo", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<VnfcResourceInfo> vnfcResourceInfo = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "iVnfInfo", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<VirtualLinkResourceInfo> virtualLinkResourceInfo = new ArrayList<>();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@OneToMany(mappedBy = "iVnfInfo", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<VirtualStorageResourceInfo> virtualStorageResourceInfo = new ArrayList<>();
 	
 	@JsonIgnore
@@ -171,7 +190,7 @@ public class InstantiatedVnfInfo implements DescriptorInformationElement {
 			List<MonitoringParameter> monitoringParameter,
 			String localizationLanguage) {
 		this.vnfInfo = vnfInfo;
-		this.flavourId = flavourId;
+		this.flavourId = IdentifierDictionary.intern(flavourId);
 		this.vnfState = vnfState;
 		if (scaleStatus != null) this.scaleStatus = scaleStatus;
 		if (monitoringParameter != null) this.monitoringParameter = monitoringParameter;
@@ -205,35 +224,35 @@ public class InstantiatedVnfInfo implements DescriptorInformationElement {
 	 * @return the scaleStatus
 	 */
 	public List<ScaleInfo> getScaleStatus() {
-		return scaleStatus;
+		return track(scaleStatus);
 	}
 
 	/**
 	 * @return the extCpInfo
 	 */
 	public List<VnfExtCpInfo> getExtCpInfo() {
-		return extCpInfo;
+		return track(extCpInfo);
 	}
 
 	/**
 	 * @return the extVirtualLinkInfo
 	 */
 	public List<ExtVirtualLinkInfo> getExtVirtualLinkInfo() {
-		return extVirtualLinkInfo;
+		return track(extVirtualLinkInfo);
 	}
 
 	/**
 	 * @return the extManagedVirtualLinkInfo
 	 */
 	public List<ExtManagedVirtualLinkInfo> getExtManagedVirtualLinkInfo() {
-		return extManagedVirtualLinkInfo;
+		return track(extManagedVirtualLinkInfo);
 	}
 
 	/**
 	 * @return the monitoringParameter
 	 */
 	public List<MonitoringParameter> getMonitoringParameter() {
-		return monitoringParameter;
+		return track(monitoringParameter);
 	}
 
 	/**
@@ -255,7 +274,7 @@ public class InstantiatedVnfInfo implements DescriptorInformationElement {
 	 * @return the vnfcResourceInfo
 	 */
 	public List<VnfcResourceInfo> getVnfcResourceInfo() {
-		return vnfcResourceInfo;
+		return track(vnfcResourceInfo);
 	}
 
 	/**
@@ -263,14 +282,14 @@ public class InstantiatedVnfInfo implements DescriptorInformationElement {
 	 */
 	@JsonProperty("vnfVirtualLinkResourceInfo")
 	public List<VirtualLinkResourceInfo> getVirtualLinkResourceInfo() {
-		return virtualLinkResourceInfo;
+		return track(virtualLinkResourceInfo);
 	}
 
 	/**
 	 * @return the virtualStorageResourceInfo
 	 */
 	public List<VirtualStorageResourceInfo> getVirtualStorageResourceInfo() {
-		return virtualStorageResourceInfo;
+		return track(virtualStorageResourceInfo);
 	}
 
 	
@@ -280,23 +299,45 @@ public class InstantiatedVnfInfo implements DescriptorInformationElement {
 	 */
 	public void setVnfState(OperativeState vnfState) {
 		this.vnfState = vnfState;
+		touch();
 	}
 	
 	@JsonIgnore
 	public VnfExtCpInfo getExtCpFromCpdId(String cpdId) throws NotExistingEntityException {
+		Optional<VnfExtCpInfo> cp = findExtCpFromCpdId(cpdId);
+		if (!cp.isPresent()) throw NotExistingEntityException.stackless("VNF external connection point with CPD ID " + cpdId + " not found in instantiated VNF info");
+		return cp.get();
+	}
+	
+	/**
+	 * @param cpdId ID of the external CPD
+	 * @return the VNF external connection point info for the given CPD, or an empty optional if it does not exist
+	 */
+	@JsonIgnore
+	public Optional<VnfExtCpInfo> findExtCpFromCpdId(String cpdId) {
 		for (VnfExtCpInfo cp : extCpInfo) {
-			if (cp.getCpdId().equals(cpdId)) return cp;
+			if (cp.getCpdId().equals(cpdId)) return Optional.of(cp);
 		}
-		throw new NotExistingEntityException("VNF external connection point with CPD ID " + cpdId + " not found in instantiated VNF info");
+		return Optional.empty();
 	}
 	
 	@JsonIgnore
 	public List<VnfcResourceInfo> getVnfcResourceInfoFromVduId(String vduId) throws NotExistingEntityException {
+		List<VnfcResourceInfo> result = findVnfcResourceInfoFromVduId(vduId);
+		if (result.isEmpty()) throw NotExistingEntityException.stackless("VNFC for VDU " + vduId + " not found in instantiated VNF info");
+		return result;
+	}
+	
+	/**
+	 * @param vduId ID of the VDU
+	 * @return the VNFC resources instantiated from the given VDU, possibly an empty list
+	 */
+	@JsonIgnore
+	public List<VnfcResourceInfo> findVnfcResourceInfoFromVduId(String vduId) {
 		List<VnfcResourceInfo> result = new ArrayList<>();
 		for (VnfcResourceInfo vnfc : vnfcResourceInfo) {
 			if (vnfc.getVduId().equals(vduId)) result.add(vnfc);
 		}
-		if (result.isEmpty()) throw new NotExistingEntityException("VNFC for VDU " + vduId + " not found in instantiated VNF info");
 		return result;
 	}
 	
@@ -316,15 +357,16 @@ public class InstantiatedVnfInfo implements DescriptorInformationElement {
 	@JsonIgnore
 	public void setManagementIp(String managementIp) {
 		this.managementIp = managementIp;
+		touch();
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (flavourId == null) throw new MalformattedElementException("Instantiated VNF info without flavour ID.");
+		if (flavourId == null) throw MalformattedElementException.stackless("Instantiated VNF info without flavour ID.");
 		if (scaleStatus != null) {
 			for (ScaleInfo s : scaleStatus) s.isValid();
 		}
-		if ((extCpInfo == null) || (extCpInfo.isEmpty())) throw new MalformattedElementException("Instantiated VNF info without external CP.");
+		if ((extCpInfo == null) || (extCpInfo.isEmpty())) throw MalformattedElementException.stackless("Instantiated VNF info without external CP.");
 		else {
 			for (VnfExtCpInfo cp : extCpInfo) cp.isValid();
 		}
@@ -30,6 +30,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -45,6 +46,8 @@ import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.ResourceHandle;
 import it.nextworks.nfvmano.libs.common.enums.VimResourceStatus;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /***
  * This information element provides information on virtualised network resources used by a VL instance in a VNF.
@@ -55,7 +58,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class VirtualLinkResourceInfo implements DescriptorInformationElement {
+public class VirtualLinkResourceInfo extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -77,12 +80,14 @@ public class VirtualLinkResourceInfo implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private Map<String, String> metadata = new HashMap<>();
 	
 	@OneToMany(mappedBy = "vlri", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<VnfLinkPort> vnfLinkPort = new ArrayList<>();
 	
 	@JsonIgnore
@@ -151,14 +156,14 @@ public class VirtualLinkResourceInfo implements DescriptorInformationElement {
 	 * @return the vnfLinkPort
 	 */
 	public List<VnfLinkPort> getVnfLinkPort() {
-		return vnfLinkPort;
+		return track(vnfLinkPort);
 	}
 	
 	/**
 	 * @return the metadata
 	 */
 	public Map<String, String> getMetadata() {
-		return metadata;
+		return track(metadata);
 	}
 
 	/**
@@ -175,13 +180,14 @@ public class VirtualLinkResourceInfo implements DescriptorInformationElement {
 	@JsonIgnore
 	public void setStatus(VimResourceStatus status) {
 		this.status = status;
+		touch();
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (virtualLinkInstanceId == null) throw new MalformattedElementException("VL resource info without VL instance ID");
-		if (virtualLinkDescId == null) throw new MalformattedElementException("VL resource info without VLD ID");
-		if (networkResource == null) throw new MalformattedElementException("VL resource info without resource");
+		if (virtualLinkInstanceId == null) throw MalformattedElementException.stackless("VL resource info without VL instance ID");
+		if (virtualLinkDescId == null) throw MalformattedElementException.stackless("VL resource info without VLD ID");
+		if (networkResource == null) throw MalformattedElementException.stackless("VL resource info without resource");
 		else networkResource.isValid();
 	}
 
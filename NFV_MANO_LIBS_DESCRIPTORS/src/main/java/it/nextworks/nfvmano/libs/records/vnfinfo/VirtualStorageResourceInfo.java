@@ -26,6 +26,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -36,6 +37,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.ResourceHandle;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * This information element provides information on virtualised storage 
@@ -47,7 +50,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class VirtualStorageResourceInfo implements DescriptorInformationElement {
+public class VirtualStorageResourceInfo extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -69,6 +72,7 @@ public class VirtualStorageResourceInfo implements DescriptorInformationElement
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private Map<String, String> metadata = new HashMap<>();
 	
@@ -136,14 +140,14 @@ public class VirtualStorageResourceInfo implements DescriptorInformationElement
 	 * @return the metadata
 	 */
 	public Map<String, String> getMetadata() {
-		return metadata;
+		return track(metadata);
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (virtualStorageInstanceId == null) throw new MalformattedElementException("Virtual storage info without instance ID");
-		if (virtualStorageDescId == null) throw new MalformattedElementException("Virtual storage info without VSD ID");
-		if (storageResource == null) throw new MalformattedElementException("Virtual storage resource info without resource");
+		if (virtualStorageInstanceId == null) throw MalformattedElementException.stackless("Virtual storage info without instance ID");
+		if (virtualStorageDescId == null) throw MalformattedElementException.stackless("Virtual storage info without VSD ID");
+		if (storageResource == null) throw MalformattedElementException.stackless("Virtual storage resource info without resource");
 		else storageResource.isValid();
 	}
 
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 
 import javax.persistence.CascadeType;
+import javax.persistence.Convert;
 import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
@@ -29,6 +30,7 @@ import javax.persistence.Id;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -39,10 +41,18 @@ import org.hibernate.annotations.OnDeleteAction;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
+import it.nextworks.nfvmano.libs.common.collections.SmallMap;
+import it.nextworks.nfvmano.libs.common.collections.SmallMapDeserializer;
 import it.nextworks.nfvmano.libs.common.enums.InstantiationState;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.identifiers.IdentifierDictionary;
+import it.nextworks.nfvmano.libs.common.identifiers.InternedIdentifierConverter;
+import it.nextworks.nfvmano.libs.common.identifiers.InternedIdentifierDeserializer;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 import it.nextworks.nfvmano.libs.descriptors.common.elements.VimConnectionInfo;
 
 /**
@@ -54,7 +64,7 @@ import it.nextworks.nfvmano.libs.descriptors.common.elements.VimConnectionInfo;
  *
  */
 @Entity
-public class VnfInfo implements DescriptorInformationElement {
+public class VnfInfo extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -64,6 +74,8 @@ public class VnfInfo implements DescriptorInformationElement {
 	private String vnfInstanceId;
 	private String vnfInstanceName;
 	private String vnfInstanceDescription;
+	@JsonDeserialize(using = InternedIdentifierDeserializer.class)
+	@Convert(converter = InternedIdentifierConverter.class)
 	private String vnfdId;
 	private String vnfProvider;
 	private String vnfProductName;
@@ -74,12 +86,14 @@ public class VnfInfo implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private Map<String, String> vnfConfigurableProperty = new HashMap<>();
 	
 	@OneToMany(mappedBy = "vnfInfo", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
     private List<VimConnectionInfo> vimConnectionInfo = new ArrayList<>();
 	
 	private InstantiationState instantiationState;
@@ -91,14 +105,18 @@ public class VnfInfo implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
-	private Map<String, String> metadata = new HashMap<>();
+	@JsonDeserialize(using = SmallMapDeserializer.class)
+	private Map<String, String> metadata = SmallMap.of();
 	
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
-	private Map<String, String> extension = new HashMap<>();
+	@JsonDeserialize(using = SmallMapDeserializer.class)
+	private Map<String, String> extension = SmallMap.of();
 	
 	public VnfInfo() {	}
 	
@@ -137,7 +155,7 @@ public class VnfInfo implements DescriptorInformationElement {
 		this.vnfInstanceId = vnfInstanceId;
 		this.vnfInstanceName = vnfInstanceName;
 		this.vnfInstanceDescription = vnfInstanceDescription;
-		this.vnfdId = vnfdId;
+		this.vnfdId = IdentifierDictionary.intern(vnfdId);
 		this.vnfProvider = vnfProvider;
 		this.vnfProductName = vnfProductName;
 		this.vnfSoftwareVersion = vnfSoftwareVersion;
@@ -145,7 +163,8 @@ public class VnfInfo implements DescriptorInformationElement {
 		this.onboardedVnfPkgInfoId = onboardedVnfPkgInfoId;
 		if (vnfConfigurableProperty != null) this.vnfConfigurableProperty = vnfConfigurableProperty;
 		this.instantiationState = instantiationState;
-		if (metadata != null) this.metadata = metadata;
+		if (metadata != null) this.metadata = SmallMap.copyOf(metadata);
+		if (extension != null) this.extension = SmallMap.copyOf(extension);
 	}
 	
 	
@@ -225,7 +244,7 @@ public class VnfInfo implements DescriptorInformationElement {
 	 * @return the vnfConfigurableProperty
 	 */
 	public Map<String, String> getVnfConfigurableProperty() {
-		return vnfConfigurableProperty;
+		return track(vnfConfigurableProperty);
 	}
 
 	/**
@@ -246,21 +265,21 @@ public class VnfInfo implements DescriptorInformationElement {
 	 * @return the metadata
 	 */
 	public Map<String, String> getMetadata() {
-		return metadata;
+		return track(metadata);
 	}
 	
 	/**
 	 * @return the extension
 	 */
 	public Map<String, String> getExtension() {
-		return extension;
+		return track(extension);
 	}
 
 	/**
 	 * @return the vimConnectionInfo
 	 */
 	public List<VimConnectionInfo> getVimConnectionInfo() {
-		return vimConnectionInfo;
+		return track(vimConnectionInfo);
 	}
 
 	/**
@@ -268,6 +287,7 @@ public class VnfInfo implements DescriptorInformationElement {
 	 */
 	public void setVnfInstanceId(String vnfInstanceId) {
 		this.vnfInstanceId = vnfInstanceId;
+		touch();
 	}
 
 	/**
@@ -275,6 +295,7 @@ public class VnfInfo implements DescriptorInformationElement {
 	 */
 	public void setInstantiationState(InstantiationState instantiationState) {
 		this.instantiationState = instantiationState;
+		touch();
 	}
 	
 	/**
@@ -286,19 +307,20 @@ public class VnfInfo implements DescriptorInformationElement {
 	@JsonIgnore
 	public void addConfigurableParameter(String paramType, String paramValue) {
 		this.vnfConfigurableProperty.put(paramType, paramValue);
+		touch();
 	}
 	
 	
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (vnfInstanceId == null) throw new MalformattedElementException("VNF info without VNF instance ID");
-		if (vnfdId == null) throw new MalformattedElementException("VNF info without VNFD ID");
-		if (vnfProvider == null) throw new MalformattedElementException("VNF info without VNF provider");
-		if (vnfProductName == null) throw new MalformattedElementException("VNF info without VNF product name");
-		if (vnfSoftwareVersion == null) throw new MalformattedElementException("VNF info without VNF sw version");
-		if (vnfdVersion == null) throw new MalformattedElementException("VNF info without VNFD version");
-		if (onboardedVnfPkgInfoId == null) throw new MalformattedElementException("VNF info without onboarded pkg info ID");
+		if (vnfInstanceId == null) throw MalformattedElementException.stackless("VNF info without VNF instance ID");
+		if (vnfdId == null) throw MalformattedElementException.stackless("VNF info without VNFD ID");
+		if (vnfProvider == null) throw MalformattedElementException.stackless("VNF info without VNF provider");
+		if (vnfProductName == null) throw MalformattedElementException.stackless("VNF info without VNF product name");
+		if (vnfSoftwareVersion == null) throw MalformattedElementException.stackless("VNF info without VNF sw version");
+		if (vnfdVersion == null) throw MalformattedElementException.stackless("VNF info without VNFD version");
+		if (onboardedVnfPkgInfoId == null) throw MalformattedElementException.stackless("VNF info without onboarded pkg info ID");
 		if (instantiatedVnfInfo != null) instantiatedVnfInfo.isValid();
 		for (VimConnectionInfo vci : vimConnectionInfo) vci.isValid();
 	}
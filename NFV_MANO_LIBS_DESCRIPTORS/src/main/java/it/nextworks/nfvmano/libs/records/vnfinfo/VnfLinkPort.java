@@ -26,6 +26,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.elements.ResourceHandle;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
 
 /**
  * This information element provides information about a port of a VNF's internal VL.
@@ -36,7 +37,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class VnfLinkPort implements DescriptorInformationElement {
+public class VnfLinkPort extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -124,8 +125,8 @@ public class VnfLinkPort implements DescriptorInformationElement {
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (vnfLinkPortId == null) throw new MalformattedElementException("VNF link port without ID");
-		if (resourceHandle == null) throw new MalformattedElementException("VNF link port without resource handle");
+		if (vnfLinkPortId == null) throw MalformattedElementException.stackless("VNF link port without ID");
+		if (resourceHandle == null) throw MalformattedElementException.stackless("VNF link port without resource handle");
 		else resourceHandle.isValid();
 	}
 
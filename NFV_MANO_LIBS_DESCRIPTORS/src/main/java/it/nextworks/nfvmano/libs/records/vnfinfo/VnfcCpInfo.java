@@ -25,6 +25,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -35,6 +36,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
 import it.nextworks.nfvmano.libs.common.enums.VimResourceStatus;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * This information element provides information related to a CP of a VNFC.
@@ -45,7 +48,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class VnfcCpInfo implements DescriptorInformationElement {
+public class VnfcCpInfo extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -66,6 +69,7 @@ public class VnfcCpInfo implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> address = new ArrayList<>();
 	
@@ -115,7 +119,7 @@ public class VnfcCpInfo implements DescriptorInformationElement {
 	 * @return the address
 	 */
 	public List<String> getAddress() {
-		return address;
+		return track(address);
 	}
 
 	/**
@@ -141,17 +145,19 @@ public class VnfcCpInfo implements DescriptorInformationElement {
 	@JsonIgnore
 	public void setVimResourceStatus(VimResourceStatus vimResourceStatus) {
 		this.vimResourceStatus = vimResourceStatus;
+		touch();
 	}
 	
 	
 	public void addAddress(String address) {
 		this.address.add(address);
+		touch();
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (cpInstanceId == null) throw new MalformattedElementException("VNF external CP info without CP ID");
-		if (cpdId == null) throw new MalformattedElementException("VNF external CP info without CPD ID");
+		if (cpInstanceId == null) throw MalformattedElementException.stackless("VNF external CP info without CP ID");
+		if (cpdId == null) throw MalformattedElementException.stackless("VNF external CP info without CPD ID");
 	}
 
 }
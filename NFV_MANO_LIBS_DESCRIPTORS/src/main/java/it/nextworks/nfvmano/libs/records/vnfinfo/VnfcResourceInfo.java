@@ -16,11 +16,11 @@
 package it.nextworks.nfvmano.libs.records.vnfinfo;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import javax.persistence.CascadeType;
+import javax.persistence.Convert;
 import javax.persistence.ElementCollection;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
@@ -30,6 +30,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -40,11 +41,19 @@ import org.hibernate.annotations.OnDeleteAction;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import it.nextworks.nfvmano.libs.common.DescriptorInformationElement;
+import it.nextworks.nfvmano.libs.common.collections.SmallMap;
+import it.nextworks.nfvmano.libs.common.collections.SmallMapDeserializer;
 import it.nextworks.nfvmano.libs.common.elements.ResourceHandle;
 import it.nextworks.nfvmano.libs.common.enums.VimResourceStatus;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.identifiers.IdentifierDictionary;
+import it.nextworks.nfvmano.libs.common.identifiers.InternedIdentifierConverter;
+import it.nextworks.nfvmano.libs.common.identifiers.InternedIdentifierDeserializer;
+import it.nextworks.nfvmano.libs.common.tracking.TrackedElement;
+import it.nextworks.nfvmano.libs.descriptors.common.FetchProfiles;
 
 /**
  * This information element provides information on virtualised compute 
@@ -56,7 +65,7 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
  *
  */
 @Entity
-public class VnfcResourceInfo implements DescriptorInformationElement {
+public class VnfcResourceInfo extends TrackedElement implements DescriptorInformationElement {
 
 	@Id
     @GeneratedValue
@@ -68,6 +77,8 @@ public class VnfcResourceInfo implements DescriptorInformationElement {
 	private InstantiatedVnfInfo iVnfInfo;
 	
 	private String vnfcInstanceId;
+	@JsonDeserialize(using = InternedIdentifierDeserializer.class)
+	@Convert(converter = InternedIdentifierConverter.class)
 	private String vduId;
 	
 	@Embedded
@@ -76,6 +87,7 @@ public class VnfcResourceInfo implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
 	private List<String> storageResourceId = new ArrayList<>();
 	
@@ -84,12 +96,15 @@ public class VnfcResourceInfo implements DescriptorInformationElement {
 	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	@ElementCollection(fetch=FetchType.EAGER)
 	@Fetch(FetchMode.SELECT)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	@Cascade(org.hibernate.annotations.CascadeType.ALL)
-	private Map<String, String> metadata = new HashMap<>();
+	@JsonDeserialize(using = SmallMapDeserializer.class)
+	private Map<String, String> metadata = SmallMap.of();
 	
 	@OneToMany(mappedBy = "vri", cascade=CascadeType.ALL)
 	@OnDelete(action = OnDeleteAction.CASCADE)
 	@LazyCollection(LazyCollectionOption.FALSE)
+	@BatchSize(size = FetchProfiles.BATCH_SIZE)
 	private List<VnfcCpInfo> vnfcCpInfo = new ArrayList<>();
 	
 	@JsonIgnore
@@ -125,11 +140,11 @@ public class VnfcResourceInfo implements DescriptorInformationElement {
 			Map<String, String> metadata) {
 		this.iVnfInfo = iVnfInfo;
 		this.vnfcInstanceId = vnfcInstanceId;
-		this.vduId = vduId;
+		this.vduId = IdentifierDictionary.intern(vduId);
 		this.computeResource = computeResource;
 		if (storageResourceId != null) this.storageResourceId = storageResourceId;
 		this.reservationId = reservationId;
-		if (metadata != null) this.metadata = metadata;
+		if (metadata != null) this.metadata = SmallMap.copyOf(metadata);
 		this.status = VimResourceStatus.INSTANTIATING;
 	}
 
@@ -160,7 +175,7 @@ public class VnfcResourceInfo implements DescriptorInformationElement {
 	 * @return the storageResourceId
 	 */
 	public List<String> getStorageResourceId() {
-		return storageResourceId;
+		return track(storageResourceId);
 	}
 
 	/**
@@ -176,7 +191,7 @@ public class VnfcResourceInfo implements DescriptorInformationElement {
 	 * @return the metadata
 	 */
 	public Map<String, String> getMetadata() {
-		return metadata;
+		return track(metadata);
 	}
 	
 	
@@ -185,7 +200,7 @@ public class VnfcResourceInfo implements DescriptorInformationElement {
 	 * @return the vnfcCpInfo
 	 */
 	public List<VnfcCpInfo> getVnfcCpInfo() {
-		return vnfcCpInfo;
+		return track(vnfcCpInfo);
 	}
 
 	/**
@@ -202,6 +217,7 @@ public class VnfcResourceInfo implements DescriptorInformationElement {
 	@JsonIgnore
 	public void setStatus(VimResourceStatus status) {
 		this.status = status;
+		touch();
 	}
 	
 	
@@ -220,6 +236,7 @@ public class VnfcResourceInfo implements DescriptorInformationElement {
 	@JsonIgnore
 	public void setHostname(String hostname) {
 		this.hostname = hostname;
+		touch();
 	}
 
 	/**
@@ -236,13 +253,14 @@ public class VnfcResourceInfo implements DescriptorInformationElement {
 	@JsonIgnore
 	public void setHostId(String hostId) {
 		this.hostId = hostId;
+		touch();
 	}
 
 	@Override
 	public void isValid() throws MalformattedElementException {
-		if (vnfcInstanceId == null) throw new MalformattedElementException("VNFC resource info without VNFC instance ID");
-		if (vduId == null) throw new MalformattedElementException("VNFC resource info without VDU ID");
-		if (computeResource == null) throw new MalformattedElementException("VNFC resource info without resource");
+		if (vnfcInstanceId == null) throw MalformattedElementException.stackless("VNFC resource info without VNFC instance ID");
+		if (vduId == null) throw MalformattedElementException.stackless("VNFC resource info without VDU ID");
+		if (computeResource == null) throw MalformattedElementException.stackless("VNFC resource info without resource");
 		else computeResource.isValid();
 		for (VnfcCpInfo vci : vnfcCpInfo) vci.isValid();
 	}
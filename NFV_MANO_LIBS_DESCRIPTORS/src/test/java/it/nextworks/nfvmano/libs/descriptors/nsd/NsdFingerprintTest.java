@@ -0,0 +1,108 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.descriptors.nsd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import it.nextworks.nfvmano.libs.common.fingerprint.Fingerprint;
+import it.nextworks.nfvmano.libs.common.fingerprint.MerkleHasher;
+
+/**
+ * Incremental fingerprints of an NSD: a change rehashes only the elements 
+ * on the path from the changed element to the root.
+ * 
+ * @author nextworks
+ *
+ */
+public class NsdFingerprintTest {
+
+	private static final int PROFILES = 20;
+	
+	private final MerkleHasher hasher = new MerkleHasher(new ObjectMapper());
+	
+	private Nsd nsd;
+	private NsDf nsDf;
+	
+	@Before
+	public void buildNsd() {
+		nsd = new Nsd("nsd-1", "nextworks", "1.0", "test NSD", "nsd-1", null, Arrays.asList("vnfd-1"), null, null);
+		nsDf = new NsDf(nsd, "df-1", "key", null, "il-1");
+		nsd.getNsDf().add(nsDf);
+		for (int i = 0; i < PROFILES; i++) {
+			VnfProfile vnfProfile = new VnfProfile(nsDf, "profile-" + i, "vnfd-1", "df-1", null, 1, 1, null, null);
+			vnfProfile.getNsVirtualLinkConnectivity().add(new NsVirtualLinkConnectivity(vnfProfile, "vl-" + i, new ArrayList<>(Arrays.asList("cp-" + i))));
+			nsDf.getVnfProfile().add(vnfProfile);
+		}
+	}
+	
+	@Test
+	public void unchangedNsdIsNotRehashed() {
+		Fingerprint first = hasher.fingerprint(nsd);
+		long hashed = hasher.getHashedElements();
+		assertEquals(first, hasher.fingerprint(nsd));
+		assertEquals(hashed, hasher.getHashedElements());
+	}
+	
+	@Test
+	public void changeRehashesOnlyItsPath() {
+		Fingerprint before = hasher.fingerprint(nsd);
+		long hashed = hasher.getHashedElements();
+		
+		NsVirtualLinkConnectivity connectivity = nsDf.getVnfProfile().get(7).getNsVirtualLinkConnectivity().get(0);
+		connectivity.getCpdId().add("cp-extra");
+		Fingerprint after = hasher.fingerprint(nsd);
+		
+		assertNotEquals(before, after);
+		// NS VL connectivity, VNF profile, NS DF and NSD
+		assertEquals(4, hasher.getHashedElements() - hashed);
+		assertEquals(new MerkleHasher(new ObjectMapper()).fingerprint(nsd), after);
+	}
+	
+	@Test
+	public void replacementRehashesOnlyItsPath() {
+		hasher.fingerprint(nsd);
+		long hashed = hasher.getHashedElements();
+		
+		nsDf.getVnfProfile().get(3).getNsVirtualLinkConnectivity().get(0).getCpdId().set(0, "cp-changed");
+		Fingerprint after = hasher.fingerprint(nsd);
+		
+		assertEquals(4, hasher.getHashedElements() - hashed);
+		assertEquals(new MerkleHasher(new ObjectMapper()).fingerprint(nsd), after);
+	}
+	
+	@Test
+	public void removalRehashesOnlyItsPath() {
+		hasher.fingerprint(nsd);
+		long hashed = hasher.getHashedElements();
+		
+		nsDf.getVnfProfile().remove(5);
+		Fingerprint after = hasher.fingerprint(nsd);
+		
+		// NS DF and NSD
+		assertEquals(2, hasher.getHashedElements() - hashed);
+		assertEquals(new MerkleHasher(new ObjectMapper()).fingerprint(nsd), after);
+	}
+	
+}
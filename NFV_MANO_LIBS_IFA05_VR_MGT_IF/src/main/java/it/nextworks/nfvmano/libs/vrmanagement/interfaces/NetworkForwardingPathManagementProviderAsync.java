@@ -0,0 +1,142 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.vrmanagement.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.nextworks.nfvmano.libs.common.async.AsyncAdapters;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.nfp.Nfp;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.nfp.ChangeNfpStateRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.nfp.ChangeNfpStateResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.nfp.CreateNfpRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.nfp.CreateNfpResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.nfp.DeleteNfpRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.nfp.DeleteNfpResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.nfp.QueryNfpResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.nfp.UpdateNfpRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.nfp.UpdateNfpResponse;
+
+/**
+ * Asynchronous variant of {@link NetworkForwardingPathManagementProviderInterface}, 
+ * where each operation returns a CompletableFuture instead of blocking 
+ * the caller until the operation is processed.
+ * 
+ * Synchronous and asynchronous implementations can be adapted to each other
+ * through {@link AsyncAdapters}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface NetworkForwardingPathManagementProviderAsync {
+
+	/**
+	 * This operation is used to set-up an NFP in the NFVI.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.4.5.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation has failed;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request
+	 * @return future completed with the operation response
+	 */
+	public CompletableFuture<CreateNfpResponse> createNfp(CreateNfpRequest request);
+
+	/**
+	 * This operation is used to query a single or multiple NFPs.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.4.5.3
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation has failed;
+	 * 		NotExistingEntityException if the resource has not been found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request
+	 * @return future completed with the operation response
+	 */
+	public CompletableFuture<QueryNfpResponse> queryNfp(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryNfp(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation has failed;
+	 * 		NotExistingEntityException if the resource has not been found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<Nfp>> queryNfpPaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation is used to remove an existing NFP in the NFVI.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.4.5.4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation has failed;
+	 * 		NotExistingEntityException if the resource has not been found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request
+	 * @return future completed with the operation response
+	 */
+	public CompletableFuture<DeleteNfpResponse> deleteNfp(DeleteNfpRequest request);
+
+	/**
+	 * This operation is used to request changing the state (enable or disable) of an NFP.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.4.5.5
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation has failed;
+	 * 		NotExistingEntityException if the resource has not been found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request
+	 * @return future completed with the operation response
+	 */
+	public CompletableFuture<ChangeNfpStateResponse> changeNfpStatus(ChangeNfpStateRequest request);
+
+	/**
+	 * This operation is used to update or create the classification and selection rule
+	 * for an existing NFP instance in the NFVI.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.4.5.6
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the NFP has not been found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request
+	 * @return future completed with the operation response
+	 */
+	public CompletableFuture<UpdateNfpResponse> updateNfp(UpdateNfpRequest request);
+
+}
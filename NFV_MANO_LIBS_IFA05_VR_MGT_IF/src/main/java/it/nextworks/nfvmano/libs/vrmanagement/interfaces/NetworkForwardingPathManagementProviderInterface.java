@@ -29,6 +29,8 @@ import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.nfp.DeleteNfpR
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.nfp.QueryNfpResponse;
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.nfp.UpdateNfpRequest;
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.nfp.UpdateNfpResponse;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.nfp.Nfp;
 
 /**
  * This interface is implemented by a VIM plugin and invoked by the NFVO. 
@@ -73,6 +75,25 @@ public interface NetworkForwardingPathManagementProviderInterface {
 	public QueryNfpResponse queryNfp(GeneralizedQueryRequest request)
 			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException;
 	
+	/**
+	 * Paged variant of {@link #queryNfp(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryNfp:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws FailedOperationException if the operation has failed
+	 * @throws NotExistingEntityException if the resource has not been found
+	 * @throws MalformattedElementException if the request is malformatted
+	 */
+	public default QueryResultStream<Nfp> queryNfpPaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException {
+		return QueryResultStream.paginate(queryNfp(request).getNfpResult(), request);
+	}
+	
 	/**
 	 * This operation is used to remove an existing NFP in the NFVI.
 	 * 
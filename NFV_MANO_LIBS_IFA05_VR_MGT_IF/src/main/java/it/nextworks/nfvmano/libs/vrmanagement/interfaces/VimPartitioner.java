@@ -0,0 +1,229 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.vrmanagement.interfaces;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import it.nextworks.nfvmano.libs.common.elements.Filter;
+import it.nextworks.nfvmano.libs.common.elements.ResourceHandle;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+import it.nextworks.nfvmano.libs.common.resilience.Partitioner;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.NfviPop;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.ResourceZone;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.vcompute.VirtualCompute;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.vnet.VirtualNetwork;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.vstorage.VirtualStorage;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.AllocateComputeRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.AllocateComputeResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.MigrateComputeRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.MigrateComputeResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.OperateComputeRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.QueryComputeResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.ScaleComputeRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.TerminateComputeRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.TerminateComputeResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.UpdateComputeRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vnet.AllocateNetworkRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vnet.AllocateNetworkResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vnet.QueryNetworkResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vnet.TerminateNetworkRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vnet.TerminateNetworkResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vnet.UpdateNetworkRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.AllocateStorageRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.AllocateStorageResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.MigrateStorageRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.MigrateStorageResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.OperateStorageRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.QueryVirtualStorageResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.ScaleStorageRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.TerminateStorageRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.TerminateStorageResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.UpdateStorageRequest;
+
+/**
+ * Partitioner of the requests of the virtualised resource management interfaces
+ * (VirtualComputeResourceManagementProviderInterface, VirtualisedNetworkResourceManagementProviderInterface
+ * and VirtualisedStorageResourceManagementProviderInterface) by VIM, to be used with the 
+ * Resilience decorators.
+ * 
+ * The VIM of a request is taken from:
+ * <ul>
+ * <li>the vimId of its ResourceHandle arguments;</li>
+ * <li>the resource zone in the location constraints of the allocation requests;</li>
+ * <li>the vimId or zoneId parameters of the filter of the queries;</li>
+ * <li>the resource zone of the referred resources (computeId, storageId, networkResourceId),
+ * learnt from the responses of the allocations, of the queries and of the other 
+ * operations returning the resource data, and forgotten on termination.</li>
+ * </ul>
+ * Resource zones are mapped to their VIMs through {@link #mapZone(String, String)} 
+ * or {@link #mapZones(Collection, Collection)}; unmapped zones are used as partitions 
+ * themselves.
+ * 
+ * Requests whose VIM cannot be resolved, e.g. queries without vimId or zoneId filter 
+ * parameters or operations on resources whose zone has not been learnt yet, are not 
+ * assigned to any partition and are hence rejected by the Resilience decorators, 
+ * rather than sharing a pool with the requests of the other VIMs. The zones of 
+ * existing resources are learnt by querying them with a vimId or zoneId filter.
+ * 
+ * @author nextworks
+ *
+ */
+public class VimPartitioner implements Partitioner {
+
+	private final Map<String, String> zoneVims = new ConcurrentHashMap<>();
+	private final Map<String, String> resourceZones = new ConcurrentHashMap<>();
+	
+	public VimPartitioner() { }
+	
+	/**
+	 * Maps a resource zone to its VIM
+	 * 
+	 * @param zoneId ID of the resource zone
+	 * @param vimId ID of the VIM
+	 */
+	public void mapZone(String zoneId, String vimId) {
+		zoneVims.put(zoneId, vimId);
+	}
+	
+	/**
+	 * Maps the resource zones to the VIMs of their NFVI-PoPs
+	 * 
+	 * @param zones the resource zones
+	 * @param nfviPops the NFVI-PoPs
+	 */
+	public void mapZones(Collection<ResourceZone> zones, Collection<NfviPop> nfviPops) {
+		Map<String, String> popVims = new HashMap<>();
+		for (NfviPop pop : nfviPops) {
+			if ((pop.getNfviPopId() != null) && (pop.getVimId() != null)) popVims.put(pop.getNfviPopId(), pop.getVimId());
+		}
+		for (ResourceZone zone : zones) {
+			String vimId = popVims.get(zone.getNfviPopId());
+			if ((zone.getZoneId() != null) && (vimId != null)) zoneVims.put(zone.getZoneId(), vimId);
+		}
+	}
+	
+	/**
+	 * @return the number of resources whose zone is known
+	 */
+	public int getKnownResources() {
+		return resourceZones.size();
+	}
+	
+	@Override
+	public String partitionOf(Method method, Object[] args) {
+		if (args == null) return null;
+		for (Object arg : args) {
+			String partition = partitionOf(arg);
+			if (partition != null) return partition;
+		}
+		return null;
+	}
+	
+	@Override
+	public void onResponse(Method method, Object[] args, Object response) {
+		if (response instanceof AllocateComputeResponse) learn(((AllocateComputeResponse) response).getComputeData());
+		else if (response instanceof AllocateStorageResponse) learn(((AllocateStorageResponse) response).getStorageResource());
+		else if (response instanceof AllocateNetworkResponse) learn(((AllocateNetworkResponse) response).getNetworkData());
+		else if (response instanceof MigrateComputeResponse) learn(((MigrateComputeResponse) response).getComputeData());
+		else if (response instanceof MigrateStorageResponse) learn(((MigrateStorageResponse) response).getStorageData());
+		else if (response instanceof QueryComputeResponse) {
+			List<VirtualCompute> computes = ((QueryComputeResponse) response).getVirtualCompute();
+			if (computes != null) for (VirtualCompute c : computes) learn(c);
+		} else if (response instanceof QueryVirtualStorageResponse) {
+			List<VirtualStorage> storages = ((QueryVirtualStorageResponse) response).getQueryResult();
+			if (storages != null) for (VirtualStorage s : storages) learn(s);
+		} else if (response instanceof QueryNetworkResponse) {
+			List<VirtualNetwork> networks = ((QueryNetworkResponse) response).getNetworkData();
+			if (networks != null) for (VirtualNetwork n : networks) learn(n);
+		} else if (response instanceof TerminateComputeResponse) forget(((TerminateComputeResponse) response).getComputeId());
+		else if (response instanceof TerminateStorageResponse) forget(((TerminateStorageResponse) response).getStorageId());
+		else if (response instanceof TerminateNetworkResponse) forget(((TerminateNetworkResponse) response).getNetworkResourceId());
+	}
+	
+	private String partitionOf(Object arg) {
+		if (arg instanceof ResourceHandle) return ((ResourceHandle) arg).getVimId();
+		if (arg instanceof AllocateComputeRequest) return vimOfZone(((AllocateComputeRequest) arg).getLocationConstraints());
+		if (arg instanceof AllocateNetworkRequest) return vimOfZone(((AllocateNetworkRequest) arg).getLocationConstraints());
+		if (arg instanceof AllocateStorageRequest) return vimOfZone(((AllocateStorageRequest) arg).getLocationConstraints());
+		if (arg instanceof GeneralizedQueryRequest) {
+			Filter filter = ((GeneralizedQueryRequest) arg).getFilter();
+			if ((filter == null) || (filter.getParameters() == null)) return null;
+			String vimId = filter.getParameters().get("vimId");
+			return (vimId != null) ? vimId : vimOfZone(filter.getParameters().get("zoneId"));
+		}
+		if (arg instanceof UpdateComputeRequest) return vimOfResource(((UpdateComputeRequest) arg).getComputeId());
+		if (arg instanceof OperateComputeRequest) return vimOfResource(((OperateComputeRequest) arg).getComputeId());
+		if (arg instanceof ScaleComputeRequest) return vimOfResource(((ScaleComputeRequest) arg).getComputeId());
+		if (arg instanceof MigrateComputeRequest) return vimOfResource(((MigrateComputeRequest) arg).getComputeId());
+		if (arg instanceof TerminateComputeRequest) return vimOfResources(((TerminateComputeRequest) arg).getComputeId());
+		if (arg instanceof UpdateStorageRequest) return vimOfResource(((UpdateStorageRequest) arg).getStorageId());
+		if (arg instanceof OperateStorageRequest) return vimOfResource(((OperateStorageRequest) arg).getStorageId());
+		if (arg instanceof ScaleStorageRequest) return vimOfResource(((ScaleStorageRequest) arg).getStorageId());
+		if (arg instanceof MigrateStorageRequest) return vimOfResource(((MigrateStorageRequest) arg).getStorageId());
+		if (arg instanceof TerminateStorageRequest) return vimOfResources(((TerminateStorageRequest) arg).getStorageId());
+		if (arg instanceof UpdateNetworkRequest) return vimOfResource(((UpdateNetworkRequest) arg).getNetworkResourceId());
+		if (arg instanceof TerminateNetworkRequest) {
+			Map<String, ?> ids = ((TerminateNetworkRequest) arg).getNetworkResourceId();
+			return (ids != null) ? vimOfResources(ids.keySet()) : null;
+		}
+		return null;
+	}
+	
+	private String vimOfZone(String zoneId) {
+		if (zoneId == null) return null;
+		String vimId = zoneVims.get(zoneId);
+		return (vimId != null) ? vimId : zoneId;
+	}
+	
+	private String vimOfResource(String resourceId) {
+		return (resourceId != null) ? vimOfZone(resourceZones.get(resourceId)) : null;
+	}
+	
+	private String vimOfResources(Collection<String> resourceIds) {
+		if (resourceIds == null) return null;
+		for (String resourceId : resourceIds) {
+			String vimId = vimOfResource(resourceId);
+			if (vimId != null) return vimId;
+		}
+		return null;
+	}
+	
+	private void learn(VirtualCompute compute) {
+		if (compute != null) learn(compute.getComputeId(), compute.getZoneId());
+	}
+	
+	private void learn(VirtualStorage storage) {
+		if (storage != null) learn(storage.getStorageId(), storage.getZoneId());
+	}
+	
+	private void learn(VirtualNetwork network) {
+		if (network != null) learn(network.getNetworkResourceId(), network.getZoneId());
+	}
+	
+	private void learn(String resourceId, String zoneId) {
+		if ((resourceId != null) && (zoneId != null)) resourceZones.put(resourceId, zoneId);
+	}
+	
+	private void forget(Collection<String> resourceIds) {
+		if (resourceIds != null) for (String resourceId : resourceIds) resourceZones.remove(resourceId);
+	}
+	
+}
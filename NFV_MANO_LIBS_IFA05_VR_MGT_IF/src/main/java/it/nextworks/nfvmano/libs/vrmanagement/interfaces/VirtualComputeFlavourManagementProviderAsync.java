@@ -0,0 +1,103 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.vrmanagement.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.nextworks.nfvmano.libs.common.async.AsyncAdapters;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.vcompute.VirtualComputeFlavour;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.CreateComputeFlavourRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.QueryComputeFlavourResponse;
+
+/**
+ * Asynchronous variant of {@link VirtualComputeFlavourManagementProviderInterface}, 
+ * where each operation returns a CompletableFuture instead of blocking 
+ * the caller until the operation is processed.
+ * 
+ * Synchronous and asynchronous implementations can be adapted to each other
+ * through {@link AsyncAdapters}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface VirtualComputeFlavourManagementProviderAsync {
+
+	/**
+	 * This operation allows requesting the creation of a flavour as
+	 * indicated by the consumer functional block.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.3.5.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 		FailedOperationException if the operation fails;
+	 * 
+	 * @param request request to create a new compute flavour
+	 * @return future completed with the ID of the compute flavour
+	 */
+	public CompletableFuture<String> createComputeFlavour(CreateComputeFlavourRequest request);
+
+	/**
+	 * This operation allows querying information about created Compute Flavours.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.3.5.3
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 		NotExistingEntityException if the requested entity does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 
+	 * @param request query for a compute flavour
+	 * @return future completed with the compute flavour
+	 */
+	public CompletableFuture<QueryComputeFlavourResponse> queryComputeFlavour(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryComputeFlavour(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 		NotExistingEntityException if the requested entity does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<VirtualComputeFlavour>> queryComputeFlavourPaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation allows deleting a Compute Flavour.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.3.5.4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 		NotExistingEntityException if the target compute flavour does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 
+	 * @param flavourId Identifier of the Compute Flavour to be deleted.
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> deleteComputeFlavour(String flavourId);
+
+}
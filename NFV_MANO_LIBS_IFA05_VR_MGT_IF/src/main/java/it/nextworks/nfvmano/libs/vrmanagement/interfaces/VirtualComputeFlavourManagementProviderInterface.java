@@ -22,6 +22,8 @@ import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
 import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.CreateComputeFlavourRequest;
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.QueryComputeFlavourResponse;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.vcompute.VirtualComputeFlavour;
 
 /**
  * This interface allows an authorized consumer functional block to request operations 
@@ -65,6 +67,25 @@ public interface VirtualComputeFlavourManagementProviderInterface {
 	public QueryComputeFlavourResponse queryComputeFlavour(GeneralizedQueryRequest request) 
 			throws MethodNotImplementedException, MalformattedElementException, NotExistingEntityException, FailedOperationException;
 	
+	/**
+	 * Paged variant of {@link #queryComputeFlavour(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryComputeFlavour:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws MalformattedElementException if the request is malformatted
+	 * @throws NotExistingEntityException if the requested entity does not exist
+	 * @throws FailedOperationException if the operation fails
+	 */
+	public default QueryResultStream<VirtualComputeFlavour> queryComputeFlavourPaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, MalformattedElementException, NotExistingEntityException, FailedOperationException {
+		return QueryResultStream.paginate(queryComputeFlavour(request).getFlavours(), request);
+	}
+	
 	/**
 	 * This operation allows deleting a Compute Flavour.
 	 * 
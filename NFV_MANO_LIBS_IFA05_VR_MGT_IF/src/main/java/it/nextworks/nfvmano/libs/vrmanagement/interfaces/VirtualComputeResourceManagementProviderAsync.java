@@ -0,0 +1,243 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.vrmanagement.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.nextworks.nfvmano.libs.common.async.AsyncAdapters;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.vcompute.VirtualCompute;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.AllocateComputeRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.AllocateComputeResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.MigrateComputeRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.MigrateComputeResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.OperateComputeRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.OperateComputeResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.QueryComputeResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.ScaleComputeRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.ScaleComputeResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.TerminateComputeRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.TerminateComputeResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.UpdateComputeRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.UpdateComputeResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vresources.CreateResourceAffinityGroupRequest;
+
+/**
+ * Asynchronous variant of {@link VirtualComputeResourceManagementProviderInterface}, 
+ * where each operation returns a CompletableFuture instead of blocking 
+ * the caller until the operation is processed.
+ * 
+ * Synchronous and asynchronous implementations can be adapted to each other
+ * through {@link AsyncAdapters}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface VirtualComputeResourceManagementProviderAsync {
+
+	/**
+	 * This operation allows requesting the allocation of virtual
+	 * compute resources as indicated by the consumer functional block.
+	 * 
+	 * REF IFA 005 v2.3.1 - sect. 7.3.1.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to allocate a virtual compute resource
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<AllocateComputeResponse> allocateVirtualisedComputeResource(AllocateComputeRequest request);
+
+	/**
+	 * This operation allows querying information about instantiated
+	 * virtualised compute resources.
+	 * 
+	 * REF IFA 005 v2.3.1 - sect. 7.3.1.3
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the requested resource does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request query for a virtual compute resource
+	 * @return future completed with the queried virtual compute resource
+	 */
+	public CompletableFuture<QueryComputeResponse> queryVirtualisedComputeResource(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryVirtualisedComputeResource(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the requested resource does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<VirtualCompute>> queryVirtualisedComputeResourcePaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation allows updating the configuration and/or parameters of
+	 * an instantiated virtual compute resource. This can include,
+	 * for instance, updating metadata adding extra virtual network
+	 * interfaces to a compute resource, or attaching a virtual network
+	 * interface to a specific network port.
+	 * 
+	 * REF IFA 005 v2.3.1 - sect. 7.3.1.4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the resource to be updated does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to update a virtual compute resource
+	 * @return future completed with response
+	 */
+	public CompletableFuture<UpdateComputeResponse> updateVirtualisedComputeResource(UpdateComputeRequest request);
+
+	/**
+	 * This operation allows de-allocating and terminating one or more
+	 * instantiated virtual compute resource(s). When the operation
+	 * is done on multiple resources, it is assumed to be best-effort,
+	 * i.e. it can succeed for a subset of the resources, and fail for the remaining ones.
+	 * 
+	 * REF IFA 005 v2.3.1 - sect. 7.3.1.5
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the resource to be deleted does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to terminate a virtual compute resource
+	 * @return future completed with response
+	 */
+	public CompletableFuture<TerminateComputeResponse> terminateVirtualisedComputeResource(TerminateComputeRequest request);
+
+	/**
+	 * This operation allows executing specific operation command on instantiated
+	 * virtualcompute resources.
+	 * 
+	 * REF IFA 005 v2.3.1 - sect. 7.3.1.6
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the target resource does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to execute an operation command on a virtual compute resource
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<OperateComputeResponse> operateVirtualisedComputeResource(OperateComputeRequest request);
+
+	/**
+	 * This operation allows scaling a virtualised compute resource
+	 * by adding or removing capacity in terms of virtual CPUs and virtual memory.
+	 * 
+	 * REF IFA 005 v2.3.1 - sect. 7.3.1.7
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the target resource does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to scale a virtual compute resource
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<ScaleComputeResponse> scaleVirtualisedComputeResource(ScaleComputeRequest request);
+
+	/**
+	 * This operation allows moving a virtualised compute resource between locations.
+	 * For instance, the operation performs the migration of a computing resource from
+	 * one physical machine (host) to another physical machine.
+	 * 
+	 * REF IFA 005 v2.3.1 - sect. 7.3.1.8
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the target resource does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to migrate a virtual compute resource
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<MigrateComputeResponse> migrateVirtualisedComputeResource(MigrateComputeRequest request);
+
+	/**
+	 * This operation allows an authorized consumer functional block to request the creation of a resource affinity or
+	 * anti-affinity constraints group. An anti-affinity group contains resources that are not placed in proximity, e.g. that do not
+	 * share the same physical NFVI node. An affinity group contains resources that are placed in proximity, e.g. that do share
+	 * the same physical NFVI node.
+	 * 
+	 * REF IFA 005 v2.3.1 - sect. 7.3.1.9
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to create an affinity group for virtual compute resource
+	 * @return future completed with the ID of the affinity group
+	 */
+	public CompletableFuture<String> createComputeResourceAffinityGroup(CreateResourceAffinityGroupRequest request);
+
+	/**
+	 * This operation enables the NFVO to subscribe with a filter for the notifications
+	 * related to virtualised compute resource changes sent by the VIM.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.3.2.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 		FailedOperationException if the subscription fails;
+	 * 
+	 * @param request subscription request
+	 * @param consumer subscriber
+	 * @return future completed with the subscription ID
+	 */
+	public CompletableFuture<String> subscribeVirtualComputeResourceChange(SubscribeRequest request, VirtualComputeResourceManagementConsumerInterface consumer);
+
+	/**
+	 * Method to remove a previous subscription
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.3.2.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the subscription does not exist.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param subscriptionId	ID of the subscription to be removed
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> unsubscribeVirtualComputeResourceChange(String subscriptionId);
+
+}
@@ -35,6 +35,8 @@ import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.Termi
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.UpdateComputeRequest;
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.UpdateComputeResponse;
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vresources.CreateResourceAffinityGroupRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.vcompute.VirtualCompute;
 
 /**
  * This interface allows an authorized consumer functional block 
@@ -87,6 +89,25 @@ public interface VirtualComputeResourceManagementProviderInterface {
 	public QueryComputeResponse queryVirtualisedComputeResource(GeneralizedQueryRequest request)
 			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException;
 	
+	/**
+	 * Paged variant of {@link #queryVirtualisedComputeResource(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryVirtualisedComputeResource:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws FailedOperationException if the operation fails
+	 * @throws NotExistingEntityException if the requested resource does not exist
+	 * @throws MalformattedElementException if the request is malformatted
+	 */
+	public default QueryResultStream<VirtualCompute> queryVirtualisedComputeResourcePaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException {
+		return QueryResultStream.paginate(queryVirtualisedComputeResource(request).getVirtualCompute(), request);
+	}
+	
 	/**
 	 * This operation allows updating the configuration and/or parameters of 
 	 * an instantiated virtual compute resource. This can include, 
@@ -0,0 +1,166 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.vrmanagement.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.nextworks.nfvmano.libs.common.async.AsyncAdapters;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vnet.AllocateNetworkRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vnet.AllocateNetworkResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vnet.QueryNetworkResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vnet.TerminateNetworkRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vnet.TerminateNetworkResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vnet.UpdateNetworkRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vnet.UpdateNetworkResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vresources.CreateResourceAffinityGroupRequest;
+
+/**
+ * Asynchronous variant of {@link VirtualisedNetworkResourceManagementProviderInterface}, 
+ * where each operation returns a CompletableFuture instead of blocking 
+ * the caller until the operation is processed.
+ * 
+ * Synchronous and asynchronous implementations can be adapted to each other
+ * through {@link AsyncAdapters}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface VirtualisedNetworkResourceManagementProviderAsync {
+
+	/**
+	 * This operation allows an authorized consumer functional block to request
+	 * the allocation of virtualised network resources as indicated by the
+	 * consumer functional block.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.4.1.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to allocate a new network resource on the VIM
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<AllocateNetworkResponse> allocateVirtualisedNetworkResource(AllocateNetworkRequest request);
+
+	/**
+	 * This operation allows querying information about instantiated virtualised network resources.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.4.1.3
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the requested entity does not exist;
+	 * 		MalformattedElementException if the query is malformatted;
+	 * 
+	 * @param request query request
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<QueryNetworkResponse> queryVirtualisedNetworkResource(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation allows de-allocating and terminating one or more instantiated virtualised network resource(s).
+	 * When the operation is done on multiple ids, it is assumed to be best-effort, i.e. it can succeed for a subset of the ids,
+	 * and fail for the remaining ones.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.4.1.5
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the entity to be terminated does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request terminate network request
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<TerminateNetworkResponse> terminateVirtualisedNetworkResource(TerminateNetworkRequest request);
+
+	/**
+	 * This operation allows updating the information of an instantiated virtualised network resource.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.4.1.4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the entity to be updated does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request update network request
+	 * @return future completed with update network response
+	 */
+	public CompletableFuture<UpdateNetworkResponse> updateVirtualisedNetworkResource(UpdateNetworkRequest request);
+
+	/**
+	 * This operation allows an authorized consumer functional block to request
+	 * the creation of a resource affinity or anti-affinity constraints group.
+	 * 
+	 * An anti-affinity group contains resources that are not placed in proximity,
+	 * e.g. that do not share the same physical networking device.
+	 * An affinity group contains resources that are placed in proximity, e.g. that
+	 * do share the same physical networking device.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.4.1.6
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to create a resource affinity group for the network
+	 * @return future completed with the ID of the group
+	 */
+	public CompletableFuture<String> createVirtualisedNetworkResourceAffinityConstraintsGroup(CreateResourceAffinityGroupRequest request);
+
+	/**
+	 * This operation enables the NFVO to subscribe with a filter for the
+	 * notifications related to network resource changes sent by the VIM.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.4.2.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 		FailedOperationException if the subscription fails;
+	 * 
+	 * @param request subscription request
+	 * @param consumer subscriber
+	 * @return future completed with the subscription ID
+	 */
+	public CompletableFuture<String> subscribeVirtualNetworkResourceChange(SubscribeRequest request, VirtualComputeResourceManagementConsumerInterface consumer);
+
+	/**
+	 * Method to remove a previous subscription
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.4.2.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the subscription does not exist.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param subscriptionId	ID of the subscription to be removed
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> unsubscribeVirtualNetworkResourceChange(String subscriptionId);
+
+}
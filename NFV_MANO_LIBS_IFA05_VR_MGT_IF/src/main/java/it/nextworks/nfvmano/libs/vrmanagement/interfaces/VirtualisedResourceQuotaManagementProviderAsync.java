@@ -0,0 +1,331 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.vrmanagement.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.nextworks.nfvmano.libs.common.async.AsyncAdapters;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.quotas.VirtualComputeQuota;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.quotas.VirtualNetworkQuota;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.quotas.VirtualStorageQuota;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.CreateComputeResourceQuotaRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.CreateComputeResourceQuotaResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.CreateNetworkResourceQuotaRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.CreateNetworkResourceQuotaResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.CreateStorageResourceQuotaRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.CreateStorageResourceQuotaResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.QueryComputeResourceQuotaResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.QueryNetworkResourceQuotaResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.QueryStorageResourceQuotaResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.TerminateResourceQuotaRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.TerminateResourceQuotaResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.UpdateComputeResourceQuotaRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.UpdateComputeResourceQuotaResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.UpdateNetworkResourceQuotaRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.UpdateNetworkResourceQuotaResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.UpdateStorageResourceQuotaRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.UpdateStorageResourceQuotaResponse;
+
+/**
+ * Asynchronous variant of {@link VirtualisedResourceQuotaManagementProviderInterface}, 
+ * where each operation returns a CompletableFuture instead of blocking 
+ * the caller until the operation is processed.
+ * 
+ * Synchronous and asynchronous implementations can be adapted to each other
+ * through {@link AsyncAdapters}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface VirtualisedResourceQuotaManagementProviderAsync {
+
+	/**
+	 * This operation allows requesting the quota of virtualised compute resources.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.9.1.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to create a compute resource quota
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<CreateComputeResourceQuotaResponse> createComputeResourceQuota(CreateComputeResourceQuotaRequest request);
+
+	/**
+	 * This operation allows querying quota information about compute resources that the consumer has access to.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.9.1.3
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the quota does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request query for a compute resource quota
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<QueryComputeResourceQuotaResponse> queryComputeResourceQuota(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryComputeResourceQuota(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the quota does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<VirtualComputeQuota>> queryComputeResourceQuotaPaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation allows updating compute resource quotas (e.g. increase or decrease the amount of quota resources).
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.9.1.4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the quota does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to update a compute resource quota
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<UpdateComputeResourceQuotaResponse> updateComputeResourceQuota(UpdateComputeResourceQuotaRequest request);
+
+	/**
+	 * This operation allows terminating one or more issued compute resource quota(s).
+	 * When the operation is done on multiple ids, it is assumed to be best-effort,
+	 * i.e. it can succeed for a subset of the ids, and fail for the remaining ones.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.9.1.5
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the quota does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to terminate a compute resource quota
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<TerminateResourceQuotaResponse> terminateComputeResourceQuota(TerminateResourceQuotaRequest request);
+
+	/**
+	 * This operation allows requesting the quota of virtualised network resources.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.9.2.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to create a network resource quota
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<CreateNetworkResourceQuotaResponse> createNetworkResourceQuota(CreateNetworkResourceQuotaRequest request);
+
+	/**
+	 * This operation allows querying quota information about network resources that the consumer has access to.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.9.2.3
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the quota does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request query for a network resource quota
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<QueryNetworkResourceQuotaResponse> queryNetworkResourceQuota(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryNetworkResourceQuota(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the quota does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<VirtualNetworkQuota>> queryNetworkResourceQuotaPaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation allows updating network resource quotas (e.g. increase or decrease the amount of quota resources).
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.9.2.4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the quota does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to update a network resource quota
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<UpdateNetworkResourceQuotaResponse> updateNetworkResourceQuota(UpdateNetworkResourceQuotaRequest request);
+
+	/**
+	 * This operation allows terminating one or more issued network resource quota(s).
+	 * When the operation is done on multiple ids, it is assumed to be best-effort,
+	 * i.e. it can succeed for a subset of the ids, and fail for the remaining ones.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.9.2.5
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the quota does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to terminate a network resource quota
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<TerminateResourceQuotaResponse> terminateNetworkResourceQuota(TerminateResourceQuotaRequest request);
+
+	/**
+	 * This operation allows requesting the quota of virtualised storage resources.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.9.3.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to create a storage resource quota
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<CreateStorageResourceQuotaResponse> createStorageResourceQuota(CreateStorageResourceQuotaRequest request);
+
+	/**
+	 * This operation allows querying quota information about storage resources that the consumer has access to.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.9.3.3
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the quota does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request query for a storage resource quota
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<QueryStorageResourceQuotaResponse> queryStorageResourceQuota(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryStorageResourceQuota(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the quota does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<VirtualStorageQuota>> queryStorageResourceQuotaPaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation allows updating storage resource quotas (e.g. increase or decrease the amount of quota resources).
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.9.3.4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the quota does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to update a storage resource quota
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<UpdateStorageResourceQuotaResponse> updateStorageResourceQuota(UpdateStorageResourceQuotaRequest request);
+
+	/**
+	 * This operation allows terminating one or more issued storage resource quota(s).
+	 * When the operation is done on multiple ids, it is assumed to be best-effort,
+	 * i.e. it can succeed for a subset of the ids, and fail for the remaining ones.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.9.3.5
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the quota does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to terminate a storage resource quota
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<TerminateResourceQuotaResponse> terminateStorageResourceQuota(TerminateResourceQuotaRequest request);
+
+	/**
+	 * This operation enables the NFVO to subscribe with a filter for
+	 * the notifications related to quota on virtualised resources sent by the VIM.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.9.4.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 		FailedOperationException if the operation fails;
+	 * 
+	 * @param request subscription request
+	 * @param consumer consumer that will receive the notification
+	 * @return future completed with the subscription ID
+	 */
+	public CompletableFuture<String> subscribeVirtualResourceQuotaChange(SubscribeRequest request, VirtualisedResourceQuotaManagementConsumerInterface consumer);
+
+	/**
+	 * Method to remove a previous subscription
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.9.4.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the subscription does not exist.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param subscriptionId	ID of the subscription to be removed
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> unsubscribeVirtualResourceQuotaChange(String subscriptionId);
+
+}
@@ -38,6 +38,10 @@ import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.UpdateN
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.UpdateNetworkResourceQuotaResponse;
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.UpdateStorageResourceQuotaRequest;
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.quotas.UpdateStorageResourceQuotaResponse;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.quotas.VirtualComputeQuota;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.quotas.VirtualNetworkQuota;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.quotas.VirtualStorageQuota;
 
 
 
@@ -86,6 +90,25 @@ public interface VirtualisedResourceQuotaManagementProviderInterface {
 	public QueryComputeResourceQuotaResponse queryComputeResourceQuota(GeneralizedQueryRequest request)
 			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException;
 	
+	/**
+	 * Paged variant of {@link #queryComputeResourceQuota(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryComputeResourceQuota:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws FailedOperationException if the operation fails
+	 * @throws NotExistingEntityException if the quota does not exist
+	 * @throws MalformattedElementException if the request is malformatted
+	 */
+	public default QueryResultStream<VirtualComputeQuota> queryComputeResourceQuotaPaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException {
+		return QueryResultStream.paginate(queryComputeResourceQuota(request).getQueryResult(), request);
+	}
+	
 	/**
 	 * This operation allows updating compute resource quotas (e.g. increase or decrease the amount of quota resources).
 	 * 
@@ -148,6 +171,25 @@ public interface VirtualisedResourceQuotaManagementProviderInterface {
 	public QueryNetworkResourceQuotaResponse queryNetworkResourceQuota(GeneralizedQueryRequest request)
 			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException;
 	
+	/**
+	 * Paged variant of {@link #queryNetworkResourceQuota(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryNetworkResourceQuota:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws FailedOperationException if the operation fails
+	 * @throws NotExistingEntityException if the quota does not exist
+	 * @throws MalformattedElementException if the request is malformatted
+	 */
+	public default QueryResultStream<VirtualNetworkQuota> queryNetworkResourceQuotaPaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException {
+		return QueryResultStream.paginate(queryNetworkResourceQuota(request).getQueryResult(), request);
+	}
+	
 	/**
 	 * This operation allows updating network resource quotas (e.g. increase or decrease the amount of quota resources).
 	 * 
@@ -209,6 +251,25 @@ public interface VirtualisedResourceQuotaManagementProviderInterface {
 	public QueryStorageResourceQuotaResponse queryStorageResourceQuota(GeneralizedQueryRequest request)
 			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException;
 	
+	/**
+	 * Paged variant of {@link #queryStorageResourceQuota(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryStorageResourceQuota:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws FailedOperationException if the operation fails
+	 * @throws NotExistingEntityException if the quota does not exist
+	 * @throws MalformattedElementException if the request is malformatted
+	 */
+	public default QueryResultStream<VirtualStorageQuota> queryStorageResourceQuotaPaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException {
+		return QueryResultStream.paginate(queryStorageResourceQuota(request).getQueryResult(), request);
+	}
+	
 	/**
 	 * This operation allows updating storage resource quotas (e.g. increase or decrease the amount of quota resources).
 	 * 
@@ -0,0 +1,335 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.vrmanagement.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.nextworks.nfvmano.libs.common.async.AsyncAdapters;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.reservation.ReservedVirtualCompute;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.reservation.ReservedVirtualNetwork;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.reservation.ReservedVirtualStorage;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.CreateComputeResourceReservationRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.CreateComputeResourceReservationResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.CreateNetworkResourceReservationRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.CreateNetworkResourceReservationResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.CreateStorageResourceReservationRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.CreateStorageResourceReservationResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.QueryComputeResourceReservationResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.QueryNetworkResourceReservationResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.QueryStorageResourceReservationResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.TerminateResourceReservationRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.TerminateResourceReservationResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.UpdateComputeResourceReservationRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.UpdateComputeResourceReservationResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.UpdateNetworkResourceReservationRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.UpdateNetworkResourceReservationResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.UpdateStorageResourceReservationRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.UpdateStorageResourceReservationResponse;
+
+/**
+ * Asynchronous variant of {@link VirtualisedResourceReservationManagementProviderInterface}, 
+ * where each operation returns a CompletableFuture instead of blocking 
+ * the caller until the operation is processed.
+ * 
+ * Synchronous and asynchronous implementations can be adapted to each other
+ * through {@link AsyncAdapters}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface VirtualisedResourceReservationManagementProviderAsync {
+
+	/**
+	 * This operation allows requesting the reservation of virtualised compute
+	 * resources as indicated by the consumer functional block.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.8.1.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request reservation request
+	 * @return future completed with reservation response
+	 */
+	public CompletableFuture<CreateComputeResourceReservationResponse> createComputeResourceReservation(CreateComputeResourceReservationRequest request);
+
+	/**
+	 * This operation allows querying information about reserved compute resources that the consumer has access to.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.8.1.3
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the reservation is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request query request
+	 * @return future completed with reservation details
+	 */
+	public CompletableFuture<QueryComputeResourceReservationResponse> queryComputeResourceReservation(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryComputeResourceReservation(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the reservation is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<ReservedVirtualCompute>> queryComputeResourceReservationPaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation allows updating compute resource reservations (e.g. increase or decrease
+	 * the amount of reserved resources).
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.8.1.4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the reservation is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request update request
+	 * @return future completed with update response
+	 */
+	public CompletableFuture<UpdateComputeResourceReservationResponse> updateComputeResourceReservation(UpdateComputeResourceReservationRequest request);
+
+	/**
+	 * This operation allows terminating one or more issued compute resource reservation(s).
+	 * When the operation is done on multiple ids, it is assumed to be best-effort,
+	 * i.e. it can succeed for a subset of the ids, and fail for the remaining ones.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.8.1.5
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the reservation is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request termination request
+	 * @return future completed with termination response
+	 */
+	public CompletableFuture<TerminateResourceReservationResponse> terminateComputeResourceReservation(TerminateResourceReservationRequest request);
+
+	/**
+	 * This operation allows requesting the reservation of virtualised network resources
+	 * as indicated by the consumer functional block.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.8.2.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request reservation request
+	 * @return future completed with reservation response
+	 */
+	public CompletableFuture<CreateNetworkResourceReservationResponse> createNetworkResourceReservation(CreateNetworkResourceReservationRequest request);
+
+	/**
+	 * This operation allows querying information about reserved network resources that the consumer has access to.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.8.2.3
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the reservation is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request query request
+	 * @return future completed with reservation details
+	 */
+	public CompletableFuture<QueryNetworkResourceReservationResponse> queryNetworkResourceReservation(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryNetworkResourceReservation(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the reservation is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<ReservedVirtualNetwork>> queryNetworkResourceReservationPaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation allows updating network resource reservations (e.g. increase or decrease
+	 * the amount of reserved resources).
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.8.2.4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the reservation is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request update request
+	 * @return future completed with update response
+	 */
+	public CompletableFuture<UpdateNetworkResourceReservationResponse> updateNetworkResourceReservation(UpdateNetworkResourceReservationRequest request);
+
+	/**
+	 * This operation allows terminating one or more issued network resource reservation(s).
+	 * When the operation is done on multiple ids, it is assumed to be best-effort,
+	 * i.e. it can succeed for a subset of the ids, and fail for the remaining ones.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.8.2.5
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the reservation is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request termination request
+	 * @return future completed with termination response
+	 */
+	public CompletableFuture<TerminateResourceReservationResponse> terminateNetworkResourceReservation(TerminateResourceReservationRequest request);
+
+	/**
+	 * This operation allows requesting the reservation of virtualised storage resources
+	 * as indicated by the consumer functional block.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.8.3.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to create a reservation for a storage resource
+	 * @return future completed with the creation response
+	 */
+	public CompletableFuture<CreateStorageResourceReservationResponse> createStorageResourceReservation(CreateStorageResourceReservationRequest request);
+
+	/**
+	 * This operation allows querying information about reserved storage resources that the consumer has access to.
+	 * 
+	 *  REF IFA 005 v2.3.1 - 7.8.3.3
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the reserved resource does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request query request
+	 * @return future completed with response
+	 */
+	public CompletableFuture<QueryStorageResourceReservationResponse> queryStorageResourceReservation(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryStorageResourceReservation(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the reserved resource does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<ReservedVirtualStorage>> queryStorageResourceReservationPaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation allows updating storage resource reservations (e.g. increase or decrease the amount of reserved resources).
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.8.3.4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the reservation to be updated does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request update request
+	 * @return future completed with response
+	 */
+	public CompletableFuture<UpdateStorageResourceReservationResponse> updateStorageResourceReservation(UpdateStorageResourceReservationRequest request);
+
+	/**
+	 * This operation allows terminating one or more issued storage resource reservation(s).
+	 * When the operation is done on multiple ids, it is assumed to be best-effort,
+	 * i.e. it can succeed for a subset of the ids, and fail for the remaining ones.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.8.3.5
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the reservation is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request termination request
+	 * @return future completed with termination response
+	 */
+	public CompletableFuture<TerminateResourceReservationResponse> terminateStorageResourceReservation(TerminateResourceReservationRequest request);
+
+	/**
+	 * This operation enables the NFVO to subscribe with a filter for the notifications
+	 * related to reservation on virtualised resources sent by the VIM
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.8.4.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request subscription request
+	 * @return future completed with subscription ID
+	 */
+	public CompletableFuture<String> subscribeVirtualResourceChangeNotification(SubscribeRequest request);
+
+	/**
+	 * This operation removes a previous subscription.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.8.4.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the subscription does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param subscriptionId ID of the subscription to be removed
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> unsubscribeVirtualResourceChangeNotification(String subscriptionId);
+
+}
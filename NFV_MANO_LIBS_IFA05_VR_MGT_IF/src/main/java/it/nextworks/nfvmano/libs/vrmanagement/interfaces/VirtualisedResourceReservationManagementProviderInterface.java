@@ -38,6 +38,10 @@ import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.Up
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.UpdateNetworkResourceReservationResponse;
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.UpdateStorageResourceReservationRequest;
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.reservation.UpdateStorageResourceReservationResponse;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.reservation.ReservedVirtualCompute;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.reservation.ReservedVirtualNetwork;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.reservation.ReservedVirtualStorage;
 
 
 
@@ -91,6 +95,25 @@ public interface VirtualisedResourceReservationManagementProviderInterface {
 	public QueryComputeResourceReservationResponse queryComputeResourceReservation(GeneralizedQueryRequest request)
 			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException;
 	
+	/**
+	 * Paged variant of {@link #queryComputeResourceReservation(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryComputeResourceReservation:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws FailedOperationException if the operation fails
+	 * @throws NotExistingEntityException if the reservation is not found
+	 * @throws MalformattedElementException if the request is malformatted
+	 */
+	public default QueryResultStream<ReservedVirtualCompute> queryComputeResourceReservationPaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException {
+		return QueryResultStream.paginate(queryComputeResourceReservation(request).getQueryResult(), request);
+	}
+	
 	/**
 	 * This operation allows updating compute resource reservations (e.g. increase or decrease 
 	 * the amount of reserved resources).
@@ -154,6 +177,25 @@ public interface VirtualisedResourceReservationManagementProviderInterface {
 	public QueryNetworkResourceReservationResponse queryNetworkResourceReservation(GeneralizedQueryRequest request)
 			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException;
 	
+	/**
+	 * Paged variant of {@link #queryNetworkResourceReservation(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryNetworkResourceReservation:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws FailedOperationException if the operation fails
+	 * @throws NotExistingEntityException if the reservation is not found
+	 * @throws MalformattedElementException if the request is malformatted
+	 */
+	public default QueryResultStream<ReservedVirtualNetwork> queryNetworkResourceReservationPaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException {
+		return QueryResultStream.paginate(queryNetworkResourceReservation(request).getQueryResult(), request);
+	}
+	
 	/**
 	 * This operation allows updating network resource reservations (e.g. increase or decrease 
 	 * the amount of reserved resources).
@@ -217,6 +259,25 @@ public interface VirtualisedResourceReservationManagementProviderInterface {
 	public QueryStorageResourceReservationResponse queryStorageResourceReservation(GeneralizedQueryRequest request)
 			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException;
 	
+	/**
+	 * Paged variant of {@link #queryStorageResourceReservation(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryStorageResourceReservation:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws FailedOperationException if the operation fails
+	 * @throws NotExistingEntityException if the reserved resource does not exist
+	 * @throws MalformattedElementException if the request is malformatted
+	 */
+	public default QueryResultStream<ReservedVirtualStorage> queryStorageResourceReservationPaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException {
+		return QueryResultStream.paginate(queryStorageResourceReservation(request).getQueryResult(), request);
+	}
+	
 	/**
 	 * This operation allows updating storage resource reservations (e.g. increase or decrease the amount of reserved resources).
 	 * 
@@ -0,0 +1,159 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.vrmanagement.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.nextworks.nfvmano.libs.common.async.AsyncAdapters;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.NfviPop;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.ResourceZone;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vresources.NfviPopInformationResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vresources.QueryResourceCapacityRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vresources.QueryResourceCapacityResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vresources.QueryResourceZoneResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vresources.SubscribeResourceCapacityNotificationsRequest;
+
+/**
+ * Asynchronous variant of {@link VirtualisedResourcesCapacityManagementProviderInterface}, 
+ * where each operation returns a CompletableFuture instead of blocking 
+ * the caller until the operation is processed.
+ * 
+ * Synchronous and asynchronous implementations can be adapted to each other
+ * through {@link AsyncAdapters}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface VirtualisedResourcesCapacityManagementProviderAsync {
+
+	/**
+	 * This operation supports retrieval of capacity information
+	 * for the various types of consumable virtualised compute or network or storage
+	 * resources available in the Virtualised Compute or Network Resources
+	 * Information Management Interface.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.3.4.2 - 7.4.4.2 - 7.5.4.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		NotExistingEntityException if the entity described in the filter does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 
+	 * @param request request
+	 * @return future completed with the queried compute capacity
+	 */
+	public CompletableFuture<QueryResourceCapacityResponse> queryResourceCapacity(QueryResourceCapacityRequest request);
+
+	/**
+	 * This operation supports subscribing to compute capacity change notifications.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.3.4.3 - 7.4.4.3 - 7.5.4.3
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		NotExistingEntityException if the entity described in the filter does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 
+	 * @param request subscription request
+	 * @param consumer consumer of the notification
+	 * @return future completed with the subscription ID
+	 */
+	public CompletableFuture<String> subscribeResourceCapacityNotification(SubscribeResourceCapacityNotificationsRequest request, VirtualisedResourcesCapacityManagementConsumerInterface consumer);
+
+	/**
+	 * This operation removes an existing subscription
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		NotExistingEntityException if the subscription does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 
+	 * @param subscriptionId ID of the subscription to be removed
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> unsubscribeResourceCapacityNotification(String subscriptionId);
+
+	/**
+	 * This operation enables the NFVO to query information about a Resource Zone,
+	 * e.g. listing the properties of the Resource Zone, and other metadata.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.3.4.5 - 7.5.4.6
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		NotExistingEntityException if the entity described in the filter does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 
+	 * @param request request
+	 * @return future completed with the requested information
+	 */
+	public CompletableFuture<QueryResourceZoneResponse> queryResourceZone(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryResourceZone(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		NotExistingEntityException if the entity described in the filter does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		MalformattedElementException if the cursor of the request is not valid;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<ResourceZone>> queryResourceZonePaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation enables the NFVOs to query general information
+	 * to the VIM concerning the geographical location and network
+	 * connectivity endpoints to the NFVI-PoP(s) administered by the VIM,
+	 * and to determine network endpoints to reach VNFs instantiated making
+	 * use of virtualised compute resources in the NFVI as specified by the
+	 * exchanged information elements.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.3.4.6
+	 * REF IFA 005 v2.3.1 - 7.4.4.5
+	 * REF IFA 005 v2.3.1 - 7.5.4.5
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		NotExistingEntityException if the entity described in the filter does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 
+	 * @param request request
+	 * @return future completed with the requested information
+	 */
+	public CompletableFuture<NfviPopInformationResponse> queryNfviPopInformation(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryNfviPopInformation(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		NotExistingEntityException if the entity described in the filter does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		MalformattedElementException if the cursor of the request is not valid;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<NfviPop>> queryNfviPopInformationPaged(GeneralizedQueryRequest request);
+
+}
@@ -24,6 +24,10 @@ import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vresources.Que
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vresources.QueryResourceCapacityResponse;
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vresources.QueryResourceZoneResponse;
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vresources.SubscribeResourceCapacityNotificationsRequest;
+import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.NfviPop;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.ResourceZone;
 
 
 /**
@@ -110,6 +114,25 @@ public interface VirtualisedResourcesCapacityManagementProviderInterface {
 	public QueryResourceZoneResponse queryResourceZone(GeneralizedQueryRequest request)
 			throws NotExistingEntityException, FailedOperationException, MethodNotImplementedException;
 	
+	/**
+	 * Paged variant of {@link #queryResourceZone(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryResourceZone:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws NotExistingEntityException if the entity described in the filter does not exist
+	 * @throws FailedOperationException if the operation fails
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws MalformattedElementException if the cursor of the request is not valid
+	 */
+	public default QueryResultStream<ResourceZone> queryResourceZonePaged(GeneralizedQueryRequest request)
+			throws NotExistingEntityException, FailedOperationException, MethodNotImplementedException, MalformattedElementException {
+		return QueryResultStream.paginate(queryResourceZone(request).getZoneInfo(), request);
+	}
+	
 	/**
 	 * This operation enables the NFVOs to query general information 
 	 * to the VIM concerning the geographical location and network 
@@ -130,4 +153,23 @@ public interface VirtualisedResourcesCapacityManagementProviderInterface {
 	 */
 	public NfviPopInformationResponse queryNfviPopInformation(GeneralizedQueryRequest request)
 			throws NotExistingEntityException, FailedOperationException, MethodNotImplementedException;
+	
+	/**
+	 * Paged variant of {@link #queryNfviPopInformation(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryNfviPopInformation:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws NotExistingEntityException if the entity described in the filter does not exist
+	 * @throws FailedOperationException if the operation fails
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws MalformattedElementException if the cursor of the request is not valid
+	 */
+	public default QueryResultStream<NfviPop> queryNfviPopInformationPaged(GeneralizedQueryRequest request)
+			throws NotExistingEntityException, FailedOperationException, MethodNotImplementedException, MalformattedElementException {
+		return QueryResultStream.paginate(queryNfviPopInformation(request).getNfviInfo(), request);
+	}
 }
@@ -0,0 +1,172 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.vrmanagement.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.nextworks.nfvmano.libs.common.async.AsyncAdapters;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.vcompute.VirtualComputeResourceInformation;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.vnet.VirtualNetworkResourceInformation;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.vstorage.VirtualStorageResouceInformation;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.QueryVirtualComputeResourceInfoResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vnet.QueryVirtualNetworkResourceInfoResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.QueryVirtualStorageResourceInfoResponse;
+
+/**
+ * Asynchronous variant of {@link VirtualisedResourcesInformationManagementProviderInterface}, 
+ * where each operation returns a CompletableFuture instead of blocking 
+ * the caller until the operation is processed.
+ * 
+ * Synchronous and asynchronous implementations can be adapted to each other
+ * through {@link AsyncAdapters}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface VirtualisedResourcesInformationManagementProviderAsync {
+
+	/**
+	 * This operation enables the NFVOs to subscribe for the notifications
+	 * related to information changes about consumable virtualised compute resources.
+	 * This also enables the NFVO to specify the scope of the subscription in terms of the
+	 * specific virtual compute resources to be reported by the VIM using a filter as the input.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.3.3.2
+	 * REF IFA 005 v2.3.1 - 7.4.3.2
+	 * REF IFA 005 v2.3.1 - 7.5.3.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		NotExistingEntityException if the entity described in the filter does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request subscription request
+	 * @param consumer consumer of the notification
+	 * @return future completed with the subscription ID
+	 */
+	public CompletableFuture<String> subscribeResourceInformationNotification(SubscribeRequest request, VirtualisedResourcesInformationManagementConsumerInterface consumer);
+
+	/**
+	 * This operation removes an existing subscription
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		NotExistingEntityException if the subscription does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 
+	 * @param subscriptionId ID of the subscription to be removed
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> unsubscribeResourceInformationNotification(String subscriptionId);
+
+	/**
+	 * This operation supports retrieval of information for the various types of
+	 * virtualised compute resources managed by the VIM.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.3.3.4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		NotExistingEntityException if the resource is not found;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 
+	 * @param request request
+	 * @return future completed with the details of the queried virtual compute resource information
+	 */
+	public CompletableFuture<QueryVirtualComputeResourceInfoResponse> queryVirtualisedComputeResourceInformation(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryVirtualisedComputeResourceInformation(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		NotExistingEntityException if the resource is not found;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		MalformattedElementException if the cursor of the request is not valid;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<VirtualComputeResourceInformation>> queryVirtualisedComputeResourceInformationPaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation supports retrieval of information for the various types of
+	 * virtualised network resources managed by the VIM.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.4.3.4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		NotExistingEntityException if the resource is not found;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 
+	 * @param request request
+	 * @return future completed with the details of the queried virtual network resource information
+	 */
+	public CompletableFuture<QueryVirtualNetworkResourceInfoResponse> queryVirtualisedNetworkResourceInformation(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryVirtualisedNetworkResourceInformation(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		NotExistingEntityException if the resource is not found;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		MalformattedElementException if the cursor of the request is not valid;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<VirtualNetworkResourceInformation>> queryVirtualisedNetworkResourceInformationPaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation supports retrieval of information for the various types of
+	 * virtualised storage resources managed by the VIM.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.5.3.4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		NotExistingEntityException if the resource is not found;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 
+	 * @param request request
+	 * @return future completed with the details of the queried virtual storage resource information
+	 */
+	public CompletableFuture<QueryVirtualStorageResourceInfoResponse> queryVirtualisedStorageResourceInformation(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryVirtualisedStorageResourceInformation(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		NotExistingEntityException if the resource is not found;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		MalformattedElementException if the cursor of the request is not valid;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<VirtualStorageResouceInformation>> queryVirtualisedStorageResourceInformationPaged(GeneralizedQueryRequest request);
+
+}
@@ -24,6 +24,10 @@ import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vcompute.QueryVirtualComputeResourceInfoResponse;
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vnet.QueryVirtualNetworkResourceInfoResponse;
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.QueryVirtualStorageResourceInfoResponse;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.vcompute.VirtualComputeResourceInformation;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.vnet.VirtualNetworkResourceInformation;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.vstorage.VirtualStorageResouceInformation;
 
 /**
  * This interface allows an authorized consumer functional block 
@@ -101,6 +105,25 @@ public interface VirtualisedResourcesInformationManagementProviderInterface {
 	public QueryVirtualComputeResourceInfoResponse queryVirtualisedComputeResourceInformation(GeneralizedQueryRequest request)
 			throws NotExistingEntityException, FailedOperationException, MethodNotImplementedException;
 	
+	/**
+	 * Paged variant of {@link #queryVirtualisedComputeResourceInformation(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryVirtualisedComputeResourceInformation:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws NotExistingEntityException if the resource is not found
+	 * @throws FailedOperationException if the operation fails
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws MalformattedElementException if the cursor of the request is not valid
+	 */
+	public default QueryResultStream<VirtualComputeResourceInformation> queryVirtualisedComputeResourceInformationPaged(GeneralizedQueryRequest request)
+			throws NotExistingEntityException, FailedOperationException, MethodNotImplementedException, MalformattedElementException {
+		return QueryResultStream.paginate(queryVirtualisedComputeResourceInformation(request).getVirtualisedResourceInformation(), request);
+	}
+	
 	/**
 	 * This operation supports retrieval of information for the various types of 
 	 * virtualised network resources managed by the VIM.
@@ -116,6 +139,25 @@ public interface VirtualisedResourcesInformationManagementProviderInterface {
 	public QueryVirtualNetworkResourceInfoResponse queryVirtualisedNetworkResourceInformation(GeneralizedQueryRequest request)
 			throws NotExistingEntityException, FailedOperationException, MethodNotImplementedException;
 	
+	/**
+	 * Paged variant of {@link #queryVirtualisedNetworkResourceInformation(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryVirtualisedNetworkResourceInformation:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws NotExistingEntityException if the resource is not found
+	 * @throws FailedOperationException if the operation fails
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws MalformattedElementException if the cursor of the request is not valid
+	 */
+	public default QueryResultStream<VirtualNetworkResourceInformation> queryVirtualisedNetworkResourceInformationPaged(GeneralizedQueryRequest request)
+			throws NotExistingEntityException, FailedOperationException, MethodNotImplementedException, MalformattedElementException {
+		return QueryResultStream.paginate(queryVirtualisedNetworkResourceInformation(request).getVirtualisedResourceInformation(), request);
+	}
+	
 	/**
 	 * This operation supports retrieval of information for the various types of 
 	 * virtualised storage resources managed by the VIM.
@@ -130,4 +172,23 @@ public interface VirtualisedResourcesInformationManagementProviderInterface {
 	 */
 	public QueryVirtualStorageResourceInfoResponse queryVirtualisedStorageResourceInformation(GeneralizedQueryRequest request)
 			throws NotExistingEntityException, FailedOperationException, MethodNotImplementedException;
+	
+	/**
+	 * Paged variant of {@link #queryVirtualisedStorageResourceInformation(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryVirtualisedStorageResourceInformation:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws NotExistingEntityException if the resource is not found
+	 * @throws FailedOperationException if the operation fails
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws MalformattedElementException if the cursor of the request is not valid
+	 */
+	public default QueryResultStream<VirtualStorageResouceInformation> queryVirtualisedStorageResourceInformationPaged(GeneralizedQueryRequest request)
+			throws NotExistingEntityException, FailedOperationException, MethodNotImplementedException, MalformattedElementException {
+		return QueryResultStream.paginate(queryVirtualisedStorageResourceInformation(request).getVirtualisedResourceInformation(), request);
+	}
 }
@@ -0,0 +1,244 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.vrmanagement.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.nextworks.nfvmano.libs.common.async.AsyncAdapters;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.vstorage.VirtualStorage;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vnet.AllocateNetworkRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vnet.TerminateNetworkRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vresources.CreateResourceAffinityGroupRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.AllocateStorageResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.MigrateStorageRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.MigrateStorageResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.OperateStorageRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.OperateStorageResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.QueryVirtualStorageResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.ScaleStorageRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.ScaleStorageResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.TerminateStorageResponse;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.UpdateStorageRequest;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.UpdateStorageResponse;
+
+/**
+ * Asynchronous variant of {@link VirtualisedStorageResourceManagementProviderInterface}, 
+ * where each operation returns a CompletableFuture instead of blocking 
+ * the caller until the operation is processed.
+ * 
+ * Synchronous and asynchronous implementations can be adapted to each other
+ * through {@link AsyncAdapters}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface VirtualisedStorageResourceManagementProviderAsync {
+
+	/**
+	 * This operation allows requesting the allocation of
+	 * virtualised storage resources as indicated by the
+	 * consumer functional block.
+	 * 
+	 * REF IFA 005 v2.3.1 - sect. 7.5.1.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to allocate a virtual storage resource
+	 * @return future completed with the response
+	 */
+	public CompletableFuture<AllocateStorageResponse> allocateVirtualisedStorageResource(AllocateNetworkRequest request);
+
+	/**
+	 * This operation allows querying information about instantiated
+	 * virtualised storage resources.
+	 * 
+	 * REF IFA 005 v2.3.1 - sect. 7.5.1.3
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the requested resource does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request query for a virtual storage resource
+	 * @return future completed with the queried virtual storage resources
+	 */
+	public CompletableFuture<QueryVirtualStorageResponse> queryVirtualisedStorageResource(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryVirtualisedStorageResource(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the requested resource does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<VirtualStorage>> queryVirtualisedStorageResourcePaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation allows updating the configuration and/or parameters
+	 * of an instantiated virtualised storage resource, including updating
+	 * its metadata.
+	 * 
+	 * REF IFA 005 v2.3.1 - sect. 7.5.1.4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the resource to be updated does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to update a virtual compute resource
+	 * @return future completed with response
+	 */
+	public CompletableFuture<UpdateStorageResponse> updateVirtualisedStorageResource(UpdateStorageRequest request);
+
+	/**
+	 * This operation allows de-allocating and terminating one or more
+	 * instantiated virtualised storage resource(s).
+	 * When the operation is done on multiple ids, it is assumed to be
+	 * best-effort, i.e. it can succeed for a subset of the ids, and fail for
+	 * the remaining ones.
+	 * 
+	 * REF IFA 005 v2.3.1 - sect. 7.5.1.5
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the resource to be deleted does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to terminate a virtual storage resource
+	 * @return future completed with response
+	 */
+	public CompletableFuture<TerminateStorageResponse> terminateVirtualisedStorageResource(TerminateNetworkRequest request);
+
+	/**
+	 * This operation allows executing specific operation command on instantiated virtualised storage resources.
+	 * 
+	 * REF IFA 005 v2.3.1 - sect. 7.5.1.6
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the resource to be deleted does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to execute an operation command on a storage resource
+	 * @return future completed with response
+	 */
+	public CompletableFuture<OperateStorageResponse> operateVirtualisedStorageResource(OperateStorageRequest request);
+
+	/**
+	 * This operation allows resizing an instantiated virtualised storage resource.
+	 * 
+	 * REF IFA 005 v2.3.1 - sect. 7.5.1.7
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the resource to be deleted does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to scale a storage resource
+	 * @return future completed with response
+	 */
+	public CompletableFuture<ScaleStorageResponse> scaleVirtualisedStorageResource(ScaleStorageRequest request);
+
+	/**
+	 * This operation allows migrating instantiated virtualised storage resources
+	 * from one storage location to another. For instance, the operation performs
+	 * the migration of a volume resource from one physical machine (host) to another
+	 * physical machine.
+	 * 
+	 * REF IFA 005 v2.3.1 - sect. 7.5.1.8
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		NotExistingEntityException if the resource to be deleted does not exist;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to migrate a storage resource
+	 * @return future completed with response
+	 */
+	public CompletableFuture<MigrateStorageResponse> migrateVirtualisedStorageResource(MigrateStorageRequest request);
+
+	/**
+	 * This operation allows an authorized consumer functional block to request
+	 * the creation of a resource affinity or anti-affinity constraints group.
+	 * An anti-affinity group contains resources that are not placed in proximity,
+	 * e.g. that do not share the same physical storage node.
+	 * An affinity group contains resources that are placed in proximity,
+	 * e.g. that do share the same physical storage node.
+	 * 
+	 * REF IFA 005 v2.3.1 - sect. 7.5.1.9
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to create an affinity group for virtual storage resource
+	 * @return future completed with the ID of the affinity group
+	 */
+	public CompletableFuture<String> createStorageResourceAffinityGroup(CreateResourceAffinityGroupRequest request);
+
+	/**
+	 * This operation enables the NFVO to subscribe with a filter for the notifications
+	 * related to virtualised storage resource changes sent by the VIM.
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.5.2.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 		FailedOperationException if the subscription fails;
+	 * 
+	 * @param request subscription request
+	 * @param consumer subscriber
+	 * @return future completed with the subscription ID
+	 */
+	public CompletableFuture<String> subscribeVirtualStorageResourceChange(SubscribeRequest request, VirtualisedStorageResourceManagementConsumerInterface consumer);
+
+	/**
+	 * Method to remove a previous subscription
+	 * 
+	 * REF IFA 005 v2.3.1 - 7.5.2.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the subscription does not exist.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param subscriptionId	ID of the subscription to be removed
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> unsubscribeVirtualStorageResourceChange(String subscriptionId);
+
+}
@@ -35,6 +35,8 @@ import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.Scale
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.TerminateStorageResponse;
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.UpdateStorageRequest;
 import it.nextworks.nfvmano.libs.vrmanagement.interfaces.messages.vstorage.UpdateStorageResponse;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.vstorage.VirtualStorage;
 
 /**
  * This interface allows an authorized consumer functional block 
@@ -88,6 +90,25 @@ public interface VirtualisedStorageResourceManagementProviderInterface {
 	public QueryVirtualStorageResponse queryVirtualisedStorageResource(GeneralizedQueryRequest request)
 			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException;
 	
+	/**
+	 * Paged variant of {@link #queryVirtualisedStorageResource(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryVirtualisedStorageResource:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws FailedOperationException if the operation fails
+	 * @throws NotExistingEntityException if the requested resource does not exist
+	 * @throws MalformattedElementException if the request is malformatted
+	 */
+	public default QueryResultStream<VirtualStorage> queryVirtualisedStorageResourcePaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException {
+		return QueryResultStream.paginate(queryVirtualisedStorageResource(request).getQueryResult(), request);
+	}
+	
 	/**
 	 * This operation allows updating the configuration and/or parameters 
 	 * of an instantiated virtualised storage resource, including updating 
@@ -15,10 +15,13 @@
 */
 package it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements;
 
-import java.util.HashMap;
 import java.util.Map;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
 import it.nextworks.nfvmano.libs.common.InterfaceInformationElement;
+import it.nextworks.nfvmano.libs.common.collections.SmallMap;
+import it.nextworks.nfvmano.libs.common.collections.SmallMapDeserializer;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
 
 /**
@@ -35,8 +38,10 @@ public class ResourceZone implements InterfaceInformationElement {
 	private String zoneName;
 	private String zoneState;
 	private String nfviPopId;
-	private Map<String, String> zoneProperty = new HashMap<String, String>();
-	private Map<String, String> metadata = new HashMap<String, String>();
+	@JsonDeserialize(using = SmallMapDeserializer.class)
+	private Map<String, String> zoneProperty = SmallMap.of();
+	@JsonDeserialize(using = SmallMapDeserializer.class)
+	private Map<String, String> metadata = SmallMap.of();
 	
 	public ResourceZone() {	}
 	
@@ -60,8 +65,8 @@ public class ResourceZone implements InterfaceInformationElement {
 		this.zoneName = zoneName;
 		this.zoneState = zoneState;
 		this.nfviPopId = nfviPopId;
-		if (zoneProperty != null) this.zoneProperty = zoneProperty;
-		if (metadata != null) this.metadata = metadata;
+		if (zoneProperty != null) this.zoneProperty = SmallMap.copyOf(zoneProperty);
+		if (metadata != null) this.metadata = SmallMap.copyOf(metadata);
 	}
 	
 	
@@ -16,13 +16,15 @@
 package it.nextworks.nfvmano.libs.vrmanagement.interfaces.elements.vcompute;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import it.nextworks.nfvmano.libs.common.InterfaceInformationElement;
+import it.nextworks.nfvmano.libs.common.collections.SmallMap;
+import it.nextworks.nfvmano.libs.common.collections.SmallMapDeserializer;
 import it.nextworks.nfvmano.libs.common.enums.OperationalState;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
 import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
@@ -51,7 +53,8 @@ public class VirtualCompute implements InterfaceInformationElement {
 	private String zoneId;
 	private String hostId;
 	private OperationalState operationalState;
-	private Map<String, String> metadata = new HashMap<>();
+	@JsonDeserialize(using = SmallMapDeserializer.class)
+	private Map<String, String> metadata = SmallMap.of();
 	
 	public VirtualCompute() { }
 	
@@ -97,7 +100,7 @@ public class VirtualCompute implements InterfaceInformationElement {
 		this.zoneId = zoneId;
 		this.hostId = hostId;
 		this.operationalState = operationalState;
-		if (metadata != null) this.metadata = metadata;
+		if (metadata != null) this.metadata = SmallMap.copyOf(metadata);
 	}
 
 	
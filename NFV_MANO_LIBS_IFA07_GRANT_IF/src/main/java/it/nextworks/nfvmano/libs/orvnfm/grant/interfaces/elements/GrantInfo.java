@@ -16,9 +16,12 @@
 package it.nextworks.nfvmano.libs.orvnfm.grant.interfaces.elements;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import it.nextworks.nfvmano.libs.common.InterfaceInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.identifiers.IdentifierDictionary;
+import it.nextworks.nfvmano.libs.common.identifiers.InternedIdentifierDeserializer;
 
 /**
  * This information element contains information about a Compute, 
@@ -34,8 +37,11 @@ public class GrantInfo implements InterfaceInformationElement {
 
 	private String resourceDefinitionId;
 	private String reservationId;
+	@JsonDeserialize(using = InternedIdentifierDeserializer.class)
 	private String vimId;
+	@JsonDeserialize(using = InternedIdentifierDeserializer.class)
 	private String resourceProviderId;
+	@JsonDeserialize(using = InternedIdentifierDeserializer.class)
 	private String zoneId;
 	private String resourceGroupId;
 	
@@ -59,9 +65,9 @@ public class GrantInfo implements InterfaceInformationElement {
 			String resourceGroupId) { 
 		this.resourceDefinitionId = resourceDefinitionId;
 		this.reservationId = reservationId;
-		this.vimId = vimId;
-		this.resourceProviderId = resourceProviderId;
-		this.zoneId = zoneId;
+		this.vimId = IdentifierDictionary.intern(vimId);
+		this.resourceProviderId = IdentifierDictionary.intern(resourceProviderId);
+		this.zoneId = IdentifierDictionary.intern(zoneId);
 		this.resourceGroupId = resourceGroupId;
 	}
 
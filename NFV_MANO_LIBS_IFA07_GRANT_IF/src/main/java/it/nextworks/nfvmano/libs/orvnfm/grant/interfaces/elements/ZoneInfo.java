@@ -17,9 +17,12 @@ package it.nextworks.nfvmano.libs.orvnfm.grant.interfaces.elements;
 
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import it.nextworks.nfvmano.libs.common.InterfaceInformationElement;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
+import it.nextworks.nfvmano.libs.common.identifiers.IdentifierDictionary;
+import it.nextworks.nfvmano.libs.common.identifiers.InternedIdentifierDeserializer;
 
 /**
  * This information element provides information regarding a resource zone.
@@ -32,8 +35,11 @@ import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
 public class ZoneInfo implements InterfaceInformationElement {
 
 	private String zoneInfoId;
+	@JsonDeserialize(using = InternedIdentifierDeserializer.class)
 	private String zoneId;
+	@JsonDeserialize(using = InternedIdentifierDeserializer.class)
 	private String vimId;
+	@JsonDeserialize(using = InternedIdentifierDeserializer.class)
 	private String resourceProviderId;
 	
 	public ZoneInfo() {	}
@@ -50,10 +56,10 @@ public class ZoneInfo implements InterfaceInformationElement {
 			String zoneId,
 			String vimId,
 			String resourceProviderId) {	
-		this.zoneId = zoneId;
+		this.zoneId = IdentifierDictionary.intern(zoneId);
 		this.zoneInfoId = zoneInfoId;
-		this.vimId = vimId;
-		this.resourceProviderId = resourceProviderId;
+		this.vimId = IdentifierDictionary.intern(vimId);
+		this.resourceProviderId = IdentifierDictionary.intern(resourceProviderId);
 	}
 
 	
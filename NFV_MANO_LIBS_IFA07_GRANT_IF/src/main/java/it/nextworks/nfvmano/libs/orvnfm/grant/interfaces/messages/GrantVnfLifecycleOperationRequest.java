@@ -16,13 +16,15 @@
 package it.nextworks.nfvmano.libs.orvnfm.grant.interfaces.messages;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import it.nextworks.nfvmano.libs.common.InterfaceMessage;
+import it.nextworks.nfvmano.libs.common.collections.SmallMap;
+import it.nextworks.nfvmano.libs.common.collections.SmallMapDeserializer;
 import it.nextworks.nfvmano.libs.common.enums.VnfLcmOperation;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
 import it.nextworks.nfvmano.libs.orvnfm.grant.interfaces.elements.PlacementConstraint;
@@ -43,6 +45,7 @@ public class GrantVnfLifecycleOperationRequest implements InterfaceMessage {
 	private String vnfdId;
 	private String flavourId;
 	private VnfLcmOperation lifecycleOperation;
+	@JsonProperty("isAutomaticInvocation")
 	private boolean isAutomaticInvocation;
 	private String lifecycleOperationOccurrenceId;
 	private String instantiationLevelId;
@@ -52,7 +55,8 @@ public class GrantVnfLifecycleOperationRequest implements InterfaceMessage {
 	private List<ResourceDefinition> updateResource = new ArrayList<ResourceDefinition>();
 	private List<PlacementConstraint> placementConstraint = new ArrayList<>();
 	private List<VimConstraint> vimConstraint = new ArrayList<>();
-	private Map<String, String> additionalParam = new HashMap<>();
+	@JsonDeserialize(using = SmallMapDeserializer.class)
+	private Map<String, String> additionalParam = SmallMap.of();
 	
 	public GrantVnfLifecycleOperationRequest() { }
 	
@@ -95,7 +99,7 @@ public class GrantVnfLifecycleOperationRequest implements InterfaceMessage {
 		this.isAutomaticInvocation = isAutomaticInvocation;
 		this.lifecycleOperationOccurrenceId = lifecycleOperationOccurrenceId;
 		this.instantiationLevelId = instantiationLevelId;
-		if (additionalParam != null) this.additionalParam = additionalParam;
+		if (additionalParam != null) this.additionalParam = SmallMap.copyOf(additionalParam);
 		if (addResource != null) this.addResource = addResource;
 		if (tempResource != null) this.tempResource = tempResource;
 		if (removeResource != null) this.removeResource = removeResource;
@@ -16,11 +16,14 @@
 package it.nextworks.nfvmano.libs.orvnfm.grant.interfaces.messages;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
 import it.nextworks.nfvmano.libs.common.InterfaceMessage;
+import it.nextworks.nfvmano.libs.common.collections.SmallMap;
+import it.nextworks.nfvmano.libs.common.collections.SmallMapDeserializer;
 import it.nextworks.nfvmano.libs.common.elements.ExtManagedVirtualLinkData;
 import it.nextworks.nfvmano.libs.common.elements.ExtVirtualLinkData;
 import it.nextworks.nfvmano.libs.common.exceptions.MalformattedElementException;
@@ -53,7 +56,8 @@ public class GrantVnfLifecycleOperationResponse implements InterfaceMessage {
 	private VimAssets vimAssets;
 	private List<ExtVirtualLinkData> extVirtualLink = new ArrayList<>();
 	private List<ExtManagedVirtualLinkData> extManagedVirtualLink = new ArrayList<>();
-	private Map<String, String> additionalParam = new HashMap<>();
+	@JsonDeserialize(using = SmallMapDeserializer.class)
+	private Map<String, String> additionalParam = SmallMap.of();
 	
 	public GrantVnfLifecycleOperationResponse() { }
 	
@@ -102,7 +106,7 @@ public class GrantVnfLifecycleOperationResponse implements InterfaceMessage {
 		this.vimAssets = vimAssets;
 		if (extVirtualLink != null) this.extVirtualLink = extVirtualLink;
 		if (extManagedVirtualLink != null) this.extManagedVirtualLink = extManagedVirtualLink;
-		if (additionalParam != null) this.additionalParam = additionalParam;
+		if (additionalParam != null) this.additionalParam = SmallMap.copyOf(additionalParam);
 	}
 
 	
@@ -0,0 +1,350 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.orvnfm.vnflcm.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.nextworks.nfvmano.libs.common.async.AsyncAdapters;
+import it.nextworks.nfvmano.libs.common.enums.OperationStatus;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.orvnfm.vnflcm.interfaces.messages.ChangeExternalVnfConnectivityRequest;
+import it.nextworks.nfvmano.libs.orvnfm.vnflcm.interfaces.messages.ChangeVnfFlavourRequest;
+import it.nextworks.nfvmano.libs.orvnfm.vnflcm.interfaces.messages.CreateVnfIdentifierRequest;
+import it.nextworks.nfvmano.libs.orvnfm.vnflcm.interfaces.messages.HealVnfRequest;
+import it.nextworks.nfvmano.libs.orvnfm.vnflcm.interfaces.messages.InstantiateVnfRequest;
+import it.nextworks.nfvmano.libs.orvnfm.vnflcm.interfaces.messages.ModifyVnfInformationRequest;
+import it.nextworks.nfvmano.libs.orvnfm.vnflcm.interfaces.messages.OperateVnfRequest;
+import it.nextworks.nfvmano.libs.orvnfm.vnflcm.interfaces.messages.QueryVnfResponse;
+import it.nextworks.nfvmano.libs.orvnfm.vnflcm.interfaces.messages.ScaleVnfRequest;
+import it.nextworks.nfvmano.libs.orvnfm.vnflcm.interfaces.messages.ScaleVnfToLevelRequest;
+import it.nextworks.nfvmano.libs.orvnfm.vnflcm.interfaces.messages.TerminateVnfRequest;
+import it.nextworks.nfvmano.libs.records.vnfinfo.VnfInfo;
+
+/**
+ * Asynchronous variant of {@link VnfLcmProviderInterface}, 
+ * where each operation returns a CompletableFuture instead of blocking 
+ * the caller until the operation is processed.
+ * 
+ * Synchronous and asynchronous implementations can be adapted to each other
+ * through {@link AsyncAdapters}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface VnfLcmProviderAsync {
+
+	/**
+	 * This operation creates a VNF instance identifier,
+	 * and an associated instance of a VnfInfo information element,
+	 * identified by that identifier, in the NOT_INSTANTIATED state
+	 * without instantiating the VNF or doing any additional lifecycle
+	 * operation(s). It allows returning right away a VNF instance
+	 * identifier that can be used in subsequent lifecycle operations,
+	 * like the Instantiate VNF operation.
+	 * 
+	 * REF IFA 007 v2.3.1 - 7.2.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails for a generic reason;
+	 * 		NotExistingEntityException if the VNFD is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request
+	 * @return future completed with VNF instance identifier just created
+	 */
+	public CompletableFuture<String> createVnfIdentifier(CreateVnfIdentifierRequest request);
+
+	/**
+	 * This operation instantiates a particular DF of a
+	 * VNF based on the definition in the VNFD.
+	 * 
+	 * REF IFA 007 v2.3.1 - 7.2.3
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails for a generic reason;
+	 * 		NotExistingEntityException if one of the entities in the request is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request
+	 * @return future completed with the ID of the operation
+	 */
+	public CompletableFuture<String> instantiateVnf(InstantiateVnfRequest request);
+
+	/**
+	 * This operation provides methods to request the scaling of a VNF.
+	 * 
+	 * REF IFA 007 v2.3.1 - 7.2.4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails for a generic reason;
+	 * 		NotExistingEntityException if one of the entities in the request is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request
+	 * @return future completed with the ID of the operation
+	 */
+	public CompletableFuture<String> scaleVnf(ScaleVnfRequest request);
+
+	/**
+	 * This operation scales an instantiated VNF of a particular DF to a target size.
+	 * The target size is either expressed as an instantiation level of that DF as defined in the VNFD,
+	 * or given as a list of scale levels, one per scaling aspect of that DF.
+	 * Instantiation levels and scaling aspects are declared in the VNFD.
+	 * Typically, the result of this operation is adding and/or removing
+	 * Network Functions Virtualization Infrastructure (NFVI) resources to/from the VNF.
+	 * 
+	 * REF IFA 007 v2.3.1 - 7.2.5
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails for a generic reason;
+	 * 		NotExistingEntityException if one of the entities in the request is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request
+	 * @return future completed with the ID of the operation
+	 */
+	public CompletableFuture<String> scaleVnfToLevel(ScaleVnfToLevelRequest request);
+
+	/**
+	 * This operation changes the DF of a VNF instance.
+	 * 
+	 * REF IFA 007 v2.3.1 - 7.2.6
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails for a generic reason;
+	 * 		NotExistingEntityException if one of the entities in the request is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request
+	 * @return future completed with the ID of the operation
+	 */
+	public CompletableFuture<String> changeVnfFlavour(ChangeVnfFlavourRequest request);
+
+	/**
+	 * This operation terminates a VNF instance.
+	 * 
+	 * REF IFA 007 v2.3.1 - 7.2.7
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails for a generic reason;
+	 * 		NotExistingEntityException if one of the entities in the request is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request
+	 * @return future completed with the ID of the operation
+	 */
+	public CompletableFuture<String> terminateVnf(TerminateVnfRequest request);
+
+	/**
+	 * This operation deletes a VNF instance identifier and the associated instance
+	 * of a VnfInfo information element in the NOT_INSTANTIATED state.
+	 * 
+	 * REF IFA 007 v2.3.1 - 7.2.8
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails for a generic reason;
+	 * 		NotExistingEntityException if one of the entities in the request is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param vnfInstanceId VNF instance ID to be deleted
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> deleteVnfIdentifier(String vnfInstanceId);
+
+	/**
+	 * This operation provides information about VNF instances.
+	 * The applicable VNF instances can be chosen based on
+	 * filtering criteria, and the information can be restricted
+	 * to selected attributes.
+	 * 
+	 * REF IFA 007 v2.3.1 - 7.2.9
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails for a generic reason;
+	 * 		NotExistingEntityException if one of the entities in the request is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request
+	 * @return future completed with the VNF information
+	 */
+	public CompletableFuture<QueryVnfResponse> queryVnf(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryVnf(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails for a generic reason;
+	 * 		NotExistingEntityException if one of the entities in the request is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<VnfInfo>> queryVnfPaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation heals a VNF instance.
+	 * 
+	 * REF IFA 007 v2.3.1 - 7.2.10
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails for a generic reason;
+	 * 		NotExistingEntityException if one of the entities in the request is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request
+	 * @return future completed with the ID of the operation
+	 */
+	public CompletableFuture<String> healVnf(HealVnfRequest request);
+
+	/**
+	 * This operation enables requesting to change the state of a VNF instance,
+	 * including starting and stopping the VNF instance.
+	 * 
+	 * REF IFA 007 v2.3.1 - 7.2.11
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails for a generic reason;
+	 * 		NotExistingEntityException if one of the entities in the request is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request
+	 * @return future completed with the ID of the operation
+	 */
+	public CompletableFuture<String> operateVnf(OperateVnfRequest request);
+
+	/**
+	 * This operation allows updating information about a VNF instance.
+	 * 
+	 * REF IFA 007 v2.3.1 - 7.2.12
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails for a generic reason;
+	 * 		NotExistingEntityException if one of the entities in the request is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request
+	 * @return future completed with the ID of the operation
+	 */
+	public CompletableFuture<String> modifyVnfInformation(ModifyVnfInformationRequest request);
+
+	/**
+	 * This operation provides the status of a VNF lifecycle management operation.
+	 * This means, it is not a VNF lifecycle management operation itself,
+	 * but an operation on VNF lifecycle management operations.
+	 * Therefore, this operation shall be supported for all VNFs.
+	 * 
+	 * REF IFA 007 v2.3.1 - 7.2.13
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails for a generic reason;
+	 * 		NotExistingEntityException if the operation is not found;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param operationId Identifier of the VNF lifecycle operation occurrence.
+	 * @return future completed with the operation status
+	 */
+	public CompletableFuture<OperationStatus> getOperationStatus(String operationId);
+
+	/**
+	 * This operation enables the NFVO to subscribe with a filter for the notifications sent by the VNFM which are related to
+	 * VNF lifecycle management operation occurrences, as well as creation/deletion of VNF instance identifiers and the
+	 * associated VnfInfo information element instances.
+	 * 
+	 * REF IFA 007 v2.3.1 - 7.2.14
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 		FailedOperationException if the subscription fails;
+	 * 
+	 * @param request subscription request
+	 * @param consumer subscriber
+	 * @return future completed with the subscription ID
+	 */
+	public CompletableFuture<String> subscribe(SubscribeRequest request, VnfLcmConsumerInterface consumer);
+
+	/**
+	 * Method to remove a previous subscription
+	 * 
+	 * REF IFA 007 v2.3.1 - 7.2.16
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the subscription does not exist.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param subscriptionId	ID of the subscription to be removed
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> unsubscribe(String subscriptionId);
+
+	/**
+	 * This operation enables the NFVO to query information about subscriptions.
+	 * TODO: still to be defined the format of the request
+	 * 
+	 * REF IFA 007 v2.3.1 - 7.2.17
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the subscription does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request subscription query
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> queryNsSubscription(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation enables changing the external connectivity of a VNF instance.
+	 * The types of changes that this operation supports are:
+	 * • Disconnect the external CPs that are connected to a particular external VL,
+	 * and connect them to a different external VL.
+	 * • Change the connectivity parameters of the existing external CPs,
+	 * including changing addresses.
+	 * 
+	 * REF IFA 007 v2.3.1 - 7.2.18
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the VNF instance is not found;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request change external VNF connectivity request
+	 * @return future completed with the operation ID
+	 */
+	public CompletableFuture<String> changeExternalVnfConnectivity(ChangeExternalVnfConnectivityRequest request);
+
+}
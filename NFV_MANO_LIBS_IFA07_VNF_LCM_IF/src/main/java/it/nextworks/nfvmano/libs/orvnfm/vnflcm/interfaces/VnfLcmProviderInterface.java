@@ -35,6 +35,8 @@ import it.nextworks.nfvmano.libs.orvnfm.vnflcm.interfaces.messages.QueryVnfRespo
 import it.nextworks.nfvmano.libs.orvnfm.vnflcm.interfaces.messages.ScaleVnfRequest;
 import it.nextworks.nfvmano.libs.orvnfm.vnflcm.interfaces.messages.ScaleVnfToLevelRequest;
 import it.nextworks.nfvmano.libs.orvnfm.vnflcm.interfaces.messages.TerminateVnfRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.records.vnfinfo.VnfInfo;
 
 
 /**
@@ -202,6 +204,25 @@ public interface VnfLcmProviderInterface {
 	public QueryVnfResponse queryVnf(GeneralizedQueryRequest request)
 			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException;
 	
+	/**
+	 * Paged variant of {@link #queryVnf(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryVnf:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws FailedOperationException if the operation fails for a generic reason
+	 * @throws NotExistingEntityException if one of the entities in the request is not found
+	 * @throws MalformattedElementException if the request is malformatted
+	 */
+	public default QueryResultStream<VnfInfo> queryVnfPaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, FailedOperationException, NotExistingEntityException, MalformattedElementException {
+		return QueryResultStream.paginate(queryVnf(request).getVnfInfo(), request);
+	}
+	
 	/**
 	 * This operation heals a VNF instance.
 	 * 
@@ -42,6 +42,7 @@ public class VnfLcmOperationOccurrenceNotification implements InterfaceMessage {
 	private LcmNotificationType status;
 	private String vnfInstanceId;
 	private String operation;
+	@JsonProperty("isAutomaticInvocation")
 	private boolean isAutomaticInvocation;
 	private String lifecycleOperationOccurrenceId;
 	private List<AffectedVnfc> affectedVnfc = new ArrayList<>();
@@ -0,0 +1,297 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.osmanfvo.nslcm.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.nextworks.nfvmano.libs.common.async.AsyncAdapters;
+import it.nextworks.nfvmano.libs.common.enums.OperationStatus;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.osmanfvo.nslcm.interfaces.messages.CreateNsIdentifierRequest;
+import it.nextworks.nfvmano.libs.osmanfvo.nslcm.interfaces.messages.HealNsRequest;
+import it.nextworks.nfvmano.libs.osmanfvo.nslcm.interfaces.messages.InstantiateNsRequest;
+import it.nextworks.nfvmano.libs.osmanfvo.nslcm.interfaces.messages.QueryNsResponse;
+import it.nextworks.nfvmano.libs.osmanfvo.nslcm.interfaces.messages.ScaleNsRequest;
+import it.nextworks.nfvmano.libs.osmanfvo.nslcm.interfaces.messages.TerminateNsRequest;
+import it.nextworks.nfvmano.libs.osmanfvo.nslcm.interfaces.messages.UpdateNsRequest;
+import it.nextworks.nfvmano.libs.osmanfvo.nslcm.interfaces.messages.UpdateNsResponse;
+import it.nextworks.nfvmano.libs.records.nsinfo.NsInfo;
+
+/**
+ * Asynchronous variant of {@link NsLcmProviderInterface}, 
+ * where each operation returns a CompletableFuture instead of blocking 
+ * the caller until the operation is processed.
+ * 
+ * Synchronous and asynchronous implementations can be adapted to each other
+ * through {@link AsyncAdapters}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface NsLcmProviderAsync {
+
+	/**
+	 * Method to create an NS instance identifier, and an associated instance of an NsInfo information element,
+	 * identified by that identifier, in the NOT_INSTANTIATED state without instantiating the NS
+	 * or doing any additional lifecycle operation(s).
+	 * It allows the immediate return of an NS instance identifier that can be used in subsequent lifecycle
+	 * operations, such as the Instantiate NS operation.
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.3.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the NSD does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to create a new NS identifier
+	 * @return future completed with the result of the NS ID creation
+	 */
+	public CompletableFuture<String> createNsIdentifier(CreateNsIdentifierRequest request);
+
+	/**
+	 * Method to instantiate an NS.
+	 * This operation can only be used with an NS instance in the NOT_INSTANTIATED state.
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.3.3
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the NS instance ID does not exist or if the referred nested NS IDs or VNF instance IDs do not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to instantiate a new NS
+	 * @return future completed with the identifier of the NS lifecycle operation occurrence.
+	 */
+	public CompletableFuture<String> instantiateNs(InstantiateNsRequest request);
+
+	/**
+	 * Method to scale an NS instance.
+	 * 
+	 * This operation will scale an NS instance.
+	 * Scaling an NS instance can be performed by explicitly adding/removing existing VNF instances to/from the NS instance,
+	 * by leveraging on the abstraction mechanism provided by the NS scaling aspects
+	 * and NS levels information elements declared in the NSD or by scaling individual VNF instances that are
+	 * part of the NS itself.
+	 * When adding VNFs and nested NSs - already existing or not - to the NS to be scaled, the NFVO
+	 * shall follow the indications provided by the dependencies attribute, as specified in the corresponding NSD.
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.3.4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the NS instance does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to scale a NS instance
+	 * @return future completed with the identifier of the NS lifecycle operation occurrence.
+	 */
+	public CompletableFuture<String> scaleNs(ScaleNsRequest request);
+
+	/**
+	 * This operation updates an NS instance.
+	 * Actions that can be performed with an update include:
+	 * 		Adding existing VNF instances to the NS instance.
+	 * 		Removing VNF instances from the NS instance.
+	 * 		Instantiating new VNF instances and adding them to the NS instance.
+	 * 		Changing the DF of VNF instances belonging to the NS instance.
+	 * 		Changing the operational state of a VNF instance belonging to the NS instance.
+	 * 		Modifying information data and/or the configurable properties of a VNF instance belonging to the NS instance.
+	 * 		Changing the external connectivity of a VNF instance belonging to the NS instance.
+	 * 		Adding SAPs to the NS instance.
+	 * 		Removing SAPs from the NS instance.
+	 * 		Adding existing NS instances to the NS instance.
+	 * 		Removing nested NS instances from the NS instance.
+	 * 		Associate a new NSD version to the NS instance.
+	 * 		Moving VNF instances from one NS instance to another NS instance.
+	 * 		Adding VNFFGs to the NS instance.
+	 * 		Removing VNFFGs from the NS instance.
+	 * 		Update VNFFGs of the NS instance.
+	 * 		Changing the DF of the NS instance.
+	 * Only one type of update shall be allowed per operation.
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.3.5
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the NS instance does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to update a NS instance
+	 * @return future completed with update NS response with operation ID and IDs of updated entities
+	 */
+	public CompletableFuture<UpdateNsResponse> updateNs(UpdateNsRequest request);
+
+	/**
+	 * This operation will enable the OSS/BSS to query from the NFVO information on one or more NS(s).
+	 * The operation also supports querying information about VNF instance(s) that is (are) part of an NS.
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.3.6
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the NS instance does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request query
+	 * @return future completed with query response
+	 */
+	public CompletableFuture<QueryNsResponse> queryNs(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryNs(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the NS instance does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<NsInfo>> queryNsPaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation will terminate an NS.
+	 * This operation can only be used with an NS instance in the INSTANTIATED state.
+	 * Terminating an NS instance does not delete the NS instance identifier, and the associated instance of the NsInfo
+	 * information element, but rather transitions the NS into the NOT_INSTANTIATED state.
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.3.7
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the NS instance does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to terminate an existing NS instance
+	 * @return future completed with response The identifier of the NS lifecycle operation occurrence.
+	 */
+	public CompletableFuture<String> terminateNs(TerminateNsRequest request);
+
+	/**
+	 * This operation deletes an NS instance identifier and
+	 * the associated NsInfo information element which is in the
+	 * NOT_INSTANTIATED state.
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.3.8
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the NS instance ID does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 
+	 * @param nsInstanceIdentifier ID of the NS instance to be deleted
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> deleteNsIdentifier(String nsInstanceIdentifier);
+
+	/**
+	 * This operation supports the healing of an NS instance,
+	 * either by healing the complete NS instance or by healing one of
+	 * more of the VNF instances that are part of this NS.
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.3.9
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the NS instance does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to heal a NS instance
+	 * @return future completed with operation ID
+	 */
+	public CompletableFuture<String> healNs(HealNsRequest request);
+
+	/**
+	 * This operation provides the status of an NS lifecycle management operation.
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.3.10
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the NS instance does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param operationId Identifier of the NS lifecycle operation occurrence.
+	 * @return future completed with status of the operation
+	 */
+	public CompletableFuture<OperationStatus> getOperationStatus(String operationId);
+
+	/**
+	 * Method to to subscribe with a filter for the notifications sent by the NFVO which are related
+	 * to NS lifecycle changes, as well as to the creation/deletion of NS instance identifiers and
+	 * the associated NsInfo information element instances.
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.3.11
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 		FailedOperationException if the subscription fails;
+	 * 
+	 * @param request subscription request
+	 * @param consumer subscriber
+	 * @return future completed with the subscription ID
+	 */
+	public CompletableFuture<String> subscribeNsLcmEvents(SubscribeRequest request, NsLcmConsumerInterface consumer);
+
+	/**
+	 * Method to remove a previous subscription
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.3.13
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the subscription does not exist.;
+	 * 		FailedOperationException if the operation has failed.;
+	 * 
+	 * @param subscriptionId	ID of the subscription to be removed
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> unsubscribeNsLcmEvents(String subscriptionId);
+
+	/**
+	 * This operation enables the OSS/BSS to query information about subscriptions.
+	 * TODO: still to be defined the format of the request
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.3.14
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the subscription does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request subscription query
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> queryNsSubscription(GeneralizedQueryRequest request);
+
+}
@@ -30,6 +30,8 @@ import it.nextworks.nfvmano.libs.osmanfvo.nslcm.interfaces.messages.ScaleNsReque
 import it.nextworks.nfvmano.libs.osmanfvo.nslcm.interfaces.messages.TerminateNsRequest;
 import it.nextworks.nfvmano.libs.osmanfvo.nslcm.interfaces.messages.UpdateNsRequest;
 import it.nextworks.nfvmano.libs.osmanfvo.nslcm.interfaces.messages.UpdateNsResponse;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.records.nsinfo.NsInfo;
 
 
 /**
@@ -163,6 +165,25 @@ public interface NsLcmProviderInterface {
 	 * @throws MalformattedElementException if the request is malformatted
 	 */
 	public QueryNsResponse queryNs(GeneralizedQueryRequest request) throws MethodNotImplementedException, NotExistingEntityException, FailedOperationException, MalformattedElementException;
+	
+	/**
+	 * Paged variant of {@link #queryNs(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryNs:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws NotExistingEntityException if the NS instance does not exist
+	 * @throws FailedOperationException if the operation fails
+	 * @throws MalformattedElementException if the request is malformatted
+	 */
+	public default QueryResultStream<NsInfo> queryNsPaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, NotExistingEntityException, FailedOperationException, MalformattedElementException {
+		return QueryResultStream.paginate(queryNs(request).getQueryNsResult(), request);
+	}
 
 	/**
 	 * This operation will terminate an NS.
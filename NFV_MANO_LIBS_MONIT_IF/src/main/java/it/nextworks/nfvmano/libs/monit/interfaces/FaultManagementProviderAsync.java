@@ -0,0 +1,127 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.monit.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.nextworks.nfvmano.libs.common.async.AsyncAdapters;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.monit.interfaces.elements.Alarm;
+import it.nextworks.nfvmano.libs.monit.interfaces.messages.GetAlarmListResponse;
+
+/**
+ * Asynchronous variant of {@link FaultManagementProviderInterface}, 
+ * where each operation returns a CompletableFuture instead of blocking 
+ * the caller until the operation is processed.
+ * 
+ * Synchronous and asynchronous implementations can be adapted to each other
+ * through {@link AsyncAdapters}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface FaultManagementProviderAsync {
+
+	/**
+	 * This operation enables the monitoring consumer to subscribe
+	 * with a filter for the notifications related to alarms.
+	 * 
+	 *  REF IFA 013 v2.3.1 - 7.6.2
+	 *  REF IFA 007 v2.3.1 - 7.5.2
+	 *  REF IFA 005 v2.3.1 - 7.6.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		FailedOperationException if the operation fails.;
+	 * 
+	 * @param request subscription request
+	 * @param consumer the entity which has to receive the notifications
+	 * @return future completed with the ID of the subscription
+	 */
+	public CompletableFuture<String> subscribe(SubscribeRequest request, FaultManagementConsumerInterface consumer);
+
+	/**
+	 * This method allows to remove a previous subscription.
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.6.2
+	 * REF IFA 007 v2.3.1 - 7.5.5
+	 * REF IFA 005 v2.3.1 - 7.6.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the subscription does not exist.;
+	 * 		FailedOperationException if the operation fails.;
+	 * 
+	 * @param subscriptionId the ID of the subscription to be deleted
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> unsubscribe(String subscriptionId);
+
+	/**
+	 * This operation enables the service consumer to query the active alarms.
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.6.4
+	 * REF IFA 007 v2.3.1 - 7.5.4
+	 * REF IFA 005 v2.3.1 - 7.6.4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 		NotExistingEntityException if no matching alarms are found;
+	 * 
+	 * @param request alarm request
+	 * @return future completed with list of active alarms matching the filter of the request
+	 */
+	public CompletableFuture<GetAlarmListResponse> getAlarmList(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #getAlarmList(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 		NotExistingEntityException if no matching alarms are found;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<Alarm>> getAlarmListPaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation enables the consumer to query information about subscriptions.
+	 * TODO: still to be defined the format of the request
+	 * 
+	 * REF IFA 007 v2.3.1 - 7.5.6
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the subscription does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request subscription query
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> queryFailureMonitoringSubscription(GeneralizedQueryRequest request);
+
+}
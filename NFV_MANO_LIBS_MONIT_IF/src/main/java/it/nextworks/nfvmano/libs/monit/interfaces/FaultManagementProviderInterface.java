@@ -22,6 +22,8 @@ import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
 import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
 import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
 import it.nextworks.nfvmano.libs.monit.interfaces.messages.GetAlarmListResponse;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.monit.interfaces.elements.Alarm;
 
 
 /**
@@ -106,6 +108,25 @@ public interface FaultManagementProviderInterface {
 	public GetAlarmListResponse getAlarmList(GeneralizedQueryRequest request)
 			throws MethodNotImplementedException, FailedOperationException, MalformattedElementException, NotExistingEntityException;
 	
+	/**
+	 * Paged variant of {@link #getAlarmList(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of getAlarmList:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws FailedOperationException if the operation fails
+	 * @throws MalformattedElementException if the request is malformatted
+	 * @throws NotExistingEntityException if no matching alarms are found
+	 */
+	public default QueryResultStream<Alarm> getAlarmListPaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, FailedOperationException, MalformattedElementException, NotExistingEntityException {
+		return QueryResultStream.paginate(getAlarmList(request).getAlarm(), request);
+	}
+	
 	/**
 	 * This operation enables the consumer to query information about subscriptions.
 	 * TODO: still to be defined the format of the request
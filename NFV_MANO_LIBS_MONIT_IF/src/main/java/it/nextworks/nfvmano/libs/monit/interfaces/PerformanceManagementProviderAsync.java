@@ -0,0 +1,256 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.monit.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.nextworks.nfvmano.libs.common.async.AsyncAdapters;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.monit.interfaces.elements.PmJob;
+import it.nextworks.nfvmano.libs.monit.interfaces.elements.Threshold;
+import it.nextworks.nfvmano.libs.monit.interfaces.messages.CreatePmJobRequest;
+import it.nextworks.nfvmano.libs.monit.interfaces.messages.CreateThresholdRequest;
+import it.nextworks.nfvmano.libs.monit.interfaces.messages.DeletePmJobRequest;
+import it.nextworks.nfvmano.libs.monit.interfaces.messages.DeletePmJobResponse;
+import it.nextworks.nfvmano.libs.monit.interfaces.messages.DeleteThresholdsRequest;
+import it.nextworks.nfvmano.libs.monit.interfaces.messages.DeleteThresholdsResponse;
+import it.nextworks.nfvmano.libs.monit.interfaces.messages.QueryPmJobResponse;
+import it.nextworks.nfvmano.libs.monit.interfaces.messages.QueryThresholdResponse;
+
+/**
+ * Asynchronous variant of {@link PerformanceManagementProviderInterface}, 
+ * where each operation returns a CompletableFuture instead of blocking 
+ * the caller until the operation is processed.
+ * 
+ * Synchronous and asynchronous implementations can be adapted to each other
+ * through {@link AsyncAdapters}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface PerformanceManagementProviderAsync {
+
+	/**
+	 * This operation will create a PM job, enabling a consumer of the monitoring service
+	 * to specify one or more NFV entities (e.g. a NS or set of NSs) for which it wants
+	 * to receive performance information.
+	 * 
+	 * This will allow the requesting consumer to specify its performance information
+	 * requirements with the monitoring service.
+	 * 
+	 * The consumer needs to issue a Subscribe request for PerformanceInformationAvailable
+	 * notifications in order to know when new collected performance information is available.
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.5.2
+	 * REF IFA 007 v2.3.1 - 7.4.2
+	 * REF IFA 005 v2.3.1 - 7.7.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		FailedOperationException if the operation fails.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 
+	 * @param request PM job creation request
+	 * @return future completed with identifier of the created PM job.
+	 */
+	public CompletableFuture<String> createPmJob(CreatePmJobRequest request);
+
+	/**
+	 * This operation will delete one or more PM job(s).
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.5.3
+	 * REF IFA 007 v2.3.1 - 7.4.3
+	 * REF IFA 005 v2.3.1 - 7.7.4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		FailedOperationException if the operation fails.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the PM job does not exist.;
+	 * 
+	 * @param request the PM job delete request
+	 * @return future completed with the list of the PM jobs which have been deleted
+	 */
+	public CompletableFuture<DeletePmJobResponse> deletePmJob(DeletePmJobRequest request);
+
+	/**
+	 * This operation enables a consumer of the monitoring service
+	 * to subscribe with a filter for the notifications related to performance information.
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.5.4
+	 * REF IFA 007 v2.3.1 - 7.4.4
+	 * REF IFA 005 v2.3.1 - 7.7.5
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		FailedOperationException if the operation fails.;
+	 * 
+	 * @param request subscription request
+	 * @param consumer the entity which has to receive the notifications
+	 * @return future completed with the ID of the subscription
+	 */
+	public CompletableFuture<String> subscribe(SubscribeRequest request, PerformanceManagementConsumerInterface consumer);
+
+	/**
+	 * This method allows to remove a previous subscription.
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.5.4
+	 * REF IFA 007 v2.3.1 - 7.4.10
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the subscription does not exist.;
+	 * 		FailedOperationException if the operation fails.;
+	 * 
+	 * @param subscriptionId the ID of the subscription to be deleted
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> unsubscribe(String subscriptionId);
+
+	/**
+	 * This operation will enable the OSS/BSS to solicit from the monitoring service
+	 * the details of one or more PM job(s). This operation does not return
+	 * performance reports.
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.5.6
+	 * REF IFA 007 v2.3.1 - 7.4.6
+	 * REF IFA 005 v2.3.1 - 7.7.3
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		FailedOperationException if the operation fails.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the PM job does not exist.;
+	 * 
+	 * @param request the PM job query request
+	 * @return future completed with the requested PM job
+	 */
+	public CompletableFuture<QueryPmJobResponse> queryPmJob(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryPmJob(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		FailedOperationException if the operation fails.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		NotExistingEntityException if the PM job does not exist.;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<PmJob>> queryPmJobPaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation will allow a monitoring consumer to create a threshold
+	 * and specify threshold levels on specified performance metrics for
+	 * which notifications will be generated when crossed.
+	 * 
+	 * Creating a threshold does not trigger collection of metrics.
+	 * In order for the threshold to be active, there needs to be a PM job
+	 * collecting the needed metric for the selected entities.
+	 * 
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.5.7
+	 * REF IFA 007 v2.3.1 - 7.4.7
+	 * REF IFA 005 v2.3.1 - 7.7.7
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		FailedOperationException if the operation fails.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 
+	 * @param request the request to create the threshold
+	 * @return future completed with the ID of the created threshold
+	 */
+	public CompletableFuture<String> createThreshold(CreateThresholdRequest request);
+
+	/**
+	 * This operation will allow a monitoring consumer to delete
+	 * one or more existing threshold(s).
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.5.8
+	 * REF IFA 007 v2.3.1 - 7.4.8
+	 * REF IFA 005 v2.3.1 - 7.7.9
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		NotExistingEntityException if the threshold does not exist.;
+	 * 		FailedOperationException if the operation fails.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 
+	 * @param request threshold delete request
+	 * @return future completed with the list of the thresholds that have been deleted
+	 */
+	public CompletableFuture<DeleteThresholdsResponse> deleteThreshold(DeleteThresholdsRequest request);
+
+	/**
+	 * This operation will allow a monitoring consumer to query the details
+	 * of an existing threshold.
+	 * 
+	 * REF IFA 013 v2.3.1 - 7.5.9
+	 * REF IFA 007 v2.3.1 - 7.4.9
+	 * REF IFA 005 v2.3.1 - 7.7.8
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		NotExistingEntityException if the threshold does not exist.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		FailedOperationException if the operation fails.;
+	 * 
+	 * @param request threshold query request
+	 * @return future completed with the threshold
+	 */
+	public CompletableFuture<QueryThresholdResponse> queryThreshold(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryThreshold(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented.;
+	 * 		NotExistingEntityException if the threshold does not exist.;
+	 * 		MalformattedElementException if the request is malformatted.;
+	 * 		FailedOperationException if the operation fails.;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<Threshold>> queryThresholdPaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation enables the consumer to query information about subscriptions.
+	 * TODO: still to be defined the format of the request
+	 * 
+	 * REF IFA 007 v2.3.1 - 7.4.11
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the subscription does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request subscription query
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> queryPerformanceMonitoringSubscription(GeneralizedQueryRequest request);
+
+}
@@ -29,6 +29,9 @@ import it.nextworks.nfvmano.libs.monit.interfaces.messages.DeleteThresholdsReque
 import it.nextworks.nfvmano.libs.monit.interfaces.messages.DeleteThresholdsResponse;
 import it.nextworks.nfvmano.libs.monit.interfaces.messages.QueryPmJobResponse;
 import it.nextworks.nfvmano.libs.monit.interfaces.messages.QueryThresholdResponse;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.monit.interfaces.elements.PmJob;
+import it.nextworks.nfvmano.libs.monit.interfaces.elements.Threshold;
 
 /**
  * This interface allows providing of performance information 
@@ -168,6 +171,25 @@ public interface PerformanceManagementProviderInterface {
 	public QueryPmJobResponse queryPmJob(GeneralizedQueryRequest request)
 			throws MethodNotImplementedException, FailedOperationException, MalformattedElementException, NotExistingEntityException;
 	
+	/**
+	 * Paged variant of {@link #queryPmJob(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryPmJob:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented.
+	 * @throws FailedOperationException if the operation fails.
+	 * @throws MalformattedElementException if the request is malformatted.
+	 * @throws NotExistingEntityException if the PM job does not exist.
+	 */
+	public default QueryResultStream<PmJob> queryPmJobPaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, FailedOperationException, MalformattedElementException, NotExistingEntityException {
+		return QueryResultStream.paginate(queryPmJob(request).getPmJobDetails(), request);
+	}
+	
 	/**
 	 * This operation will allow a monitoring consumer to create a threshold 
 	 * and specify threshold levels on specified performance metrics for 
@@ -227,6 +249,25 @@ public interface PerformanceManagementProviderInterface {
 	public QueryThresholdResponse queryThreshold(GeneralizedQueryRequest request)
 			throws MethodNotImplementedException, NotExistingEntityException, MalformattedElementException, FailedOperationException;
 	
+	/**
+	 * Paged variant of {@link #queryThreshold(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryThreshold:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented.
+	 * @throws NotExistingEntityException if the threshold does not exist.
+	 * @throws MalformattedElementException if the request is malformatted.
+	 * @throws FailedOperationException if the operation fails.
+	 */
+	public default QueryResultStream<Threshold> queryThresholdPaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, NotExistingEntityException, MalformattedElementException, FailedOperationException {
+		return QueryResultStream.paginate(queryThreshold(request).getThresholdDetails(), request);
+	}
+	
 	/**
 	 * This operation enables the consumer to query information about subscriptions.
 	 * TODO: still to be defined the format of the request
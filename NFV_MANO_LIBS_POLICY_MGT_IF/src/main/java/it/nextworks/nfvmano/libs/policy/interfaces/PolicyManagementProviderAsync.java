@@ -0,0 +1,172 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.policy.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.nextworks.nfvmano.libs.common.async.AsyncAdapters;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.policy.elements.PolicyInfo;
+import it.nextworks.nfvmano.libs.policy.interfaces.messages.ActivatePolicyResponse;
+import it.nextworks.nfvmano.libs.policy.interfaces.messages.AssociatePolicyRequest;
+import it.nextworks.nfvmano.libs.policy.interfaces.messages.AssociatePolicyResponse;
+import it.nextworks.nfvmano.libs.policy.interfaces.messages.DeactivatePolicyResponse;
+import it.nextworks.nfvmano.libs.policy.interfaces.messages.DeletePolicyResponse;
+import it.nextworks.nfvmano.libs.policy.interfaces.messages.GenericPolicyListRequest;
+import it.nextworks.nfvmano.libs.policy.interfaces.messages.QueryPolicyResponse;
+import it.nextworks.nfvmano.libs.policy.interfaces.messages.TransferPolicyRequest;
+
+/**
+ * Asynchronous variant of {@link PolicyManagementProviderInterface}, 
+ * where each operation returns a CompletableFuture instead of blocking 
+ * the caller until the operation is processed.
+ * 
+ * Synchronous and asynchronous implementations can be adapted to each other
+ * through {@link AsyncAdapters}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface PolicyManagementProviderAsync {
+
+	/**
+	 * This method allows to transfer a new policy on the NFVO.
+	 * 
+	 * REF IFA 013 v3.2.1 - 7.9.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to create a new policy
+	 * @return future completed with the ID of the policy
+	 */
+	public CompletableFuture<String> transferPolicy(TransferPolicyRequest request);
+
+	/**
+	 * This operation enables the OSS/BSS to delete one or multiple NFV-MANO policy(ies) from the NFVO.
+	 * 
+	 * REF IFA 013 v3.2.1 - 7.9.3
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to remove one or more policies
+	 * @return future completed with the list of removed policies
+	 */
+	public CompletableFuture<DeletePolicyResponse> deletePolicy(GenericPolicyListRequest request);
+
+	/**
+	 * This operation enables the OSS/BSS to query the information from the NFVO on one
+	 * or multiple NFV-MANO policy(ies)
+	 * 
+	 * REF IFA 013 v3.2.1 - 7.9.4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the policy does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request query for one or more policies
+	 * @return future completed with the list of policies matching the filter in the query
+	 */
+	public CompletableFuture<QueryPolicyResponse> queryPolicy(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryPolicy(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the policy does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<PolicyInfo>> queryPolicyPaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation enables the OSS/BSS to activate one or multiple NFV-MANO policy(ies) in the NFVO.
+	 * 
+	 * REF IFA 013 v3.2.1 - 7.9.5
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the policy does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to activate one or more policies
+	 * @return future completed with the list of activated policies
+	 */
+	public CompletableFuture<ActivatePolicyResponse> activatePolicy(GenericPolicyListRequest request);
+
+	/**
+	 * This operation enables the OSS/BSS to deactivate one or multiple NFV-MANO policy(ies) in the NFVO.
+	 * 
+	 * REF IFA 013 v3.2.1 - 7.9.6
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the policy does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to deactivate one or more policies
+	 * @return future completed with the list of deactivated policies
+	 */
+	public CompletableFuture<DeactivatePolicyResponse> deactivatePolicy(GenericPolicyListRequest request);
+
+	/**
+	 * This operation enables the OSS/BSS to associate a MANO policy to one or multiple NS instances in the NFVO.
+	 * 
+	 * REF IFA 013 v3.2.1 - 7.9.11
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the policy or the NS instance does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to associate a policy to a NS instance
+	 * @return future completed with the list of NS instances to which the policy has been associated
+	 */
+	public CompletableFuture<AssociatePolicyResponse> associatePolicy(AssociatePolicyRequest request);
+
+	/**
+	 * This operation enables the OSS/BSS to disassociate a MANO policy from one or multiple NS instances in the NFVO.
+	 * 
+	 * REF IFA 013 v3.2.1 - 7.9.12
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the policy or the NS instance does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to disassociate a policy from a NS instance
+	 * @return future completed with the list of NS instances from which the policy has been disassociated
+	 */
+	public CompletableFuture<AssociatePolicyResponse> disassociatePolicy(AssociatePolicyRequest request);
+
+}
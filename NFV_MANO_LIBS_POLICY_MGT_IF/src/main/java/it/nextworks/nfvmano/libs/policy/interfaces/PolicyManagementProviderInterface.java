@@ -13,6 +13,8 @@ import it.nextworks.nfvmano.libs.policy.interfaces.messages.DeactivatePolicyResp
 import it.nextworks.nfvmano.libs.policy.interfaces.messages.DeletePolicyResponse;
 import it.nextworks.nfvmano.libs.policy.interfaces.messages.QueryPolicyResponse;
 import it.nextworks.nfvmano.libs.policy.interfaces.messages.TransferPolicyRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.policy.elements.PolicyInfo;
 
 /**
  * This interface allows to invoke policy management operations towards the NFVO.
@@ -76,6 +78,25 @@ public interface PolicyManagementProviderInterface {
 	 */
 	public QueryPolicyResponse queryPolicy(GeneralizedQueryRequest request) throws MethodNotImplementedException, NotExistingEntityException, FailedOperationException, MalformattedElementException;
 	
+	/**
+	 * Paged variant of {@link #queryPolicy(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryPolicy:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws NotExistingEntityException if the policy does not exist
+	 * @throws FailedOperationException if the operation fails
+	 * @throws MalformattedElementException if the request is malformatted
+	 */
+	public default QueryResultStream<PolicyInfo> queryPolicyPaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, NotExistingEntityException, FailedOperationException, MalformattedElementException {
+		return QueryResultStream.paginate(queryPolicy(request).getQueryNsPolicyInfoResult(), request);
+	}
+	
 	/**
 	 * This operation enables the OSS/BSS to activate one or multiple NFV-MANO policy(ies) in the NFVO.
 	 * 
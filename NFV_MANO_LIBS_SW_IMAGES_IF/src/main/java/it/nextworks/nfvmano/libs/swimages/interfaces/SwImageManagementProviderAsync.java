@@ -0,0 +1,123 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.swimages.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.nextworks.nfvmano.libs.common.async.AsyncAdapters;
+import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.swimages.interfaces.elements.SoftwareImageInformation;
+import it.nextworks.nfvmano.libs.swimages.interfaces.messages.AddImageRequest;
+import it.nextworks.nfvmano.libs.swimages.interfaces.messages.AddImageResponse;
+import it.nextworks.nfvmano.libs.swimages.interfaces.messages.QueryImagesResponse;
+import it.nextworks.nfvmano.libs.swimages.interfaces.messages.UpdateImageRequest;
+
+/**
+ * Asynchronous variant of {@link SwImageManagementProviderInterface}, 
+ * where each operation returns a CompletableFuture instead of blocking 
+ * the caller until the operation is processed.
+ * 
+ * Synchronous and asynchronous implementations can be adapted to each other
+ * through {@link AsyncAdapters}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface SwImageManagementProviderAsync {
+
+	/**
+	 * This operation allows adding a new software image to the image repository
+	 * managed by the VIM.
+	 * 
+	 * REF IFA 005 - v2.3.1 - 7.2.2
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		AlreadyExistingEntityException if the sw image already exists;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request request to add an image
+	 * @return future completed with response with the metadata of the added sw image
+	 */
+	public CompletableFuture<AddImageResponse> addImage(AddImageRequest request);
+
+	/**
+	 * This operation allows querying the information of the software images
+	 * in the image repository managed by the VIM.
+	 * 
+	 * REF IFA 005 - v2.3.1 - 7.2.3-4
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the requested images do not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request query request
+	 * @return future completed with the requested images
+	 */
+	public CompletableFuture<QueryImagesResponse> queryImages(GeneralizedQueryRequest request);
+
+	/**
+	 * Paged variant of {@link #queryImages(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the requested images do not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request paged query
+	 * @return future completed with the requested page of results
+	 */
+	public CompletableFuture<QueryResultStream<SoftwareImageInformation>> queryImagesPaged(GeneralizedQueryRequest request);
+
+	/**
+	 * This operation enables the update of a software image in the VIM.
+	 * 
+	 * REF IFA 005 - v2.3.1 - 7.2.5
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the image to be updated does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request update request
+	 * @return future completed with the updated image
+	 */
+	public CompletableFuture<AddImageResponse> updateImage(UpdateImageRequest request);
+
+	/**
+	 * This operation enables the deletion of a software image from the VIM.
+	 * 
+	 * REF IFA 005 - v2.3.1 - 7.2.6
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		NotExistingEntityException if the image to be deleted does not exist;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param imageId The identifier of the software image to be deleted.
+	 * @return future completed with the identifier of the software image successfully deleted.
+	 */
+	public CompletableFuture<String> deleteImage(String imageId);
+
+}
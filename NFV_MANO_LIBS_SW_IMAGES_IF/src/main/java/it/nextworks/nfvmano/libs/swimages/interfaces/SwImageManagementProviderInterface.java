@@ -25,6 +25,8 @@ import it.nextworks.nfvmano.libs.swimages.interfaces.messages.AddImageRequest;
 import it.nextworks.nfvmano.libs.swimages.interfaces.messages.AddImageResponse;
 import it.nextworks.nfvmano.libs.swimages.interfaces.messages.QueryImagesResponse;
 import it.nextworks.nfvmano.libs.swimages.interfaces.messages.UpdateImageRequest;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.swimages.interfaces.elements.SoftwareImageInformation;
 
 /**
  * This interface allows an authorized consumer functional block 
@@ -69,6 +71,25 @@ public interface SwImageManagementProviderInterface {
 	public QueryImagesResponse queryImages(GeneralizedQueryRequest request)
 			throws MethodNotImplementedException, NotExistingEntityException, FailedOperationException, MalformattedElementException;
 	
+	/**
+	 * Paged variant of {@link #queryImages(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of queryImages:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws NotExistingEntityException if the requested images do not exist
+	 * @throws FailedOperationException if the operation fails
+	 * @throws MalformattedElementException if the request is malformatted
+	 */
+	public default QueryResultStream<SoftwareImageInformation> queryImagesPaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, NotExistingEntityException, FailedOperationException, MalformattedElementException {
+		return QueryResultStream.paginate(queryImages(request).getSoftwareImageInformation(), request);
+	}
+	
 	/**
 	 * This operation enables the update of a software image in the VIM.
 	 * 
@@ -0,0 +1,51 @@
+/*
+* Copyright 2018 Nextworks s.r.l.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package it.nextworks.nfvmano.libs.vnfconfig.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+
+import it.nextworks.nfvmano.libs.common.async.AsyncAdapters;
+import it.nextworks.nfvmano.libs.vnfconfig.interfaces.messages.SetConfigurationRequest;
+
+/**
+ * Asynchronous variant of {@link VnfConfigurationProviderInterface}, 
+ * where each operation returns a CompletableFuture instead of blocking 
+ * the caller until the operation is processed.
+ * 
+ * Synchronous and asynchronous implementations can be adapted to each other
+ * through {@link AsyncAdapters}.
+ * 
+ * @author nextworks
+ *
+ */
+public interface VnfConfigurationProviderAsync {
+
+	/**
+	 * This operation enables a VNFM to set the configuration parameters of a
+	 * VNF instance and its VNFC instance(s) or individual VNFC instances.
+	 * 
+	 * The future is completed exceptionally with:
+	 * 		MethodNotImplementedException if the method is not implemented;
+	 * 		FailedOperationException if the operation fails;
+	 * 		MalformattedElementException if the request is malformatted;
+	 * 
+	 * @param request configuration request
+	 * @param consumer the entity that will receive a notification when the configuration has been applied
+	 * @return future completed when the operation ends
+	 */
+	public CompletableFuture<Void> setConfiguration(SetConfigurationRequest request, VnfConfigurationConsumerInterface consumer);
+
+}
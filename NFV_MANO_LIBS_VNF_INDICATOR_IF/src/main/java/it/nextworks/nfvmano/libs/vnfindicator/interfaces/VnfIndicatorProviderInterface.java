@@ -22,6 +22,8 @@ import it.nextworks.nfvmano.libs.common.exceptions.NotExistingEntityException;
 import it.nextworks.nfvmano.libs.common.messages.GeneralizedQueryRequest;
 import it.nextworks.nfvmano.libs.common.messages.SubscribeRequest;
 import it.nextworks.nfvmano.libs.vnfindicator.interfaces.messages.GetIndicatorValueResponse;
+import it.nextworks.nfvmano.libs.common.query.QueryResultStream;
+import it.nextworks.nfvmano.libs.vnfindicator.interfaces.elements.IndicatorInformation;
 
 /**
  * Interface exposing the methods to request or subscribe for VNF indicators.
@@ -80,6 +82,25 @@ public interface VnfIndicatorProviderInterface {
 	public GetIndicatorValueResponse getIndicatorValue(GeneralizedQueryRequest request)
 			throws MethodNotImplementedException, NotExistingEntityException, FailedOperationException, MalformattedElementException;
 	
+	/**
+	 * Paged variant of {@link #getIndicatorValue(GeneralizedQueryRequest)}, returning only the page
+	 * of results selected by the page size and the cursor of the request.
+	 * 
+	 * The default implementation pages the complete result of getIndicatorValue:
+	 * providers backed by large stores should override it to read only the requested page.
+	 * 
+	 * @param request paged query
+	 * @return the requested page of results
+	 * @throws MethodNotImplementedException if the method is not implemented
+	 * @throws NotExistingEntityException if the indicator does not exist
+	 * @throws FailedOperationException if the operation fails
+	 * @throws MalformattedElementException if the request is malformatted
+	 */
+	public default QueryResultStream<IndicatorInformation> getIndicatorValuePaged(GeneralizedQueryRequest request)
+			throws MethodNotImplementedException, NotExistingEntityException, FailedOperationException, MalformattedElementException {
+		return QueryResultStream.paginate(getIndicatorValue(request).getIndicatorInformation(), request);
+	}
+	
 	/**
 	 * This operation enables the consumer to query information about subscriptions.
 	 * TODO: still to be defined the format of the request